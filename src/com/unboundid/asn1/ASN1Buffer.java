@@ -42,6 +42,8 @@ import java.io.OutputStream;
 import java.io.Serializable;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -62,6 +64,16 @@ import com.unboundid.util.ThreadSafetyLevel;
  * the contents may be written to an {@code OutputStream} or {@code ByteBuffer},
  * or copied to a byte array.  {@code ASN1Buffer} instances are not threadsafe
  * and should not be accessed concurrently by multiple threads.
+ * <BR><BR>
+ * By default, the values of all elements will be copied into the buffer.  If a
+ * minimum referenced value length is configured with the
+ * {@link #setMinReferencedValueLength} method, then octet string values (and
+ * the values of elements added with the {@link #addElement} method) that are
+ * at least that long will instead be referenced by the buffer and only copied
+ * when the contents are written out.  This avoids copying large values (and
+ * repeatedly shifting them as the lengths of enclosing sequences and sets are
+ * inserted), and the {@link #asByteBuffers} method may be used to obtain the
+ * contents as a set of buffers suitable for use in a gathering write.
  */
 @Mutable()
 @ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
@@ -129,9 +141,33 @@ public final class ASN1Buffer
   // The buffer to which all data will be written.
   @NotNull private final ByteStringBuffer buffer;
 
+  // The arrays containing values referenced by this buffer rather than copied
+  // into it.
+  @Nullable private byte[][] referencedValueArrays;
+
+  // The lengths of the values referenced by this buffer.
+  @Nullable private int[] referencedValueLengths;
+
+  // The offsets of the values referenced by this buffer in their arrays.
+  @Nullable private int[] referencedValueOffsets;
+
+  // The positions in the internal buffer before which each referenced value
+  // appears in the encoded representation.
+  @Nullable private int[] referencedValuePositions;
+
   // The maximum buffer size that should be retained.
   private final int maxBufferSize;
 
+  // The minimum length for values that should be referenced rather than
+  // copied into the buffer, or zero if all values should be copied.
+  private int minReferencedValueLength;
+
+  // The total number of bytes in all values referenced by this buffer.
+  private int numReferencedValueBytes;
+
+  // The number of values referenced by this buffer.
+  private int numReferencedValues;
+
 
 
   /**
@@ -161,6 +197,51 @@ public final class ASN1Buffer
 
     buffer            = new ByteStringBuffer();
     zeroBufferOnClear = new AtomicBoolean(false);
+
+    minReferencedValueLength = 0;
+    numReferencedValues      = 0;
+    numReferencedValueBytes  = 0;
+    referencedValueArrays    = null;
+    referencedValueOffsets   = null;
+    referencedValueLengths   = null;
+    referencedValuePositions = null;
+  }
+
+
+
+  /**
+   * Retrieves the minimum length in bytes for element values that will be
+   * referenced by this buffer rather than copied into it.
+   *
+   * @return  The minimum length in bytes for element values that will be
+   *          referenced by this buffer rather than copied into it, or zero if
+   *          all values will be copied into the buffer.
+   */
+  public int getMinReferencedValueLength()
+  {
+    return minReferencedValueLength;
+  }
+
+
+
+  /**
+   * Specifies the minimum length in bytes for element values that will be
+   * referenced by this buffer rather than copied into it.  Referencing large
+   * values avoids copying them when they are added to the buffer, but the
+   * arrays containing those values must not be altered until the contents of
+   * this buffer have been written and the buffer has been cleared.  Changes to
+   * this setting only affect values added after the change.
+   *
+   * @param  minReferencedValueLength  The minimum length in bytes for element
+   *                                   values that will be referenced by this
+   *                                   buffer rather than copied into it.  A
+   *                                   value that is less than or equal to zero
+   *                                   indicates that all values should be
+   *                                   copied into the buffer.
+   */
+  public void setMinReferencedValueLength(final int minReferencedValueLength)
+  {
+    this.minReferencedValueLength = Math.max(0, minReferencedValueLength);
   }
 
 
@@ -204,6 +285,13 @@ public final class ASN1Buffer
     {
       buffer.setCapacity(maxBufferSize);
     }
+
+    if (numReferencedValues > 0)
+    {
+      Arrays.fill(referencedValueArrays, 0, numReferencedValues, null);
+      numReferencedValues     = 0;
+      numReferencedValueBytes = 0;
+    }
   }
 
 
@@ -214,12 +302,81 @@ public final class ASN1Buffer
    * @return  The current length of this buffer in bytes.
    */
   public int length()
+  {
+    return buffer.length() + numReferencedValueBytes;
+  }
+
+
+
+  /**
+   * Retrieves the current length of the internal buffer, which does not include
+   * any referenced values.  Positions used when inserting the lengths of
+   * sequences and sets must be obtained from this method.
+   *
+   * @return  The current length of the internal buffer.
+   */
+  int getInternalPosition()
   {
     return buffer.length();
   }
 
 
 
+  /**
+   * Indicates whether a value with the specified length should be referenced
+   * rather than copied into the buffer.
+   *
+   * @param  valueLength  The length of the value.
+   *
+   * @return  {@code true} if the value should be referenced, or {@code false}
+   *          if it should be copied.
+   */
+  private boolean shouldReference(final int valueLength)
+  {
+    return ((minReferencedValueLength > 0) &&
+         (valueLength >= minReferencedValueLength));
+  }
+
+
+
+  /**
+   * Records a reference to the specified portion of the provided array, which
+   * should appear at the current end of the internal buffer.
+   *
+   * @param  array   The array containing the value to reference.
+   * @param  offset  The offset of the value in the array.
+   * @param  length  The length of the value.
+   */
+  private void addReferencedValue(@NotNull final byte[] array,
+                                  final int offset, final int length)
+  {
+    if (referencedValueArrays == null)
+    {
+      referencedValueArrays    = new byte[4][];
+      referencedValueOffsets   = new int[4];
+      referencedValueLengths   = new int[4];
+      referencedValuePositions = new int[4];
+    }
+    else if (numReferencedValues == referencedValueArrays.length)
+    {
+      final int newSize = numReferencedValues * 2;
+      referencedValueArrays = Arrays.copyOf(referencedValueArrays, newSize);
+      referencedValueOffsets = Arrays.copyOf(referencedValueOffsets, newSize);
+      referencedValueLengths = Arrays.copyOf(referencedValueLengths, newSize);
+      referencedValuePositions =
+           Arrays.copyOf(referencedValuePositions, newSize);
+    }
+
+    referencedValueArrays[numReferencedValues]    = array;
+    referencedValueOffsets[numReferencedValues]   = offset;
+    referencedValueLengths[numReferencedValues]   = length;
+    referencedValuePositions[numReferencedValues] = buffer.length();
+    numReferencedValues++;
+    numReferencedValueBytes += length;
+  }
+
+
+
   /**
    * Adds the provided ASN.1 element to this ASN.1 buffer.
    *
@@ -227,7 +384,36 @@ public final class ASN1Buffer
    */
   public void addElement(@NotNull final ASN1Element element)
   {
-    element.encodeTo(buffer);
+    final int valueLength = element.getValueLength();
+    if (shouldReference(valueLength))
+    {
+      buffer.append(element.getType());
+      ASN1Element.encodeLengthTo(valueLength, buffer);
+      addReferencedValue(element.getValueArray(), element.getValueOffset(),
+           valueLength);
+    }
+    else
+    {
+      element.encodeTo(buffer);
+    }
+  }
+
+
+
+  /**
+   * Appends the provided data to this ASN.1 buffer without any further
+   * encoding.  The data must consist of zero or more complete BER-encoded
+   * elements (for example, elements that were previously encoded with another
+   * ASN.1 buffer and retrieved with the {@link #toByteArray} method), so that
+   * it can be used to efficiently include content that is known not to change
+   * from one encoding to the next.
+   *
+   * @param  encodedElements  The BER-encoded elements to be appended.  It must
+   *                          not be {@code null}.
+   */
+  public void addEncodedElements(@NotNull final byte[] encodedElements)
+  {
+    buffer.append(encodedElements);
   }
 
 
@@ -755,7 +941,14 @@ public final class ASN1Buffer
     else
     {
       ASN1Element.encodeLengthTo(value.length, buffer);
-      buffer.append(value);
+      if (shouldReference(value.length))
+      {
+        addReferencedValue(value, 0, value.length);
+      }
+      else
+      {
+        buffer.append(value);
+      }
     }
   }
 
@@ -964,13 +1157,26 @@ public final class ASN1Buffer
    */
   void endSequenceOrSet(final int valueStartPos)
   {
-    final int length = buffer.length() - valueStartPos;
+    // Any referenced values positioned after the start of the sequence or set
+    // are part of its value, and will need to be shifted by the number of
+    // bytes inserted for the length.
+    int firstEnclosedValue = numReferencedValues;
+    int length = buffer.length() - valueStartPos;
+    while ((firstEnclosedValue > 0) &&
+         (referencedValuePositions[firstEnclosedValue-1] > valueStartPos))
+    {
+      firstEnclosedValue--;
+      length += referencedValueLengths[firstEnclosedValue];
+    }
+
     if (length == 0)
     {
       buffer.append((byte) 0x00);
       return;
     }
 
+    final int lengthStartPos = buffer.length();
+
     if ((length & 0x7F) == length)
     {
       buffer.insert(valueStartPos, (byte) length);
@@ -1009,6 +1215,12 @@ public final class ASN1Buffer
       backingArray[valueStartPos+3] = (byte) ((length >> 8) & 0xFF);
       backingArray[valueStartPos+4] = (byte) (length & 0xFF);
     }
+
+    final int numLengthBytes = buffer.length() - lengthStartPos;
+    for (int i=firstEnclosedValue; i < numReferencedValues; i++)
+    {
+      referencedValuePositions[i] += numLengthBytes;
+    }
   }
 
 
@@ -1030,7 +1242,31 @@ public final class ASN1Buffer
       Debug.debugASN1Write(this);
     }
 
-    buffer.write(outputStream);
+    if (numReferencedValues == 0)
+    {
+      buffer.write(outputStream);
+      return;
+    }
+
+    final byte[] backingArray = buffer.getBackingArray();
+    int pos = 0;
+    for (int i=0; i < numReferencedValues; i++)
+    {
+      final int valuePos = referencedValuePositions[i];
+      if (valuePos > pos)
+      {
+        outputStream.write(backingArray, pos, (valuePos - pos));
+        pos = valuePos;
+      }
+
+      outputStream.write(referencedValueArrays[i], referencedValueOffsets[i],
+           referencedValueLengths[i]);
+    }
+
+    if (pos < buffer.length())
+    {
+      outputStream.write(backingArray, pos, (buffer.length() - pos));
+    }
   }
 
 
@@ -1043,7 +1279,30 @@ public final class ASN1Buffer
   @NotNull()
   public byte[] toByteArray()
   {
-    return buffer.toByteArray();
+    if (numReferencedValues == 0)
+    {
+      return buffer.toByteArray();
+    }
+
+    final byte[] backingArray = buffer.getBackingArray();
+    final byte[] bytes = new byte[length()];
+    int pos = 0;
+    int bytesPos = 0;
+    for (int i=0; i < numReferencedValues; i++)
+    {
+      final int valuePos = referencedValuePositions[i];
+      System.arraycopy(backingArray, pos, bytes, bytesPos, (valuePos - pos));
+      bytesPos += (valuePos - pos);
+      pos = valuePos;
+
+      System.arraycopy(referencedValueArrays[i], referencedValueOffsets[i],
+           bytes, bytesPos, referencedValueLengths[i]);
+      bytesPos += referencedValueLengths[i];
+    }
+
+    System.arraycopy(backingArray, pos, bytes, bytesPos,
+         (buffer.length() - pos));
+    return bytes;
   }
 
 
@@ -1054,7 +1313,9 @@ public final class ASN1Buffer
    * limit will be set to one byte after the end of the data.  The contents
    * of the returned byte buffer must not be altered in any way, and the
    * contents of this ASN.1 buffer must not be altered until the
-   * {@code ByteBuffer} is no longer needed.
+   * {@code ByteBuffer} is no longer needed.  If this buffer references any
+   * values rather than holding copies of them, then the returned byte buffer
+   * will wrap a newly-created array with the complete encoded representation.
    *
    * @return  A byte buffer that wraps the data associated with this ASN.1
    *          buffer.
@@ -1062,6 +1323,64 @@ public final class ASN1Buffer
   @NotNull()
   public ByteBuffer asByteBuffer()
   {
-    return ByteBuffer.wrap(buffer.getBackingArray(), 0, buffer.length());
+    if (numReferencedValues == 0)
+    {
+      return ByteBuffer.wrap(buffer.getBackingArray(), 0, buffer.length());
+    }
+    else
+    {
+      return ByteBuffer.wrap(toByteArray());
+    }
+  }
+
+
+
+  /**
+   * Retrieves a set of byte buffers that wrap the data associated with this
+   * ASN.1 buffer, without copying any of it.  Writing the remaining contents
+   * of each of the returned buffers, in order, will write the complete encoded
+   * representation of the elements in this ASN.1 buffer, so they may be used
+   * in a gathering write.  The same restrictions that apply to the buffer
+   * returned by the {@link #asByteBuffer} method also apply to these buffers.
+   *
+   * @return  A set of byte buffers that wrap the data associated with this
+   *          ASN.1 buffer.  There will be exactly one buffer if this ASN.1
+   *          buffer does not reference any values.
+   */
+  @NotNull()
+  public ByteBuffer[] asByteBuffers()
+  {
+    final byte[] backingArray = buffer.getBackingArray();
+    if (numReferencedValues == 0)
+    {
+      return new ByteBuffer[]
+      {
+        ByteBuffer.wrap(backingArray, 0, buffer.length())
+      };
+    }
+
+    final ArrayList<ByteBuffer> byteBuffers =
+         new ArrayList<>((2 * numReferencedValues) + 1);
+    int pos = 0;
+    for (int i=0; i < numReferencedValues; i++)
+    {
+      final int valuePos = referencedValuePositions[i];
+      if (valuePos > pos)
+      {
+        byteBuffers.add(ByteBuffer.wrap(backingArray, pos, (valuePos - pos)));
+        pos = valuePos;
+      }
+
+      byteBuffers.add(ByteBuffer.wrap(referencedValueArrays[i],
+           referencedValueOffsets[i], referencedValueLengths[i]));
+    }
+
+    if (pos < buffer.length())
+    {
+      byteBuffers.add(
+           ByteBuffer.wrap(backingArray, pos, (buffer.length() - pos)));
+    }
+
+    return byteBuffers.toArray(new ByteBuffer[byteBuffers.size()]);
   }
 }
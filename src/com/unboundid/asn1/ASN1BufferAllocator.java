@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.asn1;
+
+
+
+import com.unboundid.util.Extensible;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This interface defines a mechanism that an {@link ASN1StreamReader} may use
+ * to obtain the temporary byte arrays that it needs while reading data, so
+ * that those arrays may be reused rather than allocated for each element.
+ * The reader will only use an allocator for arrays whose contents are not
+ * exposed to the caller (for example, the raw bytes of an element whose value
+ * is returned as a {@code String}, or data that needs to be unwrapped by a
+ * SASL client), and each array that it allocates will be released as soon as
+ * the reader has finished with it.
+ * <BR><BR>
+ * Implementations must be threadsafe, since a single allocator may be shared
+ * by readers used in different threads.
+ *
+ * @see  ThreadLocalASN1BufferPool
+ */
+@Extensible()
+@ThreadSafety(level=ThreadSafetyLevel.INTERFACE_THREADSAFE)
+public interface ASN1BufferAllocator
+{
+  /**
+   * Obtains a byte array with at least the specified length.  The contents of
+   * the array are undefined.
+   *
+   * @param  minimumLength  The minimum length for the array.  It will not be
+   *                        negative.
+   *
+   * @return  A byte array whose length is greater than or equal to the
+   *          specified minimum length.
+   */
+  @NotNull()
+  byte[] allocate(int minimumLength);
+
+
+
+  /**
+   * Releases a byte array that was obtained from this allocator and is no
+   * longer needed.  The caller must not make any further use of the array
+   * after it has been released.
+   *
+   * @param  buffer  The byte array to release.
+   */
+  void release(@NotNull byte[] buffer);
+}
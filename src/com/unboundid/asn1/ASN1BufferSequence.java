@@ -83,7 +83,7 @@ public final class ASN1BufferSequence
   {
     this.buffer = buffer;
 
-    valueStartPos = buffer.length();
+    valueStartPos = buffer.getInternalPosition();
   }
 
 
@@ -84,7 +84,7 @@ public final class ASN1BufferSet
   {
     this.buffer = buffer;
 
-    valueStartPos = buffer.length();
+    valueStartPos = buffer.getInternalPosition();
   }
 
 
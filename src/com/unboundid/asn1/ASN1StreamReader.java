@@ -84,6 +84,9 @@ public final class ASN1StreamReader
 
 
 
+  // The allocator that will be used to obtain transient buffers, if any.
+  @Nullable private volatile ASN1BufferAllocator bufferAllocator;
+
   // Indicates whether socket timeout exceptions should be ignored for the
   // initial read of an element.
   private boolean ignoreInitialSocketTimeout;
@@ -169,6 +172,7 @@ public final class ASN1StreamReader
     ignoreSubsequentSocketTimeout = false;
     saslClient                    = null;
     saslInputStream               = null;
+    bufferAllocator               = null;
   }
 
 
@@ -301,6 +305,84 @@ public final class ASN1StreamReader
 
 
 
+  /**
+   * Retrieves the allocator that will be used to obtain buffers that are only
+   * needed while an element is being decoded (for example, the encoded value
+   * of an element read with the {@link #readString()} method).
+   *
+   * @return  The allocator that will be used to obtain transient buffers, or
+   *          {@code null} if a new array will be allocated for each buffer.
+   */
+  @Nullable()
+  public ASN1BufferAllocator getBufferAllocator()
+  {
+    return bufferAllocator;
+  }
+
+
+
+  /**
+   * Specifies the allocator that will be used to obtain buffers that are only
+   * needed while an element is being decoded.  Buffers obtained from the
+   * allocator will be released back to it as soon as the element has been
+   * decoded.  Arrays returned by the {@link #readBytes()} method, or that back
+   * the value of an element returned by the {@link #readElement()} method,
+   * will never be obtained from the allocator because they are exposed to the
+   * caller.
+   *
+   * @param  bufferAllocator  The allocator that will be used to obtain
+   *                          transient buffers.  It may be {@code null} if a
+   *                          new array should be allocated for each buffer.
+   */
+  public void setBufferAllocator(
+                   @Nullable final ASN1BufferAllocator bufferAllocator)
+  {
+    this.bufferAllocator = bufferAllocator;
+  }
+
+
+
+  /**
+   * Obtains a buffer with at least the specified length that will only be
+   * used while decoding the current element.
+   *
+   * @param  length  The minimum length of the buffer to obtain.
+   *
+   * @return  The buffer that was obtained.
+   */
+  @NotNull()
+  private byte[] allocateBuffer(final int length)
+  {
+    final ASN1BufferAllocator allocator = bufferAllocator;
+    if (allocator == null)
+    {
+      return new byte[length];
+    }
+    else
+    {
+      return allocator.allocate(length);
+    }
+  }
+
+
+
+  /**
+   * Releases a buffer obtained from the {@link #allocateBuffer} method once it
+   * is no longer needed.
+   *
+   * @param  buffer  The buffer to release.
+   */
+  private void releaseBuffer(@NotNull final byte[] buffer)
+  {
+    final ASN1BufferAllocator allocator = bufferAllocator;
+    if (allocator != null)
+    {
+      allocator.release(buffer);
+    }
+  }
+
+
+
   /**
    * Peeks at the next byte to be read from the input stream without actually
    * consuming it.
@@ -447,26 +529,33 @@ public final class ASN1StreamReader
     if (saslClient != null)
     {
       int skippedSoFar = 0;
-      final byte[] skipBuffer = new byte[numBytes];
-      while (true)
+      final byte[] skipBuffer = allocateBuffer(numBytes);
+      try
       {
-        final int bytesRead = read(skipBuffer, skippedSoFar,
-             (numBytes - skippedSoFar));
-        if (bytesRead < 0)
+        while (true)
         {
-          // We unexpectedly hit the end of the stream.  We'll just return since
-          // we clearly can't skip any more, and subsequent read attempts will
-          // fail.
-          return;
-        }
+          final int bytesRead = read(skipBuffer, skippedSoFar,
+               (numBytes - skippedSoFar));
+          if (bytesRead < 0)
+          {
+            // We unexpectedly hit the end of the stream.  We'll just return
+            // since we clearly can't skip any more, and subsequent read
+            // attempts will fail.
+            return;
+          }
 
-        skippedSoFar += bytesRead;
-        totalBytesRead += bytesRead;
-        if (skippedSoFar >= numBytes)
-        {
-          return;
+          skippedSoFar += bytesRead;
+          totalBytesRead += bytesRead;
+          if (skippedSoFar >= numBytes)
+          {
+            return;
+          }
         }
       }
+      finally
+      {
+        releaseBuffer(skipBuffer);
+      }
     }
 
     long totalBytesSkipped = inputStream.skip(numBytes);
@@ -657,22 +746,31 @@ public final class ASN1StreamReader
 
     int valueBytesRead = 0;
     int bytesRemaining = length;
-    final byte[] value = new byte[length];
-    while (valueBytesRead < length)
+    final byte[] value = allocateBuffer(length);
+    final String timestamp;
+    try
     {
-      final int bytesRead = read(value, valueBytesRead, bytesRemaining);
-      if (bytesRead < 0)
+      while (valueBytesRead < length)
       {
-        throw new IOException(ERR_READ_END_BEFORE_VALUE_END.get());
+        final int bytesRead = read(value, valueBytesRead, bytesRemaining);
+        if (bytesRead < 0)
+        {
+          throw new IOException(ERR_READ_END_BEFORE_VALUE_END.get());
+        }
+
+        valueBytesRead += bytesRead;
+        bytesRemaining -= bytesRead;
       }
 
-      valueBytesRead += bytesRead;
-      bytesRemaining -= bytesRead;
+      timestamp = StaticUtils.toUTF8String(value, 0, length);
+    }
+    finally
+    {
+      releaseBuffer(value);
     }
 
     totalBytesRead += length;
 
-    final String timestamp = StaticUtils.toUTF8String(value);
     final Date date =
          new Date(ASN1GeneralizedTime.decodeTimestamp(timestamp));
     Debug.debugASN1Read(Level.INFO, "GeneralizedTime", type, length, timestamp);
@@ -1015,22 +1113,31 @@ public final class ASN1StreamReader
 
     int valueBytesRead = 0;
     int bytesRemaining = length;
-    final byte[] value = new byte[length];
-    while (valueBytesRead < length)
+    final byte[] value = allocateBuffer(length);
+    final String s;
+    try
     {
-      final int bytesRead = read(value, valueBytesRead, bytesRemaining);
-      if (bytesRead < 0)
+      while (valueBytesRead < length)
       {
-        throw new IOException(ERR_READ_END_BEFORE_VALUE_END.get());
+        final int bytesRead = read(value, valueBytesRead, bytesRemaining);
+        if (bytesRead < 0)
+        {
+          throw new IOException(ERR_READ_END_BEFORE_VALUE_END.get());
+        }
+
+        valueBytesRead += bytesRead;
+        bytesRemaining -= bytesRead;
       }
 
-      valueBytesRead += bytesRead;
-      bytesRemaining -= bytesRead;
+      s = StaticUtils.toUTF8String(value, 0, length);
+    }
+    finally
+    {
+      releaseBuffer(value);
     }
 
     totalBytesRead += length;
 
-    final String s = StaticUtils.toUTF8String(value);
     Debug.debugASN1Read(Level.INFO, "String", type, length, s);
     return s;
   }
@@ -1069,22 +1176,31 @@ public final class ASN1StreamReader
 
     int valueBytesRead = 0;
     int bytesRemaining = length;
-    final byte[] value = new byte[length];
-    while (valueBytesRead < length)
+    final byte[] value = allocateBuffer(length);
+    final String timestamp;
+    try
     {
-      final int bytesRead = read(value, valueBytesRead, bytesRemaining);
-      if (bytesRead < 0)
+      while (valueBytesRead < length)
       {
-        throw new IOException(ERR_READ_END_BEFORE_VALUE_END.get());
+        final int bytesRead = read(value, valueBytesRead, bytesRemaining);
+        if (bytesRead < 0)
+        {
+          throw new IOException(ERR_READ_END_BEFORE_VALUE_END.get());
+        }
+
+        valueBytesRead += bytesRead;
+        bytesRemaining -= bytesRead;
       }
 
-      valueBytesRead += bytesRead;
-      bytesRemaining -= bytesRead;
+      timestamp = StaticUtils.toUTF8String(value, 0, length);
+    }
+    finally
+    {
+      releaseBuffer(value);
     }
 
     totalBytesRead += length;
 
-    final String timestamp = StaticUtils.toUTF8String(value);
     final Date date = new Date(ASN1UTCTime.decodeTimestamp(timestamp));
     Debug.debugASN1Read(Level.INFO, "UTCTime", type, length, timestamp);
     return date;
@@ -1372,26 +1488,30 @@ public final class ASN1StreamReader
     }
 
     int wrappedDataPos = 0;
-    final byte[] wrappedData = new byte[numWrappedBytes];
-    while (true)
+    final byte[] wrappedData = allocateBuffer(numWrappedBytes);
+    final byte[] unwrappedData;
+    try
     {
-      final int numBytesRead = inputStream.read(wrappedData, wrappedDataPos,
-           (numWrappedBytes - wrappedDataPos));
-      if (numBytesRead < 0)
+      while (wrappedDataPos < numWrappedBytes)
       {
-        throw new IOException(ERR_STREAM_READER_EOS_READING_SASL_DATA.get(
-             wrappedDataPos, numWrappedBytes));
-      }
+        final int numBytesRead = inputStream.read(wrappedData, wrappedDataPos,
+             (numWrappedBytes - wrappedDataPos));
+        if (numBytesRead < 0)
+        {
+          throw new IOException(ERR_STREAM_READER_EOS_READING_SASL_DATA.get(
+               wrappedDataPos, numWrappedBytes));
+        }
 
-      wrappedDataPos += numBytesRead;
-      if (wrappedDataPos >= numWrappedBytes)
-      {
-        break;
+        wrappedDataPos += numBytesRead;
       }
+
+      unwrappedData = saslClient.unwrap(wrappedData, 0, numWrappedBytes);
+    }
+    finally
+    {
+      releaseBuffer(wrappedData);
     }
 
-    final byte[] unwrappedData =
-         saslClient.unwrap(wrappedData, 0, numWrappedBytes);
     saslInputStream = new ByteArrayInputStream(unwrappedData, 0,
          unwrappedData.length);
   }
@@ -0,0 +1,396 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.asn1;
+
+
+
+import com.unboundid.util.NotMutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+
+
+
+/**
+ * This class provides an {@link ASN1BufferAllocator} implementation that
+ * maintains a small pool of reusable byte arrays for each thread that uses it.
+ * Because the arrays are held in thread-local storage, obtaining and releasing
+ * an array never requires any synchronization, and the arrays most recently
+ * used by a thread are likely to still be in that thread's CPU cache.
+ * <BR><BR>
+ * Arrays are pooled in power-of-two size classes, starting at 64 bytes and
+ * going up to a configurable maximum size.  Requests for arrays larger than
+ * the maximum pooled size will always be satisfied with a newly-allocated
+ * array, and such arrays will simply be discarded when released.  Each thread
+ * will retain at most a configurable number of arrays of each size, so the
+ * amount of memory retained by the pool for each thread is bounded.
+ * <BR><BR>
+ * This pool is best suited to threads that read data for many elements, like
+ * the threads that read responses for LDAP connections or requests for an LDAP
+ * listener.
+ */
+@NotMutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class ThreadLocalASN1BufferPool
+       implements ASN1BufferAllocator
+{
+  /**
+   * The default maximum size in bytes for arrays that will be pooled.
+   */
+  public static final int DEFAULT_MAX_POOLED_BUFFER_SIZE = 16_384;
+
+
+
+  /**
+   * The default maximum number of arrays of each size that will be retained
+   * for each thread.
+   */
+  public static final int DEFAULT_MAX_BUFFERS_PER_SIZE = 4;
+
+
+
+  /**
+   * The base-two logarithm of the size of the smallest arrays to pool.
+   */
+  private static final int MIN_SIZE_SHIFT = 6;
+
+
+
+  /**
+   * A pool instance with the default settings.
+   */
+  @NotNull private static final ThreadLocalASN1BufferPool DEFAULT_INSTANCE =
+       new ThreadLocalASN1BufferPool(DEFAULT_MAX_POOLED_BUFFER_SIZE,
+            DEFAULT_MAX_BUFFERS_PER_SIZE);
+
+
+
+  // The maximum number of arrays of each size that will be retained for each
+  // thread.
+  private final int maxBuffersPerSize;
+
+  // The maximum size for arrays that will be pooled.
+  private final int maxPooledBufferSize;
+
+  // The number of size classes.
+  private final int numSizeClasses;
+
+  // The thread-local pools of arrays.
+  @NotNull private final ThreadLocal<PerThreadPool> threadPools;
+
+
+
+  /**
+   * Creates a new thread-local buffer pool with the provided settings.
+   *
+   * @param  maxPooledBufferSize  The maximum size in bytes for arrays that
+   *                              will be pooled.  It must be greater than zero.
+   *                              If it is not a power of two, then it will be
+   *                              rounded up to the next power of two.
+   * @param  maxBuffersPerSize    The maximum number of arrays of each size that
+   *                              will be retained for each thread.  It must be
+   *                              greater than zero.
+   */
+  public ThreadLocalASN1BufferPool(final int maxPooledBufferSize,
+                                   final int maxBuffersPerSize)
+  {
+    Validator.ensureTrue((maxPooledBufferSize > 0),
+         "ThreadLocalASN1BufferPool.maxPooledBufferSize must be greater " +
+              "than zero.");
+    Validator.ensureTrue((maxPooledBufferSize <= (1 << 30)),
+         "ThreadLocalASN1BufferPool.maxPooledBufferSize must not be greater " +
+              "than 1073741824.");
+    Validator.ensureTrue((maxBuffersPerSize > 0),
+         "ThreadLocalASN1BufferPool.maxBuffersPerSize must be greater than " +
+              "zero.");
+
+    this.maxBuffersPerSize = maxBuffersPerSize;
+
+    final int maxSizeClass = getSizeClass(maxPooledBufferSize);
+    this.maxPooledBufferSize = (1 << (maxSizeClass + MIN_SIZE_SHIFT));
+    numSizeClasses = maxSizeClass + 1;
+
+    threadPools = new ThreadLocal<>();
+  }
+
+
+
+  /**
+   * Retrieves a pool instance with the default settings, which may be shared
+   * by any number of readers.
+   *
+   * @return  A pool instance with the default settings.
+   */
+  @NotNull()
+  public static ThreadLocalASN1BufferPool getDefaultInstance()
+  {
+    return DEFAULT_INSTANCE;
+  }
+
+
+
+  /**
+   * Retrieves the maximum size in bytes for arrays that will be pooled.
+   *
+   * @return  The maximum size in bytes for arrays that will be pooled.
+   */
+  public int getMaxPooledBufferSize()
+  {
+    return maxPooledBufferSize;
+  }
+
+
+
+  /**
+   * Retrieves the maximum number of arrays of each size that will be retained
+   * for each thread.
+   *
+   * @return  The maximum number of arrays of each size that will be retained
+   *          for each thread.
+   */
+  public int getMaxBuffersPerSize()
+  {
+    return maxBuffersPerSize;
+  }
+
+
+
+  /**
+   * Retrieves the pool of arrays for the calling thread, creating it if
+   * necessary.
+   *
+   * @return  The pool of arrays for the calling thread.
+   */
+  @NotNull()
+  private PerThreadPool getThreadPool()
+  {
+    PerThreadPool pool = threadPools.get();
+    if (pool == null)
+    {
+      pool = new PerThreadPool(numSizeClasses, maxBuffersPerSize);
+      threadPools.set(pool);
+    }
+
+    return pool;
+  }
+
+
+
+  /**
+   * Retrieves the size class for arrays of the specified length, which is the
+   * base-two logarithm of the smallest power of two that is at least the
+   * given length, minus the logarithm of the smallest pooled size.
+   *
+   * @param  length  The length for which to retrieve the size class.
+   *
+   * @return  The size class for arrays of the specified length.
+   */
+  private static int getSizeClass(final int length)
+  {
+    if (length <= (1 << MIN_SIZE_SHIFT))
+    {
+      return 0;
+    }
+
+    return (32 - Integer.numberOfLeadingZeros(length - 1)) - MIN_SIZE_SHIFT;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public byte[] allocate(final int minimumLength)
+  {
+    if (minimumLength > maxPooledBufferSize)
+    {
+      return new byte[minimumLength];
+    }
+
+    final int sizeClass = getSizeClass(minimumLength);
+    final byte[] buffer = getThreadPool().poll(sizeClass);
+    if (buffer == null)
+    {
+      return new byte[1 << (sizeClass + MIN_SIZE_SHIFT)];
+    }
+
+    return buffer;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void release(@NotNull final byte[] buffer)
+  {
+    final int length = buffer.length;
+    if ((length > maxPooledBufferSize) ||
+         (length < (1 << MIN_SIZE_SHIFT)) ||
+         (Integer.bitCount(length) != 1))
+    {
+      // This array did not come from this pool, so just let it be discarded.
+      return;
+    }
+
+    getThreadPool().offer(getSizeClass(length), buffer);
+  }
+
+
+
+  /**
+   * Retrieves the number of arrays currently retained for the calling thread.
+   * This is primarily intended for testing purposes.
+   *
+   * @return  The number of arrays currently retained for the calling thread.
+   */
+  int getNumPooledBuffersForCurrentThread()
+  {
+    return getThreadPool().size();
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this buffer pool.
+   *
+   * @return  A string representation of this buffer pool.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    return "ThreadLocalASN1BufferPool(maxPooledBufferSize=" +
+         maxPooledBufferSize + ", maxBuffersPerSize=" + maxBuffersPerSize + ')';
+  }
+
+
+
+  /**
+   * This class holds the arrays pooled for a single thread.
+   */
+  private static final class PerThreadPool
+  {
+    // The pooled arrays for each size class.
+    @NotNull private final byte[][][] buffers;
+
+    // The number of pooled arrays for each size class.
+    @NotNull private final int[] counts;
+
+
+
+    /**
+     * Creates a new per-thread pool.
+     *
+     * @param  numSizeClasses     The number of size classes.
+     * @param  maxBuffersPerSize  The maximum number of arrays to retain for
+     *                            each size class.
+     */
+    PerThreadPool(final int numSizeClasses, final int maxBuffersPerSize)
+    {
+      buffers = new byte[numSizeClasses][maxBuffersPerSize][];
+      counts = new int[numSizeClasses];
+    }
+
+
+
+    /**
+     * Removes and returns a pooled array in the specified size class.
+     *
+     * @param  sizeClass  The size class of the array to retrieve.
+     *
+     * @return  The pooled array, or {@code null} if there are no pooled arrays
+     *          in the specified size class.
+     */
+    @Nullable()
+    byte[] poll(final int sizeClass)
+    {
+      final int count = counts[sizeClass];
+      if (count == 0)
+      {
+        return null;
+      }
+
+      final byte[][] classBuffers = buffers[sizeClass];
+      final byte[] buffer = classBuffers[count - 1];
+      classBuffers[count - 1] = null;
+      counts[sizeClass] = count - 1;
+      return buffer;
+    }
+
+
+
+    /**
+     * Adds the provided array to the pool for the specified size class, if
+     * there is room for it.
+     *
+     * @param  sizeClass  The size class of the array.
+     * @param  buffer     The array to add to the pool.
+     */
+    void offer(final int sizeClass, @NotNull final byte[] buffer)
+    {
+      final int count = counts[sizeClass];
+      final byte[][] classBuffers = buffers[sizeClass];
+      if (count < classBuffers.length)
+      {
+        classBuffers[count] = buffer;
+        counts[sizeClass] = count + 1;
+      }
+    }
+
+
+
+    /**
+     * Retrieves the total number of arrays held in this pool.
+     *
+     * @return  The total number of arrays held in this pool.
+     */
+    int size()
+    {
+      int size = 0;
+      for (final int count : counts)
+      {
+        size += count;
+      }
+      return size;
+    }
+  }
+}
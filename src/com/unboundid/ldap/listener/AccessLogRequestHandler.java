@@ -87,6 +87,8 @@ import com.unboundid.util.Validator;
  * and result using the Java logging framework.  It will be also be associated
  * with another request handler that will actually be used to handle the
  * request.
+ *
+ * @see  com.unboundid.util.AsyncLogHandler
  */
 @NotMutable()
 @ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
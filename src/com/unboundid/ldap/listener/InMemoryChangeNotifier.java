@@ -0,0 +1,339 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.unboundid.ldap.sdk.ReadOnlyEntry;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.controls.PersistentSearchChangeType;
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotMutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.listener.ListenerMessages.*;
+
+
+
+/**
+ * This class provides a mechanism that will be used by the
+ * {@link InMemoryRequestHandler} class to notify persistent searches and
+ * content synchronization operations of changes to the data.  Each change is
+ * added to a bounded queue for each registered operation, and the changes in
+ * that queue are returned to the client by a separate thread for each
+ * operation, so a client that is slow to read them will never delay a write
+ * operation.  If the queue for an operation fills up, then that operation will
+ * be terminated rather than allowing the client to fall further behind.
+ * <BR><BR>
+ * The methods used to report changes must only be called while holding the
+ * write lock for the associated entry map, and operations must be registered
+ * while holding that lock, so that each change is either visible to an
+ * operation's initial search or queued for that operation, but not both.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class InMemoryChangeNotifier
+{
+  // The maximum number of changes that may be queued for any one operation.
+  private final int maxQueuedChanges;
+
+  // The operations that have been registered to be notified of changes.
+  @NotNull private final CopyOnWriteArrayList<InMemoryPersistentSearch>
+       persistentSearches;
+
+
+
+  /**
+   * Creates a new change notifier with the provided information.
+   *
+   * @param  maxQueuedChanges  The maximum number of changes that may be queued
+   *                           for any one operation before it is terminated.
+   */
+  InMemoryChangeNotifier(final int maxQueuedChanges)
+  {
+    this.maxQueuedChanges = maxQueuedChanges;
+
+    persistentSearches = new CopyOnWriteArrayList<>();
+  }
+
+
+
+  /**
+   * Registers a new operation to be notified of changes.  Changes will be
+   * queued for the operation as soon as it is registered, but they will not
+   * be returned to the client until it is activated.  If the operation is not
+   * activated, then it must be deregistered.
+   *
+   * @param  connection  The client connection to which changes should be
+   *                     returned.
+   * @param  messageID   The message ID of the associated search request.
+   *
+   * @return  The operation that was registered.
+   */
+  @NotNull()
+  InMemoryPersistentSearch register(
+       @NotNull final LDAPListenerClientConnection connection,
+       final int messageID)
+  {
+    final InMemoryPersistentSearch persistentSearch =
+         new InMemoryPersistentSearch(this, connection, messageID,
+              maxQueuedChanges);
+    persistentSearches.add(persistentSearch);
+    return persistentSearch;
+  }
+
+
+
+  /**
+   * Deregisters the provided operation so that it will not be notified of any
+   * further changes.
+   *
+   * @param  persistentSearch  The operation to deregister.
+   */
+  void deregister(@NotNull final InMemoryPersistentSearch persistentSearch)
+  {
+    persistentSearches.remove(persistentSearch);
+  }
+
+
+
+  /**
+   * Indicates whether any operations are currently registered to be notified
+   * of changes.
+   *
+   * @return  {@code true} if any operations are currently registered, or
+   *          {@code false} if not.
+   */
+  boolean hasPersistentSearches()
+  {
+    return (! persistentSearches.isEmpty());
+  }
+
+
+
+  /**
+   * Notifies all registered operations of a change to an entry.
+   *
+   * @param  changeType     The type of change that was made.
+   * @param  previousEntry  The entry as it appeared before the change.  It
+   *                        will be {@code null} for an add.
+   * @param  entry          The entry as it appears after the change.  It will
+   *                        be {@code null} for a delete.
+   * @param  changeNumber   The changelog change number for the change, or -1
+   *                        if the changelog is not enabled.
+   */
+  void changeMade(@NotNull final PersistentSearchChangeType changeType,
+                  @Nullable final ReadOnlyEntry previousEntry,
+                  @Nullable final ReadOnlyEntry entry,
+                  final long changeNumber)
+  {
+    if (persistentSearches.isEmpty())
+    {
+      return;
+    }
+
+    final Change change =
+         new Change(changeType, previousEntry, entry, changeNumber);
+    for (final InMemoryPersistentSearch persistentSearch : persistentSearches)
+    {
+      persistentSearch.changeMade(change);
+    }
+  }
+
+
+
+  /**
+   * Terminates all registered operations because the content of the server
+   * has been replaced in a way that cannot be expressed as a sequence of
+   * changes to individual entries (for example, because a snapshot has been
+   * restored).
+   */
+  void dataReplaced()
+  {
+    for (final InMemoryPersistentSearch persistentSearch : persistentSearches)
+    {
+      persistentSearch.terminate(ResultCode.OTHER,
+           ERR_MEM_HANDLER_PSEARCH_DATA_REPLACED.get());
+    }
+  }
+
+
+
+  /**
+   * Abandons the operation with the given message ID on the provided client
+   * connection, if it is registered.
+   *
+   * @param  connection  The client connection on which the operation was
+   *                     requested.
+   * @param  messageID   The message ID of the operation to abandon.
+   */
+  void abandon(@NotNull final LDAPListenerClientConnection connection,
+               final int messageID)
+  {
+    for (final InMemoryPersistentSearch persistentSearch : persistentSearches)
+    {
+      if ((persistentSearch.getClientConnection() == connection) &&
+          (persistentSearch.getMessageID() == messageID))
+      {
+        persistentSearch.abandon();
+      }
+    }
+  }
+
+
+
+  /**
+   * Abandons all operations registered for the provided client connection,
+   * because it is being closed.
+   *
+   * @param  connection  The client connection that is being closed.
+   */
+  void connectionClosed(@NotNull final LDAPListenerClientConnection connection)
+  {
+    for (final InMemoryPersistentSearch persistentSearch : persistentSearches)
+    {
+      if (persistentSearch.getClientConnection() == connection)
+      {
+        persistentSearch.abandon();
+      }
+    }
+  }
+
+
+
+  /**
+   * This class provides a data structure with information about a single
+   * change to an entry.
+   */
+  @NotMutable()
+  @ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+  static final class Change
+  {
+    // The changelog change number for the change.
+    private final long changeNumber;
+
+    // The type of change that was made.
+    @NotNull private final PersistentSearchChangeType changeType;
+
+    // The entry as it appears after the change.
+    @Nullable private final ReadOnlyEntry entry;
+
+    // The entry as it appeared before the change.
+    @Nullable private final ReadOnlyEntry previousEntry;
+
+
+
+    /**
+     * Creates a new change with the provided information.
+     *
+     * @param  changeType     The type of change that was made.
+     * @param  previousEntry  The entry as it appeared before the change, or
+     *                        {@code null} for an add.
+     * @param  entry          The entry as it appears after the change, or
+     *                        {@code null} for a delete.
+     * @param  changeNumber   The changelog change number for the change, or
+     *                        -1 if the changelog is not enabled.
+     */
+    Change(@NotNull final PersistentSearchChangeType changeType,
+           @Nullable final ReadOnlyEntry previousEntry,
+           @Nullable final ReadOnlyEntry entry, final long changeNumber)
+    {
+      this.changeType    = changeType;
+      this.previousEntry = previousEntry;
+      this.entry         = entry;
+      this.changeNumber  = changeNumber;
+    }
+
+
+
+    /**
+     * Retrieves the type of change that was made.
+     *
+     * @return  The type of change that was made.
+     */
+    @NotNull()
+    PersistentSearchChangeType getChangeType()
+    {
+      return changeType;
+    }
+
+
+
+    /**
+     * Retrieves the entry as it appeared before the change.
+     *
+     * @return  The entry as it appeared before the change, or {@code null}
+     *          for an add.
+     */
+    @Nullable()
+    ReadOnlyEntry getPreviousEntry()
+    {
+      return previousEntry;
+    }
+
+
+
+    /**
+     * Retrieves the entry as it appears after the change.
+     *
+     * @return  The entry as it appears after the change, or {@code null} for
+     *          a delete.
+     */
+    @Nullable()
+    ReadOnlyEntry getEntry()
+    {
+      return entry;
+    }
+
+
+
+    /**
+     * Retrieves the changelog change number for the change.
+     *
+     * @return  The changelog change number for the change, or -1 if the
+     *          changelog is not enabled.
+     */
+    long getChangeNumber()
+    {
+      return changeNumber;
+    }
+  }
+}
@@ -379,6 +379,8 @@ public final class InMemoryDirectoryServer
            c.getListenPort(), listenerRequestHandler);
       listenerCfg.setMaxConnections(config.getMaxConnections());
       listenerCfg.setMaxMessageSizeBytes(config.getMaxMessageSizeBytes());
+      listenerCfg.setNumSelectorThreads(config.getNumListenerSelectorThreads());
+      listenerCfg.setNumWorkerThreads(config.getNumListenerWorkerThreads());
       listenerCfg.setExceptionHandler(config.getListenerExceptionHandler());
       listenerCfg.setListenAddress(c.getListenAddress());
       listenerCfg.setServerSocketFactory(c.getServerSocketFactory());
@@ -497,12 +499,17 @@ public final class InMemoryDirectoryServer
 
 
   /**
-   * {@inheritDoc}
+   * Shuts down all configured listeners and closes all existing connections.
+   * If the server is configured with a persistent data directory, then the
+   * persistent data store will also be closed so that it may be used by
+   * another server, and no further changes may be made to the data in this
+   * server.
    */
   @Override()
   public void close()
   {
     shutDown(true);
+    inMemoryHandler.closePersistentStore();
   }
 
 
@@ -1222,6 +1229,28 @@ public final class InMemoryDirectoryServer
 
 
 
+  /**
+   * Indicates whether the specified entry has any subordinate entries.
+   * <BR><BR>
+   * This method may be used regardless of whether the server is listening for
+   * client connections.
+   *
+   * @param  dn  The DN of the entry for which to make the determination.
+   *
+   * @return  {@code true} if there is at least one entry below the specified
+   *          DN, or {@code false} if not.
+   *
+   * @throws  LDAPException  If the provided string cannot be parsed as a valid
+   *                         DN.
+   */
+  public boolean hasSubordinates(@NotNull final String dn)
+         throws LDAPException
+  {
+    return inMemoryHandler.hasSubordinates(dn);
+  }
+
+
+
   /**
    * Removes all entries currently held in the server.  If a changelog is
    * enabled, then all changelog entries will also be cleared but the base
@@ -1342,6 +1371,49 @@ public final class InMemoryDirectoryServer
 
 
 
+  /**
+   * Performs a bulk import of the entries in the specified LDIF file,
+   * optionally clearing any existing entries before adding the new entries.
+   * Entries will be read, parsed, and validated against the schema in
+   * parallel using the specified number of threads, and will then be added to
+   * the server in hierarchical order, so the LDIF file does not need to list
+   * parent entries before their children.  If an error is encountered while
+   * importing the entries, then the server will remain populated with the data
+   * it held before the import attempt (even if the {@code clear} is given with
+   * a value of {@code true}).
+   * <BR><BR>
+   * This method may be used regardless of whether the server is listening for
+   * client connections.  Changes will be rejected while the import is in
+   * progress, but searches will continue to see the data that the server held
+   * before the import until it has completed.
+   *
+   * @param  clear       Indicates whether to remove all existing entries prior
+   *                     to adding entries read from LDIF.
+   * @param  ldifFile    The LDIF file containing the entries to import.
+   * @param  numThreads  The number of threads to use to read, parse, and
+   *                     validate entries.  A value less than one will be
+   *                     treated as one.
+   * @param  statistics  An optional object that will be updated with the
+   *                     progress of the import, and that may be polled from
+   *                     another thread while the import is in progress.  It
+   *                     may be {@code null} if statistics are not needed.
+   *
+   * @return  The number of entries read from LDIF and added to the server.
+   *
+   * @throws  LDAPException  If a problem occurs while reading entries or adding
+   *                         them to the server.
+   */
+  public int importFromLDIF(final boolean clear,
+       @NotNull final File ldifFile, final int numThreads,
+       @Nullable final InMemoryDirectoryServerImportStatistics statistics)
+         throws LDAPException
+  {
+    return inMemoryHandler.importFromLDIF(clear, ldifFile, numThreads,
+         statistics);
+  }
+
+
+
   /**
    * Writes the current contents of the server in LDIF form to the specified
    * file.
@@ -0,0 +1,1215 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.Arrays;
+
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a compressed bitmap that holds a set of non-negative
+ * integer values, and is used by the in-memory directory server to represent
+ * sets of entry IDs.  It uses the same layout as a Roaring bitmap:  values are
+ * partitioned into chunks by their upper 16 bits, and each chunk is held in a
+ * container that is either a sorted array of the lower 16 bits (for sparse
+ * chunks) or a fixed-size array of 65536 bits (for dense chunks).  The
+ * {@link #and}, {@link #or}, and {@link #andNot} methods operate on whole
+ * containers at a time and do not alter either of the bitmaps involved.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
+final class InMemoryDirectoryServerBitmap
+{
+  /**
+   * The maximum number of values that will be held in an array container.
+   * Chunks with more values than this will use a bit set container, which
+   * requires the same amount of memory as an array container at this size.
+   */
+  static final int MAX_ARRAY_CONTAINER_SIZE = 4096;
+
+
+
+  /**
+   * The number of 64-bit words in a bit set container.
+   */
+  private static final int BIT_SET_CONTAINER_WORDS = 1024;
+
+
+
+  // The containers for each chunk, in the same order as the keys.
+  @NotNull private Container[] containers;
+
+  // The upper 16 bits of the values in each chunk, in ascending order.
+  @NotNull private char[] keys;
+
+  // The number of chunks currently in use.
+  private int numChunks;
+
+
+
+  /**
+   * Creates a new empty bitmap.
+   */
+  InMemoryDirectoryServerBitmap()
+  {
+    this(4);
+  }
+
+
+
+  /**
+   * Creates a new empty bitmap with room for the specified number of chunks.
+   *
+   * @param  initialChunks  The initial capacity, in chunks.
+   */
+  private InMemoryDirectoryServerBitmap(final int initialChunks)
+  {
+    keys = new char[Math.max(initialChunks, 1)];
+    containers = new Container[keys.length];
+    numChunks = 0;
+  }
+
+
+
+  /**
+   * Creates a new bitmap that is a copy of the provided bitmap.
+   *
+   * @param  bitmap  The bitmap to copy.  It must not be {@code null}.
+   */
+  InMemoryDirectoryServerBitmap(@NotNull final InMemoryDirectoryServerBitmap
+                                     bitmap)
+  {
+    keys = Arrays.copyOf(bitmap.keys, Math.max(bitmap.numChunks, 1));
+    containers = new Container[keys.length];
+    for (int i=0; i < bitmap.numChunks; i++)
+    {
+      containers[i] = bitmap.containers[i].duplicate();
+    }
+    numChunks = bitmap.numChunks;
+  }
+
+
+
+  /**
+   * Adds the provided value to this bitmap.
+   *
+   * @param  value  The value to add.  It must not be negative.
+   *
+   * @return  {@code true} if the value was added, or {@code false} if it was
+   *          already present.
+   */
+  boolean add(final int value)
+  {
+    final char key = (char) (value >>> 16);
+    final char low = (char) value;
+
+    int pos = findChunk(key);
+    if (pos < 0)
+    {
+      pos = -(pos + 1);
+      insertChunk(pos, key, new ArrayContainer(4));
+    }
+
+    final Container c = containers[pos];
+    final int oldCardinality = c.cardinality;
+    containers[pos] = c.add(low);
+    return (containers[pos].cardinality > oldCardinality);
+  }
+
+
+
+  /**
+   * Removes the provided value from this bitmap.
+   *
+   * @param  value  The value to remove.
+   *
+   * @return  {@code true} if the value was removed, or {@code false} if it was
+   *          not present.
+   */
+  boolean remove(final int value)
+  {
+    final int pos = findChunk((char) (value >>> 16));
+    if (pos < 0)
+    {
+      return false;
+    }
+
+    final Container c = containers[pos];
+    final int oldCardinality = c.cardinality;
+    final Container updated = c.remove((char) value);
+    if (updated.cardinality == 0)
+    {
+      removeChunk(pos);
+    }
+    else
+    {
+      containers[pos] = updated;
+    }
+
+    return (updated.cardinality < oldCardinality);
+  }
+
+
+
+  /**
+   * Indicates whether this bitmap contains the provided value.
+   *
+   * @param  value  The value for which to make the determination.
+   *
+   * @return  {@code true} if this bitmap contains the provided value, or
+   *          {@code false} if not.
+   */
+  boolean contains(final int value)
+  {
+    final int pos = findChunk((char) (value >>> 16));
+    return ((pos >= 0) && containers[pos].contains((char) value));
+  }
+
+
+
+  /**
+   * Retrieves the number of values held in this bitmap.
+   *
+   * @return  The number of values held in this bitmap.
+   */
+  int size()
+  {
+    int size = 0;
+    for (int i=0; i < numChunks; i++)
+    {
+      size += containers[i].cardinality;
+    }
+
+    return size;
+  }
+
+
+
+  /**
+   * Indicates whether this bitmap is empty.
+   *
+   * @return  {@code true} if this bitmap is empty, or {@code false} if not.
+   */
+  boolean isEmpty()
+  {
+    return (numChunks == 0);
+  }
+
+
+
+  /**
+   * Removes all values from this bitmap.
+   */
+  void clear()
+  {
+    Arrays.fill(containers, 0, numChunks, null);
+    numChunks = 0;
+  }
+
+
+
+  /**
+   * Retrieves an array of the values held in this bitmap, in ascending order.
+   *
+   * @return  An array of the values held in this bitmap.
+   */
+  @NotNull()
+  int[] toArray()
+  {
+    final int[] values = new int[size()];
+    int pos = 0;
+    for (int i=0; i < numChunks; i++)
+    {
+      pos = containers[i].fill(keys[i] << 16, values, pos);
+    }
+
+    return values;
+  }
+
+
+
+  /**
+   * Creates a new bitmap with the values that are contained in both this
+   * bitmap and the provided bitmap.
+   *
+   * @param  bitmap  The bitmap to intersect with this bitmap.  It must not be
+   *                 {@code null}.
+   *
+   * @return  A new bitmap with the values contained in both bitmaps.
+   */
+  @NotNull()
+  InMemoryDirectoryServerBitmap and(
+       @NotNull final InMemoryDirectoryServerBitmap bitmap)
+  {
+    final InMemoryDirectoryServerBitmap result =
+         new InMemoryDirectoryServerBitmap(
+              Math.min(numChunks, bitmap.numChunks));
+
+    int pos1 = 0;
+    int pos2 = 0;
+    while ((pos1 < numChunks) && (pos2 < bitmap.numChunks))
+    {
+      final char key1 = keys[pos1];
+      final char key2 = bitmap.keys[pos2];
+      if (key1 < key2)
+      {
+        pos1++;
+      }
+      else if (key1 > key2)
+      {
+        pos2++;
+      }
+      else
+      {
+        final Container c = containers[pos1].and(bitmap.containers[pos2]);
+        if (c != null)
+        {
+          result.appendChunk(key1, c);
+        }
+
+        pos1++;
+        pos2++;
+      }
+    }
+
+    return result;
+  }
+
+
+
+  /**
+   * Creates a new bitmap with the values that are contained in either this
+   * bitmap or the provided bitmap.
+   *
+   * @param  bitmap  The bitmap to merge with this bitmap.  It must not be
+   *                 {@code null}.
+   *
+   * @return  A new bitmap with the values contained in either bitmap.
+   */
+  @NotNull()
+  InMemoryDirectoryServerBitmap or(
+       @NotNull final InMemoryDirectoryServerBitmap bitmap)
+  {
+    final InMemoryDirectoryServerBitmap result =
+         new InMemoryDirectoryServerBitmap(numChunks + bitmap.numChunks);
+
+    int pos1 = 0;
+    int pos2 = 0;
+    while ((pos1 < numChunks) || (pos2 < bitmap.numChunks))
+    {
+      if (pos2 >= bitmap.numChunks)
+      {
+        result.appendChunk(keys[pos1], containers[pos1].duplicate());
+        pos1++;
+      }
+      else if (pos1 >= numChunks)
+      {
+        result.appendChunk(bitmap.keys[pos2],
+             bitmap.containers[pos2].duplicate());
+        pos2++;
+      }
+      else if (keys[pos1] < bitmap.keys[pos2])
+      {
+        result.appendChunk(keys[pos1], containers[pos1].duplicate());
+        pos1++;
+      }
+      else if (keys[pos1] > bitmap.keys[pos2])
+      {
+        result.appendChunk(bitmap.keys[pos2],
+             bitmap.containers[pos2].duplicate());
+        pos2++;
+      }
+      else
+      {
+        result.appendChunk(keys[pos1],
+             containers[pos1].or(bitmap.containers[pos2]));
+        pos1++;
+        pos2++;
+      }
+    }
+
+    return result;
+  }
+
+
+
+  /**
+   * Creates a new bitmap with the values that are contained in this bitmap
+   * but not in the provided bitmap.
+   *
+   * @param  bitmap  The bitmap with the values to exclude.  It must not be
+   *                 {@code null}.
+   *
+   * @return  A new bitmap with the values contained in this bitmap but not
+   *          the provided bitmap.
+   */
+  @NotNull()
+  InMemoryDirectoryServerBitmap andNot(
+       @NotNull final InMemoryDirectoryServerBitmap bitmap)
+  {
+    final InMemoryDirectoryServerBitmap result =
+         new InMemoryDirectoryServerBitmap(numChunks);
+
+    for (int i=0; i < numChunks; i++)
+    {
+      final int pos = bitmap.findChunk(keys[i]);
+      if (pos < 0)
+      {
+        result.appendChunk(keys[i], containers[i].duplicate());
+      }
+      else
+      {
+        final Container c = containers[i].andNot(bitmap.containers[pos]);
+        if (c != null)
+        {
+          result.appendChunk(keys[i], c);
+        }
+      }
+    }
+
+    return result;
+  }
+
+
+
+  /**
+   * Adds all of the values in the provided bitmap to this bitmap.
+   *
+   * @param  bitmap  The bitmap with the values to add.  It must not be
+   *                 {@code null}.
+   */
+  void addAll(@NotNull final InMemoryDirectoryServerBitmap bitmap)
+  {
+    replaceWith(or(bitmap));
+  }
+
+
+
+  /**
+   * Removes any values from this bitmap that are not in the provided bitmap.
+   *
+   * @param  bitmap  The bitmap with the values to retain.  It must not be
+   *                 {@code null}.
+   */
+  void retainAll(@NotNull final InMemoryDirectoryServerBitmap bitmap)
+  {
+    replaceWith(and(bitmap));
+  }
+
+
+
+  /**
+   * Replaces the contents of this bitmap with the contents of the provided
+   * bitmap, which must not be used after this method returns.
+   *
+   * @param  bitmap  The bitmap whose contents should be used.
+   */
+  private void replaceWith(@NotNull final InMemoryDirectoryServerBitmap bitmap)
+  {
+    keys = bitmap.keys;
+    containers = bitmap.containers;
+    numChunks = bitmap.numChunks;
+  }
+
+
+
+  /**
+   * Retrieves the position of the chunk with the specified key.
+   *
+   * @param  key  The key for the chunk to find.
+   *
+   * @return  The position of the chunk with the specified key, or a negative
+   *          value that encodes the insertion point (in the same manner as
+   *          {@code Arrays.binarySearch}) if there is no such chunk.
+   */
+  private int findChunk(final char key)
+  {
+    return Arrays.binarySearch(keys, 0, numChunks, key);
+  }
+
+
+
+  /**
+   * Inserts a new chunk at the specified position.
+   *
+   * @param  pos        The position at which to insert the chunk.
+   * @param  key        The key for the chunk.
+   * @param  container  The container for the chunk.
+   */
+  private void insertChunk(final int pos, final char key,
+                           @NotNull final Container container)
+  {
+    ensureCapacity(numChunks + 1);
+    System.arraycopy(keys, pos, keys, pos + 1, numChunks - pos);
+    System.arraycopy(containers, pos, containers, pos + 1, numChunks - pos);
+    keys[pos] = key;
+    containers[pos] = container;
+    numChunks++;
+  }
+
+
+
+  /**
+   * Appends a new chunk after all existing chunks.  The key must be greater
+   * than the key of every existing chunk.
+   *
+   * @param  key        The key for the chunk.
+   * @param  container  The container for the chunk.
+   */
+  private void appendChunk(final char key, @NotNull final Container container)
+  {
+    ensureCapacity(numChunks + 1);
+    keys[numChunks] = key;
+    containers[numChunks] = container;
+    numChunks++;
+  }
+
+
+
+  /**
+   * Removes the chunk at the specified position.
+   *
+   * @param  pos  The position of the chunk to remove.
+   */
+  private void removeChunk(final int pos)
+  {
+    System.arraycopy(keys, pos + 1, keys, pos, numChunks - pos - 1);
+    System.arraycopy(containers, pos + 1, containers, pos,
+         numChunks - pos - 1);
+    numChunks--;
+    containers[numChunks] = null;
+  }
+
+
+
+  /**
+   * Ensures that the key and container arrays can hold at least the specified
+   * number of chunks.
+   *
+   * @param  capacity  The required capacity, in chunks.
+   */
+  private void ensureCapacity(final int capacity)
+  {
+    if (capacity > keys.length)
+    {
+      final int newCapacity = Math.max(capacity, (keys.length * 2));
+      keys = Arrays.copyOf(keys, newCapacity);
+      containers = Arrays.copyOf(containers, newCapacity);
+    }
+  }
+
+
+
+  /**
+   * Retrieves a hash code for this bitmap.
+   *
+   * @return  A hash code for this bitmap.
+   */
+  @Override()
+  public int hashCode()
+  {
+    return Arrays.hashCode(toArray());
+  }
+
+
+
+  /**
+   * Indicates whether the provided object is a bitmap with the same set of
+   * values as this bitmap.
+   *
+   * @param  o  The object for which to make the determination.
+   *
+   * @return  {@code true} if the provided object is a bitmap with the same set
+   *          of values as this bitmap, or {@code false} if not.
+   */
+  @Override()
+  public boolean equals(@Nullable final Object o)
+  {
+    if (o == this)
+    {
+      return true;
+    }
+
+    if (! (o instanceof InMemoryDirectoryServerBitmap))
+    {
+      return false;
+    }
+
+    return Arrays.equals(toArray(),
+         ((InMemoryDirectoryServerBitmap) o).toArray());
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this bitmap.
+   *
+   * @return  A string representation of this bitmap.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    return Arrays.toString(toArray());
+  }
+
+
+
+  /**
+   * Creates the appropriate container for a chunk with the values represented
+   * by the provided bit set words.
+   *
+   * @param  words  The bit set words for the chunk.
+   *
+   * @return  The container for the chunk, or {@code null} if the chunk does
+   *          not have any values.
+   */
+  @Nullable()
+  private static Container fromWords(@NotNull final long[] words)
+  {
+    int cardinality = 0;
+    for (final long w : words)
+    {
+      cardinality += Long.bitCount(w);
+    }
+
+    if (cardinality == 0)
+    {
+      return null;
+    }
+    else if (cardinality > MAX_ARRAY_CONTAINER_SIZE)
+    {
+      return new BitSetContainer(words, cardinality);
+    }
+
+    final char[] values = new char[cardinality];
+    int pos = 0;
+    for (int i=0; i < words.length; i++)
+    {
+      long w = words[i];
+      while (w != 0L)
+      {
+        values[pos++] = (char) ((i << 6) + Long.numberOfTrailingZeros(w));
+        w &= (w - 1L);
+      }
+    }
+
+    return new ArrayContainer(values, cardinality);
+  }
+
+
+
+  /**
+   * This class defines the methods for a container that holds the lower 16
+   * bits of the values in a single chunk.
+   */
+  private abstract static class Container
+  {
+    // The number of values held in this container.
+    int cardinality;
+
+
+
+    /**
+     * Adds the provided value to this container.
+     *
+     * @param  value  The value to add.
+     *
+     * @return  The container that holds the updated set of values, which may
+     *          be this container or a new one.
+     */
+    @NotNull()
+    abstract Container add(char value);
+
+
+
+    /**
+     * Removes the provided value from this container.
+     *
+     * @param  value  The value to remove.
+     *
+     * @return  The container that holds the updated set of values, which may
+     *          be this container or a new one.
+     */
+    @NotNull()
+    abstract Container remove(char value);
+
+
+
+    /**
+     * Indicates whether this container holds the provided value.
+     *
+     * @param  value  The value for which to make the determination.
+     *
+     * @return  {@code true} if this container holds the provided value, or
+     *          {@code false} if not.
+     */
+    abstract boolean contains(char value);
+
+
+
+    /**
+     * Creates a copy of this container.
+     *
+     * @return  A copy of this container.
+     */
+    @NotNull()
+    abstract Container duplicate();
+
+
+
+    /**
+     * Retrieves the bit set words that represent the values in this
+     * container.  The returned array may be altered by the caller.
+     *
+     * @return  The bit set words that represent the values in this container.
+     */
+    @NotNull()
+    abstract long[] toWords();
+
+
+
+    /**
+     * Writes the values held in this container to the provided array.
+     *
+     * @param  high    The upper 16 bits to include in each value.
+     * @param  values  The array to which the values should be written.
+     * @param  pos     The position at which to write the first value.
+     *
+     * @return  The position after the last value that was written.
+     */
+    abstract int fill(int high, @NotNull int[] values, int pos);
+
+
+
+    /**
+     * Creates a container with the values held in both this container and
+     * the provided container.
+     *
+     * @param  c  The container to intersect with this container.
+     *
+     * @return  The resulting container, or {@code null} if it would be
+     *          empty.
+     */
+    @Nullable()
+    abstract Container and(@NotNull Container c);
+
+
+
+    /**
+     * Creates a container with the values held in this container but not in
+     * the provided container.
+     *
+     * @param  c  The container with the values to exclude.
+     *
+     * @return  The resulting container, or {@code null} if it would be
+     *          empty.
+     */
+    @Nullable()
+    abstract Container andNot(@NotNull Container c);
+
+
+
+    /**
+     * Creates a container with the values held in either this container or
+     * the provided container.
+     *
+     * @param  c  The container to merge with this container.
+     *
+     * @return  The resulting container.
+     */
+    @NotNull()
+    Container or(@NotNull final Container c)
+    {
+      final long[] words = toWords();
+      if (c instanceof BitSetContainer)
+      {
+        final long[] otherWords = ((BitSetContainer) c).words;
+        for (int i=0; i < words.length; i++)
+        {
+          words[i] |= otherWords[i];
+        }
+      }
+      else
+      {
+        final ArrayContainer a = (ArrayContainer) c;
+        for (int i=0; i < a.cardinality; i++)
+        {
+          final char v = a.values[i];
+          words[v >>> 6] |= (1L << v);
+        }
+      }
+
+      return fromWords(words);
+    }
+  }
+
+
+
+  /**
+   * This class provides a container that holds a sorted array of values.
+   */
+  private static final class ArrayContainer
+          extends Container
+  {
+    // The sorted values held in this container.  Only the first cardinality
+    // elements are used.
+    @NotNull private char[] values;
+
+
+
+    /**
+     * Creates a new empty array container with the specified capacity.
+     *
+     * @param  capacity  The initial capacity for the container.
+     */
+    private ArrayContainer(final int capacity)
+    {
+      values = new char[capacity];
+      cardinality = 0;
+    }
+
+
+
+    /**
+     * Creates a new array container with the provided values.
+     *
+     * @param  values       The sorted values for the container.
+     * @param  cardinality  The number of values to use from the array.
+     */
+    private ArrayContainer(@NotNull final char[] values, final int cardinality)
+    {
+      this.values = values;
+      this.cardinality = cardinality;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    @NotNull()
+    Container add(final char value)
+    {
+      int pos = Arrays.binarySearch(values, 0, cardinality, value);
+      if (pos >= 0)
+      {
+        return this;
+      }
+
+      if (cardinality >= MAX_ARRAY_CONTAINER_SIZE)
+      {
+        final long[] words = toWords();
+        words[value >>> 6] |= (1L << value);
+        return new BitSetContainer(words, (cardinality + 1));
+      }
+
+      pos = -(pos + 1);
+      if (cardinality == values.length)
+      {
+        values = Arrays.copyOf(values, Math.min(MAX_ARRAY_CONTAINER_SIZE,
+             Math.max(4, (values.length * 2))));
+      }
+
+      System.arraycopy(values, pos, values, pos + 1, cardinality - pos);
+      values[pos] = value;
+      cardinality++;
+      return this;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    @NotNull()
+    Container remove(final char value)
+    {
+      final int pos = Arrays.binarySearch(values, 0, cardinality, value);
+      if (pos >= 0)
+      {
+        System.arraycopy(values, pos + 1, values, pos, cardinality - pos - 1);
+        cardinality--;
+      }
+
+      return this;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    boolean contains(final char value)
+    {
+      return (Arrays.binarySearch(values, 0, cardinality, value) >= 0);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    @NotNull()
+    Container duplicate()
+    {
+      return new ArrayContainer(Arrays.copyOf(values, cardinality),
+           cardinality);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    @NotNull()
+    long[] toWords()
+    {
+      final long[] words = new long[BIT_SET_CONTAINER_WORDS];
+      for (int i=0; i < cardinality; i++)
+      {
+        final char v = values[i];
+        words[v >>> 6] |= (1L << v);
+      }
+
+      return words;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    int fill(final int high, @NotNull final int[] values, final int pos)
+    {
+      int p = pos;
+      for (int i=0; i < cardinality; i++)
+      {
+        values[p++] = high | this.values[i];
+      }
+
+      return p;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    @Nullable()
+    Container and(@NotNull final Container c)
+    {
+      final char[] result = new char[Math.min(cardinality, c.cardinality)];
+      int count = 0;
+      if (c instanceof ArrayContainer)
+      {
+        final ArrayContainer a = (ArrayContainer) c;
+        int pos1 = 0;
+        int pos2 = 0;
+        while ((pos1 < cardinality) && (pos2 < a.cardinality))
+        {
+          final char v1 = values[pos1];
+          final char v2 = a.values[pos2];
+          if (v1 < v2)
+          {
+            pos1++;
+          }
+          else if (v1 > v2)
+          {
+            pos2++;
+          }
+          else
+          {
+            result[count++] = v1;
+            pos1++;
+            pos2++;
+          }
+        }
+      }
+      else
+      {
+        for (int i=0; i < cardinality; i++)
+        {
+          if (c.contains(values[i]))
+          {
+            result[count++] = values[i];
+          }
+        }
+      }
+
+      if (count == 0)
+      {
+        return null;
+      }
+      else
+      {
+        return new ArrayContainer(result, count);
+      }
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    @Nullable()
+    Container andNot(@NotNull final Container c)
+    {
+      final char[] result = new char[cardinality];
+      int count = 0;
+      for (int i=0; i < cardinality; i++)
+      {
+        if (! c.contains(values[i]))
+        {
+          result[count++] = values[i];
+        }
+      }
+
+      if (count == 0)
+      {
+        return null;
+      }
+      else
+      {
+        return new ArrayContainer(result, count);
+      }
+    }
+  }
+
+
+
+  /**
+   * This class provides a container that holds a bit set with one bit for each
+   * possible value.
+   */
+  private static final class BitSetContainer
+          extends Container
+  {
+    // The words that make up the bit set.
+    @NotNull private final long[] words;
+
+
+
+    /**
+     * Creates a new bit set container with the provided words.
+     *
+     * @param  words        The words that make up the bit set.
+     * @param  cardinality  The number of bits set in the provided words.
+     */
+    private BitSetContainer(@NotNull final long[] words, final int cardinality)
+    {
+      this.words = words;
+      this.cardinality = cardinality;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    @NotNull()
+    Container add(final char value)
+    {
+      final long mask = (1L << value);
+      final int index = (value >>> 6);
+      if ((words[index] & mask) == 0L)
+      {
+        words[index] |= mask;
+        cardinality++;
+      }
+
+      return this;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    @NotNull()
+    Container remove(final char value)
+    {
+      final long mask = (1L << value);
+      final int index = (value >>> 6);
+      if ((words[index] & mask) != 0L)
+      {
+        words[index] &= (~ mask);
+        cardinality--;
+
+        if (cardinality <= MAX_ARRAY_CONTAINER_SIZE)
+        {
+          final Container c = fromWords(words);
+          if (c != null)
+          {
+            return c;
+          }
+        }
+      }
+
+      return this;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    boolean contains(final char value)
+    {
+      return ((words[value >>> 6] & (1L << value)) != 0L);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    @NotNull()
+    Container duplicate()
+    {
+      return new BitSetContainer(words.clone(), cardinality);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    @NotNull()
+    long[] toWords()
+    {
+      return words.clone();
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    int fill(final int high, @NotNull final int[] values, final int pos)
+    {
+      int p = pos;
+      for (int i=0; i < words.length; i++)
+      {
+        long w = words[i];
+        while (w != 0L)
+        {
+          values[p++] = high | ((i << 6) + Long.numberOfTrailingZeros(w));
+          w &= (w - 1L);
+        }
+      }
+
+      return p;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    @Nullable()
+    Container and(@NotNull final Container c)
+    {
+      if (c instanceof ArrayContainer)
+      {
+        return c.and(this);
+      }
+
+      final long[] otherWords = ((BitSetContainer) c).words;
+      final long[] result = new long[BIT_SET_CONTAINER_WORDS];
+      for (int i=0; i < result.length; i++)
+      {
+        result[i] = words[i] & otherWords[i];
+      }
+
+      return fromWords(result);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    @Nullable()
+    Container andNot(@NotNull final Container c)
+    {
+      final long[] result = words.clone();
+      if (c instanceof BitSetContainer)
+      {
+        final long[] otherWords = ((BitSetContainer) c).words;
+        for (int i=0; i < result.length; i++)
+        {
+          result[i] &= (~ otherWords[i]);
+        }
+      }
+      else
+      {
+        final ArrayContainer a = (ArrayContainer) c;
+        for (int i=0; i < a.cardinality; i++)
+        {
+          final char v = a.values[i];
+          result[v >>> 6] &= (~ (1L << v));
+        }
+      }
+
+      return fromWords(result);
+    }
+  }
+}
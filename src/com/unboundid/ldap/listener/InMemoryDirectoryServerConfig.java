@@ -37,6 +37,7 @@ package com.unboundid.ldap.listener;
 
 
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -164,10 +165,23 @@ public class InMemoryDirectoryServerConfig
   // The maximum size in bytes for encoded messages that the server will accept.
   private int maxMessageSizeBytes;
 
+  // The maximum number of change notifications that may be queued for any
+  // single persistent search before it is terminated.
+  private int maxQueuedChangeNotifications;
+
   // The maximum number of entries that may be returned in any single search
   // operation.
   private int maxSizeLimit;
 
+  // The number of selector threads that the listeners should use to read
+  // requests from clients, or zero if each connection should have its own
+  // thread.
+  private int numListenerSelectorThreads;
+
+  // The number of worker threads that the listeners should use to process
+  // requests read by selector threads, or zero to use a default.
+  private int numListenerWorkerThreads;
+
   // The exception handler that should be used for the listener.
   @Nullable private LDAPListenerExceptionHandler exceptionHandler;
 
@@ -201,6 +215,19 @@ public class InMemoryDirectoryServerConfig
   // The names or OIDs of the attributes for which to maintain equality indexes.
   @NotNull private final List<String> equalityIndexAttributes;
 
+  // The names or OIDs of the attributes for which to maintain presence indexes.
+  @NotNull private final List<String> presenceIndexAttributes;
+
+  // The names or OIDs of the attributes for which to maintain substring
+  // indexes.
+  @NotNull private final List<String> substringIndexAttributes;
+
+  // The names or OIDs of the attributes for which to maintain ordering indexes.
+  @NotNull private final List<String> orderingIndexAttributes;
+
+  // The directory in which the server should persist its data, if any.
+  @Nullable private File persistentDataDirectory;
+
   // A set of additional credentials that can be used for binding without
   // requiring a corresponding entry in the data set.
   @NotNull private final Map<DN,byte[]> additionalBindCredentials;
@@ -289,10 +316,17 @@ public class InMemoryDirectoryServerConfig
     maxChangeLogEntries                  = 0;
     maxConnections                       = 0;
     maxMessageSizeBytes = LDAPListenerConfig.DEFAULT_MAX_MESSAGE_SIZE_BYTES;
+    maxQueuedChangeNotifications         = 1000;
     maxSizeLimit                         = 0;
+    numListenerSelectorThreads           = 0;
+    numListenerWorkerThreads             = 0;
     exceptionHandler                     = null;
     customRootDSEAttributes              = Collections.emptyList();
     equalityIndexAttributes              = new ArrayList<>(10);
+    presenceIndexAttributes              = new ArrayList<>(10);
+    substringIndexAttributes             = new ArrayList<>(10);
+    orderingIndexAttributes              = new ArrayList<>(10);
+    persistentDataDirectory              = null;
     rootDSEEntry                         = null;
     schema                               = Schema.getDefaultStandardSchema();
     allowedOperationTypes                = EnumSet.allOf(OperationType.class);
@@ -359,6 +393,10 @@ public class InMemoryDirectoryServerConfig
          cfg.authenticationRequiredOperationTypes);
 
     equalityIndexAttributes = new ArrayList<>(cfg.equalityIndexAttributes);
+    presenceIndexAttributes = new ArrayList<>(cfg.presenceIndexAttributes);
+    substringIndexAttributes = new ArrayList<>(cfg.substringIndexAttributes);
+    orderingIndexAttributes = new ArrayList<>(cfg.orderingIndexAttributes);
+    persistentDataDirectory = cfg.persistentDataDirectory;
 
     enforceAttributeSyntaxCompliance   = cfg.enforceAttributeSyntaxCompliance;
     enforceSingleStructuralObjectClass = cfg.enforceSingleStructuralObjectClass;
@@ -369,7 +407,10 @@ public class InMemoryDirectoryServerConfig
     maxChangeLogEntries                = cfg.maxChangeLogEntries;
     maxConnections                     = cfg.maxConnections;
     maxMessageSizeBytes                = cfg.maxMessageSizeBytes;
+    maxQueuedChangeNotifications       = cfg.maxQueuedChangeNotifications;
     maxSizeLimit                       = cfg.maxSizeLimit;
+    numListenerSelectorThreads         = cfg.numListenerSelectorThreads;
+    numListenerWorkerThreads           = cfg.numListenerWorkerThreads;
     exceptionHandler                   = cfg.exceptionHandler;
     customRootDSEAttributes            = cfg.customRootDSEAttributes;
     rootDSEEntry                       = cfg.rootDSEEntry;
@@ -1305,6 +1346,126 @@ public class InMemoryDirectoryServerConfig
 
 
 
+  /**
+   * Retrieves the maximum number of change notifications that may be queued
+   * for any single persistent search or content synchronization operation.
+   * Changes are queued separately for each such operation so that a client
+   * that is slow to read them cannot delay write operations.  If a client
+   * falls so far behind that this limit is reached, then its operation will
+   * be terminated.
+   *
+   * @return  The maximum number of change notifications that may be queued
+   *          for any single persistent search or content synchronization
+   *          operation.
+   */
+  public int getMaxQueuedChangeNotifications()
+  {
+    return maxQueuedChangeNotifications;
+  }
+
+
+
+  /**
+   * Specifies the maximum number of change notifications that may be queued
+   * for any single persistent search or content synchronization operation.
+   * Changes are queued separately for each such operation so that a client
+   * that is slow to read them cannot delay write operations.  If a client
+   * falls so far behind that this limit is reached, then its operation will
+   * be terminated.  The default value is 1000.
+   *
+   * @param  maxQueuedChangeNotifications  The maximum number of change
+   *                                       notifications that may be queued
+   *                                       for any single persistent search or
+   *                                       content synchronization operation.
+   *                                       A value less than or equal to zero
+   *                                       will be treated as one.
+   */
+  public void setMaxQueuedChangeNotifications(
+                   final int maxQueuedChangeNotifications)
+  {
+    this.maxQueuedChangeNotifications =
+         Math.max(1, maxQueuedChangeNotifications);
+  }
+
+
+
+  /**
+   * Retrieves the number of selector threads that each of the server's
+   * listeners should use to read requests from clients.
+   *
+   * @return  The number of selector threads that each of the server's
+   *          listeners should use to read requests from clients, or zero if
+   *          each client connection should have its own thread.
+   */
+  public int getNumListenerSelectorThreads()
+  {
+    return numListenerSelectorThreads;
+  }
+
+
+
+  /**
+   * Specifies the number of selector threads that each of the server's
+   * listeners should use to read requests from clients.  If this is greater
+   * than zero, then requests from all clients will be read by this many
+   * threads and processed by a bounded pool of worker threads, which allows
+   * the server to support a very large number of concurrent connections.
+   * Selector threads will not be used for listeners that accept SSL-based
+   * connections.  See {@link LDAPListenerConfig#setNumSelectorThreads} for
+   * more information.
+   *
+   * @param  numListenerSelectorThreads  The number of selector threads that
+   *                                     each of the server's listeners should
+   *                                     use to read requests from clients.  A
+   *                                     value less than or equal to zero
+   *                                     indicates that each client connection
+   *                                     should have its own thread.
+   */
+  public void setNumListenerSelectorThreads(
+                   final int numListenerSelectorThreads)
+  {
+    this.numListenerSelectorThreads = Math.max(0, numListenerSelectorThreads);
+  }
+
+
+
+  /**
+   * Retrieves the number of worker threads that each of the server's listeners
+   * should use to process requests read by selector threads.
+   *
+   * @return  The number of worker threads that each of the server's listeners
+   *          should use to process requests read by selector threads, or zero
+   *          if a default based on the number of available processors should
+   *          be used.
+   */
+  public int getNumListenerWorkerThreads()
+  {
+    return numListenerWorkerThreads;
+  }
+
+
+
+  /**
+   * Specifies the number of worker threads that each of the server's listeners
+   * should use to process requests read by selector threads.  This will be
+   * ignored unless the number of listener selector threads is greater than
+   * zero.
+   *
+   * @param  numListenerWorkerThreads  The number of worker threads that each
+   *                                   of the server's listeners should use to
+   *                                   process requests read by selector
+   *                                   threads.  A value less than or equal to
+   *                                   zero indicates that a default based on
+   *                                   the number of available processors
+   *                                   should be used.
+   */
+  public void setNumListenerWorkerThreads(final int numListenerWorkerThreads)
+  {
+    this.numListenerWorkerThreads = Math.max(0, numListenerWorkerThreads);
+  }
+
+
+
   /**
    * Retrieves a list containing the names or OIDs of the attribute types for
    * which to maintain an equality index to improve the performance of certain
@@ -1365,6 +1526,232 @@ public class InMemoryDirectoryServerConfig
 
 
 
+  /**
+   * Retrieves a list containing the names or OIDs of the attribute types for
+   * which to maintain a presence index to improve the performance of certain
+   * kinds of searches.
+   *
+   * @return  A list containing the names or OIDs of the attribute types for
+   *          which to maintain a presence index to improve the performance of
+   *          certain kinds of searches, or an empty list if no presence indexes
+   *          should be created.
+   */
+  @NotNull()
+  public List<String> getPresenceIndexAttributes()
+  {
+    return presenceIndexAttributes;
+  }
+
+
+
+  /**
+   * Specifies the names or OIDs of the attribute types for which to maintain
+   * a presence index to improve the performance of certain kinds of searches.
+   *
+   * @param  presenceIndexAttributes  The names or OIDs of the attributes for
+   *                                  which to maintain a presence index to
+   *                                  improve the performance of certain kinds
+   *                                  of searches.  It may be {@code null} or
+   *                                  empty to indicate that no presence indexes
+   *                                  should be maintained.
+   */
+  public void setPresenceIndexAttributes(
+                   @Nullable final String... presenceIndexAttributes)
+  {
+    setPresenceIndexAttributes(StaticUtils.toList(presenceIndexAttributes));
+  }
+
+
+
+  /**
+   * Specifies the names or OIDs of the attribute types for which to maintain
+   * a presence index to improve the performance of certain kinds of searches.
+   *
+   * @param  presenceIndexAttributes  The names or OIDs of the attributes for
+   *                                  which to maintain a presence index to
+   *                                  improve the performance of certain kinds
+   *                                  of searches.  It may be {@code null} or
+   *                                  empty to indicate that no presence indexes
+   *                                  should be maintained.
+   */
+  public void setPresenceIndexAttributes(
+                   @Nullable final Collection<String> presenceIndexAttributes)
+  {
+    this.presenceIndexAttributes.clear();
+    if (presenceIndexAttributes != null)
+    {
+      this.presenceIndexAttributes.addAll(presenceIndexAttributes);
+    }
+  }
+
+
+
+  /**
+   * Retrieves a list containing the names or OIDs of the attribute types for
+   * which to maintain a substring index to improve the performance of certain
+   * kinds of searches.
+   *
+   * @return  A list containing the names or OIDs of the attribute types for
+   *          which to maintain a substring index to improve the performance of
+   *          certain kinds of searches, or an empty list if no substring
+   *          indexes should be created.
+   */
+  @NotNull()
+  public List<String> getSubstringIndexAttributes()
+  {
+    return substringIndexAttributes;
+  }
+
+
+
+  /**
+   * Specifies the names or OIDs of the attribute types for which to maintain
+   * a substring index to improve the performance of certain kinds of searches.
+   *
+   * @param  substringIndexAttributes  The names or OIDs of the attributes for
+   *                                   which to maintain a substring index to
+   *                                   improve the performance of certain kinds
+   *                                   of searches.  It may be {@code null} or
+   *                                   empty to indicate that no substring
+   *                                   indexes should be maintained.
+   */
+  public void setSubstringIndexAttributes(
+                   @Nullable final String... substringIndexAttributes)
+  {
+    setSubstringIndexAttributes(StaticUtils.toList(substringIndexAttributes));
+  }
+
+
+
+  /**
+   * Specifies the names or OIDs of the attribute types for which to maintain
+   * a substring index to improve the performance of certain kinds of searches.
+   *
+   * @param  substringIndexAttributes  The names or OIDs of the attributes for
+   *                                   which to maintain a substring index to
+   *                                   improve the performance of certain kinds
+   *                                   of searches.  It may be {@code null} or
+   *                                   empty to indicate that no substring
+   *                                   indexes should be maintained.
+   */
+  public void setSubstringIndexAttributes(
+                   @Nullable final Collection<String> substringIndexAttributes)
+  {
+    this.substringIndexAttributes.clear();
+    if (substringIndexAttributes != null)
+    {
+      this.substringIndexAttributes.addAll(substringIndexAttributes);
+    }
+  }
+
+
+
+  /**
+   * Retrieves a list containing the names or OIDs of the attribute types for
+   * which to maintain an ordering index to improve the performance of certain
+   * kinds of searches.
+   *
+   * @return  A list containing the names or OIDs of the attribute types for
+   *          which to maintain an ordering index to improve the performance of
+   *          certain kinds of searches, or an empty list if no ordering indexes
+   *          should be created.
+   */
+  @NotNull()
+  public List<String> getOrderingIndexAttributes()
+  {
+    return orderingIndexAttributes;
+  }
+
+
+
+  /**
+   * Specifies the names or OIDs of the attribute types for which to maintain
+   * an ordering index to improve the performance of certain kinds of searches.
+   *
+   * @param  orderingIndexAttributes  The names or OIDs of the attributes for
+   *                                  which to maintain an ordering index to
+   *                                  improve the performance of certain kinds
+   *                                  of searches.  It may be {@code null} or
+   *                                  empty to indicate that no ordering indexes
+   *                                  should be maintained.
+   */
+  public void setOrderingIndexAttributes(
+                   @Nullable final String... orderingIndexAttributes)
+  {
+    setOrderingIndexAttributes(StaticUtils.toList(orderingIndexAttributes));
+  }
+
+
+
+  /**
+   * Specifies the names or OIDs of the attribute types for which to maintain
+   * an ordering index to improve the performance of certain kinds of searches.
+   *
+   * @param  orderingIndexAttributes  The names or OIDs of the attributes for
+   *                                  which to maintain an ordering index to
+   *                                  improve the performance of certain kinds
+   *                                  of searches.  It may be {@code null} or
+   *                                  empty to indicate that no ordering indexes
+   *                                  should be maintained.
+   */
+  public void setOrderingIndexAttributes(
+                   @Nullable final Collection<String> orderingIndexAttributes)
+  {
+    this.orderingIndexAttributes.clear();
+    if (orderingIndexAttributes != null)
+    {
+      this.orderingIndexAttributes.addAll(orderingIndexAttributes);
+    }
+  }
+
+
+
+  /**
+   * Retrieves the directory in which the server should persist its data, if
+   * any.  If a persistent data directory is configured, then all changes to
+   * the data will be written to files in that directory, and any data that
+   * was previously written there will be available as soon as the server is
+   * created, without the need to import it again.
+   *
+   * @return  The directory in which the server should persist its data, or
+   *          {@code null} if the data should only be held in memory.
+   */
+  @Nullable()
+  public File getPersistentDataDirectory()
+  {
+    return persistentDataDirectory;
+  }
+
+
+
+  /**
+   * Specifies the directory in which the server should persist its data, if
+   * any.  If a persistent data directory is configured, then all changes to
+   * the data will be written to files in that directory, and any data that
+   * was previously written there will be available as soon as the server is
+   * created, without the need to import it again.  Entries that are not
+   * currently needed may be read from those files on demand rather than held
+   * in memory.
+   * <BR><BR>
+   * Only one server may use a given persistent data directory at any time,
+   * and the server should be closed with the
+   * {@link InMemoryDirectoryServer#close} method when it is no longer needed
+   * so that the directory can be used by another server.
+   *
+   * @param  persistentDataDirectory  The directory in which the server should
+   *                                  persist its data.  It will be created if
+   *                                  it does not already exist.  It may be
+   *                                  {@code null} if the data should only be
+   *                                  held in memory.
+   */
+  public void setPersistentDataDirectory(
+                   @Nullable final File persistentDataDirectory)
+  {
+    this.persistentDataDirectory = persistentDataDirectory;
+  }
+
+
+
   /**
    * Retrieves the names of the attributes for which referential integrity
    * should be maintained.  If referential integrity is to be provided and an
@@ -1950,6 +2337,67 @@ public class InMemoryDirectoryServerConfig
       buffer.append('}');
     }
 
+    if (! presenceIndexAttributes.isEmpty())
+    {
+      buffer.append(", presenceIndexAttributes={");
+
+      final Iterator<String> attrIterator = presenceIndexAttributes.iterator();
+      while (attrIterator.hasNext())
+      {
+        buffer.append('\'');
+        buffer.append(attrIterator.next());
+        buffer.append('\'');
+        if (attrIterator.hasNext())
+        {
+          buffer.append(", ");
+        }
+      }
+      buffer.append('}');
+    }
+
+    if (! substringIndexAttributes.isEmpty())
+    {
+      buffer.append(", substringIndexAttributes={");
+
+      final Iterator<String> attrIterator = substringIndexAttributes.iterator();
+      while (attrIterator.hasNext())
+      {
+        buffer.append('\'');
+        buffer.append(attrIterator.next());
+        buffer.append('\'');
+        if (attrIterator.hasNext())
+        {
+          buffer.append(", ");
+        }
+      }
+      buffer.append('}');
+    }
+
+    if (! orderingIndexAttributes.isEmpty())
+    {
+      buffer.append(", orderingIndexAttributes={");
+
+      final Iterator<String> attrIterator = orderingIndexAttributes.iterator();
+      while (attrIterator.hasNext())
+      {
+        buffer.append('\'');
+        buffer.append(attrIterator.next());
+        buffer.append('\'');
+        if (attrIterator.hasNext())
+        {
+          buffer.append(", ");
+        }
+      }
+      buffer.append('}');
+    }
+
+    if (persistentDataDirectory != null)
+    {
+      buffer.append(", persistentDataDirectory='");
+      buffer.append(persistentDataDirectory.getAbsolutePath());
+      buffer.append('\'');
+    }
+
     if (! referentialIntegrityAttributes.isEmpty())
     {
       buffer.append(", referentialIntegrityAttributes={");
@@ -1984,6 +2432,16 @@ public class InMemoryDirectoryServerConfig
     buffer.append(maxMessageSizeBytes);
     buffer.append(", maxSizeLimit=");
     buffer.append(maxSizeLimit);
+    buffer.append(", maxQueuedChangeNotifications=");
+    buffer.append(maxQueuedChangeNotifications);
+
+    if (numListenerSelectorThreads > 0)
+    {
+      buffer.append(", numListenerSelectorThreads=");
+      buffer.append(numListenerSelectorThreads);
+      buffer.append(", numListenerWorkerThreads=");
+      buffer.append(numListenerWorkerThreads);
+    }
 
     if (! extendedOperationHandlers.isEmpty())
     {
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a mapping between the DNs of the entries held in the
+ * in-memory directory server and dense integer entry IDs.  Attribute indexes
+ * identify entries by ID so that candidate sets can be held in compressed
+ * bitmaps, and IDs are only resolved back to DNs for the final candidates of
+ * a search.  The IDs of deleted entries are reused so that the range of IDs
+ * in use stays close to the number of entries.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class InMemoryDirectoryServerEntryIDMap
+{
+  // The set of all entry IDs currently in use.
+  @NotNull private final InMemoryDirectoryServerBitmap allIDs;
+
+  // The entry IDs that have been released and may be reused.
+  @NotNull private final InMemoryDirectoryServerBitmap freeIDs;
+
+  // The DN for each entry ID, with null elements for IDs not in use.
+  @NotNull private final ArrayList<DN> dnsByID;
+
+  // The entry ID for each DN.
+  @NotNull private final Map<DN,Integer> idsByDN;
+
+
+
+  /**
+   * Creates a new empty entry ID map.
+   */
+  InMemoryDirectoryServerEntryIDMap()
+  {
+    allIDs = new InMemoryDirectoryServerBitmap();
+    freeIDs = new InMemoryDirectoryServerBitmap();
+    dnsByID = new ArrayList<>(100);
+    idsByDN = new HashMap<>(100);
+  }
+
+
+
+  /**
+   * Assigns an entry ID to the provided DN.  If the DN already has an ID, then
+   * that ID will be returned.
+   *
+   * @param  dn  The DN for which to assign an entry ID.  It must not be
+   *             {@code null}.
+   *
+   * @return  The entry ID for the provided DN.
+   */
+  synchronized int assignID(@NotNull final DN dn)
+  {
+    final Integer existingID = idsByDN.get(dn);
+    if (existingID != null)
+    {
+      return existingID;
+    }
+
+    final int id;
+    if (freeIDs.isEmpty())
+    {
+      id = dnsByID.size();
+      dnsByID.add(dn);
+    }
+    else
+    {
+      id = freeIDs.toArray()[0];
+      freeIDs.remove(id);
+      dnsByID.set(id, dn);
+    }
+
+    idsByDN.put(dn, id);
+    allIDs.add(id);
+    return id;
+  }
+
+
+
+  /**
+   * Releases the entry ID assigned to the provided DN so that it may be reused.
+   *
+   * @param  dn  The DN for which to release the entry ID.  It must not be
+   *             {@code null}.
+   *
+   * @return  The entry ID that was released, or -1 if the DN did not have an
+   *          entry ID.
+   */
+  synchronized int releaseID(@NotNull final DN dn)
+  {
+    final Integer id = idsByDN.remove(dn);
+    if (id == null)
+    {
+      return -1;
+    }
+
+    dnsByID.set(id, null);
+    allIDs.remove(id);
+    freeIDs.add(id);
+    return id;
+  }
+
+
+
+  /**
+   * Retrieves the entry ID for the provided DN.
+   *
+   * @param  dn  The DN for which to retrieve the entry ID.  It must not be
+   *             {@code null}.
+   *
+   * @return  The entry ID for the provided DN, or -1 if the DN does not have
+   *          an entry ID.
+   */
+  synchronized int getID(@NotNull final DN dn)
+  {
+    final Integer id = idsByDN.get(dn);
+    if (id == null)
+    {
+      return -1;
+    }
+    else
+    {
+      return id;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the DN for the provided entry ID.
+   *
+   * @param  id  The entry ID for which to retrieve the DN.
+   *
+   * @return  The DN for the provided entry ID, or {@code null} if the ID is not
+   *          in use.
+   */
+  @Nullable()
+  synchronized DN getDN(final int id)
+  {
+    if ((id < 0) || (id >= dnsByID.size()))
+    {
+      return null;
+    }
+    else
+    {
+      return dnsByID.get(id);
+    }
+  }
+
+
+
+  /**
+   * Retrieves a bitmap with all entry IDs currently in use.
+   *
+   * @return  A bitmap with all entry IDs currently in use.  The returned bitmap
+   *          is a copy and may be altered by the caller.
+   */
+  @NotNull()
+  synchronized InMemoryDirectoryServerBitmap getAllIDs()
+  {
+    return new InMemoryDirectoryServerBitmap(allIDs);
+  }
+
+
+
+  /**
+   * Retrieves the number of entry IDs currently in use.
+   *
+   * @return  The number of entry IDs currently in use.
+   */
+  synchronized int size()
+  {
+    return idsByDN.size();
+  }
+
+
+
+  /**
+   * Releases all entry IDs.
+   */
+  synchronized void clear()
+  {
+    allIDs.clear();
+    freeIDs.clear();
+    dnsByID.clear();
+    idsByDN.clear();
+  }
+}
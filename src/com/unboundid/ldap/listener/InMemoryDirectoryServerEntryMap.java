@@ -0,0 +1,1665 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.io.Closeable;
+import java.io.File;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServerPersistentStore.
+            RecordLocation;
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.LDAPRuntimeException;
+import com.unboundid.ldap.sdk.ReadOnlyEntry;
+import com.unboundid.ldap.sdk.schema.Schema;
+import com.unboundid.util.Debug;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a multi-version map of the entries held in an in-memory
+ * directory server, sorted by DN.  It allows any number of threads to read a
+ * consistent version of the data while a single thread makes changes to it,
+ * without readers and the writer blocking each other.
+ * <BR><BR>
+ * Changes may only be made by a thread that holds the write lock obtained
+ * from the {@link #lockWrite} method.  Only one thread may hold the write lock
+ * at any time, and all of the changes it makes become visible to readers as a
+ * single new version when the lock is released.  A thread that wants to read
+ * a consistent version of the data should use the {@link #openReadView}
+ * method, and for as long as that view is open, all of the methods of this
+ * map that are invoked by that thread will reflect the version that was
+ * current when the view was opened.  The write lock holder always sees the
+ * latest content, including its own uncommitted changes, as does any thread
+ * that does not have an open read view.
+ * <BR><BR>
+ * Each DN maps to a chain of entry versions, newest first.  Older versions
+ * are discarded once no open read view can need them.  Because indexes
+ * maintained alongside this map always reflect the latest content, a reader
+ * that uses them to find candidate entries must also consider the DNs
+ * returned by {@link #getDNsChangedSinceReadVersion}, and must use this map to
+ * obtain the version of each candidate entry that it should see.
+ * <BR><BR>
+ * The {@link #trackChanges} method may be used to obtain a change tracker
+ * that records the original version of each entry that is altered after it
+ * was created.  This allows the content of the map at that point to be
+ * determined or restored without having to copy the entire map.
+ * <BR><BR>
+ * A persistent store may be attached to the map with the
+ * {@link #openPersistentStore} method.  In that case, each version will be
+ * written to the store when it is committed, and entries held in the store
+ * will be read from it when they are needed rather than always held in
+ * memory.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class InMemoryDirectoryServerEntryMap
+       extends AbstractMap<DN,ReadOnlyEntry>
+{
+  // The most recently committed version.
+  @NotNull private volatile CommittedVersion committedVersion;
+
+  // The number of entries in the latest version, including any uncommitted
+  // changes.  This will only be accessed by the write lock holder.
+  private int latestSize;
+
+  // The version number for the changes being made by the write lock holder,
+  // or -1 if no changes have been made since the lock was acquired.  This will
+  // only be accessed by the write lock holder.
+  private long pendingVersion;
+
+  // The DNs of the entries altered in each version that may still be needed
+  // by an open read view, including the version being written.
+  @NotNull private final ConcurrentSkipListMap<Long,ConcurrentLinkedQueue<DN>>
+       changedDNs;
+
+  // The chain of entry versions for each DN, newest first.
+  @NotNull private final ConcurrentSkipListMap<DN,EntryVersion> entries;
+
+  // The change trackers that should be informed of changes to this map.
+  // Trackers that are no longer referenced elsewhere will be removed as they
+  // are encountered.  This will only be accessed by the write lock holder.
+  @NotNull private final List<WeakReference<ChangeTracker>> changeTrackers;
+
+  // The read views currently open by any thread.
+  @NotNull private final Set<ReadView> openReadViews;
+
+  // The persistent store to which changes are written, if any.
+  @Nullable private volatile InMemoryDirectoryServerPersistentStore
+       persistentStore;
+
+  // The lock that ensures only one thread can make changes at any time.
+  @NotNull private final ReentrantLock lock;
+
+  // The read view for each thread.
+  @NotNull private final ThreadLocal<ReadView> readViews;
+
+  // The write lock returned to the thread that holds the lock.
+  @NotNull private final WriteLock writeLock;
+
+
+
+  /**
+   * Creates a new empty entry map.
+   */
+  InMemoryDirectoryServerEntryMap()
+  {
+    committedVersion = new CommittedVersion(0L, 0);
+    latestSize = 0;
+    pendingVersion = -1L;
+    changedDNs = new ConcurrentSkipListMap<>();
+    entries = new ConcurrentSkipListMap<>();
+    changeTrackers = new ArrayList<>(5);
+    openReadViews =
+         Collections.newSetFromMap(new ConcurrentHashMap<ReadView,Boolean>());
+    lock = new ReentrantLock();
+    readViews = new ThreadLocal<>();
+    writeLock = new WriteLock(this);
+    persistentStore = null;
+  }
+
+
+
+  /**
+   * Opens the persistent store in the specified directory and makes the
+   * entries that it holds available in this map.  All subsequent changes to
+   * this map will be written to the store.  The map must be empty, and the
+   * current thread must hold the write lock.
+   *
+   * @param  directory  The directory that holds the persistent store.
+   * @param  schema     The schema to use when creating entries and DNs read
+   *                    from the store.  It may be {@code null} if no schema
+   *                    should be used.
+   *
+   * @throws  LDAPException  If a problem occurs while opening the store.
+   */
+  void openPersistentStore(@NotNull final File directory,
+                           @Nullable final Schema schema)
+       throws LDAPException
+  {
+    ensureWriteLockHeld();
+    if ((persistentStore != null) || (! entries.isEmpty()))
+    {
+      throw new IllegalStateException(
+           "A persistent store can only be opened for an empty entry map.");
+    }
+
+    final InMemoryDirectoryServerPersistentStore store =
+         InMemoryDirectoryServerPersistentStore.open(directory, schema);
+
+    // No read view can exist yet, so the entries can be added directly as a
+    // new committed version.
+    final long version = committedVersion.version + 1L;
+    for (final Map.Entry<DN,RecordLocation> e :
+         store.getRecoveredEntries().entrySet())
+    {
+      entries.put(e.getKey(), new StoredEntryVersion(version, store,
+           e.getKey(), e.getValue(), null, null));
+    }
+
+    latestSize = entries.size();
+    committedVersion = new CommittedVersion(version, latestSize);
+    persistentStore = store;
+  }
+
+
+
+  /**
+   * Writes an index for the persistent store, if there is one, so that it can
+   * be opened again quickly, and then closes it.  Any entries that have not
+   * already been read from the store may no longer be available, and no
+   * further changes may be made to this map.  The current thread must not
+   * have any uncommitted changes.
+   */
+  void closePersistentStore()
+  {
+    try (WriteLock l = lockWrite())
+    {
+      l.avoidCompilerWarning();
+
+      final InMemoryDirectoryServerPersistentStore store = persistentStore;
+      if (store == null)
+      {
+        return;
+      }
+
+      if (pendingVersion >= 0L)
+      {
+        throw new IllegalStateException(
+             "The persistent store cannot be closed while there are " +
+                  "uncommitted changes.");
+      }
+
+      final ArrayList<Map.Entry<DN,RecordLocation>> locations =
+           new ArrayList<>(latestSize);
+      for (final EntryVersion head : entries.values())
+      {
+        if (head instanceof StoredEntryVersion)
+        {
+          final StoredEntryVersion v = (StoredEntryVersion) head;
+          locations.add(
+               new AbstractMap.SimpleImmutableEntry<>(v.dn, v.location));
+        }
+      }
+
+      try
+      {
+        store.checkpoint(locations);
+      }
+      catch (final LDAPException le)
+      {
+        // The log is still complete, so the store can be opened again
+        // without the index.
+        Debug.debugException(le);
+      }
+
+      store.close();
+    }
+  }
+
+
+
+  /**
+   * Opens a read view for the current thread.  Until the view is closed, all
+   * of the methods of this map invoked by the current thread will reflect the
+   * most recently committed version at the time the view was opened.  If the
+   * current thread already has an open read view, then that view will
+   * continue to be used.  If the current thread holds the write lock, then the
+   * returned view will not have any effect.
+   *
+   * @return  The read view that was opened.  It must be closed when the
+   *          caller no longer needs a consistent version of the data.
+   */
+  @NotNull()
+  ReadView openReadView()
+  {
+    if (lock.isHeldByCurrentThread())
+    {
+      return ReadView.NO_OP;
+    }
+
+    ReadView view = readViews.get();
+    if (view == null)
+    {
+      view = new ReadView(this);
+      readViews.set(view);
+    }
+
+    if (view.depth > 0)
+    {
+      view.depth++;
+      return view;
+    }
+
+    // Register the view before reading from it so that the writer won't
+    // discard any entry versions it needs.  If a new version was committed
+    // between reading the version number and registering, then the writer
+    // may not have seen the registration, so try again.
+    while (true)
+    {
+      final CommittedVersion v = committedVersion;
+      view.version = v.version;
+      view.size = v.size;
+      openReadViews.add(view);
+      if (committedVersion == v)
+      {
+        break;
+      }
+
+      openReadViews.remove(view);
+    }
+
+    view.depth = 1;
+    return view;
+  }
+
+
+
+  /**
+   * Acquires the write lock for this map, waiting if necessary for another
+   * thread to release it.  The lock is reentrant, and all changes made while
+   * it is held will be committed as a single version when the outermost lock
+   * is released.
+   *
+   * @return  The write lock that was acquired.  It must be closed to commit
+   *          the changes and release the lock.
+   */
+  @NotNull()
+  WriteLock lockWrite()
+  {
+    lock.lock();
+    return writeLock;
+  }
+
+
+
+  /**
+   * Creates a change tracker that will record the original version of each
+   * entry altered after this point, so that the current content of this map
+   * can later be determined or restored.  The current thread must hold the
+   * write lock.
+   * <BR><BR>
+   * The tracker will be informed of changes for as long as it remains
+   * referenced by the caller, so callers should not retain trackers that are
+   * no longer needed.
+   *
+   * @return  The change tracker that was created.
+   */
+  @NotNull()
+  ChangeTracker trackChanges()
+  {
+    ensureWriteLockHeld();
+
+    final ChangeTracker tracker = new ChangeTracker(this);
+    changeTrackers.add(new WeakReference<>(tracker));
+    return tracker;
+  }
+
+
+
+  /**
+   * Ensures that the current thread holds the write lock.
+   *
+   * @throws  IllegalStateException  If the current thread does not hold the
+   *                                 write lock.
+   */
+  private void ensureWriteLockHeld()
+  {
+    if (! lock.isHeldByCurrentThread())
+    {
+      throw new IllegalStateException(
+           "The entry map write lock is not held by the current thread.");
+    }
+  }
+
+
+
+  /**
+   * Retrieves the read view that is open for the current thread, if any.
+   *
+   * @return  The read view that is open for the current thread, or
+   *          {@code null} if the current thread does not have an open read
+   *          view or holds the write lock.
+   */
+  @Nullable()
+  private ReadView getActiveReadView()
+  {
+    if (lock.isHeldByCurrentThread())
+    {
+      return null;
+    }
+
+    final ReadView view = readViews.get();
+    if ((view == null) || (view.depth == 0))
+    {
+      return null;
+    }
+
+    return view;
+  }
+
+
+
+  /**
+   * Retrieves the version from the provided chain that should be visible to
+   * the current thread.
+   *
+   * @param  head  The newest entry version in the chain.  It may be
+   *               {@code null} if there is no chain.
+   * @param  view  The read view for the current thread, or {@code null} if the
+   *               latest version should be used.
+   *
+   * @return  The version that should be visible to the current thread, or
+   *          {@code null} if there is no such version.
+   */
+  @Nullable()
+  private static EntryVersion getVisibleVersion(
+                                   @Nullable final EntryVersion head,
+                                   @Nullable final ReadView view)
+  {
+    if (view == null)
+    {
+      return head;
+    }
+
+    EntryVersion v = head;
+    while ((v != null) && (v.version > view.version))
+    {
+      v = v.previous;
+    }
+
+    return v;
+  }
+
+
+
+  /**
+   * Retrieves the entry from the provided chain that should be visible to the
+   * current thread.
+   *
+   * @param  head  The newest entry version in the chain.  It may be
+   *               {@code null} if there is no chain.
+   * @param  view  The read view for the current thread, or {@code null} if the
+   *               latest version should be used.
+   *
+   * @return  The entry that should be visible to the current thread, or
+   *          {@code null} if the entry does not exist in that version.
+   */
+  @Nullable()
+  private static ReadOnlyEntry getVisibleEntry(
+                                    @Nullable final EntryVersion head,
+                                    @Nullable final ReadView view)
+  {
+    final EntryVersion v = getVisibleVersion(head, view);
+    return (v == null) ? null : v.getEntry();
+  }
+
+
+
+  /**
+   * Retrieves the DNs of any entries that have been altered in a version that
+   * is newer than the version visible through the current thread's read view,
+   * including changes that have not yet been committed.  If the current thread
+   * does not have an open read view, then an empty set will be returned.
+   * <BR><BR>
+   * Indexes maintained alongside this map reflect the latest content, so they
+   * may not include entries that were altered after the read view was opened.
+   * This method should be called after obtaining candidates from such an
+   * index, and any DNs it returns should also be considered candidates.
+   *
+   * @return  The DNs of any entries that have been altered in a newer version,
+   *          or an empty set if there are none.
+   */
+  @NotNull()
+  Set<DN> getDNsChangedSinceReadVersion()
+  {
+    final ReadView view = getActiveReadView();
+    if (view == null)
+    {
+      return Collections.emptySet();
+    }
+
+    HashSet<DN> dnSet = null;
+    for (final ConcurrentLinkedQueue<DN> q :
+         changedDNs.tailMap(view.version, false).values())
+    {
+      if (dnSet == null)
+      {
+        dnSet = new HashSet<>();
+      }
+
+      dnSet.addAll(q);
+    }
+
+    if (dnSet == null)
+    {
+      return Collections.emptySet();
+    }
+    else
+    {
+      return dnSet;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the number of the version that is visible to the current thread.
+   * Any change to the content of this map will result in a new version with a
+   * greater number.
+   *
+   * @return  The number of the version that is visible to the current thread,
+   *          or -1 if the current thread holds the write lock and has made
+   *          changes that have not yet been committed.
+   */
+  long getReadVersion()
+  {
+    if (lock.isHeldByCurrentThread())
+    {
+      if (pendingVersion < 0L)
+      {
+        return committedVersion.version;
+      }
+      else
+      {
+        return -1L;
+      }
+    }
+
+    final ReadView view = getActiveReadView();
+    if (view == null)
+    {
+      return committedVersion.version;
+    }
+    else
+    {
+      return view.version;
+    }
+  }
+
+
+
+  /**
+   * Indicates whether an entry with the specified DN exists in the latest
+   * version of the data, including any uncommitted changes, regardless of
+   * the version visible to the current thread.
+   *
+   * @param  dn  The DN for which to make the determination.
+   *
+   * @return  {@code true} if the entry exists in the latest version, or
+   *          {@code false} if not.
+   */
+  boolean existsInLatestVersion(@NotNull final DN dn)
+  {
+    final EntryVersion head = entries.get(dn);
+    return ((head != null) && head.exists());
+  }
+
+
+
+  /**
+   * Retrieves the number of versions that are currently retained for the
+   * entry with the specified DN, including versions in which the entry did not
+   * exist.  This is only intended for internal use for testing purposes.
+   *
+   * @param  dn  The DN for which to make the determination.
+   *
+   * @return  The number of versions that are currently retained for the entry
+   *          with the specified DN.
+   */
+  @InternalUseOnly()
+  int getRetainedVersionCount(@NotNull final DN dn)
+  {
+    int count = 0;
+    EntryVersion v = entries.get(dn);
+    while (v != null)
+    {
+      count++;
+      v = v.previous;
+    }
+
+    return count;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  public ReadOnlyEntry get(@Nullable final Object key)
+  {
+    if (key == null)
+    {
+      return null;
+    }
+
+    return getVisibleEntry(entries.get(key), getActiveReadView());
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public boolean containsKey(@Nullable final Object key)
+  {
+    return (get(key) != null);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public int size()
+  {
+    final ReadView view = getActiveReadView();
+    if (view != null)
+    {
+      return view.size;
+    }
+    else if (lock.isHeldByCurrentThread())
+    {
+      return latestSize;
+    }
+    else
+    {
+      return committedVersion.size;
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public boolean isEmpty()
+  {
+    return (size() == 0);
+  }
+
+
+
+  /**
+   * Adds or replaces the entry with the specified DN.  The current thread must
+   * hold the write lock.
+   *
+   * @param  dn     The DN of the entry to add or replace.
+   * @param  entry  The entry to add or replace.
+   *
+   * @return  The entry that was previously associated with the DN, or
+   *          {@code null} if there was none.
+   */
+  @Override()
+  @Nullable()
+  public ReadOnlyEntry put(@NotNull final DN dn,
+                           @NotNull final ReadOnlyEntry entry)
+  {
+    return update(dn, entry);
+  }
+
+
+
+  /**
+   * Removes the entry with the specified DN.  The current thread must hold the
+   * write lock.
+   *
+   * @param  key  The DN of the entry to remove.
+   *
+   * @return  The entry that was previously associated with the DN, or
+   *          {@code null} if there was none.
+   */
+  @Override()
+  @Nullable()
+  public ReadOnlyEntry remove(@Nullable final Object key)
+  {
+    if (! (key instanceof DN))
+    {
+      return null;
+    }
+
+    final DN dn = (DN) key;
+    if (! existsInLatestVersion(dn))
+    {
+      return null;
+    }
+
+    return update(dn, null);
+  }
+
+
+
+  /**
+   * Removes all entries from this map.  The current thread must hold the write
+   * lock.
+   */
+  @Override()
+  public void clear()
+  {
+    for (final Map.Entry<DN,EntryVersion> e : entries.entrySet())
+    {
+      if (e.getValue().exists())
+      {
+        update(e.getKey(), null);
+      }
+    }
+  }
+
+
+
+  /**
+   * Records a new version of the entry with the specified DN as part of the
+   * pending changes.
+   *
+   * @param  dn     The DN of the entry to update.
+   * @param  entry  The new version of the entry, or {@code null} if the entry
+   *                is being removed.
+   *
+   * @return  The entry that was previously associated with the DN in the
+   *          latest version, or {@code null} if there was none.
+   */
+  @Nullable()
+  private ReadOnlyEntry update(@NotNull final DN dn,
+                               @Nullable final ReadOnlyEntry entry)
+  {
+    ensureWriteLockHeld();
+
+    if (pendingVersion < 0L)
+    {
+      pendingVersion = committedVersion.version + 1L;
+      changedDNs.put(pendingVersion, new ConcurrentLinkedQueue<DN>());
+    }
+
+    // Record the DN as changed before making the change so that a reader that
+    // obtains candidates from an index will always either see the DN in the
+    // index or in the set of changed DNs.
+    changedDNs.get(pendingVersion).add(dn);
+
+    final EntryVersion head = entries.get(dn);
+    final ReadOnlyEntry previousEntry =
+         (head == null) ? null : head.getEntry();
+
+    if (! changeTrackers.isEmpty())
+    {
+      recordOriginalEntry(dn, previousEntry);
+    }
+
+    // If the entry was already changed in the pending version, then replace
+    // that version because no reader can see it.
+    final EntryVersion previousVersion;
+    if ((head != null) && (head.version == pendingVersion))
+    {
+      previousVersion = head.previous;
+    }
+    else
+    {
+      previousVersion = head;
+    }
+
+    entries.put(dn, new EntryVersion(pendingVersion, entry, previousVersion));
+
+    if (previousEntry == null)
+    {
+      if (entry != null)
+      {
+        latestSize++;
+      }
+    }
+    else if (entry == null)
+    {
+      latestSize--;
+    }
+
+    return previousEntry;
+  }
+
+
+
+  /**
+   * Informs each change tracker of the version of an entry that existed
+   * before it is altered, and removes any trackers that are no longer
+   * referenced.  A tracker that already has an original version for the
+   * entry will keep it.
+   *
+   * @param  dn             The DN of the entry that is about to be altered.
+   * @param  previousEntry  The latest version of the entry before it is
+   *                        altered, or {@code null} if it does not exist.
+   */
+  private void recordOriginalEntry(@NotNull final DN dn,
+                                   @Nullable final ReadOnlyEntry previousEntry)
+  {
+    final Iterator<WeakReference<ChangeTracker>> iterator =
+         changeTrackers.iterator();
+    while (iterator.hasNext())
+    {
+      final ChangeTracker tracker = iterator.next().get();
+      if (tracker == null)
+      {
+        iterator.remove();
+      }
+      else if (! tracker.originalEntries.containsKey(dn))
+      {
+        tracker.originalEntries.put(dn, previousEntry);
+      }
+    }
+  }
+
+
+
+  /**
+   * Commits any pending changes as a new version and discards any entry
+   * versions that are no longer needed.  This must only be called by the
+   * write lock holder when it is about to release the lock.
+   */
+  private void commit()
+  {
+    if (pendingVersion < 0L)
+    {
+      return;
+    }
+
+    // Write the changes to the persistent store before making them visible.
+    // If that fails, then the changes will still be made visible because they
+    // have already been applied to the indexes, but the caller will be
+    // informed of the failure and the store will not accept further changes.
+    LDAPRuntimeException persistenceException = null;
+    final InMemoryDirectoryServerPersistentStore store = persistentStore;
+    if (store != null)
+    {
+      try
+      {
+        writePendingChanges(store);
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        persistenceException = new LDAPRuntimeException(le);
+      }
+    }
+
+    committedVersion = new CommittedVersion(pendingVersion, latestSize);
+    pendingVersion = -1L;
+
+
+    // Determine the oldest version that any open read view may need.  Any
+    // view opened after this point will use the version that was just
+    // committed.
+    long oldestNeededVersion = committedVersion.version;
+    for (final ReadView view : openReadViews)
+    {
+      oldestNeededVersion = Math.min(oldestNeededVersion, view.version);
+    }
+
+
+    // For each entry altered in a version that no view needs to see past,
+    // discard the versions that are older than the one visible in the oldest
+    // needed version.
+    final Iterator<Map.Entry<Long,ConcurrentLinkedQueue<DN>>> iterator =
+         changedDNs.headMap(oldestNeededVersion, true).entrySet().iterator();
+    while (iterator.hasNext())
+    {
+      for (final DN dn : iterator.next().getValue())
+      {
+        final EntryVersion head = entries.get(dn);
+        EntryVersion v = head;
+        while ((v != null) && (v.version > oldestNeededVersion))
+        {
+          v = v.previous;
+        }
+
+        if (v != null)
+        {
+          v.previous = null;
+          if ((v == head) && (! v.exists()))
+          {
+            entries.remove(dn, head);
+          }
+        }
+      }
+
+      iterator.remove();
+    }
+
+    if (persistenceException != null)
+    {
+      throw persistenceException;
+    }
+  }
+
+
+
+  /**
+   * Writes the pending changes to the provided persistent store and commits
+   * them, and then replaces the pending version of each entry that was written
+   * with one that can be read from the store when it is needed.  This must only
+   * be called by the write lock holder.
+   *
+   * @param  store  The persistent store to which the changes are written.
+   *
+   * @throws  LDAPException  If a problem occurs while writing the changes.
+   */
+  private void writePendingChanges(
+                    @NotNull final InMemoryDirectoryServerPersistentStore store)
+          throws LDAPException
+  {
+    final Set<DN> dnSet = new HashSet<>(changedDNs.get(pendingVersion));
+    final ArrayList<StoredEntryVersion> storedVersions =
+         new ArrayList<>(dnSet.size());
+    for (final DN dn : dnSet)
+    {
+      final EntryVersion head = entries.get(dn);
+      final EntryVersion previous = head.previous;
+      final RecordLocation previousLocation;
+      if (previous instanceof StoredEntryVersion)
+      {
+        previousLocation = ((StoredEntryVersion) previous).location;
+      }
+      else
+      {
+        previousLocation = null;
+      }
+
+      if (head.exists())
+      {
+        final ReadOnlyEntry entry = head.getEntry();
+        final RecordLocation location =
+             store.appendPut(dn, entry, previousLocation);
+        storedVersions.add(new StoredEntryVersion(head.version, store, dn,
+             location, entry, previous));
+      }
+      else if (previousLocation != null)
+      {
+        store.appendDelete(dn, previousLocation);
+      }
+    }
+
+    store.commit();
+
+    for (final StoredEntryVersion v : storedVersions)
+    {
+      entries.put(v.dn, v);
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public Set<Map.Entry<DN,ReadOnlyEntry>> entrySet()
+  {
+    return new EntrySet(this);
+  }
+
+
+
+  /**
+   * This class provides a data structure that holds information about a
+   * committed version.
+   */
+  private static final class CommittedVersion
+  {
+    // The number of entries in the version.
+    private final int size;
+
+    // The version number.
+    private final long version;
+
+
+
+    /**
+     * Creates a new committed version with the provided information.
+     *
+     * @param  version  The version number.
+     * @param  size     The number of entries in the version.
+     */
+    private CommittedVersion(final long version, final int size)
+    {
+      this.version = version;
+      this.size = size;
+    }
+  }
+
+
+
+  /**
+   * This class provides a data structure that holds a single version of an
+   * entry in a chain of versions.
+   */
+  private static class EntryVersion
+  {
+    // The version number in which this entry version was created.
+    private final long version;
+
+    // The entry, or null if the entry does not exist in this version.
+    @Nullable private final ReadOnlyEntry entry;
+
+    // The next older version of the entry, if it is still needed.
+    @Nullable private volatile EntryVersion previous;
+
+
+
+    /**
+     * Creates a new entry version with the provided information.
+     *
+     * @param  version   The version number in which this entry version was
+     *                   created.
+     * @param  entry     The entry, or {@code null} if the entry does not exist
+     *                   in this version.
+     * @param  previous  The next older version of the entry, if any.
+     */
+    private EntryVersion(final long version,
+                         @Nullable final ReadOnlyEntry entry,
+                         @Nullable final EntryVersion previous)
+    {
+      this.version = version;
+      this.entry = entry;
+      this.previous = previous;
+    }
+
+
+
+    /**
+     * Indicates whether the entry exists in this version.
+     *
+     * @return  {@code true} if the entry exists in this version, or
+     *          {@code false} if not.
+     */
+    boolean exists()
+    {
+      return (entry != null);
+    }
+
+
+
+    /**
+     * Retrieves the entry for this version.
+     *
+     * @return  The entry for this version, or {@code null} if the entry does
+     *          not exist in this version.
+     */
+    @Nullable()
+    ReadOnlyEntry getEntry()
+    {
+      return entry;
+    }
+  }
+
+
+
+  /**
+   * This class provides a data structure that holds a version of an entry
+   * that has been written to a persistent store.  The entry will be read from
+   * the store when it is needed, and may be retained in memory until the
+   * memory is needed for something else.
+   */
+  private static final class StoredEntryVersion
+          extends EntryVersion
+  {
+    // The DN of the entry.
+    @NotNull private final DN dn;
+
+    // The persistent store that holds the entry.
+    @NotNull private final InMemoryDirectoryServerPersistentStore store;
+
+    // The location of the entry in the persistent store.
+    @NotNull private final RecordLocation location;
+
+    // A reference to the entry, if it has been read from the store or was
+    // available when this version was created.
+    @Nullable private volatile SoftReference<ReadOnlyEntry> entryReference;
+
+
+
+    /**
+     * Creates a new stored entry version with the provided information.
+     *
+     * @param  version   The version number in which this entry version was
+     *                   created.
+     * @param  store     The persistent store that holds the entry.
+     * @param  dn        The DN of the entry.
+     * @param  location  The location of the entry in the persistent store.
+     * @param  entry     The entry, if it is available.
+     * @param  previous  The next older version of the entry, if any.
+     */
+    private StoredEntryVersion(final long version,
+                 @NotNull final InMemoryDirectoryServerPersistentStore store,
+                 @NotNull final DN dn, @NotNull final RecordLocation location,
+                 @Nullable final ReadOnlyEntry entry,
+                 @Nullable final EntryVersion previous)
+    {
+      super(version, null, previous);
+
+      this.store = store;
+      this.dn = dn;
+      this.location = location;
+
+      if (entry == null)
+      {
+        entryReference = null;
+      }
+      else
+      {
+        entryReference = new SoftReference<>(entry);
+      }
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    boolean exists()
+    {
+      return true;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws  LDAPRuntimeException  If the entry cannot be read from the
+     *                                persistent store.
+     */
+    @Override()
+    @NotNull()
+    ReadOnlyEntry getEntry()
+    {
+      final SoftReference<ReadOnlyEntry> reference = entryReference;
+      if (reference != null)
+      {
+        final ReadOnlyEntry entry = reference.get();
+        if (entry != null)
+        {
+          return entry;
+        }
+      }
+
+      try
+      {
+        final ReadOnlyEntry entry = store.readEntry(dn, location);
+        entryReference = new SoftReference<>(entry);
+        return entry;
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        throw new LDAPRuntimeException(le);
+      }
+    }
+  }
+
+
+
+  /**
+   * This class provides a set view of the entries that are visible to the
+   * thread that iterates over it, in order of DN.
+   */
+  private static final class EntrySet
+          extends AbstractSet<Map.Entry<DN,ReadOnlyEntry>>
+  {
+    // The entry map with which this set is associated.
+    @NotNull private final InMemoryDirectoryServerEntryMap map;
+
+
+
+    /**
+     * Creates a new entry set for the provided map.
+     *
+     * @param  map  The entry map with which this set is associated.
+     */
+    private EntrySet(@NotNull final InMemoryDirectoryServerEntryMap map)
+    {
+      this.map = map;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public int size()
+    {
+      return map.size();
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    @NotNull()
+    public Iterator<Map.Entry<DN,ReadOnlyEntry>> iterator()
+    {
+      final ReadView view = map.getActiveReadView();
+      final Iterator<Map.Entry<DN,EntryVersion>> chainIterator =
+           map.entries.entrySet().iterator();
+
+      return new Iterator<Map.Entry<DN,ReadOnlyEntry>>()
+      {
+        // The next entry to return.
+        @Nullable private Map.Entry<DN,ReadOnlyEntry> next = findNext();
+
+
+
+        /**
+         * Finds the next entry that is visible to the iterating thread.
+         *
+         * @return  The next entry that is visible to the iterating thread, or
+         *          {@code null} if there are no more entries.
+         */
+        @Nullable()
+        private Map.Entry<DN,ReadOnlyEntry> findNext()
+        {
+          while (chainIterator.hasNext())
+          {
+            final Map.Entry<DN,EntryVersion> e = chainIterator.next();
+            final EntryVersion v = getVisibleVersion(e.getValue(), view);
+            if ((v != null) && v.exists())
+            {
+              return new VersionMapEntry(e.getKey(), v);
+            }
+          }
+
+          return null;
+        }
+
+
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override()
+        public boolean hasNext()
+        {
+          return (next != null);
+        }
+
+
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override()
+        @NotNull()
+        public Map.Entry<DN,ReadOnlyEntry> next()
+        {
+          if (next == null)
+          {
+            throw new NoSuchElementException();
+          }
+
+          final Map.Entry<DN,ReadOnlyEntry> e = next;
+          next = findNext();
+          return e;
+        }
+      };
+    }
+  }
+
+
+
+  /**
+   * This class provides a change tracker that records the original version of
+   * each entry altered in an entry map after the tracker was created or last
+   * reset.  The original content of the map can be obtained by applying those
+   * versions on top of its latest content, and it can be restored by altering
+   * only the entries that the tracker holds.
+   */
+  static final class ChangeTracker
+  {
+    // The original version of each entry that has been altered, or null for
+    // entries that did not originally exist.  This will only be accessed by
+    // the write lock holder.
+    @NotNull private final HashMap<DN,ReadOnlyEntry> originalEntries;
+
+    // The entry map with which this tracker is associated.
+    @NotNull private final InMemoryDirectoryServerEntryMap map;
+
+
+
+    /**
+     * Creates a new change tracker for the provided map.
+     *
+     * @param  map  The entry map with which this tracker is associated.
+     */
+    private ChangeTracker(@NotNull final InMemoryDirectoryServerEntryMap map)
+    {
+      this.map = map;
+      originalEntries = new HashMap<>();
+    }
+
+
+
+    /**
+     * Indicates whether this tracker is associated with the provided map.
+     *
+     * @param  m  The entry map for which to make the determination.
+     *
+     * @return  {@code true} if this tracker is associated with the provided
+     *          map, or {@code false} if not.
+     */
+    boolean isTracking(@NotNull final InMemoryDirectoryServerEntryMap m)
+    {
+      return (map == m);
+    }
+
+
+
+    /**
+     * Retrieves the original version of each entry that has been altered since
+     * this tracker was created or last reset.  The current thread must hold
+     * the write lock for the associated map.
+     *
+     * @return  An unmodifiable map of the original version of each entry that
+     *          has been altered, with a {@code null} value for any entry that
+     *          did not originally exist.
+     */
+    @NotNull()
+    Map<DN,ReadOnlyEntry> getOriginalEntries()
+    {
+      map.ensureWriteLockHeld();
+      return Collections.unmodifiableMap(originalEntries);
+    }
+
+
+
+    /**
+     * Retrieves the content that the associated map had when this tracker was
+     * created or last reset.
+     *
+     * @return  A map of the entries that the associated map had when this
+     *          tracker was created or last reset, sorted by DN.
+     */
+    @NotNull()
+    TreeMap<DN,ReadOnlyEntry> getOriginalContent()
+    {
+      try (WriteLock lock = map.lockWrite())
+      {
+        lock.avoidCompilerWarning();
+
+        final TreeMap<DN,ReadOnlyEntry> m = new TreeMap<>(map);
+        for (final Map.Entry<DN,ReadOnlyEntry> e : originalEntries.entrySet())
+        {
+          if (e.getValue() == null)
+          {
+            m.remove(e.getKey());
+          }
+          else
+          {
+            m.put(e.getKey(), e.getValue());
+          }
+        }
+
+        return m;
+      }
+    }
+
+
+
+    /**
+     * Discards all of the original entry versions held by this tracker, so
+     * that the latest content of the associated map becomes its original
+     * content.  The current thread must hold the write lock for the
+     * associated map.
+     */
+    void reset()
+    {
+      map.ensureWriteLockHeld();
+      originalEntries.clear();
+    }
+  }
+
+
+
+  /**
+   * This class provides a map entry for a version of an entry.  The entry
+   * will not be read from a persistent store unless it is needed, so that the
+   * DNs of the entries in the map may be iterated without reading the entries
+   * themselves.
+   */
+  private static final class VersionMapEntry
+         implements Map.Entry<DN,ReadOnlyEntry>
+  {
+    // The DN of the entry.
+    @NotNull private final DN dn;
+
+    // The version of the entry.
+    @NotNull private final EntryVersion version;
+
+
+
+    /**
+     * Creates a new map entry with the provided information.
+     *
+     * @param  dn       The DN of the entry.
+     * @param  version  The version of the entry.  The entry must exist in this
+     *                  version.
+     */
+    private VersionMapEntry(@NotNull final DN dn,
+                            @NotNull final EntryVersion version)
+    {
+      this.dn = dn;
+      this.version = version;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    @NotNull()
+    public DN getKey()
+    {
+      return dn;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    @NotNull()
+    public ReadOnlyEntry getValue()
+    {
+      return version.getEntry();
+    }
+
+
+
+    /**
+     * {@inheritDoc}  This method will always throw an
+     * {@code UnsupportedOperationException}.
+     *
+     * @throws  UnsupportedOperationException  To indicate that the entry
+     *                                         cannot be altered.
+     */
+    @Override()
+    @NotNull()
+    public ReadOnlyEntry setValue(@Nullable final ReadOnlyEntry value)
+           throws UnsupportedOperationException
+    {
+      throw new UnsupportedOperationException();
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public int hashCode()
+    {
+      return dn.hashCode() ^ getValue().hashCode();
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public boolean equals(@Nullable final Object o)
+    {
+      if (! (o instanceof Map.Entry))
+      {
+        return false;
+      }
+
+      final Map.Entry<?,?> e = (Map.Entry<?,?>) o;
+      return (dn.equals(e.getKey()) && getValue().equals(e.getValue()));
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    @NotNull()
+    public String toString()
+    {
+      return dn + "=" + getValue();
+    }
+  }
+
+
+
+  /**
+   * This class provides a read view that allows a thread to see a consistent
+   * version of the data in an entry map.  Read views are not shared between
+   * threads, and closing a view has no effect unless it is the outermost view
+   * opened by the thread.
+   */
+  static final class ReadView
+         implements Closeable
+  {
+    /**
+     * A read view that does not have any effect, which is used for threads
+     * that hold the write lock.
+     */
+    @NotNull static final ReadView NO_OP = new ReadView(null);
+
+
+
+    // The number of times the view has been opened and not yet closed.
+    private int depth;
+
+    // The number of entries in the version visible through this view.
+    private int size;
+
+    // The version visible through this view.
+    private volatile long version;
+
+    // The entry map with which this view is associated.
+    @Nullable private final InMemoryDirectoryServerEntryMap map;
+
+
+
+    /**
+     * Creates a new read view for the provided map.
+     *
+     * @param  map  The entry map with which this view is associated, or
+     *              {@code null} for a view that does not have any effect.
+     */
+    private ReadView(@Nullable final InMemoryDirectoryServerEntryMap map)
+    {
+      this.map = map;
+      depth = 0;
+      size = 0;
+      version = 0L;
+    }
+
+
+
+    /**
+     * Closes this read view if it is the outermost view opened by the current
+     * thread, which allows older entry versions that it may have needed to be
+     * discarded.
+     */
+    @Override()
+    public void close()
+    {
+      if ((map == null) || (depth == 0))
+      {
+        return;
+      }
+
+      depth--;
+      if (depth == 0)
+      {
+        map.openReadViews.remove(this);
+      }
+    }
+
+
+
+    /**
+     * This method does nothing.  However, calling it inside a
+     * try-with-resources block when the read view is otherwise not referenced
+     * will allow the compiler to avoid complaining about an unused resource.
+     */
+    void avoidCompilerWarning()
+    {
+      // No implementation is required.
+    }
+  }
+
+
+
+  /**
+   * This class provides a write lock that allows a single thread at a time to
+   * make changes to an entry map.
+   */
+  static final class WriteLock
+         implements Closeable
+  {
+    // The entry map with which this lock is associated.
+    @NotNull private final InMemoryDirectoryServerEntryMap map;
+
+
+
+    /**
+     * Creates a new write lock for the provided map.
+     *
+     * @param  map  The entry map with which this lock is associated.
+     */
+    private WriteLock(@NotNull final InMemoryDirectoryServerEntryMap map)
+    {
+      this.map = map;
+    }
+
+
+
+    /**
+     * Releases this write lock.  If this is the outermost lock held by the
+     * current thread, then any changes made while it was held will be
+     * committed as a new version.
+     *
+     * @throws  LDAPRuntimeException  If the changes could not be written to
+     *                                the persistent store.  The lock will
+     *                                still be released, and the changes will
+     *                                still be visible in memory.
+     */
+    @Override()
+    public void close()
+    {
+      try
+      {
+        if (map.lock.getHoldCount() == 1)
+        {
+          map.commit();
+        }
+      }
+      finally
+      {
+        map.lock.unlock();
+      }
+    }
+
+
+
+    /**
+     * This method does nothing.  However, calling it inside a
+     * try-with-resources block when the write lock is otherwise not
+     * referenced will allow the compiler to avoid complaining about an unused
+     * resource.
+     */
+    void avoidCompilerWarning()
+    {
+      // No implementation is required.
+    }
+  }
+}
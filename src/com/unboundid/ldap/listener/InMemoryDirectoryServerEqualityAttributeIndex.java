@@ -40,13 +40,10 @@ package com.unboundid.ldap.listener;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
-import java.util.TreeSet;
 
 import com.unboundid.asn1.ASN1OctetString;
 import com.unboundid.ldap.matchingrules.MatchingRule;
 import com.unboundid.ldap.sdk.Attribute;
-import com.unboundid.ldap.sdk.DN;
 import com.unboundid.ldap.sdk.Entry;
 import com.unboundid.ldap.sdk.LDAPException;
 import com.unboundid.ldap.sdk.ResultCode;
@@ -70,12 +67,14 @@ import static com.unboundid.ldap.listener.ListenerMessages.*;
 @Mutable()
 @ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
 final class InMemoryDirectoryServerEqualityAttributeIndex
+       extends InMemoryDirectoryServerAttributeIndex
 {
   // The attribute type with which this index is associated.
   @NotNull private final AttributeTypeDefinition attributeType;
 
-  // A map from normalized values to the DNs of entries with those values.
-  @NotNull private final Map<ASN1OctetString,TreeSet<DN>> indexMap;
+  // A map from normalized values to the IDs of entries with those values.
+  @NotNull private final Map<ASN1OctetString,InMemoryDirectoryServerBitmap>
+       indexMap;
 
   // The matching rule used to normalize values.
   @NotNull private final MatchingRule matchingRule;
@@ -124,10 +123,9 @@ final class InMemoryDirectoryServerEqualityAttributeIndex
 
 
   /**
-   * Retrieves the attribute type definition for this index.
-   *
-   * @return  The attribute type definition for this index.
+   * {@inheritDoc}
    */
+  @Override()
   @NotNull()
   AttributeTypeDefinition getAttributeType()
   {
@@ -137,8 +135,9 @@ final class InMemoryDirectoryServerEqualityAttributeIndex
 
 
   /**
-   * Clears all index data for the associated attribute.
+   * {@inheritDoc}
    */
+  @Override()
   synchronized void clear()
   {
     indexMap.clear();
@@ -154,13 +153,14 @@ final class InMemoryDirectoryServerEqualityAttributeIndex
    */
   @InternalUseOnly()
   @NotNull()
-  synchronized Map<ASN1OctetString,TreeSet<DN>> copyMap()
+  synchronized Map<ASN1OctetString,InMemoryDirectoryServerBitmap> copyMap()
   {
-    final HashMap<ASN1OctetString,TreeSet<DN>> m =
+    final HashMap<ASN1OctetString,InMemoryDirectoryServerBitmap> m =
          new HashMap<>(StaticUtils.computeMapCapacity(indexMap.size()));
-    for (final Map.Entry<ASN1OctetString,TreeSet<DN>> e : indexMap.entrySet())
+    for (final Map.Entry<ASN1OctetString,InMemoryDirectoryServerBitmap> e :
+         indexMap.entrySet())
     {
-      m.put(e.getKey(), new TreeSet<>(e.getValue()));
+      m.put(e.getKey(), new InMemoryDirectoryServerBitmap(e.getValue()));
     }
 
     return Collections.unmodifiableMap(m);
@@ -169,53 +169,49 @@ final class InMemoryDirectoryServerEqualityAttributeIndex
 
 
   /**
-   * Retrieves the DNs of the entries that have the specified value for the
+   * Retrieves the IDs of the entries that have the specified value for the
    * associated attribute.
    *
-   * @param  value  The value for which to retrieve the corresponding entry DNs.
+   * @param  value  The value for which to retrieve the corresponding entry IDs.
    *
-   * @return  A set containing the DNs of the entries that have the provided
-   *          value, or an empty set if there are none.
+   * @return  A bitmap containing the IDs of the entries that have the provided
+   *          value, or an empty bitmap if there are none.  The returned bitmap
+   *          is a copy and may be altered by the caller.
    *
    * @throws  LDAPException  If a problem is encountered while attempting to
    *                         make the determination (e.g., if the given value is
    *                         not acceptable for the associated attribute type).
    */
   @NotNull()
-  synchronized Set<DN> getMatchingEntries(@NotNull final ASN1OctetString value)
+  synchronized InMemoryDirectoryServerBitmap getMatchingEntries(
+                    @NotNull final ASN1OctetString value)
                throws LDAPException
   {
-    final TreeSet<DN> dnSet = indexMap.get(matchingRule.normalize(value));
-    if (dnSet == null)
+    final InMemoryDirectoryServerBitmap idSet =
+         indexMap.get(matchingRule.normalize(value));
+    if (idSet == null)
     {
-      return Collections.emptySet();
+      return new InMemoryDirectoryServerBitmap();
     }
     else
     {
-      return Collections.unmodifiableSet(dnSet);
+      return new InMemoryDirectoryServerBitmap(idSet);
     }
   }
 
 
 
   /**
-   * Performs the necessary processing for adding the given entry.
-   *
-   * @param  entry  The entry to be added.
-   *
-   * @throws  LDAPException  If a problem is encountered (e.g., the entry has
-   *                         one or more values that are not acceptable for the
-   *                         associated attribute type).
+   * {@inheritDoc}
    */
-  synchronized void processAdd(@NotNull final Entry entry)
+  @Override()
+  synchronized void processAdd(@NotNull final Entry entry, final int entryID)
                throws LDAPException
   {
     final Attribute a =
          entry.getAttribute(attributeType.getNameOrOID(), schema);
     if (a != null)
     {
-      final DN dn = entry.getParsedDN();
-
       final ASN1OctetString[] rawValues = a.getRawValues();
       final ASN1OctetString[] normalizedValues =
            new ASN1OctetString[rawValues.length];
@@ -226,13 +222,13 @@ final class InMemoryDirectoryServerEqualityAttributeIndex
 
       for (final ASN1OctetString v : normalizedValues)
       {
-        TreeSet<DN> dnSet = indexMap.get(v);
-        if (dnSet == null)
+        InMemoryDirectoryServerBitmap idSet = indexMap.get(v);
+        if (idSet == null)
         {
-          dnSet = new TreeSet<>();
-          indexMap.put(v, dnSet);
+          idSet = new InMemoryDirectoryServerBitmap();
+          indexMap.put(v, idSet);
         }
-        dnSet.add(dn);
+        idSet.add(entryID);
       }
     }
   }
@@ -240,23 +236,17 @@ final class InMemoryDirectoryServerEqualityAttributeIndex
 
 
   /**
-   * Performs the necessary processing for deleting the given entry.
-   *
-   * @param  entry  The entry to be deleted.
-   *
-   * @throws  LDAPException  If a problem is encountered (e.g., the entry has
-   *                         one or more values that are not acceptable for the
-   *                         associated attribute type).
+   * {@inheritDoc}
    */
-  synchronized void processDelete(@NotNull final Entry entry)
+  @Override()
+  synchronized void processDelete(@NotNull final Entry entry,
+                                  final int entryID)
                throws LDAPException
   {
     final Attribute a =
          entry.getAttribute(attributeType.getNameOrOID(), schema);
     if (a != null)
     {
-      final DN dn = entry.getParsedDN();
-
       final ASN1OctetString[] rawValues = a.getRawValues();
       final ASN1OctetString[] normalizedValues =
            new ASN1OctetString[rawValues.length];
@@ -267,11 +257,11 @@ final class InMemoryDirectoryServerEqualityAttributeIndex
 
       for (final ASN1OctetString v : normalizedValues)
       {
-        final TreeSet<DN> dnSet = indexMap.get(v);
-        if (dnSet != null)
+        final InMemoryDirectoryServerBitmap idSet = indexMap.get(v);
+        if (idSet != null)
         {
-          dnSet.remove(dn);
-          if (dnSet.isEmpty())
+          idSet.remove(entryID);
+          if (idSet.isEmpty())
           {
             indexMap.remove(v);
           }
@@ -0,0 +1,395 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.SearchScope;
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a data structure for maintaining a hierarchical index of
+ * the entries held in an in-memory directory server.  For each DN, it keeps
+ * track of the DNs of its immediate children and the total number of entries
+ * below it, so that one-level and subtree searches, subtree deletes, and modify
+ * DN operations only need to examine the entries in the affected branch rather
+ * than every entry in the server.
+ * <BR><BR>
+ * The index may contain placeholder nodes for DNs that do not have
+ * corresponding entries (for example, the parent of a base DN), so that every
+ * entry is reachable from the null DN.  Placeholder nodes are removed as soon
+ * as they no longer have any entries below them.  DNs are returned in the same
+ * hierarchical order that would be used for a sorted set of DNs.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class InMemoryDirectoryServerHierarchyIndex
+{
+  // A map of the nodes in the index, indexed by DN.
+  @NotNull private final Map<DN,Node> nodes;
+
+
+
+  /**
+   * Creates a new empty hierarchy index.
+   */
+  InMemoryDirectoryServerHierarchyIndex()
+  {
+    nodes = new HashMap<>(StaticUtils.computeMapCapacity(100));
+  }
+
+
+
+  /**
+   * Removes all information from this index.
+   */
+  synchronized void clear()
+  {
+    nodes.clear();
+  }
+
+
+
+  /**
+   * Updates the index to reflect the addition of an entry with the provided
+   * DN.
+   *
+   * @param  dn  The DN of the entry that was added.  It must not be
+   *             {@code null}.
+   */
+  synchronized void processAdd(@NotNull final DN dn)
+  {
+    Node node = nodes.get(dn);
+    if (node == null)
+    {
+      node = new Node();
+      nodes.put(dn, node);
+    }
+    else if (node.entryExists)
+    {
+      return;
+    }
+
+    node.entryExists = true;
+
+    DN childDN = dn;
+    while (! childDN.isNullDN())
+    {
+      final DN parentDN = getParent(childDN);
+      Node parentNode = nodes.get(parentDN);
+      if (parentNode == null)
+      {
+        parentNode = new Node();
+        nodes.put(parentDN, parentNode);
+      }
+
+      if (parentNode.children == null)
+      {
+        parentNode.children = new TreeSet<>();
+      }
+
+      parentNode.children.add(childDN);
+      parentNode.numSubordinates++;
+      childDN = parentDN;
+    }
+  }
+
+
+
+  /**
+   * Updates the index to reflect the removal of the entry with the provided
+   * DN.
+   *
+   * @param  dn  The DN of the entry that was removed.  It must not be
+   *             {@code null}.
+   */
+  synchronized void processDelete(@NotNull final DN dn)
+  {
+    final Node node = nodes.get(dn);
+    if ((node == null) || (! node.entryExists))
+    {
+      return;
+    }
+
+    node.entryExists = false;
+
+    boolean removeChild = (node.numSubordinates == 0);
+    if (removeChild)
+    {
+      nodes.remove(dn);
+    }
+
+    DN childDN = dn;
+    while (! childDN.isNullDN())
+    {
+      final DN parentDN = getParent(childDN);
+      final Node parentNode = nodes.get(parentDN);
+      parentNode.numSubordinates--;
+
+      if (removeChild)
+      {
+        parentNode.children.remove(childDN);
+        if (parentNode.children.isEmpty())
+        {
+          parentNode.children = null;
+        }
+      }
+
+      removeChild = ((parentNode.numSubordinates == 0) &&
+           (! parentNode.entryExists));
+      if (removeChild)
+      {
+        nodes.remove(parentDN);
+      }
+
+      childDN = parentDN;
+    }
+  }
+
+
+
+  /**
+   * Indicates whether there are any entries below the specified DN.
+   *
+   * @param  dn  The DN for which to make the determination.  It must not be
+   *             {@code null}.
+   *
+   * @return  {@code true} if there is at least one entry below the specified
+   *          DN, or {@code false} if not.
+   */
+  synchronized boolean hasSubordinates(@NotNull final DN dn)
+  {
+    final Node node = nodes.get(dn);
+    return ((node != null) && (node.numSubordinates > 0));
+  }
+
+
+
+  /**
+   * Retrieves the number of entries below the specified DN, not including the
+   * entry with that DN.
+   *
+   * @param  dn  The DN for which to make the determination.  It must not be
+   *             {@code null}.
+   *
+   * @return  The number of entries below the specified DN.
+   */
+  synchronized int countSubordinates(@NotNull final DN dn)
+  {
+    final Node node = nodes.get(dn);
+    if (node == null)
+    {
+      return 0;
+    }
+    else
+    {
+      return node.numSubordinates;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the DNs of the entries within the specified base and scope, in
+   * hierarchical order.
+   *
+   * @param  baseDN  The base DN for the entries to retrieve.  It must not be
+   *                 {@code null}.
+   * @param  scope   The scope for the entries to retrieve.  It must not be
+   *                 {@code null}.
+   *
+   * @return  The DNs of the entries within the specified base and scope, or an
+   *          empty list if there are none.
+   */
+  @NotNull()
+  synchronized List<DN> getEntryDNs(@NotNull final DN baseDN,
+                                    @NotNull final SearchScope scope)
+  {
+    final Node baseNode = nodes.get(baseDN);
+    if (baseNode == null)
+    {
+      return Collections.emptyList();
+    }
+
+    switch (scope.intValue())
+    {
+      case SearchScope.BASE_INT_VALUE:
+        if (baseNode.entryExists)
+        {
+          return Collections.singletonList(baseDN);
+        }
+        else
+        {
+          return Collections.emptyList();
+        }
+
+      case SearchScope.ONE_INT_VALUE:
+        if (baseNode.children == null)
+        {
+          return Collections.emptyList();
+        }
+
+        final ArrayList<DN> childDNs =
+             new ArrayList<>(baseNode.children.size());
+        for (final DN childDN : baseNode.children)
+        {
+          if (nodes.get(childDN).entryExists)
+          {
+            childDNs.add(childDN);
+          }
+        }
+        return childDNs;
+
+      case SearchScope.SUB_INT_VALUE:
+        final ArrayList<DN> subtreeDNs =
+             new ArrayList<>(baseNode.numSubordinates + 1);
+        if (baseNode.entryExists)
+        {
+          subtreeDNs.add(baseDN);
+        }
+        addSubordinateDNs(baseNode, subtreeDNs);
+        return subtreeDNs;
+
+      case SearchScope.SUBORDINATE_SUBTREE_INT_VALUE:
+        final ArrayList<DN> subordinateDNs =
+             new ArrayList<>(baseNode.numSubordinates);
+        addSubordinateDNs(baseNode, subordinateDNs);
+        return subordinateDNs;
+
+      default:
+        return Collections.emptyList();
+    }
+  }
+
+
+
+  /**
+   * Adds the DNs of all entries below the provided node to the given list, in
+   * hierarchical order.
+   *
+   * @param  node  The node whose subordinates should be added.
+   * @param  dns   The list to which the DNs should be added.
+   */
+  private void addSubordinateDNs(@NotNull final Node node,
+                                 @NotNull final List<DN> dns)
+  {
+    if (node.children == null)
+    {
+      return;
+    }
+
+    for (final DN childDN : node.children)
+    {
+      final Node childNode = nodes.get(childDN);
+      if (childNode.entryExists)
+      {
+        dns.add(childDN);
+      }
+
+      addSubordinateDNs(childNode, dns);
+    }
+  }
+
+
+
+  /**
+   * Retrieves the parent of the provided DN, using the null DN as the parent
+   * for DNs with a single RDN.
+   *
+   * @param  dn  The DN for which to retrieve the parent.  It must not be
+   *             {@code null} or the null DN.
+   *
+   * @return  The parent of the provided DN.
+   */
+  @NotNull()
+  private static DN getParent(@NotNull final DN dn)
+  {
+    final DN parentDN = dn.getParent();
+    if (parentDN == null)
+    {
+      return DN.NULL_DN;
+    }
+    else
+    {
+      return parentDN;
+    }
+  }
+
+
+
+  /**
+   * This class provides a data structure with information about a single DN
+   * in the hierarchy index.
+   */
+  private static final class Node
+  {
+    // Indicates whether there is an entry with the DN for this node.
+    private boolean entryExists;
+
+    // The number of entries below this node.
+    private int numSubordinates;
+
+    // The DNs of the immediate children of this node, if any.
+    @Nullable private TreeSet<DN> children;
+
+
+
+    /**
+     * Creates a new node without an entry or any children.
+     */
+    private Node()
+    {
+      entryExists = false;
+      numSubordinates = 0;
+      children = null;
+    }
+  }
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a data structure with information about the progress of
+ * a bulk LDIF import into an in-memory directory server instance.  It may be
+ * provided to the
+ * {@link InMemoryDirectoryServer#importFromLDIF(boolean,java.io.File,int,
+ * InMemoryDirectoryServerImportStatistics)} method and polled from another
+ * thread while the import is in progress.
+ * <BR><BR>
+ * An import proceeds in two phases.  In the first phase, entries are read
+ * from LDIF, parsed, and validated by a number of concurrent threads, and the
+ * number of entries read will increase.  In the second phase, the entries are
+ * added to the server in hierarchical order, and the number of entries
+ * imported will increase.  Calls to update statistics maintained by this class
+ * are threadsafe, but attempts to access different statistics may not be
+ * consistent while the import is in progress.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.MOSTLY_THREADSAFE)
+public final class InMemoryDirectoryServerImportStatistics
+{
+  // The number of entries that have been added to the server.
+  @NotNull private final AtomicLong entriesImported;
+
+  // The number of entries that have been read and validated.
+  @NotNull private final AtomicLong entriesRead;
+
+  // The time that the import completed, or -1 if it has not completed.
+  private volatile long endTimeMillis;
+
+  // The time that the import started, or -1 if it has not started.
+  private volatile long startTimeMillis;
+
+  // Indicates whether the import completed successfully.
+  private volatile boolean successful;
+
+
+
+  /**
+   * Creates a new import statistics object.
+   */
+  public InMemoryDirectoryServerImportStatistics()
+  {
+    entriesImported = new AtomicLong(0L);
+    entriesRead = new AtomicLong(0L);
+    endTimeMillis = -1L;
+    startTimeMillis = -1L;
+    successful = false;
+  }
+
+
+
+  /**
+   * Resets all of the statistics and indicates that a new import has started.
+   */
+  void importStarted()
+  {
+    entriesImported.set(0L);
+    entriesRead.set(0L);
+    successful = false;
+    endTimeMillis = -1L;
+    startTimeMillis = System.currentTimeMillis();
+  }
+
+
+
+  /**
+   * Indicates that an entry has been read from LDIF and validated.
+   */
+  void entryRead()
+  {
+    entriesRead.incrementAndGet();
+  }
+
+
+
+  /**
+   * Indicates that an entry has been added to the server.
+   */
+  void entryImported()
+  {
+    entriesImported.incrementAndGet();
+  }
+
+
+
+  /**
+   * Indicates that the import has completed.
+   *
+   * @param  successful  Indicates whether the import completed successfully.
+   */
+  void importCompleted(final boolean successful)
+  {
+    this.successful = successful;
+    endTimeMillis = System.currentTimeMillis();
+  }
+
+
+
+  /**
+   * Retrieves the number of entries that have been read from LDIF, parsed,
+   * and validated.
+   *
+   * @return  The number of entries that have been read from LDIF, parsed, and
+   *          validated.
+   */
+  public long getEntriesRead()
+  {
+    return entriesRead.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of entries that have been added to the server.  If
+   * the import fails, then the entries that were added will have been removed
+   * from the server, but they will still be included in this count.
+   *
+   * @return  The number of entries that have been added to the server.
+   */
+  public long getEntriesImported()
+  {
+    return entriesImported.get();
+  }
+
+
+
+  /**
+   * Retrieves the time that the import started, in milliseconds since the
+   * epoch.
+   *
+   * @return  The time that the import started, or -1 if it has not yet
+   *          started.
+   */
+  public long getStartTimeMillis()
+  {
+    return startTimeMillis;
+  }
+
+
+
+  /**
+   * Retrieves the length of time in milliseconds that the import has been
+   * running, or that it ran if it has completed.
+   *
+   * @return  The length of time in milliseconds that the import has been
+   *          running, or zero if it has not yet started.
+   */
+  public long getElapsedTimeMillis()
+  {
+    final long start = startTimeMillis;
+    if (start < 0L)
+    {
+      return 0L;
+    }
+
+    final long end = endTimeMillis;
+    if (end < 0L)
+    {
+      return System.currentTimeMillis() - start;
+    }
+    else
+    {
+      return end - start;
+    }
+  }
+
+
+
+  /**
+   * Indicates whether the import has completed, whether successfully or not.
+   *
+   * @return  {@code true} if the import has completed, or {@code false} if it
+   *          has not yet started or is still in progress.
+   */
+  public boolean isComplete()
+  {
+    return (endTimeMillis >= 0L);
+  }
+
+
+
+  /**
+   * Indicates whether the import has completed successfully.
+   *
+   * @return  {@code true} if the import has completed successfully, or
+   *          {@code false} if it has not yet completed or if it failed.
+   */
+  public boolean isSuccessful()
+  {
+    return successful;
+  }
+
+
+
+  /**
+   * Retrieves the average number of entries read from LDIF per second since
+   * the import started.
+   *
+   * @return  The average number of entries read from LDIF per second, or zero
+   *          if the import has not yet started.
+   */
+  public double getEntriesReadPerSecond()
+  {
+    return computeRate(entriesRead.get());
+  }
+
+
+
+  /**
+   * Retrieves the average number of entries added to the server per second
+   * since the import started.  This rate covers the entire elapsed time of
+   * the import, including the time spent reading entries from LDIF.
+   *
+   * @return  The average number of entries added to the server per second, or
+   *          zero if the import has not yet started.
+   */
+  public double getEntriesImportedPerSecond()
+  {
+    return computeRate(entriesImported.get());
+  }
+
+
+
+  /**
+   * Computes the average number of occurrences per second for the provided
+   * count over the elapsed time of the import.
+   *
+   * @param  count  The count for which to compute the rate.
+   *
+   * @return  The computed rate, or zero if no time has elapsed.
+   */
+  private double computeRate(final long count)
+  {
+    final long elapsedMillis = getElapsedTimeMillis();
+    if (elapsedMillis <= 0L)
+    {
+      return 0.0d;
+    }
+
+    return (1000.0d * count) / elapsedMillis;
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this import statistics object.
+   *
+   * @return  A string representation of this import statistics object.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    final StringBuilder buffer = new StringBuilder();
+    toString(buffer);
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Appends a string representation of this import statistics object to the
+   * provided buffer.
+   *
+   * @param  buffer  The buffer to which the string representation should be
+   *                 appended.
+   */
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("InMemoryDirectoryServerImportStatistics(entriesRead=");
+    buffer.append(entriesRead.get());
+    buffer.append(", entriesImported=");
+    buffer.append(entriesImported.get());
+    buffer.append(", elapsedTimeMillis=");
+    buffer.append(getElapsedTimeMillis());
+    buffer.append(", complete=");
+    buffer.append(isComplete());
+    buffer.append(", successful=");
+    buffer.append(successful);
+    buffer.append(')');
+  }
+}
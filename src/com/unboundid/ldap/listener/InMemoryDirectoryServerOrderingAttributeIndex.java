@@ -0,0 +1,356 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.matchingrules.MatchingRule;
+import com.unboundid.ldap.sdk.Attribute;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.schema.AttributeTypeDefinition;
+import com.unboundid.ldap.sdk.schema.Schema;
+import com.unboundid.util.Debug;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.listener.ListenerMessages.*;
+
+
+
+/**
+ * This class provides a data structure for maintaining an ordering index for a
+ * specified attribute.  Normalized values are held in a map that is sorted
+ * using the ordering matching rule for the attribute type, so that
+ * greater-or-equal and less-or-equal filters can be processed with a range
+ * lookup.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class InMemoryDirectoryServerOrderingAttributeIndex
+       extends InMemoryDirectoryServerAttributeIndex
+{
+  // The attribute type with which this index is associated.
+  @NotNull private final AttributeTypeDefinition attributeType;
+
+  // The matching rule used to normalize and compare values.
+  @NotNull private final MatchingRule matchingRule;
+
+  // A map from normalized values to the IDs of entries with those values.
+  @NotNull private final TreeMap<ASN1OctetString,InMemoryDirectoryServerBitmap>
+       indexMap;
+
+  // The schema for the server.
+  @NotNull private final Schema schema;
+
+
+
+  /**
+   * Creates a new ordering attribute index for the specified attribute type.
+   *
+   * @param  attributeType  The name or OID of the attribute type with which
+   *                        this index is associated.  It must be defined in the
+   *                        schema.
+   * @param  schema         The schema for the server.  It must not be
+   *                        {@code null}.
+   *
+   * @throws  LDAPException  If the specified attribute type is not defined in
+   *                         the schema.
+   */
+  InMemoryDirectoryServerOrderingAttributeIndex(
+       @NotNull final String attributeType, @NotNull final Schema schema)
+       throws LDAPException
+  {
+    this.schema = schema;
+    if (schema == null)
+    {
+      throw new LDAPException(ResultCode.PARAM_ERROR,
+           ERR_DS_ORD_INDEX_NO_SCHEMA.get(attributeType));
+    }
+
+    this.attributeType = schema.getAttributeType(attributeType);
+    if (this.attributeType == null)
+    {
+      throw new LDAPException(ResultCode.PARAM_ERROR,
+           ERR_DS_ORD_INDEX_UNDEFINED_ATTRIBUTE_TYPE.get(attributeType));
+    }
+
+    matchingRule = MatchingRule.selectOrderingMatchingRule(attributeType,
+         schema);
+
+    indexMap = new TreeMap<>(new ValueComparator(matchingRule));
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  AttributeTypeDefinition getAttributeType()
+  {
+    return attributeType;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  synchronized void clear()
+  {
+    indexMap.clear();
+  }
+
+
+
+  /**
+   * Obtains a copy of the internal map used by this index.  This is only
+   * intended for internal use for testing purposes.
+   *
+   * @return  A copy of the internal map used by this index.
+   */
+  @InternalUseOnly()
+  @NotNull()
+  synchronized Map<ASN1OctetString,InMemoryDirectoryServerBitmap> copyMap()
+  {
+    final TreeMap<ASN1OctetString,InMemoryDirectoryServerBitmap> m =
+         new TreeMap<>(indexMap.comparator());
+    for (final Map.Entry<ASN1OctetString,InMemoryDirectoryServerBitmap> e :
+         indexMap.entrySet())
+    {
+      m.put(e.getKey(), new InMemoryDirectoryServerBitmap(e.getValue()));
+    }
+
+    return Collections.unmodifiableMap(m);
+  }
+
+
+
+  /**
+   * Retrieves the IDs of the entries that have at least one value for the
+   * associated attribute that is greater than or equal to, or less than or
+   * equal to, the provided value.
+   *
+   * @param  value           The assertion value for which to retrieve the
+   *                         corresponding entry IDs.
+   * @param  greaterOrEqual  Indicates whether to retrieve entries with a value
+   *                         that is greater than or equal to the provided
+   *                         value ({@code true}) or less than or equal to it
+   *                         ({@code false}).
+   *
+   * @return  A bitmap containing the IDs of the entries that match the
+   *          criteria, or an empty bitmap if there are none.  The returned
+   *          bitmap is a copy and may be altered by the caller.
+   *
+   * @throws  LDAPException  If a problem is encountered while attempting to
+   *                         make the determination (e.g., if the given value is
+   *                         not acceptable for the associated attribute type).
+   */
+  @NotNull()
+  synchronized InMemoryDirectoryServerBitmap getMatchingEntries(
+                    @NotNull final ASN1OctetString value,
+                    final boolean greaterOrEqual)
+               throws LDAPException
+  {
+    final ASN1OctetString normalizedValue = matchingRule.normalize(value);
+
+    final NavigableMap<ASN1OctetString,InMemoryDirectoryServerBitmap>
+         matchingValues;
+    if (greaterOrEqual)
+    {
+      matchingValues = indexMap.tailMap(normalizedValue, true);
+    }
+    else
+    {
+      matchingValues = indexMap.headMap(normalizedValue, true);
+    }
+
+    final InMemoryDirectoryServerBitmap idSet =
+         new InMemoryDirectoryServerBitmap();
+    for (final InMemoryDirectoryServerBitmap b : matchingValues.values())
+    {
+      idSet.addAll(b);
+    }
+
+    return idSet;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  synchronized void processAdd(@NotNull final Entry entry, final int entryID)
+               throws LDAPException
+  {
+    final Attribute a =
+         entry.getAttribute(attributeType.getNameOrOID(), schema);
+    if (a != null)
+    {
+      final ASN1OctetString[] rawValues = a.getRawValues();
+      final ASN1OctetString[] normalizedValues =
+           new ASN1OctetString[rawValues.length];
+      for (int i=0; i < rawValues.length; i++)
+      {
+        normalizedValues[i] = matchingRule.normalize(rawValues[i]);
+      }
+
+      for (final ASN1OctetString v : normalizedValues)
+      {
+        InMemoryDirectoryServerBitmap idSet = indexMap.get(v);
+        if (idSet == null)
+        {
+          idSet = new InMemoryDirectoryServerBitmap();
+          indexMap.put(v, idSet);
+        }
+        idSet.add(entryID);
+      }
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  synchronized void processDelete(@NotNull final Entry entry,
+                                  final int entryID)
+               throws LDAPException
+  {
+    final Attribute a =
+         entry.getAttribute(attributeType.getNameOrOID(), schema);
+    if (a != null)
+    {
+      final ASN1OctetString[] rawValues = a.getRawValues();
+      final ASN1OctetString[] normalizedValues =
+           new ASN1OctetString[rawValues.length];
+      for (int i=0; i < rawValues.length; i++)
+      {
+        normalizedValues[i] = matchingRule.normalize(rawValues[i]);
+      }
+
+      for (final ASN1OctetString v : normalizedValues)
+      {
+        final InMemoryDirectoryServerBitmap idSet = indexMap.get(v);
+        if (idSet != null)
+        {
+          idSet.remove(entryID);
+          if (idSet.isEmpty())
+          {
+            indexMap.remove(v);
+          }
+        }
+      }
+    }
+  }
+
+
+
+  /**
+   * This class provides a comparator that orders normalized values using the
+   * ordering matching rule for the index.
+   */
+  private static final class ValueComparator
+          implements Comparator<ASN1OctetString>, Serializable
+  {
+    /**
+     * The serial version UID for this serializable class.
+     */
+    private static final long serialVersionUID = 4139541876224620815L;
+
+
+
+    // The matching rule to use to compare values.
+    @NotNull private final MatchingRule matchingRule;
+
+
+
+    /**
+     * Creates a new value comparator that uses the provided matching rule.
+     *
+     * @param  matchingRule  The matching rule to use to compare values.
+     */
+    private ValueComparator(@NotNull final MatchingRule matchingRule)
+    {
+      this.matchingRule = matchingRule;
+    }
+
+
+
+    /**
+     * Compares the provided normalized values.  If the matching rule cannot
+     * compare them, then the raw bytes of the values will be compared.
+     *
+     * @param  v1  The first value to compare.
+     * @param  v2  The second value to compare.
+     *
+     * @return  A negative value if the first value should be ordered before
+     *          the second, a positive value if it should be ordered after the
+     *          second, or zero if they are considered equal.
+     */
+    @Override()
+    public int compare(@NotNull final ASN1OctetString v1,
+                       @NotNull final ASN1OctetString v2)
+    {
+      try
+      {
+        return matchingRule.compareValues(v1, v2);
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        return v1.stringValue().compareTo(v2.stringValue());
+      }
+    }
+  }
+}
@@ -0,0 +1,1346 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import com.unboundid.asn1.ASN1Element;
+import com.unboundid.asn1.ASN1Sequence;
+import com.unboundid.ldap.matchingrules.MatchingRule;
+import com.unboundid.ldap.sdk.Attribute;
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.ReadOnlyEntry;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.schema.Schema;
+import com.unboundid.util.ByteStringBuffer;
+import com.unboundid.util.Debug;
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadLocalRandom;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.listener.ListenerMessages.*;
+
+
+
+/**
+ * This class provides a persistent store for the entries held in an in-memory
+ * directory server.  It consists of an append-only log of entry records and a
+ * compacted index that maps the DN of each entry to the location of its most
+ * recent record in the log.
+ * <BR><BR>
+ * Each change to the data is appended to the log as a record that holds either
+ * the complete new version of an entry or an indication that the entry was
+ * deleted, and the records for a set of changes are followed by a commit
+ * record.  Every record includes a checksum, so that when the store is
+ * opened, any records at the end of the log that were not completely written
+ * or that are not followed by a commit record can be discarded.  The index is
+ * written when the store is closed so that it can be opened again without
+ * reading the entire log, and only records appended after the index was
+ * written need to be replayed.  If a significant portion of the log is made up
+ * of records that have been superseded, then the log will be compacted when
+ * the store is opened.
+ * <BR><BR>
+ * Entries are read from the log through memory-mapped buffers, so an entry
+ * only needs to be held in memory while it is in use.  Entries may be read by
+ * any number of threads at once, but changes may only be made by one thread at
+ * a time.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.MOSTLY_THREADSAFE)
+final class InMemoryDirectoryServerPersistentStore
+       implements Closeable
+{
+  /**
+   * The name of the file that holds the entry log.
+   */
+  @NotNull static final String LOG_FILE_NAME = "entries.log";
+
+
+
+  /**
+   * The name of the file that holds the compacted index.
+   */
+  @NotNull static final String INDEX_FILE_NAME = "entries.idx";
+
+
+
+  /**
+   * The name of the file that is locked to prevent the store from being used
+   * by more than one server at a time.
+   */
+  @NotNull private static final String LOCK_FILE_NAME = "store.lock";
+
+
+
+  /**
+   * The suffix appended to the name of a file that is being written and will
+   * replace an existing file once it is complete.
+   */
+  @NotNull private static final String NEW_FILE_SUFFIX = ".new";
+
+
+
+  /**
+   * The value that appears at the start of the entry log.
+   */
+  private static final int LOG_MAGIC = 0x494D4C47;
+
+
+
+  /**
+   * The value that appears at the start of the index file.
+   */
+  private static final int INDEX_MAGIC = 0x494D4958;
+
+
+
+  /**
+   * The version of the format used for the entry log and index files.
+   */
+  private static final int FORMAT_VERSION = 1;
+
+
+
+  /**
+   * The length of the header at the start of the entry log, which holds the
+   * magic value, the format version, and the log generation.
+   */
+  private static final int LOG_HEADER_LENGTH = 16;
+
+
+
+  /**
+   * The length of the header at the start of each log record, which holds the
+   * length of the rest of the record and its checksum.
+   */
+  private static final int RECORD_HEADER_LENGTH = 8;
+
+
+
+  /**
+   * The record type for a record that holds a new version of an entry.
+   */
+  private static final byte RECORD_TYPE_PUT = 0x01;
+
+
+
+  /**
+   * The record type for a record that indicates an entry was deleted.
+   */
+  private static final byte RECORD_TYPE_DELETE = 0x02;
+
+
+
+  /**
+   * The record type for a record that indicates all of the preceding records
+   * have been committed.
+   */
+  private static final byte RECORD_TYPE_COMMIT = 0x03;
+
+
+
+  /**
+   * The maximum size of each memory-mapped segment of the entry log.
+   */
+  private static final long SEGMENT_SIZE = 1L << 28;
+
+
+
+  /**
+   * The number of bytes of pending records that may be buffered before they
+   * are written to the entry log.
+   */
+  private static final int MAX_PENDING_BYTES = 1024 * 1024;
+
+
+
+  /**
+   * The minimum number of bytes of superseded records that the entry log must
+   * contain before it will be compacted.
+   */
+  private static final long MIN_COMPACTION_BYTES = 1024L * 1024L;
+
+
+
+  // The buffer used to hold records that have not yet been written to the log.
+  @NotNull private final ByteStringBuffer pendingRecords;
+
+  // The buffer used to encode a single record.
+  @NotNull private final ByteStringBuffer recordBuffer;
+
+  // The directory that holds the store files.
+  @NotNull private final File directory;
+
+  // The channel used to read and write the entry log.
+  @NotNull private FileChannel logChannel;
+
+  // The channel for the lock file.
+  @NotNull private final FileChannel lockChannel;
+
+  // The lock that prevents the store from being used by more than one server.
+  @NotNull private final FileLock fileLock;
+
+  // The problem that occurred the last time that an attempt to write to the
+  // log failed.
+  @Nullable private volatile IOException writeFailure;
+
+  // The memory-mapped segments of the entry log.
+  @NotNull private final List<MappedByteBuffer> segments;
+
+  // The generation of the entry log, which changes whenever the log is
+  // rewritten so that a stale index will not be used with it.
+  private long generation;
+
+  // The total length of all records that hold the latest version of an
+  // entry.
+  private long liveRecordBytes;
+
+  // The number of bytes that have been written to the entry log.
+  private volatile long logLength;
+
+  // The location of the latest record for each entry found when the store was
+  // opened.
+  @Nullable private TreeMap<DN,RecordLocation> recoveredEntries;
+
+  // The schema to use when creating entries read from the store.
+  @Nullable private final Schema schema;
+
+
+
+  /**
+   * Creates a new persistent store for the specified directory.
+   *
+   * @param  directory    The directory that holds the store files.
+   * @param  schema       The schema to use when creating entries and DNs read
+   *                      from the store.
+   * @param  lockChannel  The channel for the lock file.
+   * @param  fileLock     The lock that has been acquired for the store.
+   * @param  logChannel   The channel used to read and write the entry log.
+   */
+  private InMemoryDirectoryServerPersistentStore(
+               @NotNull final File directory, @Nullable final Schema schema,
+               @NotNull final FileChannel lockChannel,
+               @NotNull final FileLock fileLock,
+               @NotNull final FileChannel logChannel)
+  {
+    this.directory = directory;
+    this.schema = schema;
+    this.lockChannel = lockChannel;
+    this.fileLock = fileLock;
+    this.logChannel = logChannel;
+
+    pendingRecords = new ByteStringBuffer();
+    recordBuffer = new ByteStringBuffer();
+    segments = new ArrayList<>(10);
+    writeFailure = null;
+    recoveredEntries = null;
+  }
+
+
+
+  /**
+   * Opens the persistent store in the specified directory, creating it if it
+   * does not already exist.  Any incomplete changes at the end of the entry
+   * log will be discarded, and the log will be compacted if appropriate.
+   *
+   * @param  directory  The directory that holds the store files.  It will be
+   *                    created if it does not exist.
+   * @param  schema     The schema to use when creating entries and DNs read
+   *                    from the store.  It may be {@code null} if no schema
+   *                    should be used.
+   *
+   * @return  The persistent store that was opened.
+   *
+   * @throws  LDAPException  If a problem occurs while opening the store.
+   */
+  @NotNull()
+  static InMemoryDirectoryServerPersistentStore open(
+              @NotNull final File directory, @Nullable final Schema schema)
+         throws LDAPException
+  {
+    final FileChannel lockChannel;
+    try
+    {
+      Files.createDirectories(directory.toPath());
+      lockChannel = FileChannel.open(
+           new File(directory, LOCK_FILE_NAME).toPath(),
+           StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    }
+    catch (final IOException e)
+    {
+      Debug.debugException(e);
+      throw new LDAPException(ResultCode.LOCAL_ERROR,
+           ERR_MEM_STORE_CANNOT_OPEN.get(directory.getAbsolutePath(),
+                StaticUtils.getExceptionMessage(e)),
+           e);
+    }
+
+    FileLock fileLock;
+    try
+    {
+      fileLock = lockChannel.tryLock();
+    }
+    catch (final OverlappingFileLockException | IOException e)
+    {
+      Debug.debugException(e);
+      fileLock = null;
+    }
+
+    if (fileLock == null)
+    {
+      closeQuietly(lockChannel);
+      throw new LDAPException(ResultCode.LOCAL_ERROR,
+           ERR_MEM_STORE_IN_USE.get(directory.getAbsolutePath()));
+    }
+
+    final File logFile = new File(directory, LOG_FILE_NAME);
+    final FileChannel logChannel;
+    try
+    {
+      logChannel = FileChannel.open(logFile.toPath(),
+           StandardOpenOption.CREATE, StandardOpenOption.READ,
+           StandardOpenOption.WRITE);
+    }
+    catch (final IOException e)
+    {
+      Debug.debugException(e);
+      releaseQuietly(fileLock);
+      closeQuietly(lockChannel);
+      throw new LDAPException(ResultCode.LOCAL_ERROR,
+           ERR_MEM_STORE_CANNOT_OPEN.get(directory.getAbsolutePath(),
+                StaticUtils.getExceptionMessage(e)),
+           e);
+    }
+
+    final InMemoryDirectoryServerPersistentStore store =
+         new InMemoryDirectoryServerPersistentStore(directory, schema,
+              lockChannel, fileLock, logChannel);
+    try
+    {
+      store.initializeLog();
+      store.recover();
+
+      final long supersededBytes =
+           store.logLength - LOG_HEADER_LENGTH - store.liveRecordBytes;
+      if ((supersededBytes > MIN_COMPACTION_BYTES) &&
+           (supersededBytes > store.liveRecordBytes))
+      {
+        store.compact();
+      }
+
+      return store;
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      store.close();
+      throw le;
+    }
+    catch (final IOException e)
+    {
+      Debug.debugException(e);
+      store.close();
+      throw new LDAPException(ResultCode.LOCAL_ERROR,
+           ERR_MEM_STORE_CANNOT_OPEN.get(directory.getAbsolutePath(),
+                StaticUtils.getExceptionMessage(e)),
+           e);
+    }
+  }
+
+
+
+  /**
+   * Reads the header of the entry log, or writes it if the log is new.
+   *
+   * @throws  IOException  If a problem occurs while accessing the log.
+   *
+   * @throws  LDAPException  If the existing log file is not valid.
+   */
+  private void initializeLog()
+          throws IOException, LDAPException
+  {
+    if (logChannel.size() < LOG_HEADER_LENGTH)
+    {
+      // The log is new, or its creation did not complete.
+      generation = ThreadLocalRandom.get().nextLong();
+      logChannel.truncate(0L);
+      writeFully(logChannel, encodeLogHeader(generation), 0L);
+      logChannel.force(true);
+      logLength = LOG_HEADER_LENGTH;
+      return;
+    }
+
+    final ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_LENGTH);
+    readFully(logChannel, header, 0L);
+    header.flip();
+    if ((header.getInt() != LOG_MAGIC) || (header.getInt() != FORMAT_VERSION))
+    {
+      throw new LDAPException(ResultCode.LOCAL_ERROR,
+           ERR_MEM_STORE_INVALID_LOG.get(
+                new File(directory, LOG_FILE_NAME).getAbsolutePath()));
+    }
+
+    generation = header.getLong();
+    logLength = logChannel.size();
+  }
+
+
+
+  /**
+   * Determines the location of the latest record for each entry, using the
+   * index if it is valid and replaying any records in the log that it does not
+   * cover.  Any records at the end of the log that are incomplete, corrupt, or
+   * not followed by a commit record will be removed.
+   *
+   * @throws  IOException  If a problem occurs while reading the store files.
+   *
+   * @throws  LDAPException  If a DN read from the store cannot be parsed.
+   */
+  private void recover()
+          throws IOException, LDAPException
+  {
+    recoveredEntries = new TreeMap<>();
+    final long replayStart = readIndex(recoveredEntries);
+
+    final long fileLength = logChannel.size();
+    final LinkedHashMap<DN,RecordLocation> uncommittedChanges =
+         new LinkedHashMap<>();
+    long position = replayStart;
+    long committedLength = replayStart;
+
+    // The stream is not closed because that would close the log channel.
+    final DataInputStream inputStream = new DataInputStream(
+         new BufferedInputStream(Channels.newInputStream(
+              logChannel.position(replayStart)), 65_536));
+    while (true)
+    {
+      final int length;
+      final int checksum;
+      final byte[] recordBytes;
+      try
+      {
+        length = inputStream.readInt();
+        checksum = inputStream.readInt();
+        if ((length < 1) ||
+             (length > (fileLength - position - RECORD_HEADER_LENGTH)))
+        {
+          break;
+        }
+
+        recordBytes = new byte[length];
+        inputStream.readFully(recordBytes);
+      }
+      catch (final EOFException e)
+      {
+        Debug.debugException(e);
+        break;
+      }
+
+      final CRC32 crc = new CRC32();
+      crc.update(recordBytes, 0, length);
+      if (((int) crc.getValue()) != checksum)
+      {
+        break;
+      }
+
+      final RecordLocation location =
+           new RecordLocation(position, RECORD_HEADER_LENGTH + length);
+      if (recordBytes[0] == RECORD_TYPE_PUT)
+      {
+        final int dnLength = ByteBuffer.wrap(recordBytes, 1, 4).getInt();
+        uncommittedChanges.put(
+             new DN(StaticUtils.toUTF8String(recordBytes, 5, dnLength),
+                  schema),
+             location);
+      }
+      else if (recordBytes[0] == RECORD_TYPE_DELETE)
+      {
+        uncommittedChanges.put(
+             new DN(StaticUtils.toUTF8String(recordBytes, 1, length - 1),
+                  schema),
+             null);
+      }
+      else if (recordBytes[0] == RECORD_TYPE_COMMIT)
+      {
+        for (final Map.Entry<DN,RecordLocation> e :
+             uncommittedChanges.entrySet())
+        {
+          if (e.getValue() == null)
+          {
+            recoveredEntries.remove(e.getKey());
+          }
+          else
+          {
+            recoveredEntries.put(e.getKey(), e.getValue());
+          }
+        }
+
+        uncommittedChanges.clear();
+        committedLength = position + location.length;
+      }
+      else
+      {
+        break;
+      }
+
+      position += location.length;
+    }
+
+    if (committedLength < fileLength)
+    {
+      logChannel.truncate(committedLength);
+      logChannel.force(true);
+    }
+
+    logLength = committedLength;
+
+    liveRecordBytes = 0L;
+    for (final RecordLocation location : recoveredEntries.values())
+    {
+      liveRecordBytes += location.length;
+    }
+  }
+
+
+
+  /**
+   * Reads the index file, if it exists and is valid for the current entry log.
+   *
+   * @param  entryMap  The map to update with the location of the latest record
+   *                   for each entry in the index.
+   *
+   * @return  The position in the entry log at which records not covered by the
+   *          index begin.
+   *
+   * @throws  IOException  If a problem occurs while reading the index.
+   *
+   * @throws  LDAPException  If a DN read from the index cannot be parsed.
+   */
+  private long readIndex(@NotNull final Map<DN,RecordLocation> entryMap)
+          throws IOException, LDAPException
+  {
+    final File indexFile = new File(directory, INDEX_FILE_NAME);
+    if (! indexFile.exists())
+    {
+      return LOG_HEADER_LENGTH;
+    }
+
+    try (FileChannel indexChannel =
+              FileChannel.open(indexFile.toPath(), StandardOpenOption.READ))
+    {
+      final long size = indexChannel.size();
+      if ((size < 32L) || (size > Integer.MAX_VALUE))
+      {
+        return LOG_HEADER_LENGTH;
+      }
+
+      final MappedByteBuffer buffer =
+           indexChannel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+
+      final ByteBuffer checksummedBytes = buffer.duplicate();
+      checksummedBytes.limit((int) size - 4);
+      final CRC32 crc = new CRC32();
+      crc.update(checksummedBytes);
+      if (((int) crc.getValue()) != buffer.getInt((int) size - 4))
+      {
+        return LOG_HEADER_LENGTH;
+      }
+
+      if ((buffer.getInt() != INDEX_MAGIC) ||
+           (buffer.getInt() != FORMAT_VERSION) ||
+           (buffer.getLong() != generation))
+      {
+        return LOG_HEADER_LENGTH;
+      }
+
+      final long coveredLength = buffer.getLong();
+      if ((coveredLength < LOG_HEADER_LENGTH) ||
+           (coveredLength > logChannel.size()))
+      {
+        return LOG_HEADER_LENGTH;
+      }
+
+      final int numEntries = buffer.getInt((int) size - 8);
+      for (int i=0; i < numEntries; i++)
+      {
+        final byte[] dnBytes = new byte[buffer.getInt()];
+        buffer.get(dnBytes);
+        final long offset = buffer.getLong();
+        final int length = buffer.getInt();
+        entryMap.put(new DN(StaticUtils.toUTF8String(dnBytes), schema),
+             new RecordLocation(offset, length));
+      }
+
+      return coveredLength;
+    }
+  }
+
+
+
+  /**
+   * Writes an index file for the entry log with the provided information.
+   * The file will be written under a temporary name and then moved into place
+   * so that an existing index will not be damaged if the process is
+   * interrupted.
+   *
+   * @param  logGeneration  The generation of the entry log that the index
+   *                        covers.
+   * @param  coveredLength  The length of the entry log that the index covers.
+   * @param  entries        The location of the latest record for each entry.
+   *
+   * @throws  IOException  If a problem occurs while writing the index.
+   */
+  private void writeIndex(final long logGeneration, final long coveredLength,
+                    @NotNull final Iterable<Map.Entry<DN,RecordLocation>>
+                         entries)
+          throws IOException
+  {
+    final File indexFile = new File(directory, INDEX_FILE_NAME);
+    final File newIndexFile =
+         new File(directory, INDEX_FILE_NAME + NEW_FILE_SUFFIX);
+    final CRC32 crc = new CRC32();
+    try (FileOutputStream fileOutputStream =
+              new FileOutputStream(newIndexFile);
+         DataOutputStream outputStream = new DataOutputStream(
+              new BufferedOutputStream(
+                   new CheckedOutputStream(fileOutputStream, crc), 65_536)))
+    {
+      outputStream.writeInt(INDEX_MAGIC);
+      outputStream.writeInt(FORMAT_VERSION);
+      outputStream.writeLong(logGeneration);
+      outputStream.writeLong(coveredLength);
+
+      int numEntries = 0;
+      for (final Map.Entry<DN,RecordLocation> e : entries)
+      {
+        final byte[] dnBytes = StaticUtils.getBytes(e.getKey().toString());
+        outputStream.writeInt(dnBytes.length);
+        outputStream.write(dnBytes);
+        outputStream.writeLong(e.getValue().offset);
+        outputStream.writeInt(e.getValue().length);
+        numEntries++;
+      }
+
+      outputStream.writeInt(numEntries);
+      outputStream.flush();
+      outputStream.writeInt((int) crc.getValue());
+      outputStream.flush();
+      fileOutputStream.getChannel().force(true);
+    }
+
+    Files.move(newIndexFile.toPath(), indexFile.toPath(),
+         StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+
+
+  /**
+   * Rewrites the entry log so that it only contains the latest record for
+   * each entry, and writes a new index for it.  This must only be called while
+   * the store is being opened.
+   *
+   * @throws  IOException  If a problem occurs while compacting the log.
+   */
+  private void compact()
+          throws IOException
+  {
+    final File logFile = new File(directory, LOG_FILE_NAME);
+    final File newLogFile =
+         new File(directory, LOG_FILE_NAME + NEW_FILE_SUFFIX);
+    final long newGeneration = ThreadLocalRandom.get().nextLong();
+    final TreeMap<DN,RecordLocation> newEntries = new TreeMap<>();
+
+    long position = LOG_HEADER_LENGTH;
+    try (FileChannel newLogChannel = FileChannel.open(newLogFile.toPath(),
+              StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+              StandardOpenOption.WRITE))
+    {
+      writeFully(newLogChannel, encodeLogHeader(newGeneration), 0L);
+      for (final Map.Entry<DN,RecordLocation> e : recoveredEntries.entrySet())
+      {
+        final RecordLocation location = e.getValue();
+        long transferred = 0L;
+        while (transferred < location.length)
+        {
+          transferred += logChannel.transferTo(location.offset + transferred,
+               location.length - transferred, newLogChannel.position(
+                    position + transferred));
+        }
+
+        newEntries.put(e.getKey(),
+             new RecordLocation(position, location.length));
+        position += location.length;
+      }
+
+      recordBuffer.clear();
+      recordBuffer.append(RECORD_TYPE_COMMIT);
+      pendingRecords.clear();
+      addPendingRecord();
+      position += writeFully(newLogChannel,
+           ByteBuffer.wrap(pendingRecords.getBackingArray(), 0,
+                pendingRecords.length()),
+           position);
+      pendingRecords.clear();
+      newLogChannel.force(true);
+    }
+
+    // Write the new index before moving the new log into place.  If the
+    // process is interrupted between the two, then the index will not match
+    // the generation of the old log and will not be used.
+    writeIndex(newGeneration, position, newEntries.entrySet());
+    closeQuietly(logChannel);
+    Files.move(newLogFile.toPath(), logFile.toPath(),
+         StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+    logChannel = FileChannel.open(logFile.toPath(), StandardOpenOption.READ,
+         StandardOpenOption.WRITE);
+    synchronized (segments)
+    {
+      segments.clear();
+    }
+
+    generation = newGeneration;
+    logLength = position;
+    recoveredEntries = newEntries;
+  }
+
+
+
+  /**
+   * Retrieves the location of the latest record for each entry that was found
+   * when the store was opened.  This may only be called once, and the store
+   * will not retain the returned map.
+   *
+   * @return  The location of the latest record for each entry that was found
+   *          when the store was opened.
+   */
+  @NotNull()
+  TreeMap<DN,RecordLocation> getRecoveredEntries()
+  {
+    final TreeMap<DN,RecordLocation> m = recoveredEntries;
+    recoveredEntries = null;
+    return m;
+  }
+
+
+
+  /**
+   * Retrieves the directory that holds the store files.
+   *
+   * @return  The directory that holds the store files.
+   */
+  @NotNull()
+  File getDirectory()
+  {
+    return directory;
+  }
+
+
+
+  /**
+   * Adds a record with the provided version of an entry to the pending
+   * changes.  It will not be durable until the changes are committed.
+   *
+   * @param  dn                The DN of the entry.
+   * @param  entry             The new version of the entry.
+   * @param  previousLocation  The location of the record that this one will
+   *                           supersede, if any.
+   *
+   * @return  The location of the new record in the log.
+   *
+   * @throws  LDAPException  If a problem occurs while writing to the log.
+   */
+  @NotNull()
+  RecordLocation appendPut(@NotNull final DN dn,
+                           @NotNull final ReadOnlyEntry entry,
+                           @Nullable final RecordLocation previousLocation)
+                 throws LDAPException
+  {
+    ensureWritable();
+
+    final byte[] dnBytes = StaticUtils.getBytes(dn.toString());
+    final List<Attribute> attributes = new ArrayList<>(entry.getAttributes());
+    final ASN1Element[] attributeElements =
+         new ASN1Element[attributes.size()];
+    for (int i=0; i < attributeElements.length; i++)
+    {
+      attributeElements[i] = attributes.get(i).encode();
+    }
+
+    recordBuffer.clear();
+    recordBuffer.append(RECORD_TYPE_PUT);
+    appendInt(recordBuffer, dnBytes.length);
+    recordBuffer.append(dnBytes);
+    new ASN1Sequence(attributeElements).encodeTo(recordBuffer);
+
+    final RecordLocation location = addPendingRecord();
+    if (previousLocation != null)
+    {
+      liveRecordBytes -= previousLocation.length;
+    }
+    liveRecordBytes += location.length;
+
+    flushPendingRecordsIfNecessary();
+    return location;
+  }
+
+
+
+  /**
+   * Adds a record indicating that an entry was deleted to the pending changes.
+   * It will not be durable until the changes are committed.
+   *
+   * @param  dn                The DN of the entry that was deleted.
+   * @param  previousLocation  The location of the latest record for the entry.
+   *
+   * @throws  LDAPException  If a problem occurs while writing to the log.
+   */
+  void appendDelete(@NotNull final DN dn,
+                    @NotNull final RecordLocation previousLocation)
+       throws LDAPException
+  {
+    ensureWritable();
+
+    recordBuffer.clear();
+    recordBuffer.append(RECORD_TYPE_DELETE);
+    recordBuffer.append(StaticUtils.getBytes(dn.toString()));
+    addPendingRecord();
+    liveRecordBytes -= previousLocation.length;
+
+    flushPendingRecordsIfNecessary();
+  }
+
+
+
+  /**
+   * Commits all pending changes by appending a commit record to the log and
+   * ensuring that all of the records have been written to disk.
+   *
+   * @throws  LDAPException  If a problem occurs while writing to the log.
+   */
+  void commit()
+       throws LDAPException
+  {
+    ensureWritable();
+
+    recordBuffer.clear();
+    recordBuffer.append(RECORD_TYPE_COMMIT);
+    addPendingRecord();
+    writePendingRecords();
+
+    try
+    {
+      logChannel.force(false);
+    }
+    catch (final IOException e)
+    {
+      Debug.debugException(e);
+      throw writeFailed(e);
+    }
+  }
+
+
+
+  /**
+   * Reads the version of an entry held in the specified record.
+   *
+   * @param  dn        The DN of the entry.
+   * @param  location  The location of the record that holds the entry.
+   *
+   * @return  The entry that was read.
+   *
+   * @throws  LDAPException  If a problem occurs while reading the entry.
+   */
+  @NotNull()
+  ReadOnlyEntry readEntry(@NotNull final DN dn,
+                          @NotNull final RecordLocation location)
+                throws LDAPException
+  {
+    try
+    {
+      final ByteBuffer buffer = getBuffer(
+           location.offset + RECORD_HEADER_LENGTH,
+           location.length - RECORD_HEADER_LENGTH);
+      if (buffer.get() != RECORD_TYPE_PUT)
+      {
+        throw new LDAPException(ResultCode.LOCAL_ERROR,
+             ERR_MEM_STORE_INVALID_RECORD.get(String.valueOf(dn),
+                  directory.getAbsolutePath()));
+      }
+
+      final int dnLength = buffer.getInt();
+      buffer.position(buffer.position() + dnLength);
+      final byte[] attributeBytes = new byte[buffer.remaining()];
+      buffer.get(attributeBytes);
+
+      final ASN1Element[] attributeElements =
+           ASN1Sequence.decodeAsSequence(attributeBytes).elements();
+      final ArrayList<Attribute> attributes =
+           new ArrayList<>(attributeElements.length);
+      for (final ASN1Element e : attributeElements)
+      {
+        final Attribute a =
+             Attribute.decode(ASN1Sequence.decodeAsSequence(e));
+        attributes.add(new Attribute(a.getName(),
+             MatchingRule.selectEqualityMatchingRule(a.getName(), schema),
+             a.getRawValues()));
+      }
+
+      return new ReadOnlyEntry(dn, schema, attributes);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      throw le;
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      throw new LDAPException(ResultCode.LOCAL_ERROR,
+           ERR_MEM_STORE_READ_FAILED.get(String.valueOf(dn),
+                directory.getAbsolutePath(),
+                StaticUtils.getExceptionMessage(e)),
+           e);
+    }
+  }
+
+
+
+  /**
+   * Writes a new index for the entry log so that the store can be opened
+   * without replaying the records that it covers.  There must not be any
+   * uncommitted changes.
+   *
+   * @param  entries  The location of the latest record for each entry.
+   *
+   * @throws  LDAPException  If a problem occurs while writing the index.
+   */
+  void checkpoint(@NotNull final Iterable<Map.Entry<DN,RecordLocation>> entries)
+       throws LDAPException
+  {
+    ensureWritable();
+
+    try
+    {
+      writeIndex(generation, logLength, entries);
+    }
+    catch (final IOException e)
+    {
+      Debug.debugException(e);
+      throw new LDAPException(ResultCode.LOCAL_ERROR,
+           ERR_MEM_STORE_WRITE_FAILED.get(directory.getAbsolutePath(),
+                StaticUtils.getExceptionMessage(e)),
+           e);
+    }
+  }
+
+
+
+  /**
+   * Closes the store files and releases the lock on the store.  Any entries
+   * in parts of the log that have already been mapped into memory may still
+   * be read, but no further changes may be made.
+   */
+  @Override()
+  public void close()
+  {
+    if (writeFailure == null)
+    {
+      writeFailure = new IOException(
+           ERR_MEM_STORE_CLOSED.get(directory.getAbsolutePath()));
+    }
+
+    closeQuietly(logChannel);
+    releaseQuietly(fileLock);
+    closeQuietly(lockChannel);
+  }
+
+
+
+  /**
+   * Ensures that changes may be written to the store.
+   *
+   * @throws  LDAPException  If the store has been closed or a previous attempt
+   *                         to write to it failed.
+   */
+  private void ensureWritable()
+          throws LDAPException
+  {
+    final IOException e = writeFailure;
+    if (e != null)
+    {
+      throw new LDAPException(ResultCode.UNWILLING_TO_PERFORM,
+           ERR_MEM_STORE_NOT_WRITABLE.get(directory.getAbsolutePath(),
+                StaticUtils.getExceptionMessage(e)),
+           e);
+    }
+  }
+
+
+
+  /**
+   * Adds the record held in the record buffer to the pending records.
+   *
+   * @return  The location that the record will have in the log.
+   */
+  @NotNull()
+  private RecordLocation addPendingRecord()
+  {
+    final int length = recordBuffer.length();
+    final CRC32 crc = new CRC32();
+    crc.update(recordBuffer.getBackingArray(), 0, length);
+
+    final RecordLocation location = new RecordLocation(
+         logLength + pendingRecords.length(), RECORD_HEADER_LENGTH + length);
+    appendInt(pendingRecords, length);
+    appendInt(pendingRecords, (int) crc.getValue());
+    pendingRecords.append(recordBuffer);
+    return location;
+  }
+
+
+
+  /**
+   * Writes the pending records to the log if there are enough of them that
+   * they should not continue to be buffered.
+   *
+   * @throws  LDAPException  If a problem occurs while writing to the log.
+   */
+  private void flushPendingRecordsIfNecessary()
+          throws LDAPException
+  {
+    if (pendingRecords.length() >= MAX_PENDING_BYTES)
+    {
+      writePendingRecords();
+    }
+  }
+
+
+
+  /**
+   * Writes the pending records to the log.  If this fails, then the store will
+   * not accept any further changes.
+   *
+   * @throws  LDAPException  If a problem occurs while writing to the log.
+   */
+  private void writePendingRecords()
+          throws LDAPException
+  {
+    try
+    {
+      logLength += writeFully(logChannel,
+           ByteBuffer.wrap(pendingRecords.getBackingArray(), 0,
+                pendingRecords.length()),
+           logLength);
+    }
+    catch (final IOException e)
+    {
+      Debug.debugException(e);
+      throw writeFailed(e);
+    }
+    finally
+    {
+      pendingRecords.clear();
+    }
+  }
+
+
+
+  /**
+   * Records that an attempt to write to the log failed, so that the store will
+   * not accept any further changes, and creates an exception for it.
+   *
+   * @param  e  The exception caught while writing to the log.
+   *
+   * @return  The exception to throw.
+   */
+  @NotNull()
+  private LDAPException writeFailed(@NotNull final IOException e)
+  {
+    writeFailure = e;
+    return new LDAPException(ResultCode.LOCAL_ERROR,
+         ERR_MEM_STORE_WRITE_FAILED.get(directory.getAbsolutePath(),
+              StaticUtils.getExceptionMessage(e)),
+         e);
+  }
+
+
+
+  /**
+   * Retrieves a buffer with the specified portion of the entry log.  It will
+   * be taken from a memory-mapped segment of the log if possible.
+   *
+   * @param  offset  The position in the log at which the data starts.
+   * @param  length  The number of bytes of data to retrieve.
+   *
+   * @return  A buffer with the requested data, positioned at its start.
+   *
+   * @throws  IOException  If a problem occurs while reading the log.
+   */
+  @NotNull()
+  private ByteBuffer getBuffer(final long offset, final int length)
+          throws IOException
+  {
+    final int segmentIndex = (int) (offset / SEGMENT_SIZE);
+    final long segmentStart = segmentIndex * SEGMENT_SIZE;
+    final long end = offset + length;
+    if (end > segmentStart + SEGMENT_SIZE)
+    {
+      // The data spans two segments, so read it directly.
+      final ByteBuffer buffer = ByteBuffer.allocate(length);
+      readFully(logChannel, buffer, offset);
+      buffer.flip();
+      return buffer;
+    }
+
+    MappedByteBuffer segment;
+    synchronized (segments)
+    {
+      while (segments.size() <= segmentIndex)
+      {
+        segments.add(null);
+      }
+
+      segment = segments.get(segmentIndex);
+      if ((segment == null) || ((segmentStart + segment.capacity()) < end))
+      {
+        final long segmentLength =
+             Math.min(SEGMENT_SIZE, logLength - segmentStart);
+        segment = logChannel.map(FileChannel.MapMode.READ_ONLY, segmentStart,
+             segmentLength);
+        segments.set(segmentIndex, segment);
+      }
+    }
+
+    final ByteBuffer buffer = segment.duplicate();
+    buffer.position((int) (offset - segmentStart));
+    buffer.limit((int) (end - segmentStart));
+    return buffer.slice();
+  }
+
+
+
+  /**
+   * Encodes the header for an entry log with the specified generation.
+   *
+   * @param  logGeneration  The generation of the entry log.
+   *
+   * @return  A buffer with the encoded header.
+   */
+  @NotNull()
+  private static ByteBuffer encodeLogHeader(final long logGeneration)
+  {
+    final ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_LENGTH);
+    header.putInt(LOG_MAGIC);
+    header.putInt(FORMAT_VERSION);
+    header.putLong(logGeneration);
+    header.flip();
+    return header;
+  }
+
+
+
+  /**
+   * Appends the big-endian encoding of the provided integer to the given
+   * buffer.
+   *
+   * @param  buffer  The buffer to which the value should be appended.
+   * @param  i       The value to append.
+   */
+  private static void appendInt(@NotNull final ByteStringBuffer buffer,
+                                final int i)
+  {
+    buffer.append((byte) (i >>> 24));
+    buffer.append((byte) (i >>> 16));
+    buffer.append((byte) (i >>> 8));
+    buffer.append((byte) i);
+  }
+
+
+
+  /**
+   * Writes all of the data in the provided buffer to the given channel.
+   *
+   * @param  channel   The channel to which the data should be written.
+   * @param  buffer    The buffer with the data to write.
+   * @param  position  The position in the channel at which to write the data.
+   *
+   * @return  The number of bytes that were written.
+   *
+   * @throws  IOException  If a problem occurs while writing the data.
+   */
+  private static int writeFully(@NotNull final FileChannel channel,
+                                @NotNull final ByteBuffer buffer,
+                                final long position)
+          throws IOException
+  {
+    int written = 0;
+    while (buffer.hasRemaining())
+    {
+      written += channel.write(buffer, position + written);
+    }
+
+    return written;
+  }
+
+
+
+  /**
+   * Reads from the provided channel until the given buffer is full.
+   *
+   * @param  channel   The channel from which the data should be read.
+   * @param  buffer    The buffer to fill.
+   * @param  position  The position in the channel at which to start reading.
+   *
+   * @throws  IOException  If a problem occurs while reading the data, or if
+   *                       the end of the channel is reached first.
+   */
+  private static void readFully(@NotNull final FileChannel channel,
+                                @NotNull final ByteBuffer buffer,
+                                final long position)
+          throws IOException
+  {
+    long readPosition = position;
+    while (buffer.hasRemaining())
+    {
+      final int bytesRead = channel.read(buffer, readPosition);
+      if (bytesRead < 0)
+      {
+        throw new EOFException();
+      }
+
+      readPosition += bytesRead;
+    }
+  }
+
+
+
+  /**
+   * Closes the provided channel, ignoring any exception that may occur.
+   *
+   * @param  channel  The channel to close.
+   */
+  private static void closeQuietly(@NotNull final FileChannel channel)
+  {
+    try
+    {
+      channel.close();
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+    }
+  }
+
+
+
+  /**
+   * Releases the provided file lock, ignoring any exception that may occur.
+   *
+   * @param  lock  The lock to release.
+   */
+  private static void releaseQuietly(@NotNull final FileLock lock)
+  {
+    try
+    {
+      lock.release();
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+    }
+  }
+
+
+
+  /**
+   * This class provides a data structure that holds the location of a record
+   * in the entry log.
+   */
+  static final class RecordLocation
+  {
+    // The total length of the record, including its header.
+    private final int length;
+
+    // The position of the record in the log.
+    private final long offset;
+
+
+
+    /**
+     * Creates a new record location with the provided information.
+     *
+     * @param  offset  The position of the record in the log.
+     * @param  length  The total length of the record, including its header.
+     */
+    private RecordLocation(final long offset, final int length)
+    {
+      this.offset = offset;
+      this.length = length;
+    }
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.schema.AttributeTypeDefinition;
+import com.unboundid.ldap.sdk.schema.Schema;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.listener.ListenerMessages.*;
+
+
+
+/**
+ * This class provides a data structure for maintaining a presence index for a
+ * specified attribute.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class InMemoryDirectoryServerPresenceAttributeIndex
+       extends InMemoryDirectoryServerAttributeIndex
+{
+  // The attribute type with which this index is associated.
+  @NotNull private final AttributeTypeDefinition attributeType;
+
+  // The schema for the server.
+  @NotNull private final Schema schema;
+
+  // The IDs of the entries that contain the associated attribute.
+  @NotNull private final InMemoryDirectoryServerBitmap idSet;
+
+
+
+  /**
+   * Creates a new presence attribute index for the specified attribute type.
+   *
+   * @param  attributeType  The name or OID of the attribute type with which
+   *                        this index is associated.  It must be defined in the
+   *                        schema.
+   * @param  schema         The schema for the server.  It must not be
+   *                        {@code null}.
+   *
+   * @throws  LDAPException  If the specified attribute type is not defined in
+   *                         the schema.
+   */
+  InMemoryDirectoryServerPresenceAttributeIndex(
+       @NotNull final String attributeType, @NotNull final Schema schema)
+       throws LDAPException
+  {
+    this.schema = schema;
+    if (schema == null)
+    {
+      throw new LDAPException(ResultCode.PARAM_ERROR,
+           ERR_DS_PRES_INDEX_NO_SCHEMA.get(attributeType));
+    }
+
+    this.attributeType = schema.getAttributeType(attributeType);
+    if (this.attributeType == null)
+    {
+      throw new LDAPException(ResultCode.PARAM_ERROR,
+           ERR_DS_PRES_INDEX_UNDEFINED_ATTRIBUTE_TYPE.get(attributeType));
+    }
+
+    idSet = new InMemoryDirectoryServerBitmap();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  AttributeTypeDefinition getAttributeType()
+  {
+    return attributeType;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  synchronized void clear()
+  {
+    idSet.clear();
+  }
+
+
+
+  /**
+   * Obtains a copy of the set of entry IDs held in this index.  This is only
+   * intended for internal use for testing purposes.
+   *
+   * @return  A copy of the set of entry IDs held in this index.
+   */
+  @InternalUseOnly()
+  @NotNull()
+  synchronized InMemoryDirectoryServerBitmap copySet()
+  {
+    return new InMemoryDirectoryServerBitmap(idSet);
+  }
+
+
+
+  /**
+   * Retrieves the IDs of the entries that contain the associated attribute.
+   *
+   * @return  A bitmap containing the IDs of the entries that contain the
+   *          associated attribute, or an empty bitmap if there are none.  The
+   *          returned bitmap is a copy and may be altered by the caller.
+   */
+  @NotNull()
+  synchronized InMemoryDirectoryServerBitmap getMatchingEntries()
+  {
+    return new InMemoryDirectoryServerBitmap(idSet);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  synchronized void processAdd(@NotNull final Entry entry, final int entryID)
+               throws LDAPException
+  {
+    if (entry.hasAttribute(attributeType.getNameOrOID(), schema))
+    {
+      idSet.add(entryID);
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  synchronized void processDelete(@NotNull final Entry entry,
+                                  final int entryID)
+               throws LDAPException
+  {
+    if (entry.hasAttribute(attributeType.getNameOrOID(), schema))
+    {
+      idSet.remove(entryID);
+    }
+  }
+}
@@ -46,6 +46,7 @@ import com.unboundid.ldap.sdk.DN;
 import com.unboundid.ldap.sdk.ReadOnlyEntry;
 import com.unboundid.util.NotMutable;
 import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 
@@ -57,6 +58,14 @@ import com.unboundid.util.ThreadSafetyLevel;
  * will reflect only data held in the server (including both user data and any
  * changelog information, if that is enabled), but will not alter the settings
  * of the server which are defined through configuration.
+ * <BR><BR>
+ * Creating a snapshot does not require copying the data held in the server.
+ * Instead, the server keeps the original version of each entry that is
+ * altered after the snapshot is created, for as long as the snapshot remains
+ * referenced.  Restoring a snapshot into the server from which it was created
+ * only needs to revert the entries that have changed since then, and a
+ * snapshot that is no longer needed should not be retained so that the server
+ * can stop keeping track of those changes.
  */
 @NotMutable()
 @ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
@@ -77,7 +86,14 @@ public final class InMemoryDirectoryServerSnapshot
   private final long lastChangeNumber;
 
   // The set of entries held in the server at the time the snapshot was created.
-  @NotNull private final Map<DN,ReadOnlyEntry> entryMap;
+  // This will be null until it is needed if the snapshot was created with a
+  // change tracker.
+  @Nullable private volatile Map<DN,ReadOnlyEntry> entryMap;
+
+  // The tracker for changes made to the server's entry map since the snapshot
+  // was created, if available.
+  @Nullable private final transient
+       InMemoryDirectoryServerEntryMap.ChangeTracker changeTracker;
 
 
 
@@ -101,6 +117,33 @@ public final class InMemoryDirectoryServerSnapshot
     this.lastChangeNumber  = lastChangeNumber;
 
     entryMap = Collections.unmodifiableMap(new TreeMap<>(m));
+    changeTracker = null;
+  }
+
+
+
+  /**
+   * Creates a new in-memory directory server snapshot that uses the provided
+   * change tracker to determine the entries contained in the server at the
+   * time the snapshot was created.
+   *
+   * @param  changeTracker      The tracker for changes made to the server's
+   *                            entry map since the snapshot was created.
+   * @param  firstChangeNumber  The first change number value at the time the
+   *                            snapshot was created.
+   * @param  lastChangeNumber   The last change number value at the time the
+   *                            snapshot was created.
+   */
+  InMemoryDirectoryServerSnapshot(
+       @NotNull final InMemoryDirectoryServerEntryMap.ChangeTracker
+            changeTracker,
+       final long firstChangeNumber, final long lastChangeNumber)
+  {
+    this.changeTracker     = changeTracker;
+    this.firstChangeNumber = firstChangeNumber;
+    this.lastChangeNumber  = lastChangeNumber;
+
+    entryMap = null;
   }
 
 
@@ -117,7 +160,29 @@ public final class InMemoryDirectoryServerSnapshot
   @NotNull()
   public Map<DN,ReadOnlyEntry> getEntryMap()
   {
-    return entryMap;
+    Map<DN,ReadOnlyEntry> m = entryMap;
+    if (m == null)
+    {
+      m = Collections.unmodifiableMap(changeTracker.getOriginalContent());
+      entryMap = m;
+    }
+
+    return m;
+  }
+
+
+
+  /**
+   * Retrieves the tracker for changes made to the server's entry map since
+   * the snapshot was created, if available.
+   *
+   * @return  The tracker for changes made to the server's entry map since the
+   *          snapshot was created, or {@code null} if it is not available.
+   */
+  @Nullable()
+  InMemoryDirectoryServerEntryMap.ChangeTracker getChangeTracker()
+  {
+    return changeTracker;
   }
 
 
@@ -147,4 +212,27 @@ public final class InMemoryDirectoryServerSnapshot
   {
     return lastChangeNumber;
   }
+
+
+
+  /**
+   * Retrieves the object that should be serialized in place of this snapshot,
+   * which will be a snapshot that holds a copy of all of the entries rather
+   * than a change tracker.
+   *
+   * @return  The object that should be serialized in place of this snapshot.
+   */
+  @NotNull()
+  private Object writeReplace()
+  {
+    if (changeTracker == null)
+    {
+      return this;
+    }
+    else
+    {
+      return new InMemoryDirectoryServerSnapshot(getEntryMap(),
+           firstChangeNumber, lastChangeNumber);
+    }
+  }
 }
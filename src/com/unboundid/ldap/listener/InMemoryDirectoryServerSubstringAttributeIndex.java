@@ -0,0 +1,475 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.matchingrules.MatchingRule;
+import com.unboundid.ldap.matchingrules.SimpleMatchingRule;
+import com.unboundid.ldap.sdk.Attribute;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.schema.AttributeTypeDefinition;
+import com.unboundid.ldap.sdk.schema.Schema;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.listener.ListenerMessages.*;
+
+
+
+/**
+ * This class provides a data structure for maintaining a substring index for a
+ * specified attribute.  Normalized values are held in a sorted map so that
+ * subInitial components can be processed with a range lookup, and every
+ * fixed-length sequence of bytes (n-gram) contained in the normalized values
+ * is also indexed so that subAny and subFinal components can be used to narrow
+ * the set of candidate entries.  The set of entries returned for a substring
+ * filter may be a superset of the entries that actually match it, so each
+ * candidate must still be checked against the filter.
+ * <BR><BR>
+ * Normalized values are represented as ISO-8859-1 strings so that each byte of
+ * the normalized value maps to exactly one character, and the ordering of the
+ * strings matches the ordering of the underlying bytes.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class InMemoryDirectoryServerSubstringAttributeIndex
+       extends InMemoryDirectoryServerAttributeIndex
+{
+  /**
+   * The number of bytes in each n-gram held in the index.
+   */
+  static final int GRAM_LENGTH = 3;
+
+
+
+  // The attribute type with which this index is associated.
+  @NotNull private final AttributeTypeDefinition attributeType;
+
+  // A map from n-grams of normalized values to the IDs of entries with values
+  // that contain them.
+  @NotNull private final Map<String,InMemoryDirectoryServerBitmap> gramMap;
+
+  // The matching rule used to normalize values.
+  @NotNull private final MatchingRule matchingRule;
+
+  // The schema for the server.
+  @NotNull private final Schema schema;
+
+  // A map from normalized values to the IDs of entries with those values.
+  @NotNull private final TreeMap<String,InMemoryDirectoryServerBitmap>
+       valueMap;
+
+
+
+  /**
+   * Creates a new substring attribute index for the specified attribute type.
+   *
+   * @param  attributeType  The name or OID of the attribute type with which
+   *                        this index is associated.  It must be defined in the
+   *                        schema.
+   * @param  schema         The schema for the server.  It must not be
+   *                        {@code null}.
+   *
+   * @throws  LDAPException  If the specified attribute type is not defined in
+   *                         the schema.
+   */
+  InMemoryDirectoryServerSubstringAttributeIndex(
+       @NotNull final String attributeType, @NotNull final Schema schema)
+       throws LDAPException
+  {
+    this.schema = schema;
+    if (schema == null)
+    {
+      throw new LDAPException(ResultCode.PARAM_ERROR,
+           ERR_DS_SUBSTR_INDEX_NO_SCHEMA.get(attributeType));
+    }
+
+    this.attributeType = schema.getAttributeType(attributeType);
+    if (this.attributeType == null)
+    {
+      throw new LDAPException(ResultCode.PARAM_ERROR,
+           ERR_DS_SUBSTR_INDEX_UNDEFINED_ATTRIBUTE_TYPE.get(attributeType));
+    }
+
+    matchingRule = MatchingRule.selectSubstringMatchingRule(attributeType,
+         schema);
+
+    gramMap = new HashMap<>(StaticUtils.computeMapCapacity(100));
+    valueMap = new TreeMap<>();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  AttributeTypeDefinition getAttributeType()
+  {
+    return attributeType;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  synchronized void clear()
+  {
+    gramMap.clear();
+    valueMap.clear();
+  }
+
+
+
+  /**
+   * Obtains a copy of the internal value map used by this index.  This is
+   * only intended for internal use for testing purposes.
+   *
+   * @return  A copy of the internal value map used by this index.
+   */
+  @InternalUseOnly()
+  @NotNull()
+  synchronized Map<String,InMemoryDirectoryServerBitmap> copyValueMap()
+  {
+    final TreeMap<String,InMemoryDirectoryServerBitmap> m = new TreeMap<>();
+    for (final Map.Entry<String,InMemoryDirectoryServerBitmap> e :
+         valueMap.entrySet())
+    {
+      m.put(e.getKey(), new InMemoryDirectoryServerBitmap(e.getValue()));
+    }
+
+    return Collections.unmodifiableMap(m);
+  }
+
+
+
+  /**
+   * Obtains a copy of the internal n-gram map used by this index.  This is
+   * only intended for internal use for testing purposes.
+   *
+   * @return  A copy of the internal n-gram map used by this index.
+   */
+  @InternalUseOnly()
+  @NotNull()
+  synchronized Map<String,InMemoryDirectoryServerBitmap> copyGramMap()
+  {
+    final HashMap<String,InMemoryDirectoryServerBitmap> m =
+         new HashMap<>(StaticUtils.computeMapCapacity(gramMap.size()));
+    for (final Map.Entry<String,InMemoryDirectoryServerBitmap> e :
+         gramMap.entrySet())
+    {
+      m.put(e.getKey(), new InMemoryDirectoryServerBitmap(e.getValue()));
+    }
+
+    return Collections.unmodifiableMap(m);
+  }
+
+
+
+  /**
+   * Retrieves the IDs of the entries that may match a substring filter with
+   * the provided components.
+   *
+   * @param  subInitial  The subInitial component of the filter, if any.
+   * @param  subAny      The subAny components of the filter, if any.
+   * @param  subFinal    The subFinal component of the filter, if any.
+   *
+   * @return  A bitmap containing the IDs of the entries that may match the
+   *          filter, or {@code null} if the index cannot be used to narrow the
+   *          set of candidate entries (e.g., because none of the components is
+   *          long enough, or because the substring matching rule does not
+   *          compare normalized bytes).  The returned bitmap is a copy and may
+   *          be altered by the caller.
+   *
+   * @throws  LDAPException  If a problem is encountered while attempting to
+   *                         make the determination (e.g., if one of the
+   *                         components is not acceptable for the associated
+   *                         attribute type).
+   */
+  @Nullable()
+  synchronized InMemoryDirectoryServerBitmap getMatchingEntries(
+                            @Nullable final ASN1OctetString subInitial,
+                            @Nullable final ASN1OctetString[] subAny,
+                            @Nullable final ASN1OctetString subFinal)
+               throws LDAPException
+  {
+    // The n-gram and prefix lookups mirror the byte-wise comparison performed
+    // by the simple matching rule implementation.  Other matching rules may
+    // use their own logic, so don't try to use the index for them.
+    if (! (matchingRule instanceof SimpleMatchingRule))
+    {
+      return null;
+    }
+
+    InMemoryDirectoryServerBitmap candidateSet = null;
+    final List<String> grams = new ArrayList<>(10);
+
+    if (subInitial != null)
+    {
+      final String prefix = toString(matchingRule.normalizeSubstring(
+           subInitial, MatchingRule.SUBSTRING_TYPE_SUBINITIAL));
+      if (! prefix.isEmpty())
+      {
+        // All characters in the map keys are in the range 0x00 through 0xFF,
+        // so any value that starts with the prefix will sort before the
+        // prefix followed by 0x100.
+        final String upperBound = prefix + ((char) 0x100);
+        candidateSet = new InMemoryDirectoryServerBitmap();
+        for (final InMemoryDirectoryServerBitmap idSet :
+             valueMap.subMap(prefix, true, upperBound, false).values())
+        {
+          candidateSet.addAll(idSet);
+        }
+      }
+    }
+
+    if (subAny != null)
+    {
+      for (final ASN1OctetString s : subAny)
+      {
+        addGrams(toString(matchingRule.normalizeSubstring(s,
+             MatchingRule.SUBSTRING_TYPE_SUBANY)), grams);
+      }
+    }
+
+    if (subFinal != null)
+    {
+      addGrams(toString(matchingRule.normalizeSubstring(subFinal,
+           MatchingRule.SUBSTRING_TYPE_SUBFINAL)), grams);
+    }
+
+    for (final String gram : grams)
+    {
+      if ((candidateSet != null) && candidateSet.isEmpty())
+      {
+        break;
+      }
+
+      final InMemoryDirectoryServerBitmap idSet = gramMap.get(gram);
+      if (idSet == null)
+      {
+        return new InMemoryDirectoryServerBitmap();
+      }
+      else if (candidateSet == null)
+      {
+        candidateSet = new InMemoryDirectoryServerBitmap(idSet);
+      }
+      else
+      {
+        candidateSet.retainAll(idSet);
+      }
+    }
+
+    return candidateSet;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  synchronized void processAdd(@NotNull final Entry entry, final int entryID)
+               throws LDAPException
+  {
+    final Attribute a =
+         entry.getAttribute(attributeType.getNameOrOID(), schema);
+    if (a != null)
+    {
+      final ASN1OctetString[] rawValues = a.getRawValues();
+      final String[] normalizedValues = new String[rawValues.length];
+      for (int i=0; i < rawValues.length; i++)
+      {
+        normalizedValues[i] = toString(matchingRule.normalize(rawValues[i]));
+      }
+
+      for (final String v : normalizedValues)
+      {
+        InMemoryDirectoryServerBitmap idSet = valueMap.get(v);
+        if (idSet == null)
+        {
+          idSet = new InMemoryDirectoryServerBitmap();
+          valueMap.put(v, idSet);
+        }
+        idSet.add(entryID);
+      }
+
+      for (final String gram : getGrams(normalizedValues))
+      {
+        InMemoryDirectoryServerBitmap idSet = gramMap.get(gram);
+        if (idSet == null)
+        {
+          idSet = new InMemoryDirectoryServerBitmap();
+          gramMap.put(gram, idSet);
+        }
+        idSet.add(entryID);
+      }
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  synchronized void processDelete(@NotNull final Entry entry,
+                                  final int entryID)
+               throws LDAPException
+  {
+    final Attribute a =
+         entry.getAttribute(attributeType.getNameOrOID(), schema);
+    if (a != null)
+    {
+      final ASN1OctetString[] rawValues = a.getRawValues();
+      final String[] normalizedValues = new String[rawValues.length];
+      for (int i=0; i < rawValues.length; i++)
+      {
+        normalizedValues[i] = toString(matchingRule.normalize(rawValues[i]));
+      }
+
+      for (final String v : normalizedValues)
+      {
+        final InMemoryDirectoryServerBitmap idSet = valueMap.get(v);
+        if (idSet != null)
+        {
+          idSet.remove(entryID);
+          if (idSet.isEmpty())
+          {
+            valueMap.remove(v);
+          }
+        }
+      }
+
+      for (final String gram : getGrams(normalizedValues))
+      {
+        final InMemoryDirectoryServerBitmap idSet = gramMap.get(gram);
+        if (idSet != null)
+        {
+          idSet.remove(entryID);
+          if (idSet.isEmpty())
+          {
+            gramMap.remove(gram);
+          }
+        }
+      }
+    }
+  }
+
+
+
+  /**
+   * Retrieves the set of all n-grams contained in any of the provided
+   * normalized values.
+   *
+   * @param  normalizedValues  The normalized values for which to retrieve the
+   *                           n-grams.
+   *
+   * @return  The set of all n-grams contained in any of the provided values.
+   */
+  @NotNull()
+  private static Set<String> getGrams(@NotNull final String[] normalizedValues)
+  {
+    final HashSet<String> gramSet =
+         new HashSet<>(StaticUtils.computeMapCapacity(20));
+    final ArrayList<String> gramList = new ArrayList<>(20);
+    for (final String v : normalizedValues)
+    {
+      gramList.clear();
+      addGrams(v, gramList);
+      gramSet.addAll(gramList);
+    }
+
+    return gramSet;
+  }
+
+
+
+  /**
+   * Adds all n-grams contained in the provided normalized string to the given
+   * list.  Nothing will be added if the string is shorter than the n-gram
+   * length.
+   *
+   * @param  s      The normalized string for which to add the n-grams.
+   * @param  grams  The list to which the n-grams should be added.
+   */
+  private static void addGrams(@NotNull final String s,
+                               @NotNull final List<String> grams)
+  {
+    for (int i=0; (i + GRAM_LENGTH) <= s.length(); i++)
+    {
+      grams.add(s.substring(i, (i + GRAM_LENGTH)));
+    }
+  }
+
+
+
+  /**
+   * Retrieves a string representation of the provided normalized value in
+   * which each byte is represented by a single character.
+   *
+   * @param  normalizedValue  The normalized value to convert.
+   *
+   * @return  A string representation of the provided normalized value.
+   */
+  @NotNull()
+  private static String toString(@NotNull final ASN1OctetString normalizedValue)
+  {
+    return new String(normalizedValue.getValue(), StandardCharsets.ISO_8859_1);
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.ArrayList;
+
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.schema.EntryValidator;
+import com.unboundid.ldap.sdk.schema.Schema;
+import com.unboundid.ldif.LDIFException;
+import com.unboundid.ldif.LDIFReaderEntryTranslator;
+import com.unboundid.util.Debug;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.listener.ListenerMessages.*;
+
+
+
+/**
+ * This class provides an LDIF reader entry translator that is used during a
+ * bulk import into the in-memory directory server.  It performs all of the
+ * processing for each entry that does not depend on the current content of
+ * the server, so that it may be carried out by the LDIF reader's parse
+ * threads in parallel.  This includes parsing the DN, applying the
+ * appropriate matching rules, adding RDN values and superior object classes,
+ * and validating the entry against the schema.
+ * <BR><BR>
+ * If an entry cannot be prepared, then the translator will throw an
+ * {@code LDIFException} whose cause is an {@code LDAPException} with the same
+ * result code and message that would have been used when processing an add
+ * request for that entry.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class InMemoryImportEntryTranslator
+       implements LDIFReaderEntryTranslator
+{
+  // The entry validator to use for the import, if any.
+  @Nullable private final EntryValidator entryValidator;
+
+  // The statistics to update as entries are read.
+  @NotNull private final InMemoryDirectoryServerImportStatistics statistics;
+
+  // The schema to use for the import, if any.
+  @Nullable private final Schema schema;
+
+
+
+  /**
+   * Creates a new import entry translator with the provided information.
+   *
+   * @param  schema          The schema to use for the import.  It may be
+   *                         {@code null} if no schema is available.
+   * @param  entryValidator  The entry validator to use for the import.  It may
+   *                         be {@code null} if entries should not be
+   *                         validated.
+   * @param  statistics      The statistics to update as entries are read.
+   */
+  InMemoryImportEntryTranslator(@Nullable final Schema schema,
+       @Nullable final EntryValidator entryValidator,
+       @NotNull final InMemoryDirectoryServerImportStatistics statistics)
+  {
+    this.schema = schema;
+    this.entryValidator = entryValidator;
+    this.statistics = statistics;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public Entry translate(@NotNull final Entry original,
+                         final long firstLineNumber)
+         throws LDIFException
+  {
+    final Entry entry = InMemoryRequestHandler.createEntryToAdd(
+         original.getDN(), original.getAttributes(), schema);
+
+    final DN dn;
+    try
+    {
+      dn = entry.getParsedDN();
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      throw createException(new LDAPException(ResultCode.INVALID_DN_SYNTAX,
+           ERR_MEM_HANDLER_ADD_MALFORMED_DN.get(original.getDN(),
+                le.getMessage()),
+           le),
+           firstLineNumber);
+    }
+
+    InMemoryRequestHandler.completeEntryToAdd(entry, dn, schema);
+
+    if (entryValidator != null)
+    {
+      final ArrayList<String> invalidReasons = new ArrayList<>(1);
+      if (! entryValidator.entryIsValid(entry, invalidReasons))
+      {
+        throw createException(
+             new LDAPException(ResultCode.OBJECT_CLASS_VIOLATION,
+                  ERR_MEM_HANDLER_ADD_VIOLATES_SCHEMA.get(original.getDN(),
+                       StaticUtils.concatenateStrings(invalidReasons))),
+             firstLineNumber);
+      }
+    }
+
+    statistics.entryRead();
+    return entry;
+  }
+
+
+
+  /**
+   * Creates an LDIF exception that wraps the provided LDAP exception.
+   *
+   * @param  cause       The LDAP exception to be wrapped.
+   * @param  lineNumber  The line number of the first line of the LDIF record
+   *                     for the entry that could not be prepared.
+   *
+   * @return  The LDIF exception that was created.
+   */
+  @NotNull()
+  private static LDIFException createException(
+                                    @NotNull final LDAPException cause,
+                                    final long lineNumber)
+  {
+    return new LDIFException(cause.getMessage(), lineNumber, false, cause);
+  }
+}
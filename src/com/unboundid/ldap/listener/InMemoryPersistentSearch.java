@@ -0,0 +1,650 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.protocol.SearchResultDoneProtocolOp;
+import com.unboundid.ldap.sdk.Control;
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.Filter;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.ReadOnlyEntry;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.SearchScope;
+import com.unboundid.ldap.sdk.controls.ContentSyncDoneControl;
+import com.unboundid.ldap.sdk.controls.ContentSyncState;
+import com.unboundid.ldap.sdk.controls.ContentSyncStateControl;
+import com.unboundid.ldap.sdk.controls.EntryChangeNotificationControl;
+import com.unboundid.ldap.sdk.controls.PersistentSearchChangeType;
+import com.unboundid.ldap.sdk.schema.Schema;
+import com.unboundid.util.Debug;
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.listener.ListenerMessages.*;
+
+
+
+/**
+ * This class provides a thread that will be used to return changes to the
+ * client for a persistent search or a content synchronization operation in
+ * refreshAndPersist mode that is being processed by the
+ * {@link InMemoryRequestHandler}.  Changes are added to a bounded queue by the
+ * {@link InMemoryChangeNotifier} as they are made, and this thread will
+ * retrieve them from that queue and return those that match the search
+ * criteria to the client.  If the queue fills up because the client is not
+ * reading changes quickly enough, then the operation will be terminated.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class InMemoryPersistentSearch
+      extends Thread
+{
+  /**
+   * A change that will be added to the queue to indicate that the thread
+   * should stop processing changes.
+   */
+  @NotNull private static final InMemoryChangeNotifier.Change END_OF_CHANGES =
+       new InMemoryChangeNotifier.Change(PersistentSearchChangeType.ADD, null,
+            null, -1L);
+
+
+
+  // Indicates whether the operation has been terminated.
+  @NotNull private final AtomicBoolean terminated;
+
+  // The queue of changes that have not yet been processed.
+  @NotNull private final ArrayBlockingQueue<InMemoryChangeNotifier.Change>
+       changeQueue;
+
+  // Indicates whether the operation has been activated.
+  private volatile boolean activated;
+
+  // Indicates whether entries including the ldapSubEntry or
+  // inheritableLDAPSubEntry object classes should be returned.
+  private boolean includeSubEntries;
+
+  // Indicates whether entries not including the ldapSubEntry or
+  // inheritableLDAPSubEntry object classes should be returned.
+  private boolean includeNonSubEntries;
+
+  // Indicates whether persistent search entries should include the entry
+  // change notification control.
+  private boolean returnECs;
+
+  // The maximum number of changes that may be queued.
+  private final int maxQueuedChanges;
+
+  // The message ID of the associated search request.
+  private final int messageID;
+
+  // The change number of the last change returned to the client for a content
+  // synchronization operation.
+  private long lastChangeNumber;
+
+  // The change number of the last change that was reflected in the initial
+  // search, so that it does not need to be returned again.
+  private long skipThroughChangeNumber;
+
+  // The base DN for the search.
+  @Nullable private DN baseDN;
+
+  // The filter for the search.
+  @Nullable private Filter filter;
+
+  // The client connection to which changes should be returned.
+  @NotNull private final LDAPListenerClientConnection clientConnection;
+
+  // The change notifier with which this operation is registered.
+  @NotNull private final InMemoryChangeNotifier changeNotifier;
+
+  // The entry processor that will be used to return entries to the client.
+  @Nullable private InMemorySearchEntryProcessor entryProcessor;
+
+  // The result code to use in the search result done message, or null if no
+  // search result done message should be returned.
+  @Nullable private volatile ResultCode resultCode;
+
+  // The schema to use when matching entries against the filter.
+  @Nullable private Schema schema;
+
+  // The scope for the search.
+  @Nullable private SearchScope scope;
+
+  // The types of changes that should be returned for a persistent search, or
+  // null for a content synchronization operation.
+  @Nullable private Set<PersistentSearchChangeType> changeTypes;
+
+  // The diagnostic message to use in the search result done message.
+  @Nullable private volatile String diagnosticMessage;
+
+
+
+  /**
+   * Creates a new persistent search with the provided information.  It will
+   * not return any changes to the client until it is activated.
+   *
+   * @param  changeNotifier    The change notifier with which this operation
+   *                           is registered.
+   * @param  clientConnection  The client connection to which changes should be
+   *                           returned.
+   * @param  messageID         The message ID of the associated search request.
+   * @param  maxQueuedChanges  The maximum number of changes that may be queued
+   *                           before the operation is terminated.
+   */
+  InMemoryPersistentSearch(
+       @NotNull final InMemoryChangeNotifier changeNotifier,
+       @NotNull final LDAPListenerClientConnection clientConnection,
+       final int messageID, final int maxQueuedChanges)
+  {
+    setName("In-Memory Directory Server Persistent Search Thread for " +
+         "Connection " + clientConnection.getConnectionID() + " Message ID " +
+         messageID);
+    setDaemon(true);
+
+    this.changeNotifier   = changeNotifier;
+    this.clientConnection = clientConnection;
+    this.messageID        = messageID;
+    this.maxQueuedChanges = maxQueuedChanges;
+
+    terminated = new AtomicBoolean(false);
+    changeQueue = new ArrayBlockingQueue<>(maxQueuedChanges + 1);
+    activated = false;
+    resultCode = null;
+    diagnosticMessage = null;
+  }
+
+
+
+  /**
+   * Retrieves the client connection to which changes should be returned.
+   *
+   * @return  The client connection to which changes should be returned.
+   */
+  @NotNull()
+  LDAPListenerClientConnection getClientConnection()
+  {
+    return clientConnection;
+  }
+
+
+
+  /**
+   * Retrieves the message ID of the associated search request.
+   *
+   * @return  The message ID of the associated search request.
+   */
+  int getMessageID()
+  {
+    return messageID;
+  }
+
+
+
+  /**
+   * Provides the search criteria for this operation and starts returning
+   * changes to the client, beginning with any changes that were queued since
+   * it was registered.
+   *
+   * @param  baseDN                The base DN for the search.
+   * @param  scope                 The scope for the search.
+   * @param  filter                The filter for the search.
+   * @param  schema                The schema to use when matching entries
+   *                               against the filter.  It may be {@code null}
+   *                               if no schema is available.
+   * @param  entryProcessor        The entry processor that will be used to
+   *                               return entries to the client.  It must not
+   *                               be used by any other thread once this
+   *                               method has been called.
+   * @param  includeSubEntries     Indicates whether LDAP subentries should be
+   *                               returned.
+   * @param  includeNonSubEntries  Indicates whether entries that are not LDAP
+   *                               subentries should be returned.
+   * @param  changeTypes           The types of changes that should be returned
+   *                               for a persistent search.  It must be
+   *                               {@code null} for a content synchronization
+   *                               operation.
+   * @param  returnECs             Indicates whether persistent search entries
+   *                               should include the entry change notification
+   *                               control.
+   * @param  lastChangeNumber      The change number of the last change that
+   *                               was reflected in the refresh phase of a
+   *                               content synchronization operation.
+   * @param  skipThroughChangeNumber  The change number of the last change
+   *                                  that was reflected in the initial search.
+   *                                  Any queued change with a change number
+   *                                  less than or equal to this value will not
+   *                                  be returned to the client.
+   */
+  void activate(@NotNull final DN baseDN, @NotNull final SearchScope scope,
+                @NotNull final Filter filter, @Nullable final Schema schema,
+                @NotNull final InMemorySearchEntryProcessor entryProcessor,
+                final boolean includeSubEntries,
+                final boolean includeNonSubEntries,
+                @Nullable final Set<PersistentSearchChangeType> changeTypes,
+                final boolean returnECs, final long lastChangeNumber,
+                final long skipThroughChangeNumber)
+  {
+    this.baseDN               = baseDN;
+    this.scope                = scope;
+    this.filter               = filter;
+    this.schema               = schema;
+    this.entryProcessor       = entryProcessor;
+    this.includeSubEntries    = includeSubEntries;
+    this.includeNonSubEntries = includeNonSubEntries;
+    this.changeTypes          = changeTypes;
+    this.returnECs            = returnECs;
+    this.lastChangeNumber     = lastChangeNumber;
+    this.skipThroughChangeNumber = skipThroughChangeNumber;
+
+    activated = true;
+    start();
+  }
+
+
+
+  /**
+   * Indicates whether this operation has been activated.
+   *
+   * @return  {@code true} if this operation has been activated, or
+   *          {@code false} if not.
+   */
+  boolean isActivated()
+  {
+    return activated;
+  }
+
+
+
+  /**
+   * Queues the provided change to be returned to the client if it matches the
+   * search criteria.  This method will never block.  If the queue is full,
+   * then the operation will be terminated.
+   *
+   * @param  change  The change to be queued.
+   */
+  void changeMade(@NotNull final InMemoryChangeNotifier.Change change)
+  {
+    if (terminated.get())
+    {
+      return;
+    }
+
+    if ((changeQueue.size() >= maxQueuedChanges) ||
+        (! changeQueue.offer(change)))
+    {
+      terminate(ResultCode.ADMIN_LIMIT_EXCEEDED,
+           ERR_MEM_HANDLER_PSEARCH_TOO_MANY_CHANGES.get(maxQueuedChanges));
+    }
+  }
+
+
+
+  /**
+   * Terminates this operation.  Any changes that have not yet been returned to
+   * the client will be discarded, and a search result done message will be
+   * returned with the provided information.  For a content synchronization
+   * operation, the result code will always be e-syncRefreshRequired.
+   *
+   * @param  resultCode         The result code for the search result done
+   *                            message.
+   * @param  diagnosticMessage  The diagnostic message for the search result
+   *                            done message.
+   */
+  void terminate(@NotNull final ResultCode resultCode,
+                 @NotNull final String diagnosticMessage)
+  {
+    if (terminated.compareAndSet(false, true))
+    {
+      this.resultCode = resultCode;
+      this.diagnosticMessage = diagnosticMessage;
+      stopProcessing();
+    }
+  }
+
+
+
+  /**
+   * Abandons this operation.  Any changes that have not yet been returned to
+   * the client will be discarded, and no response will be returned.
+   */
+  void abandon()
+  {
+    if (terminated.compareAndSet(false, true))
+    {
+      stopProcessing();
+    }
+  }
+
+
+
+  /**
+   * Discards any queued changes and causes the thread to stop once it has
+   * been activated.
+   */
+  private void stopProcessing()
+  {
+    changeQueue.clear();
+    changeQueue.offer(END_OF_CHANGES);
+  }
+
+
+
+  /**
+   * Returns queued changes to the client until this operation is terminated or
+   * abandoned.
+   */
+  @Override()
+  public void run()
+  {
+    try
+    {
+      while (true)
+      {
+        final InMemoryChangeNotifier.Change change;
+        try
+        {
+          change = changeQueue.take();
+        }
+        catch (final InterruptedException e)
+        {
+          Debug.debugException(e);
+          Thread.currentThread().interrupt();
+          return;
+        }
+
+        if (change == END_OF_CHANGES)
+        {
+          break;
+        }
+
+        if (terminated.get())
+        {
+          continue;
+        }
+
+        if (! processChange(change))
+        {
+          return;
+        }
+      }
+
+      final ResultCode rc = resultCode;
+      if (rc == null)
+      {
+        return;
+      }
+
+      try
+      {
+        if (changeTypes == null)
+        {
+          clientConnection.sendSearchResultDone(messageID,
+               new SearchResultDoneProtocolOp(
+                    ResultCode.E_SYNC_REFRESH_REQUIRED.intValue(), null,
+                    diagnosticMessage, null),
+               new ContentSyncDoneControl(encodeCookie(lastChangeNumber),
+                    false));
+        }
+        else
+        {
+          clientConnection.sendSearchResultDone(messageID,
+               new SearchResultDoneProtocolOp(rc.intValue(), null,
+                    diagnosticMessage, null));
+        }
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+      }
+    }
+    finally
+    {
+      changeNotifier.deregister(this);
+    }
+  }
+
+
+
+  /**
+   * Returns the provided change to the client if it matches the search
+   * criteria.
+   *
+   * @param  change  The change to be processed.
+   *
+   * @return  {@code true} if processing should continue, or {@code false} if
+   *          the change could not be returned to the client.
+   */
+  private boolean processChange(
+                       @NotNull final InMemoryChangeNotifier.Change change)
+  {
+    if ((change.getChangeNumber() > 0L) &&
+        (change.getChangeNumber() <= skipThroughChangeNumber))
+    {
+      return true;
+    }
+
+    final ReadOnlyEntry previousEntry = change.getPreviousEntry();
+    final ReadOnlyEntry entry = change.getEntry();
+    final boolean previousMatches =
+         ((previousEntry != null) && matches(previousEntry));
+    final boolean entryMatches = ((entry != null) && matches(entry));
+
+    if (changeTypes != null)
+    {
+      if ((! entryMatches) && (! previousMatches))
+      {
+        return true;
+      }
+
+      final PersistentSearchChangeType changeType = change.getChangeType();
+      if (! changeTypes.contains(changeType))
+      {
+        return true;
+      }
+
+      final Entry e;
+      if (changeType == PersistentSearchChangeType.DELETE)
+      {
+        e = previousEntry;
+      }
+      else if (entryMatches)
+      {
+        e = entry;
+      }
+      else
+      {
+        return true;
+      }
+
+      if (returnECs)
+      {
+        final String previousDN;
+        if (changeType == PersistentSearchChangeType.MODIFY_DN)
+        {
+          previousDN = previousEntry.getDN();
+        }
+        else
+        {
+          previousDN = null;
+        }
+
+        return entryProcessor.returnEntry(e,
+             new EntryChangeNotificationControl(changeType, previousDN,
+                  change.getChangeNumber()));
+      }
+      else
+      {
+        return entryProcessor.returnEntry(e);
+      }
+    }
+
+    // For a content synchronization operation, the change type is determined
+    // by whether the entry matched the search criteria before and after the
+    // change.
+    if (change.getChangeNumber() > 0L)
+    {
+      lastChangeNumber = change.getChangeNumber();
+    }
+
+    final ASN1OctetString cookie = encodeCookie(lastChangeNumber);
+    if (entryMatches)
+    {
+      final ContentSyncState state;
+      if (previousMatches)
+      {
+        state = ContentSyncState.MODIFY;
+      }
+      else
+      {
+        state = ContentSyncState.ADD;
+      }
+
+      return entryProcessor.returnEntry(entry, new ContentSyncStateControl(
+           state, InMemorySearchEntryProcessor.getEntryUUID(entry), cookie));
+    }
+    else if (previousMatches)
+    {
+      return entryProcessor.returnEntry(new Entry(previousEntry.getDN()),
+           new ContentSyncStateControl(ContentSyncState.DELETE,
+                InMemorySearchEntryProcessor.getEntryUUID(previousEntry),
+                cookie));
+    }
+    else
+    {
+      return true;
+    }
+  }
+
+
+
+  /**
+   * Indicates whether the provided entry matches the search criteria.
+   *
+   * @param  entry  The entry for which to make the determination.
+   *
+   * @return  {@code true} if the entry matches the search criteria, or
+   *          {@code false} if not.
+   */
+  private boolean matches(@NotNull final Entry entry)
+  {
+    try
+    {
+      if (! entry.matchesBaseAndScope(baseDN, scope))
+      {
+        return false;
+      }
+
+      if (entry.hasObjectClass("ldapSubEntry") ||
+          entry.hasObjectClass("inheritableLDAPSubEntry"))
+      {
+        if (! includeSubEntries)
+        {
+          return false;
+        }
+      }
+      else if (! includeNonSubEntries)
+      {
+        return false;
+      }
+
+      return filter.matchesEntry(entry, schema);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return false;
+    }
+  }
+
+
+
+  /**
+   * Encodes the provided change number as a content synchronization cookie.
+   *
+   * @param  changeNumber  The change number to encode.
+   *
+   * @return  The encoded cookie.
+   */
+  @NotNull()
+  static ASN1OctetString encodeCookie(final long changeNumber)
+  {
+    return new ASN1OctetString(String.valueOf(changeNumber));
+  }
+
+
+
+  /**
+   * Decodes the provided content synchronization cookie as a change number.
+   *
+   * @param  cookie  The cookie to decode.  It may be {@code null}.
+   *
+   * @return  The decoded change number, or -1 if the cookie is {@code null}
+   *          or cannot be decoded.
+   */
+  static long decodeCookie(@Nullable final ASN1OctetString cookie)
+  {
+    if (cookie == null)
+    {
+      return -1L;
+    }
+
+    try
+    {
+      final long changeNumber = Long.parseLong(cookie.stringValue());
+      if (changeNumber >= 0L)
+      {
+        return changeNumber;
+      }
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+    }
+
+    return -1L;
+  }
+}
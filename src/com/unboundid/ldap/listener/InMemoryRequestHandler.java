@@ -37,13 +37,14 @@ package com.unboundid.ldap.listener;
 
 
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -55,8 +56,14 @@ import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
+import com.unboundid.asn1.ASN1Element;
 import com.unboundid.asn1.ASN1Integer;
+import com.unboundid.asn1.ASN1Long;
 import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.asn1.ASN1Sequence;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerEntryMap.ReadView;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerEntryMap.WriteLock;
+import com.unboundid.ldap.protocol.AbandonRequestProtocolOp;
 import com.unboundid.ldap.protocol.AddRequestProtocolOp;
 import com.unboundid.ldap.protocol.AddResponseProtocolOp;
 import com.unboundid.ldap.protocol.BindRequestProtocolOp;
@@ -67,6 +74,7 @@ import com.unboundid.ldap.protocol.DeleteRequestProtocolOp;
 import com.unboundid.ldap.protocol.DeleteResponseProtocolOp;
 import com.unboundid.ldap.protocol.ExtendedRequestProtocolOp;
 import com.unboundid.ldap.protocol.ExtendedResponseProtocolOp;
+import com.unboundid.ldap.protocol.IntermediateResponseProtocolOp;
 import com.unboundid.ldap.protocol.LDAPMessage;
 import com.unboundid.ldap.protocol.ModifyRequestProtocolOp;
 import com.unboundid.ldap.protocol.ModifyResponseProtocolOp;
@@ -79,7 +87,6 @@ import com.unboundid.ldap.matchingrules.DistinguishedNameMatchingRule;
 import com.unboundid.ldap.matchingrules.GeneralizedTimeMatchingRule;
 import com.unboundid.ldap.matchingrules.IntegerMatchingRule;
 import com.unboundid.ldap.matchingrules.MatchingRule;
-import com.unboundid.ldap.protocol.SearchResultReferenceProtocolOp;
 import com.unboundid.ldap.sdk.AddRequest;
 import com.unboundid.ldap.sdk.Attribute;
 import com.unboundid.ldap.sdk.BindResult;
@@ -117,10 +124,16 @@ import com.unboundid.ldap.sdk.schema.Schema;
 import com.unboundid.ldap.sdk.controls.AssertionRequestControl;
 import com.unboundid.ldap.sdk.controls.AuthorizationIdentityRequestControl;
 import com.unboundid.ldap.sdk.controls.AuthorizationIdentityResponseControl;
+import com.unboundid.ldap.sdk.controls.ContentSyncDoneControl;
+import com.unboundid.ldap.sdk.controls.ContentSyncInfoIntermediateResponse;
+import com.unboundid.ldap.sdk.controls.ContentSyncRequestControl;
+import com.unboundid.ldap.sdk.controls.ContentSyncRequestMode;
 import com.unboundid.ldap.sdk.controls.DontUseCopyRequestControl;
 import com.unboundid.ldap.sdk.controls.DraftLDUPSubentriesRequestControl;
 import com.unboundid.ldap.sdk.controls.ManageDsaITRequestControl;
 import com.unboundid.ldap.sdk.controls.PermissiveModifyRequestControl;
+import com.unboundid.ldap.sdk.controls.PersistentSearchChangeType;
+import com.unboundid.ldap.sdk.controls.PersistentSearchRequestControl;
 import com.unboundid.ldap.sdk.controls.PostReadRequestControl;
 import com.unboundid.ldap.sdk.controls.PostReadResponseControl;
 import com.unboundid.ldap.sdk.controls.PreReadRequestControl;
@@ -150,9 +163,6 @@ import com.unboundid.ldif.LDIFModifyChangeRecord;
 import com.unboundid.ldif.LDIFModifyDNChangeRecord;
 import com.unboundid.ldif.LDIFReader;
 import com.unboundid.ldif.LDIFWriter;
-import com.unboundid.util.CloseableReadWriteLock;
-import com.unboundid.util.CloseableReadWriteLock.ReadLock;
-import com.unboundid.util.CloseableReadWriteLock.WriteLock;
 import com.unboundid.util.CryptoHelper;
 import com.unboundid.util.Debug;
 import com.unboundid.util.Mutable;
@@ -179,13 +189,6 @@ import static com.unboundid.ldap.listener.ListenerMessages.*;
 public final class InMemoryRequestHandler
        extends LDAPListenerRequestHandler
 {
-  /**
-   * A pre-allocated array containing no controls.
-   */
-  @NotNull private static final Control[] NO_CONTROLS = new Control[0];
-
-
-
   /**
    * The OID for a proprietary control that can be used to indicate that the
    * associated operation should be considered an internal operation that was
@@ -221,10 +224,6 @@ public final class InMemoryRequestHandler
   // Indicates whether to generate operational attributes for writes.
   private final boolean generateOperationalAttributes;
 
-  // A lock used to provide concurrent read access to the data while ensuring
-  // only a single update at any time.
-  @NotNull private final CloseableReadWriteLock readWriteLock;
-
   // The DN of the currently-authenticated user for the associated connection.
   @NotNull private DN authenticatedDN;
 
@@ -239,6 +238,9 @@ public final class InMemoryRequestHandler
 
   // A snapshot containing the server content as it initially appeared.  It
   // will not contain any user data, but may contain a changelog base entry.
+  // It holds a copy of that content rather than a change tracker, so that the
+  // server does not need to keep track of every change made over its
+  // lifetime.
   @NotNull private final InMemoryDirectoryServerSnapshot initialSnapshot;
 
   // The primary password encoder for the server.
@@ -269,6 +271,22 @@ public final class InMemoryRequestHandler
   @NotNull private final Map<AttributeTypeDefinition,
      InMemoryDirectoryServerEqualityAttributeIndex> equalityIndexes;
 
+  // The set of presence indexes defined for the server.
+  @NotNull private final Map<AttributeTypeDefinition,
+     InMemoryDirectoryServerPresenceAttributeIndex> presenceIndexes;
+
+  // The set of substring indexes defined for the server.
+  @NotNull private final Map<AttributeTypeDefinition,
+     InMemoryDirectoryServerSubstringAttributeIndex> substringIndexes;
+
+  // The set of ordering indexes defined for the server.
+  @NotNull private final Map<AttributeTypeDefinition,
+     InMemoryDirectoryServerOrderingAttributeIndex> orderingIndexes;
+
+  // All of the attribute indexes defined for the server, regardless of type.
+  @NotNull private final List<InMemoryDirectoryServerAttributeIndex>
+       attributeIndexes;
+
   // An additional set of credentials that may be used for bind operations.
   @NotNull private final Map<DN,byte[]> additionalBindCredentials;
 
@@ -288,8 +306,25 @@ public final class InMemoryRequestHandler
   // The set of referential integrity attributes for the server.
   @NotNull private final Set<String> referentialIntegrityAttributes;
 
-  // The map of entries currently held in the server.
-  @NotNull private final Map<DN,ReadOnlyEntry> entryMap;
+  // The map of entries currently held in the server.  It also ensures that
+  // only a single update is made at any time, while allowing readers to see a
+  // consistent version of the data without waiting for the update to complete.
+  @NotNull private final InMemoryDirectoryServerEntryMap entryMap;
+
+  // The hierarchical index of the entries currently held in the server.
+  @NotNull private final InMemoryDirectoryServerHierarchyIndex hierarchyIndex;
+
+  // The entry IDs used to identify entries in the attribute indexes.
+  @NotNull private final InMemoryDirectoryServerEntryIDMap entryIDs;
+
+  // The cache of search cursors used to process subsequent requests for
+  // searches that include the simple paged results or virtual list view
+  // request controls.
+  @NotNull private final InMemorySearchCursorCache searchCursorCache;
+
+  // The notifier used to return changes to clients with persistent searches or
+  // content synchronization operations in refreshAndPersist mode.
+  @NotNull private final InMemoryChangeNotifier changeNotifier;
 
 
 
@@ -309,7 +344,6 @@ public final class InMemoryRequestHandler
   {
     this.config = config;
 
-    readWriteLock        = new CloseableReadWriteLock();
     schemaRef            = new AtomicReference<>();
     entryValidatorRef    = new AtomicReference<>();
     subschemaSubentryRef = new AtomicReference<>();
@@ -333,7 +367,14 @@ public final class InMemoryRequestHandler
            ERR_MEM_HANDLER_NO_BASE_DNS.get());
     }
 
-    entryMap = new TreeMap<>();
+    entryMap = new InMemoryDirectoryServerEntryMap();
+    hierarchyIndex = new InMemoryDirectoryServerHierarchyIndex();
+    entryIDs = new InMemoryDirectoryServerEntryIDMap();
+    searchCursorCache = new InMemorySearchCursorCache(
+         InMemorySearchCursorCache.DEFAULT_MAX_CURSORS,
+         InMemorySearchCursorCache.DEFAULT_MAX_IDLE_TIME_MILLIS);
+    changeNotifier = new InMemoryChangeNotifier(
+         config.getMaxQueuedChangeNotifications());
 
     final LinkedHashSet<DN> baseDNSet =
          new LinkedHashSet<>(Arrays.asList(baseDNArray));
@@ -411,6 +452,44 @@ public final class InMemoryRequestHandler
       equalityIndexes.put(i.getAttributeType(), i);
     }
 
+    final List<String> presIndexAttrs = config.getPresenceIndexAttributes();
+    presenceIndexes = new HashMap<>(
+         StaticUtils.computeMapCapacity(presIndexAttrs.size()));
+    for (final String s : presIndexAttrs)
+    {
+      final InMemoryDirectoryServerPresenceAttributeIndex i =
+           new InMemoryDirectoryServerPresenceAttributeIndex(s, schema);
+      presenceIndexes.put(i.getAttributeType(), i);
+    }
+
+    final List<String> subIndexAttrs = config.getSubstringIndexAttributes();
+    substringIndexes = new HashMap<>(
+         StaticUtils.computeMapCapacity(subIndexAttrs.size()));
+    for (final String s : subIndexAttrs)
+    {
+      final InMemoryDirectoryServerSubstringAttributeIndex i =
+           new InMemoryDirectoryServerSubstringAttributeIndex(s, schema);
+      substringIndexes.put(i.getAttributeType(), i);
+    }
+
+    final List<String> ordIndexAttrs = config.getOrderingIndexAttributes();
+    orderingIndexes = new HashMap<>(
+         StaticUtils.computeMapCapacity(ordIndexAttrs.size()));
+    for (final String s : ordIndexAttrs)
+    {
+      final InMemoryDirectoryServerOrderingAttributeIndex i =
+           new InMemoryDirectoryServerOrderingAttributeIndex(s, schema);
+      orderingIndexes.put(i.getAttributeType(), i);
+    }
+
+    attributeIndexes = new ArrayList<>(equalityIndexes.size() +
+         presenceIndexes.size() + substringIndexes.size() +
+         orderingIndexes.size());
+    attributeIndexes.addAll(equalityIndexes.values());
+    attributeIndexes.addAll(presenceIndexes.values());
+    attributeIndexes.addAll(substringIndexes.values());
+    attributeIndexes.addAll(orderingIndexes.values());
+
     final Set<String> pwAttrSet = config.getPasswordAttributes();
     final LinkedHashSet<String> basePWAttrSet =
          new LinkedHashSet<>(StaticUtils.computeMapCapacity(pwAttrSet.size()));
@@ -472,6 +551,52 @@ public final class InMemoryRequestHandler
            ERR_MEM_HANDLER_SCHEMA_BASE_DN.get(subschemaSubentryDN));
     }
 
+    // If a persistent data directory is configured, then make the entries that
+    // it holds available and build the indexes for them.
+    final File persistentDataDirectory = config.getPersistentDataDirectory();
+    if (persistentDataDirectory != null)
+    {
+      try (WriteLock writeLock = entryMap.lockWrite())
+      {
+        writeLock.avoidCompilerWarning();
+
+        entryMap.openPersistentStore(persistentDataDirectory, schema);
+        for (final Map.Entry<DN,ReadOnlyEntry> e : entryMap.entrySet())
+        {
+          final DN dn = e.getKey();
+          hierarchyIndex.processAdd(dn);
+          if (! attributeIndexes.isEmpty())
+          {
+            indexAdd(e.getValue());
+          }
+
+          if (changeLogBaseDN.equals(dn.getParent()))
+          {
+            try
+            {
+              final long changeNumber =
+                   Long.parseLong(dn.getRDN().getAttributeValues()[0]);
+              if ((firstChangeNumber.get() == 0L) ||
+                   (changeNumber < firstChangeNumber.get()))
+              {
+                firstChangeNumber.set(changeNumber);
+              }
+
+              if (changeNumber > lastChangeNumber.get())
+              {
+                lastChangeNumber.set(changeNumber);
+              }
+            }
+            catch (final NumberFormatException nfe)
+            {
+              Debug.debugException(nfe);
+            }
+          }
+        }
+      }
+    }
+
+    final TreeMap<DN,ReadOnlyEntry> initialEntries = new TreeMap<>();
     if (maxChangelogEntries > 0)
     {
       baseDNSet.add(changeLogBaseDN);
@@ -499,11 +624,27 @@ public final class InMemoryRequestHandler
            new Attribute("subschemaSubentry",
                 DistinguishedNameMatchingRule.getInstance(),
                 subschemaSubentryDN.toString()));
-      entryMap.put(changeLogBaseDN, changeLogBaseEntry);
-      indexAdd(changeLogBaseEntry);
+      try (WriteLock writeLock = entryMap.lockWrite())
+      {
+        writeLock.avoidCompilerWarning();
+
+        final ReadOnlyEntry existingBaseEntry = entryMap.get(changeLogBaseDN);
+        if (existingBaseEntry == null)
+        {
+          entryMap.put(changeLogBaseDN, changeLogBaseEntry);
+          hierarchyIndex.processAdd(changeLogBaseDN);
+          indexAdd(changeLogBaseEntry);
+          initialEntries.put(changeLogBaseDN, changeLogBaseEntry);
+        }
+        else
+        {
+          initialEntries.put(changeLogBaseDN, existingBaseEntry);
+        }
+      }
     }
 
-    initialSnapshot = createSnapshot();
+    initialSnapshot =
+         new InMemoryDirectoryServerSnapshot(initialEntries, 0L, 0L);
   }
 
 
@@ -535,8 +676,16 @@ public final class InMemoryRequestHandler
     maxChangelogEntries            = parent.maxChangelogEntries;
     maxSizeLimit                   = parent.maxSizeLimit;
     equalityIndexes                = parent.equalityIndexes;
+    presenceIndexes                = parent.presenceIndexes;
+    substringIndexes               = parent.substringIndexes;
+    orderingIndexes                = parent.orderingIndexes;
+    attributeIndexes               = parent.attributeIndexes;
     referentialIntegrityAttributes = parent.referentialIntegrityAttributes;
     entryMap                       = parent.entryMap;
+    hierarchyIndex                 = parent.hierarchyIndex;
+    entryIDs                       = parent.entryIDs;
+    searchCursorCache              = parent.searchCursorCache;
+    changeNotifier                 = parent.changeNotifier;
     entryValidatorRef              = parent.entryValidatorRef;
     extendedRequestHandlers        = parent.extendedRequestHandlers;
     saslBindHandlers               = parent.saslBindHandlers;
@@ -548,7 +697,6 @@ public final class InMemoryRequestHandler
     extendedPasswordAttributes     = parent.extendedPasswordAttributes;
     primaryPasswordEncoder         = parent.primaryPasswordEncoder;
     passwordEncoders               = parent.passwordEncoders;
-    readWriteLock                  = parent.readWriteLock;
   }
 
 
@@ -576,10 +724,42 @@ public final class InMemoryRequestHandler
 
 
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void closeInstance()
+  {
+    if (connection != null)
+    {
+      changeNotifier.connectionClosed(connection);
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void processAbandonRequest(final int messageID,
+                   @NotNull final AbandonRequestProtocolOp request,
+                   @NotNull final List<Control> controls)
+  {
+    if (connection != null)
+    {
+      changeNotifier.abandon(connection, request.getIDToAbandon());
+    }
+  }
+
+
+
   /**
    * Creates a point-in-time snapshot of the information contained in this
    * in-memory request handler.  If desired, it may be restored using the
-   * {@link #restoreSnapshot} method.
+   * {@link #restoreSnapshot} method.  Creating a snapshot does not copy the
+   * data, but while the snapshot remains referenced, the original version of
+   * each entry altered after it was created will be retained.
    *
    * @return  The snapshot created based on the current content of this
    *          in-memory request handler.
@@ -587,10 +767,10 @@ public final class InMemoryRequestHandler
   @NotNull()
   public InMemoryDirectoryServerSnapshot createSnapshot()
   {
-    try (ReadLock readLock = readWriteLock.lockRead())
+    try (WriteLock writeLock = entryMap.lockWrite())
     {
-      readLock.avoidCompilerWarning();
-      return new InMemoryDirectoryServerSnapshot(entryMap,
+      writeLock.avoidCompilerWarning();
+      return new InMemoryDirectoryServerSnapshot(entryMap.trackChanges(),
            firstChangeNumber.get(), lastChangeNumber.get());
     }
   }
@@ -599,7 +779,9 @@ public final class InMemoryRequestHandler
 
   /**
    * Updates the content of this in-memory request handler to match what it was
-   * at the time the snapshot was created.
+   * at the time the snapshot was created.  If the snapshot was created by
+   * this request handler, then only the entries that have changed since it
+   * was created will be updated.
    *
    * @param  snapshot  The snapshot to be restored.  It must not be
    *                   {@code null}.
@@ -607,37 +789,118 @@ public final class InMemoryRequestHandler
   public void restoreSnapshot(
                    @NotNull final InMemoryDirectoryServerSnapshot snapshot)
   {
-    try (WriteLock writeLock = readWriteLock.lockWrite())
+    // If the snapshot was not created by this request handler, then get its
+    // entries before acquiring the write lock, since that may require the
+    // write lock for another server's entry map.
+    final InMemoryDirectoryServerEntryMap.ChangeTracker changeTracker =
+         snapshot.getChangeTracker();
+    final Map<DN,ReadOnlyEntry> snapshotEntryMap;
+    if ((changeTracker != null) && changeTracker.isTracking(entryMap))
     {
-      writeLock.avoidCompilerWarning();
+      snapshotEntryMap = null;
+    }
+    else
+    {
+      snapshotEntryMap = snapshot.getEntryMap();
+    }
 
-      entryMap.clear();
-      entryMap.putAll(snapshot.getEntryMap());
+    try (WriteLock writeLock = entryMap.lockWrite())
+    {
+      writeLock.avoidCompilerWarning();
 
-      for (final InMemoryDirectoryServerEqualityAttributeIndex i :
-           equalityIndexes.values())
+      if (snapshotEntryMap == null)
       {
-        i.clear();
-        for (final Entry e : entryMap.values())
+        // Revert each changed entry to its original version.  The tracker
+        // already holds all of these DNs, so it will not be altered by these
+        // changes, but other snapshots' trackers will be.
+        for (final Map.Entry<DN,ReadOnlyEntry> e :
+             changeTracker.getOriginalEntries().entrySet())
         {
-          try
+          final DN dn = e.getKey();
+          final ReadOnlyEntry originalEntry = e.getValue();
+          final ReadOnlyEntry currentEntry;
+          if (originalEntry == null)
           {
-            i.processAdd(e);
+            currentEntry = entryMap.remove(dn);
+          }
+          else
+          {
+            currentEntry = entryMap.put(dn, originalEntry);
+          }
+
+          if (currentEntry != null)
+          {
+            indexDelete(currentEntry);
+            if (originalEntry == null)
+            {
+              hierarchyIndex.processDelete(dn);
+            }
           }
-          catch (final Exception ex)
+
+          if (originalEntry != null)
           {
-            Debug.debugException(ex);
+            if (currentEntry == null)
+            {
+              hierarchyIndex.processAdd(dn);
+            }
+
+            indexAdd(originalEntry);
           }
         }
+
+        changeTracker.reset();
+      }
+      else
+      {
+        entryMap.clear();
+        entryMap.putAll(snapshotEntryMap);
+
+        hierarchyIndex.clear();
+        for (final DN dn : entryMap.keySet())
+        {
+          hierarchyIndex.processAdd(dn);
+        }
+
+        entryIDs.clear();
+        for (final InMemoryDirectoryServerAttributeIndex i : attributeIndexes)
+        {
+          i.clear();
+        }
+
+        for (final Entry e : entryMap.values())
+        {
+          indexAdd(e);
+        }
       }
 
+      searchCursorCache.clear();
+
       firstChangeNumber.set(snapshot.getFirstChangeNumber());
       lastChangeNumber.set(snapshot.getLastChangeNumber());
+
+      // The restored data cannot be described as a sequence of changes, so
+      // any persistent searches will need to start over.
+      changeNotifier.dataReplaced();
     }
   }
 
 
 
+  /**
+   * Closes the persistent data store used by this request handler, if one is
+   * configured.  An index will be written so that the store can be opened
+   * again quickly, and the store will be released so that it may be used by
+   * another request handler.  No further changes can be made to the data once
+   * the store has been closed.  This method has no effect if no persistent
+   * data directory is configured.
+   */
+  public void closePersistentStore()
+  {
+    entryMap.closePersistentStore();
+  }
+
+
+
   /**
    * Retrieves the schema that will be used by the server, if any.
    *
@@ -905,7 +1168,7 @@ public final class InMemoryRequestHandler
     // Sleep before processing, if appropriate.
     sleepBeforeProcessing();
 
-    try (WriteLock writeLock = readWriteLock.lockWrite())
+    try (WriteLock writeLock = entryMap.lockWrite())
     {
       writeLock.avoidCompilerWarning();
 
@@ -977,27 +1240,9 @@ public final class InMemoryRequestHandler
 
       // Get the entry to be added.  If a schema was provided, then make sure
       // the attributes are created with the appropriate matching rules.
-      final Entry entry;
       final Schema schema = schemaRef.get();
-      if (schema == null)
-      {
-        entry = new Entry(request.getDN(), request.getAttributes());
-      }
-      else
-      {
-        final List<Attribute> providedAttrs = request.getAttributes();
-        final List<Attribute> newAttrs = new ArrayList<>(providedAttrs.size());
-        for (final Attribute a : providedAttrs)
-        {
-          final String baseName = a.getBaseName();
-          final MatchingRule matchingRule =
-               MatchingRule.selectEqualityMatchingRule(baseName, schema);
-          newAttrs.add(new Attribute(a.getName(), matchingRule,
-               a.getRawValues()));
-        }
-
-        entry = new Entry(request.getDN(), schema, newAttrs);
-      }
+      final Entry entry =
+           createEntryToAdd(request.getDN(), request.getAttributes(), schema);
 
       // Make sure that the DN is valid.
       final DN dn;
@@ -1060,50 +1305,9 @@ public final class InMemoryRequestHandler
              ERR_MEM_HANDLER_ADD_ALREADY_EXISTS.get(request.getDN()), null));
       }
 
-      // Make sure that all RDN attribute values are present in the entry.
-      final RDN      rdn           = dn.getRDN();
-      final String[] rdnAttrNames  = rdn.getAttributeNames();
-      final byte[][] rdnAttrValues = rdn.getByteArrayAttributeValues();
-      for (int i=0; i < rdnAttrNames.length; i++)
-      {
-        final MatchingRule matchingRule =
-             MatchingRule.selectEqualityMatchingRule(rdnAttrNames[i], schema);
-        entry.addAttribute(new Attribute(rdnAttrNames[i], matchingRule,
-             rdnAttrValues[i]));
-      }
-
-      // Make sure that all superior object classes are present in the entry.
-      if (schema != null)
-      {
-        final String[] objectClasses = entry.getObjectClassValues();
-        if (objectClasses != null)
-        {
-          final LinkedHashMap<String,String> ocMap = new LinkedHashMap<>(
-               StaticUtils.computeMapCapacity(objectClasses.length));
-          for (final String ocName : objectClasses)
-          {
-            final ObjectClassDefinition oc = schema.getObjectClass(ocName);
-            if (oc == null)
-            {
-              ocMap.put(StaticUtils.toLowerCase(ocName), ocName);
-            }
-            else
-            {
-              ocMap.put(StaticUtils.toLowerCase(oc.getNameOrOID()), ocName);
-              for (final ObjectClassDefinition supClass :
-                   oc.getSuperiorClasses(schema, true))
-              {
-                ocMap.put(StaticUtils.toLowerCase(supClass.getNameOrOID()),
-                     supClass.getNameOrOID());
-              }
-            }
-          }
-
-          final String[] newObjectClasses = new String[ocMap.size()];
-          ocMap.values().toArray(newObjectClasses);
-          entry.setAttribute("objectClass", newObjectClasses);
-        }
-      }
+      // Make sure that all RDN attribute values and superior object classes
+      // are present in the entry.
+      completeEntryToAdd(entry, dn, schema);
 
       // If a schema was provided, then make sure the entry complies with it.
       // Also make sure that there are no attributes marked with
@@ -1153,51 +1357,7 @@ public final class InMemoryRequestHandler
       }
 
       // Add a number of operational attributes to the entry.
-      if (generateOperationalAttributes)
-      {
-        final Date d = new Date();
-        if (! entry.hasAttribute("entryDN"))
-        {
-          entry.addAttribute(new Attribute("entryDN",
-               DistinguishedNameMatchingRule.getInstance(),
-               dn.toNormalizedString()));
-        }
-        if (! entry.hasAttribute("entryUUID"))
-        {
-          entry.addAttribute(new Attribute("entryUUID",
-               CryptoHelper.getRandomUUID().toString()));
-        }
-        if (! entry.hasAttribute("subschemaSubentry"))
-        {
-          entry.addAttribute(new Attribute("subschemaSubentry",
-               DistinguishedNameMatchingRule.getInstance(),
-               subschemaSubentryDN.toString()));
-        }
-        if (! entry.hasAttribute("creatorsName"))
-        {
-          entry.addAttribute(new Attribute("creatorsName",
-               DistinguishedNameMatchingRule.getInstance(),
-               authzDN.toString()));
-        }
-        if (! entry.hasAttribute("createTimestamp"))
-        {
-          entry.addAttribute(new Attribute("createTimestamp",
-               GeneralizedTimeMatchingRule.getInstance(),
-               StaticUtils.encodeGeneralizedTime(d)));
-        }
-        if (! entry.hasAttribute("modifiersName"))
-        {
-          entry.addAttribute(new Attribute("modifiersName",
-               DistinguishedNameMatchingRule.getInstance(),
-               authzDN.toString()));
-        }
-        if (! entry.hasAttribute("modifyTimestamp"))
-        {
-          entry.addAttribute(new Attribute("modifyTimestamp",
-               GeneralizedTimeMatchingRule.getInstance(),
-               StaticUtils.encodeGeneralizedTime(d)));
-        }
-      }
+      addOperationalAttributes(entry, dn, authzDN);
 
       // If the request includes the assertion request control, then check it
       // now.
@@ -1214,39 +1374,16 @@ public final class InMemoryRequestHandler
 
       // See if the entry contains any passwords.  If so, then make sure their
       // values are properly encoded.
-      if ((! passwordEncoders.isEmpty()) &&
-          (! configuredPasswordAttributes.isEmpty()))
+      try
       {
-        final ReadOnlyEntry readOnlyEntry =
-             new ReadOnlyEntry(entry.duplicate());
-        for (final String passwordAttribute : configuredPasswordAttributes)
-        {
-          for (final Attribute attr :
-               readOnlyEntry.getAttributesWithOptions(passwordAttribute, null))
-          {
-            final ArrayList<byte[]> newValues = new ArrayList<>(attr.size());
-            for (final ASN1OctetString value : attr.getRawValues())
-            {
-              try
-              {
-                newValues.add(encodeAddPassword(value, readOnlyEntry,
-                     Collections.<Modification>emptyList()).getValue());
-              }
-              catch (final LDAPException le)
-              {
-                Debug.debugException(le);
-                return new LDAPMessage(messageID, new AddResponseProtocolOp(
-                     ResultCode.UNWILLING_TO_PERFORM_INT_VALUE,
-                     le.getMatchedDN(), le.getMessage(), null));
-              }
-            }
-
-            final byte[][] newValuesArray = new byte[newValues.size()][];
-            newValues.toArray(newValuesArray);
-            entry.setAttribute(new Attribute(attr.getName(), schema,
-                 newValuesArray));
-          }
-        }
+        encodeAddPasswords(entry, schema);
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        return new LDAPMessage(messageID, new AddResponseProtocolOp(
+             ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, le.getMatchedDN(),
+             le.getMessage(), null));
       }
 
       // If the request includes the post-read request control, then create the
@@ -1262,9 +1399,12 @@ public final class InMemoryRequestHandler
       // add the entry.
       if (baseDNs.contains(dn))
       {
-        entryMap.put(dn, new ReadOnlyEntry(entry));
+        final ReadOnlyEntry addedEntry = new ReadOnlyEntry(entry);
+        entryMap.put(dn, addedEntry);
+        hierarchyIndex.processAdd(dn);
         indexAdd(entry);
         addChangeLogEntry(request, authzDN);
+        notifyChange(PersistentSearchChangeType.ADD, null, addedEntry);
         return new LDAPMessage(messageID,
              new AddResponseProtocolOp(ResultCode.SUCCESS_INT_VALUE, null, null,
                   null),
@@ -1275,9 +1415,12 @@ public final class InMemoryRequestHandler
       final DN parentDN = dn.getParent();
       if ((parentDN != null) && entryMap.containsKey(parentDN))
       {
-        entryMap.put(dn, new ReadOnlyEntry(entry));
+        final ReadOnlyEntry addedEntry = new ReadOnlyEntry(entry);
+        entryMap.put(dn, addedEntry);
+        hierarchyIndex.processAdd(dn);
         indexAdd(entry);
         addChangeLogEntry(request, authzDN);
+        notifyChange(PersistentSearchChangeType.ADD, null, addedEntry);
         return new LDAPMessage(messageID,
              new AddResponseProtocolOp(ResultCode.SUCCESS_INT_VALUE, null, null,
                   null),
@@ -1309,87 +1452,291 @@ public final class InMemoryRequestHandler
 
 
   /**
-   * Encodes the provided password as appropriate.
-   *
-   * @param  password  The password to be encoded.
-   * @param  entry     The entry in which the password occurs.
-   * @param  mods      A list of modifications being applied to the entry, or
-   *                   an empty list if there are no modifications.
+   * Creates the entry to add for an add request, with attributes that use the
+   * appropriate matching rules if a schema is available.
    *
-   * @return  The encoded password.
+   * @param  dn          The DN of the entry to add.
+   * @param  attributes  The attributes for the entry to add.
+   * @param  schema      The schema to use for the entry.  It may be
+   *                     {@code null} if no schema is available.
    *
-   * @throws  LDAPException  If a problem is encountered while encoding the
-   *                         password.
+   * @return  The entry that was created.
    */
   @NotNull()
-  private ASN1OctetString encodeAddPassword(
-                               @NotNull final ASN1OctetString password,
-                               @NotNull final ReadOnlyEntry entry,
-                               @NotNull final List<Modification> mods)
-          throws LDAPException
+  static Entry createEntryToAdd(@NotNull final String dn,
+                                @NotNull final Collection<Attribute> attributes,
+                                @Nullable final Schema schema)
   {
-    for (final InMemoryPasswordEncoder encoder : passwordEncoders)
+    if (schema == null)
     {
-      if (encoder.passwordStartsWithPrefix(password))
-      {
-        encoder.ensurePreEncodedPasswordAppearsValid(password, entry, mods);
-        return password;
-      }
+      return new Entry(dn, attributes);
     }
 
-    if (primaryPasswordEncoder != null)
-    {
-      return primaryPasswordEncoder.encodePassword(password, entry, mods);
-    }
-    else
+    final List<Attribute> newAttrs = new ArrayList<>(attributes.size());
+    for (final Attribute a : attributes)
     {
-      return password;
+      final String baseName = a.getBaseName();
+      final MatchingRule matchingRule =
+           MatchingRule.selectEqualityMatchingRule(baseName, schema);
+      newAttrs.add(new Attribute(a.getName(), matchingRule, a.getRawValues()));
     }
+
+    return new Entry(dn, schema, newAttrs);
   }
 
 
 
   /**
-   * Attempts to process the provided bind request.  The attempt will fail if
-   * any of the following conditions is true:
-   * <UL>
-   *   <LI>There is a problem with any of the request controls.</LI>
-   *   <LI>The bind request is for a SASL bind for which no SASL mechanism
-   *       handler is defined.</LI>
-   *   <LI>The bind request contains a malformed bind DN.</LI>
-   *   <LI>The bind DN is not the null DN and is not the DN of any entry in the
-   *       data set.</LI>
-   *   <LI>The bind password is empty and the bind DN is not the null DN.</LI>
-   *   <LI>The target user does not have any password value that matches the
-   *       provided bind password.</LI>
-   * </UL>
-   *
-   * @param  messageID  The message ID of the LDAP message containing the bind
-   *                    request.
-   * @param  request    The bind request that was included in the LDAP message
-   *                    that was received.
-   * @param  controls   The set of controls included in the LDAP message.  It
-   *                    may be empty if there were no controls, but will not be
-   *                    {@code null}.
-   *
-   * @return  The {@link LDAPMessage} containing the response to send to the
-   *          client.  The protocol op in the {@code LDAPMessage} must be a
-   *          {@code BindResponseProtocolOp}.
+   * Ensures that the provided entry to add includes all of its RDN attribute
+   * values and, if a schema is available, all superior object classes of the
+   * object classes that it contains.
+   *
+   * @param  entry   The entry to update.
+   * @param  dn      The parsed DN of the entry.
+   * @param  schema  The schema to use for the entry.  It may be {@code null}
+   *                 if no schema is available.
    */
-  @Override()
-  @NotNull()
-  public LDAPMessage processBindRequest(final int messageID,
-                          @NotNull final BindRequestProtocolOp request,
-                          @NotNull final List<Control> controls)
+  static void completeEntryToAdd(@NotNull final Entry entry,
+                                 @NotNull final DN dn,
+                                 @Nullable final Schema schema)
   {
-    // Sleep before processing, if appropriate.
-    sleepBeforeProcessing();
-
-    try (ReadLock readLock = readWriteLock.lockRead())
+    // Make sure that all RDN attribute values are present in the entry.
+    final RDN      rdn           = dn.getRDN();
+    final String[] rdnAttrNames  = rdn.getAttributeNames();
+    final byte[][] rdnAttrValues = rdn.getByteArrayAttributeValues();
+    for (int i=0; i < rdnAttrNames.length; i++)
     {
-      readLock.avoidCompilerWarning();
+      final MatchingRule matchingRule =
+           MatchingRule.selectEqualityMatchingRule(rdnAttrNames[i], schema);
+      entry.addAttribute(new Attribute(rdnAttrNames[i], matchingRule,
+           rdnAttrValues[i]));
+    }
 
-      // If this operation type is not allowed, then reject it.
+    // Make sure that all superior object classes are present in the entry.
+    if (schema != null)
+    {
+      final String[] objectClasses = entry.getObjectClassValues();
+      if (objectClasses != null)
+      {
+        final LinkedHashMap<String,String> ocMap = new LinkedHashMap<>(
+             StaticUtils.computeMapCapacity(objectClasses.length));
+        for (final String ocName : objectClasses)
+        {
+          final ObjectClassDefinition oc = schema.getObjectClass(ocName);
+          if (oc == null)
+          {
+            ocMap.put(StaticUtils.toLowerCase(ocName), ocName);
+          }
+          else
+          {
+            ocMap.put(StaticUtils.toLowerCase(oc.getNameOrOID()), ocName);
+            for (final ObjectClassDefinition supClass :
+                 oc.getSuperiorClasses(schema, true))
+            {
+              ocMap.put(StaticUtils.toLowerCase(supClass.getNameOrOID()),
+                   supClass.getNameOrOID());
+            }
+          }
+        }
+
+        final String[] newObjectClasses = new String[ocMap.size()];
+        ocMap.values().toArray(newObjectClasses);
+        entry.setAttribute("objectClass", newObjectClasses);
+      }
+    }
+  }
+
+
+
+  /**
+   * Adds the operational attributes that the server generates for a new entry
+   * to the provided entry, if the server is configured to generate them.  Any
+   * of these attributes already present in the entry will be preserved.
+   *
+   * @param  entry    The entry to update.
+   * @param  dn       The parsed DN of the entry.
+   * @param  authzDN  The authorization DN for the operation adding the entry.
+   */
+  private void addOperationalAttributes(@NotNull final Entry entry,
+                                        @NotNull final DN dn,
+                                        @NotNull final DN authzDN)
+  {
+    if (! generateOperationalAttributes)
+    {
+      return;
+    }
+
+    final Date d = new Date();
+    if (! entry.hasAttribute("entryDN"))
+    {
+      entry.addAttribute(new Attribute("entryDN",
+           DistinguishedNameMatchingRule.getInstance(),
+           dn.toNormalizedString()));
+    }
+    if (! entry.hasAttribute("entryUUID"))
+    {
+      entry.addAttribute(new Attribute("entryUUID",
+           CryptoHelper.getRandomUUID().toString()));
+    }
+    if (! entry.hasAttribute("subschemaSubentry"))
+    {
+      entry.addAttribute(new Attribute("subschemaSubentry",
+           DistinguishedNameMatchingRule.getInstance(),
+           subschemaSubentryDN.toString()));
+    }
+    if (! entry.hasAttribute("creatorsName"))
+    {
+      entry.addAttribute(new Attribute("creatorsName",
+           DistinguishedNameMatchingRule.getInstance(),
+           authzDN.toString()));
+    }
+    if (! entry.hasAttribute("createTimestamp"))
+    {
+      entry.addAttribute(new Attribute("createTimestamp",
+           GeneralizedTimeMatchingRule.getInstance(),
+           StaticUtils.encodeGeneralizedTime(d)));
+    }
+    if (! entry.hasAttribute("modifiersName"))
+    {
+      entry.addAttribute(new Attribute("modifiersName",
+           DistinguishedNameMatchingRule.getInstance(),
+           authzDN.toString()));
+    }
+    if (! entry.hasAttribute("modifyTimestamp"))
+    {
+      entry.addAttribute(new Attribute("modifyTimestamp",
+           GeneralizedTimeMatchingRule.getInstance(),
+           StaticUtils.encodeGeneralizedTime(d)));
+    }
+  }
+
+
+
+  /**
+   * Ensures that the values of any password attributes in the provided entry
+   * to add are properly encoded.
+   *
+   * @param  entry   The entry to update.
+   * @param  schema  The schema to use for the entry.  It may be {@code null}
+   *                 if no schema is available.
+   *
+   * @throws  LDAPException  If a problem is encountered while encoding a
+   *                         password.
+   */
+  private void encodeAddPasswords(@NotNull final Entry entry,
+                                  @Nullable final Schema schema)
+          throws LDAPException
+  {
+    if (passwordEncoders.isEmpty() || configuredPasswordAttributes.isEmpty())
+    {
+      return;
+    }
+
+    final ReadOnlyEntry readOnlyEntry = new ReadOnlyEntry(entry.duplicate());
+    for (final String passwordAttribute : configuredPasswordAttributes)
+    {
+      for (final Attribute attr :
+           readOnlyEntry.getAttributesWithOptions(passwordAttribute, null))
+      {
+        final ArrayList<byte[]> newValues = new ArrayList<>(attr.size());
+        for (final ASN1OctetString value : attr.getRawValues())
+        {
+          newValues.add(encodeAddPassword(value, readOnlyEntry,
+               Collections.<Modification>emptyList()).getValue());
+        }
+
+        final byte[][] newValuesArray = new byte[newValues.size()][];
+        newValues.toArray(newValuesArray);
+        entry.setAttribute(new Attribute(attr.getName(), schema,
+             newValuesArray));
+      }
+    }
+  }
+
+
+
+  /**
+   * Encodes the provided password as appropriate.
+   *
+   * @param  password  The password to be encoded.
+   * @param  entry     The entry in which the password occurs.
+   * @param  mods      A list of modifications being applied to the entry, or
+   *                   an empty list if there are no modifications.
+   *
+   * @return  The encoded password.
+   *
+   * @throws  LDAPException  If a problem is encountered while encoding the
+   *                         password.
+   */
+  @NotNull()
+  private ASN1OctetString encodeAddPassword(
+                               @NotNull final ASN1OctetString password,
+                               @NotNull final ReadOnlyEntry entry,
+                               @NotNull final List<Modification> mods)
+          throws LDAPException
+  {
+    for (final InMemoryPasswordEncoder encoder : passwordEncoders)
+    {
+      if (encoder.passwordStartsWithPrefix(password))
+      {
+        encoder.ensurePreEncodedPasswordAppearsValid(password, entry, mods);
+        return password;
+      }
+    }
+
+    if (primaryPasswordEncoder != null)
+    {
+      return primaryPasswordEncoder.encodePassword(password, entry, mods);
+    }
+    else
+    {
+      return password;
+    }
+  }
+
+
+
+  /**
+   * Attempts to process the provided bind request.  The attempt will fail if
+   * any of the following conditions is true:
+   * <UL>
+   *   <LI>There is a problem with any of the request controls.</LI>
+   *   <LI>The bind request is for a SASL bind for which no SASL mechanism
+   *       handler is defined.</LI>
+   *   <LI>The bind request contains a malformed bind DN.</LI>
+   *   <LI>The bind DN is not the null DN and is not the DN of any entry in the
+   *       data set.</LI>
+   *   <LI>The bind password is empty and the bind DN is not the null DN.</LI>
+   *   <LI>The target user does not have any password value that matches the
+   *       provided bind password.</LI>
+   * </UL>
+   *
+   * @param  messageID  The message ID of the LDAP message containing the bind
+   *                    request.
+   * @param  request    The bind request that was included in the LDAP message
+   *                    that was received.
+   * @param  controls   The set of controls included in the LDAP message.  It
+   *                    may be empty if there were no controls, but will not be
+   *                    {@code null}.
+   *
+   * @return  The {@link LDAPMessage} containing the response to send to the
+   *          client.  The protocol op in the {@code LDAPMessage} must be a
+   *          {@code BindResponseProtocolOp}.
+   */
+  @Override()
+  @NotNull()
+  public LDAPMessage processBindRequest(final int messageID,
+                          @NotNull final BindRequestProtocolOp request,
+                          @NotNull final List<Control> controls)
+  {
+    // Sleep before processing, if appropriate.
+    sleepBeforeProcessing();
+
+    try (ReadView readView = entryMap.openReadView())
+    {
+      readView.avoidCompilerWarning();
+
+      // If this operation type is not allowed, then reject it.
       if (! config.getAllowedOperationTypes().contains(OperationType.BIND))
       {
         return new LDAPMessage(messageID, new BindResponseProtocolOp(
@@ -1636,9 +1983,9 @@ public final class InMemoryRequestHandler
     // Sleep before processing, if appropriate.
     sleepBeforeProcessing();
 
-    try (ReadLock readLock = readWriteLock.lockRead())
+    try (ReadView readView = entryMap.openReadView())
     {
-      readLock.avoidCompilerWarning();
+      readView.avoidCompilerWarning();
 
       // Process the provided request controls.
       final Map<String,Control> controlMap;
@@ -1849,7 +2196,7 @@ public final class InMemoryRequestHandler
     // Sleep before processing, if appropriate.
     sleepBeforeProcessing();
 
-    try (WriteLock writeLock = readWriteLock.lockWrite())
+    try (WriteLock writeLock = entryMap.lockWrite())
     {
       writeLock.avoidCompilerWarning();
 
@@ -1979,19 +2326,9 @@ public final class InMemoryRequestHandler
              ERR_MEM_HANDLER_DELETE_NO_SUCH_ENTRY.get(request.getDN()), null));
       }
 
-      // Create a list with the DN of the target entry, and all the DNs of its
-      // subordinates.  If the entry has subordinates and the subtree delete
-      // control was not provided, then fail.
-      final ArrayList<DN> subordinateDNs = new ArrayList<>(entryMap.size());
-      for (final DN mapEntryDN : entryMap.keySet())
-      {
-        if (mapEntryDN.isDescendantOf(dn, false))
-        {
-          subordinateDNs.add(mapEntryDN);
-        }
-      }
-
-      if ((! subordinateDNs.isEmpty()) &&
+      // If the entry has subordinates and the subtree delete control was not
+      // provided, then fail.
+      if (hierarchyIndex.hasSubordinates(dn) &&
            (! controlMap.containsKey(
                 SubtreeDeleteRequestControl.SUBTREE_DELETE_REQUEST_OID)))
       {
@@ -2027,19 +2364,25 @@ public final class InMemoryRequestHandler
       // At this point, the entry will be removed.  However, if this will be a
       // subtree delete, then we want to delete all of its subordinates first so
       // that the changelog will show the deletes in the appropriate order.
+      final List<DN> subordinateDNs =
+           hierarchyIndex.getEntryDNs(dn, SearchScope.SUBORDINATE_SUBTREE);
       for (int i=(subordinateDNs.size() - 1); i >= 0; i--)
       {
         final DN subordinateDN = subordinateDNs.get(i);
-        final Entry subEntry = entryMap.remove(subordinateDN);
+        final ReadOnlyEntry subEntry = entryMap.remove(subordinateDN);
+        hierarchyIndex.processDelete(subordinateDN);
         indexDelete(subEntry);
         addDeleteChangeLogEntry(subEntry, authzDN);
+        notifyChange(PersistentSearchChangeType.DELETE, subEntry, null);
         handleReferentialIntegrityDelete(subordinateDN);
       }
 
       // Finally, remove the target entry and create a changelog entry for it.
-      entryMap.remove(dn);
+      final ReadOnlyEntry deletedEntry = entryMap.remove(dn);
+      hierarchyIndex.processDelete(dn);
       indexDelete(entry);
       addDeleteChangeLogEntry(entry, authzDN);
+      notifyChange(PersistentSearchChangeType.DELETE, deletedEntry, null);
       handleReferentialIntegrityDelete(dn);
 
       return new LDAPMessage(messageID,
@@ -2091,9 +2434,11 @@ public final class InMemoryRequestHandler
           copy.removeAttributeValue(attrName, dn.toNormalizedString(),
                DistinguishedNameMatchingRule.getInstance());
         }
-        entryMap.put(mapDN, new ReadOnlyEntry(copy));
+        final ReadOnlyEntry updatedEntry = new ReadOnlyEntry(copy);
+        entryMap.put(mapDN, updatedEntry);
         indexDelete(e);
         indexAdd(copy);
+        notifyChange(PersistentSearchChangeType.MODIFY, e, updatedEntry);
       }
     }
   }
@@ -2125,7 +2470,7 @@ public final class InMemoryRequestHandler
     // Sleep before processing, if appropriate.
     sleepBeforeProcessing();
 
-    try (WriteLock writeLock = readWriteLock.lockWrite())
+    try (WriteLock writeLock = entryMap.lockWrite())
     {
       writeLock.avoidCompilerWarning();
 
@@ -2294,7 +2639,7 @@ public final class InMemoryRequestHandler
     // Sleep before processing, if appropriate.
     sleepBeforeProcessing();
 
-    try (WriteLock writeLock = readWriteLock.lockWrite())
+    try (WriteLock writeLock = entryMap.lockWrite())
     {
       writeLock.avoidCompilerWarning();
 
@@ -2568,20 +2913,28 @@ public final class InMemoryRequestHandler
 
 
       // Replace the entry in the map and return a success result.
+      final ReadOnlyEntry previousEntry;
+      final ReadOnlyEntry updatedEntry = new ReadOnlyEntry(modifiedEntry);
       if (dn.equals(subschemaSubentryDN))
       {
         final Schema newSchema = new Schema(modifiedEntry);
-        subschemaSubentryRef.set(new ReadOnlyEntry(modifiedEntry));
+        subschemaSubentryRef.set(updatedEntry);
         schemaRef.set(newSchema);
         entryValidatorRef.set(new EntryValidator(newSchema));
+        previousEntry = null;
       }
       else
       {
-        entryMap.put(dn, new ReadOnlyEntry(modifiedEntry));
+        previousEntry = entryMap.put(dn, updatedEntry);
         indexDelete(entry);
         indexAdd(modifiedEntry);
       }
       addChangeLogEntry(request, authzDN);
+      if (previousEntry != null)
+      {
+        notifyChange(PersistentSearchChangeType.MODIFY, previousEntry,
+             updatedEntry);
+      }
       return new LDAPMessage(messageID,
            new ModifyResponseProtocolOp(ResultCode.SUCCESS_INT_VALUE, null,
                 null, null),
@@ -2982,7 +3335,7 @@ public final class InMemoryRequestHandler
     // Sleep before processing, if appropriate.
     sleepBeforeProcessing();
 
-    try (WriteLock writeLock = readWriteLock.lockWrite())
+    try (WriteLock writeLock = entryMap.lockWrite())
     {
       writeLock.avoidCompilerWarning();
 
@@ -3372,49 +3725,60 @@ public final class InMemoryRequestHandler
         responseControls.add(postReadResponse);
       }
 
+      // Get the DNs of any subordinates of the target entry before it is
+      // renamed.
+      final List<DN> subordinateDNs =
+           hierarchyIndex.getEntryDNs(dn, SearchScope.SUBORDINATE_SUBTREE);
+
       // Remove the old entry and add the new one.
-      entryMap.remove(dn);
-      entryMap.put(newDN, new ReadOnlyEntry(updatedEntry));
+      final ReadOnlyEntry previousEntry = entryMap.remove(dn);
+      hierarchyIndex.processDelete(dn);
+      final ReadOnlyEntry renamedEntry = new ReadOnlyEntry(updatedEntry);
+      entryMap.put(newDN, renamedEntry);
+      hierarchyIndex.processAdd(newDN);
       indexDelete(originalEntry);
       indexAdd(updatedEntry);
+      addChangeLogEntry(request, authzDN);
+      notifyChange(PersistentSearchChangeType.MODIFY_DN, previousEntry,
+           renamedEntry);
 
       // If the target entry had any subordinates, then rename them as well.
       final RDN[] oldDNComps = dn.getRDNs();
       final RDN[] newDNComps = newDN.getRDNs();
-      final Set<DN> dnSet = new LinkedHashSet<>(entryMap.keySet());
-      for (final DN mapEntryDN : dnSet)
+      for (final DN mapEntryDN : subordinateDNs)
       {
-        if (mapEntryDN.isDescendantOf(dn, false))
-        {
-          final Entry o = entryMap.remove(mapEntryDN);
-          final Entry e = o.duplicate();
+        final ReadOnlyEntry o = entryMap.remove(mapEntryDN);
+        hierarchyIndex.processDelete(mapEntryDN);
+        final Entry e = o.duplicate();
 
-          final RDN[] oldMapEntryComps = mapEntryDN.getRDNs();
-          final int compsToSave = oldMapEntryComps.length - oldDNComps.length;
+        final RDN[] oldMapEntryComps = mapEntryDN.getRDNs();
+        final int compsToSave = oldMapEntryComps.length - oldDNComps.length;
 
-          final RDN[] newMapEntryComps =
-               new RDN[compsToSave + newDNComps.length];
-          System.arraycopy(oldMapEntryComps, 0, newMapEntryComps, 0,
-               compsToSave);
-          System.arraycopy(newDNComps, 0, newMapEntryComps, compsToSave,
-               newDNComps.length);
+        final RDN[] newMapEntryComps =
+             new RDN[compsToSave + newDNComps.length];
+        System.arraycopy(oldMapEntryComps, 0, newMapEntryComps, 0,
+             compsToSave);
+        System.arraycopy(newDNComps, 0, newMapEntryComps, compsToSave,
+             newDNComps.length);
 
-          final DN newMapEntryDN = new DN(newMapEntryComps);
-          e.setDN(newMapEntryDN);
-          if (generateOperationalAttributes)
-          {
-            e.setAttribute(new Attribute("entryDN",
-                 DistinguishedNameMatchingRule.getInstance(),
-                 newMapEntryDN.toNormalizedString()));
-          }
-          entryMap.put(newMapEntryDN, new ReadOnlyEntry(e));
-          indexDelete(o);
-          indexAdd(e);
-          handleReferentialIntegrityModifyDN(mapEntryDN, newMapEntryDN);
+        final DN newMapEntryDN = new DN(newMapEntryComps);
+        e.setDN(newMapEntryDN);
+        if (generateOperationalAttributes)
+        {
+          e.setAttribute(new Attribute("entryDN",
+               DistinguishedNameMatchingRule.getInstance(),
+               newMapEntryDN.toNormalizedString()));
         }
+        final ReadOnlyEntry renamedSubordinate = new ReadOnlyEntry(e);
+        entryMap.put(newMapEntryDN, renamedSubordinate);
+        hierarchyIndex.processAdd(newMapEntryDN);
+        indexDelete(o);
+        indexAdd(e);
+        notifyChange(PersistentSearchChangeType.MODIFY_DN, o,
+             renamedSubordinate);
+        handleReferentialIntegrityModifyDN(mapEntryDN, newMapEntryDN);
       }
 
-      addChangeLogEntry(request, authzDN);
       handleReferentialIntegrityModifyDN(dn, newDN);
       return new LDAPMessage(messageID,
            new ModifyDNResponseProtocolOp(ResultCode.SUCCESS_INT_VALUE, null,
@@ -3470,9 +3834,11 @@ public final class InMemoryRequestHandler
             copy.addAttribute(attrName, newDN.toString());
           }
         }
-        entryMap.put(mapDN, new ReadOnlyEntry(copy));
+        final ReadOnlyEntry updatedEntry = new ReadOnlyEntry(copy);
+        entryMap.put(mapDN, updatedEntry);
         indexDelete(e);
         indexAdd(copy);
+        notifyChange(PersistentSearchChangeType.MODIFY, e, updatedEntry);
       }
     }
   }
@@ -3512,57 +3878,8 @@ public final class InMemoryRequestHandler
                           @NotNull final SearchRequestProtocolOp request,
                           @NotNull final List<Control> controls)
   {
-    try (ReadLock readLock = readWriteLock.lockRead())
-    {
-      readLock.avoidCompilerWarning();
-
-      final List<SearchResultEntry> entryList =
-           new ArrayList<>(entryMap.size());
-      final List<SearchResultReference> referenceList =
-           new ArrayList<>(entryMap.size());
-
-      final LDAPMessage returnMessage = processSearchRequest(messageID, request,
-           controls, entryList, referenceList);
-
-      for (final SearchResultEntry e : entryList)
-      {
-        try
-        {
-          connection.sendSearchResultEntry(messageID, e, e.getControls());
-        }
-        catch (final LDAPException le)
-        {
-          Debug.debugException(le);
-          return new LDAPMessage(messageID,
-               new SearchResultDoneProtocolOp(le.getResultCode().intValue(),
-                    le.getMatchedDN(), le.getDiagnosticMessage(),
-                    StaticUtils.toList(le.getReferralURLs())),
-               le.getResponseControls());
-        }
-      }
-
-      for (final SearchResultReference r : referenceList)
-      {
-        try
-        {
-          connection.sendSearchResultReference(messageID,
-               new SearchResultReferenceProtocolOp(
-                    StaticUtils.toList(r.getReferralURLs())),
-               r.getControls());
-        }
-        catch (final LDAPException le)
-        {
-          Debug.debugException(le);
-          return new LDAPMessage(messageID,
-               new SearchResultDoneProtocolOp(le.getResultCode().intValue(),
-                    le.getMatchedDN(), le.getDiagnosticMessage(),
-                    StaticUtils.toList(le.getReferralURLs())),
-               le.getResponseControls());
-        }
-      }
-
-      return returnMessage;
-    }
+    return processSearchRequest(messageID, request, controls, connection,
+         null, null);
   }
 
 
@@ -3606,14 +3923,114 @@ public final class InMemoryRequestHandler
                    @NotNull final List<Control> controls,
                    @NotNull final List<SearchResultEntry> entryList,
                    @NotNull final List<SearchResultReference> referenceList)
+  {
+    return processSearchRequest(messageID, request, controls, null, entryList,
+         referenceList);
+  }
+
+
+
+  /**
+   * Attempts to process the provided search request, either sending matching
+   * entries and references to the provided client connection as they are
+   * found, or adding them to the provided lists.  If the request does not
+   * include any control that requires the complete set of matching entries to
+   * be known before any can be returned (that is, the server-side sort, simple
+   * paged results, or virtual list view request controls), then entries will
+   * be returned as soon as they are found rather than being held in memory
+   * until the search has completed.
+   *
+   * @param  messageID         The message ID of the LDAP message containing the
+   *                           search request.
+   * @param  request           The search request that was included in the LDAP
+   *                           message that was received.
+   * @param  controls          The set of controls included in the LDAP
+   *                           message.  It may be empty if there were no
+   *                           controls, but will not be {@code null}.
+   * @param  clientConnection  The client connection to which search result
+   *                           entries and references should be sent.  It may
+   *                           be {@code null} if they should be added to the
+   *                           provided lists instead.
+   * @param  entryList         A list to which to add search result entries
+   *                           if there is no client connection.  It may be
+   *                           {@code null} if a client connection is provided.
+   * @param  referenceList     A list to which to add search result references
+   *                           if there is no client connection.  It may be
+   *                           {@code null} if a client connection is provided.
+   *
+   * @return  The {@link LDAPMessage} containing the response to send to the
+   *          client.  The protocol op in the {@code LDAPMessage} must be an
+   *          {@code SearchResultDoneProtocolOp}.
+   */
+  @NotNull()
+  private LDAPMessage processSearchRequest(final int messageID,
+               @NotNull final SearchRequestProtocolOp request,
+               @NotNull final List<Control> controls,
+               @Nullable final LDAPListenerClientConnection clientConnection,
+               @Nullable final List<SearchResultEntry> entryList,
+               @Nullable final List<SearchResultReference> referenceList)
   {
     // Sleep before processing, if appropriate.
     final long processingStartTime = System.currentTimeMillis();
     sleepBeforeProcessing();
 
-    try (ReadLock readLock = readWriteLock.lockRead())
+    // If the request includes the persistent search or content synchronization
+    // request control, then determine whether changes should be returned after
+    // the initial search.
+    boolean changeNotificationRequested = false;
+    boolean persistRequested = false;
+    for (final Control c : controls)
+    {
+      if (c.getOID().equals(
+           PersistentSearchRequestControl.PERSISTENT_SEARCH_REQUEST_OID))
+      {
+        changeNotificationRequested = true;
+        persistRequested = true;
+      }
+      else if (c.getOID().equals(ContentSyncRequestControl.SYNC_REQUEST_OID))
+      {
+        changeNotificationRequested = true;
+        try
+        {
+          if (new ContentSyncRequestControl(c).getMode() ==
+               ContentSyncRequestMode.REFRESH_AND_PERSIST)
+          {
+            persistRequested = true;
+          }
+        }
+        catch (final LDAPException le)
+        {
+          // The control will be rejected when the request controls are
+          // processed.
+          Debug.debugException(le);
+        }
+      }
+    }
+
+    // Register the operation to be notified of changes, and get the last
+    // change number, before opening the read view.  This ensures that every
+    // change will either be visible to the initial search or queued to be
+    // returned after it, although a change made between registration and
+    // opening the read view may be both.
+    InMemoryPersistentSearch persistentSearch = null;
+    long registeredChangeNumber = -1L;
+    if (changeNotificationRequested && (clientConnection != null))
+    {
+      try (WriteLock writeLock = entryMap.lockWrite())
+      {
+        writeLock.avoidCompilerWarning();
+        registeredChangeNumber = lastChangeNumber.get();
+        if (persistRequested)
+        {
+          persistentSearch =
+               changeNotifier.register(clientConnection, messageID);
+        }
+      }
+    }
+
+    try (ReadView readView = entryMap.openReadView())
     {
-      readLock.avoidCompilerWarning();
+      readView.avoidCompilerWarning();
 
       // Look at the filter and see if it contains any unsupported elements.
       try
@@ -3636,10 +4053,10 @@ public final class InMemoryRequestHandler
       // response by configuring a delay that is greater than the requested time
       // limit, so we should check now to see if that's been exceeded.
       final long timeLimitMillis = 1000L * request.getTimeLimit();
+      final long timeLimitExpirationTime;
       if (timeLimitMillis > 0L)
       {
-        final long timeLimitExpirationTime =
-             processingStartTime + timeLimitMillis;
+        timeLimitExpirationTime = processingStartTime + timeLimitMillis;
         if (System.currentTimeMillis() >= timeLimitExpirationTime)
         {
           return new LDAPMessage(messageID, new SearchResultDoneProtocolOp(
@@ -3647,6 +4064,10 @@ public final class InMemoryRequestHandler
                ERR_MEM_HANDLER_TIME_LIMIT_EXCEEDED.get(), null));
         }
       }
+      else
+      {
+        timeLimitExpirationTime = 0L;
+      }
 
       // Process the provided request controls.
       final Map<String,Control> controlMap;
@@ -3676,6 +4097,24 @@ public final class InMemoryRequestHandler
       }
 
 
+      // Persistent searches and content synchronization operations can only be
+      // processed for a client connection, since the results must be returned
+      // as they become available.
+      final PersistentSearchRequestControl persistentSearchControl =
+           (PersistentSearchRequestControl) controlMap.get(
+                PersistentSearchRequestControl.PERSISTENT_SEARCH_REQUEST_OID);
+      final ContentSyncRequestControl contentSyncControl =
+           (ContentSyncRequestControl)
+                controlMap.get(ContentSyncRequestControl.SYNC_REQUEST_OID);
+      if (((persistentSearchControl != null) || (contentSyncControl != null)) &&
+          (clientConnection == null))
+      {
+        return new LDAPMessage(messageID, new SearchResultDoneProtocolOp(
+             ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
+             ERR_MEM_HANDLER_PSEARCH_NO_CONNECTION.get(), null));
+      }
+
+
       // If this operation type requires authentication, then ensure that the
       // client is authenticated.
       if ((authenticatedDN.isNullDN() &&
@@ -3803,13 +4242,142 @@ public final class InMemoryRequestHandler
         includeNonSubEntries = true;
       }
 
-      // Create a temporary list to hold all of the entries to be returned.
-      // These entries will not have been pared down based on the requested
-      // attributes.
-      final List<Entry> fullEntryList = new ArrayList<>(entryMap.size());
-
+      // Determine whether the request includes any controls that require the
+      // complete set of matching entries to be known before any of them can be
+      // returned.  If not, then entries will be returned as soon as they are
+      // found.
+      final ServerSideSortRequestControl sortRequestControl =
+           (ServerSideSortRequestControl) controlMap.get(
+                ServerSideSortRequestControl.SERVER_SIDE_SORT_REQUEST_OID);
+      final SimplePagedResultsControl pagedResultsControl =
+           (SimplePagedResultsControl)
+                controlMap.get(SimplePagedResultsControl.PAGED_RESULTS_OID);
+      final VirtualListViewRequestControl vlvRequest =
+           (VirtualListViewRequestControl) controlMap.get(
+                VirtualListViewRequestControl.VIRTUAL_LIST_VIEW_REQUEST_OID);
+      final boolean bufferEntries = ((sortRequestControl != null) ||
+           (pagedResultsControl != null) || (vlvRequest != null));
+
+
+      // Process the set of requested attributes so that we can pare down the
+      // entries.
+      final SearchEntryParer parer = new SearchEntryParer(
+           request.getAttributes(), schema);
+      final int sizeLimit;
+      if (request.getSizeLimit() > 0)
+      {
+        sizeLimit = Math.min(request.getSizeLimit(), maxSizeLimit);
+      }
+      else
+      {
+        sizeLimit = maxSizeLimit;
+      }
+
+      final InMemorySearchEntryProcessor searchEntryProcessor =
+           new InMemorySearchEntryProcessor(messageID, clientConnection,
+                entryList, referenceList, responseControls, schema, parer,
+                request.typesOnly(), includeSubEntries, includeNonSubEntries,
+                includeChangeLog, hasManageDsaIT, changeLogBaseDN, sizeLimit,
+                timeLimitExpirationTime, bufferEntries);
+
+
+      // Determine the last change that is visible to the initial search.  For
+      // a content synchronization operation, see if the client's cookie makes
+      // it possible to return only the entries that have changed since its
+      // last synchronization, rather than the full content.
+      long initialChangeNumber = -1L;
+      if (changeNotificationRequested)
+      {
+        initialChangeNumber =
+             getVisibleLastChangeNumber(registeredChangeNumber);
+      }
+
+      if (contentSyncControl != null)
+      {
+        searchEntryProcessor.enableContentSyncRefresh(getContentSyncChangedDNs(
+             baseDN, contentSyncControl.getCookie(), initialChangeNumber));
+      }
+
+
+      // If the request includes a simple paged results cookie or a virtual list
+      // view context ID, then get the ID of the search cursor that it
+      // references, along with the offset of the next page of results.
+      long cursorID = -1L;
+      int pagedResultsOffset = 0;
+      if (pagedResultsControl != null)
+      {
+        final ASN1OctetString cookie = pagedResultsControl.getCookie();
+        if ((cookie != null) && (cookie.getValueLength() > 0))
+        {
+          // The cookie value will be a sequence of the cursor ID and the offset
+          // within the result list at which to start the next batch.
+          try
+          {
+            final ASN1Element[] cookieElements =
+                 ASN1Sequence.decodeAsSequence(cookie.getValue()).elements();
+            cursorID = ASN1Long.decodeAsLong(cookieElements[0]).longValue();
+            pagedResultsOffset =
+                 ASN1Integer.decodeAsInteger(cookieElements[1]).intValue();
+          }
+          catch (final Exception e)
+          {
+            Debug.debugException(e);
+            return new LDAPMessage(messageID,
+                 new SearchResultDoneProtocolOp(
+                      ResultCode.PROTOCOL_ERROR_INT_VALUE, null,
+                      ERR_MEM_HANDLER_MALFORMED_PAGED_RESULTS_COOKIE.get(),
+                      null),
+                 responseControls);
+          }
+        }
+      }
+      else if ((vlvRequest != null) && (vlvRequest.getContextID() != null))
+      {
+        // The context ID may have been provided by a different server, so
+        // ignore it if it is not a cursor ID.
+        try
+        {
+          cursorID = ASN1Long.decodeAsLong(
+               vlvRequest.getContextID().getValue()).longValue();
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+        }
+      }
+
+
+      // If the entries need to be held for paging or sorting, then see if they
+      // are available from a search cursor created by an earlier request.
+      // Cursors are tied to the version of the data visible to this request, so
+      // any write since the cursor was created will prevent it from being used.
+      final long cursorVersion = entryMap.getReadVersion();
+      String cursorKey = null;
+      List<Entry> cursorEntries = null;
+      if (bufferEntries && (cursorVersion >= 0L))
+      {
+        cursorKey = getSearchCursorKey(baseDN, scope, request.getFilter(),
+             includeSubEntries, includeNonSubEntries, includeChangeLog,
+             hasManageDsaIT, sortRequestControl);
+        if (cursorID >= 0L)
+        {
+          cursorEntries = searchCursorCache.get(cursorID, cursorKey,
+               cursorVersion, schema);
+        }
+      }
+
 findEntriesAndRefs:
       {
+        // If the matching entries are available from a search cursor, then
+        // there is no need to find them again.  If the request is a persistent
+        // search that should only return changes, then there is no need to
+        // find them at all.
+        if ((cursorEntries != null) || ((persistentSearchControl != null) &&
+             persistentSearchControl.changesOnly()))
+        {
+          break findEntriesAndRefs;
+        }
+
         // Check the scope.  If it is a base-level search, then we only need to
         // examine the base entry.  Otherwise, we'll have to scan the entire
         // entry map.
@@ -3820,9 +4388,10 @@ findEntriesAndRefs:
           {
             if (filter.matchesEntry(baseEntry, schema))
             {
-              processSearchEntry(baseEntry, includeSubEntries,
-                   includeNonSubEntries, includeChangeLog, hasManageDsaIT,
-                   fullEntryList, referenceList);
+              if (! searchEntryProcessor.processEntry(baseEntry))
+              {
+                break findEntriesAndRefs;
+              }
             }
           }
           catch (final Exception e)
@@ -3847,9 +4416,10 @@ findEntriesAndRefs:
               {
                 if (filter.matchesEntry(e, schema))
                 {
-                  processSearchEntry(e, includeSubEntries, includeNonSubEntries,
-                       includeChangeLog, hasManageDsaIT, fullEntryList,
-                       referenceList);
+                  if (! searchEntryProcessor.processEntry(e))
+                  {
+                    break findEntriesAndRefs;
+                  }
                 }
               }
               catch (final Exception ex)
@@ -3864,11 +4434,41 @@ findEntriesAndRefs:
 
 
         // Try to use indexes to process the request.  If we can't use any
-        // indexes to get a candidate list, then just iterate over all the
-        // entries.  It's not necessary to consider the root DSE for non-base
-        // scopes.
-        final Set<DN> candidateDNs = indexSearch(filter);
-        if (candidateDNs == null)
+        // attribute indexes to get a candidate list, then iterate over the
+        // entries within the scope of the search, or over all the entries if
+        // the search is based at the root DSE.  It's not necessary to consider
+        // the root DSE for non-base scopes.
+        final List<DN> candidateDNs = indexSearch(filter);
+        if ((candidateDNs == null) && (! baseDN.isNullDN()))
+        {
+          for (final DN dn : getEntryDNs(baseDN, scope))
+          {
+            final Entry entry = entryMap.get(dn);
+            if (entry == null)
+            {
+              continue;
+            }
+
+            try
+            {
+              if (filter.matchesEntry(entry, schema) ||
+                   (((! hasManageDsaIT) &&
+                        entry.hasObjectClass("referral") &&
+                        entry.hasAttribute("ref"))))
+              {
+                if (! searchEntryProcessor.processEntry(entry))
+                {
+                  break findEntriesAndRefs;
+                }
+              }
+            }
+            catch (final Exception e)
+            {
+              Debug.debugException(e);
+            }
+          }
+        }
+        else if (candidateDNs == null)
         {
           for (final Map.Entry<DN,ReadOnlyEntry> me : entryMap.entrySet())
           {
@@ -3883,9 +4483,10 @@ findEntriesAndRefs:
                           entry.hasObjectClass("referral") &&
                           entry.hasAttribute("ref"))))
                 {
-                  processSearchEntry(entry, includeSubEntries,
-                       includeNonSubEntries, includeChangeLog, hasManageDsaIT,
-                       fullEntryList, referenceList);
+                  if (! searchEntryProcessor.processEntry(entry))
+                  {
+                    break findEntriesAndRefs;
+                  }
                 }
               }
             }
@@ -3907,14 +4508,20 @@ findEntriesAndRefs:
               }
 
               final Entry entry = entryMap.get(dn);
+              if (entry == null)
+              {
+                continue;
+              }
+
               if (filter.matchesEntry(entry, schema) ||
                    (((! hasManageDsaIT) &&
                         entry.hasObjectClass("referral") &&
                         entry.hasAttribute("ref"))))
               {
-                processSearchEntry(entry, includeSubEntries,
-                     includeNonSubEntries, includeChangeLog, hasManageDsaIT,
-                     fullEntryList, referenceList);
+                if (! searchEntryProcessor.processEntry(entry))
+                {
+                  break findEntriesAndRefs;
+                }
               }
             }
             catch (final Exception e)
@@ -3926,18 +4533,42 @@ findEntriesAndRefs:
       }
 
 
+      // If processing stopped early, then return the appropriate result.
+      if (searchEntryProcessor.getSearchResultDoneMessage() != null)
+      {
+        return searchEntryProcessor.getSearchResultDoneMessage();
+      }
+
+
+      // Any entries that have not already been returned will have been held so
+      // that they can be sorted or paged, unless they were obtained from a
+      // search cursor.  These entries will not have been pared down based on
+      // the requested attributes.
+      final List<Entry> fullEntryList;
+      if (cursorEntries == null)
+      {
+        fullEntryList = searchEntryProcessor.getBufferedEntries();
+      }
+      else
+      {
+        fullEntryList = cursorEntries;
+      }
+
+
       // If the request included the server-side sort request control, then sort
-      // the matching entries appropriately.
-      final ServerSideSortRequestControl sortRequestControl =
-           (ServerSideSortRequestControl) controlMap.get(
-                ServerSideSortRequestControl.SERVER_SIDE_SORT_REQUEST_OID);
+      // the matching entries appropriately.  Entries obtained from a search
+      // cursor will already have been sorted.
       if (sortRequestControl != null)
       {
-        final EntrySorter entrySorter = new EntrySorter(false, schema,
-             sortRequestControl.getSortKeys());
-        final SortedSet<Entry> sortedEntrySet = entrySorter.sort(fullEntryList);
-        fullEntryList.clear();
-        fullEntryList.addAll(sortedEntrySet);
+        if (cursorEntries == null)
+        {
+          final EntrySorter entrySorter = new EntrySorter(false, schema,
+               sortRequestControl.getSortKeys());
+          final SortedSet<Entry> sortedEntrySet =
+               entrySorter.sort(fullEntryList);
+          fullEntryList.clear();
+          fullEntryList.addAll(sortedEntrySet);
+        }
 
         responseControls.add(new ServerSideSortResponseControl(
              ResultCode.SUCCESS, null));
@@ -3946,81 +4577,41 @@ findEntriesAndRefs:
 
       // If the request included the simple paged results control, then handle
       // it.
-      final SimplePagedResultsControl pagedResultsControl =
-           (SimplePagedResultsControl)
-                controlMap.get(SimplePagedResultsControl.PAGED_RESULTS_OID);
+      List<Entry> returnEntryList = fullEntryList;
       if (pagedResultsControl != null)
       {
         final int totalSize = fullEntryList.size();
-        final int pageSize = pagedResultsControl.getSize();
-        final ASN1OctetString cookie = pagedResultsControl.getCookie();
-
-        final int offset;
-        if ((cookie == null) || (cookie.getValueLength() == 0))
-        {
-          // This is the first request in the series, so start at the beginning
-          // of the list.
-          offset = 0;
-        }
-        else
-        {
-          // The cookie value will simply be an integer representation of the
-          // offset within the result list at which to start the next batch.
-          try
-          {
-            final ASN1Integer offsetInteger =
-                 ASN1Integer.decodeAsInteger(cookie.getValue());
-            offset = offsetInteger.intValue();
-          }
-          catch (final Exception e)
+        final int pageSize = Math.max(0, pagedResultsControl.getSize());
+        final int start =
+             Math.min(totalSize, Math.max(0, pagedResultsOffset));
+        final int end = start + Math.min(pageSize, (totalSize - start));
+        returnEntryList = fullEntryList.subList(start, end);
+
+        // If there are still entries left, then create a cookie to include in
+        // the response that references a search cursor holding the complete
+        // list of entries, so that the next page can be obtained without
+        // evaluating the search again.  Otherwise, use an empty cookie and
+        // discard any cursor.
+        if (end < totalSize)
+        {
+          if ((cursorEntries == null) && (cursorKey != null))
           {
-            Debug.debugException(e);
-            return new LDAPMessage(messageID,
-                 new SearchResultDoneProtocolOp(
-                      ResultCode.PROTOCOL_ERROR_INT_VALUE, null,
-                      ERR_MEM_HANDLER_MALFORMED_PAGED_RESULTS_COOKIE.get(),
-                      null),
-                 responseControls);
+            cursorID = searchCursorCache.put(cursorKey, cursorVersion, schema,
+                 fullEntryList);
           }
-        }
 
-        // Create an iterator that will be used to remove entries from the
-        // result set that are outside of the requested page of results.
-        int pos = 0;
-        final Iterator<Entry> iterator = fullEntryList.iterator();
-
-        // First, remove entries at the beginning of the list until we hit the
-        // offset.
-        while (iterator.hasNext() && (pos < offset))
-        {
-          iterator.next();
-          iterator.remove();
-          pos++;
-        }
-
-        // Next, skip over the entries that should be returned.
-        int keptEntries = 0;
-        while (iterator.hasNext() && (keptEntries < pageSize))
-        {
-          iterator.next();
-          pos++;
-          keptEntries++;
-        }
-
-        // If there are still entries left, then remove them and create a cookie
-        // to include in the response.  Otherwise, use an empty cookie.
-        if (iterator.hasNext())
-        {
           responseControls.add(new SimplePagedResultsControl(totalSize,
-               new ASN1OctetString(new ASN1Integer(pos).encode()), false));
-          while (iterator.hasNext())
-          {
-            iterator.next();
-            iterator.remove();
-          }
+               new ASN1OctetString(new ASN1Sequence(new ASN1Long(cursorID),
+                    new ASN1Integer(end)).encode()),
+               false));
         }
         else
         {
+          if (cursorEntries != null)
+          {
+            searchCursorCache.remove(cursorID);
+          }
+
           responseControls.add(new SimplePagedResultsControl(totalSize,
                new ASN1OctetString(), false));
         }
@@ -4029,9 +4620,6 @@ findEntriesAndRefs:
 
       // If the request includes the virtual list view request control, then
       // handle it.
-      final VirtualListViewRequestControl vlvRequest =
-           (VirtualListViewRequestControl) controlMap.get(
-                VirtualListViewRequestControl.VIRTUAL_LIST_VIEW_REQUEST_OID);
       if (vlvRequest != null)
       {
         final int totalEntries = fullEntryList.size();
@@ -4052,22 +4640,33 @@ findEntriesAndRefs:
         {
           final SortKey primarySortKey = sortRequestControl.getSortKeys()[0];
 
-          final Entry testEntry = new Entry("cn=test", schema,
+          // Use the null DN for the test entry so that it will be ordered
+          // before any entry with the same sort key value.
+          final Entry testEntry = new Entry("", schema,
                new Attribute(primarySortKey.getAttributeName(),
                     assertionValue));
 
           final EntrySorter entrySorter =
                new EntrySorter(false, schema, primarySortKey);
 
-          offset = fullEntryList.size();
-          for (int i=0; i < fullEntryList.size(); i++)
+          // The list is sorted by the primary sort key, so use a binary search
+          // to find the first entry that is greater than or equal to the
+          // assertion value.
+          int low = 0;
+          int high = fullEntryList.size();
+          while (low < high)
           {
-            if (entrySorter.compare(fullEntryList.get(i), testEntry) >= 0)
+            final int mid = (low + high) >>> 1;
+            if (entrySorter.compare(fullEntryList.get(mid), testEntry) >= 0)
             {
-              offset = i;
-              break;
+              high = mid;
+            }
+            else
+            {
+              low = mid + 1;
             }
           }
+          offset = low;
         }
 
         // Get the start and end positions based on the before and after counts.
@@ -4075,70 +4674,130 @@ findEntriesAndRefs:
         final int afterCount  = Math.max(0, vlvRequest.getAfterCount());
 
         final int start = Math.max(0, (offset - beforeCount));
-        final int end =
-             Math.min(fullEntryList.size(), (offset + afterCount + 1));
+        final int end = (int) Math.min(fullEntryList.size(),
+             (1L + offset + afterCount));
+        returnEntryList = fullEntryList.subList(start, end);
 
-        // Create an iterator to use to alter the list so that it only contains
-        // the appropriate set of entries.
-        int pos = 0;
-        final Iterator<Entry> iterator = fullEntryList.iterator();
-        while (iterator.hasNext())
+        // Make the complete list of entries available to subsequent requests
+        // that include the context ID from the response control.
+        if ((cursorEntries == null) && (cursorKey != null))
         {
-          iterator.next();
-          if ((pos < start) || (pos >= end))
-          {
-            iterator.remove();
-          }
-          pos++;
+          cursorID = searchCursorCache.put(cursorKey, cursorVersion, schema,
+               fullEntryList);
+        }
+
+        final ASN1OctetString contextID;
+        if (cursorID >= 0L)
+        {
+          contextID = new ASN1OctetString(new ASN1Long(cursorID).encode());
+        }
+        else
+        {
+          contextID = null;
         }
 
         // Create the appropriate response control.
         responseControls.add(new VirtualListViewResponseControl((offset+1),
-             totalEntries, ResultCode.SUCCESS, null));
+             totalEntries, ResultCode.SUCCESS, contextID));
       }
 
 
-      // Process the set of requested attributes so that we can pare down the
-      // entries.
-      final SearchEntryParer parer = new SearchEntryParer(
-           request.getAttributes(), schema);
-      final int sizeLimit;
-      if (request.getSizeLimit() > 0)
-      {
-        sizeLimit = Math.min(request.getSizeLimit(), maxSizeLimit);
-      }
-      else
+      // Return any entries that were held for sorting or paging.
+      if (returnEntryList != null)
       {
-        sizeLimit = maxSizeLimit;
+        for (final Entry e : returnEntryList)
+        {
+          if (! searchEntryProcessor.returnEntry(e))
+          {
+            return searchEntryProcessor.getSearchResultDoneMessage();
+          }
+        }
       }
 
-      int entryCount = 0;
-      for (final Entry e : fullEntryList)
+
+      // If this is a content synchronization operation, then complete the
+      // refresh phase.  In refreshOnly mode, that completes the operation.
+      if (contentSyncControl != null)
       {
-        entryCount++;
-        if (entryCount > sizeLimit)
+        if (! searchEntryProcessor.flushPresentEntryUUIDs())
         {
+          return searchEntryProcessor.getSearchResultDoneMessage();
+        }
+
+        final ASN1OctetString cookie =
+             InMemoryPersistentSearch.encodeCookie(initialChangeNumber);
+        if (persistentSearch == null)
+        {
+          responseControls.add(new ContentSyncDoneControl(cookie, false));
           return new LDAPMessage(messageID,
-               new SearchResultDoneProtocolOp(
-                    ResultCode.SIZE_LIMIT_EXCEEDED_INT_VALUE, null,
-                    ERR_MEM_HANDLER_SEARCH_SIZE_LIMIT_EXCEEDED.get(), null),
+               new SearchResultDoneProtocolOp(ResultCode.SUCCESS_INT_VALUE,
+                    null, null, null),
                responseControls);
         }
 
-        final Entry trimmedEntry = parer.pareEntry(e);
-        if (request.typesOnly())
+        try
         {
-          final Entry typesOnlyEntry = new Entry(trimmedEntry.getDN(), schema);
-          for (final Attribute a : trimmedEntry.getAttributes())
-          {
-            typesOnlyEntry.addAttribute(new Attribute(a.getName()));
-          }
-          entryList.add(new SearchResultEntry(typesOnlyEntry));
+          clientConnection.sendIntermediateResponse(messageID,
+               new IntermediateResponseProtocolOp(
+                    ContentSyncInfoIntermediateResponse.
+                         createRefreshPresentResponse(cookie, true)));
+        }
+        catch (final LDAPException le)
+        {
+          Debug.debugException(le);
+          return new LDAPMessage(messageID, new SearchResultDoneProtocolOp(
+               le.getResultCode().intValue(), null, le.getMessage(), null));
+        }
+      }
+
+
+      // If changes should be returned after the initial search, then start
+      // returning them.  The search result done message will be sent when the
+      // operation is terminated, so the response returned here will not be
+      // sent to the client.
+      if (persistentSearch != null)
+      {
+        final InMemorySearchEntryProcessor changeEntryProcessor =
+             new InMemorySearchEntryProcessor(messageID, clientConnection,
+                  null, null, new ArrayList<Control>(0), schema, parer,
+                  request.typesOnly(), includeSubEntries,
+                  includeNonSubEntries, includeChangeLog, hasManageDsaIT,
+                  changeLogBaseDN, Integer.MAX_VALUE, 0L, false);
+
+        // Changes that were visible to the initial search do not need to be
+        // returned again, unless the initial search was skipped.
+        final Set<PersistentSearchChangeType> changeTypes;
+        final boolean returnECs;
+        final long skipThroughChangeNumber;
+        if (persistentSearchControl == null)
+        {
+          changeTypes = null;
+          returnECs = false;
+          skipThroughChangeNumber = initialChangeNumber;
         }
         else
         {
-          entryList.add(new SearchResultEntry(trimmedEntry));
+          changeTypes = persistentSearchControl.getChangeTypes();
+          returnECs = persistentSearchControl.returnECs();
+          if (persistentSearchControl.changesOnly())
+          {
+            skipThroughChangeNumber = registeredChangeNumber;
+          }
+          else
+          {
+            skipThroughChangeNumber = initialChangeNumber;
+          }
         }
+
+        clientConnection.deferResponse(messageID);
+        persistentSearch.activate(baseDN, scope, request.getFilter(), schema,
+             changeEntryProcessor, includeSubEntries, includeNonSubEntries,
+             changeTypes, returnECs, initialChangeNumber,
+             skipThroughChangeNumber);
+        return new LDAPMessage(messageID,
+             new SearchResultDoneProtocolOp(ResultCode.SUCCESS_INT_VALUE,
+                  null, INFO_MEM_HANDLER_PSEARCH_ACTIVE.get(), null),
+             responseControls);
       }
 
       return new LDAPMessage(messageID,
@@ -4146,6 +4805,13 @@ findEntriesAndRefs:
                 null, null),
            responseControls);
     }
+    finally
+    {
+      if ((persistentSearch != null) && (! persistentSearch.isActivated()))
+      {
+        changeNotifier.deregister(persistentSearch);
+      }
+    }
   }
 
 
@@ -4219,41 +4885,269 @@ findEntriesAndRefs:
   {
     switch (filter.getFilterType())
     {
-      case Filter.FILTER_TYPE_AND:
-      case Filter.FILTER_TYPE_OR:
-        for (final Filter f : filter.getComponents())
-        {
-          if (filterIncludesLDAPSubEntry(f))
-          {
-            return true;
-          }
-        }
-        return false;
+      case Filter.FILTER_TYPE_AND:
+      case Filter.FILTER_TYPE_OR:
+        for (final Filter f : filter.getComponents())
+        {
+          if (filterIncludesLDAPSubEntry(f))
+          {
+            return true;
+          }
+        }
+        return false;
+
+      case Filter.FILTER_TYPE_EQUALITY:
+        return  (filter.getAttributeName().equalsIgnoreCase("objectClass") ||
+             filter.getAttributeName().equals("2.5.4.0"));
+
+      default:
+        return false;
+    }
+  }
+
+
+
+  /**
+   * Retrieves a string that identifies the criteria that determine the
+   * complete, sorted list of entries that match a search, for use as the key
+   * for a search cursor.  Two requests with the same key will match the same
+   * entries in the same order when processed against the same version of the
+   * data.
+   *
+   * @param  baseDN                The base DN for the search.
+   * @param  scope                 The scope for the search.
+   * @param  filter                The filter for the search.
+   * @param  includeSubEntries     Indicates whether LDAP subentries will be
+   *                               returned.
+   * @param  includeNonSubEntries  Indicates whether non-LDAP subentries will
+   *                               be returned.
+   * @param  includeChangeLog      Indicates whether entries within the
+   *                               changelog will be returned.
+   * @param  hasManageDsaIT        Indicates whether the request includes the
+   *                               ManageDsaIT control.
+   * @param  sortRequestControl    The server-side sort request control
+   *                               included in the request, if any.
+   *
+   * @return  A string that identifies the criteria for the search.
+   */
+  @NotNull()
+  private static String getSearchCursorKey(@NotNull final DN baseDN,
+               @NotNull final SearchScope scope, @NotNull final Filter filter,
+               final boolean includeSubEntries,
+               final boolean includeNonSubEntries,
+               final boolean includeChangeLog, final boolean hasManageDsaIT,
+               @Nullable final ServerSideSortRequestControl sortRequestControl)
+  {
+    final StringBuilder buffer = new StringBuilder();
+    buffer.append(baseDN.toNormalizedString());
+    buffer.append('\n');
+    buffer.append(scope.intValue());
+    buffer.append('\n');
+    buffer.append(filter.toNormalizedString());
+    buffer.append('\n');
+    buffer.append(includeSubEntries);
+    buffer.append(includeNonSubEntries);
+    buffer.append(includeChangeLog);
+    buffer.append(hasManageDsaIT);
+
+    if (sortRequestControl != null)
+    {
+      for (final SortKey k : sortRequestControl.getSortKeys())
+      {
+        buffer.append('\n');
+        k.toString(buffer);
+      }
+    }
+
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Retrieves the DNs of the entries within the specified scope of the
+   * provided base DN, in hierarchical order.  If the current thread has an open
+   * read view, then the returned list may include DNs of entries that are not
+   * visible to it, so the caller must ignore any DNs for which the entry map
+   * does not have an entry.
+   *
+   * @param  baseDN  The base DN for the entries to retrieve.
+   * @param  scope   The scope for the entries to retrieve.
+   *
+   * @return  The DNs of the entries within the specified scope.
+   */
+  @NotNull()
+  private List<DN> getEntryDNs(@NotNull final DN baseDN,
+                               @NotNull final SearchScope scope)
+  {
+    final List<DN> dnList = hierarchyIndex.getEntryDNs(baseDN, scope);
+
+    // The hierarchy index reflects the latest version of the data, so also
+    // include any entries in scope that have changed since the version visible
+    // to this thread.  This must be done after using the index.
+    final Set<DN> changedDNs = entryMap.getDNsChangedSinceReadVersion();
+    if (changedDNs.isEmpty())
+    {
+      return dnList;
+    }
+
+    final TreeSet<DN> dnSet = new TreeSet<>(dnList);
+    for (final DN dn : changedDNs)
+    {
+      try
+      {
+        if (dn.matchesBaseAndScope(baseDN, scope))
+        {
+          dnSet.add(dn);
+        }
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+      }
+    }
+
+    return new ArrayList<>(dnSet);
+  }
+
+
+
+  /**
+   * Retrieves the change number of the last change that is visible to the
+   * current thread.  The changelog entry for each change is added while
+   * holding the write lock for the change, so any changes made after the
+   * provided change number was obtained will be visible if and only if their
+   * changelog entries are visible.
+   *
+   * @param  changeNumber  The last change number at some point before the
+   *                       current thread opened its read view.
+   *
+   * @return  The change number of the last change that is visible to the
+   *          current thread.
+   */
+  private long getVisibleLastChangeNumber(final long changeNumber)
+  {
+    if (maxChangelogEntries <= 0)
+    {
+      return changeNumber;
+    }
+
+    final Schema schema = schemaRef.get();
+    long visibleChangeNumber = changeNumber;
+    while (entryMap.containsKey(new DN(new RDN("changeNumber",
+         String.valueOf(visibleChangeNumber + 1L), schema), changeLogBaseDN)))
+    {
+      visibleChangeNumber++;
+    }
+
+    return visibleChangeNumber;
+  }
+
+
+
+  /**
+   * Retrieves the DNs of the entries that may have changed since the last
+   * content synchronization for a client that has provided the given cookie.
+   * This is only possible if all changes made since then are still available
+   * in the changelog.
+   *
+   * @param  baseDN               The base DN for the search.
+   * @param  cookie               The cookie provided by the client.  It may be
+   *                              {@code null} if the client has not provided
+   *                              a cookie.
+   * @param  visibleChangeNumber  The change number of the last change that is
+   *                              visible to the current thread.
+   *
+   * @return  The DNs of the entries that may have changed since the client's
+   *          last content synchronization, or {@code null} if they cannot be
+   *          determined and all entries must be returned in full.
+   */
+  @Nullable()
+  private Set<DN> getContentSyncChangedDNs(@NotNull final DN baseDN,
+                       @Nullable final ASN1OctetString cookie,
+                       final long visibleChangeNumber)
+  {
+    // Changes made by referential integrity processing are not recorded in
+    // the changelog, and neither are changes to the changelog itself.
+    final long cookieChangeNumber =
+         InMemoryPersistentSearch.decodeCookie(cookie);
+    if ((cookieChangeNumber < 0L) || (maxChangelogEntries <= 0) ||
+        (cookieChangeNumber > visibleChangeNumber) ||
+        (! referentialIntegrityAttributes.isEmpty()) ||
+        baseDN.isNullDN() || baseDN.isDescendantOf(changeLogBaseDN, true))
+    {
+      return null;
+    }
 
-      case Filter.FILTER_TYPE_EQUALITY:
-        return  (filter.getAttributeName().equalsIgnoreCase("objectClass") ||
-             filter.getAttributeName().equals("2.5.4.0"));
+    final Schema schema = schemaRef.get();
+    final Set<DN> changedDNs = new HashSet<>(
+         StaticUtils.computeMapCapacity(100));
+    for (long changeNumber = cookieChangeNumber + 1L;
+         changeNumber <= visibleChangeNumber; changeNumber++)
+    {
+      final Entry changeLogEntry = entryMap.get(new DN(new RDN("changeNumber",
+           String.valueOf(changeNumber), schema), changeLogBaseDN));
+      if (changeLogEntry == null)
+      {
+        return null;
+      }
 
-      default:
-        return false;
+      try
+      {
+        final ChangeLogEntry e = new ChangeLogEntry(changeLogEntry);
+        changedDNs.add(new DN(e.getTargetDN(), schema));
+
+        // If an entry was renamed, then all of its subordinates were also
+        // renamed.
+        final String newDN = e.getNewDN();
+        if (newDN != null)
+        {
+          changedDNs.addAll(
+               getEntryDNs(new DN(newDN, schema), SearchScope.SUB));
+        }
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        return null;
+      }
     }
+
+    return changedDNs;
   }
 
 
 
   /**
-   * Performs any necessary index processing to add the provided entry.
+   * Performs any necessary index processing to add the provided entry.  If
+   * any attribute indexes are defined, then this will assign an entry ID to the
+   * entry.
    *
    * @param  entry  The entry that has been added.
    */
   private void indexAdd(@NotNull final Entry entry)
   {
-    for (final InMemoryDirectoryServerEqualityAttributeIndex i :
-         equalityIndexes.values())
+    if (attributeIndexes.isEmpty())
+    {
+      return;
+    }
+
+    final int entryID;
+    try
+    {
+      entryID = entryIDs.assignID(entry.getParsedDN());
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return;
+    }
+
+    for (final InMemoryDirectoryServerAttributeIndex i : attributeIndexes)
     {
       try
       {
-        i.processAdd(entry);
+        i.processAdd(entry, entryID);
       }
       catch (final LDAPException le)
       {
@@ -4265,38 +5159,120 @@ findEntriesAndRefs:
 
 
   /**
-   * Performs any necessary index processing to delete the provided entry.
+   * Performs any necessary index processing to delete the provided entry.  If
+   * any attribute indexes are defined, then this will release the entry ID
+   * assigned to the entry.
    *
    * @param  entry  The entry that has been deleted.
    */
   private void indexDelete(@NotNull final Entry entry)
   {
-    for (final InMemoryDirectoryServerEqualityAttributeIndex i :
-         equalityIndexes.values())
+    if (attributeIndexes.isEmpty())
+    {
+      return;
+    }
+
+    final DN dn;
+    try
+    {
+      dn = entry.getParsedDN();
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return;
+    }
+
+    final int entryID = entryIDs.getID(dn);
+    if (entryID < 0)
+    {
+      return;
+    }
+
+    for (final InMemoryDirectoryServerAttributeIndex i : attributeIndexes)
     {
       try
       {
-        i.processDelete(entry);
+        i.processDelete(entry, entryID);
       }
       catch (final LDAPException le)
       {
         Debug.debugException(le);
       }
     }
+
+    entryIDs.releaseID(dn);
   }
 
 
 
   /**
    * Attempts to use indexes to obtain a candidate list for the provided filter.
+   * The candidate list may include entries that do not match the filter, so
+   * each candidate must still be checked against it.
+   *
+   * @param  filter  The filter to be processed.
+   *
+   * @return  The DNs of entries which may match the given filter, in ascending
+   *          order, or {@code null} if the filter is not indexed.
+   */
+  @Nullable()
+  private List<DN> indexSearch(@NotNull final Filter filter)
+  {
+    if (attributeIndexes.isEmpty())
+    {
+      return null;
+    }
+
+    final InMemoryDirectoryServerBitmap idSet = indexSearchIDs(filter);
+    if (idSet == null)
+    {
+      return null;
+    }
+
+    // Only resolve entry IDs to DNs for the final set of candidates.
+    final int[] ids = idSet.toArray();
+    final List<DN> dnList = new ArrayList<>(ids.length);
+    for (final int id : ids)
+    {
+      final DN dn = entryIDs.getDN(id);
+      if (dn != null)
+      {
+        dnList.add(dn);
+      }
+    }
+
+    // The indexes reflect the latest version of the data, so also include any
+    // entries that have changed since the version visible to this thread.
+    // This must be done after using the indexes.
+    final Set<DN> changedDNs = entryMap.getDNsChangedSinceReadVersion();
+    if (! changedDNs.isEmpty())
+    {
+      final TreeSet<DN> dnSet = new TreeSet<>(dnList);
+      dnSet.addAll(changedDNs);
+      return new ArrayList<>(dnSet);
+    }
+
+    Collections.sort(dnList);
+    return dnList;
+  }
+
+
+
+  /**
+   * Attempts to use indexes to obtain the IDs of the candidate entries for the
+   * provided filter.  AND, OR, and NOT filters are evaluated by performing the
+   * corresponding operations on the bitmaps obtained for their components.
    *
    * @param  filter  The filter to be processed.
    *
-   * @return  The DNs of entries which may match the given filter, or
-   *          {@code null} if the filter is not indexed.
+   * @return  A bitmap with the IDs of entries which may match the given filter,
+   *          or {@code null} if the filter is not indexed.  The caller may
+   *          alter the returned bitmap.
    */
   @Nullable()
-  private Set<DN> indexSearch(@NotNull final Filter filter)
+  private InMemoryDirectoryServerBitmap indexSearchIDs(
+                                             @NotNull final Filter filter)
   {
     switch (filter.getFilterType())
     {
@@ -4308,23 +5284,28 @@ findEntriesAndRefs:
         }
         else if (comps.length == 1)
         {
-          return indexSearch(comps[0]);
+          return indexSearchIDs(comps[0]);
         }
         else
         {
-          Set<DN> candidateSet = null;
+          InMemoryDirectoryServerBitmap candidateSet = null;
           for (final Filter f : comps)
           {
-            final Set<DN> dnSet = indexSearch(f);
-            if (dnSet != null)
+            final InMemoryDirectoryServerBitmap idSet = indexSearchIDs(f);
+            if (idSet != null)
             {
               if (candidateSet == null)
               {
-                candidateSet = new TreeSet<>(dnSet);
+                candidateSet = idSet;
               }
               else
               {
-                candidateSet.retainAll(dnSet);
+                candidateSet.retainAll(idSet);
+              }
+
+              if (candidateSet.isEmpty())
+              {
+                return candidateSet;
               }
             }
           }
@@ -4335,56 +5316,123 @@ findEntriesAndRefs:
         comps = filter.getComponents();
         if (comps.length == 0)
         {
-          return Collections.emptySet();
+          return new InMemoryDirectoryServerBitmap();
         }
         else if (comps.length == 1)
         {
-          return indexSearch(comps[0]);
+          return indexSearchIDs(comps[0]);
         }
         else
         {
-          Set<DN> candidateSet = null;
+          InMemoryDirectoryServerBitmap candidateSet = null;
           for (final Filter f : comps)
           {
-            final Set<DN> dnSet = indexSearch(f);
-            if (dnSet == null)
+            final InMemoryDirectoryServerBitmap idSet = indexSearchIDs(f);
+            if (idSet == null)
             {
               return null;
             }
 
             if (candidateSet == null)
             {
-              candidateSet = new TreeSet<>(dnSet);
+              candidateSet = idSet;
             }
             else
             {
-              candidateSet.addAll(dnSet);
+              candidateSet.addAll(idSet);
             }
           }
           return candidateSet;
         }
 
-      case Filter.FILTER_TYPE_EQUALITY:
-        final Schema schema = schemaRef.get();
-        if (schema == null)
+      case Filter.FILTER_TYPE_NOT:
+        // The complement of an index result can only be used if the index
+        // result includes exactly the entries that match the inner filter.
+        final InMemoryDirectoryServerBitmap notSet =
+             preciseIndexSearchIDs(filter.getNOTComponent());
+        if (notSet == null)
         {
           return null;
         }
-        final AttributeTypeDefinition at =
-             schema.getAttributeType(filter.getAttributeName());
+        return entryIDs.getAllIDs().andNot(notSet);
+
+      case Filter.FILTER_TYPE_EQUALITY:
+        AttributeTypeDefinition at = getIndexAttributeType(filter);
         if (at == null)
         {
           return null;
         }
-        final InMemoryDirectoryServerEqualityAttributeIndex i =
+        final InMemoryDirectoryServerEqualityAttributeIndex eqIndex =
              equalityIndexes.get(at);
-        if (i == null)
+        if (eqIndex == null)
+        {
+          return null;
+        }
+        try
+        {
+          return eqIndex.getMatchingEntries(filter.getRawAssertionValue());
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+          return null;
+        }
+
+      case Filter.FILTER_TYPE_PRESENCE:
+        at = getIndexAttributeType(filter);
+        if (at == null)
+        {
+          return null;
+        }
+        final InMemoryDirectoryServerPresenceAttributeIndex presIndex =
+             presenceIndexes.get(at);
+        if (presIndex == null)
+        {
+          return null;
+        }
+        return presIndex.getMatchingEntries();
+
+      case Filter.FILTER_TYPE_SUBSTRING:
+        at = getIndexAttributeType(filter);
+        if (at == null)
+        {
+          return null;
+        }
+        final InMemoryDirectoryServerSubstringAttributeIndex subIndex =
+             substringIndexes.get(at);
+        if (subIndex == null)
+        {
+          return null;
+        }
+        try
+        {
+          return subIndex.getMatchingEntries(filter.getRawSubInitialValue(),
+               filter.getRawSubAnyValues(), filter.getRawSubFinalValue());
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+          return null;
+        }
+
+      case Filter.FILTER_TYPE_GREATER_OR_EQUAL:
+      case Filter.FILTER_TYPE_LESS_OR_EQUAL:
+        at = getIndexAttributeType(filter);
+        if (at == null)
+        {
+          return null;
+        }
+        final InMemoryDirectoryServerOrderingAttributeIndex ordIndex =
+             orderingIndexes.get(at);
+        if (ordIndex == null)
         {
           return null;
         }
         try
         {
-          return i.getMatchingEntries(filter.getRawAssertionValue());
+          return ordIndex.getMatchingEntries(filter.getRawAssertionValue(),
+               (filter.getFilterType() ==
+                    Filter.FILTER_TYPE_GREATER_OR_EQUAL));
         }
         catch (final Exception e)
         {
@@ -4399,6 +5447,110 @@ findEntriesAndRefs:
 
 
 
+  /**
+   * Attempts to use indexes to obtain the IDs of exactly those entries that
+   * match the provided filter.  Unlike {@link #indexSearchIDs}, this will not
+   * return a set of candidates that may include entries that don't match the
+   * filter, so its complement can be used as the candidate set for a NOT
+   * filter.
+   *
+   * @param  filter  The filter to be processed.
+   *
+   * @return  A bitmap with the IDs of entries which match the given filter, or
+   *          {@code null} if the matching entries cannot be precisely
+   *          determined from the indexes.  The caller may alter the returned
+   *          bitmap.
+   */
+  @Nullable()
+  private InMemoryDirectoryServerBitmap preciseIndexSearchIDs(
+                                             @NotNull final Filter filter)
+  {
+    switch (filter.getFilterType())
+    {
+      case Filter.FILTER_TYPE_AND:
+      case Filter.FILTER_TYPE_OR:
+        final Filter[] comps = filter.getComponents();
+        if (comps.length == 0)
+        {
+          return null;
+        }
+
+        final boolean isAND =
+             (filter.getFilterType() == Filter.FILTER_TYPE_AND);
+        InMemoryDirectoryServerBitmap idSet = null;
+        for (final Filter f : comps)
+        {
+          final InMemoryDirectoryServerBitmap compSet =
+               preciseIndexSearchIDs(f);
+          if (compSet == null)
+          {
+            return null;
+          }
+          else if (idSet == null)
+          {
+            idSet = compSet;
+          }
+          else if (isAND)
+          {
+            idSet.retainAll(compSet);
+          }
+          else
+          {
+            idSet.addAll(compSet);
+          }
+        }
+        return idSet;
+
+      case Filter.FILTER_TYPE_NOT:
+        final InMemoryDirectoryServerBitmap notSet =
+             preciseIndexSearchIDs(filter.getNOTComponent());
+        if (notSet == null)
+        {
+          return null;
+        }
+        return entryIDs.getAllIDs().andNot(notSet);
+
+      case Filter.FILTER_TYPE_EQUALITY:
+      case Filter.FILTER_TYPE_PRESENCE:
+      case Filter.FILTER_TYPE_GREATER_OR_EQUAL:
+      case Filter.FILTER_TYPE_LESS_OR_EQUAL:
+        return indexSearchIDs(filter);
+
+      default:
+        // Substring indexes only narrow the set of candidates, and other
+        // filter types are not indexed.
+        return null;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the attribute type definition that should be used to find an
+   * index for the attribute targeted by the provided filter.
+   *
+   * @param  filter  The filter for which to retrieve the attribute type.  It
+   *                 must be a filter type that targets a single attribute.
+   *
+   * @return  The attribute type definition for the attribute targeted by the
+   *          provided filter, or {@code null} if the server does not have a
+   *          schema or the attribute type is not defined in it.
+   */
+  @Nullable()
+  private AttributeTypeDefinition getIndexAttributeType(
+                                       @NotNull final Filter filter)
+  {
+    final Schema schema = schemaRef.get();
+    if (schema == null)
+    {
+      return null;
+    }
+
+    return schema.getAttributeType(filter.getAttributeName());
+  }
+
+
+
   /**
    * Determines whether the provided set of controls includes a transaction
    * specification request control.  If so, then it will verify that it
@@ -4601,85 +5753,156 @@ findEntriesAndRefs:
             }
           }
 
-          passwordList.add(new InMemoryDirectoryServerPassword(value,
-               readOnlyEntry, passwordAttribute.getName(), passwordEncoders));
-        }
-      }
+          passwordList.add(new InMemoryDirectoryServerPassword(value,
+               readOnlyEntry, passwordAttribute.getName(), passwordEncoders));
+        }
+      }
+    }
+
+    return passwordList;
+  }
+
+
+
+  /**
+   * Retrieves the number of entries currently held in the server.
+   *
+   * @param  includeChangeLog  Indicates whether to include entries that are
+   *                           part of the changelog in the count.
+   *
+   * @return  The number of entries currently held in the server.
+   */
+  public int countEntries(final boolean includeChangeLog)
+  {
+    try (ReadView readView = entryMap.openReadView())
+    {
+      readView.avoidCompilerWarning();
+
+      if (includeChangeLog || (maxChangelogEntries == 0))
+      {
+        return entryMap.size();
+      }
+      else
+      {
+        return entryMap.size() - countEntriesBelow(changeLogBaseDN);
+      }
+    }
+  }
+
+
+
+  /**
+   * Retrieves the number of entries currently held in the server whose DN
+   * matches or is subordinate to the provided base DN.
+   *
+   * @param  baseDN  The base DN to use for the determination.
+   *
+   * @return  The number of entries currently held in the server whose DN
+   *          matches or is subordinate to the provided base DN.
+   *
+   * @throws  LDAPException  If the provided string cannot be parsed as a valid
+   *                         DN.
+   */
+  public int countEntriesBelow(@NotNull final String baseDN)
+         throws LDAPException
+  {
+    try (ReadView readView = entryMap.openReadView())
+    {
+      readView.avoidCompilerWarning();
+
+      final DN parsedBaseDN = new DN(baseDN, schemaRef.get());
+      return countEntriesBelow(parsedBaseDN);
     }
-
-    return passwordList;
   }
 
 
 
   /**
-   * Retrieves the number of entries currently held in the server.
+   * Retrieves the number of entries currently held in the server whose DN
+   * matches or is subordinate to the provided base DN.  The caller must have
+   * an open read view or hold the write lock.
    *
-   * @param  includeChangeLog  Indicates whether to include entries that are
-   *                           part of the changelog in the count.
+   * @param  baseDN  The base DN to use for the determination.
    *
-   * @return  The number of entries currently held in the server.
+   * @return  The number of entries currently held in the server whose DN
+   *          matches or is subordinate to the provided base DN.
    */
-  public int countEntries(final boolean includeChangeLog)
+  private int countEntriesBelow(@NotNull final DN baseDN)
   {
-    try (ReadLock readLock = readWriteLock.lockRead())
+    if (baseDN.isNullDN())
     {
-      readLock.avoidCompilerWarning();
+      return entryMap.size();
+    }
 
-      if (includeChangeLog || (maxChangelogEntries == 0))
-      {
-        return entryMap.size();
-      }
-      else
+    int count;
+    if (entryMap.getDNsChangedSinceReadVersion().isEmpty())
+    {
+      count = hierarchyIndex.countSubordinates(baseDN);
+    }
+    else
+    {
+      // The hierarchy index reflects changes that aren't visible to this
+      // thread, so only count the entries that are.
+      count = 0;
+      for (final DN dn :
+           getEntryDNs(baseDN, SearchScope.SUBORDINATE_SUBTREE))
       {
-        int count = 0;
-
-        for (final DN dn : entryMap.keySet())
+        if (entryMap.containsKey(dn))
         {
-          if (! dn.isDescendantOf(changeLogBaseDN, true))
-          {
-            count++;
-          }
+          count++;
         }
-
-        return count;
       }
     }
+
+    if (entryMap.containsKey(baseDN))
+    {
+      count++;
+    }
+
+    return count;
   }
 
 
 
   /**
-   * Retrieves the number of entries currently held in the server whose DN
-   * matches or is subordinate to the provided base DN.
+   * Indicates whether the specified entry has any subordinate entries.
    *
-   * @param  baseDN  The base DN to use for the determination.
+   * @param  dn  The DN of the entry for which to make the determination.
    *
-   * @return  The number of entries currently held in the server whose DN
-   *          matches or is subordinate to the provided base DN.
+   * @return  {@code true} if there is at least one entry below the specified
+   *          DN, or {@code false} if not.
    *
    * @throws  LDAPException  If the provided string cannot be parsed as a valid
    *                         DN.
    */
-  public int countEntriesBelow(@NotNull final String baseDN)
+  public boolean hasSubordinates(@NotNull final String dn)
          throws LDAPException
   {
-    try (ReadLock readLock = readWriteLock.lockRead())
+    try (ReadView readView = entryMap.openReadView())
     {
-      readLock.avoidCompilerWarning();
+      readView.avoidCompilerWarning();
 
-      final DN parsedBaseDN = new DN(baseDN, schemaRef.get());
+      final DN parsedDN = new DN(dn, schemaRef.get());
+      if (parsedDN.isNullDN())
+      {
+        return (! entryMap.isEmpty());
+      }
+
+      if (entryMap.getDNsChangedSinceReadVersion().isEmpty())
+      {
+        return hierarchyIndex.hasSubordinates(parsedDN);
+      }
 
-      int count = 0;
-      for (final DN dn : entryMap.keySet())
+      for (final DN subordinateDN :
+           getEntryDNs(parsedDN, SearchScope.SUBORDINATE_SUBTREE))
       {
-        if (dn.isDescendantOf(parsedBaseDN, true))
+        if (entryMap.containsKey(subordinateDN))
         {
-          count++;
+          return true;
         }
       }
 
-      return count;
+      return false;
     }
   }
 
@@ -4692,7 +5915,7 @@ findEntriesAndRefs:
    */
   public void clear()
   {
-    try (WriteLock writeLock = readWriteLock.lockWrite())
+    try (WriteLock writeLock = entryMap.lockWrite())
     {
       writeLock.avoidCompilerWarning();
 
@@ -4723,7 +5946,7 @@ findEntriesAndRefs:
                             @NotNull final LDIFReader ldifReader)
          throws LDAPException
   {
-    try (WriteLock writeLock = readWriteLock.lockWrite())
+    try (WriteLock writeLock = entryMap.lockWrite())
     {
       writeLock.avoidCompilerWarning();
 
@@ -4790,6 +6013,304 @@ findEntriesAndRefs:
   }
 
 
+  /**
+   * Performs a bulk import of the entries in the specified LDIF file,
+   * optionally clearing any existing entries before adding the new entries.
+   * Entries will be read, parsed, and validated against the schema in
+   * parallel using the specified number of threads, and will then be added to
+   * the server in hierarchical order, so the LDIF file does not need to list
+   * parent entries before their children.  If an error is encountered while
+   * importing the entries, then the server will remain populated with the data
+   * it held before the import attempt (even if {@code clear} is given with a
+   * value of {@code true}).  The server will be locked against changes for the
+   * duration of the import, but searches and other read operations will
+   * continue to see the data that the server held before the import until it
+   * has completed.
+   *
+   * @param  clear       Indicates whether to remove all existing entries prior
+   *                     to adding entries read from LDIF.
+   * @param  ldifFile    The LDIF file containing the entries to import.
+   * @param  numThreads  The number of threads to use to read, parse, and
+   *                     validate entries.  A value less than one will be
+   *                     treated as one.
+   * @param  statistics  An optional object that will be updated with the
+   *                     progress of the import.  It may be {@code null} if
+   *                     statistics are not needed.
+   *
+   * @return  The number of entries read from LDIF and added to the server.
+   *
+   * @throws  LDAPException  If a problem occurs while reading entries or adding
+   *                         them to the server.
+   */
+  public int importFromLDIF(final boolean clear,
+       @NotNull final File ldifFile, final int numThreads,
+       @Nullable final InMemoryDirectoryServerImportStatistics statistics)
+         throws LDAPException
+  {
+    final InMemoryDirectoryServerImportStatistics importStatistics;
+    if (statistics == null)
+    {
+      importStatistics = new InMemoryDirectoryServerImportStatistics();
+    }
+    else
+    {
+      importStatistics = statistics;
+    }
+
+    importStatistics.importStarted();
+    boolean successful = false;
+    try (WriteLock writeLock = entryMap.lockWrite())
+    {
+      writeLock.avoidCompilerWarning();
+
+      // Read, parse, and validate all of the entries in parallel, and sort
+      // them so that parents will be added before their children.
+      final Schema schema = schemaRef.get();
+      final TreeMap<DN,Entry> entries =
+           readEntriesForImport(ldifFile, numThreads, schema,
+                importStatistics);
+
+      // Add the entries to the server.  This must be done sequentially, since
+      // the password encoders and indexes are not threadsafe.
+      final InMemoryDirectoryServerSnapshot snapshot = createSnapshot();
+      boolean restoreSnapshot = true;
+
+      try
+      {
+        if (clear)
+        {
+          restoreSnapshot(initialSnapshot);
+        }
+
+        for (final Map.Entry<DN,Entry> mapEntry : entries.entrySet())
+        {
+          importEntry(mapEntry.getKey(), mapEntry.getValue(), schema);
+          importStatistics.entryImported();
+        }
+
+        restoreSnapshot = false;
+        successful = true;
+        return entries.size();
+      }
+      finally
+      {
+        if (restoreSnapshot)
+        {
+          restoreSnapshot(snapshot);
+        }
+      }
+    }
+    finally
+    {
+      importStatistics.importCompleted(successful);
+    }
+  }
+
+
+
+  /**
+   * Reads all of the entries from the provided LDIF file for a bulk import,
+   * using the specified number of threads to parse and validate them.
+   *
+   * @param  ldifFile    The LDIF file containing the entries to import.
+   * @param  numThreads  The number of threads to use to read, parse, and
+   *                     validate entries.
+   * @param  schema      The schema to use for the import.  It may be
+   *                     {@code null} if no schema is available.
+   * @param  statistics  The statistics to update as entries are read.
+   *
+   * @return  A map of the entries that were read, sorted so that parent entries
+   *          will be ordered before their children.
+   *
+   * @throws  LDAPException  If a problem occurs while reading, parsing, or
+   *                         validating an entry, or if the LDIF file contains
+   *                         multiple entries with the same DN.
+   */
+  @NotNull()
+  private TreeMap<DN,Entry> readEntriesForImport(
+       @NotNull final File ldifFile, final int numThreads,
+       @Nullable final Schema schema,
+       @NotNull final InMemoryDirectoryServerImportStatistics statistics)
+          throws LDAPException
+  {
+    final InMemoryImportEntryTranslator translator =
+         new InMemoryImportEntryTranslator(schema, entryValidatorRef.get(),
+              statistics);
+
+    final LDIFReader ldifReader;
+    try
+    {
+      ldifReader = new LDIFReader(new File[] { ldifFile },
+           Math.max(1, numThreads), translator);
+      ldifReader.setSchema(schema);
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      throw new LDAPException(ResultCode.LOCAL_ERROR,
+           ERR_MEM_HANDLER_INIT_FROM_LDIF_READ_ERROR.get(
+                StaticUtils.getExceptionMessage(e)),
+           e);
+    }
+
+    try
+    {
+      final TreeMap<DN,Entry> entries = new TreeMap<>();
+      while (true)
+      {
+        final Entry entry;
+        try
+        {
+          entry = ldifReader.readEntry();
+          if (entry == null)
+          {
+            return entries;
+          }
+        }
+        catch (final LDIFException le)
+        {
+          Debug.debugException(le);
+          if (le.getCause() instanceof LDAPException)
+          {
+            throw (LDAPException) le.getCause();
+          }
+
+          throw new LDAPException(ResultCode.LOCAL_ERROR,
+               ERR_MEM_HANDLER_INIT_FROM_LDIF_READ_ERROR.get(le.getMessage()),
+               le);
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+          throw new LDAPException(ResultCode.LOCAL_ERROR,
+               ERR_MEM_HANDLER_INIT_FROM_LDIF_READ_ERROR.get(
+                    StaticUtils.getExceptionMessage(e)),
+               e);
+        }
+
+        if (entries.put(entry.getParsedDN(), entry) != null)
+        {
+          throw new LDAPException(ResultCode.ENTRY_ALREADY_EXISTS,
+               ERR_MEM_HANDLER_ADD_ALREADY_EXISTS.get(entry.getDN()));
+        }
+      }
+    }
+    finally
+    {
+      try
+      {
+        ldifReader.close();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+    }
+  }
+
+
+
+  /**
+   * Adds the provided entry to the server as part of a bulk import.  The entry
+   * must have already been prepared and validated by an
+   * {@link InMemoryImportEntryTranslator}.  The caller must hold the write
+   * lock.
+   *
+   * @param  dn      The parsed DN of the entry to add.
+   * @param  entry   The entry to add.
+   * @param  schema  The schema in use for the import.  It may be {@code null}
+   *                 if no schema is available.
+   *
+   * @throws  LDAPException  If the entry cannot be added to the server.
+   */
+  private void importEntry(@NotNull final DN dn, @NotNull final Entry entry,
+                           @Nullable final Schema schema)
+          throws LDAPException
+  {
+    // See if the DN is the null DN, the schema entry DN, or a changelog entry.
+    if (dn.isNullDN())
+    {
+      throw new LDAPException(ResultCode.ENTRY_ALREADY_EXISTS,
+           ERR_MEM_HANDLER_ADD_ROOT_DSE.get());
+    }
+    else if (dn.isDescendantOf(subschemaSubentryDN, true))
+    {
+      throw new LDAPException(ResultCode.ENTRY_ALREADY_EXISTS,
+           ERR_MEM_HANDLER_ADD_SCHEMA.get(subschemaSubentryDN.toString()));
+    }
+    else if (dn.isDescendantOf(changeLogBaseDN, true))
+    {
+      throw new LDAPException(ResultCode.UNWILLING_TO_PERFORM,
+           ERR_MEM_HANDLER_ADD_CHANGELOG.get(changeLogBaseDN.toString()));
+    }
+
+    // See if there is a referral at or above the target entry.
+    final Entry referralEntry = findNearestReferral(dn);
+    if (referralEntry != null)
+    {
+      throw new LDAPException(ResultCode.REFERRAL,
+           INFO_MEM_HANDLER_REFERRAL_ENCOUNTERED.get(),
+           referralEntry.getDN(),
+           stringListToArray(getReferralURLs(dn, referralEntry)));
+    }
+
+    // See if another entry exists with the same DN.
+    if (entryMap.containsKey(dn))
+    {
+      throw new LDAPException(ResultCode.ENTRY_ALREADY_EXISTS,
+           ERR_MEM_HANDLER_ADD_ALREADY_EXISTS.get(entry.getDN()));
+    }
+
+    // Make sure that the entry is either a base DN or that its parent exists.
+    if (! baseDNs.contains(dn))
+    {
+      final DN parentDN = dn.getParent();
+      if ((parentDN == null) || (! entryMap.containsKey(parentDN)))
+      {
+        for (final DN baseDN : baseDNs)
+        {
+          if (dn.isDescendantOf(baseDN, true))
+          {
+            throw new LDAPException(ResultCode.NO_SUCH_OBJECT,
+                 ERR_MEM_HANDLER_ADD_MISSING_PARENT.get(entry.getDN(),
+                      dn.getParentString()),
+                 getMatchedDNString(dn), null);
+          }
+        }
+
+        throw new LDAPException(ResultCode.NO_SUCH_OBJECT,
+             ERR_MEM_HANDLER_ADD_NOT_BELOW_BASE_DN.get(entry.getDN()));
+      }
+    }
+
+    // The changelog record should not include any generated operational
+    // attributes or encoded passwords.
+    final AddRequestProtocolOp addRequest =
+         new AddRequestProtocolOp(entry.getDN(),
+              new ArrayList<>(entry.getAttributes()));
+
+    addOperationalAttributes(entry, dn, authenticatedDN);
+    try
+    {
+      encodeAddPasswords(entry, schema);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      throw new LDAPException(ResultCode.UNWILLING_TO_PERFORM,
+           le.getMessage(), le.getMatchedDN(), null, le);
+    }
+
+    final ReadOnlyEntry addedEntry = new ReadOnlyEntry(entry);
+    entryMap.put(dn, addedEntry);
+    hierarchyIndex.processAdd(dn);
+    indexAdd(entry);
+    addChangeLogEntry(addRequest, authenticatedDN);
+    notifyChange(PersistentSearchChangeType.ADD, null, addedEntry);
+  }
+
+
+
 
   /**
    * Writes all entries contained in the server to LDIF using the provided
@@ -4816,9 +6337,9 @@ findEntriesAndRefs:
                           final boolean closeWriter)
          throws LDAPException
   {
-    try (ReadLock readLock = readWriteLock.lockRead())
+    try (ReadView readView = entryMap.openReadView())
     {
-      readLock.avoidCompilerWarning();
+      readView.avoidCompilerWarning();
 
       boolean exceptionThrown = false;
 
@@ -4916,7 +6437,7 @@ findEntriesAndRefs:
   public int applyChangesFromLDIF(@NotNull final LDIFReader ldifReader)
          throws LDAPException
   {
-    try (WriteLock writeLock = readWriteLock.lockWrite())
+    try (WriteLock writeLock = entryMap.lockWrite())
     {
       writeLock.avoidCompilerWarning();
 
@@ -5083,7 +6604,7 @@ findEntriesAndRefs:
   public void addEntries(@NotNull final List<? extends Entry> entries)
          throws LDAPException
   {
-    try (WriteLock writeLock = readWriteLock.lockWrite())
+    try (WriteLock writeLock = entryMap.lockWrite())
     {
       writeLock.avoidCompilerWarning();
 
@@ -5127,7 +6648,7 @@ findEntriesAndRefs:
   public int deleteSubtree(@NotNull final String baseDN)
          throws LDAPException
   {
-    try (WriteLock writeLock = readWriteLock.lockWrite())
+    try (WriteLock writeLock = entryMap.lockWrite())
     {
       writeLock.avoidCompilerWarning();
 
@@ -5140,16 +6661,16 @@ findEntriesAndRefs:
 
       int numDeleted = 0;
 
-      final Iterator<Map.Entry<DN,ReadOnlyEntry>> iterator =
-           entryMap.entrySet().iterator();
-      while (iterator.hasNext())
+      final List<DN> subtreeDNs = hierarchyIndex.getEntryDNs(dn,
+           SearchScope.SUB);
+      for (int i=(subtreeDNs.size() - 1); i >= 0; i--)
       {
-        final Map.Entry<DN,ReadOnlyEntry> e = iterator.next();
-        if (e.getKey().isDescendantOf(dn, true))
-        {
-          iterator.remove();
-          numDeleted++;
-        }
+        final DN subtreeDN = subtreeDNs.get(i);
+        final ReadOnlyEntry e = entryMap.remove(subtreeDN);
+        hierarchyIndex.processDelete(subtreeDN);
+        indexDelete(e);
+        notifyChange(PersistentSearchChangeType.DELETE, e, null);
+        numDeleted++;
       }
 
       return numDeleted;
@@ -5232,9 +6753,9 @@ findEntriesAndRefs:
   @Nullable()
   public ReadOnlyEntry getEntry(@NotNull final DN dn)
   {
-    try (ReadLock readLock = readWriteLock.lockRead())
+    try (ReadView readView = entryMap.openReadView())
     {
-      readLock.avoidCompilerWarning();
+      readView.avoidCompilerWarning();
 
       if (dn.isNullDN())
       {
@@ -5283,9 +6804,9 @@ findEntriesAndRefs:
                                     @NotNull final Filter filter)
          throws LDAPException
   {
-    try (ReadLock readLock = readWriteLock.lockRead())
+    try (ReadView readView = entryMap.openReadView())
     {
-      readLock.avoidCompilerWarning();
+      readView.avoidCompilerWarning();
 
       final DN parsedDN;
       final Schema schema = schemaRef.get();
@@ -5450,11 +6971,14 @@ findEntriesAndRefs:
     ctlSet.add(AssertionRequestControl.ASSERTION_REQUEST_OID);
     ctlSet.add(AuthorizationIdentityRequestControl.
          AUTHORIZATION_IDENTITY_REQUEST_OID);
+    ctlSet.add(ContentSyncRequestControl.SYNC_REQUEST_OID);
     ctlSet.add(DontUseCopyRequestControl.DONT_USE_COPY_REQUEST_OID);
     ctlSet.add(ManageDsaITRequestControl.MANAGE_DSA_IT_REQUEST_OID);
     ctlSet.add(DraftLDUPSubentriesRequestControl.SUBENTRIES_REQUEST_OID);
     ctlSet.add(DraftZeilengaLDAPNoOp12RequestControl.NO_OP_REQUEST_OID);
     ctlSet.add(PermissiveModifyRequestControl.PERMISSIVE_MODIFY_REQUEST_OID);
+    ctlSet.add(
+         PersistentSearchRequestControl.PERSISTENT_SEARCH_REQUEST_OID);
     ctlSet.add(PostReadRequestControl.POST_READ_REQUEST_OID);
     ctlSet.add(PreReadRequestControl.PRE_READ_REQUEST_OID);
     ctlSet.add(ProxiedAuthorizationV1RequestControl.
@@ -5575,82 +7099,6 @@ findEntriesAndRefs:
 
 
 
-  /**
-   * Performs the necessary processing to determine whether the given entry
-   * should be returned as a search result entry or reference, or if it should
-   * not be returned at all.
-   *
-   * @param  entry                 The entry to be processed.
-   * @param  includeSubEntries     Indicates whether LDAP subentries should be
-   *                               returned to the client.
-   * @param  includeNonSubEntries  Indicates whether non-LDAP subentries should
-   *                               be returned to the client.
-   * @param  includeChangeLog      Indicates whether entries within the
-   *                               changelog should be returned to the client.
-   * @param  hasManageDsaIT        Indicates whether the request includes the
-   *                               ManageDsaIT control, which can change how
-   *                               smart referrals should be handled.
-   * @param  entryList             The list to which the entry should be added
-   *                               if it should be returned to the client as a
-   *                               search result entry.
-   * @param  referenceList         The list that should be updated if the
-   *                               provided entry represents a smart referral
-   *                               that should be returned as a search result
-   *                               reference.
-   */
-  private void processSearchEntry(@NotNull final Entry entry,
-                    final boolean includeSubEntries,
-                    final boolean includeNonSubEntries,
-                    final boolean includeChangeLog,
-                    final boolean hasManageDsaIT,
-                    @NotNull final List<Entry> entryList,
-                    @NotNull final List<SearchResultReference> referenceList)
-  {
-    // Check to see if the entry should be suppressed based on whether it's an
-    // LDAP subentry.
-    if (entry.hasObjectClass("ldapSubEntry") ||
-        entry.hasObjectClass("inheritableLDAPSubEntry"))
-    {
-      if (! includeSubEntries)
-      {
-        return;
-      }
-    }
-    else if (! includeNonSubEntries)
-    {
-      return;
-    }
-
-    // See if the entry should be suppressed as a changelog entry.
-    try
-    {
-      if ((! includeChangeLog) &&
-           (entry.getParsedDN().isDescendantOf(changeLogBaseDN, true)))
-      {
-        return;
-      }
-    }
-    catch (final Exception e)
-    {
-      // This should never happen.
-      Debug.debugException(e);
-    }
-
-    // See if the entry is a referral and should result in a reference rather
-    // than an entry.
-    if ((! hasManageDsaIT) && entry.hasObjectClass("referral") &&
-        entry.hasAttribute("ref"))
-    {
-      referenceList.add(new SearchResultReference(
-           entry.getAttributeValues("ref"), NO_CONTROLS));
-      return;
-    }
-
-    entryList.add(entry);
-  }
-
-
-
   /**
    * Retrieves the DN of the existing entry which is the closest hierarchical
    * match to the provided DN.
@@ -5911,6 +7359,7 @@ findEntriesAndRefs:
     }
 
     entryMap.put(dn, new ReadOnlyEntry(entry));
+    hierarchyIndex.processAdd(dn);
     indexAdd(entry);
 
     // Update the first change number and/or trim the changelog if necessary.
@@ -5929,9 +7378,11 @@ findEntriesAndRefs:
         // We need to delete the first changelog entry and increment the
         // first change number.
         firstChangeNumber.incrementAndGet();
-        final Entry deletedEntry = entryMap.remove(new DN(
+        final DN deletedDN = new DN(
              new RDN("changeNumber", String.valueOf(firstNumber), schema),
-             changeLogBaseDN));
+             changeLogBaseDN);
+        final Entry deletedEntry = entryMap.remove(deletedDN);
+        hierarchyIndex.processDelete(deletedDN);
         indexDelete(deletedEntry);
       }
     }
@@ -5939,6 +7390,43 @@ findEntriesAndRefs:
 
 
 
+  /**
+   * Notifies any persistent searches and content synchronization operations
+   * of a change to an entry.  This must only be called while holding the write
+   * lock, and after the changelog entry for the change (if any) has been
+   * added.
+   *
+   * @param  changeType     The type of change that was made.
+   * @param  previousEntry  The entry as it appeared before the change.  It
+   *                        must be {@code null} for an add.
+   * @param  entry          The entry as it appears after the change.  It must
+   *                        be {@code null} for a delete.
+   */
+  private void notifyChange(
+               @NotNull final PersistentSearchChangeType changeType,
+               @Nullable final ReadOnlyEntry previousEntry,
+               @Nullable final ReadOnlyEntry entry)
+  {
+    if (! changeNotifier.hasPersistentSearches())
+    {
+      return;
+    }
+
+    final long changeNumber;
+    if (maxChangelogEntries > 0)
+    {
+      changeNumber = lastChangeNumber.get();
+    }
+    else
+    {
+      changeNumber = -1L;
+    }
+
+    changeNotifier.changeMade(changeType, previousEntry, entry, changeNumber);
+  }
+
+
+
   /**
    * Checks to see if the provided control map includes a proxied authorization
    * control (v1 or v2) and if so then attempts to determine the appropriate
@@ -6009,9 +7497,9 @@ findEntriesAndRefs:
   public DN getDNForAuthzID(@NotNull final String authzID)
          throws LDAPException
   {
-    try (ReadLock readLock = readWriteLock.lockRead())
+    try (ReadView readView = entryMap.openReadView())
     {
-      readLock.avoidCompilerWarning();
+      readView.avoidCompilerWarning();
 
       final String lowerAuthzID = StaticUtils.toLowerCase(authzID);
       if (lowerAuthzID.startsWith("dn:"))
@@ -6309,9 +7797,9 @@ findEntriesAndRefs:
                              @NotNull final String filter)
          throws LDAPException
   {
-    try (ReadLock readLock = readWriteLock.lockRead())
+    try (ReadView readView = entryMap.openReadView())
     {
-      readLock.avoidCompilerWarning();
+      readView.avoidCompilerWarning();
 
       final Entry e = getEntry(dn);
       if (e == null)
@@ -6351,9 +7839,9 @@ findEntriesAndRefs:
   public boolean entryExists(@NotNull final Entry entry)
          throws LDAPException
   {
-    try (ReadLock readLock = readWriteLock.lockRead())
+    try (ReadView readView = entryMap.openReadView())
     {
-      readLock.avoidCompilerWarning();
+      readView.avoidCompilerWarning();
 
       final Entry e = getEntry(entry.getDN());
       if (e == null)
@@ -6416,9 +7904,9 @@ findEntriesAndRefs:
                                 @NotNull final String filter)
          throws LDAPException, AssertionError
   {
-    try (ReadLock readLock = readWriteLock.lockRead())
+    try (ReadView readView = entryMap.openReadView())
     {
-      readLock.avoidCompilerWarning();
+      readView.avoidCompilerWarning();
 
       final Entry e = getEntry(dn);
       if (e == null)
@@ -6464,9 +7952,9 @@ findEntriesAndRefs:
   public void assertEntryExists(@NotNull final Entry entry)
          throws LDAPException, AssertionError
   {
-    try (ReadLock readLock = readWriteLock.lockRead())
+    try (ReadView readView = entryMap.openReadView())
     {
-      readLock.avoidCompilerWarning();
+      readView.avoidCompilerWarning();
 
       final Entry e = getEntry(entry.getDN());
       if (e == null)
@@ -6527,9 +8015,9 @@ findEntriesAndRefs:
   public List<String> getMissingEntryDNs(@NotNull final Collection<String> dns)
          throws LDAPException
   {
-    try (ReadLock readLock = readWriteLock.lockRead())
+    try (ReadView readView = entryMap.openReadView())
     {
-      readLock.avoidCompilerWarning();
+      readView.avoidCompilerWarning();
 
       final List<String> missingDNs = new ArrayList<>(dns.size());
       for (final String dn : dns)
@@ -6561,9 +8049,9 @@ findEntriesAndRefs:
   public void assertEntriesExist(@NotNull final Collection<String> dns)
          throws LDAPException, AssertionError
   {
-    try (ReadLock readLock = readWriteLock.lockRead())
+    try (ReadView readView = entryMap.openReadView())
     {
-      readLock.avoidCompilerWarning();
+      readView.avoidCompilerWarning();
 
       final List<String> missingDNs = getMissingEntryDNs(dns);
       if (missingDNs.isEmpty())
@@ -6604,9 +8092,9 @@ findEntriesAndRefs:
                            @NotNull final Collection<String> attributeNames)
          throws LDAPException
   {
-    try (ReadLock readLock = readWriteLock.lockRead())
+    try (ReadView readView = entryMap.openReadView())
     {
-      readLock.avoidCompilerWarning();
+      readView.avoidCompilerWarning();
 
       final Entry e = getEntry(dn);
       if (e == null)
@@ -6650,9 +8138,9 @@ findEntriesAndRefs:
                    @NotNull final Collection<String> attributeNames)
         throws LDAPException, AssertionError
   {
-    try (ReadLock readLock = readWriteLock.lockRead())
+    try (ReadView readView = entryMap.openReadView())
     {
-      readLock.avoidCompilerWarning();
+      readView.avoidCompilerWarning();
 
       final List<String> missingAttrs =
            getMissingAttributeNames(dn, attributeNames);
@@ -6701,9 +8189,9 @@ findEntriesAndRefs:
                            @NotNull final Collection<String> attributeValues)
        throws LDAPException
   {
-    try (ReadLock readLock = readWriteLock.lockRead())
+    try (ReadView readView = entryMap.openReadView())
     {
-      readLock.avoidCompilerWarning();
+      readView.avoidCompilerWarning();
 
       final Entry e = getEntry(dn);
       if (e == null)
@@ -6751,9 +8239,9 @@ findEntriesAndRefs:
                    @NotNull final Collection<String> attributeValues)
         throws LDAPException, AssertionError
   {
-    try (ReadLock readLock = readWriteLock.lockRead())
+    try (ReadView readView = entryMap.openReadView())
     {
-      readLock.avoidCompilerWarning();
+      readView.avoidCompilerWarning();
 
       final List<String> missingValues =
            getMissingAttributeValues(dn, attributeName, attributeValues);
@@ -6828,9 +8316,9 @@ findEntriesAndRefs:
                    @NotNull final Collection<String> attributeNames)
          throws LDAPException, AssertionError
   {
-    try (ReadLock readLock = readWriteLock.lockRead())
+    try (ReadView readView = entryMap.openReadView())
     {
-      readLock.avoidCompilerWarning();
+      readView.avoidCompilerWarning();
 
       final Entry e = getEntry(dn);
       if (e == null)
@@ -6878,9 +8366,9 @@ findEntriesAndRefs:
                    @NotNull final Collection<String> attributeValues)
          throws LDAPException, AssertionError
   {
-    try (ReadLock readLock = readWriteLock.lockRead())
+    try (ReadView readView = entryMap.openReadView())
     {
-      readLock.avoidCompilerWarning();
+      readView.avoidCompilerWarning();
 
       final Entry e = getEntry(dn);
       if (e == null)
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.schema.Schema;
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a cache of search cursors that will be used by the
+ * {@link InMemoryRequestHandler} class to process searches that include the
+ * simple paged results or virtual list view request controls.  Each cursor
+ * holds the complete, sorted list of entries that matched a search so that
+ * subsequent requests for other pages or other portions of the list can be
+ * processed without evaluating and sorting the search again.
+ * <BR><BR>
+ * A cursor is only valid for the version of the entry map that was visible
+ * when it was created, and it will not be returned for any other version.
+ * Because any write to the server creates a new version, cursors are
+ * effectively invalidated by writes, and cursors for older versions will be
+ * discarded as soon as a cursor for a newer version is used or created.  The
+ * cache also holds at most a fixed number of cursors, discarding the least
+ * recently used one when that number would be exceeded, and cursors that have
+ * not been used for a fixed length of time will be discarded.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class InMemorySearchCursorCache
+{
+  /**
+   * The default maximum number of cursors that may be held in the cache.
+   */
+  static final int DEFAULT_MAX_CURSORS = 100;
+
+
+
+  /**
+   * The default maximum length of time in milliseconds that a cursor may
+   * remain in the cache without being used.
+   */
+  static final long DEFAULT_MAX_IDLE_TIME_MILLIS = 5L * 60L * 1000L;
+
+
+
+  // The counter used to assign cursor IDs.
+  @NotNull private final AtomicLong nextCursorID;
+
+  // The maximum number of cursors that may be held in the cache.
+  private final int maxCursors;
+
+  // The cursors currently held in the cache, in order from least recently used
+  // to most recently used.
+  @NotNull private final LinkedHashMap<Long,Cursor> cursors;
+
+  // The maximum length of time in milliseconds that a cursor may remain in the
+  // cache without being used.
+  private final long maxIdleTimeMillis;
+
+
+
+  /**
+   * Creates a new empty search cursor cache with the provided settings.
+   *
+   * @param  maxCursors         The maximum number of cursors that may be held
+   *                            in the cache.  It must be greater than zero.
+   * @param  maxIdleTimeMillis  The maximum length of time in milliseconds that
+   *                            a cursor may remain in the cache without being
+   *                            used.  It must be greater than zero.
+   */
+  InMemorySearchCursorCache(final int maxCursors, final long maxIdleTimeMillis)
+  {
+    this.maxCursors = maxCursors;
+    this.maxIdleTimeMillis = maxIdleTimeMillis;
+
+    nextCursorID = new AtomicLong(0L);
+    cursors = new LinkedHashMap<>(Math.min(maxCursors, 16), 0.75f, true);
+  }
+
+
+
+  /**
+   * Creates a new cursor with the provided information and adds it to the
+   * cache.
+   *
+   * @param  key      A string that identifies the search criteria used to
+   *                  obtain the entries.  A subsequent request will only be
+   *                  able to use the cursor if it provides the same key.
+   * @param  version  The version of the entry map from which the entries were
+   *                  obtained.
+   * @param  schema   The schema in use when the entries were obtained.  It may
+   *                  be {@code null} if no schema was in use.
+   * @param  entries  The complete, sorted list of entries that matched the
+   *                  search.  It must not be altered after it has been added
+   *                  to the cache.
+   *
+   * @return  The ID assigned to the cursor.  It will not be negative.
+   */
+  synchronized long put(@NotNull final String key, final long version,
+                        @Nullable final Schema schema,
+                        @NotNull final List<Entry> entries)
+  {
+    final long currentTime = System.currentTimeMillis();
+    removeObsoleteCursors(version, currentTime);
+
+    final long cursorID = nextCursorID.getAndIncrement();
+    cursors.put(cursorID, new Cursor(key, version, schema,
+         Collections.unmodifiableList(entries), currentTime));
+
+    if (cursors.size() > maxCursors)
+    {
+      final Iterator<Long> iterator = cursors.keySet().iterator();
+      iterator.next();
+      iterator.remove();
+    }
+
+    return cursorID;
+  }
+
+
+
+  /**
+   * Retrieves the list of entries held in the specified cursor, if it is still
+   * in the cache and was created with the same search criteria, entry map
+   * version, and schema.
+   *
+   * @param  cursorID  The ID of the cursor to retrieve.
+   * @param  key       A string that identifies the search criteria for the
+   *                   current request.
+   * @param  version   The version of the entry map visible to the current
+   *                   request.
+   * @param  schema    The schema currently in use.  It may be {@code null} if
+   *                   no schema is in use.
+   *
+   * @return  The list of entries held in the specified cursor, or {@code null}
+   *          if there is no such cursor or it cannot be used for the current
+   *          request.
+   */
+  @Nullable()
+  synchronized List<Entry> get(final long cursorID, @NotNull final String key,
+                               final long version,
+                               @Nullable final Schema schema)
+  {
+    final long currentTime = System.currentTimeMillis();
+    removeObsoleteCursors(version, currentTime);
+
+    final Cursor cursor = cursors.get(cursorID);
+    if ((cursor == null) || (cursor.version != version) ||
+        (cursor.schema != schema) || (! cursor.key.equals(key)))
+    {
+      return null;
+    }
+
+    cursor.lastAccessTime = currentTime;
+    return cursor.entries;
+  }
+
+
+
+  /**
+   * Removes the specified cursor from the cache, if it is present.
+   *
+   * @param  cursorID  The ID of the cursor to remove.
+   */
+  synchronized void remove(final long cursorID)
+  {
+    cursors.remove(cursorID);
+  }
+
+
+
+  /**
+   * Removes all cursors from the cache.
+   */
+  synchronized void clear()
+  {
+    cursors.clear();
+  }
+
+
+
+  /**
+   * Retrieves the number of cursors currently held in the cache.
+   *
+   * @return  The number of cursors currently held in the cache.
+   */
+  synchronized int size()
+  {
+    return cursors.size();
+  }
+
+
+
+  /**
+   * Removes any cursors that were created for an older version of the entry map
+   * than the provided version, or that have not been used within the maximum
+   * idle time.  The caller must hold the lock on this cache.
+   *
+   * @param  version      The version of the entry map visible to the current
+   *                      request.
+   * @param  currentTime  The current time.
+   */
+  private void removeObsoleteCursors(final long version,
+                                     final long currentTime)
+  {
+    final Iterator<Cursor> iterator = cursors.values().iterator();
+    while (iterator.hasNext())
+    {
+      final Cursor cursor = iterator.next();
+      if ((cursor.version < version) ||
+          ((currentTime - cursor.lastAccessTime) > maxIdleTimeMillis))
+      {
+        iterator.remove();
+      }
+    }
+  }
+
+
+
+  /**
+   * This class provides a data structure that holds information about a
+   * single cursor.
+   */
+  private static final class Cursor
+  {
+    // The string that identifies the search criteria for the cursor.
+    @NotNull private final String key;
+
+    // The complete, sorted list of entries that matched the search.
+    @NotNull private final List<Entry> entries;
+
+    // The time that the cursor was last used.
+    private long lastAccessTime;
+
+    // The version of the entry map from which the entries were obtained.
+    private final long version;
+
+    // The schema in use when the entries were obtained.
+    @Nullable private final Schema schema;
+
+
+
+    /**
+     * Creates a new cursor with the provided information.
+     *
+     * @param  key             The string that identifies the search criteria
+     *                         for the cursor.
+     * @param  version         The version of the entry map from which the
+     *                         entries were obtained.
+     * @param  schema          The schema in use when the entries were
+     *                         obtained.
+     * @param  entries         The complete, sorted list of entries that
+     *                         matched the search.
+     * @param  lastAccessTime  The time that the cursor was created.
+     */
+    private Cursor(@NotNull final String key, final long version,
+                   @Nullable final Schema schema,
+                   @NotNull final List<Entry> entries,
+                   final long lastAccessTime)
+    {
+      this.key = key;
+      this.version = version;
+      this.schema = schema;
+      this.entries = entries;
+      this.lastAccessTime = lastAccessTime;
+    }
+  }
+}
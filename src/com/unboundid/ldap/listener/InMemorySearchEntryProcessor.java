@@ -0,0 +1,682 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import com.unboundid.ldap.protocol.IntermediateResponseProtocolOp;
+import com.unboundid.ldap.protocol.LDAPMessage;
+import com.unboundid.ldap.protocol.SearchResultDoneProtocolOp;
+import com.unboundid.ldap.protocol.SearchResultReferenceProtocolOp;
+import com.unboundid.ldap.sdk.Attribute;
+import com.unboundid.ldap.sdk.Control;
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.SearchResultEntry;
+import com.unboundid.ldap.sdk.SearchResultReference;
+import com.unboundid.ldap.sdk.controls.ContentSyncInfoIntermediateResponse;
+import com.unboundid.ldap.sdk.controls.ContentSyncState;
+import com.unboundid.ldap.sdk.controls.ContentSyncStateControl;
+import com.unboundid.ldap.sdk.schema.Schema;
+import com.unboundid.util.Debug;
+import com.unboundid.util.Mutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.listener.ListenerMessages.*;
+
+
+
+/**
+ * This class provides a mechanism that will be used by the
+ * {@link InMemoryRequestHandler} class to process the entries that match a
+ * search request.  Matching entries will either be returned to the client as
+ * soon as they are found, so that the server does not need to hold the entire
+ * result set in memory, or they will be buffered so that they may be sorted or
+ * paged before they are returned.  In either case, the size and time limits
+ * for the search will be enforced as each entry is returned.  For the refresh
+ * phase of a content synchronization operation, entries that have not changed
+ * since the client's last synchronization are identified to the client only
+ * by their entryUUIDs.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
+final class InMemorySearchEntryProcessor
+{
+  /**
+   * The maximum number of entryUUIDs that will be included in a single sync ID
+   * set intermediate response.
+   */
+  private static final int MAX_SYNC_ID_SET_SIZE = 1000;
+
+
+
+  // Indicates whether entries are being returned for the refresh phase of a
+  // content synchronization operation.
+  private boolean contentSyncRefresh;
+
+  // Indicates whether the request includes the ManageDsaIT control.
+  private final boolean hasManageDsaIT;
+
+  // Indicates whether entries within the changelog should be returned.
+  private final boolean includeChangeLog;
+
+  // Indicates whether entries that are not LDAP subentries should be returned.
+  private final boolean includeNonSubEntries;
+
+  // Indicates whether LDAP subentries should be returned.
+  private final boolean includeSubEntries;
+
+  // Indicates whether only attribute types should be included in entries.
+  private final boolean typesOnly;
+
+  // The base DN for the server changelog.
+  @NotNull private final DN changeLogBaseDN;
+
+  // The number of entries that have been returned so far.
+  private int entryCount;
+
+  // The message ID for the associated search request.
+  private final int messageID;
+
+  // The maximum number of entries that may be returned.
+  private final int sizeLimit;
+
+  // The client connection to which the results will be sent, if any.
+  @Nullable private final LDAPListenerClientConnection clientConnection;
+
+  // The message to return to the client if processing should stop before all
+  // matching entries have been returned.
+  @Nullable private LDAPMessage searchResultDoneMessage;
+
+  // The list of entries being held for sorting or paging, if appropriate.
+  @Nullable private final List<Entry> bufferedEntries;
+
+  // The list of controls to include in the search result done message.
+  @NotNull private final List<Control> responseControls;
+
+  // The list to which search result entries should be added if there is no
+  // client connection.
+  @Nullable private final List<SearchResultEntry> entryList;
+
+  // The list to which search result references should be added if there is no
+  // client connection.
+  @Nullable private final List<SearchResultReference> referenceList;
+
+  // The time at which the time limit for the search will expire, or zero if
+  // there is no time limit.
+  private final long timeLimitExpirationTime;
+
+  // The schema to use when constructing types-only entries.
+  @Nullable private final Schema schema;
+
+  // The parer that will be used to remove any attributes that should not be
+  // returned.
+  @NotNull private final SearchEntryParer parer;
+
+  // The DNs of the entries that have changed since the client's last content
+  // synchronization, or null if all entries should be returned in full.
+  @Nullable private Set<DN> contentSyncChangedDNs;
+
+  // The entryUUIDs of unchanged entries that have not yet been identified to
+  // the client in a sync ID set intermediate response.
+  @Nullable private List<UUID> presentEntryUUIDs;
+
+
+
+  /**
+   * Creates a new in-memory search entry processor with the provided
+   * information.
+   *
+   * @param  messageID                The message ID for the associated search
+   *                                  request.
+   * @param  clientConnection         The client connection to which results
+   *                                  should be sent.  It may be {@code null}
+   *                                  if results should be added to the
+   *                                  provided lists instead.
+   * @param  entryList                The list to which search result entries
+   *                                  should be added if there is no client
+   *                                  connection.  It may be {@code null} if
+   *                                  a client connection is provided.
+   * @param  referenceList            The list to which search result
+   *                                  references should be added if there is no
+   *                                  client connection.  It may be
+   *                                  {@code null} if a client connection is
+   *                                  provided.
+   * @param  responseControls         The list of controls to include in the
+   *                                  search result done message.  It may be
+   *                                  updated after this processor is created.
+   * @param  schema                   The schema to use when constructing
+   *                                  types-only entries.  It may be
+   *                                  {@code null} if no schema is available.
+   * @param  parer                    The parer that will be used to remove any
+   *                                  attributes that should not be returned.
+   * @param  typesOnly                Indicates whether only attribute types
+   *                                  should be included in returned entries.
+   * @param  includeSubEntries        Indicates whether LDAP subentries should
+   *                                  be returned to the client.
+   * @param  includeNonSubEntries     Indicates whether non-LDAP subentries
+   *                                  should be returned to the client.
+   * @param  includeChangeLog         Indicates whether entries within the
+   *                                  changelog should be returned to the
+   *                                  client.
+   * @param  hasManageDsaIT           Indicates whether the request includes
+   *                                  the ManageDsaIT control, which can change
+   *                                  how smart referrals should be handled.
+   * @param  changeLogBaseDN          The base DN for the server changelog.
+   * @param  sizeLimit                The maximum number of entries that may be
+   *                                  returned.
+   * @param  timeLimitExpirationTime  The time at which the time limit for the
+   *                                  search will expire, or zero if there is
+   *                                  no time limit.
+   * @param  bufferEntries            Indicates whether matching entries should
+   *                                  be held until {@link #returnEntry} is
+   *                                  called for them rather than being
+   *                                  returned as soon as they are found.
+   */
+  InMemorySearchEntryProcessor(final int messageID,
+       @Nullable final LDAPListenerClientConnection clientConnection,
+       @Nullable final List<SearchResultEntry> entryList,
+       @Nullable final List<SearchResultReference> referenceList,
+       @NotNull final List<Control> responseControls,
+       @Nullable final Schema schema, @NotNull final SearchEntryParer parer,
+       final boolean typesOnly, final boolean includeSubEntries,
+       final boolean includeNonSubEntries, final boolean includeChangeLog,
+       final boolean hasManageDsaIT, @NotNull final DN changeLogBaseDN,
+       final int sizeLimit, final long timeLimitExpirationTime,
+       final boolean bufferEntries)
+  {
+    this.messageID               = messageID;
+    this.clientConnection        = clientConnection;
+    this.entryList               = entryList;
+    this.referenceList           = referenceList;
+    this.responseControls        = responseControls;
+    this.schema                  = schema;
+    this.parer                   = parer;
+    this.typesOnly               = typesOnly;
+    this.includeSubEntries       = includeSubEntries;
+    this.includeNonSubEntries    = includeNonSubEntries;
+    this.includeChangeLog        = includeChangeLog;
+    this.hasManageDsaIT          = hasManageDsaIT;
+    this.changeLogBaseDN         = changeLogBaseDN;
+    this.sizeLimit               = sizeLimit;
+    this.timeLimitExpirationTime = timeLimitExpirationTime;
+
+    if (bufferEntries)
+    {
+      bufferedEntries = new ArrayList<>(100);
+    }
+    else
+    {
+      bufferedEntries = null;
+    }
+
+    entryCount = 0;
+    searchResultDoneMessage = null;
+    contentSyncRefresh = false;
+    contentSyncChangedDNs = null;
+    presentEntryUUIDs = null;
+  }
+
+
+
+  /**
+   * Indicates that entries will be returned for the refresh phase of a content
+   * synchronization operation.  Each entry that is returned in full will
+   * include a content synchronization state control with a state of "add".
+   * If a set of changed DNs is provided, then any other entry will be
+   * identified to the client only by its entryUUID in a sync ID set
+   * intermediate response, and the {@link #flushPresentEntryUUIDs} method
+   * must be called after all matching entries have been processed.
+   *
+   * @param  changedDNs  The DNs of the entries that have changed since the
+   *                     client's last content synchronization.  It may be
+   *                     {@code null} if all entries should be returned in
+   *                     full.
+   */
+  void enableContentSyncRefresh(@Nullable final Set<DN> changedDNs)
+  {
+    contentSyncRefresh = true;
+    contentSyncChangedDNs = changedDNs;
+    if (changedDNs != null)
+    {
+      presentEntryUUIDs = new ArrayList<>(MAX_SYNC_ID_SET_SIZE);
+    }
+  }
+
+
+
+  /**
+   * Processes the provided entry, which matches the search criteria.  It will
+   * be suppressed if it should not be returned based on whether it is an LDAP
+   * subentry or is in the changelog.  If it is a smart referral, then a search
+   * result reference will be returned instead.  Otherwise, it will either be
+   * returned immediately or held until {@link #returnEntry} is called for it,
+   * based on whether this processor buffers entries.
+   *
+   * @param  entry  The entry to be processed.
+   *
+   * @return  {@code true} if processing for the search should continue, or
+   *          {@code false} if it should stop and the message returned by the
+   *          {@link #getSearchResultDoneMessage} method should be returned to
+   *          the client.
+   */
+  boolean processEntry(@NotNull final Entry entry)
+  {
+    if (isTimeLimitExceeded())
+    {
+      return false;
+    }
+
+    // Check to see if the entry should be suppressed based on whether it's an
+    // LDAP subentry.
+    if (entry.hasObjectClass("ldapSubEntry") ||
+        entry.hasObjectClass("inheritableLDAPSubEntry"))
+    {
+      if (! includeSubEntries)
+      {
+        return true;
+      }
+    }
+    else if (! includeNonSubEntries)
+    {
+      return true;
+    }
+
+    // See if the entry should be suppressed as a changelog entry.
+    try
+    {
+      if ((! includeChangeLog) &&
+           (entry.getParsedDN().isDescendantOf(changeLogBaseDN, true)))
+      {
+        return true;
+      }
+    }
+    catch (final Exception e)
+    {
+      // This should never happen.
+      Debug.debugException(e);
+    }
+
+    // See if the entry is a referral and should result in a reference rather
+    // than an entry.
+    if ((! hasManageDsaIT) && entry.hasObjectClass("referral") &&
+        entry.hasAttribute("ref"))
+    {
+      return returnReference(new SearchResultReference(
+           entry.getAttributeValues("ref"), StaticUtils.NO_CONTROLS));
+    }
+
+    if (bufferedEntries == null)
+    {
+      return returnEntry(entry);
+    }
+    else
+    {
+      bufferedEntries.add(entry);
+      return true;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the list of entries that have been held for sorting or paging.
+   * Each entry that should be returned to the client must be provided to the
+   * {@link #returnEntry} method.
+   *
+   * @return  The list of entries that have been held for sorting or paging, or
+   *          {@code null} if this processor does not buffer entries.
+   */
+  @Nullable()
+  List<Entry> getBufferedEntries()
+  {
+    return bufferedEntries;
+  }
+
+
+
+  /**
+   * Returns the provided entry to the client, after removing any attributes
+   * that were not requested, as long as doing so would not exceed the size
+   * limit or time limit for the search.
+   *
+   * @param  entry  The entry to be returned.
+   *
+   * @return  {@code true} if processing for the search should continue, or
+   *          {@code false} if it should stop and the message returned by the
+   *          {@link #getSearchResultDoneMessage} method should be returned to
+   *          the client.
+   */
+  boolean returnEntry(@NotNull final Entry entry)
+  {
+    if (! contentSyncRefresh)
+    {
+      return returnEntry(entry, StaticUtils.NO_CONTROLS);
+    }
+
+    // If the entry has not changed since the client's last synchronization,
+    // then only its entryUUID needs to be provided.
+    final UUID entryUUID = getEntryUUID(entry);
+    if (presentEntryUUIDs != null)
+    {
+      try
+      {
+        if (! contentSyncChangedDNs.contains(entry.getParsedDN()))
+        {
+          presentEntryUUIDs.add(entryUUID);
+          if (presentEntryUUIDs.size() >= MAX_SYNC_ID_SET_SIZE)
+          {
+            return flushPresentEntryUUIDs();
+          }
+
+          return true;
+        }
+      }
+      catch (final LDAPException le)
+      {
+        // This should never happen.
+        Debug.debugException(le);
+      }
+    }
+
+    return returnEntry(entry, new ContentSyncStateControl(ContentSyncState.ADD,
+         entryUUID, null));
+  }
+
+
+
+  /**
+   * Returns the provided entry to the client with the given controls, after
+   * removing any attributes that were not requested, as long as doing so
+   * would not exceed the size limit or time limit for the search.
+   *
+   * @param  entry     The entry to be returned.
+   * @param  controls  The controls to include with the entry.
+   *
+   * @return  {@code true} if processing for the search should continue, or
+   *          {@code false} if it should stop and the message returned by the
+   *          {@link #getSearchResultDoneMessage} method should be returned to
+   *          the client.
+   */
+  boolean returnEntry(@NotNull final Entry entry,
+                      @NotNull final Control... controls)
+  {
+    if (isTimeLimitExceeded())
+    {
+      return false;
+    }
+
+    entryCount++;
+    if (entryCount > sizeLimit)
+    {
+      searchResultDoneMessage = new LDAPMessage(messageID,
+           new SearchResultDoneProtocolOp(
+                ResultCode.SIZE_LIMIT_EXCEEDED_INT_VALUE, null,
+                ERR_MEM_HANDLER_SEARCH_SIZE_LIMIT_EXCEEDED.get(), null),
+           responseControls);
+      return false;
+    }
+
+    final Entry trimmedEntry = parer.pareEntry(entry);
+    final SearchResultEntry searchEntry;
+    if (typesOnly)
+    {
+      final Entry typesOnlyEntry = new Entry(trimmedEntry.getDN(), schema);
+      for (final Attribute a : trimmedEntry.getAttributes())
+      {
+        typesOnlyEntry.addAttribute(new Attribute(a.getName()));
+      }
+      searchEntry = new SearchResultEntry(typesOnlyEntry, controls);
+    }
+    else
+    {
+      searchEntry = new SearchResultEntry(trimmedEntry, controls);
+    }
+
+    if (clientConnection == null)
+    {
+      if (entryList != null)
+      {
+        entryList.add(searchEntry);
+      }
+
+      return true;
+    }
+
+    try
+    {
+      clientConnection.sendSearchResultEntry(messageID, searchEntry,
+           searchEntry.getControls());
+      return true;
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      setSearchResultDoneMessage(le);
+      return false;
+    }
+  }
+
+
+
+  /**
+   * Returns the provided search result reference to the client.
+   *
+   * @param  reference  The search result reference to be returned.
+   *
+   * @return  {@code true} if processing for the search should continue, or
+   *          {@code false} if it should stop and the message returned by the
+   *          {@link #getSearchResultDoneMessage} method should be returned to
+   *          the client.
+   */
+  private boolean returnReference(
+                       @NotNull final SearchResultReference reference)
+  {
+    if (clientConnection == null)
+    {
+      if (referenceList != null)
+      {
+        referenceList.add(reference);
+      }
+
+      return true;
+    }
+
+    try
+    {
+      clientConnection.sendSearchResultReference(messageID,
+           new SearchResultReferenceProtocolOp(
+                StaticUtils.toList(reference.getReferralURLs())),
+           reference.getControls());
+      return true;
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      setSearchResultDoneMessage(le);
+      return false;
+    }
+  }
+
+
+
+  /**
+   * Sends a sync ID set intermediate response to the client with the
+   * entryUUIDs of any unchanged entries that have not yet been identified to
+   * the client.
+   *
+   * @return  {@code true} if processing for the search should continue, or
+   *          {@code false} if it should stop and the message returned by the
+   *          {@link #getSearchResultDoneMessage} method should be returned to
+   *          the client.
+   */
+  boolean flushPresentEntryUUIDs()
+  {
+    if ((presentEntryUUIDs == null) || presentEntryUUIDs.isEmpty() ||
+        (clientConnection == null))
+    {
+      return true;
+    }
+
+    try
+    {
+      clientConnection.sendIntermediateResponse(messageID,
+           new IntermediateResponseProtocolOp(
+                ContentSyncInfoIntermediateResponse.createSyncIDSetResponse(
+                     null, new ArrayList<>(presentEntryUUIDs), false)));
+      presentEntryUUIDs.clear();
+      return true;
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      setSearchResultDoneMessage(le);
+      return false;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the entryUUID to use for the provided entry in content
+   * synchronization processing.  If the entry does not have a valid
+   * entryUUID attribute (for example, because the server is not configured to
+   * generate operational attributes), then a name-based UUID will be derived
+   * from its normalized DN.
+   *
+   * @param  entry  The entry for which to obtain the entryUUID.
+   *
+   * @return  The entryUUID to use for the provided entry.
+   */
+  @NotNull()
+  static UUID getEntryUUID(@NotNull final Entry entry)
+  {
+    final String entryUUIDString = entry.getAttributeValue("entryUUID");
+    if (entryUUIDString != null)
+    {
+      try
+      {
+        return UUID.fromString(entryUUIDString);
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+    }
+
+    String normalizedDN;
+    try
+    {
+      normalizedDN = entry.getParsedDN().toNormalizedString();
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      normalizedDN = StaticUtils.toLowerCase(entry.getDN());
+    }
+
+    return UUID.nameUUIDFromBytes(StaticUtils.getBytes(normalizedDN));
+  }
+
+
+
+  /**
+   * Indicates whether the time limit for the search has been exceeded.  If so,
+   * then the search result done message will be updated accordingly.
+   *
+   * @return  {@code true} if the time limit for the search has been exceeded,
+   *          or {@code false} if not.
+   */
+  private boolean isTimeLimitExceeded()
+  {
+    if ((timeLimitExpirationTime > 0L) &&
+         (System.currentTimeMillis() >= timeLimitExpirationTime))
+    {
+      searchResultDoneMessage = new LDAPMessage(messageID,
+           new SearchResultDoneProtocolOp(
+                ResultCode.TIME_LIMIT_EXCEEDED_INT_VALUE, null,
+                ERR_MEM_HANDLER_TIME_LIMIT_EXCEEDED.get(), null),
+           responseControls);
+      return true;
+    }
+
+    return false;
+  }
+
+
+
+  /**
+   * Sets the search result done message to reflect a failure to send a result
+   * to the client.
+   *
+   * @param  le  The exception caught while trying to send the result.
+   */
+  private void setSearchResultDoneMessage(@NotNull final LDAPException le)
+  {
+    searchResultDoneMessage = new LDAPMessage(messageID,
+         new SearchResultDoneProtocolOp(le.getResultCode().intValue(),
+              le.getMatchedDN(), le.getDiagnosticMessage(),
+              StaticUtils.toList(le.getReferralURLs())),
+         le.getResponseControls());
+  }
+
+
+
+  /**
+   * Retrieves the message that should be returned to the client because
+   * processing for the search stopped before all matching entries could be
+   * returned.
+   *
+   * @return  The message that should be returned to the client, or
+   *          {@code null} if processing has not stopped early.
+   */
+  @Nullable()
+  LDAPMessage getSearchResultDoneMessage()
+  {
+    return searchResultDoneMessage;
+  }
+}
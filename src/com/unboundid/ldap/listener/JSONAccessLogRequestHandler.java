@@ -88,6 +88,8 @@ import com.unboundid.util.json.JSONBuffer;
  * and result using the Java logging framework.  Messages will be formatted as
  * JSON objects.  It will be also be associated with another request handler
  * that will actually be used to handle the request.
+ *
+ * @see  com.unboundid.util.AsyncLogHandler
  */
 @NotMutable()
 @ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
@@ -39,12 +39,21 @@ package com.unboundid.ldap.listener;
 
 import java.io.IOException;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.util.ArrayList;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -55,6 +64,7 @@ import com.unboundid.ldap.sdk.ResultCode;
 import com.unboundid.ldap.sdk.extensions.NoticeOfDisconnectionExtendedResult;
 import com.unboundid.util.Debug;
 import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.LDAPSDKThreadFactory;
 import com.unboundid.util.NotNull;
 import com.unboundid.util.Nullable;
 import com.unboundid.util.StaticUtils;
@@ -108,6 +118,14 @@ import static com.unboundid.ldap.listener.ListenerMessages.*;
  * connection.close();
  * listener.shutDown(true);
  * </PRE>
+ * <BR><BR>
+ * By default, each connection accepted by the listener will have its own
+ * thread.  If the listener configuration specifies a number of selector
+ * threads, then connections will instead be accepted with a non-blocking
+ * server socket channel, their requests will be read by that fixed number of
+ * selector threads, and those requests will be processed by a bounded pool of
+ * worker threads.  This makes it possible to support a very large number of
+ * mostly-idle connections without needing a thread for each of them.
  */
 @ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
 public final class LDAPListener
@@ -116,6 +134,13 @@ public final class LDAPListener
   // Indicates whether a request has been received to stop running.
   @NotNull private final AtomicBoolean stopRequested;
 
+  // Indicates whether the selector threads and worker threads have been shut
+  // down.
+  @NotNull private final AtomicBoolean selectorResourcesReleased;
+
+  // Indicates whether this listener has stopped accepting new connections.
+  private volatile boolean acceptLoopComplete;
+
   // The connection ID value that should be assigned to the next connection that
   // is established.
   @NotNull private final AtomicLong nextConnectionID;
@@ -136,6 +161,21 @@ public final class LDAPListener
   // The configuration to use for this listener.
   @NotNull private final LDAPListenerConfig config;
 
+  // The selector used to wait for connections on the server socket channel,
+  // if selector threads are in use.
+  @Nullable private volatile Selector acceptSelector;
+
+  // The server socket channel used to accept connections, if selector threads
+  // are in use.
+  @Nullable private volatile ServerSocketChannel serverSocketChannel;
+
+  // The selector threads used to read requests from clients, if any.
+  @Nullable private volatile LDAPListenerSelectorThread[] selectorThreads;
+
+  // The executor used to process requests read by the selector threads, if
+  // any.
+  @Nullable private volatile ThreadPoolExecutor workerExecutor;
+
 
 
   /**
@@ -150,6 +190,8 @@ public final class LDAPListener
     this.config = config.duplicate();
 
     stopRequested = new AtomicBoolean(false);
+    selectorResourcesReleased = new AtomicBoolean(false);
+    acceptLoopComplete = false;
     nextConnectionID = new AtomicLong(0L);
     serverSocket = new AtomicReference<>(null);
     thread = new AtomicReference<>(null);
@@ -173,19 +215,27 @@ public final class LDAPListener
     final ServerSocketFactory f = config.getServerSocketFactory();
     final InetAddress a = config.getListenAddress();
     final int p = config.getListenPort();
-    if (a == null)
+    final int receiveBufferSize = config.getReceiveBufferSize();
+    if ((config.getNumSelectorThreads() > 0) &&
+        (f.getClass() == ServerSocketFactory.getDefault().getClass()))
     {
-      serverSocket.set(f.createServerSocket(config.getListenPort(), 128));
+      startSelectorThreads(a, p, receiveBufferSize);
     }
     else
     {
-      serverSocket.set(f.createServerSocket(config.getListenPort(), 128, a));
-    }
+      if (a == null)
+      {
+        serverSocket.set(f.createServerSocket(config.getListenPort(), 128));
+      }
+      else
+      {
+        serverSocket.set(f.createServerSocket(config.getListenPort(), 128, a));
+      }
 
-    final int receiveBufferSize = config.getReceiveBufferSize();
-    if (receiveBufferSize > 0)
-    {
-      serverSocket.get().setReceiveBufferSize(receiveBufferSize);
+      if (receiveBufferSize > 0)
+      {
+        serverSocket.get().setReceiveBufferSize(receiveBufferSize);
+      }
     }
 
     setName("LDAP Listener Thread (listening on port " +
@@ -205,6 +255,121 @@ public final class LDAPListener
 
 
 
+  /**
+   * Creates a non-blocking server socket channel to accept client connections,
+   * along with the selector threads that will read requests from those
+   * connections and the worker threads that will process them.
+   *
+   * @param  address            The address on which to listen, or
+   *                            {@code null} to listen on all addresses.
+   * @param  port               The port on which to listen.
+   * @param  receiveBufferSize  The receive buffer size to use for the server
+   *                            socket, or zero if the default should be used.
+   *
+   * @throws  IOException  If a problem occurs while creating the server socket
+   *                       channel or any of the selector threads.
+   */
+  private void startSelectorThreads(@Nullable final InetAddress address,
+                                    final int port,
+                                    final int receiveBufferSize)
+          throws IOException
+  {
+    final ServerSocketChannel channel = ServerSocketChannel.open();
+    final LDAPListenerSelectorThread[] threads =
+         new LDAPListenerSelectorThread[config.getNumSelectorThreads()];
+    Selector selector = null;
+    try
+    {
+      if (receiveBufferSize > 0)
+      {
+        channel.socket().setReceiveBufferSize(receiveBufferSize);
+      }
+
+      if (address == null)
+      {
+        channel.bind(new InetSocketAddress(port), 128);
+      }
+      else
+      {
+        channel.bind(new InetSocketAddress(address, port), 128);
+      }
+
+      channel.configureBlocking(false);
+      selector = Selector.open();
+      channel.register(selector, SelectionKey.OP_ACCEPT);
+
+      final int listenPort = channel.socket().getLocalPort();
+      for (int i=0; i < threads.length; i++)
+      {
+        threads[i] = new LDAPListenerSelectorThread(listenPort, i);
+      }
+    }
+    catch (final IOException ioe)
+    {
+      Debug.debugException(ioe);
+
+      if (selector != null)
+      {
+        try
+        {
+          selector.close();
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+        }
+      }
+
+      // A selector thread that has already been shut down will just close its
+      // selector when it is started.
+      for (final LDAPListenerSelectorThread t : threads)
+      {
+        if (t != null)
+        {
+          t.shutDown();
+          t.start();
+        }
+      }
+
+      try
+      {
+        channel.close();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+
+      throw ioe;
+    }
+
+    int numWorkerThreads = config.getNumWorkerThreads();
+    if (numWorkerThreads <= 0)
+    {
+      numWorkerThreads =
+           Math.max(4, (4 * Runtime.getRuntime().availableProcessors()));
+    }
+
+    final int listenPort = channel.socket().getLocalPort();
+    workerExecutor = new ThreadPoolExecutor(numWorkerThreads,
+         numWorkerThreads, 0L, TimeUnit.MILLISECONDS,
+         new LinkedBlockingQueue<Runnable>(),
+         new LDAPSDKThreadFactory("LDAPListener Worker Thread for port " +
+              listenPort, true));
+
+    for (final LDAPListenerSelectorThread t : threads)
+    {
+      t.start();
+    }
+
+    selectorThreads = threads;
+    acceptSelector = selector;
+    serverSocketChannel = channel;
+    serverSocket.set(channel.socket());
+  }
+
+
+
   /**
    * Operates in a loop, waiting for client connections to arrive and ensuring
    * that they are handled properly.  This method is for internal use only and
@@ -221,6 +386,12 @@ public final class LDAPListener
     try
     {
       startLatch.countDown();
+      if (serverSocketChannel != null)
+      {
+        acceptChannelConnections(exceptionHandler);
+        return;
+      }
+
       while (! stopRequested.get())
       {
         final Socket s;
@@ -264,18 +435,12 @@ public final class LDAPListener
           continue;
         }
 
-        final int maxConnections = config.getMaxConnections();
-        if ((maxConnections > 0) &&
-            (establishedConnections.size() >= maxConnections))
+        if (! connectionEstablished(c))
         {
-          c.close(new LDAPException(ResultCode.BUSY,
-               ERR_LDAP_LISTENER_MAX_CONNECTIONS_ESTABLISHED.get(
-                    maxConnections)));
           continue;
         }
 
-        establishedConnections.put(c.getConnectionID(), c);
-        c.start();
+        c.startReaderThread();
       }
     }
     finally
@@ -293,13 +458,209 @@ public final class LDAPListener
         }
       }
 
+      final Selector selector = acceptSelector;
+      if (selector != null)
+      {
+        try
+        {
+          selector.close();
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+        }
+      }
+
       serverSocket.set(null);
       thread.set(null);
+
+      acceptLoopComplete = true;
+      releaseSelectorResourcesIfIdle();
     }
   }
 
 
 
+  /**
+   * Operates in a loop, accepting client connections with the non-blocking
+   * server socket channel and assigning each of them to one of the selector
+   * threads.
+   *
+   * @param  exceptionHandler  The exception handler to notify about any
+   *                           failure to accept a connection, if any.
+   */
+  private void acceptChannelConnections(
+       @Nullable final LDAPListenerExceptionHandler exceptionHandler)
+  {
+    final ServerSocketChannel channel = serverSocketChannel;
+    final Selector selector = acceptSelector;
+    while (! stopRequested.get())
+    {
+      try
+      {
+        selector.select();
+        selector.selectedKeys().clear();
+      }
+      catch (final ClosedSelectorException cse)
+      {
+        Debug.debugException(cse);
+        return;
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+
+        if (! channel.isOpen())
+        {
+          return;
+        }
+
+        if (exceptionHandler != null)
+        {
+          exceptionHandler.connectionCreationFailure(null, e);
+        }
+
+        continue;
+      }
+
+      while (! stopRequested.get())
+      {
+        final SocketChannel s;
+        try
+        {
+          s = channel.accept();
+          if (s == null)
+          {
+            break;
+          }
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+
+          if (! channel.isOpen())
+          {
+            return;
+          }
+
+          if (exceptionHandler != null)
+          {
+            exceptionHandler.connectionCreationFailure(null, e);
+          }
+
+          break;
+        }
+
+        final LDAPListenerClientConnection c;
+        try
+        {
+          c = new LDAPListenerClientConnection(this, s,
+               getLeastLoadedSelectorThread(), workerExecutor,
+               config.getRequestHandler(), config.getExceptionHandler());
+        }
+        catch (final LDAPException le)
+        {
+          Debug.debugException(le);
+
+          if (exceptionHandler != null)
+          {
+            exceptionHandler.connectionCreationFailure(s.socket(), le);
+          }
+
+          continue;
+        }
+
+        if (! connectionEstablished(c))
+        {
+          continue;
+        }
+
+        c.registerWithSelector();
+      }
+    }
+  }
+
+
+
+  /**
+   * Retrieves the selector thread with the fewest registered connections.
+   *
+   * @return  The selector thread with the fewest registered connections.
+   */
+  @NotNull()
+  private LDAPListenerSelectorThread getLeastLoadedSelectorThread()
+  {
+    final LDAPListenerSelectorThread[] threads = selectorThreads;
+    LDAPListenerSelectorThread leastLoaded = threads[0];
+    int leastConnections = leastLoaded.getNumRegisteredConnections();
+    for (int i=1; i < threads.length; i++)
+    {
+      final int numConnections = threads[i].getNumRegisteredConnections();
+      if (numConnections < leastConnections)
+      {
+        leastLoaded = threads[i];
+        leastConnections = numConnections;
+      }
+    }
+
+    return leastLoaded;
+  }
+
+
+
+  /**
+   * Adds the provided newly-accepted connection to the set of established
+   * connections, unless the maximum number of connections has already been
+   * reached, in which case it will be closed.
+   *
+   * @param  c  The connection that has been accepted.
+   *
+   * @return  {@code true} if the connection was added to the set of
+   *          established connections, or {@code false} if it was closed.
+   */
+  private boolean connectionEstablished(
+                       @NotNull final LDAPListenerClientConnection c)
+  {
+    final int maxConnections = config.getMaxConnections();
+    if ((maxConnections > 0) &&
+        (establishedConnections.size() >= maxConnections))
+    {
+      c.close(new LDAPException(ResultCode.BUSY,
+           ERR_LDAP_LISTENER_MAX_CONNECTIONS_ESTABLISHED.get(
+                maxConnections)));
+      return false;
+    }
+
+    establishedConnections.put(c.getConnectionID(), c);
+    return true;
+  }
+
+
+
+  /**
+   * Shuts down the selector threads and worker threads, if they are in use,
+   * once this listener has stopped accepting connections and all of the
+   * connections that it accepted have been closed.
+   */
+  private void releaseSelectorResourcesIfIdle()
+  {
+    if ((! acceptLoopComplete) || (! establishedConnections.isEmpty()) ||
+        (selectorThreads == null) ||
+        (! selectorResourcesReleased.compareAndSet(false, true)))
+    {
+      return;
+    }
+
+    for (final LDAPListenerSelectorThread t : selectorThreads)
+    {
+      t.shutDown();
+    }
+
+    workerExecutor.shutdown();
+  }
+
+
+
   /**
    * Closes all connections that are currently established to this listener.
    * This has no effect on the ability to accept new connections.
@@ -368,6 +729,12 @@ public final class LDAPListener
       }
     }
 
+    final Selector selector = acceptSelector;
+    if (selector != null)
+    {
+      selector.wakeup();
+    }
+
     final Thread t = thread.get();
     if (t != null)
     {
@@ -496,5 +863,6 @@ public final class LDAPListener
   void connectionClosed(@NotNull final LDAPListenerClientConnection connection)
   {
     establishedConnections.remove(connection.getConnectionID());
+    releaseSelectorResourcesIfIdle();
   }
 }
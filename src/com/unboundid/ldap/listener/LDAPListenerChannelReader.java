@@ -0,0 +1,853 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.unboundid.asn1.ASN1BufferAllocator;
+import com.unboundid.asn1.ASN1StreamReader;
+import com.unboundid.ldap.protocol.LDAPMessage;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.util.Debug;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+
+import static com.unboundid.ldap.listener.ListenerMessages.*;
+
+
+
+/**
+ * This class provides a mechanism for reading requests from a client
+ * connection's non-blocking socket channel using one of a listener's selector
+ * threads rather than a dedicated thread per connection.  Data read from the
+ * channel will be buffered until a complete LDAP message is available, and
+ * each complete message will be decoded and queued for processing.  Queued
+ * requests for a connection are handed to the request handler by a worker
+ * thread one at a time and in the order that they were received, so the
+ * request handler sees the same sequence of calls that it would if the
+ * connection had its own thread.  If too many requests are queued for a
+ * connection, then no more data will be read from it until some of them have
+ * been processed.
+ */
+@InternalUseOnly()
+final class LDAPListenerChannelReader
+       implements Runnable
+{
+  /**
+   * The initial size to use for the buffer that holds data read from the
+   * channel.  It will be expanded as needed to hold larger messages.
+   */
+  private static final int INITIAL_BUFFER_SIZE = 2048;
+
+
+
+  /**
+   * The maximum size that the read buffer will be allowed to retain once all of
+   * the data it holds has been processed.  If a larger message caused it to
+   * grow beyond this size, then it will be replaced with a smaller buffer.
+   */
+  private static final int MAX_RETAINED_BUFFER_SIZE = 65_536;
+
+
+
+  /**
+   * The maximum number of requests that may be queued for a connection before
+   * the selector thread stops reading from it.
+   */
+  static final int MAX_QUEUED_REQUESTS = 64;
+
+
+
+  /**
+   * The maximum number of requests that a worker thread will process for a
+   * connection before giving other connections a chance to use that thread.
+   */
+  private static final int MAX_REQUESTS_PER_TASK = 16;
+
+
+
+  /**
+   * The maximum length of time in milliseconds to wait for the channel to be
+   * deregistered from its selector when detaching it.
+   */
+  private static final long MAX_DETACH_WAIT_MILLIS = 10_000L;
+
+
+
+  /**
+   * The registration state that indicates that the reader has not yet been
+   * registered with a selector.
+   */
+  private static final int STATE_NEW = 0;
+
+
+
+  /**
+   * The registration state that indicates that the reader has been registered
+   * with a selector.
+   */
+  private static final int STATE_REGISTERED = 1;
+
+
+
+  /**
+   * The registration state that indicates that the reader has been
+   * deregistered from its selector.
+   */
+  private static final int STATE_DEREGISTERED = 2;
+
+
+
+  // Indicates whether a worker thread has been asked to process the queued
+  // requests for this connection.
+  @NotNull private final AtomicBoolean processingScheduled;
+
+  // Indicates whether the selector thread has stopped reading from the
+  // channel because too many requests are queued.
+  @NotNull private final AtomicBoolean readingPaused;
+
+  // The number of requests currently queued for processing.
+  @NotNull private final AtomicInteger numQueuedRequests;
+
+  // The current registration state for this reader.
+  @NotNull private final AtomicInteger registrationState;
+
+  // The allocator to use for the bytes of each message, if any.
+  @Nullable private final ASN1BufferAllocator allocator;
+
+  // Indicates whether the channel has been detached from the selector so that
+  // the connection can be used with a dedicated thread.
+  private volatile boolean detached;
+
+  // Indicates whether the client has closed its side of the connection.
+  private volatile boolean endOfInput;
+
+  // The buffer that holds data read from the channel but not yet processed.
+  @NotNull private ByteBuffer readBuffer;
+
+  // The requests that have been read but not yet processed.
+  @NotNull private final ConcurrentLinkedQueue<LDAPMessage> queuedRequests;
+
+  // The executor that will be used to process requests.
+  @NotNull private final ExecutorService workerExecutor;
+
+  // The maximum size in bytes for messages read from the client.
+  private final int maxMessageSize;
+
+  // The exception that should be used to terminate the connection once all
+  // previously-read requests have been processed, if any.
+  @Nullable private volatile LDAPException terminationCause;
+
+  // The client connection with which this reader is associated.
+  @NotNull private final LDAPListenerClientConnection connection;
+
+  // The selector thread with which this reader is registered.
+  @NotNull private final LDAPListenerSelectorThread selectorThread;
+
+  // The selection key for the channel's registration with the selector.
+  @Nullable private volatile SelectionKey selectionKey;
+
+  // The channel from which data will be read.
+  @NotNull private final SocketChannel channel;
+
+
+
+  /**
+   * Creates a new channel reader with the provided information.
+   *
+   * @param  connection      The client connection with which this reader is
+   *                         associated.
+   * @param  channel         The channel from which data should be read.  It
+   *                         must already be configured for non-blocking
+   *                         operation.
+   * @param  selectorThread  The selector thread with which the channel should
+   *                         be registered.
+   * @param  workerExecutor  The executor that should be used to process
+   *                         requests read from the channel.
+   * @param  maxMessageSize  The maximum size in bytes for messages read from
+   *                         the client.
+   * @param  allocator       The allocator to use for the bytes of each
+   *                         message.  It may be {@code null} if a new array
+   *                         should be allocated for each message.
+   */
+  LDAPListenerChannelReader(
+       @NotNull final LDAPListenerClientConnection connection,
+       @NotNull final SocketChannel channel,
+       @NotNull final LDAPListenerSelectorThread selectorThread,
+       @NotNull final ExecutorService workerExecutor,
+       final int maxMessageSize,
+       @Nullable final ASN1BufferAllocator allocator)
+  {
+    this.connection = connection;
+    this.channel = channel;
+    this.selectorThread = selectorThread;
+    this.workerExecutor = workerExecutor;
+    this.maxMessageSize = maxMessageSize;
+    this.allocator = allocator;
+
+    readBuffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    queuedRequests = new ConcurrentLinkedQueue<>();
+    numQueuedRequests = new AtomicInteger(0);
+    processingScheduled = new AtomicBoolean(false);
+    readingPaused = new AtomicBoolean(false);
+    registrationState = new AtomicInteger(STATE_NEW);
+    selectionKey = null;
+    terminationCause = null;
+    endOfInput = false;
+    detached = false;
+  }
+
+
+
+  /**
+   * Retrieves the channel from which this reader will read data.
+   *
+   * @return  The channel from which this reader will read data.
+   */
+  @NotNull()
+  SocketChannel getChannel()
+  {
+    return channel;
+  }
+
+
+
+  /**
+   * Registers the channel with the selector thread so that requests will begin
+   * to be read from it.
+   */
+  void register()
+  {
+    if (registrationState.compareAndSet(STATE_NEW, STATE_REGISTERED))
+    {
+      selectorThread.register(this);
+    }
+  }
+
+
+
+  /**
+   * Indicates that the channel has been registered with the selector using the
+   * provided key.  This should only be called by the selector thread.
+   *
+   * @param  key  The selection key for the registration.
+   */
+  void registered(@NotNull final SelectionKey key)
+  {
+    selectionKey = key;
+    if (isDeregistered())
+    {
+      key.cancel();
+    }
+  }
+
+
+
+  /**
+   * Indicates that the channel could not be registered with the selector.  The
+   * reader will be deregistered, and the connection will be terminated.  This
+   * should only be called by the selector thread.
+   *
+   * @param  cause  The exception that prevented the channel from being
+   *                registered.
+   */
+  void registrationFailed(@NotNull final Exception cause)
+  {
+    deregister();
+    terminate(new LDAPException(ResultCode.SERVER_DOWN,
+         ERR_LISTENER_CHANNEL_READER_IO_ERROR.get(
+              StaticUtils.getExceptionMessage(cause)),
+         cause));
+  }
+
+
+
+  /**
+   * Indicates whether this reader has been deregistered from its selector.
+   *
+   * @return  {@code true} if this reader has been deregistered from its
+   *          selector, or {@code false} if not.
+   */
+  boolean isDeregistered()
+  {
+    return (registrationState.get() == STATE_DEREGISTERED);
+  }
+
+
+
+  /**
+   * Deregisters this reader from its selector so that no more data will be read
+   * from the channel by the selector thread.  This method may be safely called
+   * multiple times.
+   */
+  void deregister()
+  {
+    final int previousState = registrationState.getAndSet(STATE_DEREGISTERED);
+    if (previousState != STATE_REGISTERED)
+    {
+      return;
+    }
+
+    final SelectionKey key = selectionKey;
+    if (key != null)
+    {
+      key.cancel();
+    }
+
+    selectorThread.deregistered();
+  }
+
+
+
+  /**
+   * Removes this reader from its selector and reconfigures the channel for
+   * blocking operation so that the connection may be used by a dedicated
+   * thread.  This must only be called by the worker thread processing a
+   * request for the connection, and only when no other requests have been
+   * read, which should be the case while processing a StartTLS request.  Once
+   * that request has been processed, the connection's own thread will be
+   * started to read any subsequent requests.
+   *
+   * @throws  IOException  If a problem occurs while reconfiguring the channel,
+   *                       or if there is buffered data that has not yet been
+   *                       processed.
+   */
+  void detach()
+       throws IOException
+  {
+    synchronized (this)
+    {
+      if ((readBuffer.position() > 0) || (! queuedRequests.isEmpty()))
+      {
+        throw new IOException(
+             ERR_LISTENER_CHANNEL_READER_DETACH_UNREAD_DATA.get());
+      }
+
+      deregister();
+    }
+
+    final long stopWaitingTime =
+         System.currentTimeMillis() + MAX_DETACH_WAIT_MILLIS;
+    while (channel.isRegistered())
+    {
+      // The selector will only complete the deregistration during its next
+      // selection operation, so make sure that one happens.
+      selectorThread.wakeup();
+
+      if (System.currentTimeMillis() >= stopWaitingTime)
+      {
+        throw new IOException(ERR_LISTENER_CHANNEL_READER_DETACH_TIMEOUT.get(
+             MAX_DETACH_WAIT_MILLIS));
+      }
+
+      try
+      {
+        Thread.sleep(1L);
+      }
+      catch (final InterruptedException ie)
+      {
+        Debug.debugException(ie);
+        Thread.currentThread().interrupt();
+        throw new IOException(ie);
+      }
+    }
+
+    channel.configureBlocking(true);
+    detached = true;
+  }
+
+
+
+  /**
+   * Reads the data that is currently available from the channel and queues any
+   * complete requests that it contains.  This should only be called by the
+   * selector thread when the channel has been selected as readable.
+   *
+   * @return  {@code true} if the channel should remain registered with the
+   *          selector, or {@code false} if the end of the input has been
+   *          reached or an error has occurred and the channel should no longer
+   *          be selected.
+   */
+  synchronized boolean readAvailableData()
+  {
+    if (isDeregistered())
+    {
+      return false;
+    }
+
+    try
+    {
+      final int bytesRead = channel.read(readBuffer);
+      if (bytesRead < 0)
+      {
+        // This indicates that the client has closed the connection without
+        // an unbind request.  Any requests that have already been read will
+        // still be processed.
+        endOfInput = true;
+        scheduleProcessing();
+        return false;
+      }
+      else if (bytesRead == 0)
+      {
+        return true;
+      }
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      if (isDeregistered())
+      {
+        // The connection was closed while we were reading from it.
+        return false;
+      }
+
+      terminate(new LDAPException(ResultCode.SERVER_DOWN,
+           ERR_LISTENER_CHANNEL_READER_IO_ERROR.get(
+                StaticUtils.getExceptionMessage(e)),
+           e));
+      return false;
+    }
+
+    try
+    {
+      final int requiredSize;
+      readBuffer.flip();
+      try
+      {
+        requiredSize = decodeMessages();
+      }
+      finally
+      {
+        readBuffer.compact();
+      }
+
+      if (requiredSize > readBuffer.capacity())
+      {
+        readBuffer = expand(readBuffer, requiredSize);
+      }
+      else if ((readBuffer.position() == 0) &&
+           (readBuffer.capacity() > MAX_RETAINED_BUFFER_SIZE))
+      {
+        readBuffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+      }
+    }
+    catch (final LDAPException le)
+    {
+      // This indicates that the client sent a malformed request.
+      Debug.debugException(le);
+      terminate(le);
+      return false;
+    }
+
+    if (numQueuedRequests.get() >= MAX_QUEUED_REQUESTS)
+    {
+      pauseReading();
+    }
+
+    return (! isDeregistered());
+  }
+
+
+
+  /**
+   * Decodes as many complete LDAP messages as are available in the read buffer
+   * and queues them for processing.  The buffer must be ready for reading, and
+   * its position will be advanced past each message that is decoded.
+   *
+   * @return  The minimum size that the buffer must have in order to hold the
+   *          next incomplete message, or zero if that is not yet known.
+   *
+   * @throws  LDAPException  If a problem occurs while decoding a message.
+   */
+  private int decodeMessages()
+          throws LDAPException
+  {
+    while (readBuffer.remaining() >= 2)
+    {
+      final int startPos = readBuffer.position();
+      final int firstLengthByte = readBuffer.get(startPos + 1) & 0xFF;
+
+      final int headerLength;
+      final int valueLength;
+      if ((firstLengthByte & 0x80) == 0x00)
+      {
+        headerLength = 2;
+        valueLength = firstLengthByte;
+      }
+      else
+      {
+        final int numLengthBytes = firstLengthByte & 0x7F;
+        if ((numLengthBytes < 1) || (numLengthBytes > 4))
+        {
+          throw new LDAPException(ResultCode.DECODING_ERROR,
+               ERR_LISTENER_CHANNEL_READER_LENGTH_TOO_LONG.get(
+                    numLengthBytes));
+        }
+
+        headerLength = 2 + numLengthBytes;
+        if (readBuffer.remaining() < headerLength)
+        {
+          return headerLength;
+        }
+
+        int length = 0;
+        for (int i=0; i < numLengthBytes; i++)
+        {
+          length = (length << 8) | (readBuffer.get(startPos + 2 + i) & 0xFF);
+        }
+        valueLength = length;
+      }
+
+      // Also reject any length that can't be combined with the header without
+      // overflowing, which is possible if there isn't a maximum message size.
+      if ((valueLength < 0) || (valueLength > maxMessageSize) ||
+          (valueLength > (Integer.MAX_VALUE - headerLength)))
+      {
+        throw new LDAPException(ResultCode.DECODING_ERROR,
+             ERR_LISTENER_CHANNEL_READER_LENGTH_EXCEEDS_MAX.get(valueLength,
+                  maxMessageSize));
+      }
+
+      final int messageLength = headerLength + valueLength;
+      if (readBuffer.remaining() < messageLength)
+      {
+        return messageLength;
+      }
+
+      // The message bytes are only needed until the request has been decoded,
+      // since the decoded request never references them.
+      final byte[] messageBytes;
+      if (allocator == null)
+      {
+        messageBytes = new byte[messageLength];
+      }
+      else
+      {
+        messageBytes = allocator.allocate(messageLength);
+      }
+
+      final LDAPMessage requestMessage;
+      try
+      {
+        readBuffer.get(messageBytes, 0, messageLength);
+
+        final ASN1StreamReader asn1StreamReader = new ASN1StreamReader(
+             new ByteArrayInputStream(messageBytes, 0, messageLength), 0);
+        asn1StreamReader.setBufferAllocator(allocator);
+        requestMessage = LDAPMessage.readFrom(asn1StreamReader, false);
+      }
+      finally
+      {
+        if (allocator != null)
+        {
+          allocator.release(messageBytes);
+        }
+      }
+
+      queuedRequests.add(requestMessage);
+      numQueuedRequests.incrementAndGet();
+      scheduleProcessing();
+    }
+
+    return 0;
+  }
+
+
+
+  /**
+   * Stops reading from the channel until enough of the queued requests have
+   * been processed.  This should only be called by the selector thread.
+   */
+  private void pauseReading()
+  {
+    final SelectionKey key = selectionKey;
+    if ((key == null) || (! key.isValid()))
+    {
+      return;
+    }
+
+    if (readingPaused.compareAndSet(false, true))
+    {
+      key.interestOps(0);
+
+      // A worker thread may have drained the queue before reading was paused,
+      // in which case it will not have seen that it needed to resume reading.
+      if (numQueuedRequests.get() < MAX_QUEUED_REQUESTS)
+      {
+        resumeReading();
+      }
+    }
+  }
+
+
+
+  /**
+   * Resumes reading from the channel if it had been paused.
+   */
+  private void resumeReading()
+  {
+    if (! readingPaused.compareAndSet(true, false))
+    {
+      return;
+    }
+
+    final SelectionKey key = selectionKey;
+    if ((key != null) && key.isValid())
+    {
+      try
+      {
+        key.interestOps(SelectionKey.OP_READ);
+        selectorThread.wakeup();
+      }
+      catch (final Exception e)
+      {
+        // The connection was closed while reading was paused.
+        Debug.debugException(e);
+      }
+    }
+  }
+
+
+
+  /**
+   * Indicates that the connection should be terminated with the provided
+   * exception once all previously-read requests have been processed.
+   *
+   * @param  cause  The exception that explains the reason for terminating the
+   *                connection.
+   */
+  private void terminate(@NotNull final LDAPException cause)
+  {
+    deregister();
+    terminationCause = cause;
+    scheduleProcessing();
+  }
+
+
+
+  /**
+   * Indicates that the connection should be terminated because the selector
+   * thread encountered an unexpected error while reading from it.
+   *
+   * @param  t  The unexpected error that was encountered.
+   */
+  void terminate(@NotNull final Throwable t)
+  {
+    terminate(new LDAPException(ResultCode.LOCAL_ERROR,
+         ERR_LISTENER_CHANNEL_READER_UNEXPECTED_ERROR.get(
+              StaticUtils.getExceptionMessage(t)),
+         t));
+  }
+
+
+
+  /**
+   * Ensures that a worker thread will process the queued requests for this
+   * connection, if one has not already been asked to do so.
+   */
+  private void scheduleProcessing()
+  {
+    if (! processingScheduled.compareAndSet(false, true))
+    {
+      return;
+    }
+
+    try
+    {
+      workerExecutor.execute(this);
+    }
+    catch (final RejectedExecutionException ree)
+    {
+      // This will only happen if the listener's worker threads have been shut
+      // down, so the connection can't be used any more.
+      Debug.debugException(ree);
+      deregister();
+      try
+      {
+        connection.close();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+    }
+  }
+
+
+
+  /**
+   * Processes the queued requests for this connection, one at a time and in
+   * the order that they were read.  This should only be invoked by a worker
+   * thread.
+   */
+  @Override()
+  public void run()
+  {
+    int numProcessed = 0;
+    while (true)
+    {
+      final LDAPMessage requestMessage = queuedRequests.poll();
+      if (requestMessage == null)
+      {
+        final LDAPException cause = terminationCause;
+        if (cause != null)
+        {
+          connection.close(cause);
+          return;
+        }
+
+        if (endOfInput)
+        {
+          deregister();
+          try
+          {
+            connection.close();
+          }
+          catch (final IOException ioe)
+          {
+            Debug.debugException(ioe);
+          }
+          return;
+        }
+
+        // Make sure that nothing was queued after we found the queue empty
+        // but before we indicated that processing was no longer scheduled.
+        processingScheduled.set(false);
+        if (queuedRequests.isEmpty() && (terminationCause == null) &&
+             (! endOfInput))
+        {
+          return;
+        }
+
+        if (! processingScheduled.compareAndSet(false, true))
+        {
+          return;
+        }
+
+        continue;
+      }
+
+      if (numQueuedRequests.decrementAndGet() < MAX_QUEUED_REQUESTS)
+      {
+        resumeReading();
+      }
+
+      if (! connection.processRequest(requestMessage))
+      {
+        deregister();
+        return;
+      }
+
+      if (detached)
+      {
+        // The connection has been converted to use TLS, and it will use its
+        // own thread to read any subsequent requests.
+        if (! connection.getSocket().isClosed())
+        {
+          connection.startReaderThread();
+        }
+        return;
+      }
+
+      numProcessed++;
+      if ((numProcessed >= MAX_REQUESTS_PER_TASK) &&
+           (! queuedRequests.isEmpty()))
+      {
+        try
+        {
+          workerExecutor.execute(this);
+          return;
+        }
+        catch (final RejectedExecutionException ree)
+        {
+          Debug.debugException(ree);
+          numProcessed = 0;
+        }
+      }
+    }
+  }
+
+
+
+  /**
+   * Creates a new buffer with at least the specified capacity that contains
+   * the data from the provided buffer, which must be ready for writing.
+   *
+   * @param  buffer       The buffer to be expanded.
+   * @param  minCapacity  The minimum capacity for the new buffer.
+   *
+   * @return  The new buffer, ready for writing.
+   */
+  @NotNull()
+  private static ByteBuffer expand(@NotNull final ByteBuffer buffer,
+                                   final int minCapacity)
+  {
+    final int newCapacity = Math.max(minCapacity, (buffer.capacity() * 2));
+    final ByteBuffer newBuffer = ByteBuffer.allocate(newCapacity);
+    buffer.flip();
+    newBuffer.put(buffer);
+    return newBuffer;
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this channel reader.
+   *
+   * @return  A string representation of this channel reader.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    return "LDAPListenerChannelReader(connectionID=" +
+         connection.getConnectionID() + ", channel=" + channel + ')';
+  }
+}
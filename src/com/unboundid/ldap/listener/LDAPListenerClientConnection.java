@@ -41,10 +41,14 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.Socket;
+import java.nio.channels.SocketChannel;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
 
@@ -65,6 +69,7 @@ import com.unboundid.ldap.protocol.SearchResultReferenceProtocolOp;
 import com.unboundid.ldap.sdk.Control;
 import com.unboundid.ldap.sdk.Entry;
 import com.unboundid.ldap.sdk.ExtendedResult;
+import com.unboundid.ldap.sdk.InternalSDKHelper;
 import com.unboundid.ldap.sdk.LDAPConnectionOptions;
 import com.unboundid.ldap.sdk.LDAPException;
 import com.unboundid.ldap.sdk.LDAPRuntimeException;
@@ -79,6 +84,7 @@ import com.unboundid.util.StaticUtils;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 import com.unboundid.util.Validator;
+import com.unboundid.util.VirtualThreadSupport;
 
 import static com.unboundid.ldap.listener.ListenerMessages.*;
 
@@ -90,7 +96,11 @@ import static com.unboundid.ldap.listener.ListenerMessages.*;
  * be created independently if they were accepted in some other way.  Each
  * connection has its own thread that will be used to read requests from the
  * client, and connections created outside of an {@code LDAPListener} instance,
- * then the thread must be explicitly started.
+ * then the thread must be explicitly started.  The exception is a connection
+ * accepted by a listener that is configured to use selector threads, for which
+ * requests will be read by one of the listener's selector threads and
+ * processed by one of its worker threads, and the connection's own thread will
+ * only be started if the connection is converted to use TLS.
  */
 @ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
 public final class LDAPListenerClientConnection
@@ -104,16 +114,39 @@ public final class LDAPListenerClientConnection
 
 
 
+  /**
+   * The minimum length in bytes for values that the response buffer will
+   * reference rather than copy, so that large values (like a jpegPhoto value in
+   * a search result entry) are written to the client directly from the arrays
+   * that hold them.
+   */
+  private static final int MIN_REFERENCED_VALUE_LENGTH = 4096;
+
+
+
   // The buffer used to hold responses to be sent to the client.
   @NotNull private final ASN1Buffer asn1Buffer;
 
-  // The ASN.1 stream reader used to read requests from the client.
-  @NotNull private volatile ASN1StreamReader asn1Reader;
+  // The lock used to ensure that only one response is written to the client at
+  // a time, and that no response is written while the connection is being
+  // converted to use TLS or closed.  A lock is used rather than synchronization
+  // so that a virtual thread that blocks while writing does not tie up its
+  // carrier.
+  @NotNull private final ReentrantLock sendLock;
+
+  // The ASN.1 stream reader used to read requests from the client.  It will be
+  // null for a connection whose requests are read by a selector thread until
+  // that connection has been converted to use TLS.
+  @Nullable private volatile ASN1StreamReader asn1Reader;
 
   // Indicates whether to suppress the next call to sendMessage to send a
   // response to the client.
   @NotNull private final AtomicBoolean suppressNextResponse;
 
+  // The message ID of the request whose response will be sent later rather
+  // than when it is returned by the request handler, or -1 if there is none.
+  @NotNull private final AtomicInteger deferredResponseMessageID;
+
   // The set of intermediate response transformers for this connection.
   @NotNull private final CopyOnWriteArrayList<IntermediateResponseTransformer>
        intermediateResponseTransformers;
@@ -132,6 +165,15 @@ public final class LDAPListenerClientConnection
   // The exception handler to use for this connection, if any.
   @Nullable private final LDAPListenerExceptionHandler exceptionHandler;
 
+  // The channel reader used to read requests from the client with a selector
+  // thread, if any.
+  @Nullable private final LDAPListenerChannelReader channelReader;
+
+  // Indicates whether responses should be written to the client with
+  // gathering writes to the socket channel.  This will be true only for a
+  // connection with a channel reader that has not been converted to use TLS.
+  private volatile boolean writeToChannel;
+
   // The request handler to use for this connection.
   @NotNull private final LDAPListenerRequestHandler requestHandler;
 
@@ -176,6 +218,99 @@ public final class LDAPListenerClientConnection
               @NotNull final LDAPListenerRequestHandler requestHandler,
               @Nullable final LDAPListenerExceptionHandler exceptionHandler)
          throws LDAPException
+  {
+    this(listener, socket, null, null, null, requestHandler, exceptionHandler);
+  }
+
+
+
+  /**
+   * Creates a new LDAP listener client connection that will communicate with
+   * the client using the provided socket channel, and whose requests will be
+   * read by a selector thread rather than the connection's own thread.  The
+   * connection's channel reader must be registered with the selector thread
+   * (using the {@code registerWithSelector} method) to start reading requests
+   * from the client.
+   *
+   * @param  listener          The listener that accepted this client
+   *                           connection.  It must not be {@code null}.
+   * @param  channel           The socket channel that may be used to
+   *                           communicate with the client.  It must not be
+   *                           {@code null}.
+   * @param  selectorThread    The selector thread that will be used to read
+   *                           requests from the client.  It must not be
+   *                           {@code null}.
+   * @param  workerExecutor    The executor that will be used to process
+   *                           requests read from the client.  It must not be
+   *                           {@code null}.
+   * @param  requestHandler    The request handler that will be used to process
+   *                           requests read from the client.  It must not be
+   *                           {@code null}.
+   * @param  exceptionHandler  The disconnect handler to be notified when this
+   *                           connection is closed.  It may be {@code null} if
+   *                           no disconnect handler should be used.
+   *
+   * @throws  LDAPException  If a problem occurs while preparing this client
+   *                         connection for use.  If this is thrown, then the
+   *                         provided channel will be closed.
+   */
+  LDAPListenerClientConnection(@NotNull final LDAPListener listener,
+       @NotNull final SocketChannel channel,
+       @NotNull final LDAPListenerSelectorThread selectorThread,
+       @NotNull final ExecutorService workerExecutor,
+       @NotNull final LDAPListenerRequestHandler requestHandler,
+       @Nullable final LDAPListenerExceptionHandler exceptionHandler)
+       throws LDAPException
+  {
+    this(listener, channel.socket(), channel, selectorThread, workerExecutor,
+         requestHandler, exceptionHandler);
+  }
+
+
+
+  /**
+   * Creates a new LDAP listener client connection with the provided
+   * information.
+   *
+   * @param  listener          The listener that accepted this client
+   *                           connection.  It may be {@code null} if this
+   *                           connection was not accepted by a listener, but
+   *                           it must not be {@code null} if a channel is
+   *                           provided.
+   * @param  socket            The socket that may be used to communicate with
+   *                           the client.  It must not be {@code null}.
+   * @param  channel           The socket channel with which the socket is
+   *                           associated, if requests should be read by a
+   *                           selector thread.  It may be {@code null} if the
+   *                           connection should use its own thread to read
+   *                           requests.
+   * @param  selectorThread    The selector thread that will be used to read
+   *                           requests from the client.  It must be
+   *                           {@code null} if and only if the channel is
+   *                           {@code null}.
+   * @param  workerExecutor    The executor that will be used to process
+   *                           requests read from the client.  It must be
+   *                           {@code null} if and only if the channel is
+   *                           {@code null}.
+   * @param  requestHandler    The request handler that will be used to process
+   *                           requests read from the client.  It must not be
+   *                           {@code null}.
+   * @param  exceptionHandler  The disconnect handler to be notified when this
+   *                           connection is closed.  It may be {@code null} if
+   *                           no disconnect handler should be used.
+   *
+   * @throws  LDAPException  If a problem occurs while preparing this client
+   *                         connection for use.  If this is thrown, then the
+   *                         provided socket will be closed.
+   */
+  private LDAPListenerClientConnection(@Nullable final LDAPListener listener,
+               @NotNull final Socket socket,
+               @Nullable final SocketChannel channel,
+               @Nullable final LDAPListenerSelectorThread selectorThread,
+               @Nullable final ExecutorService workerExecutor,
+               @NotNull final LDAPListenerRequestHandler requestHandler,
+               @Nullable final LDAPListenerExceptionHandler exceptionHandler)
+          throws LDAPException
   {
     Validator.ensureNotNull(socket, requestHandler);
 
@@ -189,7 +324,11 @@ public final class LDAPListenerClientConnection
     this.exceptionHandler = exceptionHandler;
 
     asn1Buffer           = new ASN1Buffer();
+    sendLock             = new ReentrantLock();
     suppressNextResponse = new AtomicBoolean(false);
+    deferredResponseMessageID = new AtomicInteger(-1);
+
+    asn1Buffer.setMinReferencedValueLength(MIN_REFERENCED_VALUE_LENGTH);
 
     intermediateResponseTransformers = new CopyOnWriteArrayList<>();
     searchEntryTransformers = new CopyOnWriteArrayList<>();
@@ -248,7 +387,14 @@ public final class LDAPListenerClientConnection
       }
 
       final int maxMessageSizeBytes;
-      if (listener == null)
+      if (channel != null)
+      {
+        // Requests will be read by the channel reader, which can only be used
+        // with a non-blocking channel.
+        channel.configureBlocking(false);
+        asn1Reader = null;
+      }
+      else if (listener == null)
       {
         asn1Reader = new ASN1StreamReader(socket.getInputStream());
       }
@@ -256,6 +402,8 @@ public final class LDAPListenerClientConnection
       {
         asn1Reader = new ASN1StreamReader(socket.getInputStream(),
              listener.getConfig().getMaxMessageSizeBytes());
+        asn1Reader.setBufferAllocator(
+             listener.getConfig().getReadBufferAllocator());
       }
 
     }
@@ -280,7 +428,15 @@ public final class LDAPListenerClientConnection
 
     try
     {
-      outputStream = socket.getOutputStream();
+      if (channel == null)
+      {
+        outputStream = socket.getOutputStream();
+      }
+      else
+      {
+        outputStream = InternalSDKHelper.createSocketChannelOutputStream(
+             channel);
+      }
     }
     catch (final IOException ioe)
     {
@@ -288,7 +444,10 @@ public final class LDAPListenerClientConnection
 
       try
       {
-        asn1Reader.close();
+        if (asn1Reader != null)
+        {
+          asn1Reader.close();
+        }
       }
       catch (final Exception e)
       {
@@ -310,6 +469,20 @@ public final class LDAPListenerClientConnection
            ioe);
     }
 
+    if (channel == null)
+    {
+      channelReader = null;
+      writeToChannel = false;
+    }
+    else
+    {
+      channelReader = new LDAPListenerChannelReader(this, channel,
+           selectorThread, workerExecutor,
+           listener.getConfig().getMaxMessageSizeBytes(),
+           listener.getConfig().getReadBufferAllocator());
+      writeToChannel = true;
+    }
+
     try
     {
       this.requestHandler = requestHandler.newInstance(this);
@@ -320,7 +493,10 @@ public final class LDAPListenerClientConnection
 
       try
       {
-        asn1Reader.close();
+        if (asn1Reader != null)
+        {
+          asn1Reader.close();
+        }
       }
       catch (final Exception e)
       {
@@ -357,37 +533,102 @@ public final class LDAPListenerClientConnection
    * @throws  IOException  If a problem occurs while closing the socket.
    */
   @Override()
-  public synchronized void close()
+  public void close()
          throws IOException
   {
+    sendLock.lock();
     try
     {
-      requestHandler.closeInstance();
-    }
-    catch (final Exception e)
-    {
-      Debug.debugException(e);
-    }
+      if (channelReader != null)
+      {
+        channelReader.deregister();
+      }
 
-    try
-    {
-      asn1Reader.close();
+      try
+      {
+        requestHandler.closeInstance();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+
+      try
+      {
+        if (asn1Reader != null)
+        {
+          asn1Reader.close();
+        }
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+
+      try
+      {
+        outputStream.close();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+
+      try
+      {
+        socket.close();
+      }
+      finally
+      {
+        // A connection whose requests are read by a selector thread doesn't
+        // have a thread of its own to tell the listener that it has been
+        // closed.
+        if ((channelReader != null) && (listener != null))
+        {
+          listener.connectionClosed(this);
+        }
+      }
     }
-    catch (final Exception e)
+    finally
     {
-      Debug.debugException(e);
+      sendLock.unlock();
     }
+  }
 
-    try
+
+
+  /**
+   * Registers this connection's channel reader with its selector thread so
+   * that it will start reading requests from the client.  This should only be
+   * called for a connection created with a socket channel, and only after that
+   * connection has been made available to the listener.
+   */
+  void registerWithSelector()
+  {
+    if (channelReader != null)
     {
-      outputStream.close();
+      channelReader.register();
     }
-    catch (final Exception e)
+  }
+
+
+
+  /**
+   * Starts the thread that will read requests from the client.  If the
+   * associated listener is configured to use virtual threads and the JVM
+   * supports them, then a virtual thread will be started to run this
+   * connection's {@link #run} method.  Otherwise, this connection's own thread
+   * will be started.
+   */
+  void startReaderThread()
+  {
+    if ((listener != null) && listener.getConfig().useVirtualThreads() &&
+        (VirtualThreadSupport.startVirtualThread(getName(), this) != null))
     {
-      Debug.debugException(e);
+      return;
     }
 
-    socket.close();
+    start();
   }
 
 
@@ -481,210 +722,236 @@ public final class LDAPListenerClientConnection
           return;
         }
 
-        try
+        if (! processRequest(requestMessage))
         {
-          final int messageID = requestMessage.getMessageID();
-          final List<Control> controls = requestMessage.getControls();
+          return;
+        }
+      }
+    }
+    finally
+    {
+      if (listener != null)
+      {
+        listener.connectionClosed(this);
+      }
+    }
+  }
+
+
 
-          LDAPMessage responseMessage;
-          switch (requestMessage.getProtocolOpType())
+  /**
+   * Hands the provided request to the request handler for processing and sends
+   * the response (if any) to the client.  This is used both by the connection's
+   * own thread and by the worker threads that process requests read by a
+   * selector thread.
+   *
+   * @param  requestMessage  The request to be processed.
+   *
+   * @return  {@code true} if the connection should continue to be used to read
+   *          requests from the client, or {@code false} if the connection has
+   *          been closed.
+   */
+  boolean processRequest(@NotNull final LDAPMessage requestMessage)
+  {
+    try
+    {
+      final int messageID = requestMessage.getMessageID();
+      final List<Control> controls = requestMessage.getControls();
+
+      LDAPMessage responseMessage;
+      switch (requestMessage.getProtocolOpType())
+      {
+        case LDAPMessage.PROTOCOL_OP_TYPE_ABANDON_REQUEST:
+          requestHandler.processAbandonRequest(messageID,
+               requestMessage.getAbandonRequestProtocolOp(), controls);
+          responseMessage = null;
+          break;
+
+        case LDAPMessage.PROTOCOL_OP_TYPE_ADD_REQUEST:
+          try
           {
-            case LDAPMessage.PROTOCOL_OP_TYPE_ABANDON_REQUEST:
-              requestHandler.processAbandonRequest(messageID,
-                   requestMessage.getAbandonRequestProtocolOp(), controls);
-              responseMessage = null;
-              break;
-
-            case LDAPMessage.PROTOCOL_OP_TYPE_ADD_REQUEST:
-              try
-              {
-                responseMessage = requestHandler.processAddRequest(messageID,
-                     requestMessage.getAddRequestProtocolOp(), controls);
-              }
-              catch (final Exception e)
-              {
-                Debug.debugException(e);
-                responseMessage = new LDAPMessage(messageID,
-                     new AddResponseProtocolOp(
-                          ResultCode.OTHER_INT_VALUE, null,
-                          ERR_CONN_REQUEST_HANDLER_FAILURE.get(
-                               StaticUtils.getExceptionMessage(e)),
-                          null));
-              }
-              break;
-
-            case LDAPMessage.PROTOCOL_OP_TYPE_BIND_REQUEST:
-              try
-              {
-                responseMessage = requestHandler.processBindRequest(messageID,
-                     requestMessage.getBindRequestProtocolOp(), controls);
-              }
-              catch (final Exception e)
-              {
-                Debug.debugException(e);
-                responseMessage = new LDAPMessage(messageID,
-                     new BindResponseProtocolOp(
-                          ResultCode.OTHER_INT_VALUE, null,
-                          ERR_CONN_REQUEST_HANDLER_FAILURE.get(
-                               StaticUtils.getExceptionMessage(e)),
-                          null, null));
-              }
-              break;
-
-            case LDAPMessage.PROTOCOL_OP_TYPE_COMPARE_REQUEST:
-              try
-              {
-                responseMessage = requestHandler.processCompareRequest(
-                     messageID, requestMessage.getCompareRequestProtocolOp(),
-                     controls);
-              }
-              catch (final Exception e)
-              {
-                Debug.debugException(e);
-                responseMessage = new LDAPMessage(messageID,
-                     new CompareResponseProtocolOp(
-                          ResultCode.OTHER_INT_VALUE, null,
-                          ERR_CONN_REQUEST_HANDLER_FAILURE.get(
-                               StaticUtils.getExceptionMessage(e)),
-                          null));
-              }
-              break;
-
-            case LDAPMessage.PROTOCOL_OP_TYPE_DELETE_REQUEST:
-              try
-              {
-                responseMessage = requestHandler.processDeleteRequest(messageID,
-                     requestMessage.getDeleteRequestProtocolOp(), controls);
-              }
-              catch (final Exception e)
-              {
-                Debug.debugException(e);
-                responseMessage = new LDAPMessage(messageID,
-                     new DeleteResponseProtocolOp(
-                          ResultCode.OTHER_INT_VALUE, null,
-                          ERR_CONN_REQUEST_HANDLER_FAILURE.get(
-                               StaticUtils.getExceptionMessage(e)),
-                          null));
-              }
-              break;
-
-            case LDAPMessage.PROTOCOL_OP_TYPE_EXTENDED_REQUEST:
-              try
-              {
-                responseMessage = requestHandler.processExtendedRequest(
-                     messageID, requestMessage.getExtendedRequestProtocolOp(),
-                     controls);
-              }
-              catch (final Exception e)
-              {
-                Debug.debugException(e);
-                responseMessage = new LDAPMessage(messageID,
-                     new ExtendedResponseProtocolOp(
-                          ResultCode.OTHER_INT_VALUE, null,
-                          ERR_CONN_REQUEST_HANDLER_FAILURE.get(
-                               StaticUtils.getExceptionMessage(e)),
-                          null, null, null));
-              }
-              break;
-
-            case LDAPMessage.PROTOCOL_OP_TYPE_MODIFY_REQUEST:
-              try
-              {
-                responseMessage = requestHandler.processModifyRequest(messageID,
-                     requestMessage.getModifyRequestProtocolOp(), controls);
-              }
-              catch (final Exception e)
-              {
-                Debug.debugException(e);
-                responseMessage = new LDAPMessage(messageID,
-                     new ModifyResponseProtocolOp(
-                          ResultCode.OTHER_INT_VALUE, null,
-                          ERR_CONN_REQUEST_HANDLER_FAILURE.get(
-                               StaticUtils.getExceptionMessage(e)),
-                          null));
-              }
-              break;
-
-            case LDAPMessage.PROTOCOL_OP_TYPE_MODIFY_DN_REQUEST:
-              try
-              {
-                responseMessage = requestHandler.processModifyDNRequest(
-                     messageID, requestMessage.getModifyDNRequestProtocolOp(),
-                     controls);
-              }
-              catch (final Exception e)
-              {
-                Debug.debugException(e);
-                responseMessage = new LDAPMessage(messageID,
-                     new ModifyDNResponseProtocolOp(
-                          ResultCode.OTHER_INT_VALUE, null,
-                          ERR_CONN_REQUEST_HANDLER_FAILURE.get(
-                               StaticUtils.getExceptionMessage(e)),
-                          null));
-              }
-              break;
-
-            case LDAPMessage.PROTOCOL_OP_TYPE_SEARCH_REQUEST:
-              try
-              {
-                responseMessage = requestHandler.processSearchRequest(messageID,
-                     requestMessage.getSearchRequestProtocolOp(), controls);
-              }
-              catch (final Exception e)
-              {
-                Debug.debugException(e);
-                responseMessage = new LDAPMessage(messageID,
-                     new SearchResultDoneProtocolOp(
-                          ResultCode.OTHER_INT_VALUE, null,
-                          ERR_CONN_REQUEST_HANDLER_FAILURE.get(
-                               StaticUtils.getExceptionMessage(e)),
-                          null));
-              }
-              break;
-
-            case LDAPMessage.PROTOCOL_OP_TYPE_UNBIND_REQUEST:
-              requestHandler.processUnbindRequest(messageID,
-                   requestMessage.getUnbindRequestProtocolOp(), controls);
-              close();
-              return;
+            responseMessage = requestHandler.processAddRequest(messageID,
+                 requestMessage.getAddRequestProtocolOp(), controls);
+          }
+          catch (final Exception e)
+          {
+            Debug.debugException(e);
+            responseMessage = new LDAPMessage(messageID,
+                 new AddResponseProtocolOp(
+                      ResultCode.OTHER_INT_VALUE, null,
+                      ERR_CONN_REQUEST_HANDLER_FAILURE.get(
+                           StaticUtils.getExceptionMessage(e)),
+                      null));
+          }
+          break;
 
-            default:
-              close(new LDAPException(ResultCode.PROTOCOL_ERROR,
-                   ERR_CONN_INVALID_PROTOCOL_OP_TYPE.get(StaticUtils.toHex(
-                        requestMessage.getProtocolOpType()))));
-              return;
+        case LDAPMessage.PROTOCOL_OP_TYPE_BIND_REQUEST:
+          try
+          {
+            responseMessage = requestHandler.processBindRequest(messageID,
+                 requestMessage.getBindRequestProtocolOp(), controls);
           }
+          catch (final Exception e)
+          {
+            Debug.debugException(e);
+            responseMessage = new LDAPMessage(messageID,
+                 new BindResponseProtocolOp(
+                      ResultCode.OTHER_INT_VALUE, null,
+                      ERR_CONN_REQUEST_HANDLER_FAILURE.get(
+                           StaticUtils.getExceptionMessage(e)),
+                      null, null));
+          }
+          break;
 
-          if (responseMessage != null)
+        case LDAPMessage.PROTOCOL_OP_TYPE_COMPARE_REQUEST:
+          try
           {
-            try
-            {
-              sendMessage(responseMessage);
-            }
-            catch (final LDAPException le)
-            {
-              Debug.debugException(le);
-              close(le);
-              return;
-            }
+            responseMessage = requestHandler.processCompareRequest(
+                 messageID, requestMessage.getCompareRequestProtocolOp(),
+                 controls);
+          }
+          catch (final Exception e)
+          {
+            Debug.debugException(e);
+            responseMessage = new LDAPMessage(messageID,
+                 new CompareResponseProtocolOp(
+                      ResultCode.OTHER_INT_VALUE, null,
+                      ERR_CONN_REQUEST_HANDLER_FAILURE.get(
+                           StaticUtils.getExceptionMessage(e)),
+                      null));
+          }
+          break;
+
+        case LDAPMessage.PROTOCOL_OP_TYPE_DELETE_REQUEST:
+          try
+          {
+            responseMessage = requestHandler.processDeleteRequest(messageID,
+                 requestMessage.getDeleteRequestProtocolOp(), controls);
+          }
+          catch (final Exception e)
+          {
+            Debug.debugException(e);
+            responseMessage = new LDAPMessage(messageID,
+                 new DeleteResponseProtocolOp(
+                      ResultCode.OTHER_INT_VALUE, null,
+                      ERR_CONN_REQUEST_HANDLER_FAILURE.get(
+                           StaticUtils.getExceptionMessage(e)),
+                      null));
+          }
+          break;
+
+        case LDAPMessage.PROTOCOL_OP_TYPE_EXTENDED_REQUEST:
+          try
+          {
+            responseMessage = requestHandler.processExtendedRequest(
+                 messageID, requestMessage.getExtendedRequestProtocolOp(),
+                 controls);
+          }
+          catch (final Exception e)
+          {
+            Debug.debugException(e);
+            responseMessage = new LDAPMessage(messageID,
+                 new ExtendedResponseProtocolOp(
+                      ResultCode.OTHER_INT_VALUE, null,
+                      ERR_CONN_REQUEST_HANDLER_FAILURE.get(
+                           StaticUtils.getExceptionMessage(e)),
+                      null, null, null));
+          }
+          break;
+
+        case LDAPMessage.PROTOCOL_OP_TYPE_MODIFY_REQUEST:
+          try
+          {
+            responseMessage = requestHandler.processModifyRequest(messageID,
+                 requestMessage.getModifyRequestProtocolOp(), controls);
+          }
+          catch (final Exception e)
+          {
+            Debug.debugException(e);
+            responseMessage = new LDAPMessage(messageID,
+                 new ModifyResponseProtocolOp(
+                      ResultCode.OTHER_INT_VALUE, null,
+                      ERR_CONN_REQUEST_HANDLER_FAILURE.get(
+                           StaticUtils.getExceptionMessage(e)),
+                      null));
+          }
+          break;
+
+        case LDAPMessage.PROTOCOL_OP_TYPE_MODIFY_DN_REQUEST:
+          try
+          {
+            responseMessage = requestHandler.processModifyDNRequest(
+                 messageID, requestMessage.getModifyDNRequestProtocolOp(),
+                 controls);
+          }
+          catch (final Exception e)
+          {
+            Debug.debugException(e);
+            responseMessage = new LDAPMessage(messageID,
+                 new ModifyDNResponseProtocolOp(
+                      ResultCode.OTHER_INT_VALUE, null,
+                      ERR_CONN_REQUEST_HANDLER_FAILURE.get(
+                           StaticUtils.getExceptionMessage(e)),
+                      null));
           }
+          break;
+
+        case LDAPMessage.PROTOCOL_OP_TYPE_SEARCH_REQUEST:
+          try
+          {
+            responseMessage = requestHandler.processSearchRequest(messageID,
+                 requestMessage.getSearchRequestProtocolOp(), controls);
+          }
+          catch (final Exception e)
+          {
+            Debug.debugException(e);
+            responseMessage = new LDAPMessage(messageID,
+                 new SearchResultDoneProtocolOp(
+                      ResultCode.OTHER_INT_VALUE, null,
+                      ERR_CONN_REQUEST_HANDLER_FAILURE.get(
+                           StaticUtils.getExceptionMessage(e)),
+                      null));
+          }
+          break;
+
+        case LDAPMessage.PROTOCOL_OP_TYPE_UNBIND_REQUEST:
+          requestHandler.processUnbindRequest(messageID,
+               requestMessage.getUnbindRequestProtocolOp(), controls);
+          close();
+          return false;
+
+        default:
+          close(new LDAPException(ResultCode.PROTOCOL_ERROR,
+               ERR_CONN_INVALID_PROTOCOL_OP_TYPE.get(StaticUtils.toHex(
+                    requestMessage.getProtocolOpType()))));
+          return false;
+      }
+
+      if ((responseMessage != null) &&
+          (! deferredResponseMessageID.compareAndSet(messageID, -1)))
+      {
+        try
+        {
+          sendMessage(responseMessage);
         }
-        catch (final Throwable t)
+        catch (final LDAPException le)
         {
-          close(new LDAPException(ResultCode.LOCAL_ERROR,
-               ERR_CONN_EXCEPTION_IN_REQUEST_HANDLER.get(
-                    String.valueOf(requestMessage),
-                    StaticUtils.getExceptionMessage(t))));
-          StaticUtils.throwErrorOrRuntimeException(t);
+          Debug.debugException(le);
+          close(le);
+          return false;
         }
       }
+
+      return true;
     }
-    finally
+    catch (final Throwable t)
     {
-      if (listener != null)
-      {
-        listener.connectionClosed(this);
-      }
+      close(new LDAPException(ResultCode.LOCAL_ERROR,
+           ERR_CONN_EXCEPTION_IN_REQUEST_HANDLER.get(
+                String.valueOf(requestMessage),
+                StaticUtils.getExceptionMessage(t))));
+      StaticUtils.throwErrorOrRuntimeException(t);
+      return false;
     }
   }
 
@@ -698,7 +965,32 @@ public final class LDAPListenerClientConnection
    * @throws  LDAPException  If a problem occurs while attempting to send the
    *                         response to the client.
    */
-  private synchronized void sendMessage(@NotNull final LDAPMessage message)
+  private void sendMessage(@NotNull final LDAPMessage message)
+          throws LDAPException
+  {
+    sendLock.lock();
+    try
+    {
+      sendMessageInternal(message);
+    }
+    finally
+    {
+      sendLock.unlock();
+    }
+  }
+
+
+
+  /**
+   * Sends the provided message to the client.  The caller must hold the send
+   * lock.
+   *
+   * @param  message  The message to be written to the client.
+   *
+   * @throws  LDAPException  If a problem occurs while attempting to send the
+   *                         response to the client.
+   */
+  private void sendMessageInternal(@NotNull final LDAPMessage message)
           throws LDAPException
   {
     // If we should suppress this response (which will only be because the
@@ -723,7 +1015,15 @@ public final class LDAPListenerClientConnection
 
     try
     {
-      asn1Buffer.writeTo(outputStream);
+      if (writeToChannel)
+      {
+        InternalSDKHelper.writeToSocketChannel(outputStream,
+             asn1Buffer.asByteBuffers());
+      }
+      else
+      {
+        asn1Buffer.writeTo(outputStream);
+      }
     }
     catch (final IOException ioe)
     {
@@ -994,6 +1294,55 @@ public final class LDAPListenerClientConnection
 
 
 
+  /**
+   * Sends a search result done message to the client with the provided
+   * information.  This should only be used for a search whose response was
+   * deferred with the {@link #deferResponse} method.
+   *
+   * @param  messageID   The message ID for the LDAP message to send to the
+   *                     client.  It must match the message ID of the associated
+   *                     search request.
+   * @param  protocolOp  The search result done protocol op to include in the
+   *                     LDAP message to send to the client.  It must not be
+   *                     {@code null}.
+   * @param  controls    The set of controls to include in the response message.
+   *                     It may be empty or {@code null} if no controls should
+   *                     be included.
+   *
+   * @throws  LDAPException  If a problem occurs while attempting to send the
+   *                         provided response message.  If an exception is
+   *                         thrown, then the client connection will have been
+   *                         terminated.
+   */
+  public void sendSearchResultDone(final int messageID,
+                   @NotNull final SearchResultDoneProtocolOp protocolOp,
+                   @Nullable final Control... controls)
+         throws LDAPException
+  {
+    sendMessage(new LDAPMessage(messageID, protocolOp, controls));
+  }
+
+
+
+  /**
+   * Indicates that the response returned by the request handler for the
+   * request with the specified message ID should not be sent to the client,
+   * because the operation will remain active after the request handler returns
+   * and its result will be sent later (for example, using the
+   * {@link #sendSearchResultDone} method).  This must only be called by the
+   * request handler while it is processing the request with the given message
+   * ID.
+   *
+   * @param  messageID  The message ID of the request whose response should be
+   *                    deferred.
+   */
+  public void deferResponse(final int messageID)
+  {
+    deferredResponseMessageID.set(messageID);
+  }
+
+
+
   /**
    * Sends an unsolicited notification message to the client with the provided
    * extended result.
@@ -1078,7 +1427,7 @@ public final class LDAPListenerClientConnection
    *                         thrown, then the connection will have been closed.
    */
   @NotNull()
-  public synchronized OutputStream convertToTLS(
+  public OutputStream convertToTLS(
               @NotNull final SSLSocketFactory sslSocketFactory)
          throws LDAPException
   {
@@ -1120,11 +1469,53 @@ public final class LDAPListenerClientConnection
    *                         thrown, then the connection will have been closed.
    */
   @NotNull()
-  public synchronized OutputStream convertToTLS(
+  public OutputStream convertToTLS(
               @NotNull final SSLSocketFactory sslSocketFactory,
               final boolean requestClientCertificate,
               final boolean requireClientCertificate)
          throws LDAPException
+  {
+    sendLock.lock();
+    try
+    {
+      return convertToTLSInternal(sslSocketFactory, requestClientCertificate,
+           requireClientCertificate);
+    }
+    finally
+    {
+      sendLock.unlock();
+    }
+  }
+
+
+
+  /**
+   * Attempts to convert this unencrypted connection to one that uses TLS
+   * encryption.  The caller must hold the send lock.
+   *
+   * @param  sslSocketFactory          The SSL socket factory that will be used
+   *                                   to convert the existing {@code Socket} to
+   *                                   an {@code SSLSocket}.
+   * @param  requestClientCertificate  Indicates whether the listener should
+   *                                   request that the client present its own
+   *                                   certificate chain during TLS negotiation.
+   * @param  requireClientCertificate  Indicates whether the listener should
+   *                                   require that the client present its own
+   *                                   certificate chain during TLS negotiation.
+   *
+   * @return  An output stream that can be used to send a clear-text message to
+   *          the client (e.g., the StartTLS response message).
+   *
+   * @throws  LDAPException  If a problem is encountered while trying to convert
+   *                         the existing socket to an SSL socket.  If this is
+   *                         thrown, then the connection will have been closed.
+   */
+  @NotNull()
+  private OutputStream convertToTLSInternal(
+               @NotNull final SSLSocketFactory sslSocketFactory,
+               final boolean requestClientCertificate,
+               final boolean requireClientCertificate)
+          throws LDAPException
   {
     final OutputStream clearOutputStream = outputStream;
 
@@ -1135,10 +1526,26 @@ public final class LDAPListenerClientConnection
 
     try
     {
-      synchronized (sslSocketFactory)
+      // A TLS session can't be layered over a channel that is being read by a
+      // selector thread, so take it away from the selector.  The connection's
+      // own thread will be used to read any subsequent requests.
+      if (writeToChannel)
+      {
+        channelReader.detach();
+        writeToChannel = false;
+      }
+
+      final ReentrantLock factoryLock =
+           VirtualThreadSupport.getLock(sslSocketFactory);
+      factoryLock.lock();
+      try
       {
         socket = sslSocketFactory.createSocket(socket, hostname, port, true);
       }
+      finally
+      {
+        factoryLock.unlock();
+      }
 
       final SSLSocket sslSocket = (SSLSocket) socket;
       sslSocket.setUseClientMode(false);
@@ -1162,6 +1569,11 @@ public final class LDAPListenerClientConnection
 
       outputStream = socket.getOutputStream();
       asn1Reader = new ASN1StreamReader(socket.getInputStream());
+      if (listener != null)
+      {
+        asn1Reader.setBufferAllocator(
+             listener.getConfig().getReadBufferAllocator());
+      }
       suppressNextResponse.set(true);
       return clearOutputStream;
     }
@@ -40,6 +40,7 @@ package com.unboundid.ldap.listener;
 import java.net.InetAddress;
 import javax.net.ServerSocketFactory;
 
+import com.unboundid.asn1.ASN1BufferAllocator;
 import com.unboundid.ldap.sdk.LDAPConnectionOptions;
 import com.unboundid.util.Mutable;
 import com.unboundid.util.NotNull;
@@ -95,6 +96,10 @@ public final class LDAPListenerConfig
   // listener.
   private boolean useTCPNoDelay;
 
+  // Indicates whether to use virtual threads rather than platform threads to
+  // read and process requests from clients, if the JVM supports them.
+  private boolean useVirtualThreads;
+
   // The address on which to listen for client connections.
   @Nullable private InetAddress listenAddress;
 
@@ -111,12 +116,23 @@ public final class LDAPListenerConfig
   // accept.
   private int maxMessageSizeBytes;
 
+  // The number of selector threads to use to read requests from clients, or
+  // zero if each client connection should have its own thread.
+  private int numSelectorThreads;
+
+  // The number of worker threads to use to process requests read by the
+  // selector threads, or zero to use a default based on the number of CPUs.
+  private int numWorkerThreads;
+
   // The receive buffer size to use for sockets accepted by the listener.
   private int receiveBufferSize;
 
   // The send buffer size to use for sockets accepted by the listener.
   private int sendBufferSize;
 
+  // The allocator to use to obtain transient buffers while reading requests.
+  @Nullable private ASN1BufferAllocator readBufferAllocator;
+
   // The exception handler to use for the listener and associated connections.
   @Nullable private LDAPListenerExceptionHandler exceptionHandler;
 
@@ -155,13 +171,17 @@ public final class LDAPListenerConfig
     useLinger                = true;
     useReuseAddress          = true;
     useTCPNoDelay            = true;
+    useVirtualThreads        = false;
     lingerTimeout            = 5;
     listenAddress            = null;
     maxConnections           = 0;
     maxMessageSizeBytes      = DEFAULT_MAX_MESSAGE_SIZE_BYTES;
+    numSelectorThreads       = 0;
+    numWorkerThreads         = 0;
     receiveBufferSize        = 0;
     sendBufferSize           = 0;
     exceptionHandler         = null;
+    readBufferAllocator      = null;
     serverSocketFactory      = ServerSocketFactory.getDefault();
   }
 
@@ -482,6 +502,194 @@ public final class LDAPListenerConfig
 
 
 
+  /**
+   * Retrieves the number of selector threads that the listener should use to
+   * read requests from clients.  If this is greater than zero, then the
+   * listener will accept connections with a non-blocking server socket channel
+   * and will use this many threads to read requests from all client
+   * connections, handing each request off to a bounded pool of worker threads
+   * for processing.  Otherwise, each client connection will have its own
+   * thread that reads and processes requests.
+   *
+   * @return  The number of selector threads that the listener should use to
+   *          read requests from clients, or zero if each client connection
+   *          should have its own thread.
+   */
+  public int getNumSelectorThreads()
+  {
+    return numSelectorThreads;
+  }
+
+
+
+  /**
+   * Specifies the number of selector threads that the listener should use to
+   * read requests from clients.  If this is greater than zero, then the
+   * listener will accept connections with a non-blocking server socket channel
+   * and will use this many threads to read requests from all client
+   * connections, handing each request off to a bounded pool of worker threads
+   * (as configured with the {@link #setNumWorkerThreads} method) for
+   * processing.  This allows the listener to support a very large number of
+   * concurrent connections with a fixed number of threads.
+   * <BR><BR>
+   * Requests received on each connection will still be passed to the request
+   * handler one at a time and in the order that they were received, just as
+   * they are when each connection has its own thread.  Selector threads will
+   * only be used if the server socket factory is the JVM-default factory.  If
+   * a different factory (for example, one that creates SSL server sockets) is
+   * configured, then each client connection will have its own thread.
+   * Connections that use StartTLS will switch to having their own thread once
+   * TLS negotiation begins.
+   *
+   * @param  numSelectorThreads  The number of selector threads that the
+   *                             listener should use to read requests from
+   *                             clients.  A value that is less than or equal
+   *                             to zero indicates that each client connection
+   *                             should have its own thread.
+   */
+  public void setNumSelectorThreads(final int numSelectorThreads)
+  {
+    if (numSelectorThreads > 0)
+    {
+      this.numSelectorThreads = numSelectorThreads;
+    }
+    else
+    {
+      this.numSelectorThreads = 0;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the number of worker threads that the listener should use to
+   * process requests read by selector threads.  This will be ignored unless
+   * the number of selector threads is greater than zero.
+   *
+   * @return  The number of worker threads that the listener should use to
+   *          process requests read by selector threads, or zero if a default
+   *          of four times the number of available processors should be used.
+   */
+  public int getNumWorkerThreads()
+  {
+    return numWorkerThreads;
+  }
+
+
+
+  /**
+   * Specifies the number of worker threads that the listener should use to
+   * process requests read by selector threads.  This will be ignored unless
+   * the number of selector threads is greater than zero.  Each worker thread
+   * will process requests for one client connection at a time, and will remain
+   * occupied for as long as the request handler takes to process a request, so
+   * request handlers that block for long periods of time (for example, while
+   * waiting for a response from a backend server) may need more worker
+   * threads.
+   *
+   * @param  numWorkerThreads  The number of worker threads that the listener
+   *                           should use to process requests read by selector
+   *                           threads.  A value that is less than or equal to
+   *                           zero indicates that a default of four times the
+   *                           number of available processors should be used.
+   */
+  public void setNumWorkerThreads(final int numWorkerThreads)
+  {
+    if (numWorkerThreads > 0)
+    {
+      this.numWorkerThreads = numWorkerThreads;
+    }
+    else
+    {
+      this.numWorkerThreads = 0;
+    }
+  }
+
+
+
+  /**
+   * Indicates whether the listener should use virtual threads rather than
+   * platform threads for the threads that read and process requests from
+   * clients.  This requires a JVM that supports virtual threads (Java 21 or
+   * later), and it will be ignored on older JVMs.
+   *
+   * @return  {@code true} if the listener should use virtual threads when they
+   *          are available, or {@code false} if it should always use platform
+   *          threads.
+   */
+  public boolean useVirtualThreads()
+  {
+    return useVirtualThreads;
+  }
+
+
+
+  /**
+   * Specifies whether the listener should use virtual threads rather than
+   * platform threads for the threads that read and process requests from
+   * clients.  Each client connection will still have its own thread, so the
+   * request handler API is unchanged, but a virtual thread that is blocked
+   * waiting for a request or for a socket write does not tie up a platform
+   * thread, which makes it practical to have a very large number of concurrent
+   * connections.
+   * <BR><BR>
+   * This requires a JVM that supports virtual threads (Java 21 or later), and
+   * it will be ignored on older JVMs.  It will also have no effect for
+   * connections whose requests are read by selector threads (as configured
+   * with the {@link #setNumSelectorThreads} method), except for connections
+   * that switch to having their own thread as a result of StartTLS
+   * processing.  Request handlers that perform long blocking operations while
+   * synchronized on an object will prevent the underlying platform thread from
+   * being used by other virtual threads for the duration of that operation.
+   *
+   * @param  useVirtualThreads  Indicates whether the listener should use
+   *                            virtual threads when they are available.
+   */
+  public void setUseVirtualThreads(final boolean useVirtualThreads)
+  {
+    this.useVirtualThreads = useVirtualThreads;
+  }
+
+
+
+  /**
+   * Retrieves the allocator that should be used to obtain buffers that are
+   * only needed while reading and decoding requests from clients.
+   *
+   * @return  The allocator that should be used to obtain buffers while reading
+   *          requests, or {@code null} if a new array should be allocated for
+   *          each buffer.
+   */
+  @Nullable()
+  public ASN1BufferAllocator getReadBufferAllocator()
+  {
+    return readBufferAllocator;
+  }
+
+
+
+  /**
+   * Specifies the allocator that should be used to obtain buffers that are
+   * only needed while reading and decoding requests from clients.  Buffers
+   * will be released back to the allocator as soon as the element for which
+   * they were obtained has been decoded.  Because requests are decoded either
+   * on each client connection's own thread or on one of a small number of
+   * selector threads, a {@link com.unboundid.asn1.ThreadLocalASN1BufferPool}
+   * is a good choice.
+   *
+   * @param  readBufferAllocator  The allocator that should be used to obtain
+   *                              buffers while reading requests.  It may be
+   *                              {@code null} if a new array should be
+   *                              allocated for each buffer.
+   */
+  public void setReadBufferAllocator(
+                   @Nullable final ASN1BufferAllocator readBufferAllocator)
+  {
+    this.readBufferAllocator = readBufferAllocator;
+  }
+
+
+
   /**
    * Retrieves the receive buffer size that should be used for sockets accepted
    * by the listener.
@@ -719,13 +927,17 @@ public final class LDAPListenerConfig
     copy.useLinger                = useLinger;
     copy.useReuseAddress          = useReuseAddress;
     copy.useTCPNoDelay            = useTCPNoDelay;
+    copy.useVirtualThreads        = useVirtualThreads;
     copy.listenAddress            = listenAddress;
     copy.lingerTimeout            = lingerTimeout;
     copy.maxConnections           = maxConnections;
     copy.maxMessageSizeBytes      = maxMessageSizeBytes;
+    copy.numSelectorThreads       = numSelectorThreads;
+    copy.numWorkerThreads         = numWorkerThreads;
     copy.receiveBufferSize        = receiveBufferSize;
     copy.sendBufferSize           = sendBufferSize;
     copy.exceptionHandler         = exceptionHandler;
+    copy.readBufferAllocator      = readBufferAllocator;
     copy.serverSocketFactory      = serverSocketFactory;
 
     return copy;
@@ -785,6 +997,13 @@ public final class LDAPListenerConfig
       buffer.append('\'');
     }
 
+    if (readBufferAllocator != null)
+    {
+      buffer.append(", readBufferAllocatorClass='");
+      buffer.append(readBufferAllocator.getClass().getName());
+      buffer.append('\'');
+    }
+
     buffer.append(", useKeepAlive=");
     buffer.append(useKeepAlive);
     buffer.append(", useTCPNoDelay=");
@@ -804,6 +1023,20 @@ public final class LDAPListenerConfig
     buffer.append(maxConnections);
     buffer.append(", maxMessageSizeBytes=");
     buffer.append(maxMessageSizeBytes);
+
+    if (numSelectorThreads > 0)
+    {
+      buffer.append(", numSelectorThreads=");
+      buffer.append(numSelectorThreads);
+      buffer.append(", numWorkerThreads=");
+      buffer.append(numWorkerThreads);
+    }
+
+    if (useVirtualThreads)
+    {
+      buffer.append(", useVirtualThreads=true");
+    }
+
     buffer.append(", useReuseAddress=");
     buffer.append(useReuseAddress);
     buffer.append(", receiveBufferSize=");
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.DebugType;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.NotNull;
+
+
+
+/**
+ * This class provides a thread that uses a selector to read requests from any
+ * number of client connections accepted by an {@link LDAPListener} that is
+ * configured to use selector threads.  Each listener has its own fixed set of
+ * these threads, and each connection is assigned to the thread with the fewest
+ * registered connections at the time that it is accepted.
+ */
+@InternalUseOnly()
+final class LDAPListenerSelectorThread
+       extends Thread
+{
+  // Indicates whether this thread has been asked to stop running.
+  @NotNull private final AtomicBoolean stopRequested;
+
+  // The number of connections currently registered with this thread.
+  @NotNull private final AtomicInteger numRegisteredConnections;
+
+  // The queue of channel readers waiting to be registered with the selector.
+  @NotNull private final ConcurrentLinkedQueue<LDAPListenerChannelReader>
+       pendingRegistrations;
+
+  // The selector used to determine which channels have data available.
+  @NotNull private final Selector selector;
+
+
+
+  /**
+   * Creates a new selector thread.
+   *
+   * @param  listenPort  The port on which the associated listener is
+   *                     accepting connections.
+   * @param  index       The index for this thread in the listener's set of
+   *                     selector threads.
+   *
+   * @throws  IOException  If a problem occurs while opening the selector.
+   */
+  LDAPListenerSelectorThread(final int listenPort, final int index)
+       throws IOException
+  {
+    setName("LDAPListener Selector Thread " + index + " for port " +
+         listenPort);
+    setDaemon(true);
+
+    stopRequested = new AtomicBoolean(false);
+    numRegisteredConnections = new AtomicInteger(0);
+    pendingRegistrations = new ConcurrentLinkedQueue<>();
+    selector = Selector.open();
+  }
+
+
+
+  /**
+   * Retrieves the number of connections currently registered with this thread.
+   *
+   * @return  The number of connections currently registered with this thread.
+   */
+  int getNumRegisteredConnections()
+  {
+    return numRegisteredConnections.get();
+  }
+
+
+
+  /**
+   * Queues the provided channel reader to be registered with this thread's
+   * selector.
+   *
+   * @param  channelReader  The channel reader to register.
+   */
+  void register(@NotNull final LDAPListenerChannelReader channelReader)
+  {
+    numRegisteredConnections.incrementAndGet();
+    pendingRegistrations.add(channelReader);
+    selector.wakeup();
+  }
+
+
+
+  /**
+   * Indicates that a channel reader that had been registered with this thread
+   * has been deregistered.
+   */
+  void deregistered()
+  {
+    numRegisteredConnections.decrementAndGet();
+  }
+
+
+
+  /**
+   * Wakes up the selector so that it will process any pending registration,
+   * deregistration, or change in interest.
+   */
+  void wakeup()
+  {
+    selector.wakeup();
+  }
+
+
+
+  /**
+   * Indicates that this thread should stop running.  This should only be
+   * called once no connections remain registered with it.
+   */
+  void shutDown()
+  {
+    stopRequested.set(true);
+    selector.wakeup();
+  }
+
+
+
+  /**
+   * Operates in a loop, waiting for data to become available on any of the
+   * registered channels and reading it when it does.
+   */
+  @Override()
+  public void run()
+  {
+    try
+    {
+      while (! stopRequested.get())
+      {
+        try
+        {
+          selector.select();
+        }
+        catch (final ClosedSelectorException cse)
+        {
+          Debug.debugException(cse);
+          return;
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+          Debug.debug(Level.WARNING, DebugType.LDAP,
+               "Unexpected error during selection in " + getName(), e);
+          continue;
+        }
+
+        processPendingRegistrations();
+
+        final Iterator<SelectionKey> iterator =
+             selector.selectedKeys().iterator();
+        while (iterator.hasNext())
+        {
+          final SelectionKey key = iterator.next();
+          iterator.remove();
+
+          final LDAPListenerChannelReader channelReader =
+               (LDAPListenerChannelReader) key.attachment();
+          try
+          {
+            if (key.isValid() && key.isReadable() &&
+                 (! channelReader.readAvailableData()))
+            {
+              key.cancel();
+            }
+          }
+          catch (final CancelledKeyException cke)
+          {
+            // The connection was closed while we were processing it.
+            Debug.debugException(Level.FINEST, cke);
+          }
+          catch (final Throwable t)
+          {
+            // This should never happen, but we need to make sure that the
+            // selector thread survives it and that the connection is closed.
+            Debug.debugException(t);
+            channelReader.terminate(t);
+            key.cancel();
+          }
+        }
+      }
+    }
+    finally
+    {
+      try
+      {
+        selector.close();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+    }
+  }
+
+
+
+  /**
+   * Registers any channel readers that are waiting to be registered with the
+   * selector.
+   */
+  private void processPendingRegistrations()
+  {
+    while (true)
+    {
+      final LDAPListenerChannelReader channelReader =
+           pendingRegistrations.poll();
+      if (channelReader == null)
+      {
+        return;
+      }
+
+      if (channelReader.isDeregistered())
+      {
+        continue;
+      }
+
+      try
+      {
+        final SelectionKey key = channelReader.getChannel().register(selector,
+             SelectionKey.OP_READ, channelReader);
+        channelReader.registered(key);
+      }
+      catch (final ClosedChannelException cce)
+      {
+        // The connection was closed before it could be registered.
+        Debug.debugException(Level.FINEST, cce);
+        channelReader.registrationFailed(cce);
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+        channelReader.registrationFailed(e);
+      }
+    }
+  }
+}
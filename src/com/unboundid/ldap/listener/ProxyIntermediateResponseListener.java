@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import com.unboundid.ldap.protocol.IntermediateResponseProtocolOp;
+import com.unboundid.ldap.sdk.IntermediateResponse;
+import com.unboundid.ldap.sdk.IntermediateResponseListener;
+import com.unboundid.util.Debug;
+import com.unboundid.util.NotNull;
+
+
+
+/**
+ * This class provides an implementation of an intermediate response listener
+ * that will be used by the {@link ProxyRequestHandler} class to relay
+ * intermediate responses received from the backend server to the client.  The
+ * message ID of each intermediate response will be replaced with the message
+ * ID that the client used for the associated request, since that will
+ * generally differ from the message ID used on the backend connection.
+ */
+final class ProxyIntermediateResponseListener
+      implements IntermediateResponseListener
+{
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = 4518925377826342203L;
+
+
+
+  // The message ID for the associated client request.
+  private final int messageID;
+
+  // The client connection that will be used to return the responses.
+  @NotNull private final LDAPListenerClientConnection clientConnection;
+
+
+
+  /**
+   * Creates a new proxy intermediate response listener with the provided
+   * information.
+   *
+   * @param  clientConnection  The client connection to which the intermediate
+   *                           responses will be sent.
+   * @param  messageID         The message ID that will be used for any
+   *                           intermediate responses returned to the client.
+   */
+  ProxyIntermediateResponseListener(
+       @NotNull final LDAPListenerClientConnection clientConnection,
+       final int messageID)
+  {
+    this.clientConnection = clientConnection;
+    this.messageID        = messageID;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void intermediateResponseReturned(
+                   @NotNull final IntermediateResponse intermediateResponse)
+  {
+    try
+    {
+      clientConnection.sendIntermediateResponse(messageID,
+           new IntermediateResponseProtocolOp(intermediateResponse.getOID(),
+                intermediateResponse.getValue()),
+           intermediateResponse.getControls());
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+    }
+  }
+}
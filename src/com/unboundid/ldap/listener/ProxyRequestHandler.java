@@ -37,9 +37,11 @@ package com.unboundid.ldap.listener;
 
 
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import com.unboundid.asn1.ASN1OctetString;
 import com.unboundid.ldap.protocol.AddRequestProtocolOp;
 import com.unboundid.ldap.protocol.AddResponseProtocolOp;
 import com.unboundid.ldap.protocol.BindRequestProtocolOp;
@@ -58,26 +60,38 @@ import com.unboundid.ldap.protocol.ModifyDNRequestProtocolOp;
 import com.unboundid.ldap.protocol.ModifyDNResponseProtocolOp;
 import com.unboundid.ldap.protocol.SearchRequestProtocolOp;
 import com.unboundid.ldap.protocol.SearchResultDoneProtocolOp;
+import com.unboundid.ldap.sdk.AbstractConnectionPool;
 import com.unboundid.ldap.sdk.AddRequest;
 import com.unboundid.ldap.sdk.BindRequest;
+import com.unboundid.ldap.sdk.BindResult;
 import com.unboundid.ldap.sdk.CompareRequest;
 import com.unboundid.ldap.sdk.Control;
 import com.unboundid.ldap.sdk.DeleteRequest;
 import com.unboundid.ldap.sdk.ExtendedRequest;
 import com.unboundid.ldap.sdk.ExtendedResult;
+import com.unboundid.ldap.sdk.FullLDAPInterface;
 import com.unboundid.ldap.sdk.GenericSASLBindRequest;
 import com.unboundid.ldap.sdk.IntermediateResponse;
 import com.unboundid.ldap.sdk.IntermediateResponseListener;
 import com.unboundid.ldap.sdk.LDAPConnection;
+import com.unboundid.ldap.sdk.LDAPConnectionPool;
 import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.LDAPMultiplexedConnectionPool;
 import com.unboundid.ldap.sdk.LDAPResult;
 import com.unboundid.ldap.sdk.ModifyRequest;
 import com.unboundid.ldap.sdk.ModifyDNRequest;
+import com.unboundid.ldap.sdk.ResultCode;
 import com.unboundid.ldap.sdk.SearchRequest;
 import com.unboundid.ldap.sdk.ServerSet;
 import com.unboundid.ldap.sdk.SimpleBindRequest;
+import com.unboundid.ldap.sdk.controls.AuthorizationIdentityRequestControl;
+import com.unboundid.ldap.sdk.controls.AuthorizationIdentityResponseControl;
+import com.unboundid.ldap.sdk.controls.ProxiedAuthorizationV1RequestControl;
+import com.unboundid.ldap.sdk.controls.ProxiedAuthorizationV2RequestControl;
+import com.unboundid.ldap.sdk.extensions.StartTLSExtendedRequest;
+import com.unboundid.ldap.sdk.extensions.WhoAmIExtendedRequest;
 import com.unboundid.util.Debug;
-import com.unboundid.util.NotMutable;
+import com.unboundid.util.Mutable;
 import com.unboundid.util.NotNull;
 import com.unboundid.util.Nullable;
 import com.unboundid.util.StaticUtils;
@@ -85,14 +99,41 @@ import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 import com.unboundid.util.Validator;
 
+import static com.unboundid.ldap.listener.ListenerMessages.*;
+
 
 
 /**
  * This class provides an implementation of a simple LDAP listener request
  * handler that may be used to forward the request to another LDAP directory
  * server.
+ * <BR><BR>
+ * If the request handler is created with a {@link ServerSet}, then a separate
+ * connection to the backend server will be established for each client
+ * connection, and all requests from that client will be forwarded over that
+ * connection.  If the request handler is created with a connection pool, then
+ * requests from all clients will be forwarded over connections from that
+ * pool, so that a large number of clients can be served with a much smaller
+ * number of backend connections.  If that pool is an
+ * {@link LDAPMultiplexedConnectionPool}, then each of its connections may
+ * also be used to process requests from several clients at the same time.
+ * When using a connection pool:
+ * <UL>
+ *   <LI>Simple bind requests will be processed using the pool's
+ *       {@code bindAndRevertAuthentication} method, and the request handler
+ *       will keep track of the resulting authorization identity for the
+ *       client.  SASL bind requests are not supported.</LI>
+ *   <LI>All other requests will be forwarded with a proxied authorization v2
+ *       request control so that the backend server processes them under the
+ *       client's authorization identity, or anonymously if the client has not
+ *       authenticated.  The pooled connections must be authenticated as a
+ *       user that is permitted to use that control, and clients will not be
+ *       allowed to include their own proxied authorization controls.</LI>
+ *   <LI>Who Am I extended requests will be processed by the request handler
+ *       itself, and StartTLS extended requests will be rejected.</LI>
+ * </UL>
  */
-@NotMutable()
+@Mutable()
 @ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
 public final class ProxyRequestHandler
        extends LDAPListenerRequestHandler
@@ -105,6 +146,15 @@ public final class ProxyRequestHandler
 
 
 
+  // The connection pool that will be used to forward requests from all
+  // clients, if applicable.
+  @Nullable private final AbstractConnectionPool connectionPool;
+
+  // The interface that will be used to forward requests for the associated
+  // client.  This will be either the dedicated connection or the shared
+  // connection pool.
+  @Nullable private final FullLDAPInterface backend;
+
   // The connection to the LDAP server to which requests will be forwarded.
   @Nullable private final LDAPConnection ldapConnection;
 
@@ -112,7 +162,12 @@ public final class ProxyRequestHandler
   @Nullable private final LDAPListenerClientConnection listenerConnection;
 
   // The server set that will be used to establish the connection.
-  @NotNull private final ServerSet serverSet;
+  @Nullable private final ServerSet serverSet;
+
+  // The authorization identity established by the client's most recent bind,
+  // when requests are forwarded over a connection pool.  An empty string
+  // indicates that the client is not authenticated.
+  @NotNull private volatile String authorizationID;
 
 
 
@@ -130,8 +185,40 @@ public final class ProxyRequestHandler
 
     this.serverSet = serverSet;
 
+    connectionPool = null;
+    backend = null;
     ldapConnection = null;
     listenerConnection = null;
+    authorizationID = "";
+  }
+
+
+
+  /**
+   * Creates a new instance of this proxy request handler that will forward
+   * requests from all clients over connections from the provided connection
+   * pool rather than establishing a separate connection for each client.  The
+   * connection pool will not be closed by this request handler, so the caller
+   * should close it after the listener has been shut down.
+   *
+   * @param  connectionPool  The connection pool that will be used to forward
+   *                         any requests received.  It must not be
+   *                         {@code null}.  Its connections must be
+   *                         authenticated as a user that is permitted to use
+   *                         the proxied authorization v2 request control.
+   */
+  public ProxyRequestHandler(
+              @NotNull final AbstractConnectionPool connectionPool)
+  {
+    Validator.ensureNotNull(connectionPool);
+
+    this.connectionPool = connectionPool;
+
+    serverSet = null;
+    backend = null;
+    ldapConnection = null;
+    listenerConnection = null;
+    authorizationID = "";
   }
 
 
@@ -155,6 +242,35 @@ public final class ProxyRequestHandler
     this.serverSet          = serverSet;
     this.ldapConnection     = ldapConnection;
     this.listenerConnection = listenerConnection;
+
+    connectionPool = null;
+    backend = ldapConnection;
+    authorizationID = "";
+  }
+
+
+
+  /**
+   * Creates a new instance of this proxy request handler with the provided
+   * information.
+   *
+   * @param  connectionPool      The connection pool that will be used to
+   *                             forward any requests received.  It must not
+   *                             be {@code null}.
+   * @param  listenerConnection  The client connection with which this request
+   *                             handler is associated.
+   */
+  private ProxyRequestHandler(
+               @NotNull final AbstractConnectionPool connectionPool,
+               @NotNull final LDAPListenerClientConnection listenerConnection)
+  {
+    this.connectionPool     = connectionPool;
+    this.listenerConnection = listenerConnection;
+
+    serverSet = null;
+    ldapConnection = null;
+    backend = connectionPool;
+    authorizationID = "";
   }
 
 
@@ -168,8 +284,15 @@ public final class ProxyRequestHandler
               @NotNull final LDAPListenerClientConnection connection)
          throws LDAPException
   {
-    return new ProxyRequestHandler(serverSet, serverSet.getConnection(),
-         connection);
+    if (connectionPool == null)
+    {
+      return new ProxyRequestHandler(serverSet, serverSet.getConnection(),
+           connection);
+    }
+    else
+    {
+      return new ProxyRequestHandler(connectionPool, connection);
+    }
   }
 
 
@@ -180,7 +303,10 @@ public final class ProxyRequestHandler
   @Override()
   public void closeInstance()
   {
-    ldapConnection.close();
+    if (ldapConnection != null)
+    {
+      ldapConnection.close();
+    }
   }
 
 
@@ -196,16 +322,14 @@ public final class ProxyRequestHandler
   {
     final AddRequest addRequest = new AddRequest(request.getDN(),
          request.getAttributes());
-    if (! controls.isEmpty())
-    {
-      addRequest.setControls(controls);
-    }
-    addRequest.setIntermediateResponseListener(this);
+    addRequest.setIntermediateResponseListener(
+         new ProxyIntermediateResponseListener(listenerConnection, messageID));
 
     LDAPResult addResult;
     try
     {
-      addResult = ldapConnection.add(addRequest);
+      addRequest.setControls(getForwardedControls(controls));
+      addResult = backend.add(addRequest);
     }
     catch (final LDAPException le)
     {
@@ -233,6 +357,11 @@ public final class ProxyRequestHandler
                           @NotNull final BindRequestProtocolOp request,
                           @NotNull final List<Control> controls)
   {
+    if (connectionPool != null)
+    {
+      return processPooledBindRequest(messageID, request, controls);
+    }
+
     final Control[] controlArray;
     if ((controls == null) || (controls.isEmpty()))
     {
@@ -257,7 +386,8 @@ public final class ProxyRequestHandler
            controlArray);
     }
 
-    bindRequest.setIntermediateResponseListener(this);
+    bindRequest.setIntermediateResponseListener(
+         new ProxyIntermediateResponseListener(listenerConnection, messageID));
 
     LDAPResult bindResult;
     try
@@ -281,6 +411,165 @@ public final class ProxyRequestHandler
 
 
 
+  /**
+   * Processes the provided bind request using a connection from the shared
+   * connection pool.  The authentication state of the pooled connection will
+   * be reverted once the bind has completed, and the authorization identity
+   * established by a successful bind will be retained so that it can be used
+   * in the proxied authorization control for subsequent requests from the
+   * client.
+   *
+   * @param  messageID  The message ID of the LDAP message containing the bind
+   *                    request.
+   * @param  request    The bind request that was included in the LDAP message
+   *                    that was received.
+   * @param  controls   The set of controls included in the LDAP message.
+   *
+   * @return  The {@code LDAPMessage} containing the response to send to the
+   *          client.
+   */
+  @NotNull()
+  private LDAPMessage processPooledBindRequest(final int messageID,
+                           @NotNull final BindRequestProtocolOp request,
+                           @NotNull final List<Control> controls)
+  {
+    // Any bind attempt resets the client's authorization identity, even if
+    // the bind does not succeed.
+    authorizationID = "";
+
+    if (request.getCredentialsType() != BindRequestProtocolOp.CRED_TYPE_SIMPLE)
+    {
+      return new LDAPMessage(messageID, new BindResponseProtocolOp(
+           ResultCode.AUTH_METHOD_NOT_SUPPORTED_INT_VALUE, null,
+           ERR_PROXY_HANDLER_SASL_NOT_SUPPORTED.get(), null, null));
+    }
+
+
+    // Always ask the backend server for the resulting authorization identity,
+    // but only return it to the client if the client asked for it.
+    boolean authzIDRequested = false;
+    final ArrayList<Control> bindControls =
+         new ArrayList<>(controls.size() + 1);
+    for (final Control c : controls)
+    {
+      if (c.getOID().equals(AuthorizationIdentityRequestControl.
+           AUTHORIZATION_IDENTITY_REQUEST_OID))
+      {
+        authzIDRequested = true;
+      }
+
+      bindControls.add(c);
+    }
+
+    if (! authzIDRequested)
+    {
+      bindControls.add(new AuthorizationIdentityRequestControl());
+    }
+
+    final Control[] controlArray = new Control[bindControls.size()];
+    bindControls.toArray(controlArray);
+
+    final SimpleBindRequest bindRequest = new SimpleBindRequest(
+         request.getBindDN(), request.getSimplePassword().getValue(),
+         controlArray);
+    bindRequest.setIntermediateResponseListener(
+         new ProxyIntermediateResponseListener(listenerConnection, messageID));
+
+    LDAPResult bindResult;
+    try
+    {
+      final BindResult result = bindAndRevertAuthentication(bindRequest);
+
+      final AuthorizationIdentityResponseControl authzIDResponse =
+           AuthorizationIdentityResponseControl.get(result);
+      if (authzIDResponse != null)
+      {
+        authorizationID = authzIDResponse.getAuthorizationID();
+      }
+      else if (bindRequest.getBindDN().isEmpty())
+      {
+        authorizationID = "";
+      }
+      else
+      {
+        authorizationID = "dn:" + bindRequest.getBindDN();
+      }
+
+      bindResult = result;
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      bindResult = le.toLDAPResult();
+    }
+
+    final ArrayList<Control> responseControls =
+         new ArrayList<>(bindResult.getResponseControls().length);
+    for (final Control c : bindResult.getResponseControls())
+    {
+      if (authzIDRequested || (! c.getOID().equals(
+           AuthorizationIdentityResponseControl.
+                AUTHORIZATION_IDENTITY_RESPONSE_OID)))
+      {
+        responseControls.add(c);
+      }
+    }
+
+    final BindResponseProtocolOp bindResponseProtocolOp =
+         new BindResponseProtocolOp(bindResult.getResultCode().intValue(),
+              bindResult.getMatchedDN(), bindResult.getDiagnosticMessage(),
+              Arrays.asList(bindResult.getReferralURLs()), null);
+
+    return new LDAPMessage(messageID, bindResponseProtocolOp,
+         responseControls);
+  }
+
+
+
+  /**
+   * Processes the provided bind request using a connection from the shared
+   * connection pool, and then reverts the authentication state of that
+   * connection so that it may continue to be used to forward requests for
+   * other clients.
+   *
+   * @param  bindRequest  The bind request to process.
+   *
+   * @return  The result of processing the bind request.
+   *
+   * @throws  LDAPException  If the bind did not succeed.
+   */
+  @NotNull()
+  private BindResult bindAndRevertAuthentication(
+               @NotNull final BindRequest bindRequest)
+          throws LDAPException
+  {
+    if (connectionPool instanceof LDAPConnectionPool)
+    {
+      return ((LDAPConnectionPool) connectionPool).
+           bindAndRevertAuthentication(bindRequest);
+    }
+    else if (connectionPool instanceof LDAPMultiplexedConnectionPool)
+    {
+      return ((LDAPMultiplexedConnectionPool) connectionPool).
+           bindAndRevertAuthentication(bindRequest);
+    }
+
+
+    // The pool doesn't provide a way to revert the authentication state of
+    // the connection, so use a connection that will be discarded afterward.
+    final LDAPConnection conn = connectionPool.getConnection();
+    try
+    {
+      return conn.bind(bindRequest);
+    }
+    finally
+    {
+      connectionPool.releaseDefunctConnection(conn);
+    }
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
@@ -292,16 +581,14 @@ public final class ProxyRequestHandler
   {
     final CompareRequest compareRequest = new CompareRequest(request.getDN(),
          request.getAttributeName(), request.getAssertionValue().getValue());
-    if (! controls.isEmpty())
-    {
-      compareRequest.setControls(controls);
-    }
-    compareRequest.setIntermediateResponseListener(this);
+    compareRequest.setIntermediateResponseListener(
+         new ProxyIntermediateResponseListener(listenerConnection, messageID));
 
     LDAPResult compareResult;
     try
     {
-      compareResult = ldapConnection.compare(compareRequest);
+      compareRequest.setControls(getForwardedControls(controls));
+      compareResult = backend.compare(compareRequest);
     }
     catch (final LDAPException le)
     {
@@ -331,16 +618,14 @@ public final class ProxyRequestHandler
                           @NotNull final List<Control> controls)
   {
     final DeleteRequest deleteRequest = new DeleteRequest(request.getDN());
-    if (! controls.isEmpty())
-    {
-      deleteRequest.setControls(controls);
-    }
-    deleteRequest.setIntermediateResponseListener(this);
+    deleteRequest.setIntermediateResponseListener(
+         new ProxyIntermediateResponseListener(listenerConnection, messageID));
 
     LDAPResult deleteResult;
     try
     {
-      deleteResult = ldapConnection.delete(deleteRequest);
+      deleteRequest.setControls(getForwardedControls(controls));
+      deleteResult = backend.delete(deleteRequest);
     }
     catch (final LDAPException le)
     {
@@ -368,25 +653,50 @@ public final class ProxyRequestHandler
                           @NotNull final ExtendedRequestProtocolOp request,
                           @NotNull final List<Control> controls)
   {
-    final ExtendedRequest extendedRequest;
-    if (controls.isEmpty())
-    {
-      extendedRequest = new ExtendedRequest(request.getOID(),
-           request.getValue());
-    }
-    else
-    {
-      final Control[] controlArray = new Control[controls.size()];
-      controls.toArray(controlArray);
-      extendedRequest = new ExtendedRequest(request.getOID(),
-           request.getValue(), controlArray);
+    if (connectionPool != null)
+    {
+      // The client's identity is only known to this request handler, and the
+      // pooled connections are shared with other clients, so these requests
+      // can't be forwarded.
+      if (request.getOID().equals(WhoAmIExtendedRequest.WHO_AM_I_REQUEST_OID))
+      {
+        return new LDAPMessage(messageID, new ExtendedResponseProtocolOp(
+             ResultCode.SUCCESS_INT_VALUE, null, null, null, null,
+             new ASN1OctetString(authorizationID)));
+      }
+      else if (request.getOID().equals(
+           StartTLSExtendedRequest.STARTTLS_REQUEST_OID))
+      {
+        return new LDAPMessage(messageID, new ExtendedResponseProtocolOp(
+             ResultCode.UNWILLING_TO_PERFORM_INT_VALUE, null,
+             ERR_PROXY_HANDLER_POOLED_START_TLS_NOT_SUPPORTED.get(), null,
+             null, null));
+      }
     }
-    extendedRequest.setIntermediateResponseListener(this);
 
     try
     {
+      final List<Control> forwardedControls = getForwardedControls(controls);
+
+      final ExtendedRequest extendedRequest;
+      if (forwardedControls.isEmpty())
+      {
+        extendedRequest = new ExtendedRequest(request.getOID(),
+             request.getValue());
+      }
+      else
+      {
+        final Control[] controlArray = new Control[forwardedControls.size()];
+        forwardedControls.toArray(controlArray);
+        extendedRequest = new ExtendedRequest(request.getOID(),
+             request.getValue(), controlArray);
+      }
+      extendedRequest.setIntermediateResponseListener(
+           new ProxyIntermediateResponseListener(listenerConnection,
+                messageID));
+
       final ExtendedResult extendedResult =
-           ldapConnection.processExtendedOperation(extendedRequest);
+           backend.processExtendedOperation(extendedRequest);
 
       final ExtendedResponseProtocolOp extendedResponseProtocolOp =
            new ExtendedResponseProtocolOp(
@@ -424,16 +734,14 @@ public final class ProxyRequestHandler
   {
     final ModifyRequest modifyRequest = new ModifyRequest(request.getDN(),
          request.getModifications());
-    if (! controls.isEmpty())
-    {
-      modifyRequest.setControls(controls);
-    }
-    modifyRequest.setIntermediateResponseListener(this);
+    modifyRequest.setIntermediateResponseListener(
+         new ProxyIntermediateResponseListener(listenerConnection, messageID));
 
     LDAPResult modifyResult;
     try
     {
-      modifyResult = ldapConnection.modify(modifyRequest);
+      modifyRequest.setControls(getForwardedControls(controls));
+      modifyResult = backend.modify(modifyRequest);
     }
     catch (final LDAPException le)
     {
@@ -464,16 +772,14 @@ public final class ProxyRequestHandler
     final ModifyDNRequest modifyDNRequest = new ModifyDNRequest(request.getDN(),
          request.getNewRDN(), request.deleteOldRDN(),
          request.getNewSuperiorDN());
-    if (! controls.isEmpty())
-    {
-      modifyDNRequest.setControls(controls);
-    }
-    modifyDNRequest.setIntermediateResponseListener(this);
+    modifyDNRequest.setIntermediateResponseListener(
+         new ProxyIntermediateResponseListener(listenerConnection, messageID));
 
     LDAPResult modifyDNResult;
     try
     {
-      modifyDNResult = ldapConnection.modifyDN(modifyDNRequest);
+      modifyDNRequest.setControls(getForwardedControls(controls));
+      modifyDNResult = backend.modifyDN(modifyDNRequest);
     }
     catch (final LDAPException le)
     {
@@ -522,17 +828,14 @@ public final class ProxyRequestHandler
          request.getBaseDN(), request.getScope(), request.getDerefPolicy(),
          request.getSizeLimit(), request.getTimeLimit(), request.typesOnly(),
          request.getFilter(), attrs);
-
-    if (! controls.isEmpty())
-    {
-      searchRequest.setControls(controls);
-    }
-    searchRequest.setIntermediateResponseListener(this);
+    searchRequest.setIntermediateResponseListener(
+         new ProxyIntermediateResponseListener(listenerConnection, messageID));
 
     LDAPResult searchResult;
     try
     {
-      searchResult = ldapConnection.search(searchRequest);
+      searchRequest.setControls(getForwardedControls(controls));
+      searchResult = backend.search(searchRequest);
     }
     catch (final LDAPException le)
     {
@@ -551,6 +854,64 @@ public final class ProxyRequestHandler
 
 
 
+  /**
+   * Retrieves the set of controls that should be included in a request that
+   * is forwarded to the backend server.  When requests are forwarded over a
+   * connection pool, a proxied authorization v2 request control will be added
+   * so that the backend server will process the request under the client's
+   * authorization identity rather than that of the pooled connection.
+   *
+   * @param  controls  The set of controls included in the client request.
+   *
+   * @return  The set of controls to include in the forwarded request.
+   *
+   * @throws  LDAPException  If the client request included a control that
+   *                         cannot be forwarded.
+   */
+  @NotNull()
+  private List<Control> getForwardedControls(
+               @NotNull final List<Control> controls)
+          throws LDAPException
+  {
+    if (connectionPool == null)
+    {
+      return controls;
+    }
+
+    final ArrayList<Control> forwardedControls =
+         new ArrayList<>(controls.size() + 1);
+    for (final Control c : controls)
+    {
+      final String oid = c.getOID();
+      if (oid.equals(ProxiedAuthorizationV1RequestControl.
+                PROXIED_AUTHORIZATION_V1_REQUEST_OID) ||
+           oid.equals(ProxiedAuthorizationV2RequestControl.
+                PROXIED_AUTHORIZATION_V2_REQUEST_OID))
+      {
+        throw new LDAPException(ResultCode.UNWILLING_TO_PERFORM,
+             ERR_PROXY_HANDLER_POOLED_PROXIED_AUTH_NOT_ALLOWED.get(oid));
+      }
+
+      forwardedControls.add(c);
+    }
+
+
+    // An authorization ID of "dn:" refers to the anonymous user.
+    final String authzID = authorizationID;
+    if (authzID.isEmpty())
+    {
+      forwardedControls.add(new ProxiedAuthorizationV2RequestControl("dn:"));
+    }
+    else
+    {
+      forwardedControls.add(new ProxiedAuthorizationV2RequestControl(authzID));
+    }
+
+    return forwardedControls;
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
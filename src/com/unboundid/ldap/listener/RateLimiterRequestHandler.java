@@ -37,7 +37,9 @@ package com.unboundid.ldap.listener;
 
 
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.unboundid.ldap.protocol.AbandonRequestProtocolOp;
 import com.unboundid.ldap.protocol.AddRequestProtocolOp;
@@ -50,11 +52,15 @@ import com.unboundid.ldap.protocol.ModifyRequestProtocolOp;
 import com.unboundid.ldap.protocol.ModifyDNRequestProtocolOp;
 import com.unboundid.ldap.protocol.SearchRequestProtocolOp;
 import com.unboundid.ldap.sdk.Control;
+import com.unboundid.ldap.sdk.DN;
 import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.util.Debug;
 import com.unboundid.util.FixedRateBarrier;
-import com.unboundid.util.NotMutable;
+import com.unboundid.util.Mutable;
 import com.unboundid.util.NotNull;
 import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 import com.unboundid.util.Validator;
@@ -66,8 +72,14 @@ import com.unboundid.util.Validator;
  * that can be used to apply rate limiting to client requests.  It uses one or
  * more {@link FixedRateBarrier} instances to enforce the rate limiting, and
  * provides the ability to control rate limiting on a per-operation-type basis.
+ * It can also enforce a separate limit for each client connection, and for
+ * each user that has authenticated with a simple bind.  In that case, each
+ * connection or user gets its own barrier created with
+ * {@link FixedRateBarrier#newLinkedBarrier}, so a {@link
+ * com.unboundid.util.RateAdjustor} that changes the rate of the provided
+ * barrier will change the limit for all of them.
  */
-@NotMutable()
+@Mutable()
 @ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
 public final class RateLimiterRequestHandler
        extends LDAPListenerRequestHandler
@@ -83,6 +95,22 @@ public final class RateLimiterRequestHandler
   @Nullable private final FixedRateBarrier modifyDNRateLimiter;
   @Nullable private final FixedRateBarrier searchRateLimiter;
 
+  // The barrier whose rate will be used for each client connection, and the
+  // barrier created from it for the associated client connection.
+  @Nullable private final FixedRateBarrier perConnectionRateLimiter;
+  @Nullable private final FixedRateBarrier connectionRateLimiter;
+
+  // The barrier whose rate will be used for each bind DN, the barriers that
+  // have been created from it for each normalized bind DN that is currently
+  // authenticated on at least one client connection, and the normalized DN
+  // and barrier for the user currently authenticated on the associated client
+  // connection.  All access to the map, and all updates to the normalized DN,
+  // must be synchronized on the map.
+  @Nullable private final FixedRateBarrier perBindDNRateLimiter;
+  @Nullable private final Map<String,BindDNRateLimiter> bindDNRateLimiters;
+  @Nullable private String bindDN;
+  @Nullable private volatile FixedRateBarrier bindDNRateLimiter;
+
   // The downstream request handler that will be used to process the requests
   // after any appropriate rate limiting has been performed.
   @NotNull private final LDAPListenerRequestHandler downstreamRequestHandler;
@@ -126,6 +154,13 @@ public final class RateLimiterRequestHandler
     modifyRateLimiter   = rateLimiter;
     modifyDNRateLimiter = rateLimiter;
     searchRateLimiter   = rateLimiter;
+
+    perConnectionRateLimiter = null;
+    connectionRateLimiter    = null;
+    perBindDNRateLimiter     = null;
+    bindDNRateLimiters       = null;
+    bindDN                   = null;
+    bindDNRateLimiter        = null;
   }
 
 
@@ -223,6 +258,121 @@ public final class RateLimiterRequestHandler
        @Nullable final FixedRateBarrier modifyRateLimiter,
        @Nullable final FixedRateBarrier modifyDNRateLimiter,
        @Nullable final FixedRateBarrier searchRateLimiter)
+  {
+    this(downstreamRequestHandler, abandonRateLimiter, addRateLimiter,
+         bindRateLimiter, compareRateLimiter, deleteRateLimiter,
+         extendedRateLimiter, modifyRateLimiter, modifyDNRateLimiter,
+         searchRateLimiter, null, null, null, null);
+  }
+
+
+
+  /**
+   * Creates a new rate limiter request handler that can enforce an overall
+   * limit, a separate limit for each client connection, and a separate limit
+   * for each user that has authenticated with a simple bind.  The limits will
+   * be enforced for all types of operations except abandon and unbind.  An
+   * operation will only be processed once it has passed through all of the
+   * applicable barriers.
+   *
+   * @param  downstreamRequestHandler  The downstream request handler that will
+   *                                   be used to actually process the requests
+   *                                   after any appropriate rate limiting has
+   *                                   been performed.  It must not be
+   *                                   {@code null}.
+   * @param  rateLimiter               The fixed-rate barrier that will be used
+   *                                   to enforce a limit across all client
+   *                                   connections.  It may be {@code null} if
+   *                                   no overall limit should be enforced.
+   * @param  perConnectionRateLimiter  A fixed-rate barrier whose rate will be
+   *                                   enforced separately for each client
+   *                                   connection.  It will not be used
+   *                                   directly, but each client connection
+   *                                   will use a barrier linked to it.  It may
+   *                                   be {@code null} if no per-connection
+   *                                   limit should be enforced.
+   * @param  perBindDNRateLimiter      A fixed-rate barrier whose rate will be
+   *                                   enforced separately for each user that
+   *                                   has authenticated with a simple bind,
+   *                                   across all of the connections
+   *                                   authenticated as that user.  It will not
+   *                                   be used directly, but each bind DN will
+   *                                   use a barrier linked to it.  It may be
+   *                                   {@code null} if no per-user limit should
+   *                                   be enforced.  Unauthenticated clients
+   *                                   will not be subject to this limit.  A
+   *                                   barrier is only retained for a bind DN
+   *                                   while at least one client connection is
+   *                                   authenticated as that user.
+   */
+  public RateLimiterRequestHandler(
+       @NotNull final LDAPListenerRequestHandler downstreamRequestHandler,
+       @Nullable final FixedRateBarrier rateLimiter,
+       @Nullable final FixedRateBarrier perConnectionRateLimiter,
+       @Nullable final FixedRateBarrier perBindDNRateLimiter)
+  {
+    this(downstreamRequestHandler, null, rateLimiter, rateLimiter, rateLimiter,
+         rateLimiter, rateLimiter, rateLimiter, rateLimiter, rateLimiter,
+         perConnectionRateLimiter, null, perBindDNRateLimiter,
+         ((perBindDNRateLimiter == null)
+              ? null
+              : new HashMap<String,BindDNRateLimiter>(
+                   StaticUtils.computeMapCapacity(100))));
+  }
+
+
+
+  /**
+   * Creates a new rate limiter request handler with the provided information.
+   *
+   * @param  downstreamRequestHandler  The downstream request handler that will
+   *                                   be used to actually process the requests
+   *                                   after any appropriate rate limiting has
+   *                                   been performed.  It must not be
+   *                                   {@code null}.
+   * @param  abandonRateLimiter        The fixed-rate barrier to use when
+   *                                   processing abandon operations.
+   * @param  addRateLimiter            The fixed-rate barrier to use when
+   *                                   processing add operations.
+   * @param  bindRateLimiter           The fixed-rate barrier to use when
+   *                                   processing bind operations.
+   * @param  compareRateLimiter        The fixed-rate barrier to use when
+   *                                   processing compare operations.
+   * @param  deleteRateLimiter         The fixed-rate barrier to use when
+   *                                   processing delete operations.
+   * @param  extendedRateLimiter       The fixed-rate barrier to use when
+   *                                   processing extended operations.
+   * @param  modifyRateLimiter         The fixed-rate barrier to use when
+   *                                   processing modify operations.
+   * @param  modifyDNRateLimiter       The fixed-rate barrier to use when
+   *                                   processing modify DN operations.
+   * @param  searchRateLimiter         The fixed-rate barrier to use when
+   *                                   processing search operations.
+   * @param  perConnectionRateLimiter  The fixed-rate barrier whose rate should
+   *                                   be enforced for each client connection.
+   * @param  connectionRateLimiter     The fixed-rate barrier to use for the
+   *                                   associated client connection.
+   * @param  perBindDNRateLimiter      The fixed-rate barrier whose rate should
+   *                                   be enforced for each bind DN.
+   * @param  bindDNRateLimiters        The map of barriers that have been
+   *                                   created for each normalized bind DN
+   *                                   that is currently authenticated.
+   */
+  private RateLimiterRequestHandler(
+       @Nullable final LDAPListenerRequestHandler downstreamRequestHandler,
+       @Nullable final FixedRateBarrier abandonRateLimiter,
+       @Nullable final FixedRateBarrier addRateLimiter,
+       @Nullable final FixedRateBarrier bindRateLimiter,
+       @Nullable final FixedRateBarrier compareRateLimiter,
+       @Nullable final FixedRateBarrier deleteRateLimiter,
+       @Nullable final FixedRateBarrier extendedRateLimiter,
+       @Nullable final FixedRateBarrier modifyRateLimiter,
+       @Nullable final FixedRateBarrier modifyDNRateLimiter,
+       @Nullable final FixedRateBarrier searchRateLimiter,
+       @Nullable final FixedRateBarrier perConnectionRateLimiter,
+       @Nullable final FixedRateBarrier connectionRateLimiter,
+       @Nullable final FixedRateBarrier perBindDNRateLimiter,
+       @Nullable final Map<String,BindDNRateLimiter> bindDNRateLimiters)
   {
     Validator.ensureNotNull(downstreamRequestHandler);
 
@@ -236,6 +386,13 @@ public final class RateLimiterRequestHandler
     this.modifyRateLimiter        = modifyRateLimiter;
     this.modifyDNRateLimiter      = modifyDNRateLimiter;
     this.searchRateLimiter        = searchRateLimiter;
+    this.perConnectionRateLimiter = perConnectionRateLimiter;
+    this.connectionRateLimiter    = connectionRateLimiter;
+    this.perBindDNRateLimiter     = perBindDNRateLimiter;
+    this.bindDNRateLimiters       = bindDNRateLimiters;
+
+    bindDN = null;
+    bindDNRateLimiter = null;
   }
 
 
@@ -249,11 +406,38 @@ public final class RateLimiterRequestHandler
               @NotNull final LDAPListenerClientConnection connection)
          throws LDAPException
   {
+    final FixedRateBarrier newConnectionRateLimiter;
+    if (perConnectionRateLimiter == null)
+    {
+      newConnectionRateLimiter = null;
+    }
+    else
+    {
+      newConnectionRateLimiter = perConnectionRateLimiter.newLinkedBarrier();
+    }
+
     return new RateLimiterRequestHandler(
          downstreamRequestHandler.newInstance(connection), abandonRateLimiter,
          addRateLimiter, bindRateLimiter, compareRateLimiter, deleteRateLimiter,
          extendedRateLimiter, modifyRateLimiter, modifyDNRateLimiter,
-         searchRateLimiter);
+         searchRateLimiter, perConnectionRateLimiter, newConnectionRateLimiter,
+         perBindDNRateLimiter, bindDNRateLimiters);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void closeInstance()
+  {
+    if (bindDNRateLimiters != null)
+    {
+      setBindDN(null);
+    }
+
+    downstreamRequestHandler.closeInstance();
   }
 
 
@@ -286,10 +470,7 @@ public final class RateLimiterRequestHandler
                           @NotNull final AddRequestProtocolOp request,
                           @NotNull final List<Control> controls)
   {
-    if (addRateLimiter != null)
-    {
-      addRateLimiter.await();
-    }
+    awaitRateLimiters(addRateLimiter);
 
     return downstreamRequestHandler.processAddRequest(messageID, request,
          controls);
@@ -306,13 +487,94 @@ public final class RateLimiterRequestHandler
                           @NotNull final BindRequestProtocolOp request,
                           @NotNull final List<Control> controls)
   {
-    if (bindRateLimiter != null)
+    awaitRateLimiters(bindRateLimiter);
+
+    final LDAPMessage responseMessage =
+         downstreamRequestHandler.processBindRequest(messageID, request,
+              controls);
+
+    if (bindDNRateLimiters != null)
     {
-      bindRateLimiter.await();
+      // A bind attempt always changes the authentication state of the
+      // connection, and only a successful simple bind leaves it authenticated
+      // as a user with a known DN.
+      final String requestBindDN = request.getBindDN();
+      if ((request.getCredentialsType() ==
+                BindRequestProtocolOp.CRED_TYPE_SIMPLE) &&
+           (! requestBindDN.isEmpty()) &&
+           (responseMessage.getBindResponseProtocolOp().getResultCode() ==
+                ResultCode.SUCCESS_INT_VALUE))
+      {
+        setBindDN(requestBindDN);
+      }
+      else
+      {
+        setBindDN(null);
+      }
     }
 
-    return downstreamRequestHandler.processBindRequest(messageID, request,
-         controls);
+    return responseMessage;
+  }
+
+
+
+  /**
+   * Updates the user authenticated on the associated client connection for the
+   * purpose of enforcing the per-bind-DN limit.  The barrier for the new user
+   * will be created if necessary, and the barrier for the previous user will be
+   * discarded if no other client connection is authenticated as that user.
+   *
+   * @param  newBindDN  The DN of the user that has authenticated, or
+   *                    {@code null} if the connection is no longer
+   *                    authenticated as a user with a known DN.
+   */
+  private void setBindDN(@Nullable final String newBindDN)
+  {
+    String normalizedDN = null;
+    if (newBindDN != null)
+    {
+      try
+      {
+        normalizedDN = new DN(newBindDN).toNormalizedString();
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        normalizedDN = StaticUtils.toLowerCase(newBindDN);
+      }
+    }
+
+    synchronized (bindDNRateLimiters)
+    {
+      if (bindDN != null)
+      {
+        final BindDNRateLimiter oldRateLimiter =
+             bindDNRateLimiters.get(bindDN);
+        if ((oldRateLimiter != null) &&
+             (--oldRateLimiter.numConnections <= 0))
+        {
+          bindDNRateLimiters.remove(bindDN);
+        }
+      }
+
+      bindDN = normalizedDN;
+      if (normalizedDN == null)
+      {
+        bindDNRateLimiter = null;
+        return;
+      }
+
+      BindDNRateLimiter newRateLimiter = bindDNRateLimiters.get(normalizedDN);
+      if (newRateLimiter == null)
+      {
+        newRateLimiter =
+             new BindDNRateLimiter(perBindDNRateLimiter.newLinkedBarrier());
+        bindDNRateLimiters.put(normalizedDN, newRateLimiter);
+      }
+
+      newRateLimiter.numConnections++;
+      bindDNRateLimiter = newRateLimiter.barrier;
+    }
   }
 
 
@@ -326,10 +588,7 @@ public final class RateLimiterRequestHandler
                           @NotNull final CompareRequestProtocolOp request,
                           @NotNull final List<Control> controls)
   {
-    if (compareRateLimiter != null)
-    {
-      compareRateLimiter.await();
-    }
+    awaitRateLimiters(compareRateLimiter);
 
     return downstreamRequestHandler.processCompareRequest(messageID, request,
          controls);
@@ -346,10 +605,7 @@ public final class RateLimiterRequestHandler
                           @NotNull final DeleteRequestProtocolOp request,
                           @NotNull final List<Control> controls)
   {
-    if (deleteRateLimiter != null)
-    {
-      deleteRateLimiter.await();
-    }
+    awaitRateLimiters(deleteRateLimiter);
 
     return downstreamRequestHandler.processDeleteRequest(messageID, request,
          controls);
@@ -366,10 +622,7 @@ public final class RateLimiterRequestHandler
                           @NotNull final ExtendedRequestProtocolOp request,
                           @NotNull final List<Control> controls)
   {
-    if (extendedRateLimiter != null)
-    {
-      extendedRateLimiter.await();
-    }
+    awaitRateLimiters(extendedRateLimiter);
 
     return downstreamRequestHandler.processExtendedRequest(messageID, request,
          controls);
@@ -386,10 +639,7 @@ public final class RateLimiterRequestHandler
                           @NotNull final ModifyRequestProtocolOp request,
                           @NotNull final List<Control> controls)
   {
-    if (modifyRateLimiter != null)
-    {
-      modifyRateLimiter.await();
-    }
+    awaitRateLimiters(modifyRateLimiter);
 
     return downstreamRequestHandler.processModifyRequest(messageID, request,
          controls);
@@ -406,10 +656,7 @@ public final class RateLimiterRequestHandler
                           @NotNull final ModifyDNRequestProtocolOp request,
                           @NotNull final List<Control> controls)
   {
-    if (modifyDNRateLimiter != null)
-    {
-      modifyDNRateLimiter.await();
-    }
+    awaitRateLimiters(modifyDNRateLimiter);
 
     return downstreamRequestHandler.processModifyDNRequest(messageID, request,
          controls);
@@ -426,12 +673,91 @@ public final class RateLimiterRequestHandler
                           @NotNull final SearchRequestProtocolOp request,
                           @NotNull final List<Control> controls)
   {
-    if (searchRateLimiter != null)
-    {
-      searchRateLimiter.await();
-    }
+    awaitRateLimiters(searchRateLimiter);
 
     return downstreamRequestHandler.processSearchRequest(messageID, request,
          controls);
   }
+
+
+
+  /**
+   * Waits for the provided operation-specific barrier, as well as any
+   * per-connection or per-bind-DN barrier that applies to the associated
+   * client connection.
+   *
+   * @param  operationRateLimiter  The barrier for the type of operation being
+   *                               processed.  It may be {@code null} if no
+   *                               limit applies to that type of operation.
+   */
+  private void awaitRateLimiters(
+                    @Nullable final FixedRateBarrier operationRateLimiter)
+  {
+    if (operationRateLimiter != null)
+    {
+      operationRateLimiter.await();
+    }
+
+    if (connectionRateLimiter != null)
+    {
+      connectionRateLimiter.await();
+    }
+
+    final FixedRateBarrier userRateLimiter = bindDNRateLimiter;
+    if (userRateLimiter != null)
+    {
+      userRateLimiter.await();
+    }
+  }
+
+
+
+  /**
+   * Retrieves the number of bind DNs for which a barrier is currently retained
+   * to enforce the per-bind-DN limit.  This is intended for testing purposes.
+   *
+   * @return  The number of bind DNs for which a barrier is currently retained.
+   */
+  int getNumBindDNRateLimiters()
+  {
+    if (bindDNRateLimiters == null)
+    {
+      return 0;
+    }
+
+    synchronized (bindDNRateLimiters)
+    {
+      return bindDNRateLimiters.size();
+    }
+  }
+
+
+
+  /**
+   * This class holds the barrier used to enforce the per-bind-DN limit for a
+   * user, along with the number of client connections that are currently
+   * authenticated as that user.  All access to the connection count must be
+   * synchronized on the map that holds this object.
+   */
+  private static final class BindDNRateLimiter
+  {
+    // The barrier used to enforce the limit for the user.
+    @NotNull private final FixedRateBarrier barrier;
+
+    // The number of client connections authenticated as the user.
+    private int numConnections;
+
+
+
+    /**
+     * Creates a new instance with the provided barrier and no connections.
+     *
+     * @param  barrier  The barrier used to enforce the limit for the user.
+     */
+    private BindDNRateLimiter(@NotNull final FixedRateBarrier barrier)
+    {
+      this.barrier = barrier;
+      numConnections = 0;
+    }
+  }
 }
@@ -38,14 +38,15 @@ package com.unboundid.ldap.listener.interceptor;
 
 
 import java.util.List;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.unboundid.ldap.listener.IntermediateResponseTransformer;
 import com.unboundid.ldap.listener.LDAPListenerClientConnection;
 import com.unboundid.ldap.listener.LDAPListenerRequestHandler;
 import com.unboundid.ldap.listener.SearchEntryTransformer;
 import com.unboundid.ldap.listener.SearchReferenceTransformer;
+import com.unboundid.ldap.protocol.AbandonRequestProtocolOp;
 import com.unboundid.ldap.protocol.AddRequestProtocolOp;
 import com.unboundid.ldap.protocol.AddResponseProtocolOp;
 import com.unboundid.ldap.protocol.BindRequestProtocolOp;
@@ -108,7 +109,9 @@ public final class InMemoryOperationInterceptorRequestHandler
   // get processed.
   @NotNull private final LDAPListenerRequestHandler wrappedHandler;
 
-  // A map containing active operations mapped by message ID.
+  // A map containing active operations mapped by message ID.  Search result
+  // entries for persistent searches may be transformed by a different thread
+  // than the one processing requests.
   @NotNull private final Map<Integer,InterceptedOperation> activeOperations;
 
 
@@ -135,7 +138,8 @@ public final class InMemoryOperationInterceptorRequestHandler
     interceptors.toArray(this.interceptors);
 
     connection       = null;
-    activeOperations = new HashMap<>(StaticUtils.computeMapCapacity(5));
+    activeOperations =
+         new ConcurrentHashMap<>(StaticUtils.computeMapCapacity(5));
   }
 
 
@@ -163,7 +167,8 @@ public final class InMemoryOperationInterceptorRequestHandler
     this.wrappedHandler = wrappedHandler;
     this.connection     = connection;
 
-    activeOperations = new HashMap<>(StaticUtils.computeMapCapacity(5));
+    activeOperations =
+         new ConcurrentHashMap<>(StaticUtils.computeMapCapacity(5));
   }
 
 
@@ -190,6 +195,30 @@ public final class InMemoryOperationInterceptorRequestHandler
 
 
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void closeInstance()
+  {
+    wrappedHandler.closeInstance();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void processAbandonRequest(final int messageID,
+                   @NotNull final AbandonRequestProtocolOp request,
+                   @NotNull final List<Control> controls)
+  {
+    wrappedHandler.processAbandonRequest(messageID, request, controls);
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
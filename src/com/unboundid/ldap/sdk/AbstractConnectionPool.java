@@ -43,6 +43,7 @@ import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -459,6 +460,74 @@ public abstract class AbstractConnectionPool
 
 
 
+  /**
+   * Retrieves a connection from this pool that may be used to process an
+   * operation that alters the state of the connection (for example, a bind
+   * operation).  Pool implementations that allow a connection to be shared by
+   * multiple concurrent operations must ensure that the returned connection is
+   * not in use by any other operation until it has been released.  By default,
+   * this will simply return the result of {@link #getConnection()}.
+   *
+   * @return  A connection that may be used to process an operation that alters
+   *          the state of the connection.
+   *
+   * @throws  LDAPException  If no connection is available.
+   */
+  @NotNull()
+  LDAPConnection getConnectionForStateChangingOperation()
+           throws LDAPException
+  {
+    return getConnection();
+  }
+
+
+
+  /**
+   * Retrieves a connection from this pool that may be used to process an
+   * asynchronous operation.  Unlike {@link #getConnection()}, this method must
+   * not wait for a checked-out connection to be released if none is currently
+   * available, but should instead fail immediately.  It may still establish a
+   * new connection if the pool is configured to do so when no connection is
+   * available.  By default, this will simply return the result of
+   * {@link #getConnection()}, which is appropriate for pool implementations
+   * that never wait for a connection.
+   *
+   * @return  A connection that may be used to process an asynchronous
+   *          operation.
+   *
+   * @throws  LDAPException  If no connection is immediately available.
+   */
+  @NotNull()
+  LDAPConnection getConnectionWithoutWaiting()
+           throws LDAPException
+  {
+    return getConnection();
+  }
+
+
+
+  /**
+   * Ensures that the provided connection, which is associated with this pool,
+   * may be used to process an operation that alters the state of the
+   * connection (for example, a bind or StartTLS operation).  By default, this
+   * will not do anything.
+   *
+   * @param  connection     The connection to examine.
+   * @param  operationName  The name of the operation that is to be processed.
+   *
+   * @throws  LDAPException  If the operation should not be processed on the
+   *                         provided connection.
+   */
+  void ensureStateChangingOperationAllowed(
+            @NotNull final LDAPConnection connection,
+            @NotNull final String operationName)
+       throws LDAPException
+  {
+    // No implementation is required by default.
+  }
+
+
+
   /**
    * Retrieves the directory server root DSE using a connection from this
    * connection pool.
@@ -848,6 +917,47 @@ public abstract class AbstractConnectionPool
 
 
 
+  /**
+   * Processes the provided add request as an asynchronous operation
+   * using a connection from this pool.  The connection will be released
+   * back to the pool when the operation completes.  This method will not wait
+   * for a connection to be released if none is currently available.  Instead,
+   * the returned completion stage will already have been completed
+   * exceptionally.
+   * <BR><BR>
+   * The returned completion stage will be completed normally with the
+   * result if the operation completes successfully, or exceptionally
+   * with an {@code LDAPException} if it does not.
+   *
+   * @param  addRequest  The add request to be processed.
+   *                     It must not be {@code null}.
+   *
+   * @return  A completion stage that will be completed when the operation
+   *          completes.
+   */
+  @NotNull()
+  public final CompletionStage<LDAPResult> addAsync(
+              @NotNull final ReadOnlyAddRequest addRequest)
+  {
+    Validator.ensureNotNull(addRequest);
+
+    final LDAPConnection conn;
+    try
+    {
+      conn = getConnectionWithoutWaiting();
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return AsyncCompletableFuture.failed(OperationType.ADD, le);
+    }
+
+    return AsyncCompletableFuture.processAsync(conn, this,
+         (AddRequest) addRequest);
+  }
+
+
+
   /**
    * Processes a simple bind request with the provided DN and password using a
    * connection from this connection pool.  Note that this will impact the state
@@ -899,7 +1009,7 @@ public abstract class AbstractConnectionPool
   public final BindResult bind(@NotNull final BindRequest bindRequest)
          throws LDAPException
   {
-    final LDAPConnection conn = getConnection();
+    final LDAPConnection conn = getConnectionForStateChangingOperation();
 
     try
     {
@@ -1039,6 +1149,48 @@ public abstract class AbstractConnectionPool
 
 
 
+  /**
+   * Processes the provided compare request as an asynchronous operation
+   * using a connection from this pool.  The connection will be released
+   * back to the pool when the operation completes.  This method will not wait
+   * for a connection to be released if none is currently available.  Instead,
+   * the returned completion stage will already have been completed
+   * exceptionally.
+   * <BR><BR>
+   * The returned completion stage will be completed normally with the
+   * compare result if the server returns a result code of either
+   * {@code COMPARE_TRUE} or {@code COMPARE_FALSE}, or exceptionally with
+   * an {@code LDAPException} for any other result.
+   *
+   * @param  compareRequest  The compare request to be processed.
+   *                         It must not be {@code null}.
+   *
+   * @return  A completion stage that will be completed when the operation
+   *          completes.
+   */
+  @NotNull()
+  public final CompletionStage<CompareResult> compareAsync(
+              @NotNull final ReadOnlyCompareRequest compareRequest)
+  {
+    Validator.ensureNotNull(compareRequest);
+
+    final LDAPConnection conn;
+    try
+    {
+      conn = getConnectionWithoutWaiting();
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return AsyncCompletableFuture.failed(OperationType.COMPARE, le);
+    }
+
+    return AsyncCompletableFuture.processAsync(conn, this,
+         (CompareRequest) compareRequest);
+  }
+
+
+
   /**
    * Deletes the entry with the specified DN using a connection from this
    * connection pool.
@@ -1137,6 +1289,47 @@ public abstract class AbstractConnectionPool
 
 
 
+  /**
+   * Processes the provided delete request as an asynchronous operation
+   * using a connection from this pool.  The connection will be released
+   * back to the pool when the operation completes.  This method will not wait
+   * for a connection to be released if none is currently available.  Instead,
+   * the returned completion stage will already have been completed
+   * exceptionally.
+   * <BR><BR>
+   * The returned completion stage will be completed normally with the
+   * result if the operation completes successfully, or exceptionally
+   * with an {@code LDAPException} if it does not.
+   *
+   * @param  deleteRequest  The delete request to be processed.
+   *                        It must not be {@code null}.
+   *
+   * @return  A completion stage that will be completed when the operation
+   *          completes.
+   */
+  @NotNull()
+  public final CompletionStage<LDAPResult> deleteAsync(
+              @NotNull final ReadOnlyDeleteRequest deleteRequest)
+  {
+    Validator.ensureNotNull(deleteRequest);
+
+    final LDAPConnection conn;
+    try
+    {
+      conn = getConnectionWithoutWaiting();
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return AsyncCompletableFuture.failed(OperationType.DELETE, le);
+    }
+
+    return AsyncCompletableFuture.processAsync(conn, this,
+         (DeleteRequest) deleteRequest);
+  }
+
+
+
   /**
    * Processes an extended operation with the provided request OID using a
    * connection from this connection pool.  Note that this method should not be
@@ -1437,6 +1630,47 @@ public abstract class AbstractConnectionPool
 
 
 
+  /**
+   * Processes the provided modify request as an asynchronous operation
+   * using a connection from this pool.  The connection will be released
+   * back to the pool when the operation completes.  This method will not wait
+   * for a connection to be released if none is currently available.  Instead,
+   * the returned completion stage will already have been completed
+   * exceptionally.
+   * <BR><BR>
+   * The returned completion stage will be completed normally with the
+   * result if the operation completes successfully, or exceptionally
+   * with an {@code LDAPException} if it does not.
+   *
+   * @param  modifyRequest  The modify request to be processed.
+   *                        It must not be {@code null}.
+   *
+   * @return  A completion stage that will be completed when the operation
+   *          completes.
+   */
+  @NotNull()
+  public final CompletionStage<LDAPResult> modifyAsync(
+              @NotNull final ReadOnlyModifyRequest modifyRequest)
+  {
+    Validator.ensureNotNull(modifyRequest);
+
+    final LDAPConnection conn;
+    try
+    {
+      conn = getConnectionWithoutWaiting();
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return AsyncCompletableFuture.failed(OperationType.MODIFY, le);
+    }
+
+    return AsyncCompletableFuture.processAsync(conn, this,
+         (ModifyRequest) modifyRequest);
+  }
+
+
+
   /**
    * Performs a modify DN operation with the provided information using a
    * connection from this connection pool.
@@ -1577,6 +1811,47 @@ public abstract class AbstractConnectionPool
 
 
 
+  /**
+   * Processes the provided modify DN request as an asynchronous operation
+   * using a connection from this pool.  The connection will be released
+   * back to the pool when the operation completes.  This method will not wait
+   * for a connection to be released if none is currently available.  Instead,
+   * the returned completion stage will already have been completed
+   * exceptionally.
+   * <BR><BR>
+   * The returned completion stage will be completed normally with the
+   * result if the operation completes successfully, or exceptionally
+   * with an {@code LDAPException} if it does not.
+   *
+   * @param  modifyDNRequest  The modify DN request to be processed.
+   *                          It must not be {@code null}.
+   *
+   * @return  A completion stage that will be completed when the operation
+   *          completes.
+   */
+  @NotNull()
+  public final CompletionStage<LDAPResult> modifyDNAsync(
+              @NotNull final ReadOnlyModifyDNRequest modifyDNRequest)
+  {
+    Validator.ensureNotNull(modifyDNRequest);
+
+    final LDAPConnection conn;
+    try
+    {
+      conn = getConnectionWithoutWaiting();
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return AsyncCompletableFuture.failed(OperationType.MODIFY_DN, le);
+    }
+
+    return AsyncCompletableFuture.processAsync(conn, this,
+         (ModifyDNRequest) modifyDNRequest);
+  }
+
+
+
   /**
    * Processes a search operation with the provided information using a
    * connection from this connection pool.  The search result entries and
@@ -2221,6 +2496,74 @@ public abstract class AbstractConnectionPool
 
 
 
+  /**
+   * Processes the provided search request as an asynchronous operation
+   * using a connection from this pool.  The connection will be released
+   * back to the pool when the operation completes.  This method will not wait
+   * for a connection to be released if none is currently available.  Instead,
+   * the returned completion stage will already have been completed
+   * exceptionally.
+   * <BR><BR>
+   * The returned completion stage will be completed normally with the
+   * search result (including all of the entries and references that were
+   * returned) if the search completes successfully, or exceptionally with
+   * an {@code LDAPSearchException} if it does not.  The provided search
+   * request must not be configured with a search result listener.
+   *
+   * @param  searchRequest  The search request to be processed.
+   *                        It must not be {@code null}.
+   *
+   * @return  A completion stage that will be completed when the operation
+   *          completes.
+   */
+  @NotNull()
+  public final CompletionStage<SearchResult> searchAsync(
+              @NotNull final ReadOnlySearchRequest searchRequest)
+  {
+    Validator.ensureNotNull(searchRequest);
+
+    final LDAPConnection conn;
+    try
+    {
+      conn = getConnectionWithoutWaiting();
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return AsyncCompletableFuture.failed(OperationType.SEARCH, le);
+    }
+
+    return AsyncCompletableFuture.processAsync(conn, this,
+         (SearchRequest) searchRequest);
+  }
+
+
+
+  /**
+   * Creates a publisher that can be used to stream the entries matching the
+   * provided search request to a subscriber with support for backpressure.
+   * A connection will be checked out of this pool when the subscriber first
+   * requests entries, and it will be released back to the pool when the
+   * search completes or the subscription is cancelled.
+   *
+   * @param  searchRequest  The search request to be processed.  It must not
+   *                        be {@code null}, and it must not be configured
+   *                        with a search result listener.
+   *
+   * @return  The publisher that was created.
+   */
+  @NotNull()
+  public final SearchResultEntryPublisher searchPublisher(
+              @NotNull final ReadOnlySearchRequest searchRequest)
+  {
+    Validator.ensureNotNull(searchRequest);
+
+    return new SearchResultEntryPublisher(null, this,
+         (SearchRequest) searchRequest);
+  }
+
+
+
   /**
    * Processes a search operation with the provided information using a
    * connection from this connection pool.  It is expected that at most one
@@ -0,0 +1,443 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.Validator;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class provides a completable future that serves as the listener for an
+ * asynchronous add, compare, delete, modify, modify DN, or search operation.
+ * It will be completed by the connection reader thread as soon as the response
+ * is received (or by the async timeout timer task if the response does not
+ * arrive in time), so no thread needs to block while waiting for the result.
+ * The future will be completed normally if the operation succeeded, or
+ * exceptionally with an {@code LDAPException} (or an
+ * {@code LDAPSearchException} for search operations) if it did not, which
+ * mirrors the behavior of the corresponding synchronous methods.
+ * <BR><BR>
+ * If the operation was processed using a connection checked out of a
+ * connection pool, then that connection will be released back to the pool
+ * before the future is completed.  If the future is cancelled before the
+ * operation completes, then the operation will be abandoned.
+ *
+ * @param  <T>  The type of result for the associated operation.
+ */
+@InternalUseOnly()
+final class AsyncCompletableFuture<T extends LDAPResult>
+      extends CompletableFuture<T>
+      implements AsyncResultListener, AsyncCompareResultListener,
+                 AsyncSearchResultListener
+{
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = -2474218395217580347L;
+
+
+
+  // The pool from which the connection was checked out, if any.
+  @Nullable private final transient AbstractConnectionPool pool;
+
+  // The async request ID for the associated operation.
+  @Nullable private volatile transient AsyncRequestID asyncRequestID;
+
+  // Indicates whether the pooled connection has been released.
+  @NotNull private final AtomicBoolean connectionReleased;
+
+  // The connection used to process the operation, if it was checked out of a
+  // connection pool.
+  @Nullable private final transient LDAPConnection pooledConnection;
+
+  // The search result entries returned for a search operation.
+  @Nullable private final List<SearchResultEntry> searchEntries;
+
+  // The search result references returned for a search operation.
+  @Nullable private final List<SearchResultReference> searchReferences;
+
+  // The operation type for the associated operation.
+  @NotNull private final OperationType operationType;
+
+
+
+  /**
+   * Creates a new completable future for an operation of the specified type.
+   *
+   * @param  operationType     The operation type for the associated operation.
+   * @param  pool              The connection pool from which the connection
+   *                           was checked out.  It may be {@code null} if the
+   *                           connection is not to be released to a pool.
+   * @param  pooledConnection  The connection checked out of the provided pool.
+   *                           It must be {@code null} if and only if the pool
+   *                           is {@code null}.
+   */
+  private AsyncCompletableFuture(@NotNull final OperationType operationType,
+               @Nullable final AbstractConnectionPool pool,
+               @Nullable final LDAPConnection pooledConnection)
+  {
+    this.operationType    = operationType;
+    this.pool             = pool;
+    this.pooledConnection = pooledConnection;
+
+    connectionReleased = new AtomicBoolean(false);
+    asyncRequestID     = null;
+
+    if (operationType == OperationType.SEARCH)
+    {
+      searchEntries    = new ArrayList<>(10);
+      searchReferences = new ArrayList<>(1);
+    }
+    else
+    {
+      searchEntries    = null;
+      searchReferences = null;
+    }
+  }
+
+
+
+  /**
+   * Processes the provided request as an asynchronous operation on the given
+   * connection.
+   *
+   * @param  <T>         The type of result for the operation.
+   * @param  connection  The connection to use to process the operation.
+   * @param  pool        The connection pool from which the connection was
+   *                     checked out, and to which it should be released when
+   *                     the operation completes.  It may be {@code null} if
+   *                     the connection is not part of a pool.
+   * @param  request     The add, compare, delete, modify, modify DN, or search
+   *                     request to process.
+   *
+   * @return  The completable future that will be completed when the operation
+   *          completes.
+   */
+  @NotNull()
+  static <T extends LDAPResult> AsyncCompletableFuture<T> processAsync(
+              @NotNull final LDAPConnection connection,
+              @Nullable final AbstractConnectionPool pool,
+              @NotNull final LDAPRequest request)
+  {
+    final LDAPConnection pooledConnection = (pool == null) ? null : connection;
+    final AsyncCompletableFuture<T> future = new AsyncCompletableFuture<>(
+         request.getOperationType(), pool, pooledConnection);
+
+    try
+    {
+      final AsyncRequestID requestID;
+      switch (request.getOperationType())
+      {
+        case ADD:
+          requestID = connection.asyncAdd((AddRequest) request, future);
+          break;
+        case COMPARE:
+          requestID = connection.asyncCompare((CompareRequest) request, future);
+          break;
+        case DELETE:
+          requestID = connection.asyncDelete((DeleteRequest) request, future);
+          break;
+        case MODIFY:
+          requestID = connection.asyncModify((ModifyRequest) request, future);
+          break;
+        case MODIFY_DN:
+          requestID =
+               connection.asyncModifyDN((ModifyDNRequest) request, future);
+          break;
+        case SEARCH:
+          final SearchRequest searchRequest = (SearchRequest) request;
+          if (searchRequest.getSearchResultListener() != null)
+          {
+            throw new LDAPException(ResultCode.PARAM_ERROR,
+                 ERR_ASYNC_COMPLETION_SEARCH_HAS_LISTENER.get());
+          }
+
+          requestID = connection.asyncSearch(searchRequest.duplicate(future,
+               searchRequest.getControls()));
+          break;
+        default:
+          // This should never happen.
+          Validator.violation("Unsupported operation type " +
+               request.getOperationType() + " for an asynchronous operation " +
+               "processed as a completion stage.");
+          return future;
+      }
+
+      future.asyncRequestID = requestID;
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      future.completeWithException(le);
+    }
+
+    return future;
+  }
+
+
+
+  /**
+   * Creates a completable future that has already been completed with the
+   * provided exception.
+   *
+   * @param  <T>            The type of result for the operation.
+   * @param  operationType  The operation type for the associated operation.
+   * @param  exception      The exception with which to complete the future.
+   *
+   * @return  The completable future that was created.
+   */
+  @NotNull()
+  static <T extends LDAPResult> AsyncCompletableFuture<T> failed(
+              @NotNull final OperationType operationType,
+              @NotNull final LDAPException exception)
+  {
+    final AsyncCompletableFuture<T> future =
+         new AsyncCompletableFuture<>(operationType, null, null);
+    future.completeWithException(exception);
+    return future;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @InternalUseOnly()
+  @Override()
+  public void ldapResultReceived(@NotNull final AsyncRequestID requestID,
+                                 @NotNull final LDAPResult ldapResult)
+  {
+    completeWithResult(ldapResult);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @InternalUseOnly()
+  @Override()
+  public void compareResultReceived(@NotNull final AsyncRequestID requestID,
+                                    @NotNull final CompareResult compareResult)
+  {
+    completeWithResult(compareResult);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @InternalUseOnly()
+  @Override()
+  public void searchEntryReturned(@NotNull final SearchResultEntry searchEntry)
+  {
+    synchronized (searchEntries)
+    {
+      searchEntries.add(searchEntry);
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @InternalUseOnly()
+  @Override()
+  public void searchReferenceReturned(
+                   @NotNull final SearchResultReference searchReference)
+  {
+    synchronized (searchEntries)
+    {
+      searchReferences.add(searchReference);
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @InternalUseOnly()
+  @Override()
+  public void searchResultReceived(@NotNull final AsyncRequestID requestID,
+                                   @NotNull final SearchResult searchResult)
+  {
+    final SearchResult result;
+    synchronized (searchEntries)
+    {
+      result = new SearchResult(searchResult.getMessageID(),
+           searchResult.getResultCode(), searchResult.getDiagnosticMessage(),
+           searchResult.getMatchedDN(), searchResult.getReferralURLs(),
+           new ArrayList<>(searchEntries), new ArrayList<>(searchReferences),
+           searchResult.getEntryCount(), searchResult.getReferenceCount(),
+           searchResult.getResponseControls());
+    }
+
+    completeWithResult(result);
+  }
+
+
+
+  /**
+   * Completes this future with the provided result.  The future will be
+   * completed normally if the result indicates that the operation was
+   * successful, or exceptionally if not.
+   *
+   * @param  result  The result for the operation.
+   */
+  @SuppressWarnings("unchecked")
+  private void completeWithResult(@NotNull final LDAPResult result)
+  {
+    final ResultCode resultCode = result.getResultCode();
+    releaseConnection(resultCode);
+
+    final boolean success;
+    if (operationType == OperationType.COMPARE)
+    {
+      success = ((resultCode == ResultCode.COMPARE_TRUE) ||
+           (resultCode == ResultCode.COMPARE_FALSE));
+    }
+    else
+    {
+      success = (resultCode == ResultCode.SUCCESS);
+    }
+
+    if (success)
+    {
+      complete((T) result);
+    }
+    else if (result instanceof SearchResult)
+    {
+      completeExceptionally(new LDAPSearchException((SearchResult) result));
+    }
+    else
+    {
+      completeExceptionally(new LDAPException(result));
+    }
+  }
+
+
+
+  /**
+   * Completes this future exceptionally with the provided exception.
+   *
+   * @param  exception  The exception with which to complete this future.
+   */
+  private void completeWithException(@NotNull final LDAPException exception)
+  {
+    releaseConnection(exception.getResultCode());
+
+    if ((operationType == OperationType.SEARCH) &&
+         (! (exception instanceof LDAPSearchException)))
+    {
+      completeExceptionally(new LDAPSearchException(exception));
+    }
+    else
+    {
+      completeExceptionally(exception);
+    }
+  }
+
+
+
+  /**
+   * Releases the pooled connection used to process the operation, if
+   * appropriate.
+   *
+   * @param  resultCode  The result code for the operation, which will be used
+   *                     to determine whether the connection is still usable.
+   */
+  private void releaseConnection(@NotNull final ResultCode resultCode)
+  {
+    if ((pool == null) || (! connectionReleased.compareAndSet(false, true)))
+    {
+      return;
+    }
+
+    if (ResultCode.isConnectionUsable(resultCode))
+    {
+      pool.releaseConnection(pooledConnection);
+    }
+    else
+    {
+      pool.releaseDefunctConnection(pooledConnection);
+    }
+  }
+
+
+
+  /**
+   * Attempts to cancel the associated operation.  If the operation has not
+   * yet completed, then an abandon request will be sent for it.
+   *
+   * @param  mayInterruptIfRunning  This will be ignored.
+   *
+   * @return  {@code true} if this future was cancelled, or {@code false} if it
+   *          had already been completed.
+   */
+  @Override()
+  public boolean cancel(final boolean mayInterruptIfRunning)
+  {
+    if (isDone())
+    {
+      return false;
+    }
+
+    final AsyncRequestID requestID = asyncRequestID;
+    if (requestID != null)
+    {
+      requestID.cancel(mayInterruptIfRunning);
+    }
+
+    releaseConnection(ResultCode.USER_CANCELED);
+    return super.cancel(mayInterruptIfRunning);
+  }
+}
@@ -50,6 +50,7 @@ import com.unboundid.asn1.ASN1Boolean;
 import com.unboundid.asn1.ASN1Buffer;
 import com.unboundid.asn1.ASN1BufferSequence;
 import com.unboundid.asn1.ASN1BufferSet;
+import com.unboundid.asn1.ASN1Constants;
 import com.unboundid.asn1.ASN1Element;
 import com.unboundid.asn1.ASN1Exception;
 import com.unboundid.asn1.ASN1OctetString;
@@ -2909,6 +2910,308 @@ attrNameLoop:
 
 
 
+  /**
+   * Indicates whether this filter contains any value slots.  A value slot is
+   * an assertion value or substring component whose value is exactly equal to
+   * {@link ProtocolOpTemplate#VALUE_SLOT}.
+   *
+   * @return  {@code true} if this filter contains any value slots, or
+   *          {@code false} if not.
+   */
+  boolean hasValueSlots()
+  {
+    switch (filterType)
+    {
+      case FILTER_TYPE_AND:
+      case FILTER_TYPE_OR:
+        for (final Filter f : filterComps)
+        {
+          if (f.hasValueSlots())
+          {
+            return true;
+          }
+        }
+        return false;
+
+      case FILTER_TYPE_NOT:
+        return notComp.hasValueSlots();
+
+      case FILTER_TYPE_EQUALITY:
+      case FILTER_TYPE_GREATER_OR_EQUAL:
+      case FILTER_TYPE_LESS_OR_EQUAL:
+      case FILTER_TYPE_APPROXIMATE_MATCH:
+      case FILTER_TYPE_EXTENSIBLE_MATCH:
+        return ProtocolOpTemplate.isValueSlot(assertionValue.stringValue());
+
+      case FILTER_TYPE_SUBSTRING:
+        if ((subInitial != null) &&
+             ProtocolOpTemplate.isValueSlot(subInitial.stringValue()))
+        {
+          return true;
+        }
+
+        for (final ASN1OctetString s : subAny)
+        {
+          if (ProtocolOpTemplate.isValueSlot(s.stringValue()))
+          {
+            return true;
+          }
+        }
+
+        return ((subFinal != null) &&
+             ProtocolOpTemplate.isValueSlot(subFinal.stringValue()));
+
+      case FILTER_TYPE_PRESENCE:
+      default:
+        return false;
+    }
+  }
+
+
+
+  /**
+   * Writes an encoded representation of this filter to the provided protocol
+   * op template builder.  Any components that do not contain value slots will
+   * be fully encoded, while value slots (and the sequences that enclose them)
+   * will be added so that they can be encoded when the template is used.  The
+   * resulting encoding will be exactly the same as that produced by the
+   * {@link #writeTo(ASN1Buffer)} method for a filter with the slot values
+   * filled in.
+   *
+   * @param  builder  The protocol op template builder to which the filter
+   *                  should be written.
+   */
+  void writeTo(@NotNull final ProtocolOpTemplate.Builder builder)
+  {
+    if (! hasValueSlots())
+    {
+      writeTo(builder.getEncodedBuffer());
+      return;
+    }
+
+    final ASN1Buffer buffer = builder.getEncodedBuffer();
+    switch (filterType)
+    {
+      case FILTER_TYPE_AND:
+      case FILTER_TYPE_OR:
+        builder.beginSequence(filterType);
+        for (final Filter f : filterComps)
+        {
+          f.writeTo(builder);
+        }
+        builder.endSequence();
+        break;
+
+      case FILTER_TYPE_NOT:
+        builder.beginSequence(filterType);
+        notComp.writeTo(builder);
+        builder.endSequence();
+        break;
+
+      case FILTER_TYPE_EQUALITY:
+      case FILTER_TYPE_GREATER_OR_EQUAL:
+      case FILTER_TYPE_LESS_OR_EQUAL:
+      case FILTER_TYPE_APPROXIMATE_MATCH:
+        builder.beginSequence(filterType);
+        buffer.addOctetString(attrName);
+        builder.addValueSlot(assertionValue.getType());
+        builder.endSequence();
+        break;
+
+      case FILTER_TYPE_SUBSTRING:
+        builder.beginSequence(filterType);
+        buffer.addOctetString(attrName);
+
+        builder.beginSequence(ASN1Constants.UNIVERSAL_SEQUENCE_TYPE);
+        if (subInitial != null)
+        {
+          writeSubstringComponentTo(builder, SUBSTRING_TYPE_SUBINITIAL,
+               subInitial);
+        }
+
+        for (final ASN1OctetString s : subAny)
+        {
+          writeSubstringComponentTo(builder, SUBSTRING_TYPE_SUBANY, s);
+        }
+
+        if (subFinal != null)
+        {
+          writeSubstringComponentTo(builder, SUBSTRING_TYPE_SUBFINAL, subFinal);
+        }
+        builder.endSequence();
+        builder.endSequence();
+        break;
+
+      case FILTER_TYPE_EXTENSIBLE_MATCH:
+        builder.beginSequence(filterType);
+        if (matchingRuleID != null)
+        {
+          buffer.addOctetString(EXTENSIBLE_TYPE_MATCHING_RULE_ID,
+                                matchingRuleID);
+        }
+
+        if (attrName != null)
+        {
+          buffer.addOctetString(EXTENSIBLE_TYPE_ATTRIBUTE_NAME, attrName);
+        }
+
+        builder.addValueSlot(EXTENSIBLE_TYPE_MATCH_VALUE);
+
+        if (dnAttributes)
+        {
+          buffer.addBoolean(EXTENSIBLE_TYPE_DN_ATTRIBUTES, true);
+        }
+        builder.endSequence();
+        break;
+    }
+  }
+
+
+
+  /**
+   * Writes the provided substring component to the given protocol op template
+   * builder, either as encoded content or as a value slot.
+   *
+   * @param  builder    The protocol op template builder to which the component
+   *                    should be written.
+   * @param  type       The BER type for the substring component.
+   * @param  component  The substring component to be written.
+   */
+  private static void writeSubstringComponentTo(
+               @NotNull final ProtocolOpTemplate.Builder builder,
+               final byte type, @NotNull final ASN1OctetString component)
+  {
+    if (ProtocolOpTemplate.isValueSlot(component.stringValue()))
+    {
+      builder.addValueSlot(type);
+    }
+    else
+    {
+      builder.getEncodedBuffer().addOctetString(type, component.getValue());
+    }
+  }
+
+
+
+  /**
+   * Creates a copy of this filter in which each value slot is replaced with the
+   * next of the provided values.  Any components that do not contain value
+   * slots will be reused rather than copied.
+   *
+   * @param  values          The values to use in place of the value slots, in
+   *                         the order in which the slots appear in the filter.
+   * @param  nextValueIndex  A single-element array that holds the index of the
+   *                         next value to use.  It will be updated as values
+   *                         are consumed.
+   *
+   * @return  The filter with the value slots replaced.
+   */
+  @NotNull()
+  Filter replaceValueSlots(@NotNull final byte[][] values,
+                           @NotNull final int[] nextValueIndex)
+  {
+    switch (filterType)
+    {
+      case FILTER_TYPE_AND:
+      case FILTER_TYPE_OR:
+        if (! hasValueSlots())
+        {
+          return this;
+        }
+
+        final Filter[] comps = new Filter[filterComps.length];
+        for (int i=0; i < comps.length; i++)
+        {
+          comps[i] = filterComps[i].replaceValueSlots(values, nextValueIndex);
+        }
+        return new Filter(null, filterType, comps, null, null, null, null,
+             NO_SUB_ANY, null, null, false);
+
+      case FILTER_TYPE_NOT:
+        if (! notComp.hasValueSlots())
+        {
+          return this;
+        }
+
+        return new Filter(null, filterType, NO_FILTERS,
+             notComp.replaceValueSlots(values, nextValueIndex), null, null,
+             null, NO_SUB_ANY, null, null, false);
+
+      case FILTER_TYPE_EQUALITY:
+      case FILTER_TYPE_GREATER_OR_EQUAL:
+      case FILTER_TYPE_LESS_OR_EQUAL:
+      case FILTER_TYPE_APPROXIMATE_MATCH:
+      case FILTER_TYPE_EXTENSIBLE_MATCH:
+        if (! ProtocolOpTemplate.isValueSlot(assertionValue.stringValue()))
+        {
+          return this;
+        }
+
+        return new Filter(null, filterType, NO_FILTERS, null, attrName,
+             new ASN1OctetString(assertionValue.getType(),
+                  values[nextValueIndex[0]++]),
+             null, NO_SUB_ANY, null, matchingRuleID, dnAttributes);
+
+      case FILTER_TYPE_SUBSTRING:
+        if (! hasValueSlots())
+        {
+          return this;
+        }
+
+        final ASN1OctetString newSubInitial = replaceValueSlot(subInitial,
+             values, nextValueIndex);
+
+        final ASN1OctetString[] newSubAny = new ASN1OctetString[subAny.length];
+        for (int i=0; i < newSubAny.length; i++)
+        {
+          newSubAny[i] = replaceValueSlot(subAny[i], values, nextValueIndex);
+        }
+
+        final ASN1OctetString newSubFinal = replaceValueSlot(subFinal,
+             values, nextValueIndex);
+
+        return new Filter(null, filterType, NO_FILTERS, null, attrName, null,
+             newSubInitial, newSubAny, newSubFinal, null, false);
+
+      case FILTER_TYPE_PRESENCE:
+      default:
+        return this;
+    }
+  }
+
+
+
+  /**
+   * Replaces the provided substring component with the next of the given
+   * values if it is a value slot.
+   *
+   * @param  component       The substring component to examine.  It may be
+   *                         {@code null} if the component is not present.
+   * @param  values          The values to use in place of the value slots.
+   * @param  nextValueIndex  A single-element array that holds the index of the
+   *                         next value to use.
+   *
+   * @return  The provided component if it is not a value slot, or a new
+   *          component with the appropriate value if it is.
+   */
+  @Nullable()
+  private static ASN1OctetString replaceValueSlot(
+               @Nullable final ASN1OctetString component,
+               @NotNull final byte[][] values,
+               @NotNull final int[] nextValueIndex)
+  {
+    if ((component == null) ||
+         (! ProtocolOpTemplate.isValueSlot(component.stringValue())))
+    {
+      return component;
+    }
+
+    return new ASN1OctetString(component.getType(),
+         values[nextValueIndex[0]++]);
+  }
+
+
+
   /**
    * Encodes this search filter to an ASN.1 element suitable for inclusion in an
    * LDAP search request protocol op.
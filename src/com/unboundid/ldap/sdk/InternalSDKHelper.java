@@ -38,6 +38,10 @@ package com.unboundid.ldap.sdk;
 
 
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -55,7 +59,6 @@ import com.unboundid.ldap.sdk.schema.Schema;
 import com.unboundid.ldap.sdk.unboundidds.TopologyRegistryTrustManager;
 import com.unboundid.util.CryptoHelper;
 import com.unboundid.util.Debug;
-import com.unboundid.util.DebugType;
 import com.unboundid.util.InternalUseOnly;
 import com.unboundid.util.NotNull;
 import com.unboundid.util.Nullable;
@@ -145,13 +148,6 @@ public final class InternalSDKHelper
                                   final int soTimeout)
          throws LDAPException
   {
-    if (Debug.debugEnabled())
-    {
-      Debug.debug(Level.INFO, DebugType.CONNECT,
-           "Setting the SO_TIMEOUT value for connection " + connection +
-                " to " + soTimeout + "ms.");
-    }
-
     try
     {
       if (connection != null)
@@ -160,7 +156,7 @@ public final class InternalSDKHelper
              connection.getConnectionInternals(false);
         if (internals != null)
         {
-          internals.getSocket().setSoTimeout(soTimeout);
+          internals.setSoTimeout(soTimeout);
         }
       }
     }
@@ -201,6 +197,51 @@ public final class InternalSDKHelper
 
 
 
+  /**
+   * Creates an output stream that may be used to write data to the provided
+   * socket channel, which may be configured for non-blocking operation.  If
+   * the channel is not immediately able to accept all of the data provided in
+   * a write, then the write will block until it can.  Closing the output
+   * stream will not close the channel.
+   *
+   * @param  channel  The channel to which data will be written.  It must not
+   *                  be {@code null}.
+   *
+   * @return  The output stream that was created.
+   */
+  @InternalUseOnly()
+  @NotNull()
+  public static OutputStream createSocketChannelOutputStream(
+                                  @NotNull final SocketChannel channel)
+  {
+    return new SocketChannelOutputStream(channel);
+  }
+
+
+
+  /**
+   * Writes the remaining contents of each of the provided buffers, in order, to
+   * the channel associated with the provided output stream using gathering
+   * writes.
+   *
+   * @param  outputStream  The output stream to which the data should be
+   *                       written.  It must have been created by the
+   *                       {@link #createSocketChannelOutputStream} method.
+   * @param  buffers       The buffers containing the data to be written.
+   *
+   * @throws  IOException  If a problem occurs while writing the data.
+   */
+  @InternalUseOnly()
+  public static void writeToSocketChannel(
+                          @NotNull final OutputStream outputStream,
+                          @NotNull final ByteBuffer[] buffers)
+         throws IOException
+  {
+    ((SocketChannelOutputStream) outputStream).write(buffers);
+  }
+
+
+
   /**
    * Creates a new asynchronous request ID with the specified LDAP message ID.
    *
@@ -404,9 +445,47 @@ public final class InternalSDKHelper
                      @NotNull final ASN1StreamReader reader,
                      @Nullable final Schema schema)
          throws LDAPException
+  {
+    return readSearchResultEntryFrom(messageID, messageSequence, reader,
+         schema, false);
+  }
+
+
+
+  /**
+   * Creates a new search result entry object with the protocol op and controls
+   * read from the given ASN.1 stream reader.
+   *
+   * @param  messageID        The LDAP message ID for the LDAP message that is
+   *                          associated with this search result entry.
+   * @param  messageSequence  The ASN.1 stream reader sequence used in the
+   *                          course of reading the LDAP message elements.
+   * @param  reader           The ASN.1 stream reader from which to read the
+   *                          protocol op and controls.
+   * @param  schema           The schema to use to select the appropriate
+   *                          matching rule to use for each attribute.  It may
+   *                          be {@code null} if the default matching rule
+   *                          should always be used.
+   * @param  lazyDecoding     Indicates whether the attributes of the entry
+   *                          should be left in their encoded form until they
+   *                          are accessed.
+   *
+   * @return  The decoded search result entry object.
+   *
+   * @throws  LDAPException  If a problem occurs while reading or decoding data
+   *                         from the ASN.1 stream reader.
+   */
+  @InternalUseOnly()
+  @NotNull()
+  public static SearchResultEntry readSearchResultEntryFrom(final int messageID,
+                     @NotNull final ASN1StreamReaderSequence messageSequence,
+                     @NotNull final ASN1StreamReader reader,
+                     @Nullable final Schema schema,
+                     final boolean lazyDecoding)
+         throws LDAPException
   {
     return SearchResultEntry.readSearchEntryFrom(messageID, messageSequence,
-                                                 reader, schema);
+                                                 reader, schema, lazyDecoding);
   }
 
 
@@ -70,6 +70,8 @@ import com.unboundid.util.json.JSONBuffer;
 /**
  * This class provides an implementation of an LDAP connection access logger
  * that records messages as JSON objects.
+ *
+ * @see  com.unboundid.util.AsyncLogHandler
  */
 @NotMutable()
 @ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
@@ -47,6 +47,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Timer;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -1768,7 +1769,8 @@ public final class LDAPConnection
 
   /**
    * Indicates that this LDAP connection is part of the specified
-   * connection pool.
+   * connection pool.  Response times for operations processed on this
+   * connection will also be recorded in the statistics for that pool.
    *
    * @param  connectionPool  The connection pool with which this LDAP connection
    *                         is associated.
@@ -1776,6 +1778,16 @@ public final class LDAPConnection
   void setConnectionPool(@Nullable final AbstractConnectionPool connectionPool)
   {
     this.connectionPool = connectionPool;
+
+    if (connectionPool == null)
+    {
+      connectionStatistics.setPoolStatistics(null);
+    }
+    else
+    {
+      connectionStatistics.setPoolStatistics(
+           connectionPool.getConnectionPoolStatistics());
+    }
   }
 
 
@@ -2348,6 +2360,35 @@ public final class LDAPConnection
 
 
 
+  /**
+   * Processes the provided add request as an asynchronous operation
+   * without requiring any thread to block while waiting for the response.
+   * The returned completion stage will be completed by the thread that
+   * reads the response from the server (or by the timer task that enforces
+   * the response timeout).
+   * <BR><BR>
+   * The returned completion stage will be completed normally with the
+   * result if the operation completes successfully, or exceptionally
+   * with an {@code LDAPException} if it does not.
+   *
+   * @param  addRequest  The add request to be processed.
+   *                     It must not be {@code null}.
+   *
+   * @return  A completion stage that will be completed when the operation
+   *          completes.
+   */
+  @NotNull()
+  public CompletionStage<LDAPResult> addAsync(
+              @NotNull final ReadOnlyAddRequest addRequest)
+  {
+    Validator.ensureNotNull(addRequest);
+
+    return AsyncCompletableFuture.processAsync(this, null,
+         (AddRequest) addRequest);
+  }
+
+
+
   /**
    * Processes a simple bind request with the provided DN and password.
    * <BR><BR>
@@ -2418,6 +2459,12 @@ public final class LDAPConnection
   {
     Validator.ensureNotNull(bindRequest);
 
+    if (connectionPool != null)
+    {
+      connectionPool.ensureStateChangingOperationAllowed(this,
+           OperationType.BIND.name());
+    }
+
     final BindResult bindResult = processBindOperation(bindRequest);
     switch (bindResult.getResultCode().intValue())
     {
@@ -2594,6 +2641,36 @@ public final class LDAPConnection
 
 
 
+  /**
+   * Processes the provided compare request as an asynchronous operation
+   * without requiring any thread to block while waiting for the response.
+   * The returned completion stage will be completed by the thread that
+   * reads the response from the server (or by the timer task that enforces
+   * the response timeout).
+   * <BR><BR>
+   * The returned completion stage will be completed normally with the
+   * compare result if the server returns a result code of either
+   * {@code COMPARE_TRUE} or {@code COMPARE_FALSE}, or exceptionally with
+   * an {@code LDAPException} for any other result.
+   *
+   * @param  compareRequest  The compare request to be processed.
+   *                         It must not be {@code null}.
+   *
+   * @return  A completion stage that will be completed when the operation
+   *          completes.
+   */
+  @NotNull()
+  public CompletionStage<CompareResult> compareAsync(
+              @NotNull final ReadOnlyCompareRequest compareRequest)
+  {
+    Validator.ensureNotNull(compareRequest);
+
+    return AsyncCompletableFuture.processAsync(this, null,
+         (CompareRequest) compareRequest);
+  }
+
+
+
   /**
    * Deletes the entry with the specified DN.
    *
@@ -2746,6 +2823,35 @@ public final class LDAPConnection
 
 
 
+  /**
+   * Processes the provided delete request as an asynchronous operation
+   * without requiring any thread to block while waiting for the response.
+   * The returned completion stage will be completed by the thread that
+   * reads the response from the server (or by the timer task that enforces
+   * the response timeout).
+   * <BR><BR>
+   * The returned completion stage will be completed normally with the
+   * result if the operation completes successfully, or exceptionally
+   * with an {@code LDAPException} if it does not.
+   *
+   * @param  deleteRequest  The delete request to be processed.
+   *                        It must not be {@code null}.
+   *
+   * @return  A completion stage that will be completed when the operation
+   *          completes.
+   */
+  @NotNull()
+  public CompletionStage<LDAPResult> deleteAsync(
+              @NotNull final ReadOnlyDeleteRequest deleteRequest)
+  {
+    Validator.ensureNotNull(deleteRequest);
+
+    return AsyncCompletableFuture.processAsync(this, null,
+         (DeleteRequest) deleteRequest);
+  }
+
+
+
   /**
    * Processes an extended request with the provided request OID.  Note that
    * because some types of extended operations return unusual result codes under
@@ -2877,6 +2983,12 @@ public final class LDAPConnection
   {
     Validator.ensureNotNull(extendedRequest);
 
+    if ((connectionPool != null) && extendedRequest.getOID().equals(
+         StartTLSExtendedRequest.STARTTLS_REQUEST_OID))
+    {
+      connectionPool.ensureStateChangingOperationAllowed(this, "StartTLS");
+    }
+
     final ExtendedResult extendedResult = extendedRequest.process(this, 1);
 
     if ((extendedResult.getOID() == null) &&
@@ -3150,6 +3262,35 @@ public final class LDAPConnection
 
 
 
+  /**
+   * Processes the provided modify request as an asynchronous operation
+   * without requiring any thread to block while waiting for the response.
+   * The returned completion stage will be completed by the thread that
+   * reads the response from the server (or by the timer task that enforces
+   * the response timeout).
+   * <BR><BR>
+   * The returned completion stage will be completed normally with the
+   * result if the operation completes successfully, or exceptionally
+   * with an {@code LDAPException} if it does not.
+   *
+   * @param  modifyRequest  The modify request to be processed.
+   *                        It must not be {@code null}.
+   *
+   * @return  A completion stage that will be completed when the operation
+   *          completes.
+   */
+  @NotNull()
+  public CompletionStage<LDAPResult> modifyAsync(
+              @NotNull final ReadOnlyModifyRequest modifyRequest)
+  {
+    Validator.ensureNotNull(modifyRequest);
+
+    return AsyncCompletableFuture.processAsync(this, null,
+         (ModifyRequest) modifyRequest);
+  }
+
+
+
   /**
    * Performs a modify DN operation with the provided information.
    *
@@ -3348,6 +3489,35 @@ public final class LDAPConnection
 
 
 
+  /**
+   * Processes the provided modify DN request as an asynchronous operation
+   * without requiring any thread to block while waiting for the response.
+   * The returned completion stage will be completed by the thread that
+   * reads the response from the server (or by the timer task that enforces
+   * the response timeout).
+   * <BR><BR>
+   * The returned completion stage will be completed normally with the
+   * result if the operation completes successfully, or exceptionally
+   * with an {@code LDAPException} if it does not.
+   *
+   * @param  modifyDNRequest  The modify DN request to be processed.
+   *                          It must not be {@code null}.
+   *
+   * @return  A completion stage that will be completed when the operation
+   *          completes.
+   */
+  @NotNull()
+  public CompletionStage<LDAPResult> modifyDNAsync(
+              @NotNull final ReadOnlyModifyDNRequest modifyDNRequest)
+  {
+    Validator.ensureNotNull(modifyDNRequest);
+
+    return AsyncCompletableFuture.processAsync(this, null,
+         (ModifyDNRequest) modifyDNRequest);
+  }
+
+
+
   /**
    * Processes a search operation with the provided information.  The search
    * result entries and references will be collected internally and included in
@@ -4517,6 +4687,61 @@ public final class LDAPConnection
 
 
 
+  /**
+   * Processes the provided search request as an asynchronous operation
+   * without requiring any thread to block while waiting for the response.
+   * The returned completion stage will be completed by the thread that
+   * reads the response from the server (or by the timer task that enforces
+   * the response timeout).
+   * <BR><BR>
+   * The returned completion stage will be completed normally with the
+   * search result (including all of the entries and references that were
+   * returned) if the search completes successfully, or exceptionally with
+   * an {@code LDAPSearchException} if it does not.  The provided search
+   * request must not be configured with a search result listener.
+   *
+   * @param  searchRequest  The search request to be processed.
+   *                        It must not be {@code null}.
+   *
+   * @return  A completion stage that will be completed when the operation
+   *          completes.
+   */
+  @NotNull()
+  public CompletionStage<SearchResult> searchAsync(
+              @NotNull final ReadOnlySearchRequest searchRequest)
+  {
+    Validator.ensureNotNull(searchRequest);
+
+    return AsyncCompletableFuture.processAsync(this, null,
+         (SearchRequest) searchRequest);
+  }
+
+
+
+  /**
+   * Creates a publisher that can be used to stream the entries matching the
+   * provided search request to a subscriber with support for backpressure.
+   * The search request will not be sent until the subscriber first requests
+   * entries.
+   *
+   * @param  searchRequest  The search request to be processed.  It must not
+   *                        be {@code null}, and it must not be configured
+   *                        with a search result listener.
+   *
+   * @return  The publisher that was created.
+   */
+  @NotNull()
+  public SearchResultEntryPublisher searchPublisher(
+              @NotNull final ReadOnlySearchRequest searchRequest)
+  {
+    Validator.ensureNotNull(searchRequest);
+
+    return new SearchResultEntryPublisher(this, null,
+         (SearchRequest) searchRequest);
+  }
+
+
+
   /**
    * Processes the provided generic request and returns the result.  This may
    * be useful for cases in which it is not known what type of operation the
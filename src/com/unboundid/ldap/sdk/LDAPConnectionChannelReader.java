@@ -0,0 +1,667 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.security.sasl.SaslClient;
+
+import com.unboundid.asn1.ASN1BufferAllocator;
+import com.unboundid.asn1.ASN1Exception;
+import com.unboundid.asn1.ASN1StreamReader;
+import com.unboundid.ldap.protocol.LDAPMessage;
+import com.unboundid.ldap.protocol.LDAPResponse;
+import com.unboundid.util.Debug;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class provides a mechanism for reading responses from a non-blocking
+ * socket channel using one of a set of shared selector threads rather than a
+ * dedicated thread per connection.  Data read from the channel will be
+ * buffered until a complete LDAP message is available, and each complete
+ * message will be decoded and handed off to the associated
+ * {@link LDAPConnectionReader} so that it can be delivered to the appropriate
+ * response acceptor.  If the connection uses a SASL security layer, then data
+ * read from the channel will be unwrapped before it is decoded.
+ */
+@InternalUseOnly()
+final class LDAPConnectionChannelReader
+{
+  /**
+   * The initial size to use for the buffer that holds data read from the
+   * channel.  It will be expanded as needed to hold larger messages.
+   */
+  private static final int INITIAL_BUFFER_SIZE = 8192;
+
+
+
+  /**
+   * The maximum size that the read buffer will be allowed to retain once all of
+   * the data it holds has been processed.  If a larger message caused it to
+   * grow beyond this size, then it will be replaced with a smaller buffer.
+   */
+  private static final int MAX_RETAINED_BUFFER_SIZE = 131_072;
+
+
+
+  /**
+   * The maximum length of time in milliseconds to wait for the channel to be
+   * deregistered from its selector when detaching it.
+   */
+  private static final long MAX_DETACH_WAIT_MILLIS = 10_000L;
+
+
+
+  /**
+   * The registration state that indicates that the reader has not yet been
+   * registered with a selector.
+   */
+  private static final int STATE_NEW = 0;
+
+
+
+  /**
+   * The registration state that indicates that the reader has been registered
+   * with a selector.
+   */
+  private static final int STATE_REGISTERED = 1;
+
+
+
+  /**
+   * The registration state that indicates that the reader has been
+   * deregistered from its selector.
+   */
+  private static final int STATE_DEREGISTERED = 2;
+
+
+
+  // The current registration state for this reader.
+  @NotNull private final AtomicInteger registrationState;
+
+  // The buffer that holds clear-text data that has been unwrapped using the
+  // SASL client but not yet decoded.
+  @NotNull private ByteBuffer clearBuffer;
+
+  // The buffer that holds data read from the channel but not yet processed.
+  @NotNull private ByteBuffer readBuffer;
+
+  // The maximum size in bytes for messages read from the server.
+  private final int maxMessageSize;
+
+  // The LDAP connection with which this reader is associated.
+  @NotNull private final LDAPConnection connection;
+
+  // The connection reader to which decoded responses will be provided.
+  @NotNull private final LDAPConnectionReader connectionReader;
+
+  // The selector thread with which this reader is registered.
+  @Nullable private volatile LDAPConnectionSelectorThread selectorThread;
+
+  // The SASL client that should be used to unwrap data read from the server.
+  @Nullable private volatile SaslClient saslClient;
+
+  // The selection key for the channel's registration with the selector.
+  @Nullable private volatile SelectionKey selectionKey;
+
+  // The channel from which data will be read.
+  @NotNull private final SocketChannel channel;
+
+
+
+  /**
+   * Creates a new channel reader with the provided information.
+   *
+   * @param  connection        The LDAP connection with which this reader is
+   *                           associated.
+   * @param  connectionReader  The connection reader to which decoded responses
+   *                           should be provided.
+   * @param  channel           The channel from which data should be read.
+   */
+  LDAPConnectionChannelReader(@NotNull final LDAPConnection connection,
+       @NotNull final LDAPConnectionReader connectionReader,
+       @NotNull final SocketChannel channel)
+  {
+    this.connection = connection;
+    this.connectionReader = connectionReader;
+    this.channel = channel;
+
+    maxMessageSize = connection.getConnectionOptions().getMaxMessageSize();
+    readBuffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    clearBuffer = ByteBuffer.allocate(0);
+    registrationState = new AtomicInteger(STATE_NEW);
+    saslClient = null;
+    selectionKey = null;
+    selectorThread = null;
+  }
+
+
+
+  /**
+   * Retrieves the channel from which this reader will read data.
+   *
+   * @return  The channel from which this reader will read data.
+   */
+  @NotNull()
+  SocketChannel getChannel()
+  {
+    return channel;
+  }
+
+
+
+  /**
+   * Configures the channel for non-blocking operation and registers it with
+   * one of the shared selector threads.
+   *
+   * @throws  IOException  If a problem occurs while configuring the channel.
+   */
+  void register()
+       throws IOException
+  {
+    channel.configureBlocking(false);
+
+    final LDAPConnectionSelectorThread t =
+         LDAPConnectionSelectorThread.getSelectorThread();
+    selectorThread = t;
+    if (registrationState.compareAndSet(STATE_NEW, STATE_REGISTERED))
+    {
+      t.register(this);
+    }
+  }
+
+
+
+  /**
+   * Indicates that the channel has been registered with the selector using the
+   * provided key.  This should only be called by the selector thread.
+   *
+   * @param  key  The selection key for the registration.
+   *
+   * @return  {@code true} if the registration should be retained, or
+   *          {@code false} if this reader was deregistered before the
+   *          registration could be completed and the key has been cancelled.
+   */
+  boolean registered(@NotNull final SelectionKey key)
+  {
+    selectionKey = key;
+    if (isDeregistered())
+    {
+      key.cancel();
+      return false;
+    }
+
+    return true;
+  }
+
+
+
+  /**
+   * Indicates that the channel could not be registered with the selector.  The
+   * reader will be deregistered, and the connection will be notified of the
+   * failure.  This should only be called by the selector thread.
+   *
+   * @param  cause  The exception that prevented the channel from being
+   *                registered.
+   */
+  void registrationFailed(@NotNull final Exception cause)
+  {
+    deregister();
+    connectionReader.selectorReadFailed(cause);
+  }
+
+
+
+  /**
+   * Indicates whether this reader has been deregistered from its selector.
+   *
+   * @return  {@code true} if this reader has been deregistered from its
+   *          selector, or {@code false} if not.
+   */
+  boolean isDeregistered()
+  {
+    return (registrationState.get() == STATE_DEREGISTERED);
+  }
+
+
+
+  /**
+   * Deregisters this reader from its selector so that no more data will be read
+   * from the channel by the selector thread.  This method may be safely called
+   * multiple times.
+   */
+  void deregister()
+  {
+    final int previousState = registrationState.getAndSet(STATE_DEREGISTERED);
+    if (previousState != STATE_REGISTERED)
+    {
+      return;
+    }
+
+    final SelectionKey key = selectionKey;
+    if (key != null)
+    {
+      key.cancel();
+    }
+
+    final LDAPConnectionSelectorThread t = selectorThread;
+    if (t != null)
+    {
+      t.deregistered();
+    }
+  }
+
+
+
+  /**
+   * Removes this reader from its selector and reconfigures the channel for
+   * blocking operation so that it may be used by a dedicated reader thread.
+   * This may only be called when no unprocessed data remains buffered, which
+   * should be the case immediately after a StartTLS response has been read.
+   *
+   * @throws  IOException  If a problem occurs while reconfiguring the channel,
+   *                       or if there is buffered data that has not yet been
+   *                       processed.
+   */
+  void detach()
+       throws IOException
+  {
+    synchronized (this)
+    {
+      if ((readBuffer.position() > 0) || (clearBuffer.position() > 0))
+      {
+        throw new IOException(ERR_CHANNEL_READER_DETACH_UNREAD_DATA.get());
+      }
+    }
+
+    deregister();
+
+    final long stopWaitingTime =
+         System.currentTimeMillis() + MAX_DETACH_WAIT_MILLIS;
+    while (channel.isRegistered())
+    {
+      // The selector will only complete the deregistration during its next
+      // selection operation, so make sure that one happens.
+      final LDAPConnectionSelectorThread t = selectorThread;
+      if (t != null)
+      {
+        t.wakeup();
+      }
+
+      if (System.currentTimeMillis() >= stopWaitingTime)
+      {
+        throw new IOException(ERR_CHANNEL_READER_DETACH_TIMEOUT.get(
+             MAX_DETACH_WAIT_MILLIS));
+      }
+
+      try
+      {
+        Thread.sleep(1L);
+      }
+      catch (final InterruptedException ie)
+      {
+        Debug.debugException(ie);
+        Thread.currentThread().interrupt();
+        throw new IOException(ie);
+      }
+    }
+
+    channel.configureBlocking(true);
+  }
+
+
+
+  /**
+   * Specifies the SASL client that should be used to unwrap any subsequent
+   * data read from the server.
+   *
+   * @param  saslClient  The SASL client that should be used to unwrap any
+   *                     subsequent data read from the server.
+   */
+  void setSASLClient(@NotNull final SaslClient saslClient)
+  {
+    this.saslClient = saslClient;
+  }
+
+
+
+  /**
+   * Reads the data that is currently available from the channel and processes
+   * any complete messages that it contains.  This should only be called by the
+   * selector thread when the channel has been selected as readable.
+   *
+   * @return  {@code true} if the channel should remain registered with the
+   *          selector, or {@code false} if the end of the input has been
+   *          reached or an error has occurred and the channel should no longer
+   *          be selected.
+   */
+  synchronized boolean readAvailableData()
+  {
+    if (isDeregistered())
+    {
+      return false;
+    }
+
+    try
+    {
+      final int bytesRead = channel.read(readBuffer);
+      if (bytesRead < 0)
+      {
+        connectionReader.selectorEndOfInput();
+        return false;
+      }
+      else if (bytesRead == 0)
+      {
+        return true;
+      }
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      connectionReader.selectorReadFailed(e);
+      return false;
+    }
+
+    try
+    {
+      final int requiredSize;
+      readBuffer.flip();
+      try
+      {
+        if (saslClient == null)
+        {
+          requiredSize = decodeMessages(readBuffer);
+        }
+        else
+        {
+          requiredSize = unwrapSASLData();
+        }
+      }
+      finally
+      {
+        readBuffer.compact();
+      }
+
+      if (requiredSize > readBuffer.capacity())
+      {
+        readBuffer = expand(readBuffer, requiredSize);
+      }
+      else if ((readBuffer.position() == 0) &&
+           (readBuffer.capacity() > MAX_RETAINED_BUFFER_SIZE))
+      {
+        readBuffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+      }
+
+      return (! isDeregistered());
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      connectionReader.selectorDecodeFailed(le);
+      return false;
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      connectionReader.selectorReadFailed(e);
+      return false;
+    }
+  }
+
+
+
+  /**
+   * Unwraps as many complete SASL-protected chunks of data as are available in
+   * the read buffer, and decodes any complete messages contained in the
+   * unwrapped data.  Each chunk of wrapped data will be preceded by four bytes
+   * that specify the number of bytes of wrapped data.
+   *
+   * @return  The minimum size that the read buffer must have in order to hold
+   *          the next incomplete chunk of wrapped data.
+   *
+   * @throws  Exception  If a problem occurs while unwrapping or decoding the
+   *                     data.
+   */
+  private int unwrapSASLData()
+          throws Exception
+  {
+    int requiredSize = 0;
+    while (readBuffer.remaining() >= 4)
+    {
+      final int wrappedLength = readBuffer.getInt(readBuffer.position());
+      if ((wrappedLength < 0) ||
+           ((maxMessageSize > 0) && (wrappedLength > maxMessageSize)))
+      {
+        throw new IOException(ERR_CHANNEL_READER_SASL_LENGTH_EXCEEDS_MAX.get(
+             wrappedLength, maxMessageSize));
+      }
+
+      if (readBuffer.remaining() < (4 + wrappedLength))
+      {
+        requiredSize = 4 + wrappedLength;
+        break;
+      }
+
+      final byte[] wrappedBytes = new byte[wrappedLength];
+      readBuffer.position(readBuffer.position() + 4);
+      readBuffer.get(wrappedBytes);
+
+      final byte[] clearBytes =
+           saslClient.unwrap(wrappedBytes, 0, wrappedLength);
+      if (clearBuffer.remaining() < clearBytes.length)
+      {
+        clearBuffer = expand(clearBuffer,
+             clearBuffer.position() + clearBytes.length);
+      }
+      clearBuffer.put(clearBytes);
+    }
+
+    clearBuffer.flip();
+    try
+    {
+      decodeMessages(clearBuffer);
+    }
+    finally
+    {
+      clearBuffer.compact();
+    }
+
+    return requiredSize;
+  }
+
+
+
+  /**
+   * Decodes as many complete LDAP messages as are available in the provided
+   * buffer and hands them off to the connection reader.  The buffer must be
+   * ready for reading, and its position will be advanced past each message that
+   * is decoded.
+   *
+   * @param  buffer  The buffer containing the data to decode.
+   *
+   * @return  The minimum size that the buffer must have in order to hold the
+   *          next incomplete message, or zero if that is not yet known.
+   *
+   * @throws  Exception  If a problem occurs while decoding or processing a
+   *                     message.
+   */
+  private int decodeMessages(@NotNull final ByteBuffer buffer)
+          throws Exception
+  {
+    while (buffer.remaining() >= 2)
+    {
+      final int startPos = buffer.position();
+      final int firstLengthByte = buffer.get(startPos + 1) & 0xFF;
+
+      final int headerLength;
+      final int valueLength;
+      if ((firstLengthByte & 0x80) == 0x00)
+      {
+        headerLength = 2;
+        valueLength = firstLengthByte;
+      }
+      else
+      {
+        final int numLengthBytes = firstLengthByte & 0x7F;
+        if ((numLengthBytes < 1) || (numLengthBytes > 4))
+        {
+          throw new ASN1Exception(
+               ERR_CHANNEL_READER_LENGTH_TOO_LONG.get(numLengthBytes));
+        }
+
+        headerLength = 2 + numLengthBytes;
+        if (buffer.remaining() < headerLength)
+        {
+          return headerLength;
+        }
+
+        int length = 0;
+        for (int i=0; i < numLengthBytes; i++)
+        {
+          length = (length << 8) | (buffer.get(startPos + 2 + i) & 0xFF);
+        }
+        valueLength = length;
+      }
+
+      if ((valueLength < 0) ||
+           ((maxMessageSize > 0) && (valueLength > maxMessageSize)))
+      {
+        throw new ASN1Exception(ERR_CHANNEL_READER_LENGTH_EXCEEDS_MAX.get(
+             valueLength, maxMessageSize));
+      }
+
+      final int messageLength = headerLength + valueLength;
+      if (buffer.remaining() < messageLength)
+      {
+        return messageLength;
+      }
+
+      // The message bytes are only needed until the response has been
+      // decoded, since the decoded response never references them.
+      final LDAPConnectionOptions connectionOptions =
+           connection.getConnectionOptions();
+      final ASN1BufferAllocator allocator =
+           connectionOptions.getReadBufferAllocator();
+      final byte[] messageBytes;
+      if (allocator == null)
+      {
+        messageBytes = new byte[messageLength];
+      }
+      else
+      {
+        messageBytes = allocator.allocate(messageLength);
+      }
+
+      final LDAPResponse response;
+      try
+      {
+        buffer.get(messageBytes, 0, messageLength);
+
+        final ASN1StreamReader asn1StreamReader = new ASN1StreamReader(
+             new ByteArrayInputStream(messageBytes, 0, messageLength), 0);
+        asn1StreamReader.setBufferAllocator(allocator);
+        response = LDAPMessage.readLDAPResponseFrom(asn1StreamReader, true,
+             connection.getCachedSchema(),
+             connectionOptions.useLazySearchEntryDecoding());
+      }
+      finally
+      {
+        if (allocator != null)
+        {
+          allocator.release(messageBytes);
+        }
+      }
+
+      connectionReader.processResponse(response);
+
+      if (isDeregistered())
+      {
+        return 0;
+      }
+    }
+
+    return 0;
+  }
+
+
+
+  /**
+   * Creates a new buffer with at least the specified capacity that contains
+   * the data from the provided buffer, which must be ready for writing.
+   *
+   * @param  buffer       The buffer to be expanded.
+   * @param  minCapacity  The minimum capacity for the new buffer.
+   *
+   * @return  The new buffer, ready for writing.
+   */
+  @NotNull()
+  private static ByteBuffer expand(@NotNull final ByteBuffer buffer,
+                                   final int minCapacity)
+  {
+    final int newCapacity = Math.max(minCapacity, (buffer.capacity() * 2));
+    final ByteBuffer newBuffer = ByteBuffer.allocate(newCapacity);
+    buffer.flip();
+    newBuffer.put(buffer);
+    return newBuffer;
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this channel reader.
+   *
+   * @return  A string representation of this channel reader.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    return "LDAPConnectionChannelReader(connectionID=" +
+         connection.getConnectionID() + ", channel=" + channel + ')';
+  }
+}
@@ -42,10 +42,17 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetAddress;
 import java.net.Socket;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.logging.Level;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import javax.net.SocketFactory;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
@@ -87,6 +94,28 @@ final class LDAPConnectionInternals
 
 
 
+  /**
+   * The maximum number of bytes of queued messages that a single thread will
+   * write before flushing the output stream.  Any messages beyond this limit
+   * will be written in a subsequent batch with its own flush.  This places an
+   * upper bound on the amount of data that will be buffered for a single
+   * flush.
+   */
+  private static final int MAX_COALESCED_WRITE_BYTES = 65_536;
+
+
+
+  /**
+   * The minimum length in bytes for values that the thread-local ASN.1
+   * buffers will reference rather than copy.  Large values (for example, a
+   * jpegPhoto or certificate value in an add request) will be written directly
+   * from the arrays that hold them, rather than being copied into the buffer
+   * and shifted each time the length of an enclosing sequence is inserted.
+   */
+  private static final int MIN_REFERENCED_VALUE_LENGTH = 4096;
+
+
+
   // The counter that will be used to obtain the next message ID to use when
   // sending requests to the server.
   @NotNull private final AtomicInteger nextMessageID;
@@ -97,6 +126,10 @@ final class LDAPConnectionInternals
   // The inet address to which the connection is established.
   @NotNull private final InetAddress inetAddress;
 
+  // The SO_TIMEOUT value most recently set on the socket, or -1 if it is not
+  // known.
+  private volatile int currentSoTimeout;
+
   // The port of the server to which the connection is established.
   private final int port;
 
@@ -113,18 +146,35 @@ final class LDAPConnectionInternals
   // The output stream used to send requests to the server.
   @Nullable private volatile OutputStream outputStream;
 
+  // The output stream that can be used to write directly to the selector
+  // channel with gathering writes.  This will only be available if the
+  // connection uses the selector reader and has not been secured with
+  // StartTLS.
+  @Nullable private volatile SocketChannelOutputStream channelOutputStream;
+
   // The SASL client used to provide communication security via QoP.
   @Nullable private volatile SaslClient saslClient;
 
   // The socket used to communicate with the directory server.
   @Nullable private volatile Socket socket;
 
+  // The channel for the socket, if the connection should use the selector
+  // reader rather than a dedicated reader thread.
+  @Nullable private final SocketChannel selectorChannel;
+
   // The address of the server to which the connection is established.
   @NotNull private final String host;
 
   // The write timeout handler for this connection.
   @NotNull private final WriteTimeoutHandler writeTimeoutHandler;
 
+  // The queue of messages waiting to be written to the server.
+  @NotNull private final ConcurrentLinkedQueue<PendingMessageWrite>
+       pendingWrites;
+
+  // The lock that must be held while writing messages to the server.
+  @NotNull private final ReentrantLock writeLock;
+
 
 
   /**
@@ -174,13 +224,31 @@ final class LDAPConnectionInternals
     synchronousMode = options.useSynchronousMode();
     saslClient      = null;
     socket          = null;
+    pendingWrites   = new ConcurrentLinkedQueue<>();
+    writeLock       = new ReentrantLock();
 
     writeTimeoutHandler = new WriteTimeoutHandler(connection);
 
+    // If the connection should use the selector reader, then we need a socket
+    // with an associated channel.  The JVM-default socket factory doesn't
+    // provide one, so use a channel-based factory in its place.
+    final boolean useSelectorReader =
+         options.useSelectorReader() && (! synchronousMode);
+    final SocketFactory connectSocketFactory;
+    if (useSelectorReader &&
+         SocketChannelSocketFactory.isDefaultSocketFactory(socketFactory))
+    {
+      connectSocketFactory = SocketChannelSocketFactory.getInstance();
+    }
+    else
+    {
+      connectSocketFactory = socketFactory;
+    }
+
     try
     {
-      final ConnectThread connectThread =
-           new ConnectThread(socketFactory, inetAddress, port, timeout);
+      final ConnectThread connectThread = new ConnectThread(
+           connectSocketFactory, inetAddress, port, timeout);
       connectThread.start();
       socket = connectThread.getConnectedSocket();
 
@@ -236,8 +304,23 @@ final class LDAPConnectionInternals
            "Setting the SO_TIMEOUT value for connection " + connection +
                 " to " + soTimeout + "ms.");
       socket.setSoTimeout(soTimeout);
+      currentSoTimeout = soTimeout;
+
+      final SocketChannel channel = socket.getChannel();
+      if (useSelectorReader && (channel != null) &&
+           (! (socket instanceof SSLSocket)))
+      {
+        selectorChannel = channel;
+        channelOutputStream = new SocketChannelOutputStream(channel);
+        outputStream = new BufferedOutputStream(channelOutputStream);
+      }
+      else
+      {
+        selectorChannel = null;
+        channelOutputStream = null;
+        outputStream = new BufferedOutputStream(socket.getOutputStream());
+      }
 
-      outputStream     = new BufferedOutputStream(socket.getOutputStream());
       connectionReader = new LDAPConnectionReader(connection, this);
     }
     catch (final IOException ioe)
@@ -265,12 +348,16 @@ final class LDAPConnectionInternals
   /**
    * Starts the connection reader for this connection internals.  This will
    * have no effect if the connection is operating in synchronous mode.
+   *
+   * @throws  IOException  If a problem occurs while registering the connection
+   *                       with a selector reader thread.
    */
   void startConnectionReader()
+       throws IOException
   {
     if (! synchronousMode)
     {
-      connectionReader.start();
+      connectionReader.startReading();
     }
   }
 
@@ -359,6 +446,22 @@ final class LDAPConnectionInternals
 
 
 
+  /**
+   * Retrieves the channel that should be used by the selector reader to read
+   * responses from the directory server.
+   *
+   * @return  The channel that should be used by the selector reader, or
+   *          {@code null} if the connection should use a dedicated reader
+   *          thread.
+   */
+  @Nullable()
+  SocketChannel getSelectorChannel()
+  {
+    return selectorChannel;
+  }
+
+
+
   /**
    * Replaces the socket used to communicate with the directory server.  This
    * should only be called by the {@code LDAPConnectionReader} class when
@@ -369,6 +472,36 @@ final class LDAPConnectionInternals
   void setSocket(@NotNull final Socket socket)
   {
     this.socket = socket;
+    currentSoTimeout = -1;
+  }
+
+
+
+  /**
+   * Sets the SO_TIMEOUT value for the socket used to communicate with the
+   * directory server.  The socket will only be updated if the provided value
+   * differs from the value most recently set.
+   *
+   * @param  soTimeout  The SO_TIMEOUT value to use for the socket.
+   *
+   * @throws  SocketException  If a problem occurs while setting the SO_TIMEOUT
+   *                           value.
+   */
+  void setSoTimeout(final int soTimeout)
+       throws SocketException
+  {
+    if (soTimeout != currentSoTimeout)
+    {
+      if (Debug.debugEnabled())
+      {
+        Debug.debug(Level.INFO, DebugType.CONNECT,
+             "Setting the SO_TIMEOUT value for connection " + connection +
+                  " to " + soTimeout + "ms.");
+      }
+
+      socket.setSoTimeout(soTimeout);
+      currentSoTimeout = soTimeout;
+    }
   }
 
 
@@ -428,6 +561,7 @@ final class LDAPConnectionInternals
   void convertToTLS(@NotNull final SSLSocketFactory sslSocketFactory)
        throws LDAPException
   {
+    channelOutputStream = null;
     outputStream = connectionReader.doStartTLS(sslSocketFactory);
   }
 
@@ -562,6 +696,7 @@ final class LDAPConnectionInternals
     if (buffer == null)
     {
       buffer = new ASN1Buffer();
+      buffer.setMinReferencedValueLength(MIN_REFERENCED_VALUE_LENGTH);
       ASN1_BUFFERS.get().set(buffer);
     }
 
@@ -579,14 +714,7 @@ final class LDAPConnectionInternals
 
     try
     {
-      final int soTimeout = Math.max(0, (int) sendTimeoutMillis);
-      if (Debug.debugEnabled())
-      {
-        Debug.debug(Level.INFO, DebugType.CONNECT,
-             "Setting the SO_TIMEOUT value for connection " + connection +
-                  " to " + soTimeout + "ms.");
-      }
-      socket.setSoTimeout(soTimeout);
+      setSoTimeout(Math.max(0, (int) sendTimeoutMillis));
     }
     catch (final Exception e)
     {
@@ -639,27 +767,33 @@ final class LDAPConnectionInternals
              ERR_CONN_SEND_ERROR_NOT_ESTABLISHED.get(host, port));
       }
 
-      if (saslClient == null)
+      // Queue the message to be written, and then wait for the write lock.
+      // If another thread has already written it as part of a batch by the
+      // time we get the lock, then there's nothing more to do.  Otherwise,
+      // write batches of queued messages until ours has been written.  The
+      // buffer holding the message is reused as soon as this method returns,
+      // so we must not return while it is still in the queue.
+      final PendingMessageWrite pendingWrite = new PendingMessageWrite(buffer);
+      pendingWrites.add(pendingWrite);
+
+      writeLock.lock();
+      try
       {
-        buffer.writeTo(os);
+        while (! pendingWrite.isComplete())
+        {
+          writePendingMessages(os);
+        }
       }
-      else
+      finally
       {
-        // We need to wrap the data that was read using the SASL client, but we
-        // also need to precede that wrapped data with four bytes that specify
-        // the number of bytes of wrapped data.
-        final byte[] clearBytes = buffer.toByteArray();
-        final byte[] saslBytes =
-             saslClient.wrap(clearBytes, 0, clearBytes.length);
-        final byte[] lengthBytes = new byte[4];
-        lengthBytes[0] = (byte) ((saslBytes.length >> 24) & 0xFF);
-        lengthBytes[1] = (byte) ((saslBytes.length >> 16) & 0xFF);
-        lengthBytes[2] = (byte) ((saslBytes.length >> 8) & 0xFF);
-        lengthBytes[3] = (byte) (saslBytes.length & 0xFF);
-        os.write(lengthBytes);
-        os.write(saslBytes);
-      }
-      os.flush();
+        writeLock.unlock();
+      }
+
+      final Exception writeFailure = pendingWrite.getFailure();
+      if (writeFailure != null)
+      {
+        throw writeFailure;
+      }
     }
     catch (final LDAPException e)
     {
@@ -724,6 +858,103 @@ final class LDAPConnectionInternals
 
 
 
+  /**
+   * Writes messages from the queue of pending writes to the provided output
+   * stream and flushes it once they have all been written.  Each of the
+   * messages that was written (or that was being written when a failure
+   * occurred) will be marked complete.  This must only be called while holding
+   * the write lock.  If the connection uses a selector channel without any
+   * security layer, then the messages will instead be written directly to the
+   * channel with gathering writes.
+   *
+   * @param  os  The output stream to which the messages should be written.
+   */
+  private void writePendingMessages(@NotNull final OutputStream os)
+  {
+    final ArrayList<PendingMessageWrite> batch = new ArrayList<>(10);
+    final SocketChannelOutputStream channelOS =
+         (saslClient == null) ? channelOutputStream : null;
+    final ArrayList<ByteBuffer> gatheredBuffers =
+         (channelOS == null) ? null : new ArrayList<ByteBuffer>(10);
+    Exception failure = null;
+    try
+    {
+      int bytesWritten = 0;
+      while (bytesWritten < MAX_COALESCED_WRITE_BYTES)
+      {
+        final PendingMessageWrite pendingWrite = pendingWrites.poll();
+        if (pendingWrite == null)
+        {
+          break;
+        }
+
+        batch.add(pendingWrite);
+
+        final ASN1Buffer buffer = pendingWrite.getBuffer();
+        if (gatheredBuffers != null)
+        {
+          if (Debug.debugEnabled(DebugType.ASN1))
+          {
+            Debug.debugASN1Write(buffer);
+          }
+
+          gatheredBuffers.addAll(Arrays.asList(buffer.asByteBuffers()));
+        }
+        else if (saslClient == null)
+        {
+          buffer.writeTo(os);
+        }
+        else
+        {
+          // We need to wrap the data that was read using the SASL client, but
+          // we also need to precede that wrapped data with four bytes that
+          // specify the number of bytes of wrapped data.
+          final byte[] clearBytes = buffer.toByteArray();
+          final byte[] saslBytes =
+               saslClient.wrap(clearBytes, 0, clearBytes.length);
+          final byte[] lengthBytes = new byte[4];
+          lengthBytes[0] = (byte) ((saslBytes.length >> 24) & 0xFF);
+          lengthBytes[1] = (byte) ((saslBytes.length >> 16) & 0xFF);
+          lengthBytes[2] = (byte) ((saslBytes.length >> 8) & 0xFF);
+          lengthBytes[3] = (byte) (saslBytes.length & 0xFF);
+          os.write(lengthBytes);
+          os.write(saslBytes);
+        }
+
+        bytesWritten += buffer.length();
+      }
+
+      if (gatheredBuffers == null)
+      {
+        os.flush();
+      }
+      else if (! gatheredBuffers.isEmpty())
+      {
+        channelOS.write(gatheredBuffers.toArray(
+             new ByteBuffer[gatheredBuffers.size()]));
+      }
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      failure = e;
+    }
+    finally
+    {
+      for (final PendingMessageWrite pendingWrite : batch)
+      {
+        pendingWrite.complete(failure);
+      }
+    }
+
+    if ((failure == null) && (! batch.isEmpty()))
+    {
+      connection.getConnectionStatistics().incrementNumFlushes(batch.size());
+    }
+  }
+
+
+
   /**
    * Closes the connection associated with this connection internals.
    */
@@ -775,6 +1006,7 @@ final class LDAPConnectionInternals
       finally
       {
         outputStream = null;
+        channelOutputStream = null;
         socket = null;
       }
 
@@ -46,6 +46,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Level;
 
+import com.unboundid.asn1.ASN1BufferAllocator;
 import com.unboundid.ldap.sdk.extensions.PasswordModifyExtendedRequest;
 import com.unboundid.ldap.sdk.extensions.StartTLSExtendedRequest;
 import com.unboundid.ldap.sdk.extensions.WhoAmIExtendedRequest;
@@ -124,6 +125,18 @@ import com.unboundid.util.ssl.TrustAllSSLSocketVerifier;
  *       connections may exhibit better performance and will not require a
  *       separate reader thread, but will not allow multiple concurrent
  *       operations to be used on the same connection.</LI>
+ *   <LI>A flag that indicates whether to use a small set of shared selector
+ *       threads to read responses for connections operating in asynchronous
+ *       mode, rather than a separate reader thread per connection.  By
+ *       default, each connection will use its own reader thread.</LI>
+ *   <LI>A flag that indicates whether search result entries should be decoded
+ *       lazily, so that the attributes of each entry are kept in their encoded
+ *       form until they are accessed.  By default, all attributes will be
+ *       decoded as soon as the entry is read.</LI>
+ *   <LI>The {@link ASN1BufferAllocator} that should be used to obtain buffers
+ *       that are only needed while reading and decoding responses, so that
+ *       they can be recycled rather than allocated anew for each element.  By
+ *       default, no allocator will be used.</LI>
  *   <LI>A flag that indicates whether to use the TCP_NODELAY socket option to
  *       indicate that any data written to the socket will be sent immediately
  *       rather than delaying for a short amount of time to see if any more data
@@ -386,6 +399,36 @@ public final class LDAPConnectionOptions
 
 
 
+  /**
+   * The name of a system property that can be used to specify the initial
+   * default value for the "use lazy search entry decoding" behavior.  If this
+   * property is set at the time that this class is loaded, then its value must
+   * be either "true" or "false".  If this property is not set, then a default
+   * value of "false" will be assumed.
+   * <BR><BR>
+   * The full name for this system property is
+   * "com.unboundid.ldap.sdk.LDAPConnectionOptions.
+   * defaultUseLazySearchEntryDecoding".
+   */
+  @NotNull public static final String
+       PROPERTY_DEFAULT_USE_LAZY_SEARCH_ENTRY_DECODING =
+            PROPERTY_PREFIX + "defaultUseLazySearchEntryDecoding";
+
+
+
+  /**
+   * The default value for the setting that controls whether to decode search
+   * result entries lazily.  If the
+   * {@link #PROPERTY_DEFAULT_USE_LAZY_SEARCH_ENTRY_DECODING} system property is
+   * set at the time this class is loaded, then its value will be used.
+   * Otherwise, a default value of {@code false} will be used.
+   */
+  private static final boolean DEFAULT_USE_LAZY_SEARCH_ENTRY_DECODING =
+       PropertyManager.getBoolean(
+            PROPERTY_DEFAULT_USE_LAZY_SEARCH_ENTRY_DECODING, false);
+
+
+
   /**
    * The name of a system property that can be used to specify the initial
    * default value for the "use pooled schema" behavior.  If this property is
@@ -576,6 +619,79 @@ public final class LDAPConnectionOptions
 
 
 
+  /**
+   * The name of a system property that can be used to specify the initial
+   * default value for the "use selector reader" behavior.  If this property is
+   * set at the time that this class is loaded, then its value must be either
+   * "true" or "false".  If this property is not set, then a default value of
+   * "false" will be assumed.
+   * <BR><BR>
+   * The full name for this system property is
+   * "com.unboundid.ldap.sdk.LDAPConnectionOptions.defaultUseSelectorReader".
+   */
+  @NotNull public static final String PROPERTY_DEFAULT_USE_SELECTOR_READER =
+       PROPERTY_PREFIX + "defaultUseSelectorReader";
+
+
+
+  /**
+   * The default value for the setting that controls whether connections
+   * operating in asynchronous mode should use a set of shared selector threads
+   * to read responses rather than a dedicated reader thread per connection.  If
+   * the {@link #PROPERTY_DEFAULT_USE_SELECTOR_READER} system property is set at
+   * the time this class is loaded, then its value will be used.  Otherwise, a
+   * default value of {@code false} will be used.
+   */
+  private static final boolean DEFAULT_USE_SELECTOR_READER =
+       PropertyManager.getBoolean(PROPERTY_DEFAULT_USE_SELECTOR_READER, false);
+
+
+
+  /**
+   * The name of a system property that can be used to specify the initial
+   * default value for the "use virtual threads" behavior.  If this property is
+   * set at the time that this class is loaded, then its value must be either
+   * "true" or "false".  If this property is not set, then a default value of
+   * "false" will be assumed.
+   * <BR><BR>
+   * The full name for this system property is
+   * "com.unboundid.ldap.sdk.LDAPConnectionOptions.defaultUseVirtualThreads".
+   */
+  @NotNull public static final String PROPERTY_DEFAULT_USE_VIRTUAL_THREADS =
+       PROPERTY_PREFIX + "defaultUseVirtualThreads";
+
+
+
+  /**
+   * The default value for the setting that controls whether connections
+   * operating in asynchronous mode should use a virtual thread rather than a
+   * platform thread to read responses from the server.  If the
+   * {@link #PROPERTY_DEFAULT_USE_VIRTUAL_THREADS} system property is set at
+   * the time this class is loaded, then its value will be used.  Otherwise, a
+   * default value of {@code false} will be used.
+   */
+  private static final boolean DEFAULT_USE_VIRTUAL_THREADS =
+       PropertyManager.getBoolean(PROPERTY_DEFAULT_USE_VIRTUAL_THREADS, false);
+
+
+
+  /**
+   * The name of a system property that can be used to specify the number of
+   * shared selector threads that will be used to read responses for
+   * connections configured to use a selector reader.  If this property is set
+   * at the time that the first such connection is established, then its value
+   * must be a positive integer.  If this property is not set, then the number
+   * of selector threads will be based on the number of available CPUs, with a
+   * maximum of eight threads.
+   * <BR><BR>
+   * The full name for this system property is
+   * "com.unboundid.ldap.sdk.LDAPConnectionOptions.selectorReaderThreadCount".
+   */
+  @NotNull public static final String PROPERTY_SELECTOR_READER_THREAD_COUNT =
+       PROPERTY_PREFIX + "selectorReaderThreadCount";
+
+
+
   /**
    * The name of a system property that can be used to specify the initial
    * default value for the "use TCP nodelay" behavior.  If this property is set
@@ -1233,6 +1349,10 @@ public final class LDAPConnectionOptions
   // Indicates whether to use SO_KEEPALIVE for the underlying sockets.
   private boolean useKeepAlive;
 
+  // Indicates whether to decode the attributes of search result entries only
+  // as they are accessed.
+  private boolean useLazySearchEntryDecoding;
+
   // Indicates whether to use SO_LINGER for the underlying sockets.
   private boolean useLinger;
 
@@ -1247,10 +1367,18 @@ public final class LDAPConnectionOptions
   // the server.
   private boolean useSchema;
 
+  // Indicates whether to use a set of shared selector threads to read responses
+  // rather than a dedicated reader thread per connection.
+  private boolean useSelectorReader;
+
   // Indicates whether to use synchronous mode in which only a single operation
   // may be in progress on associated connections at any given time.
   private boolean useSynchronousMode;
 
+  // Indicates whether to use a virtual thread rather than a platform thread to
+  // read responses, if the JVM supports virtual threads.
+  private boolean useVirtualThreads;
+
   // Indicates whether to use TCP_NODELAY for the underlying sockets.
   private boolean useTCPNoDelay;
 
@@ -1276,6 +1404,10 @@ public final class LDAPConnectionOptions
   // The socket send buffer size to request.
   private int sendBufferSizeBytes;
 
+  // The allocator that should be used to obtain transient buffers while
+  // reading responses.
+  @Nullable private ASN1BufferAllocator readBufferAllocator;
+
   // The connection logger that should be used to record information about
   // requests sent and responses received over connections with this set of
   // options.
@@ -1325,7 +1457,10 @@ public final class LDAPConnectionOptions
     useReuseAddress                = DEFAULT_USE_REUSE_ADDRESS;
     usePooledSchema                = DEFAULT_USE_POOLED_SCHEMA;
     useSchema                      = DEFAULT_USE_SCHEMA;
+    useLazySearchEntryDecoding     = DEFAULT_USE_LAZY_SEARCH_ENTRY_DECODING;
+    useSelectorReader              = DEFAULT_USE_SELECTOR_READER;
     useSynchronousMode             = DEFAULT_USE_SYNCHRONOUS_MODE;
+    useVirtualThreads              = DEFAULT_USE_VIRTUAL_THREADS;
     useTCPNoDelay                  = DEFAULT_USE_TCP_NODELAY;
     connectTimeoutMillis           = DEFAULT_CONNECT_TIMEOUT_MILLIS;
     lingerTimeoutSeconds           = DEFAULT_LINGER_TIMEOUT_SECONDS;
@@ -1337,6 +1472,7 @@ public final class LDAPConnectionOptions
     sendBufferSizeBytes            = DEFAULT_SEND_BUFFER_SIZE_BYTES;
     connectionLogger               = null;
     disconnectHandler              = null;
+    readBufferAllocator            = null;
     referralConnector              = null;
     sslSocketVerifier              = DEFAULT_SSL_SOCKET_VERIFIER;
     unsolicitedNotificationHandler = null;
@@ -1375,7 +1511,10 @@ public final class LDAPConnectionOptions
     o.useReuseAddress                 = useReuseAddress;
     o.usePooledSchema                 = usePooledSchema;
     o.useSchema                       = useSchema;
+    o.useLazySearchEntryDecoding      = useLazySearchEntryDecoding;
+    o.useSelectorReader               = useSelectorReader;
     o.useSynchronousMode              = useSynchronousMode;
+    o.useVirtualThreads               = useVirtualThreads;
     o.useTCPNoDelay                   = useTCPNoDelay;
     o.connectTimeoutMillis            = connectTimeoutMillis;
     o.lingerTimeoutSeconds            = lingerTimeoutSeconds;
@@ -1390,6 +1529,7 @@ public final class LDAPConnectionOptions
     o.receiveBufferSizeBytes          = receiveBufferSizeBytes;
     o.sendBufferSizeBytes             = sendBufferSizeBytes;
     o.sslSocketVerifier               = sslSocketVerifier;
+    o.readBufferAllocator             = readBufferAllocator;
 
     o.responseTimeoutMillisByOperationType =
          responseTimeoutMillisByOperationType;
@@ -2122,6 +2262,202 @@ public final class LDAPConnectionOptions
 
 
 
+  /**
+   * Indicates whether connections operating in asynchronous mode should use a
+   * small set of shared selector threads to read responses from the server,
+   * rather than a dedicated reader thread per connection.  This can
+   * dramatically reduce the number of threads needed for applications that
+   * maintain a large number of connections.
+   * <BR><BR>
+   * The selector reader can only be used for connections whose socket has an
+   * associated {@code SocketChannel}.  Connections created with the JVM-default
+   * socket factory will automatically use a channel-based socket when this
+   * option is enabled, and connections created with a custom socket factory
+   * will be able to use it if that factory creates channel-based sockets.
+   * Connections that do not have a channel (including those created with an
+   * {@code SSLSocketFactory}) will fall back to using a dedicated reader
+   * thread, as will connections that are secured with StartTLS after they have
+   * been established.  SASL integrity and confidentiality protection is
+   * supported by the selector reader.
+   * <BR><BR>
+   * Note that any asynchronous result listeners or intermediate response
+   * listeners for connections using the selector reader will be invoked by a
+   * thread that is shared across many connections, so they should return
+   * quickly to avoid delaying the processing of responses for other
+   * connections.  Also note that this connection option must be set before any
+   * attempt is made to establish the connection.  It will not have any effect
+   * for connections operating in synchronous mode.
+   *
+   * @return  {@code true} if associated connections should use a shared
+   *          selector reader, or {@code false} if each connection should use
+   *          its own reader thread.
+   */
+  public boolean useSelectorReader()
+  {
+    return useSelectorReader;
+  }
+
+
+
+  /**
+   * Specifies whether connections operating in asynchronous mode should use a
+   * small set of shared selector threads to read responses from the server,
+   * rather than a dedicated reader thread per connection.  See the
+   * {@link #useSelectorReader()} method for more information about the
+   * selector reader and its limitations.
+   * <BR><BR>
+   * Note that this connection option must be set on the connection before any
+   * attempt is made to establish the connection.  The number of shared selector
+   * threads may be controlled with the
+   * {@link #PROPERTY_SELECTOR_READER_THREAD_COUNT} system property.
+   *
+   * @param  useSelectorReader  Indicates whether associated connections should
+   *                            use a shared selector reader.
+   */
+  public void setUseSelectorReader(final boolean useSelectorReader)
+  {
+    this.useSelectorReader = useSelectorReader;
+  }
+
+
+
+  /**
+   * Indicates whether connections operating in asynchronous mode should use a
+   * virtual thread rather than a platform thread to read responses from the
+   * server.  This requires a JVM that supports virtual threads (Java 21 or
+   * later), and it will be ignored on older JVMs.  A virtual thread that is
+   * blocked waiting for a response does not tie up a platform thread, so this
+   * makes it practical for an application to maintain a very large number of
+   * connections without changing how it uses them.
+   * <BR><BR>
+   * This option will not have any effect for connections operating in
+   * synchronous mode (which do not have a reader thread), or for connections
+   * that use a shared selector reader (see {@link #useSelectorReader()}),
+   * except for connections that switch to a dedicated reader thread as a
+   * result of StartTLS processing.  Note that any asynchronous result
+   * listeners or intermediate response listeners for connections using a
+   * virtual thread will be invoked in that virtual thread.
+   *
+   * @return  {@code true} if associated connections should use a virtual
+   *          thread to read responses when virtual threads are available, or
+   *          {@code false} if they should always use a platform thread.
+   */
+  public boolean useVirtualThreads()
+  {
+    return useVirtualThreads;
+  }
+
+
+
+  /**
+   * Specifies whether connections operating in asynchronous mode should use a
+   * virtual thread rather than a platform thread to read responses from the
+   * server.  See the {@link #useVirtualThreads()} method for more information.
+   * <BR><BR>
+   * Note that this connection option must be set on the connection before any
+   * attempt is made to establish the connection.
+   *
+   * @param  useVirtualThreads  Indicates whether associated connections should
+   *                            use a virtual thread to read responses when
+   *                            virtual threads are available.
+   */
+  public void setUseVirtualThreads(final boolean useVirtualThreads)
+  {
+    this.useVirtualThreads = useVirtualThreads;
+  }
+
+
+
+  /**
+   * Indicates whether search result entries read by associated connections
+   * should be decoded lazily.  If this is {@code true}, then the attributes in
+   * each search result entry will be held in their encoded form, and an
+   * attribute will only be decoded when it is retrieved by name (for example,
+   * with the {@code getAttribute} or {@code getAttributeValue} methods).  Any
+   * method that needs to examine all of the attributes in the entry (for
+   * example, {@code getAttributes} or {@code toLDIF}) will cause all of them to
+   * be decoded at that time.
+   * <BR><BR>
+   * Lazy decoding can dramatically reduce the amount of memory allocated for
+   * applications that process a large number of entries but only need a few
+   * attributes from each, since the values of the attributes that are never
+   * accessed will not be copied into separate objects.  However, it will make
+   * each entry retain the complete encoded form of its attributes, and it may
+   * be less efficient if most of the attributes in each entry are accessed
+   * individually.  Only entries returned in response to search requests will
+   * be affected by this setting.
+   *
+   * @return  {@code true} if search result entries should be decoded lazily,
+   *          or {@code false} if all attributes should be decoded as soon as
+   *          each entry is read.
+   */
+  public boolean useLazySearchEntryDecoding()
+  {
+    return useLazySearchEntryDecoding;
+  }
+
+
+
+  /**
+   * Specifies whether search result entries read by associated connections
+   * should be decoded lazily.  See the {@link #useLazySearchEntryDecoding()}
+   * method for more information about lazy decoding.
+   *
+   * @param  useLazySearchEntryDecoding  Indicates whether search result
+   *                                     entries should be decoded lazily.
+   */
+  public void setUseLazySearchEntryDecoding(
+                   final boolean useLazySearchEntryDecoding)
+  {
+    this.useLazySearchEntryDecoding = useLazySearchEntryDecoding;
+  }
+
+
+
+  /**
+   * Retrieves the allocator that should be used to obtain buffers that are
+   * only needed while reading and decoding responses on associated
+   * connections.  If an allocator is configured, then those buffers will be
+   * released back to it as soon as the associated element (or, for connections
+   * using the selector reader, the associated LDAP message) has been decoded,
+   * so that they may be reused rather than left for the garbage collector.
+   * Buffers that are exposed to the application as part of a decoded response
+   * will never be obtained from the allocator.
+   *
+   * @return  The allocator that should be used to obtain buffers while reading
+   *          responses, or {@code null} if a new array should be allocated for
+   *          each buffer.
+   */
+  @Nullable()
+  public ASN1BufferAllocator getReadBufferAllocator()
+  {
+    return readBufferAllocator;
+  }
+
+
+
+  /**
+   * Specifies the allocator that should be used to obtain buffers that are
+   * only needed while reading and decoding responses on associated
+   * connections.  A
+   * {@link com.unboundid.asn1.ThreadLocalASN1BufferPool} instance is generally
+   * a good choice, since responses for a connection are always read by a
+   * single thread at a time.  Changes to this setting will only take effect
+   * for connections established after the change.
+   *
+   * @param  readBufferAllocator  The allocator that should be used to obtain
+   *                              buffers while reading responses.  It may be
+   *                              {@code null} if a new array should be
+   *                              allocated for each buffer.
+   */
+  public void setReadBufferAllocator(
+                   @Nullable final ASN1BufferAllocator readBufferAllocator)
+  {
+    this.readBufferAllocator = readBufferAllocator;
+  }
+
+
+
   /**
    * Indicates whether to use the TCP_NODELAY option for the underlying sockets
    * used by associated connections.
@@ -2598,8 +2934,14 @@ public final class LDAPConnectionOptions
     buffer.append(usePooledSchema);
     buffer.append(", pooledSchemaTimeoutMillis=");
     buffer.append(pooledSchemaTimeoutMillis);
+    buffer.append(", useLazySearchEntryDecoding=");
+    buffer.append(useLazySearchEntryDecoding);
     buffer.append(", useSynchronousMode=");
     buffer.append(useSynchronousMode);
+    buffer.append(", useSelectorReader=");
+    buffer.append(useSelectorReader);
+    buffer.append(", useVirtualThreads=");
+    buffer.append(useVirtualThreads);
     buffer.append(", useTCPNoDelay=");
     buffer.append(useTCPNoDelay);
     buffer.append(", captureConnectStackTrace=");
@@ -2660,6 +3002,12 @@ public final class LDAPConnectionOptions
     buffer.append(sslSocketVerifier.getClass().getName());
     buffer.append('\'');
 
+    if (readBufferAllocator != null)
+    {
+      buffer.append(", readBufferAllocatorClass=");
+      buffer.append(readBufferAllocator.getClass().getName());
+    }
+
     buffer.append(')');
   }
 }
@@ -41,10 +41,10 @@ import java.net.Socket;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Level;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -56,6 +56,7 @@ import com.unboundid.util.Debug;
 import com.unboundid.util.NotNull;
 import com.unboundid.util.Nullable;
 import com.unboundid.util.ObjectPair;
+import com.unboundid.util.PropertyManager;
 import com.unboundid.util.StaticUtils;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
@@ -205,6 +206,19 @@ import static com.unboundid.ldap.sdk.LDAPMessages.*;
  * {@link #setMaxWaitTimeMillis(long)} method to specify a maximum wait time to
  * allow the pool to wait for a connection to become available rather than
  * throwing an exception if no connections are immediately available.
+ * <BR><BR>
+ * By default, the connections that are available for use are held in a single
+ * FIFO queue.  In applications that check out and release connections at a
+ * very high rate from a large number of threads, contention on that queue can
+ * limit throughput.  If the
+ * {@link #PROPERTY_USE_STRIPED_AVAILABLE_CONNECTION_QUEUE} system property is
+ * set to "true" when a pool is created, then the pool will instead hold
+ * available connections in a set of striped, lock-free stacks.  Each thread
+ * will prefer the connection it most recently released, and will take a
+ * connection from another stripe only if its own is empty.  This does not
+ * alter the behavior of the maximum wait time, the create-if-necessary
+ * setting, health checking, or the pool statistics, but connections will no
+ * longer be handed out in strict least-recently-used order.
  */
 @ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
 public final class LDAPConnectionPool
@@ -218,6 +232,25 @@ public final class LDAPConnectionPool
 
 
 
+  /**
+   * The name of a system property that can be used to indicate that newly
+   * created connection pools should hold available connections in a set of
+   * striped, lock-free stacks rather than a single FIFO queue.  If this
+   * property is set to "true" at the time a pool is created, then that pool
+   * will use the striped implementation.  Otherwise, it will use a single
+   * queue.
+   * <BR><BR>
+   * The full name for this system property is
+   * "com.unboundid.ldap.sdk.LDAPConnectionPool.
+   * useStripedAvailableConnectionQueue".
+   */
+  @NotNull public static final String
+       PROPERTY_USE_STRIPED_AVAILABLE_CONNECTION_QUEUE =
+       LDAPConnectionPool.class.getName() +
+            ".useStripedAvailableConnectionQueue";
+
+
+
   /**
    * The name of the connection property that may be used to indicate that a
    * particular connection should have a different maximum connection age than
@@ -278,8 +311,7 @@ public final class LDAPConnectionPool
   @NotNull private final LDAPConnectionPoolStatistics poolStatistics;
 
   // The set of connections that are currently available for use.
-  @NotNull private final LinkedBlockingQueue<LDAPConnection>
-       availableConnections;
+  @NotNull private final BlockingQueue<LDAPConnection> availableConnections;
 
   // The length of time in milliseconds between periodic health checks against
   // the available connections in this pool.
@@ -654,7 +686,8 @@ public final class LDAPConnectionPool
          Collections.unmodifiableSet(EnumSet.noneOf(OperationType.class)));
     numConnections            = maxConnections;
     minConnectionGoal         = 0;
-    availableConnections      = new LinkedBlockingQueue<>(numConnections);
+    availableConnections      =
+         createAvailableConnectionQueue(numConnections);
 
     if (! connection.isConnected())
     {
@@ -1178,7 +1211,7 @@ public final class LDAPConnectionPool
          Collections.unmodifiableSet(EnumSet.noneOf(OperationType.class)));
     minConnectionGoal   = 0;
     numConnections = maxConnections;
-    availableConnections = new LinkedBlockingQueue<>(numConnections);
+    availableConnections = createAvailableConnectionQueue(numConnections);
 
     if (healthCheck == null)
     {
@@ -1252,6 +1285,33 @@ public final class LDAPConnectionPool
 
 
 
+  /**
+   * Creates the queue that will be used to hold the connections that are
+   * available for use.
+   *
+   * @param  capacity  The maximum number of connections that may be held in
+   *                   the queue.
+   *
+   * @return  The queue that will be used to hold the connections that are
+   *          available for use.
+   */
+  @NotNull()
+  private static BlockingQueue<LDAPConnection> createAvailableConnectionQueue(
+                      final int capacity)
+  {
+    if (PropertyManager.getBoolean(
+         PROPERTY_USE_STRIPED_AVAILABLE_CONNECTION_QUEUE, false))
+    {
+      return new StripedBlockingQueue<>(capacity);
+    }
+    else
+    {
+      return new LinkedBlockingQueue<>(capacity);
+    }
+  }
+
+
+
   /**
    * Creates a new LDAP connection for use in this pool.
    *
@@ -1781,6 +1841,48 @@ public final class LDAPConnectionPool
   @NotNull()
   public LDAPConnection getConnection()
          throws LDAPException
+  {
+    final long checkoutStartTime = System.nanoTime();
+    final LDAPConnection conn = checkOutConnection(true);
+    poolStatistics.recordCheckoutWaitTime(
+         System.nanoTime() - checkoutStartTime);
+    return conn;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  LDAPConnection getConnectionWithoutWaiting()
+           throws LDAPException
+  {
+    final long checkoutStartTime = System.nanoTime();
+    final LDAPConnection conn = checkOutConnection(false);
+    poolStatistics.recordCheckoutWaitTime(
+         System.nanoTime() - checkoutStartTime);
+    return conn;
+  }
+
+
+
+  /**
+   * Retrieves an LDAP connection from the pool.
+   *
+   * @param  waitIfNecessary  Indicates whether to wait for up to the maximum
+   *                          wait time for a connection to be released if
+   *                          none is immediately available.
+   *
+   * @return  The LDAP connection taken from the pool.
+   *
+   * @throws  LDAPException  If no connection is available, or a problem occurs
+   *                         while creating a new connection to return.
+   */
+  @NotNull()
+  private LDAPConnection checkOutConnection(final boolean waitIfNecessary)
+          throws LDAPException
   {
     if (closed)
     {
@@ -1894,7 +1996,7 @@ public final class LDAPConnectionPool
       }
     }
 
-    if (maxWaitTime > 0)
+    if (waitIfNecessary && (maxWaitTime > 0))
     {
       try
       {
@@ -1996,71 +2098,77 @@ public final class LDAPConnectionPool
       return null;
     }
 
-    final HashSet<LDAPConnection> examinedConnections =
-         new HashSet<>(StaticUtils.computeMapCapacity(numConnections));
-    while (true)
+    // Hold on to each connection that isn't established to the requested
+    // server until we've found one that is (or have run out), so that we don't
+    // examine the same connection more than once.  They will all be returned
+    // to the pool before this method returns.
+    final ArrayList<LDAPConnection> examinedConnections =
+         new ArrayList<>(numConnections);
+    try
     {
-      final LDAPConnection conn = availableConnections.poll();
-      if (conn == null)
+      while (true)
       {
-        poolStatistics.incrementNumFailedCheckouts();
-        Debug.debugConnectionPool(Level.SEVERE, this, null,
-             "Failed to get an existing connection to " + host + ':' + port +
-                  " because no connections are immediately available",
-             null);
-        return null;
-      }
-
-      if (examinedConnections.contains(conn))
-      {
-        if (! availableConnections.offer(conn))
+        final LDAPConnection conn = availableConnections.poll();
+        if (conn == null)
         {
-          discardConnection(conn);
+          poolStatistics.incrementNumFailedCheckouts();
+          if (examinedConnections.isEmpty())
+          {
+            Debug.debugConnectionPool(Level.SEVERE, this, null,
+                 "Failed to get an existing connection to " + host + ':' +
+                      port + " because no connections are immediately " +
+                      "available",
+                 null);
+          }
+          else
+          {
+            Debug.debugConnectionPool(Level.WARNING, this, null,
+                 "Failed to get an existing connection to " + host + ':' +
+                      port + " because none of the available connections " +
+                      "are established to that server",
+                 null);
+          }
+          return null;
         }
 
-        poolStatistics.incrementNumFailedCheckouts();
-        Debug.debugConnectionPool(Level.WARNING, this, null,
-             "Failed to get an existing connection to " + host + ':' + port +
-                  " because none of the available connections are " +
-                  "established to that server",
-             null);
-        return null;
-      }
-
-      if (conn.getConnectedAddress().equals(host) &&
-          (port == conn.getConnectedPort()))
-      {
-        try
+        if (conn.getConnectedAddress().equals(host) &&
+            (port == conn.getConnectedPort()))
         {
-          healthCheck.ensureConnectionValidForCheckout(conn);
-          poolStatistics.incrementNumSuccessfulCheckoutsWithoutWaiting();
-          Debug.debugConnectionPool(Level.INFO, this, conn,
-               "Successfully checked out an existing connection to requested " +
-                    "server " + host + ':' + port,
-               null);
-          return conn;
-        }
-        catch (final LDAPException le)
-        {
-          Debug.debugException(le);
-          poolStatistics.incrementNumConnectionsClosedDefunct();
-          Debug.debugConnectionPool(Level.WARNING, this, conn,
-               "Closing an existing connection to requested server " + host +
-                    ':' + port + " because it failed the checkout health " +
-                    "check",
-               le);
-          handleDefunctConnection(conn);
-          continue;
+          try
+          {
+            healthCheck.ensureConnectionValidForCheckout(conn);
+            poolStatistics.incrementNumSuccessfulCheckoutsWithoutWaiting();
+            Debug.debugConnectionPool(Level.INFO, this, conn,
+                 "Successfully checked out an existing connection to " +
+                      "requested server " + host + ':' + port,
+                 null);
+            return conn;
+          }
+          catch (final LDAPException le)
+          {
+            Debug.debugException(le);
+            poolStatistics.incrementNumConnectionsClosedDefunct();
+            Debug.debugConnectionPool(Level.WARNING, this, conn,
+                 "Closing an existing connection to requested server " +
+                      host + ':' + port + " because it failed the checkout " +
+                      "health check",
+                 le);
+            handleDefunctConnection(conn);
+            continue;
+          }
         }
-      }
 
-      if (availableConnections.offer(conn))
-      {
         examinedConnections.add(conn);
       }
-      else
+    }
+    finally
+    {
+      for (final LDAPConnection conn : examinedConnections)
       {
-        discardConnection(conn);
+        if (! availableConnections.offer(conn))
+        {
+          discardConnection(conn);
+        }
       }
     }
   }
@@ -3029,35 +3137,23 @@ public final class LDAPConnectionPool
     }
 
 
-    // Create a set used to hold connections that we've already examined.  If we
-    // encounter the same connection twice, then we know that we don't need to
-    // do any more work.
-    final HashSet<LDAPConnection> examinedConnections =
-         new HashSet<>(StaticUtils.computeMapCapacity(numConnections));
+    // Get a snapshot of the connections that are currently available, and
+    // examine each of them that is still available by the time we get to it.
+    // Connections that are added to the pool while we're working, including
+    // those created to replace defunct or expired connections, will not be
+    // examined.
+    final ArrayList<LDAPConnection> connectionsToExamine =
+         new ArrayList<>(availableConnections);
     int numExamined = 0;
     int numDefunct = 0;
     int numExpired = 0;
 
-    for (int i=0; i < numConnections; i++)
+    for (final LDAPConnection conn : connectionsToExamine)
     {
-      LDAPConnection conn = availableConnections.poll();
-      if (conn == null)
+      if (! availableConnections.remove(conn))
       {
-        break;
-      }
-      else if (examinedConnections.contains(conn))
-      {
-        if (! availableConnections.offer(conn))
-        {
-          conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_UNNEEDED,
-                                 null, null);
-          poolStatistics.incrementNumConnectionsClosedUnneeded();
-          Debug.debugConnectionPool(Level.INFO, this, conn,
-               "Closing a connection that had just been health checked " +
-                    "because the pool is now full", null);
-          conn.terminate(null);
-        }
-        break;
+        // The connection has been checked out since we took the snapshot.
+        continue;
       }
 
       numExamined++;
@@ -3069,11 +3165,7 @@ public final class LDAPConnectionPool
              "Closing a connection that was identified as not established " +
                   "during health check processing",
              null);
-        conn = handleDefunctConnection(conn);
-        if (conn != null)
-        {
-          examinedConnections.add(conn);
-        }
+        handleDefunctConnection(conn);
       }
       else
       {
@@ -3086,7 +3178,6 @@ public final class LDAPConnectionPool
             final LDAPConnection newConnection = createConnection();
             if (availableConnections.offer(newConnection))
             {
-              examinedConnections.add(newConnection);
               conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_EXPIRED,
                    null, null);
               conn.terminate(null);
@@ -3144,11 +3235,7 @@ public final class LDAPConnectionPool
                    "Closing existing connection discovered to be " +
                         "disconnected during health check processing",
                    null);
-              conn = handleDefunctConnection(conn);
-              if (conn != null)
-              {
-                examinedConnections.add(conn);
-              }
+              handleDefunctConnection(conn);
               continue;
             }
             else if (response instanceof ExtendedResult)
@@ -3179,11 +3266,7 @@ public final class LDAPConnectionPool
                           "with result " + r + " during health check " +
                           "processing",
                      null);
-                conn = handleDefunctConnection(conn);
-                if (conn != null)
-                {
-                  examinedConnections.add(conn);
-                }
+                handleDefunctConnection(conn);
                 continue;
               }
             }
@@ -3206,11 +3289,7 @@ public final class LDAPConnectionPool
                    "Closing existing connection discovered to be invalid " +
                         "during health check processing",
                    le);
-              conn = handleDefunctConnection(conn);
-              if (conn != null)
-              {
-                examinedConnections.add(conn);
-              }
+              handleDefunctConnection(conn);
               continue;
             }
           }
@@ -3228,11 +3307,7 @@ public final class LDAPConnectionPool
                       "with an unexpected exception type during health check " +
                       "processing",
                  e);
-            conn = handleDefunctConnection(conn);
-            if (conn != null)
-            {
-              examinedConnections.add(conn);
-            }
+            handleDefunctConnection(conn);
             continue;
           }
           finally
@@ -3258,11 +3333,7 @@ public final class LDAPConnectionPool
                           "processing because an error occurred while " +
                           "attempting to set the SO_TIMEOUT",
                      e);
-                conn = handleDefunctConnection(conn);
-                if (conn != null)
-                {
-                  examinedConnections.add(conn);
-                }
+                handleDefunctConnection(conn);
                 continue;
               }
             }
@@ -3272,11 +3343,7 @@ public final class LDAPConnectionPool
         try
         {
           hc.ensureConnectionValidForContinuedUse(conn);
-          if (availableConnections.offer(conn))
-          {
-            examinedConnections.add(conn);
-          }
-          else
+          if (! availableConnections.offer(conn))
           {
             conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_UNNEEDED,
                                    null, null);
@@ -3297,11 +3364,7 @@ public final class LDAPConnectionPool
                "Closing existing connection that failed health check " +
                     "processing",
                e);
-          conn = handleDefunctConnection(conn);
-          if (conn != null)
-          {
-            examinedConnections.add(conn);
-          }
+          handleDefunctConnection(conn);
         }
       }
     }
@@ -38,10 +38,13 @@ package com.unboundid.ldap.sdk;
 
 
 import java.io.Serializable;
+import java.util.EnumMap;
 import java.util.concurrent.atomic.AtomicLong;
 
+import com.unboundid.util.LatencyHistogram;
 import com.unboundid.util.Mutable;
 import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 
@@ -81,6 +84,12 @@ import com.unboundid.util.ThreadSafetyLevel;
  *       the pool.</LI>
  *   <LI>The number of failed attempts to create a new connection for use in the
  *       pool.</LI>
+ *   <LI>A histogram of the length of time (in nanoseconds) required to
+ *       successfully check out a connection from the pool, including any time
+ *       spent waiting for a connection to become available.</LI>
+ *   <LI>A histogram of the response times (in nanoseconds) for each type of
+ *       operation processed on connections in the pool, aggregated across all
+ *       connections that have been part of the pool.</LI>
  * </UL>
  */
 @Mutable()
@@ -132,6 +141,15 @@ public final class LDAPConnectionPoolStatistics
   // The number successful attempts to create a connection for use in the pool.
   @NotNull private final AtomicLong numSuccessfulConnectionAttempts;
 
+  // The histograms of response times in nanoseconds for each type of
+  // operation processed on connections in the pool.
+  @NotNull private final EnumMap<OperationType,LatencyHistogram>
+       responseTimeHistograms;
+
+  // The histogram of the time in nanoseconds required to successfully check
+  // out a connection from the pool.
+  @NotNull private final LatencyHistogram checkoutWaitTimes;
+
   // The connection pool with which these statistics are associated.
   @NotNull private final AbstractConnectionPool pool;
 
@@ -160,6 +178,16 @@ public final class LDAPConnectionPoolStatistics
     numSuccessfulCheckoutsWithoutWait   = new AtomicLong(0L);
     numFailedCheckouts                  = new AtomicLong(0L);
     numReleasedValid                    = new AtomicLong(0L);
+    checkoutWaitTimes                   = new LatencyHistogram();
+
+    responseTimeHistograms = new EnumMap<>(OperationType.class);
+    for (final OperationType t : OperationType.values())
+    {
+      if ((t != OperationType.ABANDON) && (t != OperationType.UNBIND))
+      {
+        responseTimeHistograms.put(t, new LatencyHistogram());
+      }
+    }
   }
 
 
@@ -180,6 +208,12 @@ public final class LDAPConnectionPoolStatistics
     numSuccessfulCheckoutsWithoutWait.set(0L);
     numFailedCheckouts.set(0L);
     numReleasedValid.set(0L);
+    checkoutWaitTimes.reset();
+
+    for (final LatencyHistogram h : responseTimeHistograms.values())
+    {
+      h.reset();
+    }
   }
 
 
@@ -401,6 +435,84 @@ public final class LDAPConnectionPoolStatistics
 
 
 
+  /**
+   * Retrieves the histogram of the length of time in nanoseconds required to
+   * successfully check out a connection from the pool, including any time
+   * spent waiting for a connection to become available or creating a new
+   * connection.  Failed checkout attempts are not included.  The histogram
+   * that is returned is live, and it will continue to be updated as additional
+   * connections are checked out.
+   *
+   * @return  The histogram of the length of time required to successfully
+   *          check out a connection from the pool.
+   */
+  @NotNull()
+  public LatencyHistogram getCheckoutWaitTimeHistogram()
+  {
+    return checkoutWaitTimes;
+  }
+
+
+
+  /**
+   * Records the length of time required to successfully check out a connection
+   * from the pool.
+   *
+   * @param  waitTimeNanos  The length of time in nanoseconds required to check
+   *                        out the connection.
+   */
+  void recordCheckoutWaitTime(final long waitTimeNanos)
+  {
+    checkoutWaitTimes.record(waitTimeNanos);
+  }
+
+
+
+  /**
+   * Retrieves the histogram of response times in nanoseconds for operations
+   * of the specified type processed on connections in the pool.  Response
+   * times are aggregated across all connections that have been part of the
+   * pool, including those that have since been closed.  The histogram that is
+   * returned is live, and it will continue to be updated as additional
+   * operations are processed.
+   *
+   * @param  operationType  The type of operation for which to retrieve the
+   *                        response time histogram.  It must not be
+   *                        {@code null}.
+   *
+   * @return  The histogram of response times for operations of the specified
+   *          type, or {@code null} if response times are not maintained for
+   *          operations of that type (as is the case for abandon and unbind
+   *          operations, which do not have responses).
+   */
+  @Nullable()
+  public LatencyHistogram getResponseTimeHistogram(
+              @NotNull final OperationType operationType)
+  {
+    return responseTimeHistograms.get(operationType);
+  }
+
+
+
+  /**
+   * Records the provided response time for an operation processed on a
+   * connection in the pool.
+   *
+   * @param  operationType  The type of operation that was processed.
+   * @param  responseTime   The response time in nanoseconds.
+   */
+  void recordResponseTime(@NotNull final OperationType operationType,
+                          final long responseTime)
+  {
+    final LatencyHistogram h = responseTimeHistograms.get(operationType);
+    if (h != null)
+    {
+      h.record(responseTime);
+    }
+  }
+
+
+
   /**
    * Retrieves the number of failed attempts to check out a connection from
    * the pool (including connections checked out for internal use by operations
@@ -541,6 +653,8 @@ public final class LDAPConnectionPoolStatistics
     buffer.append(failedCheckouts);
     buffer.append(", numReleasedValid=");
     buffer.append(releasedValid);
+    buffer.append(", checkoutWaitTimeNanos=");
+    checkoutWaitTimes.toString(buffer);
     buffer.append(')');
   }
 }
@@ -44,8 +44,10 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.nio.channels.SocketChannel;
 import java.util.Iterator;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
@@ -63,6 +65,7 @@ import com.unboundid.util.InternalUseOnly;
 import com.unboundid.util.NotNull;
 import com.unboundid.util.Nullable;
 import com.unboundid.util.StaticUtils;
+import com.unboundid.util.VirtualThreadSupport;
 import com.unboundid.util.WakeableSleeper;
 
 import static com.unboundid.ldap.sdk.LDAPMessages.*;
@@ -96,6 +99,10 @@ final class LDAPConnectionReader
   @NotNull private final ConcurrentHashMap<Integer,ResponseAcceptor>
        acceptorMap;
 
+  // The reader that will be used to read data from the socket through a shared
+  // selector thread.  It will be null if this reader uses its own thread.
+  @Nullable private volatile LDAPConnectionChannelReader channelReader;
+
   // The exception encountered during StartTLS processing.
   @Nullable private volatile Exception startTLSException;
 
@@ -152,6 +159,20 @@ final class LDAPConnectionReader
                                                    DEFAULT_INPUT_BUFFER_SIZE);
     asn1StreamReader = new ASN1StreamReader(inputStream,
          connection.getConnectionOptions().getMaxMessageSize());
+    asn1StreamReader.setBufferAllocator(
+         connection.getConnectionOptions().getReadBufferAllocator());
+
+    final SocketChannel selectorChannel =
+         connectionInternals.getSelectorChannel();
+    if (selectorChannel == null)
+    {
+      channelReader = null;
+    }
+    else
+    {
+      channelReader = new LDAPConnectionChannelReader(connection, this,
+           selectorChannel);
+    }
 
     acceptorMap = new ConcurrentHashMap<>(StaticUtils.computeMapCapacity(10));
     closeRequested = false;
@@ -220,6 +241,64 @@ final class LDAPConnectionReader
 
 
 
+  /**
+   * Starts reading responses from the server.  If this reader is configured to
+   * use a shared selector thread, then the underlying channel will be
+   * registered with that thread.  Otherwise, a dedicated thread will be
+   * started to read responses for the connection.
+   *
+   * @throws  IOException  If a problem occurs while registering with a
+   *                       selector thread.
+   */
+  void startReading()
+       throws IOException
+  {
+    final LDAPConnectionChannelReader r = channelReader;
+    if (r == null)
+    {
+      startReaderThread();
+    }
+    else
+    {
+      r.register();
+    }
+  }
+
+
+
+  /**
+   * Starts the thread that will be used to read responses for the connection.
+   * If the connection is configured to use virtual threads and the JVM
+   * supports them, then a virtual thread will be started to run this reader's
+   * {@link #run} method.  Otherwise, this reader's own thread will be started.
+   */
+  private void startReaderThread()
+  {
+    if (connection.getConnectionOptions().useVirtualThreads() &&
+        (VirtualThreadSupport.startVirtualThread(getName(), this) != null))
+    {
+      return;
+    }
+
+    start();
+  }
+
+
+
+  /**
+   * Indicates whether this reader is currently using a shared selector thread
+   * to read responses rather than its own dedicated thread.
+   *
+   * @return  {@code true} if this reader is currently using a shared selector
+   *          thread, or {@code false} if not.
+   */
+  boolean usesSelectorReader()
+  {
+    return (channelReader != null);
+  }
+
+
+
   /**
    * Operates in a loop, reading data from the server and decoding the
    * responses, and associating them with their corresponding requests.
@@ -240,7 +319,8 @@ final class LDAPConnectionReader
         try
         {
           response = LDAPMessage.readLDAPResponseFrom(asn1StreamReader, true,
-               connection.getCachedSchema());
+               connection.getCachedSchema(),
+               connection.getConnectionOptions().useLazySearchEntryDecoding());
         }
         catch (final LDAPException le)
         {
@@ -270,13 +350,20 @@ final class LDAPConnectionReader
                 }
 
                 final SSLSocket sslSocket;
-                synchronized (sslSocketFactory)
+                final ReentrantLock factoryLock =
+                     VirtualThreadSupport.getLock(sslSocketFactory);
+                factoryLock.lock();
+                try
                 {
                   sslSocket = (SSLSocket) sslSocketFactory.createSocket(socket,
                        connection.getConnectedAddress(), socket.getPort(),
                        true);
                   sslSocket.startHandshake();
                 }
+                finally
+                {
+                  factoryLock.unlock();
+                }
                 connectionOptions.getSSLSocketVerifier().verifySSLSocket(
                      connection.getConnectedAddress(), socket.getPort(),
                      sslSocket);
@@ -285,6 +372,8 @@ final class LDAPConnectionReader
                                              DEFAULT_INPUT_BUFFER_SIZE);
                 asn1StreamReader = new ASN1StreamReader(inputStream,
                      connectionOptions.getMaxMessageSize());
+                asn1StreamReader.setBufferAllocator(
+                     connectionOptions.getReadBufferAllocator());
                 startTLSOutputStream = sslSocket.getOutputStream();
                 socket = sslSocket;
                 connection.getConnectionInternals(true).setSocket(sslSocket);
@@ -313,313 +402,496 @@ final class LDAPConnectionReader
             continue;
           }
 
-          if (closeRequested || connection.closeRequested() ||
-              (connection.getDisconnectType() != null))
-          {
-            // This exception resulted from the connection being closed in a way
-            // that we already knew about.  We don't want to debug it at the
-            // same level as a newly-detected invalidity.
-            closeRequested = true;
-            Debug.debugException(Level.FINEST, le);
-          }
-          else
-          {
-            Debug.debugException(le);
-          }
-
-          // We should terminate the connection regardless of the type of
-          // exception, but might want to customize the debug message.
-          final String message;
-          Level debugLevel = Level.SEVERE;
-
-          if (t == null)
-          {
-            connection.setDisconnectInfo(DisconnectType.DECODE_ERROR,
-                 le.getMessage(), t);
-            message = le.getMessage();
-            debugLevel = Level.WARNING;
-          }
-          else if ((t instanceof InterruptedIOException) && socket.isClosed())
-          {
-            connection.setDisconnectInfo(
-                 DisconnectType.SERVER_CLOSED_WITHOUT_NOTICE, le.getMessage(),
-                 t);
-            message = ERR_READER_CLOSING_DUE_TO_INTERRUPTED_IO.get(
-                 connection.getHostPort());
-            debugLevel = Level.WARNING;
-          }
-          else if (t instanceof IOException)
-          {
-            connection.setDisconnectInfo(DisconnectType.IO_ERROR,
-                 le.getMessage(), t);
-            message = ERR_READER_CLOSING_DUE_TO_IO_EXCEPTION.get(
-                 connection.getHostPort(), StaticUtils.getExceptionMessage(t));
-            debugLevel = Level.WARNING;
-          }
-          else if (t instanceof ASN1Exception)
-          {
-            connection.setDisconnectInfo(DisconnectType.DECODE_ERROR,
-                 le.getMessage(), t);
-            message = ERR_READER_CLOSING_DUE_TO_ASN1_EXCEPTION.get(
-                 connection.getHostPort(), StaticUtils.getExceptionMessage(t));
-          }
-          else
-          {
-            connection.setDisconnectInfo(DisconnectType.LOCAL_ERROR,
-                 le.getMessage(), t);
-            message = ERR_READER_CLOSING_DUE_TO_EXCEPTION.get(
-                 connection.getHostPort(), StaticUtils.getExceptionMessage(t));
-          }
-
-          Debug.debug(debugLevel, DebugType.LDAP, message, t);
-
-          // If the connection is configured to try to auto-reconnect, then set
-          // things up to do that.  Otherwise, terminate the connection.
-          @SuppressWarnings("deprecation")
-          final boolean autoReconnect =
-               connection.getConnectionOptions().autoReconnect();
-          if ((! closeRequested) && autoReconnect)
+          if (handleReadException(le))
           {
             reconnect = true;
             break;
           }
           else
           {
-            closeRequested = true;
-            if (thread != null)
-            {
-              thread.setName(thread.getName() + " (closed)");
-              thread = null;
-            }
-            closeInternal(true, message);
             return;
           }
         }
 
         if (response == null)
         {
-          // This should only happen if the socket has been closed.
-          connection.setDisconnectInfo(
-               DisconnectType.SERVER_CLOSED_WITHOUT_NOTICE, null, null);
-          @SuppressWarnings("deprecation")
-          final boolean autoReconnect =
-               connection.getConnectionOptions().autoReconnect();
-          if ((! closeRequested) && (! connection.unbindRequestSent()) &&
-              autoReconnect)
+          if (handleEndOfInput())
           {
             reconnect = true;
             break;
           }
           else
           {
-            closeRequested = true;
-            if (thread != null)
-            {
-              thread.setName(thread.getName() + " (closed)");
-              thread = null;
-            }
-            closeInternal(true, null);
             return;
           }
         }
 
-        connection.setLastCommunicationTime();
-        Debug.debugLDAPResult(response, connection);
-        logResponse(response);
-
-        final ResponseAcceptor responseAcceptor;
-        if ((response instanceof SearchResultEntry) ||
-            (response instanceof SearchResultReference))
-        {
-          responseAcceptor = acceptorMap.get(response.getMessageID());
-        }
-        else if (response instanceof IntermediateResponse)
+        processResponse(response);
+      }
+      catch (final Exception e)
+      {
+        if (handleUnexpectedException(e))
         {
-          final IntermediateResponse ir = (IntermediateResponse) response;
-          responseAcceptor = acceptorMap.get(response.getMessageID());
-           IntermediateResponseListener l = null;
-          if (responseAcceptor instanceof LDAPRequest)
-          {
-            final LDAPRequest r = (LDAPRequest) responseAcceptor;
-            l = r.getIntermediateResponseListener();
-
-          }
-          else if (responseAcceptor instanceof IntermediateResponseListener)
-          {
-            l = (IntermediateResponseListener) responseAcceptor;
-          }
-
-          if (l == null)
-          {
-            Debug.debug(Level.WARNING, DebugType.LDAP,
-                 WARN_INTERMEDIATE_RESPONSE_WITH_NO_LISTENER.get(
-                      String.valueOf(ir)));
-          }
-          else
-          {
-            try
-            {
-              l.intermediateResponseReturned(ir);
-            }
-            catch (final Exception e)
-            {
-              Debug.debugException(e);
-            }
-          }
-          continue;
+          reconnect = true;
+          break;
         }
         else
         {
-          responseAcceptor = acceptorMap.remove(response.getMessageID());
+          return;
         }
+      }
+    }
 
+    if (thread != null)
+    {
+      thread.setName(constructThreadName(null));
+      thread = null;
+    }
 
-        if (responseAcceptor == null)
-        {
-          if ((response instanceof ExtendedResult) &&
-              (response.getMessageID() == 0))
-          {
-            // This is an intermediate response message, so handle it
-            // appropriately.
-            ExtendedResult extendedResult = (ExtendedResult) response;
+    if (reconnect && (! connection.closeRequested()))
+    {
+      try
+      {
+        connection.setNeedsReconnect();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+    }
+    else
+    {
+      // Ensure that the connection has properly been closed.
+      closeInternal(true, null);
+    }
+  }
 
-            final String oid = extendedResult.getOID();
-            if (NoticeOfDisconnectionExtendedResult.
-                     NOTICE_OF_DISCONNECTION_RESULT_OID.equals(oid))
-            {
-              extendedResult = new NoticeOfDisconnectionExtendedResult(
-                                        extendedResult);
-              connection.setDisconnectInfo(
-                   DisconnectType.SERVER_CLOSED_WITH_NOTICE,
-                   extendedResult.getDiagnosticMessage(), null);
-            }
-            else if (com.unboundid.ldap.sdk.unboundidds.extensions.
-                 InteractiveTransactionAbortedExtendedResult.
-                      INTERACTIVE_TRANSACTION_ABORTED_RESULT_OID.equals(oid))
-            {
-              extendedResult = new com.unboundid.ldap.sdk.unboundidds.
-                   extensions.InteractiveTransactionAbortedExtendedResult(
-                        extendedResult);
-            }
 
-            final UnsolicitedNotificationHandler handler =
-                 connection.getConnectionOptions().
-                      getUnsolicitedNotificationHandler();
-            if (handler == null)
-            {
-              if (Debug.debugEnabled(DebugType.LDAP))
-              {
-                Debug.debug(Level.WARNING, DebugType.LDAP,
-                     WARN_READER_UNHANDLED_UNSOLICITED_NOTIFICATION.get(
-                          response));
-              }
-            }
-            else
-            {
-              handler.handleUnsolicitedNotification(connection,
-                                                    extendedResult);
-            }
-            continue;
-          }
 
-          if (Debug.debugEnabled(DebugType.LDAP))
-          {
-            Debug.debug(Level.WARNING, DebugType.LDAP,
-                  WARN_READER_NO_ACCEPTOR.get(response));
-          }
-          continue;
-        }
+  /**
+   * Associates the provided response with the request to which it corresponds
+   * and hands it off to the appropriate response acceptor.  This is used both
+   * by the dedicated reader thread and by the selector reader.
+   *
+   * @param  response  The response that has been read from the server.  It
+   *                   must not be {@code null}.
+   *
+   * @throws  LDAPException  If a problem is encountered while processing the
+   *                         response.
+   */
+  @SuppressWarnings("deprecation")
+  void processResponse(@NotNull final LDAPResponse response)
+       throws LDAPException
+  {
+    connection.setLastCommunicationTime();
+    Debug.debugLDAPResult(response, connection);
+    logResponse(response);
+
+    final ResponseAcceptor responseAcceptor;
+    if ((response instanceof SearchResultEntry) ||
+        (response instanceof SearchResultReference))
+    {
+      responseAcceptor = acceptorMap.get(response.getMessageID());
+    }
+    else if (response instanceof IntermediateResponse)
+    {
+      final IntermediateResponse ir = (IntermediateResponse) response;
+      responseAcceptor = acceptorMap.get(response.getMessageID());
+       IntermediateResponseListener l = null;
+      if (responseAcceptor instanceof LDAPRequest)
+      {
+        final LDAPRequest r = (LDAPRequest) responseAcceptor;
+        l = r.getIntermediateResponseListener();
+
+      }
+      else if (responseAcceptor instanceof IntermediateResponseListener)
+      {
+        l = (IntermediateResponseListener) responseAcceptor;
+      }
 
+      if (l == null)
+      {
+        Debug.debug(Level.WARNING, DebugType.LDAP,
+             WARN_INTERMEDIATE_RESPONSE_WITH_NO_LISTENER.get(
+                  String.valueOf(ir)));
+      }
+      else
+      {
         try
         {
-          responseAcceptor.responseReceived(response);
+          l.intermediateResponseReturned(ir);
         }
-        catch (final LDAPException le)
+        catch (final Exception e)
         {
-          Debug.debugException(le);
-          Debug.debug(Level.WARNING, DebugType.LDAP,
-                ERR_READER_ACCEPTOR_ERROR.get(String.valueOf(response),
-                     connection.getHostPort(),
-                     StaticUtils.getExceptionMessage(le)),
-               le);
+          Debug.debugException(e);
         }
       }
-      catch (final Exception e)
+      return;
+    }
+    else
+    {
+      responseAcceptor = acceptorMap.remove(response.getMessageID());
+    }
+
+
+    if (responseAcceptor == null)
+    {
+      if ((response instanceof ExtendedResult) &&
+          (response.getMessageID() == 0))
       {
-        Debug.debugException(e);
+        // This is an intermediate response message, so handle it
+        // appropriately.
+        ExtendedResult extendedResult = (ExtendedResult) response;
 
-        // We should terminate the connection regardless of the type of
-        // exception, but might want to customize the debug message.
-        final String message;
-        Level debugLevel = Level.SEVERE;
-        if (e instanceof IOException)
-        {
-          connection.setDisconnectInfo(DisconnectType.IO_ERROR, null, e);
-          message = ERR_READER_CLOSING_DUE_TO_IO_EXCEPTION.get(
-               connection.getHostPort(), StaticUtils.getExceptionMessage(e));
-          debugLevel = Level.WARNING;
-        }
-        else if (e instanceof ASN1Exception)
+        final String oid = extendedResult.getOID();
+        if (NoticeOfDisconnectionExtendedResult.
+                 NOTICE_OF_DISCONNECTION_RESULT_OID.equals(oid))
         {
-          connection.setDisconnectInfo(DisconnectType.DECODE_ERROR, null, e);
-          message = ERR_READER_CLOSING_DUE_TO_ASN1_EXCEPTION.get(
-               connection.getHostPort(), StaticUtils.getExceptionMessage(e));
+          extendedResult = new NoticeOfDisconnectionExtendedResult(
+                                    extendedResult);
+          connection.setDisconnectInfo(
+               DisconnectType.SERVER_CLOSED_WITH_NOTICE,
+               extendedResult.getDiagnosticMessage(), null);
         }
-        else
+        else if (com.unboundid.ldap.sdk.unboundidds.extensions.
+             InteractiveTransactionAbortedExtendedResult.
+                  INTERACTIVE_TRANSACTION_ABORTED_RESULT_OID.equals(oid))
         {
-          connection.setDisconnectInfo(DisconnectType.LOCAL_ERROR, null, e);
-          message = ERR_READER_CLOSING_DUE_TO_EXCEPTION.get(
-               connection.getHostPort(), StaticUtils.getExceptionMessage(e));
+          extendedResult = new com.unboundid.ldap.sdk.unboundidds.
+               extensions.InteractiveTransactionAbortedExtendedResult(
+                    extendedResult);
         }
 
-        Debug.debug(debugLevel, DebugType.LDAP, message, e);
-
-        // If the connection is configured to try to auto-reconnect, then set
-        // things up to do that.  Otherwise, terminate the connection.
-        @SuppressWarnings("deprecation")
-        final boolean autoReconnect =
-             connection.getConnectionOptions().autoReconnect();
-        if (autoReconnect)
+        final UnsolicitedNotificationHandler handler =
+             connection.getConnectionOptions().
+                  getUnsolicitedNotificationHandler();
+        if (handler == null)
         {
-          reconnect = true;
-          break;
+          if (Debug.debugEnabled(DebugType.LDAP))
+          {
+            Debug.debug(Level.WARNING, DebugType.LDAP,
+                 WARN_READER_UNHANDLED_UNSOLICITED_NOTIFICATION.get(
+                      response));
+          }
         }
         else
         {
-          closeRequested = true;
-          if (thread != null)
-          {
-            thread.setName(thread.getName() + " (closed)");
-            thread = null;
-          }
-          closeInternal(true, message);
-          return;
+          handler.handleUnsolicitedNotification(connection,
+                                                extendedResult);
         }
+        return;
       }
+
+      if (Debug.debugEnabled(DebugType.LDAP))
+      {
+        Debug.debug(Level.WARNING, DebugType.LDAP,
+              WARN_READER_NO_ACCEPTOR.get(response));
+      }
+      return;
     }
 
-    if (thread != null)
+    try
     {
-      thread.setName(constructThreadName(null));
-      thread = null;
+      responseAcceptor.responseReceived(response);
     }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      Debug.debug(Level.WARNING, DebugType.LDAP,
+            ERR_READER_ACCEPTOR_ERROR.get(String.valueOf(response),
+                 connection.getHostPort(),
+                 StaticUtils.getExceptionMessage(le)),
+           le);
+    }
+  }
 
-    if (reconnect && (! connection.closeRequested()))
+
+
+  /**
+   * Handles an exception (other than a socket timeout) caught while trying to
+   * read a response from the server.  The connection will either be flagged
+   * for reconnection or closed.
+   *
+   * @param  le  The exception that was caught.  It must not be {@code null}.
+   *
+   * @return  {@code true} if the connection should be re-established, or
+   *          {@code false} if it has been closed.
+   */
+  private boolean handleReadException(@NotNull final LDAPException le)
+  {
+    final Throwable t = le.getCause();
+    if (closeRequested || connection.closeRequested() ||
+        (connection.getDisconnectType() != null))
     {
-      try
+      // This exception resulted from the connection being closed in a way
+      // that we already knew about.  We don't want to debug it at the
+      // same level as a newly-detected invalidity.
+      closeRequested = true;
+      Debug.debugException(Level.FINEST, le);
+    }
+    else
+    {
+      Debug.debugException(le);
+    }
+
+    // We should terminate the connection regardless of the type of
+    // exception, but might want to customize the debug message.
+    final String message;
+    Level debugLevel = Level.SEVERE;
+
+    if (t == null)
+    {
+      connection.setDisconnectInfo(DisconnectType.DECODE_ERROR,
+           le.getMessage(), t);
+      message = le.getMessage();
+      debugLevel = Level.WARNING;
+    }
+    else if ((t instanceof InterruptedIOException) && socket.isClosed())
+    {
+      connection.setDisconnectInfo(
+           DisconnectType.SERVER_CLOSED_WITHOUT_NOTICE, le.getMessage(),
+           t);
+      message = ERR_READER_CLOSING_DUE_TO_INTERRUPTED_IO.get(
+           connection.getHostPort());
+      debugLevel = Level.WARNING;
+    }
+    else if (t instanceof IOException)
+    {
+      connection.setDisconnectInfo(DisconnectType.IO_ERROR,
+           le.getMessage(), t);
+      message = ERR_READER_CLOSING_DUE_TO_IO_EXCEPTION.get(
+           connection.getHostPort(), StaticUtils.getExceptionMessage(t));
+      debugLevel = Level.WARNING;
+    }
+    else if (t instanceof ASN1Exception)
+    {
+      connection.setDisconnectInfo(DisconnectType.DECODE_ERROR,
+           le.getMessage(), t);
+      message = ERR_READER_CLOSING_DUE_TO_ASN1_EXCEPTION.get(
+           connection.getHostPort(), StaticUtils.getExceptionMessage(t));
+    }
+    else
+    {
+      connection.setDisconnectInfo(DisconnectType.LOCAL_ERROR,
+           le.getMessage(), t);
+      message = ERR_READER_CLOSING_DUE_TO_EXCEPTION.get(
+           connection.getHostPort(), StaticUtils.getExceptionMessage(t));
+    }
+
+    Debug.debug(debugLevel, DebugType.LDAP, message, t);
+
+    // If the connection is configured to try to auto-reconnect, then set
+    // things up to do that.  Otherwise, terminate the connection.
+    @SuppressWarnings("deprecation")
+    final boolean autoReconnect =
+         connection.getConnectionOptions().autoReconnect();
+    if ((! closeRequested) && autoReconnect)
+    {
+      return true;
+    }
+    else
+    {
+      closeRequested = true;
+      if (thread != null)
       {
-        connection.setNeedsReconnect();
+        thread.setName(thread.getName() + " (closed)");
+        thread = null;
       }
-      catch (final Exception e)
+      closeInternal(true, message);
+      return false;
+    }
+  }
+
+
+
+  /**
+   * Handles the case in which the end of the input stream has been reached,
+   * which should only happen if the socket has been closed.  The connection
+   * will either be flagged for reconnection or closed.
+   *
+   * @return  {@code true} if the connection should be re-established, or
+   *          {@code false} if it has been closed.
+   */
+  private boolean handleEndOfInput()
+  {
+    connection.setDisconnectInfo(
+         DisconnectType.SERVER_CLOSED_WITHOUT_NOTICE, null, null);
+    @SuppressWarnings("deprecation")
+    final boolean autoReconnect =
+         connection.getConnectionOptions().autoReconnect();
+    if ((! closeRequested) && (! connection.unbindRequestSent()) &&
+        autoReconnect)
+    {
+      return true;
+    }
+    else
+    {
+      closeRequested = true;
+      if (thread != null)
       {
-        Debug.debugException(e);
+        thread.setName(thread.getName() + " (closed)");
+        thread = null;
       }
+      closeInternal(true, null);
+      return false;
+    }
+  }
+
+
+
+  /**
+   * Handles an unexpected exception caught while reading or processing a
+   * response from the server.  The connection will either be flagged for
+   * reconnection or closed.
+   *
+   * @param  e  The exception that was caught.  It must not be {@code null}.
+   *
+   * @return  {@code true} if the connection should be re-established, or
+   *          {@code false} if it has been closed.
+   */
+  private boolean handleUnexpectedException(@NotNull final Exception e)
+  {
+    Debug.debugException(e);
+
+    // We should terminate the connection regardless of the type of
+    // exception, but might want to customize the debug message.
+    final String message;
+    Level debugLevel = Level.SEVERE;
+    if (e instanceof IOException)
+    {
+      connection.setDisconnectInfo(DisconnectType.IO_ERROR, null, e);
+      message = ERR_READER_CLOSING_DUE_TO_IO_EXCEPTION.get(
+           connection.getHostPort(), StaticUtils.getExceptionMessage(e));
+      debugLevel = Level.WARNING;
+    }
+    else if (e instanceof ASN1Exception)
+    {
+      connection.setDisconnectInfo(DisconnectType.DECODE_ERROR, null, e);
+      message = ERR_READER_CLOSING_DUE_TO_ASN1_EXCEPTION.get(
+           connection.getHostPort(), StaticUtils.getExceptionMessage(e));
     }
     else
     {
-      // Ensure that the connection has properly been closed.
+      connection.setDisconnectInfo(DisconnectType.LOCAL_ERROR, null, e);
+      message = ERR_READER_CLOSING_DUE_TO_EXCEPTION.get(
+           connection.getHostPort(), StaticUtils.getExceptionMessage(e));
+    }
+
+    Debug.debug(debugLevel, DebugType.LDAP, message, e);
+
+    // If the connection is configured to try to auto-reconnect, then set
+    // things up to do that.  Otherwise, terminate the connection.
+    @SuppressWarnings("deprecation")
+    final boolean autoReconnect =
+         connection.getConnectionOptions().autoReconnect();
+    if (autoReconnect)
+    {
+      return true;
+    }
+    else
+    {
+      closeRequested = true;
+      if (thread != null)
+      {
+        thread.setName(thread.getName() + " (closed)");
+        thread = null;
+      }
+      closeInternal(true, message);
+      return false;
+    }
+  }
+
+
+
+  /**
+   * Handles a failure encountered by the selector reader while attempting to
+   * decode a response from the server.  The connection will either be flagged
+   * for reconnection or closed.
+   *
+   * @param  le  The exception that was caught.  It must not be {@code null}.
+   */
+  void selectorDecodeFailed(@NotNull final LDAPException le)
+  {
+    if (closeRequested)
+    {
+      Debug.debugException(Level.FINEST, le);
+      return;
+    }
+
+    if (handleReadException(le))
+    {
+      selectorReconnect();
+    }
+  }
+
+
+
+  /**
+   * Handles a failure encountered by the selector reader while attempting to
+   * read or process data from the server.  The connection will either be
+   * flagged for reconnection or closed.
+   *
+   * @param  e  The exception that was caught.  It must not be {@code null}.
+   */
+  void selectorReadFailed(@NotNull final Exception e)
+  {
+    if (closeRequested || connection.closeRequested())
+    {
+      // This most likely resulted from the connection being closed while the
+      // selector thread was reading from it.
+      Debug.debugException(Level.FINEST, e);
+      return;
+    }
+
+    if (handleUnexpectedException(e))
+    {
+      selectorReconnect();
+    }
+  }
+
+
+
+  /**
+   * Handles the case in which the selector reader has reached the end of the
+   * data available from the server.  The connection will either be flagged for
+   * reconnection or closed.
+   */
+  void selectorEndOfInput()
+  {
+    if (closeRequested)
+    {
+      return;
+    }
+
+    if (handleEndOfInput())
+    {
+      selectorReconnect();
+    }
+  }
+
+
+
+  /**
+   * Flags the connection for reconnection after the selector reader has
+   * detected that it is no longer valid.
+   */
+  private void selectorReconnect()
+  {
+    if (connection.closeRequested())
+    {
       closeInternal(true, null);
     }
+    else
+    {
+      try
+      {
+        connection.setNeedsReconnect();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+    }
   }
 
 
@@ -649,7 +921,8 @@ final class LDAPConnectionReader
       try
       {
         final LDAPResponse response = LDAPMessage.readLDAPResponseFrom(
-             asn1StreamReader, false, connection.getCachedSchema());
+             asn1StreamReader, false, connection.getCachedSchema(),
+             connection.getConnectionOptions().useLazySearchEntryDecoding());
         if (response == null)
         {
           return new ConnectionClosedResponse(ResultCode.SERVER_DOWN, null);
@@ -911,56 +1184,20 @@ final class LDAPConnectionReader
   OutputStream doStartTLS(@NotNull final SSLSocketFactory sslSocketFactory)
        throws LDAPException
   {
-    final LDAPConnectionOptions connectionOptions =
-         connection.getConnectionOptions();
     if (connection.synchronousMode())
     {
-      try
-      {
-        final int connectTimeout = connectionOptions.getConnectTimeoutMillis();
-        if (connectTimeout > 0)
-        {
-          InternalSDKHelper.setSoTimeout(connection, connectTimeout);
-        }
-        else
-        {
-          InternalSDKHelper.setSoTimeout(connection, 0);
-        }
-
-        final SSLSocket sslSocket;
-        synchronized (sslSocketFactory)
-        {
-          sslSocket = (SSLSocket) sslSocketFactory.createSocket(socket,
-               connection.getConnectedAddress(), socket.getPort(), true);
-          sslSocket.startHandshake();
-        }
-        connectionOptions.getSSLSocketVerifier().verifySSLSocket(
-             connection.getConnectedAddress(), socket.getPort(), sslSocket);
-        inputStream =
-             new BufferedInputStream(sslSocket.getInputStream(),
-                                     DEFAULT_INPUT_BUFFER_SIZE);
-        asn1StreamReader = new ASN1StreamReader(inputStream,
-             connectionOptions.getMaxMessageSize());
-        startTLSOutputStream = sslSocket.getOutputStream();
-        socket = sslSocket;
-        connection.getConnectionInternals(true).setSocket(sslSocket);
-        final OutputStream outputStream = startTLSOutputStream;
-        startTLSOutputStream = null;
-        return outputStream;
-      }
-      catch (final Exception e)
-      {
-        Debug.debugException(e);
-        connection.setDisconnectInfo(DisconnectType.SECURITY_PROBLEM,
-             StaticUtils.getExceptionMessage(e), e);
-        startTLSException = e;
-        closeRequested = true;
-        closeInternal(true, StaticUtils.getExceptionMessage(e));
-        throw new LDAPException(ResultCode.SERVER_DOWN,
-             ERR_CONNREADER_STARTTLS_FAILED.get(
-                  StaticUtils.getExceptionMessage(e)),
-             e);
-      }
+      return negotiateTLS(sslSocketFactory);
+    }
+    else if (channelReader != null)
+    {
+      // The selector reader is not able to perform TLS negotiation, so the
+      // connection will be taken off of the shared selector and will use a
+      // dedicated reader thread from this point forward.
+      final OutputStream outputStream = negotiateTLS(sslSocketFactory);
+      InternalSDKHelper.setSoTimeout(connection, Math.max(0,
+           (int) connection.getConnectionOptions().getResponseTimeoutMillis()));
+      startReaderThread();
+      return outputStream;
     }
     else
     {
@@ -1021,6 +1258,94 @@ final class LDAPConnectionReader
 
 
 
+  /**
+   * Performs TLS negotiation on the current thread.  This is used for
+   * connections operating in synchronous mode and for connections that have
+   * been using the selector reader.
+   *
+   * @param  sslSocketFactory  The SSL socket factory to use to convert an
+   *                           insecure connection into a secure connection.  It
+   *                           must not be {@code null}.
+   *
+   * @return  The TLS-enabled output stream that may be used to send encrypted
+   *          requests to the server.
+   *
+   * @throws  LDAPException  If a problem occurs while attempting to convert the
+   *                         connection to use TLS security.
+   */
+  @NotNull()
+  private OutputStream negotiateTLS(
+               @NotNull final SSLSocketFactory sslSocketFactory)
+          throws LDAPException
+  {
+    final LDAPConnectionOptions connectionOptions =
+         connection.getConnectionOptions();
+    try
+    {
+      final LDAPConnectionChannelReader r = channelReader;
+      if (r != null)
+      {
+        r.detach();
+        channelReader = null;
+      }
+
+      final int connectTimeout = connectionOptions.getConnectTimeoutMillis();
+      if (connectTimeout > 0)
+      {
+        InternalSDKHelper.setSoTimeout(connection, connectTimeout);
+      }
+      else
+      {
+        InternalSDKHelper.setSoTimeout(connection, 0);
+      }
+
+      final SSLSocket sslSocket;
+      final ReentrantLock factoryLock =
+           VirtualThreadSupport.getLock(sslSocketFactory);
+      factoryLock.lock();
+      try
+      {
+        sslSocket = (SSLSocket) sslSocketFactory.createSocket(socket,
+             connection.getConnectedAddress(), socket.getPort(), true);
+        sslSocket.startHandshake();
+      }
+      finally
+      {
+        factoryLock.unlock();
+      }
+      connectionOptions.getSSLSocketVerifier().verifySSLSocket(
+           connection.getConnectedAddress(), socket.getPort(), sslSocket);
+      inputStream =
+           new BufferedInputStream(sslSocket.getInputStream(),
+                                   DEFAULT_INPUT_BUFFER_SIZE);
+      asn1StreamReader = new ASN1StreamReader(inputStream,
+           connectionOptions.getMaxMessageSize());
+      asn1StreamReader.setBufferAllocator(
+           connectionOptions.getReadBufferAllocator());
+      startTLSOutputStream = sslSocket.getOutputStream();
+      socket = sslSocket;
+      connection.getConnectionInternals(true).setSocket(sslSocket);
+      final OutputStream outputStream = startTLSOutputStream;
+      startTLSOutputStream = null;
+      return outputStream;
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      connection.setDisconnectInfo(DisconnectType.SECURITY_PROBLEM,
+           StaticUtils.getExceptionMessage(e), e);
+      startTLSException = e;
+      closeRequested = true;
+      closeInternal(true, StaticUtils.getExceptionMessage(e));
+      throw new LDAPException(ResultCode.SERVER_DOWN,
+           ERR_CONNREADER_STARTTLS_FAILED.get(
+                StaticUtils.getExceptionMessage(e)),
+           e);
+    }
+  }
+
+
+
   /**
    * Updates this connection reader to ensure that any subsequent data read
    * over this connection will be decoded using the provided SASL client.
@@ -1030,7 +1355,15 @@ final class LDAPConnectionReader
    */
   void applySASLQoP(@NotNull final SaslClient saslClient)
   {
-    InternalASN1Helper.setSASLClient(asn1StreamReader, saslClient);
+    final LDAPConnectionChannelReader r = channelReader;
+    if (r == null)
+    {
+      InternalASN1Helper.setSASLClient(asn1StreamReader, saslClient);
+    }
+    else
+    {
+      r.setSASLClient(saslClient);
+    }
   }
 
 
@@ -1125,6 +1458,12 @@ final class LDAPConnectionReader
    private void closeInternal(final boolean notifyConnection,
                               @Nullable final String message)
    {
+     final LDAPConnectionChannelReader r = channelReader;
+     if (r != null)
+     {
+       r.deregister();
+     }
+
      final InputStream is = inputStream;
      inputStream = null;
 
@@ -0,0 +1,365 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.DebugType;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.PropertyManager;
+
+
+
+/**
+ * This class provides a thread that uses a selector to read responses for any
+ * number of LDAP connections configured to use the selector reader.  A small,
+ * fixed set of these threads is shared across all such connections in the
+ * JVM, and each connection is assigned to the thread with the fewest
+ * registered connections at the time that it is established.  The number of
+ * threads may be specified using the
+ * {@link LDAPConnectionOptions#PROPERTY_SELECTOR_READER_THREAD_COUNT} system
+ * property.
+ */
+@InternalUseOnly()
+final class LDAPConnectionSelectorThread
+      extends Thread
+{
+  /**
+   * The maximum number of selector threads that will be created by default.
+   */
+  private static final int MAX_DEFAULT_THREAD_COUNT = 8;
+
+
+
+  /**
+   * The lock that will be used to ensure that the set of selector threads is
+   * only created once.
+   */
+  @NotNull private static final Object THREADS_LOCK = new Object();
+
+
+
+  /**
+   * The set of selector threads that have been created.
+   */
+  @Nullable private static volatile LDAPConnectionSelectorThread[] threads =
+       null;
+
+
+
+  // The number of connections currently registered with this thread.
+  @NotNull private final AtomicInteger numRegisteredConnections;
+
+  // The queue of channel readers waiting to be registered with the selector.
+  @NotNull private final ConcurrentLinkedQueue<LDAPConnectionChannelReader>
+       pendingRegistrations;
+
+  // The selector used to determine which channels have data available.
+  @NotNull private final Selector selector;
+
+
+
+  /**
+   * Creates a new selector thread with the provided index.
+   *
+   * @param  index  The index for this thread in the set of selector threads.
+   *
+   * @throws  IOException  If a problem occurs while opening the selector.
+   */
+  private LDAPConnectionSelectorThread(final int index)
+          throws IOException
+  {
+    setName("LDAP Connection Selector Reader Thread " + index);
+    setDaemon(true);
+
+    numRegisteredConnections = new AtomicInteger(0);
+    pendingRegistrations = new ConcurrentLinkedQueue<>();
+    selector = Selector.open();
+  }
+
+
+
+  /**
+   * Retrieves the selector thread with which a new connection should be
+   * registered.  The set of selector threads will be created and started if
+   * that has not already been done.
+   *
+   * @return  The selector thread with which a new connection should be
+   *          registered.
+   *
+   * @throws  IOException  If a problem occurs while creating the set of
+   *                       selector threads.
+   */
+  @NotNull()
+  static LDAPConnectionSelectorThread getSelectorThread()
+         throws IOException
+  {
+    LDAPConnectionSelectorThread[] threadArray = threads;
+    if (threadArray == null)
+    {
+      synchronized (THREADS_LOCK)
+      {
+        threadArray = threads;
+        if (threadArray == null)
+        {
+          final int defaultThreadCount = Math.min(MAX_DEFAULT_THREAD_COUNT,
+               Runtime.getRuntime().availableProcessors());
+          final int threadCount = Math.max(1, PropertyManager.getInt(
+               LDAPConnectionOptions.PROPERTY_SELECTOR_READER_THREAD_COUNT,
+               defaultThreadCount));
+
+          threadArray = new LDAPConnectionSelectorThread[threadCount];
+          for (int i=0; i < threadCount; i++)
+          {
+            threadArray[i] = new LDAPConnectionSelectorThread(i);
+          }
+
+          for (final LDAPConnectionSelectorThread t : threadArray)
+          {
+            t.start();
+          }
+
+          threads = threadArray;
+        }
+      }
+    }
+
+    LDAPConnectionSelectorThread selectedThread = threadArray[0];
+    int selectedCount = selectedThread.numRegisteredConnections.get();
+    for (int i=1; i < threadArray.length; i++)
+    {
+      final int count = threadArray[i].numRegisteredConnections.get();
+      if (count < selectedCount)
+      {
+        selectedThread = threadArray[i];
+        selectedCount = count;
+      }
+    }
+
+    return selectedThread;
+  }
+
+
+
+  /**
+   * Retrieves the number of selector threads that have been created.
+   *
+   * @return  The number of selector threads that have been created, or zero if
+   *          no connection has yet used the selector reader.
+   */
+  static int getSelectorThreadCount()
+  {
+    final LDAPConnectionSelectorThread[] threadArray = threads;
+    if (threadArray == null)
+    {
+      return 0;
+    }
+    else
+    {
+      return threadArray.length;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the number of connections currently registered with this thread.
+   *
+   * @return  The number of connections currently registered with this thread.
+   */
+  int getNumRegisteredConnections()
+  {
+    return numRegisteredConnections.get();
+  }
+
+
+
+  /**
+   * Queues the provided channel reader to be registered with this thread's
+   * selector.
+   *
+   * @param  channelReader  The channel reader to register.
+   */
+  void register(@NotNull final LDAPConnectionChannelReader channelReader)
+  {
+    numRegisteredConnections.incrementAndGet();
+    pendingRegistrations.add(channelReader);
+    selector.wakeup();
+  }
+
+
+
+  /**
+   * Indicates that a channel reader that had been registered with this thread
+   * has been deregistered.
+   */
+  void deregistered()
+  {
+    numRegisteredConnections.decrementAndGet();
+  }
+
+
+
+  /**
+   * Wakes up the selector so that it will process any pending registration or
+   * deregistration.
+   */
+  void wakeup()
+  {
+    selector.wakeup();
+  }
+
+
+
+  /**
+   * Operates in a loop, waiting for data to become available on any of the
+   * registered channels and reading it when it does.
+   */
+  @Override()
+  public void run()
+  {
+    while (true)
+    {
+      try
+      {
+        selector.select();
+      }
+      catch (final ClosedSelectorException cse)
+      {
+        // This should never happen, since the selector is never closed.
+        Debug.debugException(cse);
+        return;
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+        Debug.debug(Level.WARNING, DebugType.LDAP,
+             "Unexpected error during selection in " + getName(), e);
+        continue;
+      }
+
+      processPendingRegistrations();
+
+      final Iterator<SelectionKey> iterator =
+           selector.selectedKeys().iterator();
+      while (iterator.hasNext())
+      {
+        final SelectionKey key = iterator.next();
+        iterator.remove();
+
+        final LDAPConnectionChannelReader channelReader =
+             (LDAPConnectionChannelReader) key.attachment();
+        try
+        {
+          if (key.isValid() && key.isReadable() &&
+               (! channelReader.readAvailableData()))
+          {
+            key.cancel();
+          }
+        }
+        catch (final CancelledKeyException cke)
+        {
+          // The connection was closed while we were processing it.
+          Debug.debugException(Level.FINEST, cke);
+        }
+        catch (final Throwable t)
+        {
+          // This should never happen, but we need to make sure that the
+          // selector thread survives it.
+          Debug.debugException(t);
+          channelReader.deregister();
+          key.cancel();
+        }
+      }
+    }
+  }
+
+
+
+  /**
+   * Registers any channel readers that are waiting to be registered with the
+   * selector.
+   */
+  private void processPendingRegistrations()
+  {
+    while (true)
+    {
+      final LDAPConnectionChannelReader channelReader =
+           pendingRegistrations.poll();
+      if (channelReader == null)
+      {
+        return;
+      }
+
+      if (channelReader.isDeregistered())
+      {
+        continue;
+      }
+
+      try
+      {
+        final SelectionKey key = channelReader.getChannel().register(selector,
+             SelectionKey.OP_READ, channelReader);
+        channelReader.registered(key);
+      }
+      catch (final ClosedChannelException cce)
+      {
+        // The connection was closed before it could be registered.
+        Debug.debugException(Level.FINEST, cce);
+        channelReader.registrationFailed(cce);
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+        channelReader.registrationFailed(e);
+      }
+    }
+  }
+}
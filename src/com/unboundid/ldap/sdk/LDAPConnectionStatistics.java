@@ -41,8 +41,10 @@ import java.io.Serializable;
 import java.text.DecimalFormat;
 import java.util.concurrent.atomic.AtomicLong;
 
+import com.unboundid.util.LatencyHistogram;
 import com.unboundid.util.Mutable;
 import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 
@@ -65,6 +67,14 @@ import com.unboundid.util.ThreadSafetyLevel;
  *       connection.</LI>
  *   <LI>The average response time (in milliseconds or nanoseconds) for each
  *       type of operation processed on the connection.</LI>
+ *   <LI>The number of times the connection's output stream has been flushed,
+ *       and the number of messages written per flush.  When multiple threads
+ *       send requests on the same connection at the same time, their messages
+ *       may be written together and flushed only once.</LI>
+ *   <LI>A histogram of the response times (in nanoseconds) for each type of
+ *       operation processed on the connection, which may be used to determine
+ *       percentiles like the median or 99th percentile response time.  See the
+ *       {@link LatencyHistogram} class for details.</LI>
  * </UL>
  */
 @Mutable()
@@ -120,6 +130,16 @@ public final class LDAPConnectionStatistics
   // The number of extended responses received on the associated connection.
   @NotNull private final AtomicLong numExtendedResponses;
 
+  // The number of times the output stream for the associated connection has
+  // been flushed after writing one or more messages.
+  @NotNull private final AtomicLong numFlushes;
+
+  // The total number of messages written across all flushes.
+  @NotNull private final AtomicLong numFlushedMessages;
+
+  // The largest number of messages written in a single flush.
+  @NotNull private final AtomicLong maxMessagesPerFlush;
+
   // The number of modify requests sent over the associated connection.
   @NotNull private final AtomicLong numModifyRequests;
 
@@ -174,6 +194,35 @@ public final class LDAPConnectionStatistics
   // The total length of time spent waiting for search done responses.
   @NotNull private final AtomicLong totalSearchResponseTime;
 
+  // The histogram of response times in nanoseconds for add operations.
+  @NotNull private final LatencyHistogram addResponseTimes;
+
+  // The histogram of response times in nanoseconds for bind operations.
+  @NotNull private final LatencyHistogram bindResponseTimes;
+
+  // The histogram of response times in nanoseconds for compare operations.
+  @NotNull private final LatencyHistogram compareResponseTimes;
+
+  // The histogram of response times in nanoseconds for delete operations.
+  @NotNull private final LatencyHistogram deleteResponseTimes;
+
+  // The histogram of response times in nanoseconds for extended operations.
+  @NotNull private final LatencyHistogram extendedResponseTimes;
+
+  // The histogram of response times in nanoseconds for modify operations.
+  @NotNull private final LatencyHistogram modifyResponseTimes;
+
+  // The histogram of response times in nanoseconds for modify DN operations.
+  @NotNull private final LatencyHistogram modifyDNResponseTimes;
+
+  // The histogram of response times in nanoseconds for search operations.
+  @NotNull private final LatencyHistogram searchResponseTimes;
+
+  // The statistics for the connection pool with which the associated
+  // connection is associated, if any.
+  @Nullable private transient volatile LDAPConnectionPoolStatistics
+       poolStatistics;
+
 
 
   /**
@@ -195,6 +244,9 @@ public final class LDAPConnectionStatistics
     numDisconnects              = new AtomicLong(0L);
     numExtendedRequests         = new AtomicLong(0L);
     numExtendedResponses        = new AtomicLong(0L);
+    numFlushes                  = new AtomicLong(0L);
+    numFlushedMessages          = new AtomicLong(0L);
+    maxMessagesPerFlush         = new AtomicLong(0L);
     numModifyRequests           = new AtomicLong(0L);
     numModifyResponses          = new AtomicLong(0L);
     numModifyDNRequests         = new AtomicLong(0L);
@@ -212,6 +264,15 @@ public final class LDAPConnectionStatistics
     totalModifyResponseTime     = new AtomicLong(0L);
     totalModifyDNResponseTime   = new AtomicLong(0L);
     totalSearchResponseTime     = new AtomicLong(0L);
+    addResponseTimes            = new LatencyHistogram();
+    bindResponseTimes           = new LatencyHistogram();
+    compareResponseTimes        = new LatencyHistogram();
+    deleteResponseTimes         = new LatencyHistogram();
+    extendedResponseTimes       = new LatencyHistogram();
+    modifyResponseTimes         = new LatencyHistogram();
+    modifyDNResponseTimes       = new LatencyHistogram();
+    searchResponseTimes         = new LatencyHistogram();
+    poolStatistics              = null;
   }
 
 
@@ -234,6 +295,9 @@ public final class LDAPConnectionStatistics
     numDisconnects.set(0L);
     numExtendedRequests.set(0L);
     numExtendedResponses.set(0L);
+    numFlushes.set(0L);
+    numFlushedMessages.set(0L);
+    maxMessagesPerFlush.set(0L);
     numModifyRequests.set(0L);
     numModifyResponses.set(0L);
     numModifyDNRequests.set(0L);
@@ -251,6 +315,14 @@ public final class LDAPConnectionStatistics
     totalModifyResponseTime.set(0L);
     totalModifyDNResponseTime.set(0L);
     totalSearchResponseTime.set(0L);
+    addResponseTimes.reset();
+    bindResponseTimes.reset();
+    compareResponseTimes.reset();
+    deleteResponseTimes.reset();
+    extendedResponseTimes.reset();
+    modifyResponseTimes.reset();
+    modifyDNResponseTimes.reset();
+    searchResponseTimes.reset();
   }
 
 
@@ -376,6 +448,8 @@ public final class LDAPConnectionStatistics
     if (responseTime > 0)
     {
       totalAddResponseTime.addAndGet(responseTime);
+      recordResponseTime(OperationType.ADD, addResponseTimes,
+           responseTime);
     }
   }
 
@@ -506,6 +580,8 @@ public final class LDAPConnectionStatistics
     if (responseTime > 0)
     {
       totalBindResponseTime.addAndGet(responseTime);
+      recordResponseTime(OperationType.BIND, bindResponseTimes,
+           responseTime);
     }
   }
 
@@ -639,6 +715,8 @@ public final class LDAPConnectionStatistics
     if (responseTime > 0)
     {
       totalCompareResponseTime.addAndGet(responseTime);
+      recordResponseTime(OperationType.COMPARE, compareResponseTimes,
+           responseTime);
     }
   }
 
@@ -772,6 +850,8 @@ public final class LDAPConnectionStatistics
     if (responseTime > 0)
     {
       totalDeleteResponseTime.addAndGet(responseTime);
+      recordResponseTime(OperationType.DELETE, deleteResponseTimes,
+           responseTime);
     }
   }
 
@@ -909,6 +989,8 @@ public final class LDAPConnectionStatistics
     if (responseTime > 0)
     {
       totalExtendedResponseTime.addAndGet(responseTime);
+      recordResponseTime(OperationType.EXTENDED, extendedResponseTimes,
+           responseTime);
     }
   }
 
@@ -1042,6 +1124,8 @@ public final class LDAPConnectionStatistics
     if (responseTime > 0)
     {
       totalModifyResponseTime.addAndGet(responseTime);
+      recordResponseTime(OperationType.MODIFY, modifyResponseTimes,
+           responseTime);
     }
   }
 
@@ -1180,6 +1264,8 @@ public final class LDAPConnectionStatistics
     if (responseTime > 0)
     {
       totalModifyDNResponseTime.addAndGet(responseTime);
+      recordResponseTime(OperationType.MODIFY_DN, modifyDNResponseTimes,
+           responseTime);
     }
   }
 
@@ -1353,6 +1439,8 @@ public final class LDAPConnectionStatistics
     if (responseTime > 0)
     {
       totalSearchResponseTime.addAndGet(responseTime);
+      recordResponseTime(OperationType.SEARCH, searchResponseTimes,
+           responseTime);
     }
   }
 
@@ -1461,6 +1549,187 @@ public final class LDAPConnectionStatistics
 
 
 
+  /**
+   * Retrieves the number of times the output stream for the associated
+   * connection has been flushed after writing one or more messages.
+   *
+   * @return  The number of times the output stream for the associated
+   *          connection has been flushed.
+   */
+  public long getNumFlushes()
+  {
+    return numFlushes.get();
+  }
+
+
+
+  /**
+   * Retrieves the total number of messages written to the associated
+   * connection across all flushes.
+   *
+   * @return  The total number of messages written to the associated connection
+   *          across all flushes.
+   */
+  public long getNumFlushedMessages()
+  {
+    return numFlushedMessages.get();
+  }
+
+
+
+  /**
+   * Retrieves the largest number of messages that have been written to the
+   * associated connection in a single flush.
+   *
+   * @return  The largest number of messages that have been written to the
+   *          associated connection in a single flush.
+   */
+  public long getMaxMessagesPerFlush()
+  {
+    return maxMessagesPerFlush.get();
+  }
+
+
+
+  /**
+   * Retrieves the average number of messages written to the associated
+   * connection per flush.  A value greater than one indicates that messages
+   * sent concurrently by multiple threads have been written together.
+   *
+   * @return  The average number of messages written to the associated
+   *          connection per flush, or {@code Double.NaN} if no messages have
+   *          yet been written.
+   */
+  public double getAverageMessagesPerFlush()
+  {
+    final long flushes  = numFlushes.get();
+    final long messages = numFlushedMessages.get();
+
+    if (flushes > 0L)
+    {
+      return (1.0d * messages / flushes);
+    }
+    else
+    {
+      return Double.NaN;
+    }
+  }
+
+
+
+  /**
+   * Increments the number of times the output stream for the associated
+   * connection has been flushed, and updates the per-flush message counts.
+   *
+   * @param  numMessages  The number of messages written in the flush.
+   */
+  void incrementNumFlushes(final int numMessages)
+  {
+    numFlushes.incrementAndGet();
+    numFlushedMessages.addAndGet(numMessages);
+
+    while (true)
+    {
+      final long currentMax = maxMessagesPerFlush.get();
+      if ((numMessages <= currentMax) ||
+           maxMessagesPerFlush.compareAndSet(currentMax, numMessages))
+      {
+        return;
+      }
+    }
+  }
+
+
+
+  /**
+   * Retrieves the histogram of response times in nanoseconds for operations
+   * of the specified type processed on the associated connection.  The
+   * histogram that is returned is live, and it will continue to be updated as
+   * additional operations are processed.  Use the
+   * {@link LatencyHistogram#getSnapshot} or
+   * {@link LatencyHistogram#getIntervalSnapshot} methods to obtain a
+   * point-in-time view of the response times.
+   *
+   * @param  operationType  The type of operation for which to retrieve the
+   *                        response time histogram.  It must not be
+   *                        {@code null}.
+   *
+   * @return  The histogram of response times for operations of the specified
+   *          type, or {@code null} if response times are not maintained for
+   *          operations of that type (as is the case for abandon and unbind
+   *          operations, which do not have responses).
+   */
+  @Nullable()
+  public LatencyHistogram getResponseTimeHistogram(
+              @NotNull final OperationType operationType)
+  {
+    switch (operationType)
+    {
+      case ADD:
+        return addResponseTimes;
+      case BIND:
+        return bindResponseTimes;
+      case COMPARE:
+        return compareResponseTimes;
+      case DELETE:
+        return deleteResponseTimes;
+      case EXTENDED:
+        return extendedResponseTimes;
+      case MODIFY:
+        return modifyResponseTimes;
+      case MODIFY_DN:
+        return modifyDNResponseTimes;
+      case SEARCH:
+        return searchResponseTimes;
+      default:
+        return null;
+    }
+  }
+
+
+
+  /**
+   * Records the provided response time in the given histogram, as well as in
+   * the statistics for the associated connection pool, if any.
+   *
+   * @param  operationType  The type of operation that was processed.
+   * @param  histogram      The histogram in which to record the response time.
+   * @param  responseTime   The response time in nanoseconds.
+   */
+  private void recordResponseTime(@NotNull final OperationType operationType,
+                                  @NotNull final LatencyHistogram histogram,
+                                  final long responseTime)
+  {
+    histogram.record(responseTime);
+
+    final LDAPConnectionPoolStatistics ps = poolStatistics;
+    if (ps != null)
+    {
+      ps.recordResponseTime(operationType, responseTime);
+    }
+  }
+
+
+
+  /**
+   * Specifies the statistics for the connection pool with which the associated
+   * connection is associated.  Response times recorded for the connection will
+   * also be recorded in the pool statistics so that they may be aggregated
+   * across all connections in the pool.
+   *
+   * @param  poolStatistics  The statistics for the connection pool with which
+   *                         the associated connection is associated.  It may
+   *                         be {@code null} if the connection is not part of a
+   *                         pool.
+   */
+  void setPoolStatistics(
+            @Nullable final LDAPConnectionPoolStatistics poolStatistics)
+  {
+    this.poolStatistics = poolStatistics;
+  }
+
+
+
   /**
    * Retrieves a string representation of this LDAP connection statistics
    * object.
@@ -1517,6 +1786,9 @@ public final class LDAPConnectionStatistics
     final long searchDone        = numSearchDoneResponses.get();
     final long searchTimes       = totalSearchResponseTime.get();
     final long unbindRequests    = numUnbindRequests.get();
+    final long flushes           = numFlushes.get();
+    final long flushedMessages   = numFlushedMessages.get();
+    final long maxPerFlush       = maxMessagesPerFlush.get();
 
     final DecimalFormat f = new DecimalFormat("0.000");
 
@@ -1631,6 +1903,18 @@ public final class LDAPConnectionStatistics
     buffer.append(", numUnbindRequests=");
     buffer.append(unbindRequests);
 
+    buffer.append(", numFlushes=");
+    buffer.append(flushes);
+    buffer.append(", numFlushedMessages=");
+    buffer.append(flushedMessages);
+    buffer.append(", maxMessagesPerFlush=");
+    buffer.append(maxPerFlush);
+    if (flushes > 0L)
+    {
+      buffer.append(", averageMessagesPerFlush=");
+      buffer.append(f.format(1.0d * flushedMessages / flushes));
+    }
+
     buffer.append(')');
   }
 }
@@ -0,0 +1,2340 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+
+import com.unboundid.ldap.sdk.schema.Schema;
+import com.unboundid.util.Debug;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ObjectPair;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class provides an implementation of an LDAP connection pool in which
+ * each connection may be shared by multiple threads at the same time.  The
+ * pool maintains a fixed number of connections, and each connection may be
+ * used to process up to a configurable number of concurrent operations.  When
+ * a connection is checked out of the pool, the connection with the fewest
+ * outstanding operations will be selected, and the connection will remain
+ * available to other threads until its limit is reached.  Because the LDAP
+ * protocol allows any number of operations to be in progress on a connection
+ * at the same time, this can dramatically reduce the number of connections
+ * that need to be established to the directory server without sacrificing
+ * throughput.
+ * <BR><BR>
+ * Each call to {@link #getConnection()} must be paired with a call to
+ * {@link #releaseConnection(LDAPConnection)} (or one of the methods used to
+ * release a defunct connection) once the operation has completed, just as
+ * with the {@link LDAPConnectionPool} class.  Because the connection may be
+ * shared with other threads, a connection obtained through the
+ * {@code getConnection} method must not be used to process any operation that
+ * alters its state.  Bind and StartTLS operations processed on such a
+ * connection will be rejected.  If it is necessary to process an operation
+ * like that, then the {@link #getExclusiveConnection()} method should be used
+ * instead.  That method will wait for all outstanding operations on the
+ * selected connection to complete, and it will prevent the connection from
+ * being used by any other thread until it is released.  The {@code bind}
+ * methods provided by this pool will automatically obtain exclusive access to
+ * the connection used to process the bind.  Note, however, that the new
+ * authentication state will be visible to all threads that subsequently use
+ * that connection, so the {@code bindAndRevertAuthentication} methods should
+ * generally be used instead.
+ * <BR><BR>
+ * Connections that are configured to operate in synchronous mode cannot be
+ * used to process multiple concurrent operations, and each such connection
+ * will only be used by one thread at a time.
+ * <BR><BR>
+ * The capabilities offered by this class are otherwise generally the same as
+ * those provided by the {@link LDAPConnectionPool} class, as is the manner in
+ * which applications should interact with it.  See the class-level
+ * documentation for the {@code LDAPConnectionPool} class for additional
+ * information and examples.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class LDAPMultiplexedConnectionPool
+       extends AbstractConnectionPool
+{
+  /**
+   * The default health check interval for this connection pool, which is set to
+   * 60000 milliseconds (60 seconds).
+   */
+  private static final long DEFAULT_HEALTH_CHECK_INTERVAL = 60_000L;
+
+
+
+  /**
+   * The default maximum length of time in milliseconds to wait for a connection
+   * to become available, which is set to 30000 milliseconds (30 seconds).
+   */
+  private static final long DEFAULT_MAX_WAIT_TIME_MILLIS = 30_000L;
+
+
+
+  // The types of operations that should be retried if they fail in a manner
+  // that may be the result of a connection that is no longer valid.
+  @NotNull private final AtomicReference<Set<OperationType>>
+       retryOperationTypes;
+
+  // Indicates whether this connection pool has been closed.
+  private volatile boolean closed;
+
+  // The bind request to use to perform authentication whenever a new connection
+  // is established.
+  @Nullable private volatile BindRequest bindRequest;
+
+  // The maximum number of operations that may be outstanding on a connection
+  // at any given time.
+  private final int maxOutstandingOperationsPerConnection;
+
+  // The health check implementation that should be used for this connection
+  // pool.
+  @NotNull private LDAPConnectionPoolHealthCheck healthCheck;
+
+  // The thread that will be used to perform periodic background health checks
+  // for this connection pool.
+  @NotNull private final LDAPConnectionPoolHealthCheckThread healthCheckThread;
+
+  // The statistics for this connection pool.
+  @NotNull private final LDAPConnectionPoolStatistics poolStatistics;
+
+  // The length of time in milliseconds between periodic health checks against
+  // the connections in this pool.
+  private volatile long healthCheckInterval;
+
+  // The time that the last expired connection was closed.
+  private volatile long lastExpiredDisconnectTime;
+
+  // The maximum length of time in milliseconds that a connection should be
+  // allowed to be established before terminating and re-establishing the
+  // connection.
+  private volatile long maxConnectionAge;
+
+  // The maximum length of time in milliseconds to wait for a connection to
+  // become available.
+  private volatile long maxWaitTime;
+
+  // The minimum length of time in milliseconds that must pass between
+  // disconnects of connections that have exceeded the maximum connection age.
+  private volatile long minDisconnectInterval;
+
+  // The schema that should be shared for connections in this pool, along with
+  // its expiration time.
+  @Nullable private volatile ObjectPair<Long,Schema> pooledSchema;
+
+  // The post-connect processor for this connection pool, if any.
+  @Nullable private final PostConnectProcessor postConnectProcessor;
+
+  // The set of connection slots maintained for this pool.  All access to the
+  // slots must be performed while holding the lock on this array.
+  @NotNull private final ConnectionSlot[] slots;
+
+  // The server set to use for establishing connections for use by this pool.
+  @NotNull private volatile ServerSet serverSet;
+
+  // The user-friendly name assigned to this connection pool.
+  @Nullable private String connectionPoolName;
+
+
+
+  /**
+   * Creates a new LDAP multiplexed connection pool with the specified number of
+   * connections, created as clones of the provided connection.
+   *
+   * @param  connection                  The connection to use to provide the
+   *                                     template for the other connections to
+   *                                     be created.  This connection will be
+   *                                     included in the pool.  It must not be
+   *                                     {@code null}, and it must be
+   *                                     established to the target server.  It
+   *                                     does not necessarily need to be
+   *                                     authenticated if all connections in
+   *                                     the pool are to be unauthenticated.
+   * @param  numConnections              The number of connections to maintain
+   *                                     in the pool.  It must be greater than
+   *                                     or equal to one.
+   * @param  maxOutstandingOperationsPerConnection
+   *                                     The maximum number of operations that
+   *                                     may be in progress on a single
+   *                                     connection at any time.  It must be
+   *                                     greater than or equal to one.
+   *
+   * @throws  LDAPException  If the provided connection cannot be used to
+   *                         initialize the pool, or if a problem occurs while
+   *                         creating the other connections.  If this is
+   *                         thrown, then all connections associated with the
+   *                         pool (including the one provided as an argument)
+   *                         will be closed.
+   */
+  public LDAPMultiplexedConnectionPool(
+              @NotNull final LDAPConnection connection,
+              final int numConnections,
+              final int maxOutstandingOperationsPerConnection)
+         throws LDAPException
+  {
+    Validator.ensureNotNull(connection);
+    Validator.ensureTrue(numConnections >= 1,
+         "LDAPMultiplexedConnectionPool.numConnections must be at least 1.");
+    Validator.ensureTrue(maxOutstandingOperationsPerConnection >= 1,
+         "LDAPMultiplexedConnectionPool." +
+              "maxOutstandingOperationsPerConnection must be at least 1.");
+
+    this.maxOutstandingOperationsPerConnection =
+         maxOutstandingOperationsPerConnection;
+
+    // NOTE:  The post-connect processor (if any) will be used in the server
+    // set that we create rather than in the connection pool itself.
+    postConnectProcessor = null;
+
+    healthCheck         = new LDAPConnectionPoolHealthCheck();
+    healthCheckInterval = DEFAULT_HEALTH_CHECK_INTERVAL;
+    poolStatistics      = new LDAPConnectionPoolStatistics(this);
+    connectionPoolName  = null;
+    retryOperationTypes = new AtomicReference<>(
+         Collections.unmodifiableSet(EnumSet.noneOf(OperationType.class)));
+
+    if (! connection.isConnected())
+    {
+      throw new LDAPException(ResultCode.PARAM_ERROR,
+                              ERR_POOL_CONN_NOT_ESTABLISHED.get());
+    }
+
+    bindRequest = connection.getLastBindRequest();
+    serverSet = new SingleServerSet(connection.getConnectedAddress(),
+                                    connection.getConnectedPort(),
+                                    connection.getLastUsedSocketFactory(),
+                                    connection.getConnectionOptions(), null,
+                                    null);
+
+    lastExpiredDisconnectTime = 0L;
+    maxConnectionAge          = 0L;
+    maxWaitTime               = DEFAULT_MAX_WAIT_TIME_MILLIS;
+    minDisconnectInterval     = 0L;
+    closed                    = false;
+
+    final LDAPConnectionOptions opts = connection.getConnectionOptions();
+    if (opts.usePooledSchema())
+    {
+      try
+      {
+        final Schema schema = connection.getSchema();
+        if (schema != null)
+        {
+          connection.setCachedSchema(schema);
+
+          final long currentTime = System.currentTimeMillis();
+          final long timeout = opts.getPooledSchemaTimeoutMillis();
+          if ((timeout <= 0L) || (timeout+currentTime <= 0L))
+          {
+            pooledSchema = new ObjectPair<>(Long.MAX_VALUE, schema);
+          }
+          else
+          {
+            pooledSchema = new ObjectPair<>(timeout+currentTime, schema);
+          }
+        }
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+    }
+
+    connection.setConnectionPool(this);
+    connection.setConnectionPoolName(connectionPoolName);
+
+    slots = new ConnectionSlot[numConnections];
+    slots[0] = new ConnectionSlot(connection);
+    try
+    {
+      for (int i=1; i < numConnections; i++)
+      {
+        slots[i] = new ConnectionSlot(createConnection());
+      }
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      closeInitialConnections(le);
+      throw le;
+    }
+
+    healthCheckThread = new LDAPConnectionPoolHealthCheckThread(this);
+    healthCheckThread.start();
+  }
+
+
+
+  /**
+   * Creates a new LDAP multiplexed connection pool with the specified number of
+   * connections, which will use the provided server set and bind request for
+   * creating those connections.
+   *
+   * @param  serverSet                   The server set to use to create the
+   *                                     connections.  It is acceptable for the
+   *                                     server set to create the connections
+   *                                     across multiple servers.
+   * @param  bindRequest                 The bind request to use to
+   *                                     authenticate the connections that are
+   *                                     established.  It may be {@code null}
+   *                                     if no authentication should be
+   *                                     performed on the connections.  Note
+   *                                     that if the server set is configured
+   *                                     to perform authentication, this bind
+   *                                     request should be the same bind
+   *                                     request used by the server set.
+   * @param  numConnections              The number of connections to maintain
+   *                                     in the pool.  It must be greater than
+   *                                     or equal to one.
+   * @param  maxOutstandingOperationsPerConnection
+   *                                     The maximum number of operations that
+   *                                     may be in progress on a single
+   *                                     connection at any time.  It must be
+   *                                     greater than or equal to one.
+   *
+   * @throws  LDAPException  If a problem occurs while creating the
+   *                         connections.  If this is thrown, then all
+   *                         connections associated with the pool will be
+   *                         closed.
+   */
+  public LDAPMultiplexedConnectionPool(@NotNull final ServerSet serverSet,
+              @Nullable final BindRequest bindRequest,
+              final int numConnections,
+              final int maxOutstandingOperationsPerConnection)
+         throws LDAPException
+  {
+    this(serverSet, bindRequest, numConnections,
+         maxOutstandingOperationsPerConnection, null);
+  }
+
+
+
+  /**
+   * Creates a new LDAP multiplexed connection pool with the specified number of
+   * connections, which will use the provided server set and bind request for
+   * creating those connections.
+   *
+   * @param  serverSet                   The server set to use to create the
+   *                                     connections.  It is acceptable for the
+   *                                     server set to create the connections
+   *                                     across multiple servers.
+   * @param  bindRequest                 The bind request to use to
+   *                                     authenticate the connections that are
+   *                                     established.  It may be {@code null}
+   *                                     if no authentication should be
+   *                                     performed on the connections.  Note
+   *                                     that if the server set is configured
+   *                                     to perform authentication, this bind
+   *                                     request should be the same bind
+   *                                     request used by the server set.
+   * @param  numConnections              The number of connections to maintain
+   *                                     in the pool.  It must be greater than
+   *                                     or equal to one.
+   * @param  maxOutstandingOperationsPerConnection
+   *                                     The maximum number of operations that
+   *                                     may be in progress on a single
+   *                                     connection at any time.  It must be
+   *                                     greater than or equal to one.
+   * @param  postConnectProcessor        A processor that should be used to
+   *                                     perform any post-connect processing
+   *                                     for connections in this pool.  It may
+   *                                     be {@code null} if no special
+   *                                     processing is needed.  Note that if
+   *                                     the server set is configured with a
+   *                                     non-{@code null} post-connect
+   *                                     processor, then the post-connect
+   *                                     processor provided to the pool must be
+   *                                     {@code null}.
+   *
+   * @throws  LDAPException  If a problem occurs while creating the
+   *                         connections.  If this is thrown, then all
+   *                         connections associated with the pool will be
+   *                         closed.
+   */
+  public LDAPMultiplexedConnectionPool(@NotNull final ServerSet serverSet,
+              @Nullable final BindRequest bindRequest,
+              final int numConnections,
+              final int maxOutstandingOperationsPerConnection,
+              @Nullable final PostConnectProcessor postConnectProcessor)
+         throws LDAPException
+  {
+    Validator.ensureNotNull(serverSet);
+    Validator.ensureTrue(numConnections >= 1,
+         "LDAPMultiplexedConnectionPool.numConnections must be at least 1.");
+    Validator.ensureTrue(maxOutstandingOperationsPerConnection >= 1,
+         "LDAPMultiplexedConnectionPool." +
+              "maxOutstandingOperationsPerConnection must be at least 1.");
+
+    this.serverSet            = serverSet;
+    this.bindRequest          = bindRequest;
+    this.postConnectProcessor = postConnectProcessor;
+    this.maxOutstandingOperationsPerConnection =
+         maxOutstandingOperationsPerConnection;
+
+    if (serverSet.includesAuthentication())
+    {
+      Validator.ensureTrue((bindRequest != null),
+           "LDAPMultiplexedConnectionPool.bindRequest must not be null if " +
+                "serverSet.includesAuthentication returns true");
+    }
+
+    if (serverSet.includesPostConnectProcessing())
+    {
+      Validator.ensureTrue((postConnectProcessor == null),
+           "LDAPMultiplexedConnectionPool.postConnectProcessor must be null " +
+                "if serverSet.includesPostConnectProcessing returns true.");
+    }
+
+    healthCheck         = new LDAPConnectionPoolHealthCheck();
+    healthCheckInterval = DEFAULT_HEALTH_CHECK_INTERVAL;
+    poolStatistics      = new LDAPConnectionPoolStatistics(this);
+    connectionPoolName  = null;
+    retryOperationTypes = new AtomicReference<>(
+         Collections.unmodifiableSet(EnumSet.noneOf(OperationType.class)));
+
+    lastExpiredDisconnectTime = 0L;
+    maxConnectionAge          = 0L;
+    maxWaitTime               = DEFAULT_MAX_WAIT_TIME_MILLIS;
+    minDisconnectInterval     = 0L;
+    closed                    = false;
+
+    slots = new ConnectionSlot[numConnections];
+    try
+    {
+      for (int i=0; i < numConnections; i++)
+      {
+        slots[i] = new ConnectionSlot(createConnection());
+      }
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      closeInitialConnections(le);
+      throw le;
+    }
+
+    healthCheckThread = new LDAPConnectionPoolHealthCheckThread(this);
+    healthCheckThread.start();
+  }
+
+
+
+  /**
+   * Closes any connections that were created while initializing this pool
+   * because a problem prevented the pool from being created.
+   *
+   * @param  cause  The exception that prevented the pool from being created.
+   */
+  private void closeInitialConnections(@NotNull final LDAPException cause)
+  {
+    closed = true;
+
+    for (final ConnectionSlot slot : slots)
+    {
+      if ((slot != null) && (slot.connection != null))
+      {
+        slot.connection.setDisconnectInfo(
+             DisconnectType.POOL_CREATION_FAILURE, null, cause);
+        slot.connection.terminate(null);
+        slot.connection = null;
+      }
+    }
+  }
+
+
+
+  /**
+   * Creates a new LDAP connection for use in this pool.
+   *
+   * @return  A new connection created for use in this pool.
+   *
+   * @throws  LDAPException  If a problem occurs while attempting to establish
+   *                         the connection.  If a connection had been created,
+   *                         it will be closed.
+   */
+  @SuppressWarnings("deprecation")
+  @NotNull()
+  private LDAPConnection createConnection()
+          throws LDAPException
+  {
+    final LDAPConnection c;
+    try
+    {
+      c = serverSet.getConnection(healthCheck);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      poolStatistics.incrementNumFailedConnectionAttempts();
+      Debug.debugConnectionPool(Level.SEVERE, this, null,
+           "Unable to create a new pooled connection", le);
+      throw le;
+    }
+    c.setConnectionPool(this);
+
+
+    // Auto-reconnect must be disabled for pooled connections, so turn it off
+    // if the associated connection options have it enabled for some reason.
+    LDAPConnectionOptions opts = c.getConnectionOptions();
+    if (opts.autoReconnect())
+    {
+      opts = opts.duplicate();
+      opts.setAutoReconnect(false);
+      c.setConnectionOptions(opts);
+    }
+
+
+    // Invoke pre-authentication post-connect processing.
+    if (postConnectProcessor != null)
+    {
+      try
+      {
+        postConnectProcessor.processPreAuthenticatedConnection(c);
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+
+        try
+        {
+          poolStatistics.incrementNumFailedConnectionAttempts();
+          Debug.debugConnectionPool(Level.SEVERE, this, c,
+               "Exception in pre-authentication post-connect processing", e);
+          c.setDisconnectInfo(DisconnectType.POOL_CREATION_FAILURE, null, e);
+          c.setClosed();
+        }
+        catch (final Exception e2)
+        {
+          Debug.debugException(e2);
+        }
+
+        if (e instanceof LDAPException)
+        {
+          throw ((LDAPException) e);
+        }
+        else
+        {
+          throw new LDAPException(ResultCode.CONNECT_ERROR,
+               ERR_POOL_POST_CONNECT_ERROR.get(
+                    StaticUtils.getExceptionMessage(e)),
+               e);
+        }
+      }
+    }
+
+
+    // Authenticate the connection if appropriate.
+    if ((bindRequest != null) && (! serverSet.includesAuthentication()))
+    {
+      BindResult bindResult;
+      try
+      {
+        bindResult = c.bind(bindRequest.duplicate());
+      }
+      catch (final LDAPBindException lbe)
+      {
+        Debug.debugException(lbe);
+        bindResult = lbe.getBindResult();
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        bindResult = new BindResult(le);
+      }
+
+      try
+      {
+        healthCheck.ensureConnectionValidAfterAuthentication(c, bindResult);
+        if (bindResult.getResultCode() != ResultCode.SUCCESS)
+        {
+          throw new LDAPBindException(bindResult);
+        }
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+
+        try
+        {
+          poolStatistics.incrementNumFailedConnectionAttempts();
+          if (bindResult.getResultCode() != ResultCode.SUCCESS)
+          {
+            Debug.debugConnectionPool(Level.SEVERE, this, c,
+                 "Failed to authenticate a new pooled connection", le);
+          }
+          else
+          {
+            Debug.debugConnectionPool(Level.SEVERE, this, c,
+                 "A new pooled connection failed its post-authentication " +
+                      "health check",
+                 le);
+          }
+          c.setDisconnectInfo(DisconnectType.BIND_FAILED, null, le);
+          c.setClosed();
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+        }
+
+        throw le;
+      }
+    }
+
+
+    // Invoke post-authentication post-connect processing.
+    if (postConnectProcessor != null)
+    {
+      try
+      {
+        postConnectProcessor.processPostAuthenticatedConnection(c);
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+        try
+        {
+          poolStatistics.incrementNumFailedConnectionAttempts();
+          Debug.debugConnectionPool(Level.SEVERE, this, c,
+               "Exception in post-authentication post-connect processing", e);
+          c.setDisconnectInfo(DisconnectType.POOL_CREATION_FAILURE, null, e);
+          c.setClosed();
+        }
+        catch (final Exception e2)
+        {
+          Debug.debugException(e2);
+        }
+
+        if (e instanceof LDAPException)
+        {
+          throw ((LDAPException) e);
+        }
+        else
+        {
+          throw new LDAPException(ResultCode.CONNECT_ERROR,
+               ERR_POOL_POST_CONNECT_ERROR.get(
+                    StaticUtils.getExceptionMessage(e)),
+               e);
+        }
+      }
+    }
+
+
+    // Get the pooled schema if appropriate.
+    if (opts.usePooledSchema())
+    {
+      final long currentTime = System.currentTimeMillis();
+      if ((pooledSchema == null) || (currentTime > pooledSchema.getFirst()))
+      {
+        try
+        {
+          final Schema schema = c.getSchema();
+          if (schema != null)
+          {
+            c.setCachedSchema(schema);
+
+            final long timeout = opts.getPooledSchemaTimeoutMillis();
+            if ((timeout <= 0L) || (currentTime + timeout <= 0L))
+            {
+              pooledSchema = new ObjectPair<>(Long.MAX_VALUE, schema);
+            }
+            else
+            {
+              pooledSchema = new ObjectPair<>((currentTime+timeout), schema);
+            }
+          }
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+
+          // There was a problem retrieving the schema from the server, but if
+          // we have an earlier copy then we can assume it's still valid.
+          if (pooledSchema != null)
+          {
+            c.setCachedSchema(pooledSchema.getSecond());
+          }
+        }
+      }
+      else
+      {
+        c.setCachedSchema(pooledSchema.getSecond());
+      }
+    }
+
+
+    // Finish setting up the connection.
+    c.setConnectionPoolName(connectionPoolName);
+    poolStatistics.incrementNumSuccessfulConnectionAttempts();
+    Debug.debugConnectionPool(Level.INFO, this, c,
+         "Successfully created a new pooled connection", null);
+
+    return c;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void close()
+  {
+    close(true, 1);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   * <BR><BR>
+   * Connections that are idle at the time this method is called will be closed
+   * immediately.  Connections on which operations are still in progress will
+   * be closed as soon as all of those operations have been released back to
+   * the pool.
+   */
+  @Override()
+  public void close(final boolean unbind, final int numThreads)
+  {
+    try
+    {
+      final boolean healthCheckThreadAlreadySignaled = closed;
+      closed = true;
+      healthCheckThread.stopRunning(! healthCheckThreadAlreadySignaled);
+
+      try
+      {
+        serverSet.shutDown();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+
+      final ArrayList<LDAPConnection> connList = new ArrayList<>(slots.length);
+      synchronized (slots)
+      {
+        for (final ConnectionSlot slot : slots)
+        {
+          if ((slot.connection != null) && (slot.outstanding == 0))
+          {
+            connList.add(slot.connection);
+            slot.connection = null;
+          }
+        }
+
+        slots.notifyAll();
+      }
+
+      if ((numThreads > 1) && (connList.size() > 1))
+      {
+        final ParallelPoolCloser closer =
+             new ParallelPoolCloser(connList, unbind, numThreads);
+        closer.closeConnections();
+      }
+      else
+      {
+        for (final LDAPConnection conn : connList)
+        {
+          closeConnection(conn, unbind);
+        }
+      }
+    }
+    finally
+    {
+      Debug.debugConnectionPool(Level.INFO, this, null,
+           "Closed the connection pool", null);
+    }
+  }
+
+
+
+  /**
+   * Closes the provided connection as part of closing this connection pool.
+   *
+   * @param  conn    The connection to be closed.
+   * @param  unbind  Indicates whether to send an unbind request to the server
+   *                 before closing the connection.
+   */
+  private void closeConnection(@NotNull final LDAPConnection conn,
+                               final boolean unbind)
+  {
+    poolStatistics.incrementNumConnectionsClosedUnneeded();
+    Debug.debugConnectionPool(Level.INFO, this, conn,
+         "Closed a connection as part of closing the connection pool", null);
+    conn.setDisconnectInfo(DisconnectType.POOL_CLOSED, null, null);
+    if (unbind)
+    {
+      conn.terminate(null);
+    }
+    else
+    {
+      conn.setClosed();
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public boolean isClosed()
+  {
+    return closed;
+  }
+
+
+
+  /**
+   * Processes a simple bind using a connection from this connection pool, and
+   * then reverts that authentication by re-binding as the same user used to
+   * authenticate new connections.  If new connections are unauthenticated, then
+   * the subsequent bind will be an anonymous simple bind.  Exclusive access to
+   * the connection will be held for both binds, so no other operations will be
+   * processed on that connection while it is authenticated as the specified
+   * user.
+   * <BR><BR>
+   * If the second bind attempt (the one used to restore the authentication
+   * identity) fails, the connection will be closed as defunct so that a new
+   * connection will be created to take its place.
+   *
+   * @param  bindDN    The bind DN for the simple bind request.
+   * @param  password  The password for the simple bind request.
+   * @param  controls  The optional set of controls for the simple bind request.
+   *
+   * @return  The result of processing the provided bind operation.
+   *
+   * @throws  LDAPException  If the server rejects the bind request, or if a
+   *                         problem occurs while sending the request or reading
+   *                         the response.
+   */
+  @NotNull()
+  public BindResult bindAndRevertAuthentication(@Nullable final String bindDN,
+                         @Nullable final String password,
+                         @Nullable final Control... controls)
+         throws LDAPException
+  {
+    return bindAndRevertAuthentication(
+         new SimpleBindRequest(bindDN, password, controls));
+  }
+
+
+
+  /**
+   * Processes the provided bind request using a connection from this connection
+   * pool, and then reverts that authentication by re-binding as the same user
+   * used to authenticate new connections.  If new connections are
+   * unauthenticated, then the subsequent bind will be an anonymous simple bind.
+   * Exclusive access to the connection will be held for both binds, so no other
+   * operations will be processed on that connection while it is authenticated
+   * as the specified user.
+   * <BR><BR>
+   * If the second bind attempt (the one used to restore the authentication
+   * identity) fails, the connection will be closed as defunct so that a new
+   * connection will be created to take its place.
+   *
+   * @param  bindRequest  The bind request to be processed.  It must not be
+   *                      {@code null}.
+   *
+   * @return  The result of processing the provided bind operation.
+   *
+   * @throws  LDAPException  If the server rejects the bind request, or if a
+   *                         problem occurs while sending the request or reading
+   *                         the response.
+   */
+  @NotNull()
+  public BindResult bindAndRevertAuthentication(
+                         @NotNull final BindRequest bindRequest)
+         throws LDAPException
+  {
+    LDAPConnection conn = getExclusiveConnection();
+
+    try
+    {
+      final BindResult result = conn.bind(bindRequest);
+      releaseAndReAuthenticateConnection(conn);
+      return result;
+    }
+    catch (final Throwable t)
+    {
+      Debug.debugException(t);
+
+      if (t instanceof LDAPException)
+      {
+        final LDAPException le = (LDAPException) t;
+
+        boolean shouldThrow;
+        try
+        {
+          healthCheck.ensureConnectionValidAfterException(conn, le);
+
+          // The above call will throw an exception if the connection doesn't
+          // seem to be valid, so if we've gotten here then we should assume
+          // that it is valid and we will pass the exception onto the client
+          // without retrying the operation.
+          releaseAndReAuthenticateConnection(conn);
+          shouldThrow = true;
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+
+          // This implies that the connection is not valid.  If the pool is
+          // configured to re-try bind operations on a newly-established
+          // connection, then that will be done later in this method.
+          // Otherwise, release the connection as defunct and pass the bind
+          // exception onto the client.
+          if (! getOperationTypesToRetryDueToInvalidConnections().contains(
+                     OperationType.BIND))
+          {
+            releaseDefunctConnection(conn);
+            shouldThrow = true;
+          }
+          else
+          {
+            shouldThrow = false;
+          }
+        }
+
+        if (shouldThrow)
+        {
+          throw le;
+        }
+      }
+      else
+      {
+        releaseDefunctConnection(conn);
+        StaticUtils.rethrowIfError(t);
+        throw new LDAPException(ResultCode.LOCAL_ERROR,
+             ERR_POOL_OP_EXCEPTION.get(StaticUtils.getExceptionMessage(t)), t);
+      }
+    }
+
+
+    // If we've gotten here, then the bind operation should be re-tried on a
+    // newly-established connection.
+    conn = replaceDefunctConnection(conn);
+
+    try
+    {
+      final BindResult result = conn.bind(bindRequest);
+      releaseAndReAuthenticateConnection(conn);
+      return result;
+    }
+    catch (final Throwable t)
+    {
+      Debug.debugException(t);
+
+      if (t instanceof LDAPException)
+      {
+        final LDAPException le = (LDAPException) t;
+
+        try
+        {
+          healthCheck.ensureConnectionValidAfterException(conn, le);
+          releaseAndReAuthenticateConnection(conn);
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+          releaseDefunctConnection(conn);
+        }
+
+        throw le;
+      }
+      else
+      {
+        releaseDefunctConnection(conn);
+        StaticUtils.rethrowIfError(t);
+        throw new LDAPException(ResultCode.LOCAL_ERROR,
+             ERR_POOL_OP_EXCEPTION.get(StaticUtils.getExceptionMessage(t)), t);
+      }
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   * <BR><BR>
+   * The connection that is returned may be in use by other threads at the same
+   * time, and it must not be used to process any operation that alters the
+   * state of the connection.  Use the {@link #getExclusiveConnection()} method
+   * to obtain a connection for that purpose.
+   */
+  @Override()
+  @NotNull()
+  public LDAPConnection getConnection()
+         throws LDAPException
+  {
+    final long checkoutStartTime = System.nanoTime();
+    final LDAPConnection conn = checkOutConnection(false, true);
+    poolStatistics.recordCheckoutWaitTime(
+         System.nanoTime() - checkoutStartTime);
+    return conn;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  LDAPConnection getConnectionWithoutWaiting()
+           throws LDAPException
+  {
+    final long checkoutStartTime = System.nanoTime();
+    final LDAPConnection conn = checkOutConnection(false, false);
+    poolStatistics.recordCheckoutWaitTime(
+         System.nanoTime() - checkoutStartTime);
+    return conn;
+  }
+
+
+
+  /**
+   * Retrieves a connection from this pool that will not be used by any other
+   * thread until it has been released back to the pool.  This method will wait
+   * for any operations already in progress on the selected connection to
+   * complete.  The connection that is returned may be used to process
+   * operations that alter the state of the connection, like bind and StartTLS.
+   * Note, however, that any change to the state of the connection will be
+   * visible to other threads once the connection has been released, so the
+   * connection should be returned to its original state before it is released
+   * (or it should be released as defunct so that it will be replaced).
+   *
+   * @return  A connection that may be used exclusively by the caller until it
+   *          is released back to the pool.
+   *
+   * @throws  LDAPException  If the pool has been closed, or if a connection
+   *                         could not be obtained within the maximum wait
+   *                         time.
+   */
+  @NotNull()
+  public LDAPConnection getExclusiveConnection()
+         throws LDAPException
+  {
+    final long checkoutStartTime = System.nanoTime();
+    final LDAPConnection conn = checkOutConnection(true, true);
+    poolStatistics.recordCheckoutWaitTime(
+         System.nanoTime() - checkoutStartTime);
+    return conn;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  LDAPConnection getConnectionForStateChangingOperation()
+           throws LDAPException
+  {
+    return getExclusiveConnection();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  void ensureStateChangingOperationAllowed(
+            @NotNull final LDAPConnection connection,
+            @NotNull final String operationName)
+       throws LDAPException
+  {
+    synchronized (slots)
+    {
+      final ConnectionSlot slot = getSlot(connection);
+      if ((slot != null) && (! slot.exclusive))
+      {
+        throw new LDAPException(ResultCode.NOT_SUPPORTED,
+             ERR_MULTIPLEXED_POOL_EXCLUSIVE_ACCESS_REQUIRED.get(
+                  operationName));
+      }
+    }
+  }
+
+
+
+  /**
+   * Checks out a connection from this pool.
+   *
+   * @param  exclusive        Indicates whether the caller requires exclusive
+   *                          access to the connection.
+   * @param  waitIfNecessary  Indicates whether to wait for up to the maximum
+   *                          wait time for a connection to become available
+   *                          if none is immediately available.
+   *
+   * @return  The connection that was checked out.
+   *
+   * @throws  LDAPException  If a connection could not be checked out.
+   */
+  @NotNull()
+  private LDAPConnection checkOutConnection(final boolean exclusive,
+                                            final boolean waitIfNecessary)
+          throws LDAPException
+  {
+    final long startTime = System.currentTimeMillis();
+    final long waitTime = (waitIfNecessary ? maxWaitTime : 0L);
+    boolean waited = false;
+    boolean retried = false;
+    while (true)
+    {
+      ConnectionSlot slot = null;
+      LDAPConnection conn;
+      try
+      {
+        synchronized (slots)
+        {
+          while (true)
+          {
+            ensureNotClosed();
+
+            if (slot == null)
+            {
+              slot = selectSlot(exclusive);
+              if ((slot != null) && exclusive)
+              {
+                slot.exclusivePending = true;
+              }
+            }
+
+            if ((slot != null) &&
+                 ((! exclusive) || ((slot.outstanding == 0) &&
+                      (! slot.creating))))
+            {
+              break;
+            }
+
+            final long remainingWaitTime =
+                 startTime + waitTime - System.currentTimeMillis();
+            if (remainingWaitTime <= 0L)
+            {
+              if (slot != null)
+              {
+                slot.exclusivePending = false;
+                slots.notifyAll();
+              }
+
+              poolStatistics.incrementNumFailedCheckouts();
+              Debug.debugConnectionPool(Level.SEVERE, this, null,
+                   "Unable to check out a connection because none are " +
+                        "available",
+                   null);
+              throw new LDAPException(ResultCode.CONNECT_ERROR,
+                                      ERR_POOL_NO_CONNECTIONS.get());
+            }
+
+            waited = true;
+            slots.wait(remainingWaitTime);
+          }
+
+          if (exclusive)
+          {
+            slot.exclusivePending = false;
+            slot.exclusive = true;
+          }
+
+          slot.outstanding++;
+          conn = slot.connection;
+          if (conn == null)
+          {
+            slot.creating = true;
+          }
+        }
+      }
+      catch (final InterruptedException ie)
+      {
+        Debug.debugException(ie);
+
+        if (slot != null)
+        {
+          synchronized (slots)
+          {
+            slot.exclusivePending = false;
+            slots.notifyAll();
+          }
+        }
+
+        Thread.currentThread().interrupt();
+        poolStatistics.incrementNumFailedCheckouts();
+        throw new LDAPException(ResultCode.LOCAL_ERROR,
+             ERR_POOL_CHECKOUT_INTERRUPTED.get(), ie);
+      }
+
+      final boolean created = (conn == null);
+      if (created)
+      {
+        try
+        {
+          conn = createConnection();
+        }
+        catch (final LDAPException le)
+        {
+          Debug.debugException(le);
+          installConnection(slot, null, 0, false);
+          poolStatistics.incrementNumFailedCheckouts();
+          Debug.debugConnectionPool(Level.SEVERE, this, null,
+               "Unable to check out a connection because an error occurred " +
+                    "while establishing the connection",
+               le);
+          throw le;
+        }
+
+        installConnection(slot, conn, 1, exclusive);
+      }
+
+      try
+      {
+        healthCheck.ensureConnectionValidForCheckout(conn);
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        poolStatistics.incrementNumConnectionsClosedDefunct();
+        Debug.debugConnectionPool(Level.WARNING, this, conn,
+             "A connection selected for checkout failed the checkout " +
+                  "health check",
+             le);
+        handleDefunctConnection(conn);
+
+        if (created || retried)
+        {
+          poolStatistics.incrementNumFailedCheckouts();
+          throw le;
+        }
+
+        retried = true;
+        continue;
+      }
+
+      if (created)
+      {
+        poolStatistics.incrementNumSuccessfulCheckoutsNewConnection();
+        Debug.debugConnectionPool(Level.INFO, this, conn,
+             "Checked out a newly created pooled connection", null);
+      }
+      else if (waited)
+      {
+        poolStatistics.incrementNumSuccessfulCheckoutsAfterWaiting();
+        Debug.debugConnectionPool(Level.INFO, this, conn,
+             "Checked out an existing connection after waiting for it to " +
+                  "become available",
+             null);
+      }
+      else
+      {
+        poolStatistics.incrementNumSuccessfulCheckoutsWithoutWaiting();
+        Debug.debugConnectionPool(Level.INFO, this, conn,
+             "Checked out an existing pooled connection", null);
+      }
+
+      return conn;
+    }
+  }
+
+
+
+  /**
+   * Ensures that this connection pool has not been closed.
+   *
+   * @throws  LDAPException  If this connection pool has been closed.
+   */
+  private void ensureNotClosed()
+          throws LDAPException
+  {
+    if (closed)
+    {
+      poolStatistics.incrementNumFailedCheckouts();
+      Debug.debugConnectionPool(Level.SEVERE, this, null,
+           "Failed to get a connection to a closed connection pool", null);
+      throw new LDAPException(ResultCode.CONNECT_ERROR, ERR_POOL_CLOSED.get());
+    }
+  }
+
+
+
+  /**
+   * Selects the slot that should be used for a new checkout.  The caller must
+   * hold the lock on the slot array.
+   *
+   * @param  exclusive  Indicates whether the caller requires exclusive access
+   *                    to the connection.
+   *
+   * @return  The selected slot, or {@code null} if no slot is currently
+   *          available.
+   */
+  @Nullable()
+  private ConnectionSlot selectSlot(final boolean exclusive)
+  {
+    ConnectionSlot selectedSlot = null;
+    ConnectionSlot emptySlot = null;
+    for (final ConnectionSlot slot : slots)
+    {
+      if (slot.exclusive || slot.exclusivePending || slot.creating)
+      {
+        continue;
+      }
+
+      if (slot.connection == null)
+      {
+        if (emptySlot == null)
+        {
+          emptySlot = slot;
+        }
+        continue;
+      }
+
+      if ((! exclusive) && (slot.outstanding >= getMaxOutstanding(slot)))
+      {
+        continue;
+      }
+
+      if ((selectedSlot == null) ||
+           (slot.outstanding < selectedSlot.outstanding))
+      {
+        selectedSlot = slot;
+      }
+    }
+
+    // Only establish a new connection if none of the existing connections can
+    // be used without waiting.
+    if ((selectedSlot == null) ||
+         (exclusive && (selectedSlot.outstanding > 0) && (emptySlot != null)))
+    {
+      return emptySlot;
+    }
+
+    return selectedSlot;
+  }
+
+
+
+  /**
+   * Retrieves the maximum number of operations that may be outstanding on the
+   * connection in the provided slot.  The caller must hold the lock on the slot
+   * array.
+   *
+   * @param  slot  The slot for which to make the determination.
+   *
+   * @return  The maximum number of operations that may be outstanding on the
+   *          connection in the provided slot.
+   */
+  private int getMaxOutstanding(@NotNull final ConnectionSlot slot)
+  {
+    if ((slot.connection != null) && slot.connection.synchronousMode())
+    {
+      return 1;
+    }
+
+    return maxOutstandingOperationsPerConnection;
+  }
+
+
+
+  /**
+   * Retrieves the slot that holds the provided connection.  The caller must
+   * hold the lock on the slot array.
+   *
+   * @param  connection  The connection for which to retrieve the slot.
+   *
+   * @return  The slot that holds the provided connection, or {@code null} if
+   *          the connection is not currently part of this pool.
+   */
+  @Nullable()
+  private ConnectionSlot getSlot(@NotNull final LDAPConnection connection)
+  {
+    for (final ConnectionSlot slot : slots)
+    {
+      // A slot may be null while the pool is still being initialized.
+      if ((slot != null) && (slot.connection == connection))
+      {
+        return slot;
+      }
+    }
+
+    return null;
+  }
+
+
+
+  /**
+   * Installs the provided connection in a slot for which a connection was being
+   * created.  If this pool has been closed, then the connection will be closed
+   * rather than installed unless there are outstanding checkouts for it.
+   *
+   * @param  slot         The slot in which to install the connection.
+   * @param  connection   The connection to install.  It may be {@code null} if
+   *                      the attempt to create the connection failed.
+   * @param  outstanding  The number of outstanding checkouts for the slot.
+   * @param  exclusive    Indicates whether the slot is held exclusively.
+   */
+  private void installConnection(@NotNull final ConnectionSlot slot,
+                                 @Nullable final LDAPConnection connection,
+                                 final int outstanding,
+                                 final boolean exclusive)
+  {
+    boolean closeConnection = false;
+    synchronized (slots)
+    {
+      slot.creating = false;
+      if (connection == null)
+      {
+        slot.connection = null;
+        slot.outstanding = 0;
+        slot.exclusive = false;
+      }
+      else if (closed && (outstanding == 0))
+      {
+        slot.connection = null;
+        slot.outstanding = 0;
+        slot.exclusive = false;
+        closeConnection = true;
+      }
+      else
+      {
+        slot.connection = connection;
+        slot.outstanding = outstanding;
+        slot.exclusive = exclusive;
+      }
+
+      slots.notifyAll();
+    }
+
+    if (closeConnection)
+    {
+      closeConnection(connection, true);
+    }
+  }
+
+
+
+  /**
+   * Releases one checkout of the provided connection.  If the pool has been
+   * closed and there are no remaining checkouts of the connection, then it will
+   * be closed.
+   *
+   * @param  connection  The connection to release.
+   *
+   * @return  {@code true} if the checkout was released, or {@code false} if the
+   *          connection is no longer part of this pool.
+   */
+  private boolean releaseCheckout(@NotNull final LDAPConnection connection)
+  {
+    boolean closeConnection = false;
+    synchronized (slots)
+    {
+      final ConnectionSlot slot = getSlot(connection);
+      if ((slot == null) || (slot.outstanding <= 0))
+      {
+        return false;
+      }
+
+      slot.outstanding--;
+      if (slot.outstanding == 0)
+      {
+        slot.exclusive = false;
+        if (closed)
+        {
+          slot.connection = null;
+          closeConnection = true;
+        }
+      }
+
+      slots.notifyAll();
+    }
+
+    if (closeConnection)
+    {
+      closeConnection(connection, true);
+    }
+
+    return true;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void releaseConnection(@NotNull final LDAPConnection connection)
+  {
+    if (connection == null)
+    {
+      return;
+    }
+
+    connection.setConnectionPoolName(connectionPoolName);
+
+    try
+    {
+      healthCheck.ensureConnectionValidForRelease(connection);
+    }
+    catch (final LDAPException le)
+    {
+      releaseDefunctConnection(connection);
+      return;
+    }
+
+    if (releaseCheckout(connection))
+    {
+      poolStatistics.incrementNumReleasedValid();
+      Debug.debugConnectionPool(Level.INFO, this, connection,
+           "Released a connection back to the pool", null);
+    }
+    else
+    {
+      Debug.debugConnectionPool(Level.WARNING, this, connection,
+           "Ignoring an attempt to release a connection that is no longer " +
+                "part of the pool",
+           null);
+    }
+  }
+
+
+
+  /**
+   * Performs a bind on the provided connection before releasing it back to the
+   * pool, so that it will be authenticated as the same user as
+   * newly-established connections.  If newly-established connections are
+   * unauthenticated, then this method will perform an anonymous simple bind to
+   * ensure that the resulting connection is unauthenticated.  The provided
+   * connection must be held exclusively by the caller.
+   *
+   * @param  connection  The connection to be released back to the pool after
+   *                     being re-authenticated.
+   */
+  private void releaseAndReAuthenticateConnection(
+                    @NotNull final LDAPConnection connection)
+  {
+    try
+    {
+      BindResult bindResult;
+      try
+      {
+        if (bindRequest == null)
+        {
+          bindResult = connection.bind("", "");
+        }
+        else
+        {
+          bindResult = connection.bind(bindRequest.duplicate());
+        }
+      }
+      catch (final LDAPBindException lbe)
+      {
+        Debug.debugException(lbe);
+        bindResult = lbe.getBindResult();
+      }
+
+      healthCheck.ensureConnectionValidAfterAuthentication(connection,
+           bindResult);
+      if (bindResult.getResultCode() != ResultCode.SUCCESS)
+      {
+        throw new LDAPBindException(bindResult);
+      }
+
+      releaseConnection(connection);
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      connection.setDisconnectInfo(DisconnectType.BIND_FAILED, null, e);
+      releaseDefunctConnection(connection);
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   * <BR><BR>
+   * The connection will be closed immediately, and any other operations in
+   * progress on it will fail.
+   */
+  @Override()
+  public void releaseDefunctConnection(@NotNull final LDAPConnection connection)
+  {
+    if (connection == null)
+    {
+      return;
+    }
+
+    connection.setConnectionPoolName(connectionPoolName);
+    poolStatistics.incrementNumConnectionsClosedDefunct();
+    Debug.debugConnectionPool(Level.WARNING, this, connection,
+         "Releasing a defunct connection", null);
+    handleDefunctConnection(connection);
+  }
+
+
+
+  /**
+   * Performs the real work of terminating a defunct connection and replacing it
+   * with a new connection if possible.
+   *
+   * @param  connection  The defunct connection to be replaced.
+   */
+  private void handleDefunctConnection(@NotNull final LDAPConnection connection)
+  {
+    connection.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_DEFUNCT, null,
+                                 null);
+    connection.setClosed();
+
+    final ConnectionSlot slot;
+    synchronized (slots)
+    {
+      slot = getSlot(connection);
+      if (slot == null)
+      {
+        return;
+      }
+
+      slot.connection = null;
+      slot.outstanding = 0;
+      slot.exclusive = false;
+      slots.notifyAll();
+
+      if (closed)
+      {
+        return;
+      }
+
+      slot.creating = true;
+    }
+
+    LDAPConnection newConnection = null;
+    try
+    {
+      newConnection = createConnection();
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+    }
+
+    installConnection(slot, newConnection, 0, false);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public LDAPConnection replaceDefunctConnection(
+                             @NotNull final LDAPConnection connection)
+         throws LDAPException
+  {
+    poolStatistics.incrementNumConnectionsClosedDefunct();
+    Debug.debugConnectionPool(Level.WARNING, this, connection,
+         "Releasing a defunct connection that is to be replaced", null);
+    connection.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_DEFUNCT, null,
+                                 null);
+    connection.setClosed();
+
+    final ConnectionSlot slot;
+    final boolean exclusive;
+    synchronized (slots)
+    {
+      slot = getSlot(connection);
+      if (slot != null)
+      {
+        exclusive = slot.exclusive;
+        slot.connection = null;
+        slot.outstanding = 0;
+        slot.exclusive = false;
+        slots.notifyAll();
+      }
+      else
+      {
+        exclusive = false;
+      }
+
+      if (closed)
+      {
+        throw new LDAPException(ResultCode.CONNECT_ERROR,
+                                ERR_POOL_CLOSED.get());
+      }
+
+      if (slot != null)
+      {
+        slot.creating = true;
+      }
+    }
+
+    // If the connection was no longer part of the pool (for example, because
+    // another thread already replaced it), then just check out a new one.
+    if (slot == null)
+    {
+      return checkOutConnection(false, true);
+    }
+
+    final LDAPConnection newConnection;
+    try
+    {
+      newConnection = createConnection();
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      installConnection(slot, null, 0, false);
+      throw le;
+    }
+
+    installConnection(slot, newConnection, 1, exclusive);
+    return newConnection;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public Set<OperationType> getOperationTypesToRetryDueToInvalidConnections()
+  {
+    return retryOperationTypes.get();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void setRetryFailedOperationsDueToInvalidConnections(
+                   @Nullable final Set<OperationType> operationTypes)
+  {
+    if ((operationTypes == null) || operationTypes.isEmpty())
+    {
+      retryOperationTypes.set(
+           Collections.unmodifiableSet(EnumSet.noneOf(OperationType.class)));
+    }
+    else
+    {
+      final EnumSet<OperationType> s = EnumSet.noneOf(OperationType.class);
+      s.addAll(operationTypes);
+      retryOperationTypes.set(Collections.unmodifiableSet(s));
+    }
+  }
+
+
+
+  /**
+   * Indicates whether the provided connection should be considered expired.
+   *
+   * @param  connection  The connection for which to make the determination.
+   *
+   * @return  {@code true} if the provided connection should be considered
+   *          expired, or {@code false} if not.
+   */
+  private boolean connectionIsExpired(@NotNull final LDAPConnection connection)
+  {
+    // If connection expiration is not enabled, then there is nothing to do.
+    if (maxConnectionAge <= 0L)
+    {
+      return false;
+    }
+
+    // If there is a minimum disconnect interval, then make sure that we have
+    // not closed another expired connection too recently.
+    final long currentTime = System.currentTimeMillis();
+    if ((currentTime - lastExpiredDisconnectTime) < minDisconnectInterval)
+    {
+      return false;
+    }
+
+    // Get the age of the connection and see if it is expired.
+    final long connectionAge = currentTime - connection.getConnectTime();
+    return (connectionAge > maxConnectionAge);
+  }
+
+
+
+  /**
+   * Specifies the bind request that will be used to authenticate subsequent new
+   * connections that are established by this connection pool.  The
+   * authentication state for existing connections will not be altered unless
+   * one of the {@code bindAndRevertAuthentication} methods is invoked on those
+   * connections.
+   *
+   * @param  bindRequest  The bind request that will be used to authenticate new
+   *                      connections that are established by this pool, or
+   *                      that will be applied to existing connections via the
+   *                      {@code bindAndRevertAuthentication} method.  It may be
+   *                      {@code null} if new connections should be
+   *                      unauthenticated.
+   */
+  public void setBindRequest(@Nullable final BindRequest bindRequest)
+  {
+    this.bindRequest = bindRequest;
+  }
+
+
+
+  /**
+   * Retrieves the server set that should be used to establish new connections
+   * for use in this connection pool.
+   *
+   * @return  The server set that should be used to establish new connections
+   *          for use in this connection pool.
+   */
+  @NotNull()
+  public ServerSet getServerSet()
+  {
+    return serverSet;
+  }
+
+
+
+  /**
+   * Specifies the server set that should be used to establish new connections
+   * for use in this connection pool.  Existing connections will not be
+   * affected.
+   *
+   * @param  serverSet  The server set that should be used to establish new
+   *                    connections for use in this connection pool.  It must
+   *                    not be {@code null}.
+   */
+  public void setServerSet(@NotNull final ServerSet serverSet)
+  {
+    Validator.ensureNotNull(serverSet);
+    this.serverSet = serverSet;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  public String getConnectionPoolName()
+  {
+    return connectionPoolName;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void setConnectionPoolName(@Nullable final String connectionPoolName)
+  {
+    this.connectionPoolName = connectionPoolName;
+  }
+
+
+
+  /**
+   * Retrieves the maximum number of operations that may be in progress on a
+   * single connection in this pool at any given time.
+   *
+   * @return  The maximum number of operations that may be in progress on a
+   *          single connection in this pool at any given time.
+   */
+  public int getMaxOutstandingOperationsPerConnection()
+  {
+    return maxOutstandingOperationsPerConnection;
+  }
+
+
+
+  /**
+   * Retrieves the total number of connections that are currently checked out
+   * of this pool.  A connection that is in use by multiple threads will be
+   * counted once for each thread.
+   *
+   * @return  The total number of connections that are currently checked out of
+   *          this pool.
+   */
+  public int getNumOutstandingOperations()
+  {
+    int numOutstanding = 0;
+    synchronized (slots)
+    {
+      for (final ConnectionSlot slot : slots)
+      {
+        numOutstanding += slot.outstanding;
+      }
+    }
+
+    return numOutstanding;
+  }
+
+
+
+  /**
+   * Retrieves the maximum length of time in milliseconds to wait for a
+   * connection to become available when trying to obtain a connection from the
+   * pool.  When obtaining exclusive access to a connection, this also includes
+   * the time spent waiting for operations already in progress on that
+   * connection to complete.
+   *
+   * @return  The maximum length of time in milliseconds to wait for a
+   *          connection to become available when trying to obtain a connection
+   *          from the pool, or zero to indicate that the pool should not block
+   *          at all.
+   */
+  public long getMaxWaitTimeMillis()
+  {
+    return maxWaitTime;
+  }
+
+
+
+  /**
+   * Specifies the maximum length of time in milliseconds to wait for a
+   * connection to become available when trying to obtain a connection from the
+   * pool.  When obtaining exclusive access to a connection, this also includes
+   * the time spent waiting for operations already in progress on that
+   * connection to complete.
+   *
+   * @param  maxWaitTime  The maximum length of time in milliseconds to wait for
+   *                      a connection to become available when trying to obtain
+   *                      a connection from the pool.  A value of zero should be
+   *                      used to indicate that the pool should not block at
+   *                      all.
+   */
+  public void setMaxWaitTimeMillis(final long maxWaitTime)
+  {
+    if (maxWaitTime > 0L)
+    {
+      this.maxWaitTime = maxWaitTime;
+    }
+    else
+    {
+      this.maxWaitTime = 0L;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the maximum length of time in milliseconds that a connection in
+   * this pool may be established before it is closed and replaced with another
+   * connection.
+   *
+   * @return  The maximum length of time in milliseconds that a connection in
+   *          this pool may be established before it is closed and replaced with
+   *          another connection, or {@code 0L} if no maximum age should be
+   *          enforced.
+   */
+  public long getMaxConnectionAgeMillis()
+  {
+    return maxConnectionAge;
+  }
+
+
+
+  /**
+   * Specifies the maximum length of time in milliseconds that a connection in
+   * this pool may be established before it should be closed and replaced with
+   * another connection.  Expired connections will only be replaced by the
+   * background health check, and only while they are not in use.
+   *
+   * @param  maxConnectionAge  The maximum length of time in milliseconds that a
+   *                           connection in this pool may be established before
+   *                           it should be closed and replaced with another
+   *                           connection.  A value of zero indicates that no
+   *                           maximum age should be enforced.
+   */
+  public void setMaxConnectionAgeMillis(final long maxConnectionAge)
+  {
+    if (maxConnectionAge > 0L)
+    {
+      this.maxConnectionAge = maxConnectionAge;
+    }
+    else
+    {
+      this.maxConnectionAge = 0L;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the minimum length of time in milliseconds that should pass
+   * between connections closed because they have been established for longer
+   * than the maximum connection age.
+   *
+   * @return  The minimum length of time in milliseconds that should pass
+   *          between connections closed because they have been established for
+   *          longer than the maximum connection age, or {@code 0L} if expired
+   *          connections may be closed as quickly as they are identified.
+   */
+  public long getMinDisconnectIntervalMillis()
+  {
+    return minDisconnectInterval;
+  }
+
+
+
+  /**
+   * Specifies the minimum length of time in milliseconds that should pass
+   * between connections closed because they have been established for longer
+   * than the maximum connection age.
+   *
+   * @param  minDisconnectInterval  The minimum length of time in milliseconds
+   *                                that should pass between connections closed
+   *                                because they have been established for
+   *                                longer than the maximum connection age.  A
+   *                                value less than or equal to zero indicates
+   *                                that no minimum time should be enforced.
+   */
+  public void setMinDisconnectIntervalMillis(final long minDisconnectInterval)
+  {
+    if (minDisconnectInterval > 0)
+    {
+      this.minDisconnectInterval = minDisconnectInterval;
+    }
+    else
+    {
+      this.minDisconnectInterval = 0L;
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public LDAPConnectionPoolHealthCheck getHealthCheck()
+  {
+    return healthCheck;
+  }
+
+
+
+  /**
+   * Sets the health check implementation for this connection pool.
+   *
+   * @param  healthCheck  The health check implementation for this connection
+   *                      pool.  It must not be {@code null}.
+   */
+  public void setHealthCheck(
+                   @NotNull final LDAPConnectionPoolHealthCheck healthCheck)
+  {
+    Validator.ensureNotNull(healthCheck);
+    this.healthCheck = healthCheck;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public long getHealthCheckIntervalMillis()
+  {
+    return healthCheckInterval;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void setHealthCheckIntervalMillis(final long healthCheckInterval)
+  {
+    Validator.ensureTrue(healthCheckInterval > 0L,
+         "LDAPConnectionPool.healthCheckInterval must be greater than 0.");
+    this.healthCheckInterval = healthCheckInterval;
+    healthCheckThread.wakeUp();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   * <BR><BR>
+   * Only connections that are not currently in use will be examined.  Any
+   * slot whose connection could not previously be re-established will be
+   * re-populated, and any connection that has exceeded the maximum connection
+   * age will be replaced.
+   */
+  @Override()
+  protected void doHealthCheck()
+  {
+    for (final ConnectionSlot slot : slots)
+    {
+      LDAPConnection conn;
+      synchronized (slots)
+      {
+        if (closed)
+        {
+          return;
+        }
+
+        if (slot.exclusive || slot.exclusivePending || slot.creating ||
+             (slot.outstanding > 0))
+        {
+          continue;
+        }
+
+        conn = slot.connection;
+        if (conn == null)
+        {
+          slot.creating = true;
+        }
+        else
+        {
+          slot.exclusive = true;
+          slot.outstanding = 1;
+        }
+      }
+
+      if (conn == null)
+      {
+        LDAPConnection newConnection = null;
+        try
+        {
+          newConnection = createConnection();
+        }
+        catch (final LDAPException le)
+        {
+          Debug.debugException(le);
+        }
+
+        installConnection(slot, newConnection, 0, false);
+        continue;
+      }
+
+      if (connectionIsExpired(conn))
+      {
+        try
+        {
+          final LDAPConnection newConnection = createConnection();
+          installConnection(slot, newConnection, 1, true);
+
+          conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_EXPIRED,
+               null, null);
+          conn.terminate(null);
+          poolStatistics.incrementNumConnectionsClosedExpired();
+          Debug.debugConnectionPool(Level.WARNING, this, conn,
+               "Closing a connection that has exceeded the maximum " +
+                    "connection age",
+               null);
+          lastExpiredDisconnectTime = System.currentTimeMillis();
+          conn = newConnection;
+        }
+        catch (final LDAPException le)
+        {
+          Debug.debugException(le);
+        }
+      }
+
+      try
+      {
+        healthCheck.ensureConnectionValidForContinuedUse(conn);
+        releaseCheckout(conn);
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+        poolStatistics.incrementNumConnectionsClosedDefunct();
+        Debug.debugConnectionPool(Level.WARNING, this, conn,
+             "Connection failed a background health check", e);
+        handleDefunctConnection(conn);
+      }
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   * <BR><BR>
+   * For this connection pool, this will be the number of connections that can
+   * currently accept at least one additional operation.
+   */
+  @Override()
+  public int getCurrentAvailableConnections()
+  {
+    int numAvailable = 0;
+    synchronized (slots)
+    {
+      for (final ConnectionSlot slot : slots)
+      {
+        if ((slot.connection != null) && (! slot.exclusive) &&
+             (! slot.exclusivePending) &&
+             (slot.outstanding < getMaxOutstanding(slot)))
+        {
+          numAvailable++;
+        }
+      }
+    }
+
+    return numAvailable;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public int getMaximumAvailableConnections()
+  {
+    return slots.length;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public LDAPConnectionPoolStatistics getConnectionPoolStatistics()
+  {
+    return poolStatistics;
+  }
+
+
+
+  /**
+   * Closes this connection pool in the event that it becomes unreferenced.
+   *
+   * @throws  Throwable  If an unexpected problem occurs.
+   */
+  @Override()
+  protected void finalize()
+            throws Throwable
+  {
+    super.finalize();
+
+    close();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("LDAPMultiplexedConnectionPool(");
+
+    final String name = connectionPoolName;
+    if (name != null)
+    {
+      buffer.append("name='");
+      buffer.append(name);
+      buffer.append("', ");
+    }
+
+    buffer.append("serverSet=");
+    serverSet.toString(buffer);
+    buffer.append(", numConnections=");
+    buffer.append(slots.length);
+    buffer.append(", maxOutstandingOperationsPerConnection=");
+    buffer.append(maxOutstandingOperationsPerConnection);
+    buffer.append(')');
+  }
+
+
+
+  /**
+   * This class holds a connection maintained by this pool, along with the
+   * information needed to determine whether it may be checked out.  All access
+   * to these fields must be performed while holding the lock on the slot array.
+   */
+  private static final class ConnectionSlot
+  {
+    // Indicates whether a connection is currently being created for this slot.
+    private boolean creating;
+
+    // Indicates whether the connection is held exclusively by one thread.
+    private boolean exclusive;
+
+    // Indicates whether a thread is waiting for outstanding operations to
+    // complete so that it can obtain exclusive access to the connection.
+    private boolean exclusivePending;
+
+    // The number of outstanding checkouts for the connection.
+    private int outstanding;
+
+    // The connection held in this slot, if any.
+    @Nullable private LDAPConnection connection;
+
+
+
+    /**
+     * Creates a new slot for the provided connection.
+     *
+     * @param  connection  The connection to hold in this slot.
+     */
+    private ConnectionSlot(@NotNull final LDAPConnection connection)
+    {
+      this.connection = connection;
+
+      creating = false;
+      exclusive = false;
+      exclusivePending = false;
+      outstanding = 0;
+    }
+  }
+}
@@ -244,6 +244,7 @@ public final class LDAPThreadLocalConnectionPool
 
     connections = new ConcurrentHashMap<>(StaticUtils.computeMapCapacity(20));
     connections.put(Thread.currentThread(), connection);
+    connection.getConnectionStatistics().setPoolStatistics(poolStatistics);
 
     lastExpiredDisconnectTime = 0L;
     maxConnectionAge          = 0L;
@@ -889,6 +890,27 @@ public final class LDAPThreadLocalConnectionPool
   @NotNull()
   public LDAPConnection getConnection()
          throws LDAPException
+  {
+    final long checkoutStartTime = System.nanoTime();
+    final LDAPConnection conn = checkOutConnection();
+    poolStatistics.recordCheckoutWaitTime(
+         System.nanoTime() - checkoutStartTime);
+    return conn;
+  }
+
+
+
+  /**
+   * Retrieves an LDAP connection from the pool.
+   *
+   * @return  The LDAP connection taken from the pool.
+   *
+   * @throws  LDAPException  If no connection is available, or a problem occurs
+   *                         while creating a new connection to return.
+   */
+  @NotNull()
+  private LDAPConnection checkOutConnection()
+          throws LDAPException
   {
     final Thread t = Thread.currentThread();
     LDAPConnection conn = connections.get(t);
@@ -0,0 +1,941 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.ByteArrayInputStream;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import com.unboundid.asn1.ASN1StreamReader;
+import com.unboundid.ldap.sdk.schema.Schema;
+import com.unboundid.util.Debug;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class provides a map of attributes for an entry that retains the raw
+ * BER encoding of the attribute list from a search result entry, and only
+ * decodes individual attributes as they are requested.  Retrieving a single
+ * attribute by name (which is the way that {@code Entry.getAttribute},
+ * {@code Entry.getAttributeValue}, and related methods access the map) will
+ * only decode that attribute, and checking whether an attribute exists will not
+ * decode anything.  Any other kind of access (including iterating through the
+ * attributes or altering the map) will cause all of the attributes to be
+ * decoded, after which this map will behave exactly like a
+ * {@code LinkedHashMap}.
+ * <BR><BR>
+ * The structure of the encoded attribute list is validated when the map is
+ * created, so decoding an attribute from it later will not fail.  This class
+ * is safe for concurrent use by multiple threads as long as the map is not
+ * altered, which is sufficient for the read-only entries that use it.
+ */
+@InternalUseOnly()
+final class LazyAttributeMap
+      extends LinkedHashMap<String,Attribute>
+{
+  /**
+   * The BER type for an ASN.1 octet string element.
+   */
+  private static final byte TYPE_OCTET_STRING = 0x04;
+
+
+
+  /**
+   * The BER type for an ASN.1 sequence element.
+   */
+  private static final byte TYPE_SEQUENCE = 0x30;
+
+
+
+  /**
+   * The BER type for an ASN.1 set element.
+   */
+  private static final byte TYPE_SET = 0x31;
+
+
+
+  /**
+   * The number of elements in the offsets array for each attribute.
+   */
+  private static final int OFFSETS_PER_ATTRIBUTE = 4;
+
+
+
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = 3520470808012453707L;
+
+
+
+  // The encoded attribute list, or null if all of the attributes have been
+  // decoded.
+  @Nullable private volatile byte[] encodedAttributes;
+
+  // The attributes that have been decoded individually.
+  @Nullable private HashMap<String,Attribute> decodedAttributes;
+
+  // The offsets of the encoded attributes.  For each attribute, this will
+  // hold the offset at which the attribute sequence starts, the offset
+  // immediately after the end of the attribute sequence, and the offsets of
+  // the start and end of the attribute description.
+  @Nullable private int[] offsets;
+
+  // The number of attributes in the encoded attribute list.
+  private final int numAttributes;
+
+  // The schema to use when decoding attributes.
+  @Nullable private final transient Schema schema;
+
+
+
+  /**
+   * Creates a new lazy attribute map with the provided information.
+   *
+   * @param  encodedAttributes  The encoded attribute list.
+   * @param  offsets            The offsets of the encoded attributes.
+   * @param  numAttributes      The number of attributes in the list.
+   * @param  schema             The schema to use when decoding attributes.
+   */
+  private LazyAttributeMap(@NotNull final byte[] encodedAttributes,
+                           @NotNull final int[] offsets,
+                           final int numAttributes,
+                           @Nullable final Schema schema)
+  {
+    super(StaticUtils.computeMapCapacity(numAttributes));
+
+    this.encodedAttributes = encodedAttributes;
+    this.offsets           = offsets;
+    this.numAttributes     = numAttributes;
+    this.schema            = schema;
+
+    decodedAttributes = null;
+  }
+
+
+
+  /**
+   * Creates a lazy attribute map from the provided encoded attribute list,
+   * which must be the value of the BER sequence that holds the attributes in a
+   * search result entry.
+   *
+   * @param  encodedAttributes  The encoded attribute list.  It must not be
+   *                            {@code null}.
+   * @param  schema             The schema to use when decoding attributes.  It
+   *                            may be {@code null} if the default matching
+   *                            rule should always be used.
+   *
+   * @return  The lazy attribute map that was created.
+   *
+   * @throws  LDAPException  If the provided data cannot be parsed as a valid
+   *                         attribute list.
+   */
+  @NotNull()
+  static LazyAttributeMap decode(@NotNull final byte[] encodedAttributes,
+                                 @Nullable final Schema schema)
+         throws LDAPException
+  {
+    int[] offsets = new int[OFFSETS_PER_ATTRIBUTE * 10];
+    int numAttributes = 0;
+
+    int pos = 0;
+    while (pos < encodedAttributes.length)
+    {
+      final long attrBounds = getValueBounds(encodedAttributes, pos,
+           encodedAttributes.length, TYPE_SEQUENCE);
+      final int attrStart = pos;
+      final int attrEnd = (int) attrBounds;
+
+      final long typeBounds = getValueBounds(encodedAttributes,
+           (int) (attrBounds >>> 32), attrEnd, TYPE_OCTET_STRING);
+      final int typeStart = (int) (typeBounds >>> 32);
+      final int typeEnd = (int) typeBounds;
+      if (typeStart == typeEnd)
+      {
+        throw decodingError();
+      }
+
+      final long valuesBounds =
+           getValueBounds(encodedAttributes, typeEnd, attrEnd, TYPE_SET);
+      if (((int) valuesBounds) != attrEnd)
+      {
+        throw decodingError();
+      }
+
+      int valuePos = (int) (valuesBounds >>> 32);
+      while (valuePos < attrEnd)
+      {
+        valuePos = (int) getValueBounds(encodedAttributes, valuePos, attrEnd,
+             TYPE_OCTET_STRING);
+      }
+
+      if (offsets.length < ((numAttributes + 1) * OFFSETS_PER_ATTRIBUTE))
+      {
+        final int[] newOffsets = new int[offsets.length * 2];
+        System.arraycopy(offsets, 0, newOffsets, 0, offsets.length);
+        offsets = newOffsets;
+      }
+
+      final int i = numAttributes * OFFSETS_PER_ATTRIBUTE;
+      offsets[i]   = attrStart;
+      offsets[i+1] = attrEnd;
+      offsets[i+2] = typeStart;
+      offsets[i+3] = typeEnd;
+      numAttributes++;
+
+      pos = attrEnd;
+    }
+
+    return new LazyAttributeMap(encodedAttributes, offsets, numAttributes,
+         schema);
+  }
+
+
+
+  /**
+   * Retrieves the bounds of the value of the BER element that starts at the
+   * specified position, ensuring that the element has the expected type and
+   * does not extend beyond the given end position.
+   *
+   * @param  b             The array containing the encoded element.
+   * @param  pos           The position of the BER type of the element.
+   * @param  end           The position beyond which the element must not
+   *                       extend.
+   * @param  expectedType  The expected BER type for the element.
+   *
+   * @return  The bounds of the value of the element, with the start position in
+   *          the upper 32 bits and the end position in the lower 32 bits.
+   *
+   * @throws  LDAPException  If the element is malformed or does not have the
+   *                         expected type.
+   */
+  private static long getValueBounds(@NotNull final byte[] b, final int pos,
+                                     final int end, final byte expectedType)
+          throws LDAPException
+  {
+    if (((pos + 1) >= end) || (b[pos] != expectedType))
+    {
+      throw decodingError();
+    }
+
+    final int firstLengthByte = (b[pos+1] & 0xFF);
+    final int valueStart;
+    final int valueLength;
+    if ((firstLengthByte & 0x80) == 0x00)
+    {
+      valueStart = pos + 2;
+      valueLength = firstLengthByte;
+    }
+    else
+    {
+      final int numLengthBytes = (firstLengthByte & 0x7F);
+      if ((numLengthBytes < 1) || (numLengthBytes > 4) ||
+           ((pos + 1 + numLengthBytes) >= end))
+      {
+        throw decodingError();
+      }
+
+      int length = 0;
+      for (int i=1; i <= numLengthBytes; i++)
+      {
+        length = (length << 8) | (b[pos+1+i] & 0xFF);
+      }
+
+      if (length < 0)
+      {
+        throw decodingError();
+      }
+
+      valueStart = pos + 2 + numLengthBytes;
+      valueLength = length;
+    }
+
+    if (valueLength > (end - valueStart))
+    {
+      throw decodingError();
+    }
+
+    return (((long) valueStart) << 32) | (valueStart + valueLength);
+  }
+
+
+
+  /**
+   * Creates an exception indicating that the attribute list is malformed.
+   *
+   * @return  The exception that was created.
+   */
+  @NotNull()
+  private static LDAPException decodingError()
+  {
+    return new LDAPException(ResultCode.DECODING_ERROR,
+         ERR_SEARCH_ENTRY_CANNOT_DECODE.get(
+              ERR_LAZY_ATTRIBUTE_MAP_MALFORMED_ATTRIBUTE_LIST.get()));
+  }
+
+
+
+  /**
+   * Indicates whether all of the attributes in this map have been decoded.
+   *
+   * @return  {@code true} if all of the attributes have been decoded, or
+   *          {@code false} if not.
+   */
+  boolean isFullyDecoded()
+  {
+    return (encodedAttributes == null);
+  }
+
+
+
+  /**
+   * Retrieves the number of attributes that have been individually decoded
+   * without decoding the entire map.
+   *
+   * @return  The number of attributes that have been individually decoded.
+   */
+  synchronized int getNumIndividuallyDecodedAttributes()
+  {
+    return (decodedAttributes == null) ? 0 : decodedAttributes.size();
+  }
+
+
+
+  /**
+   * Indicates whether the description of the encoded attribute at the
+   * specified index matches the provided lowercase name.
+   *
+   * @param  encoded    The encoded attribute list.
+   * @param  index      The index of the attribute to examine.
+   * @param  lowerName  The lowercase name to compare against the attribute
+   *                    description.
+   *
+   * @return  {@code true} if the attribute description matches the provided
+   *          name, or {@code false} if not.
+   */
+  private boolean nameMatches(@NotNull final byte[] encoded, final int index,
+                              @NotNull final String lowerName)
+  {
+    final int typeStart = offsets[(index * OFFSETS_PER_ATTRIBUTE) + 2];
+    final int typeEnd = offsets[(index * OFFSETS_PER_ATTRIBUTE) + 3];
+
+    // Attribute descriptions will almost always be ASCII, so compare the bytes
+    // directly if possible to avoid creating a string.
+    final int length = typeEnd - typeStart;
+    for (int i=0; i < length; i++)
+    {
+      final byte b = encoded[typeStart + i];
+      if ((b & 0x80) != 0x00)
+      {
+        return StaticUtils.toLowerCase(StaticUtils.toUTF8String(encoded,
+             typeStart, length)).equals(lowerName);
+      }
+
+      if ((i >= lowerName.length()) ||
+           (Character.toLowerCase((char) b) != lowerName.charAt(i)))
+      {
+        return false;
+      }
+    }
+
+    return (length == lowerName.length());
+  }
+
+
+
+  /**
+   * Decodes the encoded attribute at the specified index.
+   *
+   * @param  encoded  The encoded attribute list.
+   * @param  index    The index of the attribute to decode.
+   *
+   * @return  The decoded attribute.
+   */
+  @NotNull()
+  private Attribute decodeAttribute(@NotNull final byte[] encoded,
+                                    final int index)
+  {
+    final int attrStart = offsets[index * OFFSETS_PER_ATTRIBUTE];
+    final int attrEnd = offsets[(index * OFFSETS_PER_ATTRIBUTE) + 1];
+
+    try (ASN1StreamReader reader = new ASN1StreamReader(
+              new ByteArrayInputStream(encoded, attrStart,
+                   (attrEnd - attrStart))))
+    {
+      return Attribute.readFrom(reader, schema);
+    }
+    catch (final Exception e)
+    {
+      // This should never happen because the structure of the attribute list
+      // was validated when this map was created.
+      Debug.debugException(e);
+      throw new LDAPRuntimeException(new LDAPException(
+           ResultCode.DECODING_ERROR,
+           ERR_SEARCH_ENTRY_CANNOT_DECODE.get(
+                StaticUtils.getExceptionMessage(e)),
+           e));
+    }
+  }
+
+
+
+  /**
+   * Decodes all of the attributes that have not yet been decoded and adds them
+   * to this map, so that it can be accessed as a normal map.
+   */
+  private void decodeAll()
+  {
+    if (encodedAttributes == null)
+    {
+      return;
+    }
+
+    synchronized (this)
+    {
+      final byte[] encoded = encodedAttributes;
+      if (encoded == null)
+      {
+        return;
+      }
+
+      for (int i=0; i < numAttributes; i++)
+      {
+        final Attribute a = decodeAttribute(encoded, i);
+        final String name = StaticUtils.toLowerCase(a.getName());
+        final Attribute existing = super.get(name);
+        if (existing == null)
+        {
+          super.put(name, a);
+        }
+        else
+        {
+          super.put(name, Attribute.mergeAttributes(existing, a));
+        }
+      }
+
+      decodedAttributes = null;
+      offsets = null;
+      encodedAttributes = null;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the attribute with the specified lowercase name, decoding only
+   * that attribute if the map has not yet been fully decoded.
+   *
+   * @param  key  The lowercase name of the attribute to retrieve.
+   *
+   * @return  The requested attribute, or {@code null} if there is no such
+   *          attribute.
+   */
+  @Override()
+  @Nullable()
+  public Attribute get(@Nullable final Object key)
+  {
+    if (encodedAttributes == null)
+    {
+      return super.get(key);
+    }
+
+    synchronized (this)
+    {
+      final byte[] encoded = encodedAttributes;
+      if (encoded == null)
+      {
+        return super.get(key);
+      }
+
+      if (! (key instanceof String))
+      {
+        return null;
+      }
+
+      final String lowerName = (String) key;
+      if (decodedAttributes != null)
+      {
+        final Attribute a = decodedAttributes.get(lowerName);
+        if (a != null)
+        {
+          return a;
+        }
+      }
+
+      Attribute attr = null;
+      for (int i=0; i < numAttributes; i++)
+      {
+        if (nameMatches(encoded, i, lowerName))
+        {
+          final Attribute a = decodeAttribute(encoded, i);
+          if (attr == null)
+          {
+            attr = a;
+          }
+          else
+          {
+            attr = Attribute.mergeAttributes(attr, a);
+          }
+        }
+      }
+
+      if (attr != null)
+      {
+        if (decodedAttributes == null)
+        {
+          decodedAttributes = new HashMap<>(StaticUtils.computeMapCapacity(
+               Math.min(numAttributes, 10)));
+        }
+
+        decodedAttributes.put(lowerName, attr);
+      }
+
+      return attr;
+    }
+  }
+
+
+
+  /**
+   * Indicates whether this map contains an attribute with the specified
+   * lowercase name.  This will not cause any attributes to be decoded.
+   *
+   * @param  key  The lowercase name of the attribute for which to make the
+   *              determination.
+   *
+   * @return  {@code true} if this map contains the specified attribute, or
+   *          {@code false} if not.
+   */
+  @Override()
+  public boolean containsKey(@Nullable final Object key)
+  {
+    if (encodedAttributes == null)
+    {
+      return super.containsKey(key);
+    }
+
+    synchronized (this)
+    {
+      final byte[] encoded = encodedAttributes;
+      if (encoded == null)
+      {
+        return super.containsKey(key);
+      }
+
+      if (! (key instanceof String))
+      {
+        return false;
+      }
+
+      for (int i=0; i < numAttributes; i++)
+      {
+        if (nameMatches(encoded, i, (String) key))
+        {
+          return true;
+        }
+      }
+
+      return false;
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public int size()
+  {
+    decodeAll();
+    return super.size();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public boolean isEmpty()
+  {
+    if (encodedAttributes != null)
+    {
+      return (numAttributes == 0);
+    }
+
+    return super.isEmpty();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public boolean containsValue(@Nullable final Object value)
+  {
+    decodeAll();
+    return super.containsValue(value);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  public Attribute getOrDefault(@Nullable final Object key,
+                                @Nullable final Attribute defaultValue)
+  {
+    decodeAll();
+    return super.getOrDefault(key, defaultValue);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  public Attribute put(@NotNull final String key,
+                       @NotNull final Attribute value)
+  {
+    decodeAll();
+    return super.put(key, value);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void putAll(
+       @NotNull final Map<? extends String,? extends Attribute> m)
+  {
+    decodeAll();
+    super.putAll(m);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  public Attribute putIfAbsent(@NotNull final String key,
+                               @NotNull final Attribute value)
+  {
+    decodeAll();
+    return super.putIfAbsent(key, value);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  public Attribute remove(@Nullable final Object key)
+  {
+    decodeAll();
+    return super.remove(key);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public boolean remove(@Nullable final Object key,
+                        @Nullable final Object value)
+  {
+    decodeAll();
+    return super.remove(key, value);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  public Attribute replace(@NotNull final String key,
+                           @NotNull final Attribute value)
+  {
+    decodeAll();
+    return super.replace(key, value);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public boolean replace(@NotNull final String key,
+                         @NotNull final Attribute oldValue,
+                         @NotNull final Attribute newValue)
+  {
+    decodeAll();
+    return super.replace(key, oldValue, newValue);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void replaceAll(@NotNull final BiFunction<? super String,
+                              ? super Attribute,? extends Attribute> function)
+  {
+    decodeAll();
+    super.replaceAll(function);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  public Attribute computeIfAbsent(@NotNull final String key,
+              @NotNull final Function<? super String,? extends Attribute>
+                   mappingFunction)
+  {
+    decodeAll();
+    return super.computeIfAbsent(key, mappingFunction);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  public Attribute computeIfPresent(@NotNull final String key,
+              @NotNull final BiFunction<? super String,? super Attribute,
+                   ? extends Attribute> remappingFunction)
+  {
+    decodeAll();
+    return super.computeIfPresent(key, remappingFunction);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  public Attribute compute(@NotNull final String key,
+              @NotNull final BiFunction<? super String,? super Attribute,
+                   ? extends Attribute> remappingFunction)
+  {
+    decodeAll();
+    return super.compute(key, remappingFunction);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  public Attribute merge(@NotNull final String key,
+              @NotNull final Attribute value,
+              @NotNull final BiFunction<? super Attribute,? super Attribute,
+                   ? extends Attribute> remappingFunction)
+  {
+    decodeAll();
+    return super.merge(key, value, remappingFunction);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void clear()
+  {
+    decodeAll();
+    super.clear();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public Set<String> keySet()
+  {
+    decodeAll();
+    return super.keySet();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public Collection<Attribute> values()
+  {
+    decodeAll();
+    return super.values();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public Set<Map.Entry<String,Attribute>> entrySet()
+  {
+    decodeAll();
+    return super.entrySet();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void forEach(
+       @NotNull final BiConsumer<? super String,? super Attribute> action)
+  {
+    decodeAll();
+    super.forEach(action);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public Object clone()
+  {
+    decodeAll();
+    return super.clone();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public boolean equals(@Nullable final Object o)
+  {
+    decodeAll();
+    return super.equals(o);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public int hashCode()
+  {
+    decodeAll();
+    return super.hashCode();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    decodeAll();
+    return super.toString();
+  }
+
+
+
+  /**
+   * Retrieves the object that should be serialized in place of this map, which
+   * will be a standard {@code LinkedHashMap} with all of the attributes
+   * decoded.
+   *
+   * @return  The object that should be serialized in place of this map.
+   */
+  @NotNull()
+  private Object writeReplace()
+  {
+    decodeAll();
+    return new LinkedHashMap<>(this);
+  }
+}
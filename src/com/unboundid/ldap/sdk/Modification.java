@@ -44,6 +44,7 @@ import java.util.List;
 import com.unboundid.asn1.ASN1Buffer;
 import com.unboundid.asn1.ASN1BufferSequence;
 import com.unboundid.asn1.ASN1BufferSet;
+import com.unboundid.asn1.ASN1Constants;
 import com.unboundid.asn1.ASN1Element;
 import com.unboundid.asn1.ASN1Enumerated;
 import com.unboundid.asn1.ASN1Exception;
@@ -408,6 +409,115 @@ public final class Modification
 
 
 
+  /**
+   * Indicates whether this modification contains any value slots.  A value
+   * slot is a value that is exactly equal to
+   * {@link ProtocolOpTemplate#VALUE_SLOT}.
+   *
+   * @return  {@code true} if this modification contains any value slots, or
+   *          {@code false} if not.
+   */
+  boolean hasValueSlots()
+  {
+    for (final ASN1OctetString v : values)
+    {
+      if (ProtocolOpTemplate.isValueSlot(v.stringValue()))
+      {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+
+
+  /**
+   * Writes an encoded representation of this modification to the provided
+   * protocol op template builder.  The resulting encoding will be exactly the
+   * same as that produced by the {@link #writeTo(ASN1Buffer)} method for a
+   * modification with the slot values filled in.
+   *
+   * @param  builder  The protocol op template builder to which the
+   *                  modification should be written.
+   */
+  void writeTo(@NotNull final ProtocolOpTemplate.Builder builder)
+  {
+    final ASN1Buffer buffer = builder.getEncodedBuffer();
+    if (! hasValueSlots())
+    {
+      writeTo(buffer);
+      return;
+    }
+
+    builder.beginSequence(ASN1Constants.UNIVERSAL_SEQUENCE_TYPE);
+    buffer.addEnumerated(modificationType.intValue());
+
+    builder.beginSequence(ASN1Constants.UNIVERSAL_SEQUENCE_TYPE);
+    buffer.addOctetString(attributeName);
+
+    builder.beginSequence(ASN1Constants.UNIVERSAL_SET_TYPE);
+    for (final ASN1OctetString v : values)
+    {
+      if (ProtocolOpTemplate.isValueSlot(v.stringValue()))
+      {
+        builder.addValueSlot(v.getType());
+      }
+      else
+      {
+        buffer.addElement(v);
+      }
+    }
+    builder.endSequence();
+    builder.endSequence();
+    builder.endSequence();
+  }
+
+
+
+  /**
+   * Creates a copy of this modification in which each value slot is replaced
+   * with the next of the provided values.
+   *
+   * @param  values          The values to use in place of the value slots, in
+   *                         the order in which the slots appear in the
+   *                         modification.
+   * @param  nextValueIndex  A single-element array that holds the index of the
+   *                         next value to use.  It will be updated as values
+   *                         are consumed.
+   *
+   * @return  The modification with the value slots replaced, or this
+   *          modification if it does not contain any value slots.
+   */
+  @NotNull()
+  Modification replaceValueSlots(@NotNull final byte[][] values,
+                                 @NotNull final int[] nextValueIndex)
+  {
+    if (! hasValueSlots())
+    {
+      return this;
+    }
+
+    final ASN1OctetString[] newValues = new ASN1OctetString[this.values.length];
+    for (int i=0; i < newValues.length; i++)
+    {
+      final ASN1OctetString v = this.values[i];
+      if (ProtocolOpTemplate.isValueSlot(v.stringValue()))
+      {
+        newValues[i] =
+             new ASN1OctetString(v.getType(), values[nextValueIndex[0]++]);
+      }
+      else
+      {
+        newValues[i] = v;
+      }
+    }
+
+    return new Modification(modificationType, attributeName, newValues);
+  }
+
+
+
   /**
    * Encodes this modification to an ASN.1 sequence suitable for use in the LDAP
    * protocol.
@@ -48,6 +48,7 @@ import java.util.logging.Level;
 
 import com.unboundid.asn1.ASN1Buffer;
 import com.unboundid.asn1.ASN1BufferSequence;
+import com.unboundid.asn1.ASN1Constants;
 import com.unboundid.asn1.ASN1Element;
 import com.unboundid.asn1.ASN1OctetString;
 import com.unboundid.asn1.ASN1Sequence;
@@ -125,6 +126,14 @@ public final class ModifyRequest
   // The DN of the entry to modify.
   @NotNull private String dn;
 
+  // The encoded slot values to use with the prepared template, if any.
+  @Nullable private byte[][] preparedValues;
+
+  // The pre-encoded template to use when writing the protocol op for this
+  // request, if it was created from a prepared modify request.  It will be
+  // cleared if the DN or set of modifications is altered.
+  @Nullable private ProtocolOpTemplate preparedTemplate;
+
 
 
   /**
@@ -474,6 +483,7 @@ public final class ModifyRequest
     Validator.ensureNotNull(dn);
 
     this.dn = dn;
+    preparedTemplate = null;
   }
 
 
@@ -488,6 +498,7 @@ public final class ModifyRequest
     Validator.ensureNotNull(dn);
 
     this.dn = dn.toString();
+    preparedTemplate = null;
   }
 
 
@@ -515,6 +526,7 @@ public final class ModifyRequest
     Validator.ensureNotNull(mod);
 
     modifications.add(mod);
+    preparedTemplate = null;
   }
 
 
@@ -532,6 +544,7 @@ public final class ModifyRequest
   {
     Validator.ensureNotNull(mod);
 
+    preparedTemplate = null;
     return modifications.remove(mod);
   }
 
@@ -550,6 +563,7 @@ public final class ModifyRequest
 
     modifications.clear();
     modifications.add(mod);
+    preparedTemplate = null;
   }
 
 
@@ -569,6 +583,7 @@ public final class ModifyRequest
 
     modifications.clear();
     modifications.addAll(Arrays.asList(mods));
+    preparedTemplate = null;
   }
 
 
@@ -588,6 +603,7 @@ public final class ModifyRequest
 
     modifications.clear();
     modifications.addAll(mods);
+    preparedTemplate = null;
   }
 
 
@@ -609,6 +625,13 @@ public final class ModifyRequest
   @Override()
   public void writeTo(@NotNull final ASN1Buffer writer)
   {
+    final ProtocolOpTemplate template = preparedTemplate;
+    if (template != null)
+    {
+      template.writeTo(writer, preparedValues);
+      return;
+    }
+
     final ASN1BufferSequence requestSequence =
          writer.beginSequence(LDAPMessage.PROTOCOL_OP_TYPE_MODIFY_REQUEST);
     writer.addOctetString(dn);
@@ -624,6 +647,60 @@ public final class ModifyRequest
 
 
 
+  /**
+   * Creates a pre-encoded template for the protocol op for this request.  The
+   * DN (if it is exactly equal to {@link ProtocolOpTemplate#VALUE_SLOT}) and
+   * any value slots in the modifications will be represented as value slots,
+   * in that order, and everything else will be fully encoded.
+   *
+   * @return  The pre-encoded template for the protocol op for this request.
+   */
+  @NotNull()
+  ProtocolOpTemplate createProtocolOpTemplate()
+  {
+    final ProtocolOpTemplate.Builder builder = new ProtocolOpTemplate.Builder();
+
+    builder.beginSequence(LDAPMessage.PROTOCOL_OP_TYPE_MODIFY_REQUEST);
+    if (ProtocolOpTemplate.isValueSlot(dn))
+    {
+      builder.addValueSlot(ASN1Constants.UNIVERSAL_OCTET_STRING_TYPE);
+    }
+    else
+    {
+      builder.getEncodedBuffer().addOctetString(dn);
+    }
+
+    builder.beginSequence(ASN1Constants.UNIVERSAL_SEQUENCE_TYPE);
+    for (final Modification m : modifications)
+    {
+      m.writeTo(builder);
+    }
+    builder.endSequence();
+    builder.endSequence();
+
+    return builder.build();
+  }
+
+
+
+  /**
+   * Specifies a pre-encoded template that should be used when writing the
+   * protocol op for this request.  The template must match the current DN and
+   * set of modifications for this request, and it will be discarded if either
+   * of them is altered.
+   *
+   * @param  template    The pre-encoded template to use.
+   * @param  slotValues  The values to use for the value slots in the template.
+   */
+  void setPreparedTemplate(@NotNull final ProtocolOpTemplate template,
+                           @NotNull final byte[][] slotValues)
+  {
+    preparedValues   = slotValues;
+    preparedTemplate = template;
+  }
+
+
+
   /**
    * Encodes the modify request protocol op to an ASN.1 element.
    *
@@ -1150,6 +1227,8 @@ public final class ModifyRequest
     r.setResponseTimeoutMillis(getResponseTimeoutMillis(null));
     r.setIntermediateResponseListener(getIntermediateResponseListener());
     r.setReferralDepth(getReferralDepth());
+    r.preparedValues   = preparedValues;
+    r.preparedTemplate = preparedTemplate;
 
     return r;
   }
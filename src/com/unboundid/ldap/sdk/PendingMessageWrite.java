@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import com.unboundid.asn1.ASN1Buffer;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+
+
+
+/**
+ * This class holds an encoded LDAP message that has been queued to be written
+ * to the server, along with the outcome of the attempt to write it.  A pending
+ * write may be completed by a thread other than the one that queued it when
+ * multiple threads are sending messages on the same connection at the same
+ * time.  All access to the completion state must be performed while holding
+ * the connection's write lock.
+ */
+@InternalUseOnly()
+final class PendingMessageWrite
+{
+  // The buffer containing the encoded message.
+  @NotNull private final ASN1Buffer buffer;
+
+  // Indicates whether the write has been completed, whether successfully or
+  // not.
+  private boolean complete;
+
+  // The exception caught while attempting to write the message, if any.
+  @Nullable private Exception failure;
+
+
+
+  /**
+   * Creates a new pending write for the message in the provided buffer.
+   *
+   * @param  buffer  The buffer containing the encoded message.  The buffer must
+   *                 not be altered until the write has been completed.
+   */
+  PendingMessageWrite(@NotNull final ASN1Buffer buffer)
+  {
+    this.buffer = buffer;
+
+    complete = false;
+    failure = null;
+  }
+
+
+
+  /**
+   * Retrieves the buffer containing the encoded message.
+   *
+   * @return  The buffer containing the encoded message.
+   */
+  @NotNull()
+  ASN1Buffer getBuffer()
+  {
+    return buffer;
+  }
+
+
+
+  /**
+   * Indicates whether the write has been completed, whether successfully or
+   * not.
+   *
+   * @return  {@code true} if the write has been completed, or {@code false} if
+   *          it is still pending.
+   */
+  boolean isComplete()
+  {
+    return complete;
+  }
+
+
+
+  /**
+   * Marks the write as complete.
+   *
+   * @param  failure  The exception caught while attempting to write the
+   *                  message, or {@code null} if it was written successfully.
+   */
+  void complete(@Nullable final Exception failure)
+  {
+    this.failure = failure;
+    complete = true;
+  }
+
+
+
+  /**
+   * Retrieves the exception caught while attempting to write the message.
+   *
+   * @return  The exception caught while attempting to write the message, or
+   *          {@code null} if it was written successfully or has not yet been
+   *          completed.
+   */
+  @Nullable()
+  Exception getFailure()
+  {
+    return failure;
+  }
+}
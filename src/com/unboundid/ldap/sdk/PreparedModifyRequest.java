@@ -0,0 +1,321 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.unboundid.util.NotMutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class provides a mechanism for efficiently issuing a large number of
+ * modify requests that differ only in their target DN and/or some of the
+ * values in their modifications.  It is created from a template modify request
+ * in which each of the varying values is given as a value slot (a value that is
+ * exactly equal to {@link #VALUE_SLOT}), and all of the other elements of the
+ * modify request protocol op are encoded only once, when the prepared request
+ * is created.  Each time a request is created from the prepared request, only
+ * the values provided for the slots (and the lengths of the elements that
+ * enclose them) need to be encoded when it is sent to the server.
+ * <BR><BR>
+ * The values for the slots must be provided in the order in which the slots
+ * appear in the request, with the DN (if it is a slot) first, followed by the
+ * slots in each of the modifications, in order.  Requests created from a
+ * prepared modify request are ordinary {@link ModifyRequest} objects, and if
+ * the DN or set of modifications is altered after the request has been
+ * created, then the pre-encoded template will be discarded and the request
+ * will be encoded in the usual way.  Request controls are not included in the
+ * template, so they may be freely altered.
+ * <BR>
+ * <H2>Example</H2>
+ * The following example demonstrates the process for creating a prepared
+ * modify request and using it to perform a series of modifications:
+ * <PRE>
+ * PreparedModifyRequest preparedRequest = new PreparedModifyRequest(
+ *      new ModifyRequest(PreparedModifyRequest.VALUE_SLOT,
+ *           new Modification(ModificationType.REPLACE, "description",
+ *                PreparedModifyRequest.VALUE_SLOT)));
+ *
+ * for (int i=0; i &lt; 1000; i++)
+ * {
+ *   LDAPResult modifyResult = connection.modify(
+ *        preparedRequest.createRequest(
+ *             "uid=user." + i + ",ou=People,dc=example,dc=com",
+ *             "Description for user " + i));
+ * }
+ * </PRE>
+ */
+@NotMutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class PreparedModifyRequest
+       implements Serializable
+{
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = 8169426306411021758L;
+
+
+
+  /**
+   * The string that should be used in the template modify request to
+   * indicate that a value is a slot whose value will be provided when a
+   * request is created.
+   */
+  @NotNull public static final String VALUE_SLOT =
+       ProtocolOpTemplate.VALUE_SLOT;
+
+
+
+  // Indicates whether the DN is a value slot.
+  private final boolean dnIsValueSlot;
+
+  // The template modify request.
+  @NotNull private final ModifyRequest templateRequest;
+
+  // The pre-encoded template for the modify request protocol op.
+  @NotNull private final ProtocolOpTemplate template;
+
+
+
+  /**
+   * Creates a new prepared modify request from the provided template request.
+   *
+   * @param  templateRequest  The template modify request to use.  It must not
+   *                          be {@code null}.  Any DN or modification value
+   *                          that is exactly equal to {@link #VALUE_SLOT} will
+   *                          be treated as a value slot.  Any controls or
+   *                          other settings in the template request will be
+   *                          used for requests created from this prepared
+   *                          request.
+   */
+  public PreparedModifyRequest(@NotNull final ModifyRequest templateRequest)
+  {
+    Validator.ensureNotNull(templateRequest);
+
+    this.templateRequest = templateRequest.duplicate();
+
+    dnIsValueSlot =
+         ProtocolOpTemplate.isValueSlot(this.templateRequest.getDN());
+    template = this.templateRequest.createProtocolOpTemplate();
+  }
+
+
+
+  /**
+   * Retrieves a copy of the template modify request for this prepared modify
+   * request.
+   *
+   * @return  A copy of the template modify request for this prepared modify
+   *          request.
+   */
+  @NotNull()
+  public ModifyRequest getTemplateRequest()
+  {
+    return templateRequest.duplicate();
+  }
+
+
+
+  /**
+   * Retrieves the number of value slots in this prepared modify request.  This
+   * is the number of values that must be provided when creating a request.
+   *
+   * @return  The number of value slots in this prepared modify request.
+   */
+  public int getNumValueSlots()
+  {
+    return template.getNumValueSlots();
+  }
+
+
+
+  /**
+   * Creates a new modify request with the provided values used for the value
+   * slots.  It will use the controls and other settings from the template
+   * request.
+   *
+   * @param  slotValues  The values to use for the value slots.  It must not be
+   *                     {@code null}, and it must contain exactly one value for
+   *                     each of the value slots, in the order in which the
+   *                     slots appear in the request.
+   *
+   * @return  The modify request that was created.
+   */
+  @NotNull()
+  public ModifyRequest createRequest(@NotNull final String... slotValues)
+  {
+    final byte[][] encodedValues = encodeSlotValues(slotValues);
+    final ModifyRequest request = templateRequest.duplicate();
+    applyTo(request, slotValues, encodedValues);
+    return request;
+  }
+
+
+
+  /**
+   * Updates the provided modify request so that its DN and set of
+   * modifications match those of this prepared modify request with the given
+   * values used for the value slots, and so that it will use the pre-encoded
+   * template when it is sent.  The controls and other settings of the provided
+   * request will not be altered.  This may be used to repeatedly issue
+   * modifications with the same modify request object.
+   *
+   * @param  request     The modify request to update.  It must not be
+   *                     {@code null}.
+   * @param  slotValues  The values to use for the value slots.  It must not be
+   *                     {@code null}, and it must contain exactly one value for
+   *                     each of the value slots, in the order in which the
+   *                     slots appear in the request.
+   */
+  public void applyTo(@NotNull final ModifyRequest request,
+                      @NotNull final String... slotValues)
+  {
+    Validator.ensureNotNull(request);
+
+    applyTo(request, slotValues, encodeSlotValues(slotValues));
+  }
+
+
+
+  /**
+   * Updates the provided modify request so that it matches this prepared
+   * modify request with the given values used for the value slots.
+   *
+   * @param  request        The modify request to update.
+   * @param  slotValues     The values to use for the value slots.
+   * @param  encodedValues  The UTF-8 encoded representations of the values to
+   *                        use for the value slots.
+   */
+  private void applyTo(@NotNull final ModifyRequest request,
+                       @NotNull final String[] slotValues,
+                       @NotNull final byte[][] encodedValues)
+  {
+    final int[] nextValueIndex = { 0 };
+    if (dnIsValueSlot)
+    {
+      request.setDN(slotValues[nextValueIndex[0]++]);
+    }
+    else
+    {
+      request.setDN(templateRequest.getDN());
+    }
+
+    final List<Modification> templateMods = templateRequest.getModifications();
+    final List<Modification> mods = new ArrayList<>(templateMods.size());
+    for (final Modification m : templateMods)
+    {
+      mods.add(m.replaceValueSlots(encodedValues, nextValueIndex));
+    }
+    request.setModifications(mods);
+
+    request.setPreparedTemplate(template, encodedValues);
+  }
+
+
+
+  /**
+   * Validates the provided slot values and encodes them to UTF-8.
+   *
+   * @param  slotValues  The slot values to validate and encode.
+   *
+   * @return  The UTF-8 encoded representations of the slot values.
+   */
+  @NotNull()
+  private byte[][] encodeSlotValues(@NotNull final String[] slotValues)
+  {
+    Validator.ensureNotNull(slotValues);
+    if (slotValues.length != template.getNumValueSlots())
+    {
+      Validator.violation(ERR_PREPARED_REQUEST_WRONG_NUM_SLOT_VALUES.get(
+           template.getNumValueSlots(), slotValues.length));
+    }
+
+    final byte[][] encodedValues = new byte[slotValues.length][];
+    for (int i=0; i < slotValues.length; i++)
+    {
+      Validator.ensureNotNull(slotValues[i]);
+      encodedValues[i] = StaticUtils.getBytes(slotValues[i]);
+    }
+
+    return encodedValues;
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this prepared modify request.
+   *
+   * @return  A string representation of this prepared modify request.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    final StringBuilder buffer = new StringBuilder();
+    toString(buffer);
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Appends a string representation of this prepared modify request to the
+   * provided buffer.
+   *
+   * @param  buffer  The buffer to which the information should be appended.
+   */
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("PreparedModifyRequest(numValueSlots=");
+    buffer.append(template.getNumValueSlots());
+    buffer.append(", templateRequest=");
+    templateRequest.toString(buffer);
+    buffer.append(')');
+  }
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.Serializable;
+
+import com.unboundid.util.NotMutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class provides a mechanism for efficiently issuing a large number of
+ * search requests that differ only in their base DN and/or some of the
+ * assertion values in their filter.  It is created from a template search
+ * request in which each of the varying values is given as a value slot (a
+ * value that is exactly equal to {@link #VALUE_SLOT}), and all of the other
+ * elements of the search request protocol op are encoded only once, when the
+ * prepared request is created.  Each time a request is created from the
+ * prepared request, only the values provided for the slots (and the lengths of
+ * the elements that enclose them) need to be encoded when it is sent to the
+ * server, and the search filter does not need to be re-parsed.
+ * <BR><BR>
+ * The base DN may be a value slot, as may the assertion value for any
+ * equality, greater-or-equal, less-or-equal, approximate match, or extensible
+ * match filter component, and any subInitial, subAny, or subFinal element of
+ * a substring filter component.  The values for the slots must be provided in
+ * the order in which the slots appear in the request, with the base DN (if it
+ * is a slot) first, followed by the slots in the filter in the order in which
+ * they appear in its string representation.
+ * <BR><BR>
+ * Requests created from a prepared search request are ordinary
+ * {@link SearchRequest} objects, and they may be processed in the same way as
+ * any other search request.  If any of the elements of the protocol op are
+ * altered after the request has been created, then the pre-encoded template
+ * will be discarded and the request will be encoded in the usual way.  Note
+ * that request controls are not included in the template, so they may be
+ * freely altered.
+ * <BR>
+ * <H2>Example</H2>
+ * The following example demonstrates the process for creating a prepared
+ * search request and using it to perform a series of searches:
+ * <PRE>
+ * PreparedSearchRequest preparedRequest = new PreparedSearchRequest(
+ *      new SearchRequest("dc=example,dc=com", SearchScope.SUB,
+ *           "(uid=?)", "cn", "mail"));
+ *
+ * for (int i=0; i &lt; 1000; i++)
+ * {
+ *   SearchResult searchResult = connection.search(
+ *        preparedRequest.createRequest("user." + i));
+ *   // Do something with the search result.
+ * }
+ * </PRE>
+ */
+@NotMutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class PreparedSearchRequest
+       implements Serializable
+{
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = 6693491769041305042L;
+
+
+
+  /**
+   * The string that should be used in the template search request to
+   * indicate that a value is a slot whose value will be provided when a
+   * request is created.
+   */
+  @NotNull public static final String VALUE_SLOT =
+       ProtocolOpTemplate.VALUE_SLOT;
+
+
+
+  // Indicates whether the base DN is a value slot.
+  private final boolean baseDNIsValueSlot;
+
+  // The pre-encoded template for the search request protocol op.
+  @NotNull private final ProtocolOpTemplate template;
+
+  // The template search request.
+  @NotNull private final SearchRequest templateRequest;
+
+
+
+  /**
+   * Creates a new prepared search request from the provided template request.
+   *
+   * @param  templateRequest  The template search request to use.  It must not
+   *                          be {@code null}.  Any base DN or filter assertion
+   *                          value that is exactly equal to
+   *                          {@link #VALUE_SLOT} will be treated as a value
+   *                          slot.  Any search result listener, controls, or
+   *                          other settings in the template request will be
+   *                          used for requests created from this prepared
+   *                          request.
+   */
+  public PreparedSearchRequest(@NotNull final SearchRequest templateRequest)
+  {
+    Validator.ensureNotNull(templateRequest);
+
+    this.templateRequest = templateRequest.duplicate();
+
+    baseDNIsValueSlot =
+         ProtocolOpTemplate.isValueSlot(this.templateRequest.getBaseDN());
+    template = this.templateRequest.createProtocolOpTemplate();
+  }
+
+
+
+  /**
+   * Retrieves a copy of the template search request for this prepared search
+   * request.
+   *
+   * @return  A copy of the template search request for this prepared search
+   *          request.
+   */
+  @NotNull()
+  public SearchRequest getTemplateRequest()
+  {
+    return templateRequest.duplicate();
+  }
+
+
+
+  /**
+   * Retrieves the number of value slots in this prepared search request.  This
+   * is the number of values that must be provided when creating a request.
+   *
+   * @return  The number of value slots in this prepared search request.
+   */
+  public int getNumValueSlots()
+  {
+    return template.getNumValueSlots();
+  }
+
+
+
+  /**
+   * Creates a new search request with the provided values used for the value
+   * slots.  It will use the search result listener, controls, and other
+   * settings from the template request.
+   *
+   * @param  slotValues  The values to use for the value slots.  It must not be
+   *                     {@code null}, and it must contain exactly one value for
+   *                     each of the value slots, in the order in which the
+   *                     slots appear in the request.
+   *
+   * @return  The search request that was created.
+   */
+  @NotNull()
+  public SearchRequest createRequest(@NotNull final String... slotValues)
+  {
+    return createRequest(templateRequest.getSearchResultListener(),
+         slotValues);
+  }
+
+
+
+  /**
+   * Creates a new search request with the provided search result listener and
+   * values used for the value slots.  It will use the controls and other
+   * settings from the template request.
+   *
+   * @param  searchResultListener  The search result listener to use for the
+   *                               request.  It may be {@code null} if the
+   *                               entries and references should be collected
+   *                               in the search result.
+   * @param  slotValues            The values to use for the value slots.  It
+   *                               must not be {@code null}, and it must contain
+   *                               exactly one value for each of the value
+   *                               slots, in the order in which the slots
+   *                               appear in the request.
+   *
+   * @return  The search request that was created.
+   */
+  @NotNull()
+  public SearchRequest createRequest(
+              @Nullable final SearchResultListener searchResultListener,
+              @NotNull final String... slotValues)
+  {
+    final byte[][] encodedValues = encodeSlotValues(slotValues);
+    final SearchRequest request = templateRequest.duplicate(
+         searchResultListener, templateRequest.getControls());
+    applyTo(request, slotValues, encodedValues);
+    return request;
+  }
+
+
+
+  /**
+   * Updates the provided search request so that its base DN, scope,
+   * dereference policy, size limit, time limit, types only flag, filter, and
+   * requested attributes match those of this prepared search request with the
+   * given values used for the value slots, and so that it will use the
+   * pre-encoded template when it is sent.  The search result listener,
+   * controls, and other settings of the provided request will not be altered.
+   * This may be used to repeatedly issue searches with the same search request
+   * object.
+   *
+   * @param  request     The search request to update.  It must not be
+   *                     {@code null}.
+   * @param  slotValues  The values to use for the value slots.  It must not be
+   *                     {@code null}, and it must contain exactly one value for
+   *                     each of the value slots, in the order in which the
+   *                     slots appear in the request.
+   */
+  public void applyTo(@NotNull final SearchRequest request,
+                      @NotNull final String... slotValues)
+  {
+    Validator.ensureNotNull(request);
+
+    applyTo(request, slotValues, encodeSlotValues(slotValues));
+  }
+
+
+
+  /**
+   * Updates the provided search request so that it matches this prepared
+   * search request with the given values used for the value slots.
+   *
+   * @param  request        The search request to update.
+   * @param  slotValues     The values to use for the value slots.
+   * @param  encodedValues  The UTF-8 encoded representations of the values to
+   *                        use for the value slots.
+   */
+  private void applyTo(@NotNull final SearchRequest request,
+                       @NotNull final String[] slotValues,
+                       @NotNull final byte[][] encodedValues)
+  {
+    final int[] nextValueIndex = { 0 };
+    if (baseDNIsValueSlot)
+    {
+      request.setBaseDN(slotValues[nextValueIndex[0]++]);
+    }
+    else
+    {
+      request.setBaseDN(templateRequest.getBaseDN());
+    }
+
+    request.setScope(templateRequest.getScope());
+    request.setDerefPolicy(templateRequest.getDereferencePolicy());
+    request.setSizeLimit(templateRequest.getSizeLimit());
+    request.setTimeLimitSeconds(templateRequest.getTimeLimitSeconds());
+    request.setTypesOnly(templateRequest.typesOnly());
+    request.setFilter(templateRequest.getFilter().replaceValueSlots(
+         encodedValues, nextValueIndex));
+    request.setAttributes(templateRequest.getAttributes());
+
+    request.setPreparedTemplate(template, encodedValues);
+  }
+
+
+
+  /**
+   * Validates the provided slot values and encodes them to UTF-8.
+   *
+   * @param  slotValues  The slot values to validate and encode.
+   *
+   * @return  The UTF-8 encoded representations of the slot values.
+   */
+  @NotNull()
+  private byte[][] encodeSlotValues(@NotNull final String[] slotValues)
+  {
+    Validator.ensureNotNull(slotValues);
+    if (slotValues.length != template.getNumValueSlots())
+    {
+      Validator.violation(ERR_PREPARED_REQUEST_WRONG_NUM_SLOT_VALUES.get(
+           template.getNumValueSlots(), slotValues.length));
+    }
+
+    final byte[][] encodedValues = new byte[slotValues.length][];
+    for (int i=0; i < slotValues.length; i++)
+    {
+      Validator.ensureNotNull(slotValues[i]);
+      encodedValues[i] = StaticUtils.getBytes(slotValues[i]);
+    }
+
+    return encodedValues;
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this prepared search request.
+   *
+   * @return  A string representation of this prepared search request.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    final StringBuilder buffer = new StringBuilder();
+    toString(buffer);
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Appends a string representation of this prepared search request to the
+   * provided buffer.
+   *
+   * @param  buffer  The buffer to which the information should be appended.
+   */
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("PreparedSearchRequest(numValueSlots=");
+    buffer.append(template.getNumValueSlots());
+    buffer.append(", templateRequest=");
+    templateRequest.toString(buffer);
+    buffer.append(')');
+  }
+}
@@ -0,0 +1,378 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.unboundid.asn1.ASN1Buffer;
+import com.unboundid.asn1.ASN1BufferSequence;
+import com.unboundid.util.ByteStringBuffer;
+import com.unboundid.util.NotMutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a data structure that holds a partially-encoded LDAP
+ * protocol op.  All of the content that is known not to change from one
+ * request to the next is encoded only once, when the template is created, and
+ * is simply copied into the ASN.1 buffer when the protocol op is written.
+ * Only the octet string values held in a set of value slots (and the lengths
+ * of the sequences that enclose them) need to be encoded each time.
+ */
+@NotMutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class ProtocolOpTemplate
+      implements Serializable
+{
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = -456564906272805537L;
+
+
+
+  /**
+   * The string that should be used in a template request to indicate that the
+   * associated value is a slot whose value will be provided when the request
+   * is created.
+   */
+  @NotNull static final String VALUE_SLOT = "?";
+
+
+
+  /**
+   * The piece type that indicates that a piece holds pre-encoded data.
+   */
+  private static final byte PIECE_TYPE_ENCODED = 0x00;
+
+
+
+  /**
+   * The piece type that indicates that a piece represents a value slot.
+   */
+  private static final byte PIECE_TYPE_VALUE_SLOT = 0x01;
+
+
+
+  /**
+   * The piece type that indicates that a piece marks the start of a sequence
+   * or set.
+   */
+  private static final byte PIECE_TYPE_BEGIN_SEQUENCE = 0x02;
+
+
+
+  /**
+   * The piece type that indicates that a piece marks the end of a sequence or
+   * set.
+   */
+  private static final byte PIECE_TYPE_END_SEQUENCE = 0x03;
+
+
+
+  // The BER types for each of the pieces.  This is only used for value slots
+  // and the start of sequences.
+  @NotNull private final byte[] berTypes;
+
+  // The types for each of the pieces.
+  @NotNull private final byte[] pieceTypes;
+
+  // The pre-encoded data for each of the pieces.  This is only used for
+  // encoded pieces.
+  @NotNull private final byte[][] encodedData;
+
+  // The maximum depth of nested sequences in this template.
+  private final int maxSequenceDepth;
+
+  // The number of value slots in this template.
+  private final int numValueSlots;
+
+
+
+  /**
+   * Creates a new protocol op template with the provided information.
+   *
+   * @param  pieceTypes        The types for each of the pieces.
+   * @param  berTypes          The BER types for each of the pieces.
+   * @param  encodedData       The pre-encoded data for each of the pieces.
+   * @param  maxSequenceDepth  The maximum depth of nested sequences.
+   * @param  numValueSlots     The number of value slots.
+   */
+  private ProtocolOpTemplate(@NotNull final byte[] pieceTypes,
+                             @NotNull final byte[] berTypes,
+                             @NotNull final byte[][] encodedData,
+                             final int maxSequenceDepth,
+                             final int numValueSlots)
+  {
+    this.pieceTypes       = pieceTypes;
+    this.berTypes         = berTypes;
+    this.encodedData      = encodedData;
+    this.maxSequenceDepth = maxSequenceDepth;
+    this.numValueSlots    = numValueSlots;
+  }
+
+
+
+  /**
+   * Indicates whether the provided value represents a value slot.
+   *
+   * @param  value  The value for which to make the determination.
+   *
+   * @return  {@code true} if the provided value represents a value slot, or
+   *          {@code false} if not.
+   */
+  static boolean isValueSlot(@NotNull final String value)
+  {
+    return value.equals(VALUE_SLOT);
+  }
+
+
+
+  /**
+   * Retrieves the number of value slots in this template.
+   *
+   * @return  The number of value slots in this template.
+   */
+  int getNumValueSlots()
+  {
+    return numValueSlots;
+  }
+
+
+
+  /**
+   * Writes the protocol op represented by this template to the provided ASN.1
+   * buffer.
+   *
+   * @param  buffer      The ASN.1 buffer to which the protocol op should be
+   *                     written.
+   * @param  slotValues  The values to use for each of the value slots, in the
+   *                     order in which they appear in the template.
+   */
+  void writeTo(@NotNull final ASN1Buffer buffer,
+               @NotNull final byte[][] slotValues)
+  {
+    final ASN1BufferSequence[] sequences =
+         new ASN1BufferSequence[maxSequenceDepth];
+    int depth = 0;
+    int slotIndex = 0;
+    for (int i=0; i < pieceTypes.length; i++)
+    {
+      switch (pieceTypes[i])
+      {
+        case PIECE_TYPE_ENCODED:
+          buffer.addEncodedElements(encodedData[i]);
+          break;
+        case PIECE_TYPE_VALUE_SLOT:
+          buffer.addOctetString(berTypes[i], slotValues[slotIndex++]);
+          break;
+        case PIECE_TYPE_BEGIN_SEQUENCE:
+          sequences[depth++] = buffer.beginSequence(berTypes[i]);
+          break;
+        case PIECE_TYPE_END_SEQUENCE:
+          sequences[--depth].end();
+          break;
+      }
+    }
+  }
+
+
+
+  /**
+   * This class provides a mechanism for constructing a protocol op template.
+   * Any content that will not change should be written to the ASN.1 buffer
+   * returned by the {@link #getEncodedBuffer} method, while content that
+   * encloses a value slot must be written using the other methods.
+   */
+  static final class Builder
+  {
+    // The ASN.1 buffer used to hold encoded content that has not yet been
+    // added as a piece.
+    @NotNull private final ASN1Buffer encodedBuffer;
+
+    // The BER types for each of the pieces.
+    @NotNull private final ByteStringBuffer berTypes;
+
+    // The types for each of the pieces.
+    @NotNull private final ByteStringBuffer pieceTypes;
+
+    // The pre-encoded data for each of the pieces.
+    @NotNull private final List<byte[]> encodedData;
+
+    // The current depth of nested sequences.
+    private int currentSequenceDepth;
+
+    // The maximum depth of nested sequences.
+    private int maxSequenceDepth;
+
+    // The number of value slots that have been added.
+    private int numValueSlots;
+
+
+
+    /**
+     * Creates a new, empty builder.
+     */
+    Builder()
+    {
+      encodedBuffer = new ASN1Buffer();
+      berTypes      = new ByteStringBuffer();
+      pieceTypes    = new ByteStringBuffer();
+      encodedData   = new ArrayList<>(10);
+
+      currentSequenceDepth = 0;
+      maxSequenceDepth     = 0;
+      numValueSlots        = 0;
+    }
+
+
+
+    /**
+     * Retrieves the ASN.1 buffer to which content that will not change should
+     * be written.  Any sequences or sets begun in this buffer must also be
+     * ended in it before any other method is invoked on this builder.
+     *
+     * @return  The ASN.1 buffer to which content that will not change should
+     *          be written.
+     */
+    @NotNull()
+    ASN1Buffer getEncodedBuffer()
+    {
+      return encodedBuffer;
+    }
+
+
+
+    /**
+     * Marks the start of a sequence or set that will enclose at least one
+     * value slot.
+     *
+     * @param  type  The BER type for the sequence or set.
+     */
+    void beginSequence(final byte type)
+    {
+      addPiece(PIECE_TYPE_BEGIN_SEQUENCE, type);
+
+      currentSequenceDepth++;
+      maxSequenceDepth = Math.max(maxSequenceDepth, currentSequenceDepth);
+    }
+
+
+
+    /**
+     * Marks the end of the most recently started sequence or set.
+     */
+    void endSequence()
+    {
+      addPiece(PIECE_TYPE_END_SEQUENCE, (byte) 0x00);
+      currentSequenceDepth--;
+    }
+
+
+
+    /**
+     * Adds a value slot that will be encoded as an octet string with the
+     * provided BER type.
+     *
+     * @param  type  The BER type to use for the value slot.
+     */
+    void addValueSlot(final byte type)
+    {
+      addPiece(PIECE_TYPE_VALUE_SLOT, type);
+      numValueSlots++;
+    }
+
+
+
+    /**
+     * Adds a piece of the specified type, preceded by any pending encoded
+     * content.
+     *
+     * @param  pieceType  The type for the piece to add.
+     * @param  berType    The BER type for the piece to add.
+     */
+    private void addPiece(final byte pieceType, final byte berType)
+    {
+      flushEncodedBuffer();
+
+      pieceTypes.append(pieceType);
+      berTypes.append(berType);
+      encodedData.add(null);
+    }
+
+
+
+    /**
+     * Adds any pending encoded content as a piece.
+     */
+    private void flushEncodedBuffer()
+    {
+      if (encodedBuffer.length() > 0)
+      {
+        pieceTypes.append(PIECE_TYPE_ENCODED);
+        berTypes.append((byte) 0x00);
+        encodedData.add(encodedBuffer.toByteArray());
+        encodedBuffer.clear();
+      }
+    }
+
+
+
+    /**
+     * Creates a protocol op template from the content added to this builder.
+     *
+     * @return  The protocol op template that was created.
+     */
+    @NotNull()
+    ProtocolOpTemplate build()
+    {
+      flushEncodedBuffer();
+
+      final byte[][] encodedDataArray = new byte[encodedData.size()][];
+      encodedData.toArray(encodedDataArray);
+      return new ProtocolOpTemplate(pieceTypes.toByteArray(),
+           berTypes.toByteArray(), encodedDataArray, maxSequenceDepth,
+           numValueSlots);
+    }
+  }
+}
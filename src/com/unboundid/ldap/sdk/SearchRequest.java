@@ -49,6 +49,7 @@ import java.util.logging.Level;
 import com.unboundid.asn1.ASN1Boolean;
 import com.unboundid.asn1.ASN1Buffer;
 import com.unboundid.asn1.ASN1BufferSequence;
+import com.unboundid.asn1.ASN1Constants;
 import com.unboundid.asn1.ASN1Element;
 import com.unboundid.asn1.ASN1Enumerated;
 import com.unboundid.asn1.ASN1Integer;
@@ -291,6 +292,14 @@ public final class SearchRequest
   // The base DN for this search request.
   @NotNull private String baseDN;
 
+  // The encoded slot values to use with the prepared template, if any.
+  @Nullable private byte[][] preparedValues;
+
+  // The pre-encoded template to use when writing the protocol op for this
+  // request, if it was created from a prepared search request.  It will be
+  // cleared if any of the elements of the protocol op are altered.
+  @Nullable private ProtocolOpTemplate preparedTemplate;
+
 
 
   /**
@@ -972,6 +981,8 @@ public final class SearchRequest
     Validator.ensureNotNull(baseDN);
 
     this.baseDN = baseDN;
+
+    preparedTemplate = null;
   }
 
 
@@ -987,6 +998,8 @@ public final class SearchRequest
     Validator.ensureNotNull(baseDN);
 
     this.baseDN = baseDN.toString();
+
+    preparedTemplate = null;
   }
 
 
@@ -1011,6 +1024,8 @@ public final class SearchRequest
   public void setScope(@NotNull final SearchScope scope)
   {
     this.scope = scope;
+
+    preparedTemplate = null;
   }
 
 
@@ -1038,6 +1053,8 @@ public final class SearchRequest
   public void setDerefPolicy(@NotNull final DereferencePolicy derefPolicy)
   {
     this.derefPolicy = derefPolicy;
+
+    preparedTemplate = null;
   }
 
 
@@ -1082,6 +1099,8 @@ public final class SearchRequest
     {
       this.sizeLimit = sizeLimit;
     }
+
+    preparedTemplate = null;
   }
 
 
@@ -1126,6 +1145,8 @@ public final class SearchRequest
     {
       this.timeLimit = timeLimit;
     }
+
+    preparedTemplate = null;
   }
 
 
@@ -1152,6 +1173,8 @@ public final class SearchRequest
   public void setTypesOnly(final boolean typesOnly)
   {
     this.typesOnly = typesOnly;
+
+    preparedTemplate = null;
   }
 
 
@@ -1184,6 +1207,8 @@ public final class SearchRequest
     Validator.ensureNotNull(filter);
 
     this.filter = Filter.create(filter);
+
+    preparedTemplate = null;
   }
 
 
@@ -1199,6 +1224,8 @@ public final class SearchRequest
     Validator.ensureNotNull(filter);
 
     this.filter = filter;
+
+    preparedTemplate = null;
   }
 
 
@@ -1249,6 +1276,8 @@ public final class SearchRequest
     {
       this.attributes = attributes;
     }
+
+    preparedTemplate = null;
   }
 
 
@@ -1275,6 +1304,8 @@ public final class SearchRequest
         this.attributes[i] = attributes.get(i);
       }
     }
+
+    preparedTemplate = null;
   }
 
 
@@ -1310,6 +1341,13 @@ public final class SearchRequest
   @Override()
   public void writeTo(@NotNull final ASN1Buffer writer)
   {
+    final ProtocolOpTemplate template = preparedTemplate;
+    if (template != null)
+    {
+      template.writeTo(writer, preparedValues);
+      return;
+    }
+
     final ASN1BufferSequence requestSequence =
          writer.beginSequence(LDAPMessage.PROTOCOL_OP_TYPE_SEARCH_REQUEST);
     writer.addOctetString(baseDN);
@@ -1331,6 +1369,69 @@ public final class SearchRequest
 
 
 
+  /**
+   * Creates a pre-encoded template for the protocol op for this request.  The
+   * base DN (if it is exactly equal to {@link ProtocolOpTemplate#VALUE_SLOT})
+   * and any value slots in the filter will be represented as value slots, in
+   * that order, and everything else will be fully encoded.
+   *
+   * @return  The pre-encoded template for the protocol op for this request.
+   */
+  @NotNull()
+  ProtocolOpTemplate createProtocolOpTemplate()
+  {
+    final ProtocolOpTemplate.Builder builder = new ProtocolOpTemplate.Builder();
+    final ASN1Buffer writer = builder.getEncodedBuffer();
+
+    builder.beginSequence(LDAPMessage.PROTOCOL_OP_TYPE_SEARCH_REQUEST);
+    if (ProtocolOpTemplate.isValueSlot(baseDN))
+    {
+      builder.addValueSlot(ASN1Constants.UNIVERSAL_OCTET_STRING_TYPE);
+    }
+    else
+    {
+      writer.addOctetString(baseDN);
+    }
+
+    writer.addEnumerated(scope.intValue());
+    writer.addEnumerated(derefPolicy.intValue());
+    writer.addInteger(sizeLimit);
+    writer.addInteger(timeLimit);
+    writer.addBoolean(typesOnly);
+    filter.writeTo(builder);
+
+    final ASN1BufferSequence attrSequence = writer.beginSequence();
+    for (final String s : attributes)
+    {
+      writer.addOctetString(s);
+    }
+    attrSequence.end();
+    builder.endSequence();
+
+    return builder.build();
+  }
+
+
+
+  /**
+   * Specifies a pre-encoded template that should be used when writing the
+   * protocol op for this request.  The template must match the current base
+   * DN, scope, dereference policy, size limit, time limit, types only flag,
+   * filter, and requested attributes for this request, and it will be
+   * discarded if any of them are altered.
+   *
+   * @param  template    The pre-encoded template to use.
+   * @param  slotValues  The values to use for the value slots in the template.
+   */
+  void setPreparedTemplate(@NotNull final ProtocolOpTemplate template,
+                           @NotNull final byte[][] slotValues)
+  {
+    preparedValues   = slotValues;
+    preparedTemplate = template;
+  }
+
+
+
   /**
    * Encodes the search request protocol op to an ASN.1 element.
    *
@@ -2152,6 +2253,31 @@ public final class SearchRequest
   @Override()
   @NotNull()
   public SearchRequest duplicate(@Nullable final Control[] controls)
+  {
+    return duplicate(searchResultListener, controls);
+  }
+
+
+
+  /**
+   * Creates a new instance of this search request that is an exact copy of
+   * this request, except that it will use the provided search result listener
+   * and set of controls.
+   *
+   * @param  searchResultListener  The search result listener to use for the
+   *                               new request.  It may be {@code null} if the
+   *                               entries and references should be collected
+   *                               in the search result.
+   * @param  controls              The set of controls to include in the new
+   *                               request.  It may be {@code null} or empty if
+   *                               no controls should be included.
+   *
+   * @return  The new instance of this search request.
+   */
+  @NotNull()
+  SearchRequest duplicate(
+                     @Nullable final SearchResultListener searchResultListener,
+                     @Nullable final Control[] controls)
   {
     final SearchRequest r = new SearchRequest(searchResultListener, controls,
          baseDN, scope, derefPolicy, sizeLimit, timeLimit, typesOnly, filter,
@@ -2169,6 +2295,8 @@ public final class SearchRequest
     r.setResponseTimeoutMillis(getResponseTimeoutMillis(null));
     r.setIntermediateResponseListener(getIntermediateResponseListener());
     r.setReferralDepth(getReferralDepth());
+    r.preparedValues   = preparedValues;
+    r.preparedTemplate = preparedTemplate;
 
     return r;
   }
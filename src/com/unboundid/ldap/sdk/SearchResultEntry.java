@@ -222,6 +222,36 @@ public final class SearchResultEntry
 
 
 
+  /**
+   * Creates a new search result entry whose attributes will be decoded as they
+   * are accessed.
+   *
+   * @param  messageID   The message ID for the LDAP message containing this
+   *                     response.
+   * @param  dn          The DN for this search result entry.  It must not be
+   *                     {@code null}.
+   * @param  schema      The schema to use for operations involving this entry.
+   *                     It may be {@code null} if no schema is available.
+   * @param  attributes  The lazily-decoded attributes for this search result
+   *                     entry.  It must not be {@code null}.
+   * @param  controls    The set of controls for this search result entry.  It
+   *                     must not be {@code null}.
+   */
+  SearchResultEntry(final int messageID, @NotNull final String dn,
+                    @Nullable final Schema schema,
+                    @NotNull final LazyAttributeMap attributes,
+                    @NotNull final Control... controls)
+  {
+    super(dn, schema, attributes);
+
+    Validator.ensureNotNull(controls);
+
+    this.messageID = messageID;
+    this.controls  = controls;
+  }
+
+
+
   /**
    * Creates a new search result entry from the provided entry.
    *
@@ -275,6 +305,9 @@ public final class SearchResultEntry
    *                          matching rule to use for each attribute.  It may
    *                          be {@code null} if the default matching rule
    *                          should always be used.
+   * @param  lazyDecoding     Indicates whether the attributes of the entry
+   *                          should be left in their encoded form and only
+   *                          decoded as they are accessed.
    *
    * @return  The decoded search result entry object.
    *
@@ -285,7 +318,8 @@ public final class SearchResultEntry
   static SearchResultEntry readSearchEntryFrom(final int messageID,
               @NotNull final ASN1StreamReaderSequence messageSequence,
               @NotNull final ASN1StreamReader reader,
-              @Nullable final Schema schema)
+              @Nullable final Schema schema,
+              final boolean lazyDecoding)
          throws LDAPException
   {
     try
@@ -293,11 +327,22 @@ public final class SearchResultEntry
       reader.beginSequence();
       final String dn = reader.readString();
 
-      final ArrayList<Attribute> attrList = new ArrayList<>(10);
-      final ASN1StreamReaderSequence attrSequence = reader.beginSequence();
-      while (attrSequence.hasMoreElements())
+      final ArrayList<Attribute> attrList;
+      final LazyAttributeMap lazyAttributes;
+      if (lazyDecoding)
       {
-        attrList.add(Attribute.readFrom(reader, schema));
+        attrList = null;
+        lazyAttributes = LazyAttributeMap.decode(reader.readBytes(), schema);
+      }
+      else
+      {
+        attrList = new ArrayList<>(10);
+        lazyAttributes = null;
+        final ASN1StreamReaderSequence attrSequence = reader.beginSequence();
+        while (attrSequence.hasMoreElements())
+        {
+          attrList.add(Attribute.readFrom(reader, schema));
+        }
       }
 
       Control[] controls = NO_CONTROLS;
@@ -314,7 +359,16 @@ public final class SearchResultEntry
         controlList.toArray(controls);
       }
 
-      return new SearchResultEntry(messageID, dn, schema, attrList, controls);
+      if (lazyAttributes == null)
+      {
+        return new SearchResultEntry(messageID, dn, schema, attrList,
+             controls);
+      }
+      else
+      {
+        return new SearchResultEntry(messageID, dn, schema, lazyAttributes,
+             controls);
+      }
     }
     catch (final LDAPException le)
     {
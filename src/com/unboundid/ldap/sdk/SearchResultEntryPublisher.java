@@ -0,0 +1,676 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.NotMutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class provides a publisher that can be used to stream the entries
+ * returned by a search operation to a {@link SearchResultEntrySubscriber} with
+ * support for backpressure.  The search request will not be sent to the server
+ * until the subscriber first requests entries, and entries will only be
+ * delivered to the subscriber as it requests them.
+ * <BR><BR>
+ * Entries that have been received from the server but not yet requested by the
+ * subscriber will be held in a small buffer.  If that buffer fills up, then the
+ * thread reading responses from the server will wait for the subscriber to
+ * request more entries before reading the next response, which causes the
+ * server to be throttled by TCP flow control rather than requiring all of the
+ * entries to be held in memory.  Note that this means that other operations
+ * processed concurrently on the same connection will also be delayed while the
+ * subscriber is not requesting entries.  For connections that use a shared
+ * selector-based reader, the reader thread will never be blocked, and entries
+ * will be buffered without limit instead.
+ * <BR><BR>
+ * A publisher may only be subscribed to once.  Any attempt to subscribe
+ * another subscriber will cause that subscriber to be notified of an error.
+ * <BR>
+ * <H2>Example</H2>
+ * The following example demonstrates the process for using a publisher to
+ * process the entries matching a search one at a time:
+ * <PRE>
+ * SearchRequest searchRequest = new SearchRequest("dc=example,dc=com",
+ *      SearchScope.SUB, Filter.createEqualityFilter("objectClass", "person"));
+ * SearchResultEntryPublisher publisher =
+ *      connection.searchPublisher(searchRequest);
+ * publisher.subscribe(new MySearchResultEntrySubscriber());
+ * </PRE>
+ */
+@NotMutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class SearchResultEntryPublisher
+{
+  /**
+   * The maximum number of entries that will be buffered before the thread
+   * reading responses from the server will wait for the subscriber to request
+   * more entries.
+   */
+  static final int MAX_BUFFERED_ENTRIES = 100;
+
+
+
+  // The pool from which a connection should be checked out to process the
+  // search, if any.
+  @Nullable private final AbstractConnectionPool pool;
+
+  // Indicates whether a subscriber has already subscribed to this publisher.
+  @NotNull private final AtomicBoolean subscribed;
+
+  // The connection to use to process the search, if it should not be checked
+  // out of a connection pool.
+  @Nullable private final LDAPConnection connection;
+
+  // The search request to process.
+  @NotNull private final SearchRequest searchRequest;
+
+
+
+  /**
+   * Creates a new search result entry publisher with the provided information.
+   *
+   * @param  connection     The connection to use to process the search.  It
+   *                        must be {@code null} if and only if the pool is
+   *                        non-{@code null}.
+   * @param  pool           The connection pool from which a connection should
+   *                        be checked out to process the search.  It must be
+   *                        {@code null} if and only if the connection is
+   *                        non-{@code null}.
+   * @param  searchRequest  The search request to process.  It must not be
+   *                        {@code null}.
+   */
+  SearchResultEntryPublisher(@Nullable final LDAPConnection connection,
+                             @Nullable final AbstractConnectionPool pool,
+                             @NotNull final SearchRequest searchRequest)
+  {
+    this.connection    = connection;
+    this.pool          = pool;
+    this.searchRequest = searchRequest;
+
+    subscribed = new AtomicBoolean(false);
+  }
+
+
+
+  /**
+   * Retrieves the search request that will be processed by this publisher.
+   *
+   * @return  The search request that will be processed by this publisher.
+   */
+  @NotNull()
+  public ReadOnlySearchRequest getSearchRequest()
+  {
+    return searchRequest;
+  }
+
+
+
+  /**
+   * Subscribes the provided subscriber to this publisher.  The subscriber's
+   * {@code onSubscribe} method will be invoked with the subscription that it
+   * should use to request entries.  If this publisher already has a
+   * subscriber, or if the search request has its own search result listener,
+   * then the subscriber will immediately be notified of an error, and
+   * requesting entries through its subscription will not cause the search to
+   * be processed.
+   *
+   * @param  subscriber  The subscriber that should be notified of the entries
+   *                     returned by the search.  It must not be {@code null}.
+   */
+  public void subscribe(@NotNull final SearchResultEntrySubscriber subscriber)
+  {
+    Validator.ensureNotNull(subscriber);
+
+    final LDAPSearchException rejection;
+    if (! subscribed.compareAndSet(false, true))
+    {
+      rejection = new LDAPSearchException(ResultCode.PARAM_ERROR,
+           ERR_SEARCH_PUBLISHER_ALREADY_SUBSCRIBED.get());
+    }
+    else if (searchRequest.getSearchResultListener() != null)
+    {
+      rejection = new LDAPSearchException(ResultCode.PARAM_ERROR,
+           ERR_ASYNC_COMPLETION_SEARCH_HAS_LISTENER.get());
+    }
+    else
+    {
+      rejection = null;
+    }
+
+    final PublisherSubscription subscription =
+         new PublisherSubscription(this, subscriber);
+    if (rejection != null)
+    {
+      subscription.reject(rejection);
+    }
+
+    subscriber.onSubscribe(subscription);
+
+    if (rejection != null)
+    {
+      subscription.failImmediately(rejection);
+    }
+  }
+
+
+
+  /**
+   * This class provides the subscription used to deliver search result entries
+   * to a subscriber.  It also serves as the search result listener for the
+   * search operation.
+   */
+  @InternalUseOnly()
+  private static final class PublisherSubscription
+          implements SearchResultEntrySubscription, AsyncSearchResultListener
+  {
+    /**
+     * The serial version UID for this serializable class.
+     */
+    private static final long serialVersionUID = 6212785207834012853L;
+
+
+
+    // The async request ID for the search operation.
+    @Nullable private volatile transient AsyncRequestID asyncRequestID;
+
+    // Indicates whether the pooled connection has been released.
+    @NotNull private final AtomicBoolean connectionReleased;
+
+    // Indicates whether the search has been started.
+    @NotNull private final AtomicBoolean started;
+
+    // The number of entries held in the buffer.
+    @NotNull private final AtomicInteger numBuffered;
+
+    // A counter used to ensure that only one thread at a time delivers
+    // notifications to the subscriber.
+    @NotNull private final AtomicInteger workInProgress;
+
+    // The number of entries that have been requested but not yet delivered.
+    @NotNull private final AtomicLong demand;
+
+    // Indicates whether the subscription has been cancelled.
+    private volatile boolean cancelled;
+
+    // Indicates whether any buffered entries should be discarded rather than
+    // delivered.
+    private volatile boolean discardBuffered;
+
+    // Indicates whether the reader thread should wait when the buffer is full.
+    private volatile boolean waitWhenBufferFull;
+
+    // Indicates whether the subscriber has been sent a terminal notification.
+    private volatile boolean terminated;
+
+    // The entries that have been received but not yet delivered.
+    @NotNull private final ConcurrentLinkedQueue<SearchResultEntry> buffer;
+
+    // The connection used to process the search.
+    @Nullable private volatile transient LDAPConnection searchConnection;
+
+    // The exception with which the subscription should be terminated, if any.
+    @Nullable private volatile LDAPSearchException terminalException;
+
+    // The search references returned by the server.
+    @NotNull private final List<SearchResultReference> searchReferences;
+
+    // The result with which the subscription should be completed, if any.
+    @Nullable private volatile SearchResult terminalResult;
+
+    // The publisher with which this subscription is associated.
+    @NotNull private final transient SearchResultEntryPublisher publisher;
+
+    // The subscriber to notify.
+    @NotNull private final transient SearchResultEntrySubscriber subscriber;
+
+
+
+    /**
+     * Creates a new subscription with the provided information.
+     *
+     * @param  publisher   The publisher with which this subscription is
+     *                     associated.
+     * @param  subscriber  The subscriber to notify.
+     */
+    PublisherSubscription(@NotNull final SearchResultEntryPublisher publisher,
+                          @NotNull final SearchResultEntrySubscriber subscriber)
+    {
+      this.publisher  = publisher;
+      this.subscriber = subscriber;
+
+      asyncRequestID     = null;
+      connectionReleased = new AtomicBoolean(false);
+      started            = new AtomicBoolean(false);
+      numBuffered        = new AtomicInteger(0);
+      workInProgress     = new AtomicInteger(0);
+      demand             = new AtomicLong(0L);
+      cancelled          = false;
+      discardBuffered    = false;
+      waitWhenBufferFull = true;
+      terminated         = false;
+      buffer             = new ConcurrentLinkedQueue<>();
+      searchConnection   = null;
+      terminalException  = null;
+      searchReferences   = new ArrayList<>(1);
+      terminalResult     = null;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void request(final long numEntries)
+    {
+      if (numEntries <= 0L)
+      {
+        failImmediately(new LDAPSearchException(ResultCode.PARAM_ERROR,
+             ERR_SEARCH_PUBLISHER_INVALID_REQUEST_COUNT.get(numEntries)));
+        return;
+      }
+
+      while (true)
+      {
+        final long current = demand.get();
+        if (current == Long.MAX_VALUE)
+        {
+          break;
+        }
+
+        long updated = current + numEntries;
+        if (updated < 0L)
+        {
+          updated = Long.MAX_VALUE;
+        }
+
+        if (demand.compareAndSet(current, updated))
+        {
+          break;
+        }
+      }
+
+      if ((terminalException == null) && started.compareAndSet(false, true))
+      {
+        startSearch();
+      }
+
+      drain();
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void cancel()
+    {
+      if (cancelled)
+      {
+        return;
+      }
+
+      cancelled = true;
+      discardBuffered = true;
+      abandonSearch();
+      releaseConnection(ResultCode.USER_CANCELED);
+      drain();
+    }
+
+
+
+    /**
+     * Sends the search request to the server, checking a connection out of
+     * the connection pool if appropriate.
+     */
+    private void startSearch()
+    {
+      LDAPConnection conn = publisher.connection;
+      try
+      {
+        if (publisher.pool != null)
+        {
+          conn = publisher.pool.getConnection();
+        }
+        searchConnection = conn;
+
+        final LDAPConnectionInternals internals =
+             conn.getConnectionInternals(false);
+        waitWhenBufferFull = ((internals == null) ||
+             (! internals.getConnectionReader().usesSelectorReader()));
+
+        final SearchRequest searchRequest = publisher.searchRequest;
+        asyncRequestID = conn.asyncSearch(searchRequest.duplicate(this,
+             searchRequest.getControls()));
+        if (cancelled)
+        {
+          abandonSearch();
+        }
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        releaseConnection(le.getResultCode());
+        failImmediately(new LDAPSearchException(le));
+      }
+    }
+
+
+
+    /**
+     * Abandons the search operation if it has been started.
+     */
+    private void abandonSearch()
+    {
+      final AsyncRequestID requestID = asyncRequestID;
+      if (requestID != null)
+      {
+        requestID.cancel(false);
+      }
+    }
+
+
+
+    /**
+     * Releases the pooled connection used to process the search, if
+     * appropriate.
+     *
+     * @param  resultCode  The result code that will be used to determine
+     *                     whether the connection is still usable.
+     */
+    private void releaseConnection(@NotNull final ResultCode resultCode)
+    {
+      final AbstractConnectionPool pool = publisher.pool;
+      final LDAPConnection conn = searchConnection;
+      if ((pool == null) || (conn == null) ||
+           (! connectionReleased.compareAndSet(false, true)))
+      {
+        return;
+      }
+
+      if (ResultCode.isConnectionUsable(resultCode))
+      {
+        pool.releaseConnection(conn);
+      }
+      else
+      {
+        pool.releaseDefunctConnection(conn);
+      }
+    }
+
+
+
+    /**
+     * Marks the subscription as rejected so that the search will never be
+     * started, even if the subscriber requests entries.  The subscriber will
+     * not be notified of the exception until the subscription is drained, so
+     * this may be called before the subscriber's {@code onSubscribe} method.
+     *
+     * @param  exception  The exception to provide to the subscriber.
+     */
+    void reject(@NotNull final LDAPSearchException exception)
+    {
+      terminalException = exception;
+      discardBuffered = true;
+    }
+
+
+
+    /**
+     * Terminates the subscription with the provided exception, discarding any
+     * entries that have not yet been delivered and abandoning the search if
+     * it is in progress.
+     *
+     * @param  exception  The exception to provide to the subscriber.
+     */
+    void failImmediately(@NotNull final LDAPSearchException exception)
+    {
+      if (terminalException == null)
+      {
+        terminalException = exception;
+      }
+
+      discardBuffered = true;
+      abandonSearch();
+      releaseConnection(exception.getResultCode());
+      drain();
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @InternalUseOnly()
+    @Override()
+    public void searchEntryReturned(
+                     @NotNull final SearchResultEntry searchEntry)
+    {
+      if (discardBuffered)
+      {
+        return;
+      }
+
+      if (waitWhenBufferFull)
+      {
+        synchronized (buffer)
+        {
+          while ((numBuffered.get() >= MAX_BUFFERED_ENTRIES) &&
+               (! discardBuffered))
+          {
+            try
+            {
+              buffer.wait(100L);
+            }
+            catch (final InterruptedException ie)
+            {
+              Debug.debugException(ie);
+              Thread.currentThread().interrupt();
+              break;
+            }
+          }
+        }
+      }
+
+      buffer.add(searchEntry);
+      numBuffered.incrementAndGet();
+      drain();
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @InternalUseOnly()
+    @Override()
+    public void searchReferenceReturned(
+                     @NotNull final SearchResultReference searchReference)
+    {
+      synchronized (searchReferences)
+      {
+        searchReferences.add(searchReference);
+      }
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @InternalUseOnly()
+    @Override()
+    public void searchResultReceived(@NotNull final AsyncRequestID requestID,
+                                     @NotNull final SearchResult searchResult)
+    {
+      final SearchResult result;
+      synchronized (searchReferences)
+      {
+        result = new SearchResult(searchResult.getMessageID(),
+             searchResult.getResultCode(),
+             searchResult.getDiagnosticMessage(), searchResult.getMatchedDN(),
+             searchResult.getReferralURLs(), null,
+             new ArrayList<>(searchReferences), searchResult.getEntryCount(),
+             searchResult.getReferenceCount(),
+             searchResult.getResponseControls());
+      }
+
+      releaseConnection(result.getResultCode());
+      if (result.getResultCode() == ResultCode.SUCCESS)
+      {
+        terminalResult = result;
+      }
+      else if (terminalException == null)
+      {
+        terminalException = new LDAPSearchException(result);
+      }
+
+      drain();
+    }
+
+
+
+    /**
+     * Delivers as many buffered entries as the subscriber has requested,
+     * followed by the terminal notification if appropriate.  Only one thread
+     * at a time will deliver notifications, and any work requested while a
+     * thread is delivering notifications will be handled by that thread.
+     */
+    private void drain()
+    {
+      if (workInProgress.getAndIncrement() != 0)
+      {
+        return;
+      }
+
+      int missed = 1;
+      while (true)
+      {
+        if (discardBuffered)
+        {
+          buffer.clear();
+          numBuffered.set(0);
+          signalBufferSpace();
+        }
+
+        while ((! cancelled) && (demand.get() > 0L))
+        {
+          final SearchResultEntry entry = buffer.poll();
+          if (entry == null)
+          {
+            break;
+          }
+
+          numBuffered.decrementAndGet();
+          signalBufferSpace();
+          if (demand.get() != Long.MAX_VALUE)
+          {
+            demand.decrementAndGet();
+          }
+
+          try
+          {
+            subscriber.onNext(entry);
+          }
+          catch (final Exception e)
+          {
+            Debug.debugException(e);
+            cancel();
+          }
+        }
+
+        if ((! cancelled) && (! terminated) && buffer.isEmpty())
+        {
+          final LDAPSearchException exception = terminalException;
+          final SearchResult result = terminalResult;
+          if (exception != null)
+          {
+            terminated = true;
+            subscriber.onError(exception);
+          }
+          else if (result != null)
+          {
+            terminated = true;
+            subscriber.onComplete(result);
+          }
+        }
+
+        missed = workInProgress.addAndGet(-missed);
+        if (missed == 0)
+        {
+          break;
+        }
+      }
+    }
+
+
+
+    /**
+     * Notifies the reader thread, if it is waiting, that there may be space
+     * available in the buffer.
+     */
+    private void signalBufferSpace()
+    {
+      if (waitWhenBufferFull)
+      {
+        synchronized (buffer)
+        {
+          buffer.notifyAll();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import com.unboundid.util.Extensible;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This interface defines a set of methods that may be used to receive search
+ * result entries from a {@link SearchResultEntryPublisher}.  It follows the
+ * same contract as the subscriber in the Reactive Streams specification (and
+ * the {@code java.util.concurrent.Flow.Subscriber} interface in Java 9 and
+ * later), so it can easily be adapted for use with reactive frameworks:
+ * <UL>
+ *   <LI>The {@code onSubscribe} method will be invoked exactly once, before
+ *       any other method.</LI>
+ *   <LI>The {@code onNext} method will be invoked once for each entry, but
+ *       never more times than the number of entries that have been requested
+ *       through the subscription.</LI>
+ *   <LI>Exactly one of the {@code onComplete} and {@code onError} methods will
+ *       be invoked after all entries have been delivered, unless the
+ *       subscription is cancelled first.</LI>
+ * </UL>
+ * Calls to the methods in this interface will never be made concurrently, but
+ * they may be made by different threads (including the thread used to read
+ * responses from the server), so implementations should not block for
+ * significant periods of time.
+ */
+@Extensible()
+@ThreadSafety(level=ThreadSafetyLevel.INTERFACE_NOT_THREADSAFE)
+public interface SearchResultEntrySubscriber
+{
+  /**
+   * Indicates that the subscriber has been subscribed to a publisher.  No
+   * entries will be delivered until they are requested through the provided
+   * subscription.
+   *
+   * @param  subscription  The subscription that may be used to request
+   *                       entries or to cancel the search.
+   */
+  void onSubscribe(@NotNull SearchResultEntrySubscription subscription);
+
+
+
+  /**
+   * Indicates that the provided search result entry has been returned by the
+   * server.
+   *
+   * @param  searchEntry  The search result entry that has been returned.
+   */
+  void onNext(@NotNull SearchResultEntry searchEntry);
+
+
+
+  /**
+   * Indicates that the search completed successfully and all entries have been
+   * delivered.
+   *
+   * @param  searchResult  The result of the search operation.  It will include
+   *                       any search result references returned by the
+   *                       server, but not the entries, since those will
+   *                       already have been delivered to this subscriber.
+   */
+  void onComplete(@NotNull SearchResult searchResult);
+
+
+
+  /**
+   * Indicates that the search could not be processed, or that it completed
+   * with a non-success result.  Any entries returned before the failure will
+   * already have been delivered to this subscriber.
+   *
+   * @param  exception  The exception with information about the failure.
+   */
+  void onError(@NotNull LDAPSearchException exception);
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import com.unboundid.util.NotExtensible;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This interface defines a set of methods that a
+ * {@link SearchResultEntrySubscriber} may use to control the delivery of
+ * search result entries from a {@link SearchResultEntryPublisher}.  It follows
+ * the same contract as the subscription in the Reactive Streams specification
+ * (and the {@code java.util.concurrent.Flow.Subscription} interface in Java 9
+ * and later).
+ */
+@NotExtensible()
+@ThreadSafety(level=ThreadSafetyLevel.INTERFACE_THREADSAFE)
+public interface SearchResultEntrySubscription
+{
+  /**
+   * Requests that up to the specified number of additional entries be
+   * delivered to the subscriber.  The demand is cumulative, so entries that
+   * have been requested but not yet delivered will still be delivered.  A value
+   * of {@code Long.MAX_VALUE} indicates that there is no limit on the number of
+   * entries that may be delivered.  The search request will not be sent to the
+   * server until the first time this method is called.
+   *
+   * @param  numEntries  The number of additional entries to request.  It must
+   *                     be greater than zero, or the subscriber will be
+   *                     notified of an error and the search will be cancelled.
+   */
+  void request(long numEntries);
+
+
+
+  /**
+   * Cancels the subscription.  If the search is still in progress, then it
+   * will be abandoned, and no further entries or results will be delivered to
+   * the subscriber.
+   */
+  void cancel();
+}
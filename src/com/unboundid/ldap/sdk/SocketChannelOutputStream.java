@@ -0,0 +1,322 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.DirectByteBufferPool;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+
+
+
+/**
+ * This class provides an output stream that can be used to write data to a
+ * socket channel that may be configured for non-blocking operation.  If the
+ * channel is not immediately able to accept all of the data, then the write
+ * will block until it can.  Each call to one of the {@code write} methods will
+ * write all of the provided data before any other thread is allowed to write
+ * to the stream.
+ */
+@InternalUseOnly()
+final class SocketChannelOutputStream
+      extends OutputStream
+{
+  /**
+   * The maximum length of time in milliseconds to wait for the channel to
+   * become writable before checking to see whether it has been closed.
+   */
+  private static final long WRITE_WAIT_MILLIS = 100L;
+
+
+
+  /**
+   * The maximum number of direct buffers to fill before performing a
+   * gathering write.
+   */
+  private static final int MAX_DIRECT_BUFFERS_PER_WRITE = 16;
+
+
+
+  // The selector that will be used to wait for the channel to become writable.
+  @Nullable private Selector writeSelector;
+
+  // The channel to which data will be written.
+  @NotNull private final SocketChannel channel;
+
+
+
+  /**
+   * Creates a new output stream that will write to the provided channel.
+   *
+   * @param  channel  The channel to which data will be written.
+   */
+  SocketChannelOutputStream(@NotNull final SocketChannel channel)
+  {
+    this.channel = channel;
+
+    writeSelector = null;
+  }
+
+
+
+  /**
+   * Writes the provided byte to the channel.
+   *
+   * @param  b  The byte to be written.
+   *
+   * @throws  IOException  If a problem occurs while writing the data.
+   */
+  @Override()
+  public void write(final int b)
+         throws IOException
+  {
+    write(new byte[] { (byte) (b & 0xFF) }, 0, 1);
+  }
+
+
+
+  /**
+   * Writes the specified portion of the provided byte array to the channel.
+   *
+   * @param  b    The byte array containing the data to be written.
+   * @param  off  The offset in the array at which the data to write begins.
+   * @param  len  The number of bytes to be written.
+   *
+   * @throws  IOException  If a problem occurs while writing the data.
+   */
+  @Override()
+  public synchronized void write(@NotNull final byte[] b, final int off,
+                                 final int len)
+         throws IOException
+  {
+    final ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+    while (buffer.hasRemaining())
+    {
+      if (channel.write(buffer) == 0)
+      {
+        awaitWritable();
+      }
+    }
+  }
+
+
+
+  /**
+   * Writes the remaining contents of each of the provided buffers, in order, to
+   * the channel.  The data will be copied into pooled direct buffers, which
+   * will then be written to the channel with gathering writes, so that data
+   * from many (potentially small) buffers can be written with a single system
+   * call and without the JVM needing to copy heap buffers into temporary
+   * direct buffers of its own.  The positions of the provided buffers will be
+   * advanced past the data that was written.
+   *
+   * @param  sources  The buffers containing the data to be written.
+   *
+   * @throws  IOException  If a problem occurs while writing the data.
+   */
+  synchronized void write(@NotNull final ByteBuffer[] sources)
+                throws IOException
+  {
+    final DirectByteBufferPool pool = DirectByteBufferPool.getDefaultInstance();
+    final ByteBuffer[] directBuffers =
+         new ByteBuffer[MAX_DIRECT_BUFFERS_PER_WRITE];
+    int numDirectBuffers = 0;
+    try
+    {
+      int sourceIndex = 0;
+      while (sourceIndex < sources.length)
+      {
+        // Copy as much of the remaining data as possible into the direct
+        // buffers.
+        int numFilled = 0;
+        while (sourceIndex < sources.length)
+        {
+          final ByteBuffer source = sources[sourceIndex];
+          if (! source.hasRemaining())
+          {
+            sourceIndex++;
+            continue;
+          }
+
+          if (numFilled == numDirectBuffers)
+          {
+            if (numDirectBuffers == MAX_DIRECT_BUFFERS_PER_WRITE)
+            {
+              break;
+            }
+
+            directBuffers[numDirectBuffers++] = pool.get();
+          }
+
+          final ByteBuffer directBuffer = directBuffers[numFilled];
+          if (source.remaining() <= directBuffer.remaining())
+          {
+            directBuffer.put(source);
+            sourceIndex++;
+          }
+          else
+          {
+            final int sourceLimit = source.limit();
+            source.limit(source.position() + directBuffer.remaining());
+            directBuffer.put(source);
+            source.limit(sourceLimit);
+          }
+
+          if (! directBuffer.hasRemaining())
+          {
+            numFilled++;
+          }
+        }
+
+        if ((numFilled < numDirectBuffers) &&
+             (directBuffers[numFilled].position() > 0))
+        {
+          numFilled++;
+        }
+
+        if (numFilled == 0)
+        {
+          return;
+        }
+
+        for (int i=0; i < numFilled; i++)
+        {
+          directBuffers[i].flip();
+        }
+
+        final ByteBuffer lastBuffer = directBuffers[numFilled - 1];
+        while (lastBuffer.hasRemaining())
+        {
+          if (channel.write(directBuffers, 0, numFilled) == 0)
+          {
+            awaitWritable();
+          }
+        }
+
+        for (int i=0; i < numFilled; i++)
+        {
+          directBuffers[i].clear();
+        }
+      }
+    }
+    finally
+    {
+      for (int i=0; i < numDirectBuffers; i++)
+      {
+        pool.release(directBuffers[i]);
+      }
+    }
+  }
+
+
+
+  /**
+   * Waits for the channel to become writable, or for a short period of time to
+   * elapse.  The channel will not remain registered with the write selector
+   * after this method returns so that it can be safely reconfigured for
+   * blocking operation if necessary.
+   *
+   * @throws  IOException  If the channel has been closed or a problem occurs
+   *                       while waiting for it to become writable.
+   */
+  private void awaitWritable()
+          throws IOException
+  {
+    if (! channel.isOpen())
+    {
+      throw new ClosedChannelException();
+    }
+
+    if (channel.isBlocking())
+    {
+      return;
+    }
+
+    if (writeSelector == null)
+    {
+      writeSelector = Selector.open();
+    }
+
+    final SelectionKey key =
+         channel.register(writeSelector, SelectionKey.OP_WRITE);
+    try
+    {
+      writeSelector.select(WRITE_WAIT_MILLIS);
+      writeSelector.selectedKeys().clear();
+    }
+    finally
+    {
+      key.cancel();
+      writeSelector.selectNow();
+    }
+  }
+
+
+
+  /**
+   * Closes this output stream.  The underlying channel will not be closed.
+   */
+  @Override()
+  public synchronized void close()
+  {
+    if (writeSelector != null)
+    {
+      try
+      {
+        writeSelector.close();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+      finally
+      {
+        writeSelector = null;
+      }
+    }
+  }
+}
@@ -0,0 +1,788 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.Validator;
+
+
+
+/**
+ * This class provides a bounded blocking queue that spreads its elements
+ * across a number of independent lock-free stacks (stripes) to reduce
+ * contention when many threads add and remove elements concurrently.  Each
+ * thread has a home stripe: elements offered by a thread are pushed onto its
+ * home stripe, and a thread attempting to retrieve an element will first check
+ * its home stripe before stealing from the others.  As a result, a thread that
+ * releases an element and then retrieves another will usually get back the
+ * same one.
+ * <BR><BR>
+ * The non-blocking {@code offer} and {@code poll} methods never acquire a
+ * lock.  A lock is only used to allow threads to wait when the queue is empty
+ * (or full), and it is only acquired by threads adding (or removing) elements
+ * when there are threads waiting.
+ * <BR><BR>
+ * Unlike a {@code LinkedBlockingQueue}, this queue does not provide FIFO
+ * ordering.  Its iterator provides a weakly consistent snapshot of the
+ * elements and does not support removal, but the {@link #remove(Object)} method
+ * may be used to remove a specific element.  Each element is claimed with an
+ * atomic operation by the thread that removes it, so an element can never be
+ * returned to more than one caller.
+ *
+ * @param  <E>  The type of element held in the queue.
+ */
+@InternalUseOnly()
+final class StripedBlockingQueue<E>
+      extends AbstractQueue<E>
+      implements BlockingQueue<E>
+{
+  /**
+   * The maximum number of stripes that will be used.
+   */
+  private static final int MAX_STRIPES = 64;
+
+
+
+  // The number of threads waiting for the queue to become non-empty.
+  @NotNull private final AtomicInteger emptyWaiters;
+
+  // The number of threads waiting for the queue to become non-full.
+  @NotNull private final AtomicInteger fullWaiters;
+
+  // The number of elements in the queue, including any that are in the process
+  // of being added.
+  @NotNull private final AtomicInteger count;
+
+  // The top of the stack for each stripe.
+  @NotNull private final AtomicReference<Node<E>>[] stripes;
+
+  // The condition used to wait for the queue to become non-empty.
+  @NotNull private final Condition notEmpty;
+
+  // The condition used to wait for the queue to become non-full.
+  @NotNull private final Condition notFull;
+
+  // The maximum number of elements that may be held in the queue.
+  private final int capacity;
+
+  // The bit mask used to map a thread to its home stripe.
+  private final int stripeMask;
+
+  // The lock used for waiting.
+  @NotNull private final ReentrantLock waitLock;
+
+
+
+  /**
+   * Creates a new striped blocking queue with the specified capacity.  The
+   * number of stripes will be based on the number of available processors.
+   *
+   * @param  capacity  The maximum number of elements that may be held in the
+   *                   queue.  It must be greater than zero.
+   */
+  StripedBlockingQueue(final int capacity)
+  {
+    this(capacity, Runtime.getRuntime().availableProcessors());
+  }
+
+
+
+  /**
+   * Creates a new striped blocking queue with the specified capacity and
+   * number of stripes.
+   *
+   * @param  capacity    The maximum number of elements that may be held in the
+   *                     queue.  It must be greater than zero.
+   * @param  numStripes  The desired number of stripes.  The actual number
+   *                     will be rounded up to a power of two, and will not
+   *                     exceed the capacity (rounded up to a power of two) or
+   *                     64.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  StripedBlockingQueue(final int capacity, final int numStripes)
+  {
+    Validator.ensureTrue((capacity > 0),
+         "StripedBlockingQueue.capacity must be greater than zero.");
+
+    this.capacity = capacity;
+
+    final int limit = Math.max(1,
+         Math.min(MAX_STRIPES, Math.min(capacity, numStripes)));
+    int stripeCount = 1;
+    while (stripeCount < limit)
+    {
+      stripeCount <<= 1;
+    }
+
+    stripeMask = stripeCount - 1;
+    stripes = new AtomicReference[stripeCount];
+    for (int i=0; i < stripeCount; i++)
+    {
+      stripes[i] = new AtomicReference<>();
+    }
+
+    count = new AtomicInteger(0);
+    emptyWaiters = new AtomicInteger(0);
+    fullWaiters = new AtomicInteger(0);
+    waitLock = new ReentrantLock();
+    notEmpty = waitLock.newCondition();
+    notFull = waitLock.newCondition();
+  }
+
+
+
+  /**
+   * Retrieves the number of stripes used by this queue.
+   *
+   * @return  The number of stripes used by this queue.
+   */
+  int getNumStripes()
+  {
+    return stripes.length;
+  }
+
+
+
+  /**
+   * Retrieves the index of the home stripe for the current thread.
+   *
+   * @return  The index of the home stripe for the current thread.
+   */
+  @SuppressWarnings("deprecation")
+  private int homeStripe()
+  {
+    // Spread the bits of the thread ID so that sequentially-assigned IDs don't
+    // all map to neighboring stripes in the same pattern.
+    final long id = Thread.currentThread().getId();
+    final int h = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+    return (h ^ (h >>> 16)) & stripeMask;
+  }
+
+
+
+  /**
+   * Adds the provided element to the queue if there is room for it.
+   *
+   * @param  e  The element to add.  It must not be {@code null}.
+   *
+   * @return  {@code true} if the element was added, or {@code false} if the
+   *          queue is full.
+   */
+  @Override()
+  public boolean offer(@NotNull final E e)
+  {
+    Validator.ensureNotNull(e);
+
+    while (true)
+    {
+      final int c = count.get();
+      if (c >= capacity)
+      {
+        return false;
+      }
+
+      if (count.compareAndSet(c, c+1))
+      {
+        break;
+      }
+    }
+
+    final AtomicReference<Node<E>> stripe = stripes[homeStripe()];
+    removeClaimedNodes(stripe);
+
+    final Node<E> node = new Node<>(e);
+    while (true)
+    {
+      final Node<E> top = stripe.get();
+      node.next = top;
+      if (stripe.compareAndSet(top, node))
+      {
+        break;
+      }
+    }
+
+    if (emptyWaiters.get() > 0)
+    {
+      signal(notEmpty);
+    }
+
+    return true;
+  }
+
+
+
+  /**
+   * Removes and returns an element from the queue, if one is available.  The
+   * current thread's home stripe will be checked first, followed by each of
+   * the other stripes.
+   *
+   * @return  The element that was removed, or {@code null} if the queue is
+   *          empty.
+   */
+  @Override()
+  @Nullable()
+  public E poll()
+  {
+    if (count.get() <= 0)
+    {
+      return null;
+    }
+
+    final int home = homeStripe();
+    for (int i=0; i < stripes.length; i++)
+    {
+      final AtomicReference<Node<E>> stripe = stripes[(home + i) & stripeMask];
+      while (true)
+      {
+        final Node<E> top = stripe.get();
+        if (top == null)
+        {
+          break;
+        }
+
+        // If the node has already been claimed by a call to remove, then we
+        // can discard it and keep looking.
+        if (stripe.compareAndSet(top, top.next) && top.claim())
+        {
+          elementRemoved();
+          return top.element;
+        }
+      }
+    }
+
+    return null;
+  }
+
+
+
+  /**
+   * Removes the specified element from the queue, if it is present.
+   *
+   * @param  o  The element to remove.
+   *
+   * @return  {@code true} if the element was removed, or {@code false} if it
+   *          was not present.
+   */
+  @Override()
+  public boolean remove(@Nullable final Object o)
+  {
+    if (o == null)
+    {
+      return false;
+    }
+
+    for (final AtomicReference<Node<E>> stripe : stripes)
+    {
+      Node<E> node = stripe.get();
+      while (node != null)
+      {
+        if (o.equals(node.element) && node.claim())
+        {
+          elementRemoved();
+          removeClaimedNodes(stripe);
+          return true;
+        }
+
+        node = node.next;
+      }
+    }
+
+    return false;
+  }
+
+
+
+  /**
+   * Updates the state of the queue after an element has been claimed.
+   */
+  private void elementRemoved()
+  {
+    count.decrementAndGet();
+    if (fullWaiters.get() > 0)
+    {
+      signal(notFull);
+    }
+  }
+
+
+
+  /**
+   * Unlinks any claimed nodes from the top of the provided stripe.  Claimed
+   * nodes below the first unclaimed node will be unlinked when they reach the
+   * top of the stack.
+   *
+   * @param  stripe  The stripe to clean.
+   */
+  private static <E> void removeClaimedNodes(
+                              @NotNull final AtomicReference<Node<E>> stripe)
+  {
+    while (true)
+    {
+      final Node<E> top = stripe.get();
+      if ((top == null) || (! top.isClaimed()))
+      {
+        return;
+      }
+
+      stripe.compareAndSet(top, top.next);
+    }
+  }
+
+
+
+  /**
+   * Wakes up a thread waiting on the provided condition.
+   *
+   * @param  condition  The condition to signal.
+   */
+  private void signal(@NotNull final Condition condition)
+  {
+    waitLock.lock();
+    try
+    {
+      condition.signal();
+    }
+    finally
+    {
+      waitLock.unlock();
+    }
+  }
+
+
+
+  /**
+   * Removes and returns an element from the queue, waiting up to the
+   * specified length of time for one to become available.
+   *
+   * @param  timeout  The maximum length of time to wait.
+   * @param  unit     The time unit for the timeout.
+   *
+   * @return  The element that was removed, or {@code null} if none became
+   *          available before the timeout elapsed.
+   *
+   * @throws  InterruptedException  If the thread is interrupted while
+   *                                waiting.
+   */
+  @Override()
+  @Nullable()
+  public E poll(final long timeout, @NotNull final TimeUnit unit)
+         throws InterruptedException
+  {
+    E e = poll();
+    if (e != null)
+    {
+      return e;
+    }
+
+    long remainingNanos = unit.toNanos(timeout);
+    waitLock.lockInterruptibly();
+    try
+    {
+      emptyWaiters.incrementAndGet();
+      try
+      {
+        while (true)
+        {
+          // Check again after registering as a waiter, since an element may
+          // have been added before the waiter count was incremented.
+          e = poll();
+          if ((e != null) || (remainingNanos <= 0L))
+          {
+            return e;
+          }
+
+          remainingNanos = notEmpty.awaitNanos(remainingNanos);
+        }
+      }
+      finally
+      {
+        emptyWaiters.decrementAndGet();
+      }
+    }
+    finally
+    {
+      waitLock.unlock();
+    }
+  }
+
+
+
+  /**
+   * Removes and returns an element from the queue, waiting as long as
+   * necessary for one to become available.
+   *
+   * @return  The element that was removed.
+   *
+   * @throws  InterruptedException  If the thread is interrupted while
+   *                                waiting.
+   */
+  @Override()
+  @NotNull()
+  public E take()
+         throws InterruptedException
+  {
+    while (true)
+    {
+      final E e = poll(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+      if (e != null)
+      {
+        return e;
+      }
+    }
+  }
+
+
+
+  /**
+   * Adds the provided element to the queue, waiting up to the specified length
+   * of time for space to become available.
+   *
+   * @param  e        The element to add.  It must not be {@code null}.
+   * @param  timeout  The maximum length of time to wait.
+   * @param  unit     The time unit for the timeout.
+   *
+   * @return  {@code true} if the element was added, or {@code false} if no
+   *          space became available before the timeout elapsed.
+   *
+   * @throws  InterruptedException  If the thread is interrupted while
+   *                                waiting.
+   */
+  @Override()
+  public boolean offer(@NotNull final E e, final long timeout,
+                       @NotNull final TimeUnit unit)
+         throws InterruptedException
+  {
+    if (offer(e))
+    {
+      return true;
+    }
+
+    long remainingNanos = unit.toNanos(timeout);
+    waitLock.lockInterruptibly();
+    try
+    {
+      fullWaiters.incrementAndGet();
+      try
+      {
+        while (true)
+        {
+          if (offer(e))
+          {
+            return true;
+          }
+
+          if (remainingNanos <= 0L)
+          {
+            return false;
+          }
+
+          remainingNanos = notFull.awaitNanos(remainingNanos);
+        }
+      }
+      finally
+      {
+        fullWaiters.decrementAndGet();
+      }
+    }
+    finally
+    {
+      waitLock.unlock();
+    }
+  }
+
+
+
+  /**
+   * Adds the provided element to the queue, waiting as long as necessary for
+   * space to become available.
+   *
+   * @param  e  The element to add.  It must not be {@code null}.
+   *
+   * @throws  InterruptedException  If the thread is interrupted while
+   *                                waiting.
+   */
+  @Override()
+  public void put(@NotNull final E e)
+         throws InterruptedException
+  {
+    while (! offer(e, Long.MAX_VALUE, TimeUnit.NANOSECONDS))
+    {
+      // Keep waiting.
+    }
+  }
+
+
+
+  /**
+   * Retrieves, but does not remove, an element from the queue.
+   *
+   * @return  An element from the queue, or {@code null} if the queue is
+   *          empty.
+   */
+  @Override()
+  @Nullable()
+  public E peek()
+  {
+    final int home = homeStripe();
+    for (int i=0; i < stripes.length; i++)
+    {
+      Node<E> node = stripes[(home + i) & stripeMask].get();
+      while (node != null)
+      {
+        if (! node.isClaimed())
+        {
+          return node.element;
+        }
+
+        node = node.next;
+      }
+    }
+
+    return null;
+  }
+
+
+
+  /**
+   * Retrieves the number of elements in the queue.
+   *
+   * @return  The number of elements in the queue.
+   */
+  @Override()
+  public int size()
+  {
+    return Math.max(0, count.get());
+  }
+
+
+
+  /**
+   * Retrieves the number of additional elements that may be added to the queue
+   * before it is full.
+   *
+   * @return  The number of additional elements that may be added to the queue
+   *          before it is full.
+   */
+  @Override()
+  public int remainingCapacity()
+  {
+    return Math.max(0, capacity - count.get());
+  }
+
+
+
+  /**
+   * Removes all elements from the queue and adds them to the provided
+   * collection.
+   *
+   * @param  c  The collection to which the elements should be added.
+   *
+   * @return  The number of elements that were transferred.
+   */
+  @Override()
+  public int drainTo(@NotNull final Collection<? super E> c)
+  {
+    return drainTo(c, Integer.MAX_VALUE);
+  }
+
+
+
+  /**
+   * Removes up to the specified number of elements from the queue and adds
+   * them to the provided collection.
+   *
+   * @param  c            The collection to which the elements should be
+   *                      added.
+   * @param  maxElements  The maximum number of elements to transfer.
+   *
+   * @return  The number of elements that were transferred.
+   */
+  @Override()
+  public int drainTo(@NotNull final Collection<? super E> c,
+                     final int maxElements)
+  {
+    Validator.ensureNotNull(c);
+    Validator.ensureTrue((c != this),
+         "StripedBlockingQueue.drainTo cannot drain to itself.");
+
+    int transferred = 0;
+    while (transferred < maxElements)
+    {
+      final E e = poll();
+      if (e == null)
+      {
+        break;
+      }
+
+      c.add(e);
+      transferred++;
+    }
+
+    return transferred;
+  }
+
+
+
+  /**
+   * Retrieves an iterator over a snapshot of the elements in the queue.  The
+   * iterator does not support removal.
+   *
+   * @return  An iterator over a snapshot of the elements in the queue.
+   */
+  @Override()
+  @NotNull()
+  public Iterator<E> iterator()
+  {
+    final List<E> snapshot = new ArrayList<>(size());
+    for (final AtomicReference<Node<E>> stripe : stripes)
+    {
+      Node<E> node = stripe.get();
+      while (node != null)
+      {
+        if (! node.isClaimed())
+        {
+          snapshot.add(node.element);
+        }
+
+        node = node.next;
+      }
+    }
+
+    final Iterator<E> snapshotIterator = snapshot.iterator();
+    return new Iterator<E>()
+    {
+      @Override()
+      public boolean hasNext()
+      {
+        return snapshotIterator.hasNext();
+      }
+
+      @Override()
+      public E next()
+      {
+        return snapshotIterator.next();
+      }
+    };
+  }
+
+
+
+  /**
+   * A node in one of the stripe stacks.
+   *
+   * @param  <E>  The type of element held in the node.
+   */
+  private static final class Node<E>
+  {
+    /**
+     * The updater used to claim nodes.
+     */
+    @SuppressWarnings("rawtypes")
+    @NotNull private static final AtomicIntegerFieldUpdater<Node> CLAIMED =
+         AtomicIntegerFieldUpdater.newUpdater(Node.class, "claimed");
+
+
+
+    // The element held in this node.
+    @NotNull private final E element;
+
+    // The next node in the stack.
+    @Nullable private Node<E> next;
+
+    // Indicates whether the element in this node has been claimed by a thread
+    // removing it from the queue.  A value of zero indicates that it has not
+    // been claimed, and a value of one indicates that it has.
+    private volatile int claimed;
+
+
+
+    /**
+     * Creates a new node with the provided element.
+     *
+     * @param  element  The element to hold in the node.
+     */
+    private Node(@NotNull final E element)
+    {
+      this.element = element;
+      next = null;
+      claimed = 0;
+    }
+
+
+
+    /**
+     * Attempts to claim this node for the current thread.
+     *
+     * @return  {@code true} if this node was claimed by the current thread, or
+     *          {@code false} if it had already been claimed.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean claim()
+    {
+      return CLAIMED.compareAndSet(this, 0, 1);
+    }
+
+
+
+    /**
+     * Indicates whether this node has been claimed.
+     *
+     * @return  {@code true} if this node has been claimed, or {@code false} if
+     *          not.
+     */
+    private boolean isClaimed()
+    {
+      return (claimed != 0);
+    }
+  }
+}
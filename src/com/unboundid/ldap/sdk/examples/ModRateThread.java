@@ -37,6 +37,7 @@ package com.unboundid.ldap.sdk.examples;
 
 
 
+import java.util.Arrays;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -49,6 +50,7 @@ import com.unboundid.ldap.sdk.LDAPException;
 import com.unboundid.ldap.sdk.Modification;
 import com.unboundid.ldap.sdk.ModificationType;
 import com.unboundid.ldap.sdk.ModifyRequest;
+import com.unboundid.ldap.sdk.PreparedModifyRequest;
 import com.unboundid.ldap.sdk.ResultCode;
 import com.unboundid.ldap.sdk.controls.ProxiedAuthorizationV2RequestControl;
 import com.unboundid.util.Debug;
@@ -262,8 +264,13 @@ final class ModRateThread
       modThread.set(currentThread());
       runningThreads.incrementAndGet();
 
+      // Use a prepared modify request so that only the target DN and the
+      // generated values need to be encoded for each modification.  If the
+      // same values are to be used for multiple attributes, then they will be
+      // provided once for each attribute.
       final Modification[] mods = new Modification[attributes.length];
       final String[] values = new String[valueCount];
+      final String[] slotValues;
 
       if (increment)
       {
@@ -274,8 +281,23 @@ final class ModRateThread
           mods[i] = new Modification(ModificationType.INCREMENT, attributes[i],
                values);
         }
+
+        slotValues = new String[1];
+      }
+      else
+      {
+        Arrays.fill(values, PreparedModifyRequest.VALUE_SLOT);
+        for (int i=0; i < attributes.length; i++)
+        {
+          mods[i] = new Modification(ModificationType.REPLACE, attributes[i],
+               values);
+        }
+
+        slotValues = new String[(attributes.length * valueCount) + 1];
       }
 
+      final PreparedModifyRequest preparedRequest = new PreparedModifyRequest(
+           new ModifyRequest(PreparedModifyRequest.VALUE_SLOT, mods));
       final ModifyRequest modifyRequest = new ModifyRequest("", mods);
 
       try
@@ -325,7 +347,7 @@ final class ModRateThread
           }
         }
 
-        modifyRequest.setDN(entryDN.nextValue());
+        slotValues[0] = entryDN.nextValue();
 
         if (! increment)
         {
@@ -336,12 +358,13 @@ final class ModRateThread
 
           for (int i=0; i < attributes.length; i++)
           {
-            mods[i] = new Modification(ModificationType.REPLACE, attributes[i],
-                 values);
+            System.arraycopy(values, 0, slotValues, ((i * valueCount) + 1),
+                 valueCount);
           }
-          modifyRequest.setModifications(mods);
         }
 
+        preparedRequest.applyTo(modifyRequest, slotValues);
+
         modifyRequest.setControls(modifyControls);
         if (authzID != null)
         {
@@ -997,6 +997,21 @@ public final class SearchRate
       return ResultCode.PARAM_ERROR;
     }
 
+    // If possible, represent the filter pattern as a template so that the
+    // threads can use prepared search requests rather than parsing and fully
+    // encoding a new filter for every search.  This isn't done if a random
+    // seed was provided, since that would alter the sequence of values that
+    // the seed is expected to produce.
+    final SearchRateFilterTemplate filterTemplate;
+    if ((filterPattern != null) && (seed == null))
+    {
+      filterTemplate = SearchRateFilterTemplate.create(filter.getValue());
+    }
+    else
+    {
+      filterTemplate = null;
+    }
+
     final ValuePattern ldapURLPattern;
     try
     {
@@ -1278,11 +1293,11 @@ public final class SearchRate
       threads[i] = new SearchRateThread(this, i, connection,
            asynchronousMode.isPresent(), dnPattern, scope.getValue(),
            derefPolicy, sizeLimit.getValue(), timeLimitSeconds.getValue(),
-           typesOnly.isPresent(), filterPattern, attrs, ldapURLPattern,
-           authzIDPattern, simplePageSize.getValue(), controlList,
-           iterationsBeforeReconnect.getValue(), runningThreads, barrier,
-           searchCounter, entryCounter, searchDurations, errorCounter,
-           rcCounter, fixedRateBarrier, asyncSemaphore);
+           typesOnly.isPresent(), filterPattern, filterTemplate, attrs,
+           ldapURLPattern, authzIDPattern, simplePageSize.getValue(),
+           controlList, iterationsBeforeReconnect.getValue(), runningThreads,
+           barrier, searchCounter, entryCounter, searchDurations,
+           errorCounter, rcCounter, fixedRateBarrier, asyncSemaphore);
       threads[i].start();
     }
 
@@ -0,0 +1,416 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk.examples;
+
+
+
+import java.io.Serializable;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import com.unboundid.ldap.sdk.Filter;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.PreparedSearchRequest;
+import com.unboundid.util.Debug;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.ValuePattern;
+
+
+
+/**
+ * This class provides a mechanism for representing a filter value pattern for
+ * the {@link SearchRate} tool as a template filter for use with a
+ * {@link PreparedSearchRequest}.  Each assertion value (or substring
+ * component) that contains a bracketed value pattern component will be
+ * replaced with a value slot, and a separate value pattern will be used to
+ * generate the values for that slot.  This makes it possible to avoid parsing
+ * a new filter string and re-encoding the static portions of the search
+ * request for every search.
+ * <BR><BR>
+ * Only filter patterns whose bracketed components are numeric ranges or UUIDs
+ * can be represented in this way, since those components can never generate
+ * values that would alter the structure of the resulting filter.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class SearchRateFilterTemplate
+      implements Serializable
+{
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = 6612074044431500725L;
+
+
+
+  /**
+   * The pattern that will be used to identify bracketed value pattern
+   * components that are known to generate values that will not alter the
+   * structure of a filter.
+   */
+  @NotNull private static final Pattern SUPPORTED_COMPONENT_PATTERN =
+       Pattern.compile("^(-?\\d+[:\\-]-?\\d+(x\\d+)?(%[0#.,]+)?|uuid)$");
+
+
+
+  // The template filter to use for the prepared search request.
+  @NotNull private final Filter templateFilter;
+
+  // The value patterns to use to generate the values for each of the slots.
+  @NotNull private final ValuePattern[] slotPatterns;
+
+
+
+  /**
+   * Creates a new filter template with the provided information.
+   *
+   * @param  templateFilter  The template filter to use for the prepared search
+   *                         request.
+   * @param  slotPatterns    The value patterns to use to generate the values
+   *                         for each of the slots.
+   */
+  private SearchRateFilterTemplate(@NotNull final Filter templateFilter,
+                                   @NotNull final ValuePattern[] slotPatterns)
+  {
+    this.templateFilter = templateFilter;
+    this.slotPatterns   = slotPatterns;
+  }
+
+
+
+  /**
+   * Attempts to create a filter template from the provided filter value
+   * pattern.
+   *
+   * @param  filterPattern  The filter value pattern to use.
+   *
+   * @return  The filter template that was created, or {@code null} if the
+   *          provided filter pattern cannot be represented as a template, in
+   *          which case each filter should be generated from the complete value
+   *          pattern and parsed.
+   */
+  @Nullable()
+  static SearchRateFilterTemplate create(@NotNull final String filterPattern)
+  {
+    // Escaped characters could be unescaped into bracket characters, and the
+    // slot placeholder could be mistaken for an actual slot.
+    if ((filterPattern.indexOf('\\') >= 0) ||
+         filterPattern.contains(PreparedSearchRequest.VALUE_SLOT))
+    {
+      return null;
+    }
+
+    final Filter patternFilter;
+    try
+    {
+      patternFilter = Filter.create(filterPattern);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      return null;
+    }
+
+    try
+    {
+      final List<ValuePattern> slotPatterns = new ArrayList<>(5);
+      final Filter templateFilter =
+           createTemplateFilter(patternFilter, slotPatterns);
+      if (templateFilter == null)
+      {
+        return null;
+      }
+
+      return new SearchRateFilterTemplate(templateFilter,
+           slotPatterns.toArray(new ValuePattern[slotPatterns.size()]));
+    }
+    catch (final ParseException pe)
+    {
+      Debug.debugException(pe);
+      return null;
+    }
+  }
+
+
+
+  /**
+   * Creates a copy of the provided filter in which any value that contains a
+   * bracketed value pattern component is replaced with a value slot.
+   *
+   * @param  f             The filter to examine.
+   * @param  slotPatterns  The list to which the value patterns for each of the
+   *                       slots should be added.
+   *
+   * @return  The template filter that was created, or {@code null} if the
+   *          filter cannot be represented as a template.
+   *
+   * @throws  ParseException  If a value cannot be parsed as a value pattern.
+   */
+  @Nullable()
+  private static Filter createTemplateFilter(@NotNull final Filter f,
+                             @NotNull final List<ValuePattern> slotPatterns)
+          throws ParseException
+  {
+    if ((! isStatic(f.getAttributeName())) ||
+         (! isStatic(f.getMatchingRuleID())))
+    {
+      return null;
+    }
+
+    switch (f.getFilterType())
+    {
+      case Filter.FILTER_TYPE_AND:
+      case Filter.FILTER_TYPE_OR:
+        final Filter[] comps = f.getComponents();
+        final Filter[] templateComps = new Filter[comps.length];
+        for (int i=0; i < comps.length; i++)
+        {
+          templateComps[i] = createTemplateFilter(comps[i], slotPatterns);
+          if (templateComps[i] == null)
+          {
+            return null;
+          }
+        }
+
+        if (f.getFilterType() == Filter.FILTER_TYPE_AND)
+        {
+          return Filter.createANDFilter(templateComps);
+        }
+        else
+        {
+          return Filter.createORFilter(templateComps);
+        }
+
+      case Filter.FILTER_TYPE_NOT:
+        final Filter notComp =
+             createTemplateFilter(f.getNOTComponent(), slotPatterns);
+        if (notComp == null)
+        {
+          return null;
+        }
+        return Filter.createNOTFilter(notComp);
+
+      case Filter.FILTER_TYPE_EQUALITY:
+      case Filter.FILTER_TYPE_GREATER_OR_EQUAL:
+      case Filter.FILTER_TYPE_LESS_OR_EQUAL:
+      case Filter.FILTER_TYPE_APPROXIMATE_MATCH:
+      case Filter.FILTER_TYPE_EXTENSIBLE_MATCH:
+        final String value = createTemplateValue(f.getAssertionValue(),
+             slotPatterns);
+        if (value == null)
+        {
+          return null;
+        }
+
+        switch (f.getFilterType())
+        {
+          case Filter.FILTER_TYPE_EQUALITY:
+            return Filter.createEqualityFilter(f.getAttributeName(), value);
+          case Filter.FILTER_TYPE_GREATER_OR_EQUAL:
+            return Filter.createGreaterOrEqualFilter(f.getAttributeName(),
+                 value);
+          case Filter.FILTER_TYPE_LESS_OR_EQUAL:
+            return Filter.createLessOrEqualFilter(f.getAttributeName(), value);
+          case Filter.FILTER_TYPE_APPROXIMATE_MATCH:
+            return Filter.createApproximateMatchFilter(f.getAttributeName(),
+                 value);
+          default:
+            return Filter.createExtensibleMatchFilter(f.getAttributeName(),
+                 f.getMatchingRuleID(), f.getDNAttributes(), value);
+        }
+
+      case Filter.FILTER_TYPE_SUBSTRING:
+        String subInitial = f.getSubInitialString();
+        if (subInitial != null)
+        {
+          subInitial = createTemplateValue(subInitial, slotPatterns);
+          if (subInitial == null)
+          {
+            return null;
+          }
+        }
+
+        final String[] subAny = f.getSubAnyStrings();
+        for (int i=0; i < subAny.length; i++)
+        {
+          subAny[i] = createTemplateValue(subAny[i], slotPatterns);
+          if (subAny[i] == null)
+          {
+            return null;
+          }
+        }
+
+        String subFinal = f.getSubFinalString();
+        if (subFinal != null)
+        {
+          subFinal = createTemplateValue(subFinal, slotPatterns);
+          if (subFinal == null)
+          {
+            return null;
+          }
+        }
+
+        return Filter.createSubstringFilter(f.getAttributeName(), subInitial,
+             subAny, subFinal);
+
+      case Filter.FILTER_TYPE_PRESENCE:
+      default:
+        return f;
+    }
+  }
+
+
+
+  /**
+   * Creates the template value to use in place of the provided value.
+   *
+   * @param  value         The value to examine.
+   * @param  slotPatterns  The list to which the value pattern for the value
+   *                       should be added if it is to be replaced with a value
+   *                       slot.
+   *
+   * @return  The provided value if it does not contain any value pattern
+   *          components, the value slot placeholder if it does, or
+   *          {@code null} if it contains components that are not supported.
+   *
+   * @throws  ParseException  If the value cannot be parsed as a value pattern.
+   */
+  @Nullable()
+  private static String createTemplateValue(@NotNull final String value,
+                             @NotNull final List<ValuePattern> slotPatterns)
+          throws ParseException
+  {
+    if (isStatic(value))
+    {
+      return value;
+    }
+
+    int pos = 0;
+    while (pos < value.length())
+    {
+      final char c = value.charAt(pos);
+      if (((c == '[') || (c == ']')) && ((pos + 1) < value.length()) &&
+           (value.charAt(pos + 1) == c))
+      {
+        pos += 2;
+      }
+      else if (c == '[')
+      {
+        final int closePos = value.indexOf(']', pos);
+        if ((closePos < 0) || (! SUPPORTED_COMPONENT_PATTERN.matcher(
+             value.substring(pos+1, closePos)).matches()))
+        {
+          return null;
+        }
+        pos = closePos + 1;
+      }
+      else if (c == ']')
+      {
+        return null;
+      }
+      else
+      {
+        pos++;
+      }
+    }
+
+    slotPatterns.add(new ValuePattern(value));
+    return PreparedSearchRequest.VALUE_SLOT;
+  }
+
+
+
+  /**
+   * Indicates whether the provided string is free of any characters that could
+   * be interpreted as part of a value pattern component.
+   *
+   * @param  s  The string to examine.  It may be {@code null}.
+   *
+   * @return  {@code true} if the provided string is {@code null} or does not
+   *          contain any square brackets, or {@code false} if it does.
+   */
+  private static boolean isStatic(@Nullable final String s)
+  {
+    return ((s == null) || ((s.indexOf('[') < 0) && (s.indexOf(']') < 0)));
+  }
+
+
+
+  /**
+   * Retrieves the template filter to use for the prepared search request.
+   *
+   * @return  The template filter to use for the prepared search request.
+   */
+  @NotNull()
+  Filter getTemplateFilter()
+  {
+    return templateFilter;
+  }
+
+
+
+  /**
+   * Retrieves the number of value slots in the template filter.
+   *
+   * @return  The number of value slots in the template filter.
+   */
+  int getNumValueSlots()
+  {
+    return slotPatterns.length;
+  }
+
+
+
+  /**
+   * Generates the next value for each of the slots in the template filter and
+   * stores them in the provided array.
+   *
+   * @param  values  The array in which to store the values.
+   * @param  offset  The position in the array at which to store the value for
+   *                 the first slot.
+   */
+  void nextValues(@NotNull final String[] values, final int offset)
+  {
+    for (int i=0; i < slotPatterns.length; i++)
+    {
+      values[offset + i] = slotPatterns[i].nextValue();
+    }
+  }
+}
@@ -52,6 +52,7 @@ import com.unboundid.ldap.sdk.LDAPConnection;
 import com.unboundid.ldap.sdk.LDAPException;
 import com.unboundid.ldap.sdk.LDAPURL;
 import com.unboundid.ldap.sdk.LDAPSearchException;
+import com.unboundid.ldap.sdk.PreparedSearchRequest;
 import com.unboundid.ldap.sdk.ResultCode;
 import com.unboundid.ldap.sdk.SearchRequest;
 import com.unboundid.ldap.sdk.SearchResult;
@@ -138,9 +139,17 @@ final class SearchRateThread
   // The result code counter to use for failed operations.
   @NotNull private final ResultCodeCounter rcCounter;
 
+  // The prepared search request to use to generate search requests, if the
+  // filter pattern could be represented as a template.
+  @Nullable private final PreparedSearchRequest preparedRequest;
+
   // A reference to the searchrate tool.
   @NotNull private final SearchRate searchRate;
 
+  // The template to use to generate the filter values for the prepared search
+  // request.
+  @Nullable private final SearchRateFilterTemplate filterTemplate;
+
   // The search request to generate.
   @NotNull private final SearchRequest searchRequest;
 
@@ -154,6 +163,10 @@ final class SearchRateThread
   // The set of requested attributes for search requests.
   @NotNull private final String[] attributes;
 
+  // The array used to hold the values for the slots in the prepared search
+  // request.
+  @Nullable private final String[] slotValues;
+
   // The value pattern to use for proxied authorization.
   @Nullable private final ValuePattern authzID;
 
@@ -191,6 +204,12 @@ final class SearchRateThread
    *                                    only attribute names, or with both names
    *                                    and values.
    * @param  filter                     The value pattern for the filters.
+   * @param  filterTemplate             A template representation of the
+   *                                    filter value pattern that will be used
+   *                                    to create prepared search requests.  It
+   *                                    may be {@code null} if each filter
+   *                                    should be generated from the filter
+   *                                    value pattern.
    * @param  attributes                 The set of attributes to return.
    * @param  ldapURL                    The value pattern for the LDAP URLs.
    * @param  authzID                    The value pattern to use to generate
@@ -244,6 +263,7 @@ final class SearchRateThread
                    final int sizeLimit, final int timeLimitSeconds,
                    final boolean typesOnly,
                    @NotNull final ValuePattern filter,
+                   @Nullable final SearchRateFilterTemplate filterTemplate,
                    @NotNull final String[] attributes,
                    @Nullable final ValuePattern ldapURL,
                    @Nullable final ValuePattern authzID,
@@ -269,6 +289,7 @@ final class SearchRateThread
     this.baseDN                    = baseDN;
     this.scope                     = scope;
     this.filter                    = filter;
+    this.filterTemplate            = filterTemplate;
     this.attributes                = attributes;
     this.ldapURL                   = ldapURL;
     this.authzID                   = authzID;
@@ -303,6 +324,20 @@ final class SearchRateThread
     searchRequest = new SearchRequest(this, "", scope, dereferencePolicy,
          sizeLimit, timeLimitSeconds, typesOnly,
          Filter.createPresenceFilter("objectClass"), attributes);
+
+    if ((filterTemplate == null) || (ldapURL != null))
+    {
+      preparedRequest = null;
+      slotValues      = null;
+    }
+    else
+    {
+      preparedRequest = new PreparedSearchRequest(new SearchRequest(this,
+           PreparedSearchRequest.VALUE_SLOT, scope, dereferencePolicy,
+           sizeLimit, timeLimitSeconds, typesOnly,
+           filterTemplate.getTemplateFilter(), attributes));
+      slotValues = new String[filterTemplate.getNumValueSlots() + 1];
+    }
   }
 
 
@@ -400,7 +435,13 @@ final class SearchRateThread
           try
           {
             final SearchRequest r;
-            if (ldapURL == null)
+            if (preparedRequest != null)
+            {
+              slotValues[0] = baseDN.nextValue();
+              filterTemplate.nextValues(slotValues, 1);
+              r = preparedRequest.createRequest(listener, slotValues);
+            }
+            else if (ldapURL == null)
             {
               r = new SearchRequest(listener, baseDN.nextValue(),
                    scope, searchRequest.getDereferencePolicy(),
@@ -450,7 +491,13 @@ final class SearchRateThread
         {
           try
           {
-            if (ldapURL == null)
+            if (preparedRequest != null)
+            {
+              slotValues[0] = baseDN.nextValue();
+              filterTemplate.nextValues(slotValues, 1);
+              preparedRequest.applyTo(searchRequest, slotValues);
+            }
+            else if (ldapURL == null)
             {
               searchRequest.setBaseDN(baseDN.nextValue());
               searchRequest.setFilter(filter.nextValue());
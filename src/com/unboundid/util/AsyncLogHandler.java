@@ -0,0 +1,789 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+
+
+/**
+ * This class provides a {@code java.util.logging.Handler} implementation that
+ * decouples the threads that publish log records from the destination to which
+ * those records are written.  Published records are placed in a fixed-size,
+ * lock-free buffer, and a background thread removes them in batches and
+ * writes them either to another {@code Handler} or directly to a file.  When
+ * writing to another handler, that handler will be flushed only once per
+ * batch rather than once per record.  When writing to a file, each batch will
+ * be written with a single call to the underlying file channel and then
+ * forced to the storage device, so that the cost of the sync is shared by all
+ * of the records in the batch.
+ * <BR><BR>
+ * This handler is primarily intended for use with high-volume loggers like
+ * the {@link com.unboundid.ldap.listener.AccessLogRequestHandler},
+ * {@link com.unboundid.ldap.listener.JSONAccessLogRequestHandler}, and
+ * {@link com.unboundid.ldap.sdk.JSONLDAPConnectionLogger} classes, which
+ * otherwise write each message on the thread that is processing the
+ * associated operation.  Those loggers may call the {@link #flush} method
+ * after each record, but for this handler, that method simply ensures that the
+ * background thread is aware of the new record and does not wait for it to be
+ * written.
+ * <BR><BR>
+ * If a record is published while the buffer is full, then the behavior will
+ * depend on the {@link AsyncLogHandlerOverflowPolicy} that was provided when
+ * the handler was created.  The {@link #getDroppedRecordCount} method may be
+ * used to determine how many records have been discarded as a result of that
+ * policy.
+ * <BR><BR>
+ * The {@link #close} method must be called when the handler is no longer
+ * needed.  It will wait for all records that have already been published,
+ * including those being published concurrently with the call to close, to be
+ * written, and will then close the destination handler or file.
+ * <BR>
+ * <H2>Example</H2>
+ * The following example demonstrates the process for creating an in-memory
+ * directory server that writes its access log to a file in the background:
+ * <PRE>
+ * AsyncLogHandler logHandler = new AsyncLogHandler(logFile, true,
+ *      AsyncLogHandler.DEFAULT_CAPACITY, AsyncLogHandlerOverflowPolicy.BLOCK);
+ * config.setAccessLogHandler(logHandler);
+ * </PRE>
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class AsyncLogHandler
+       extends Handler
+{
+  /**
+   * The default capacity that will be used for the buffer if none is
+   * specified.
+   */
+  public static final int DEFAULT_CAPACITY = 8192;
+
+
+
+  /**
+   * The maximum number of records that the writer thread will remove from the
+   * buffer in a single batch.
+   */
+  private static final int MAX_BATCH_SIZE = 1024;
+
+
+
+  /**
+   * The interval at which records published while the buffer is full will be
+   * retained when using the {@code SAMPLE} overflow policy.
+   */
+  private static final int SAMPLE_INTERVAL = 10;
+
+
+
+  /**
+   * The maximum length of time in nanoseconds that the writer thread will
+   * sleep while waiting for new records.
+   */
+  private static final long WRITER_PARK_NANOS =
+       TimeUnit.MILLISECONDS.toNanos(100L);
+
+
+
+  /**
+   * The length of time in nanoseconds that a publishing thread will sleep
+   * between attempts to add a record to a full buffer.
+   */
+  private static final long PUBLISHER_PARK_NANOS =
+       TimeUnit.MICROSECONDS.toNanos(100L);
+
+
+
+  // The number of records that have been discarded because the buffer was
+  // full.
+  @NotNull private final AtomicLong droppedRecordCount;
+
+  // The number of records published while the buffer was full, used for
+  // sampling.
+  @NotNull private final AtomicLong overflowCount;
+
+  // The position at which the next record will be added to the buffer.
+  @NotNull private final AtomicLong producerPosition;
+
+  // The number of records that have been removed from the buffer and written.
+  @NotNull private final AtomicLong writtenRecordCount;
+
+  // The number of threads currently in the process of publishing a record.
+  // The writer thread will not exit after the handler is closed until this is
+  // zero, so that a record that was accepted before the handler was closed is
+  // never left in the buffer.
+  @NotNull private final AtomicInteger publishersInProgress;
+
+  // The sequence numbers used to coordinate access to each buffer slot.  A slot
+  // whose sequence matches a producer position is free to be written at that
+  // position, and a slot whose sequence is one greater than a consumer position
+  // holds a record that is ready to be read from that position.
+  @NotNull private final AtomicLongArray sequences;
+
+  // The records held in the buffer.
+  @NotNull private final AtomicReferenceArray<LogRecord> records;
+
+  // The policy to use for records published while the buffer is full.
+  @NotNull private final AsyncLogHandlerOverflowPolicy overflowPolicy;
+
+  // A buffer used to hold the formatted records in a batch when writing to a
+  // file.
+  @Nullable private final ByteStringBuffer fileBuffer;
+
+  // The file channel to which records will be written, if applicable.
+  @Nullable private final FileChannel fileChannel;
+
+  // The handler to which records will be written, if applicable.
+  @Nullable private final Handler delegate;
+
+  // The number of slots in the buffer, and the mask used to map a position to
+  // a slot.
+  private final int capacity;
+  private final int mask;
+
+  // The thread used to write records.
+  @NotNull private final AsyncLogHandlerWriterThread writerThread;
+
+  // Indicates whether this handler has been closed.
+  private volatile boolean closed;
+
+  // Indicates whether the writer thread is about to sleep and needs to be
+  // woken when a new record is published.
+  private volatile boolean writerWaiting;
+
+  // The position from which the writer thread will read the next record.  It
+  // is only accessed by the writer thread.
+  private long consumerPosition;
+
+
+
+  /**
+   * Creates a new asynchronous log handler that will write records to the
+   * provided handler, using the default capacity and the {@code BLOCK}
+   * overflow policy.
+   *
+   * @param  delegate  The handler to which records will be written.  It must
+   *                   not be {@code null}.
+   */
+  public AsyncLogHandler(@NotNull final Handler delegate)
+  {
+    this(delegate, DEFAULT_CAPACITY, AsyncLogHandlerOverflowPolicy.BLOCK);
+  }
+
+
+
+  /**
+   * Creates a new asynchronous log handler that will write records to the
+   * provided handler.
+   *
+   * @param  delegate        The handler to which records will be written.  It
+   *                         must not be {@code null}.
+   * @param  capacity        The maximum number of records that may be held in
+   *                         the buffer.  It must be greater than zero, and it
+   *                         will be rounded up to the next power of two.
+   * @param  overflowPolicy  The policy to use for records published while the
+   *                         buffer is full.  It must not be {@code null}.
+   */
+  public AsyncLogHandler(@NotNull final Handler delegate, final int capacity,
+              @NotNull final AsyncLogHandlerOverflowPolicy overflowPolicy)
+  {
+    this(delegate, null, capacity, overflowPolicy);
+  }
+
+
+
+  /**
+   * Creates a new asynchronous log handler that will write records to the
+   * specified file.  Each record will be formatted with the formatter
+   * configured for this handler, or if no formatter has been configured, the
+   * record's message will be written followed by an end-of-line marker.  Each
+   * batch of records will be forced to the storage device after it has been
+   * written.
+   *
+   * @param  logFile         The file to which records will be written.  It
+   *                         must not be {@code null}.
+   * @param  append          Indicates whether to append to the file if it
+   *                         already exists rather than overwriting it.
+   * @param  capacity        The maximum number of records that may be held in
+   *                         the buffer.  It must be greater than zero, and it
+   *                         will be rounded up to the next power of two.
+   * @param  overflowPolicy  The policy to use for records published while the
+   *                         buffer is full.  It must not be {@code null}.
+   *
+   * @throws  IOException  If a problem occurs while opening the file.
+   */
+  public AsyncLogHandler(@NotNull final File logFile, final boolean append,
+              final int capacity,
+              @NotNull final AsyncLogHandlerOverflowPolicy overflowPolicy)
+         throws IOException
+  {
+    this(null, new FileOutputStream(logFile, append).getChannel(), capacity,
+         overflowPolicy);
+  }
+
+
+
+  /**
+   * Creates a new asynchronous log handler with the provided information.
+   *
+   * @param  delegate        The handler to which records will be written, or
+   *                         {@code null} if they should be written to a file.
+   * @param  fileChannel     The file channel to which records will be written,
+   *                         or {@code null} if they should be written to a
+   *                         handler.
+   * @param  capacity        The maximum number of records that may be held in
+   *                         the buffer.
+   * @param  overflowPolicy  The policy to use for records published while the
+   *                         buffer is full.
+   */
+  private AsyncLogHandler(@Nullable final Handler delegate,
+                          @Nullable final FileChannel fileChannel,
+                          final int capacity,
+                          @NotNull final AsyncLogHandlerOverflowPolicy
+                               overflowPolicy)
+  {
+    Validator.ensureTrue((delegate != null) || (fileChannel != null));
+    Validator.ensureTrue(capacity > 0,
+         "AsyncLogHandler.capacity must be greater than zero.");
+    Validator.ensureNotNull(overflowPolicy);
+
+    this.delegate = delegate;
+    this.fileChannel = fileChannel;
+    this.overflowPolicy = overflowPolicy;
+
+    int c = 1;
+    while ((c < capacity) && (c < (1 << 30)))
+    {
+      c <<= 1;
+    }
+    this.capacity = c;
+    mask = c - 1;
+
+    records = new AtomicReferenceArray<>(c);
+    sequences = new AtomicLongArray(c);
+    for (int i=0; i < c; i++)
+    {
+      sequences.set(i, i);
+    }
+
+    if (fileChannel == null)
+    {
+      fileBuffer = null;
+    }
+    else
+    {
+      fileBuffer = new ByteStringBuffer();
+    }
+
+    producerPosition = new AtomicLong(0L);
+    droppedRecordCount = new AtomicLong(0L);
+    overflowCount = new AtomicLong(0L);
+    writtenRecordCount = new AtomicLong(0L);
+    publishersInProgress = new AtomicInteger(0);
+    consumerPosition = 0L;
+    closed = false;
+    writerWaiting = false;
+
+    writerThread = new AsyncLogHandlerWriterThread(this);
+    writerThread.start();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void publish(@Nullable final LogRecord record)
+  {
+    if ((record == null) || (! isLoggable(record)))
+    {
+      return;
+    }
+
+    publishersInProgress.incrementAndGet();
+    try
+    {
+      if (! closed)
+      {
+        publishToBuffer(record);
+      }
+    }
+    finally
+    {
+      publishersInProgress.decrementAndGet();
+    }
+  }
+
+
+
+  /**
+   * Adds the provided record to the buffer, applying the overflow policy if the
+   * buffer is full.
+   *
+   * @param  record  The record to add.  It must not be {@code null}.
+   */
+  private void publishToBuffer(@NotNull final LogRecord record)
+  {
+    if (offer(record))
+    {
+      wakeWriter();
+      return;
+    }
+
+    switch (overflowPolicy)
+    {
+      case DROP:
+        droppedRecordCount.incrementAndGet();
+        return;
+
+      case SAMPLE:
+        if ((overflowCount.incrementAndGet() % SAMPLE_INTERVAL) != 0L)
+        {
+          droppedRecordCount.incrementAndGet();
+          return;
+        }
+        break;
+
+      case BLOCK:
+      default:
+        break;
+    }
+
+    while (! closed)
+    {
+      wakeWriter();
+      LockSupport.parkNanos(PUBLISHER_PARK_NANOS);
+      if (offer(record))
+      {
+        wakeWriter();
+        return;
+      }
+    }
+
+    droppedRecordCount.incrementAndGet();
+  }
+
+
+
+  /**
+   * Attempts to add the provided record to the buffer.
+   *
+   * @param  record  The record to add.  It must not be {@code null}.
+   *
+   * @return  {@code true} if the record was added, or {@code false} if the
+   *          buffer is full.
+   */
+  private boolean offer(@NotNull final LogRecord record)
+  {
+    while (true)
+    {
+      final long position = producerPosition.get();
+      final int slot = (int) (position & mask);
+      final long sequence = sequences.get(slot);
+      if (sequence == position)
+      {
+        if (producerPosition.compareAndSet(position, position + 1L))
+        {
+          records.lazySet(slot, record);
+          sequences.set(slot, position + 1L);
+          return true;
+        }
+      }
+      else if (sequence < position)
+      {
+        return false;
+      }
+    }
+  }
+
+
+
+  /**
+   * Removes the next record from the buffer.  This must only be called by the
+   * writer thread.
+   *
+   * @return  The record that was removed, or {@code null} if no record is
+   *          ready.
+   */
+  @Nullable()
+  private LogRecord poll()
+  {
+    final int slot = (int) (consumerPosition & mask);
+    if (sequences.get(slot) != (consumerPosition + 1L))
+    {
+      return null;
+    }
+
+    final LogRecord record = records.get(slot);
+    records.lazySet(slot, null);
+    sequences.set(slot, consumerPosition + capacity);
+    consumerPosition++;
+    return record;
+  }
+
+
+
+  /**
+   * Wakes the writer thread if it is waiting for new records.
+   */
+  private void wakeWriter()
+  {
+    if (writerWaiting)
+    {
+      LockSupport.unpark(writerThread);
+    }
+  }
+
+
+
+  /**
+   * Repeatedly removes batches of records from the buffer and writes them
+   * until this handler has been closed and all published records have been
+   * written.  This must only be called by the writer thread.
+   */
+  void runWriter()
+  {
+    final List<LogRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+    try
+    {
+      while (true)
+      {
+        LogRecord record = poll();
+        while (record != null)
+        {
+          batch.add(record);
+          if (batch.size() >= MAX_BATCH_SIZE)
+          {
+            break;
+          }
+
+          record = poll();
+        }
+
+        if (! batch.isEmpty())
+        {
+          writeBatch(batch);
+          batch.clear();
+          continue;
+        }
+
+        if (closed)
+        {
+          // A thread that saw the handler open may still be adding a record
+          // to the buffer.  Any thread that starts publishing after this check
+          // will see that the handler has been closed, so once there are no
+          // publishers in progress and the buffer is empty, no more records
+          // can arrive.
+          if ((publishersInProgress.get() == 0) &&
+               (producerPosition.get() == consumerPosition))
+          {
+            return;
+          }
+
+          Thread.yield();
+          continue;
+        }
+
+        writerWaiting = true;
+        if ((sequences.get((int) (consumerPosition & mask)) ==
+             (consumerPosition + 1L)) || closed)
+        {
+          writerWaiting = false;
+          continue;
+        }
+
+        LockSupport.parkNanos(WRITER_PARK_NANOS);
+        writerWaiting = false;
+      }
+    }
+    finally
+    {
+      closeDestination();
+    }
+  }
+
+
+
+  /**
+   * Writes the provided batch of records to the destination.
+   *
+   * @param  batch  The records to write.  It must not be {@code null} or
+   *                empty.
+   */
+  private void writeBatch(@NotNull final List<LogRecord> batch)
+  {
+    if (delegate != null)
+    {
+      for (final LogRecord record : batch)
+      {
+        try
+        {
+          delegate.publish(record);
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+          reportError(null, e, ErrorManager.WRITE_FAILURE);
+        }
+      }
+
+      try
+      {
+        delegate.flush();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+        reportError(null, e, ErrorManager.FLUSH_FAILURE);
+      }
+    }
+    else
+    {
+      final Formatter formatter = getFormatter();
+      fileBuffer.clear();
+      for (final LogRecord record : batch)
+      {
+        try
+        {
+          if (formatter == null)
+          {
+            fileBuffer.append(String.valueOf(record.getMessage()));
+            fileBuffer.append(StaticUtils.EOL);
+          }
+          else
+          {
+            fileBuffer.append(formatter.format(record));
+          }
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+          reportError(null, e, ErrorManager.FORMAT_FAILURE);
+        }
+      }
+
+      try
+      {
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(
+             fileBuffer.getBackingArray(), 0, fileBuffer.length());
+        while (byteBuffer.hasRemaining())
+        {
+          fileChannel.write(byteBuffer);
+        }
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+        reportError(null, e, ErrorManager.WRITE_FAILURE);
+      }
+
+      try
+      {
+        fileChannel.force(false);
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+        reportError(null, e, ErrorManager.FLUSH_FAILURE);
+      }
+    }
+
+    writtenRecordCount.addAndGet(batch.size());
+  }
+
+
+
+  /**
+   * Closes the handler or file channel to which records are written.
+   */
+  private void closeDestination()
+  {
+    try
+    {
+      if (delegate != null)
+      {
+        delegate.close();
+      }
+      else
+      {
+        fileChannel.close();
+      }
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      reportError(null, e, ErrorManager.CLOSE_FAILURE);
+    }
+  }
+
+
+
+  /**
+   * Ensures that the background writer thread is aware of any records that
+   * have been published.  This method will not wait for those records to be
+   * written.
+   */
+  @Override()
+  public void flush()
+  {
+    LockSupport.unpark(writerThread);
+  }
+
+
+
+  /**
+   * Closes this handler.  Any records that have already been published will be
+   * written before the destination handler or file is closed, and any records
+   * published after this method has been called will be discarded.
+   */
+  @Override()
+  public void close()
+  {
+    closed = true;
+    LockSupport.unpark(writerThread);
+
+    if (Thread.currentThread() == writerThread)
+    {
+      return;
+    }
+
+    boolean interrupted = false;
+    while (writerThread.isAlive())
+    {
+      try
+      {
+        writerThread.join();
+      }
+      catch (final InterruptedException e)
+      {
+        Debug.debugException(e);
+        interrupted = true;
+      }
+    }
+
+    if (interrupted)
+    {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+
+
+  /**
+   * Retrieves the maximum number of records that may be held in the buffer.
+   *
+   * @return  The maximum number of records that may be held in the buffer.
+   */
+  public int getCapacity()
+  {
+    return capacity;
+  }
+
+
+
+  /**
+   * Retrieves the policy used for records published while the buffer is full.
+   *
+   * @return  The policy used for records published while the buffer is full.
+   */
+  @NotNull()
+  public AsyncLogHandlerOverflowPolicy getOverflowPolicy()
+  {
+    return overflowPolicy;
+  }
+
+
+
+  /**
+   * Retrieves the number of records that have been discarded, either because
+   * they were published while the buffer was full and the overflow policy did
+   * not allow them to be retained, or because the handler was closed while
+   * they were waiting for room in the buffer.
+   *
+   * @return  The number of records that have been discarded.
+   */
+  public long getDroppedRecordCount()
+  {
+    return droppedRecordCount.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of records that have been removed from the buffer
+   * and written to the destination.
+   *
+   * @return  The number of records that have been written to the destination.
+   */
+  public long getWrittenRecordCount()
+  {
+    return writtenRecordCount.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of records that are currently held in the buffer
+   * waiting to be written.  The value is approximate if records are being
+   * published or written concurrently.
+   *
+   * @return  The number of records currently held in the buffer.
+   */
+  public long getPendingRecordCount()
+  {
+    return Math.max(0L, producerPosition.get() - writtenRecordCount.get());
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+/**
+ * This enum defines the behaviors that an {@link AsyncLogHandler} may exhibit
+ * when a record is published while its buffer is full.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public enum AsyncLogHandlerOverflowPolicy
+{
+  /**
+   * Indicates that the thread publishing the record should wait until there
+   * is room for it in the buffer.  No records will be lost, but a slow log
+   * destination may delay the thread that is logging the record.
+   */
+  BLOCK,
+
+
+
+  /**
+   * Indicates that the record should be discarded.  The thread publishing the
+   * record will never be delayed, but the records that are discarded will be
+   * lost.
+   */
+  DROP,
+
+
+
+  /**
+   * Indicates that one out of every ten records published while the buffer is
+   * full should be retained, waiting for room as with {@link #BLOCK}, and the
+   * rest should be discarded as with {@link #DROP}.  This preserves a sample
+   * of the records that would otherwise be lost, while only delaying a small
+   * fraction of the threads that publish them.
+   */
+  SAMPLE;
+
+
+
+  /**
+   * Retrieves the overflow policy with the specified name.
+   *
+   * @param  name  The name of the overflow policy to retrieve.  It must not be
+   *               {@code null}.
+   *
+   * @return  The requested overflow policy, or {@code null} if no such policy
+   *          is defined.
+   */
+  @Nullable()
+  public static AsyncLogHandlerOverflowPolicy forName(
+                     @NotNull final String name)
+  {
+    switch (StaticUtils.toLowerCase(name))
+    {
+      case "block":
+        return BLOCK;
+      case "drop":
+        return DROP;
+      case "sample":
+        return SAMPLE;
+      default:
+        return null;
+    }
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+/**
+ * This class defines a background thread that will be used to remove records
+ * from the buffer of an {@link AsyncLogHandler} and write them to the
+ * associated destination.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
+final class AsyncLogHandlerWriterThread
+      extends Thread
+{
+  // The handler with which this thread is associated.
+  @NotNull private final AsyncLogHandler handler;
+
+
+
+  /**
+   * Creates a new writer thread for the provided handler.
+   *
+   * @param  handler  The handler with which this thread is associated.  It
+   *                  must not be {@code null}.
+   */
+  AsyncLogHandlerWriterThread(@NotNull final AsyncLogHandler handler)
+  {
+    setName("AsyncLogHandler Writer Thread");
+    setDaemon(true);
+
+    this.handler = handler;
+  }
+
+
+
+  /**
+   * Writes records for the associated handler until it has been closed.
+   */
+  @Override()
+  public void run()
+  {
+    handler.runWriter();
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+
+/**
+ * This class provides a pool of fixed-size direct byte buffers.  Direct
+ * buffers can be passed to a channel without the JVM first copying their
+ * contents into a temporary direct buffer of its own, but they are expensive
+ * to allocate and are not promptly reclaimed by the garbage collector, so they
+ * should be reused whenever possible.
+ * <BR><BR>
+ * Each buffer obtained from the pool should be released back to it once it is
+ * no longer needed.  The pool will retain at most a configurable number of
+ * released buffers, and any others will simply be discarded.  Buffers that are
+ * not released will not cause any problems other than reducing the benefit of
+ * the pool.
+ */
+@NotMutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class DirectByteBufferPool
+{
+  /**
+   * The default size in bytes for buffers in the pool.
+   */
+  public static final int DEFAULT_BUFFER_SIZE = 65_536;
+
+
+
+  /**
+   * The default maximum number of buffers that will be retained by the pool.
+   */
+  public static final int DEFAULT_MAX_POOLED_BUFFERS = 64;
+
+
+
+  /**
+   * A pool instance with the default settings.
+   */
+  @NotNull private static final DirectByteBufferPool DEFAULT_INSTANCE =
+       new DirectByteBufferPool(DEFAULT_BUFFER_SIZE,
+            DEFAULT_MAX_POOLED_BUFFERS);
+
+
+
+  // The number of buffers currently held in the pool.
+  @NotNull private final AtomicInteger numPooledBuffers;
+
+  // The buffers currently held in the pool.
+  @NotNull private final ConcurrentLinkedQueue<ByteBuffer> buffers;
+
+  // The size in bytes for buffers in the pool.
+  private final int bufferSize;
+
+  // The maximum number of buffers that will be retained by the pool.
+  private final int maxPooledBuffers;
+
+
+
+  /**
+   * Creates a new direct byte buffer pool with the provided settings.
+   *
+   * @param  bufferSize        The size in bytes for buffers in the pool.  It
+   *                           must be greater than zero.
+   * @param  maxPooledBuffers  The maximum number of buffers that will be
+   *                           retained by the pool.  It must be greater than
+   *                           or equal to zero.
+   */
+  public DirectByteBufferPool(final int bufferSize, final int maxPooledBuffers)
+  {
+    Validator.ensureTrue((bufferSize > 0),
+         "DirectByteBufferPool.bufferSize must be greater than zero.");
+    Validator.ensureTrue((maxPooledBuffers >= 0),
+         "DirectByteBufferPool.maxPooledBuffers must not be negative.");
+
+    this.bufferSize       = bufferSize;
+    this.maxPooledBuffers = maxPooledBuffers;
+
+    buffers          = new ConcurrentLinkedQueue<>();
+    numPooledBuffers = new AtomicInteger(0);
+  }
+
+
+
+  /**
+   * Retrieves a pool instance with the default settings.
+   *
+   * @return  A pool instance with the default settings.
+   */
+  @NotNull()
+  public static DirectByteBufferPool getDefaultInstance()
+  {
+    return DEFAULT_INSTANCE;
+  }
+
+
+
+  /**
+   * Retrieves the size in bytes for buffers in the pool.
+   *
+   * @return  The size in bytes for buffers in the pool.
+   */
+  public int getBufferSize()
+  {
+    return bufferSize;
+  }
+
+
+
+  /**
+   * Retrieves the maximum number of buffers that will be retained by the pool.
+   *
+   * @return  The maximum number of buffers that will be retained by the pool.
+   */
+  public int getMaxPooledBuffers()
+  {
+    return maxPooledBuffers;
+  }
+
+
+
+  /**
+   * Retrieves the number of buffers currently held in the pool.
+   *
+   * @return  The number of buffers currently held in the pool.
+   */
+  public int getNumPooledBuffers()
+  {
+    return numPooledBuffers.get();
+  }
+
+
+
+  /**
+   * Obtains a cleared direct buffer from the pool, allocating a new one if the
+   * pool is empty.
+   *
+   * @return  The buffer that was obtained.
+   */
+  @NotNull()
+  public ByteBuffer get()
+  {
+    final ByteBuffer buffer = buffers.poll();
+    if (buffer == null)
+    {
+      return ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    numPooledBuffers.decrementAndGet();
+    buffer.clear();
+    return buffer;
+  }
+
+
+
+  /**
+   * Releases the provided buffer back to the pool.  The buffer must not be
+   * used by the caller after it has been released.  Buffers that were not
+   * obtained from this pool, and buffers released when the pool is already
+   * full, will be discarded.
+   *
+   * @param  buffer  The buffer to release.
+   */
+  public void release(@NotNull final ByteBuffer buffer)
+  {
+    if ((! buffer.isDirect()) || (buffer.capacity() != bufferSize))
+    {
+      return;
+    }
+
+    if (numPooledBuffers.incrementAndGet() > maxPooledBuffers)
+    {
+      numPooledBuffers.decrementAndGet();
+      return;
+    }
+
+    buffers.offer(buffer);
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this buffer pool.
+   *
+   * @return  A string representation of this buffer pool.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    return "DirectByteBufferPool(bufferSize=" + bufferSize +
+         ", maxPooledBuffers=" + maxPooledBuffers + ", numPooledBuffers=" +
+         numPooledBuffers.get() + ')';
+  }
+}
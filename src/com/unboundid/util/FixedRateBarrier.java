@@ -41,6 +41,8 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 
 
@@ -72,11 +74,15 @@ import java.util.logging.Level;
  * that is blocked in that method.
  * <p>
  * This class attempts to smooth out the target per interval throughout each
- * interval.  At a given ratio, R between 0 and 1, through the interval, the
- * expected number of actions to have been performed in the interval at that
- * time is R times the target per interval.  That is, 10% of the way through
- * the interval, approximately 10% of the actions have been performed, and
- * 80% of the way through the interval, 80% of the actions have been performed.
+ * interval.  Actions are released at evenly-spaced points in time (for
+ * example, one every 100 microseconds for a target of 10000 per second), which
+ * is tracked with nanosecond precision using the generic cell rate algorithm.
+ * If callers fall behind that schedule, then a limited number of actions may
+ * be released back-to-back to catch up, but no more than the burst capacity.
+ * By default, the burst capacity is ten milliseconds' worth of actions, but it
+ * may be changed with {@link #setBurstCapacity}.  Callers never need to hold a
+ * lock to pass through the barrier, so many threads can share a barrier even
+ * at very high rates.
  * <p>
  * It's possible to wait for multiple "actions" in one call with
  * {@link #await(int)}. An example use is rate limiting writing bytes out to
@@ -138,10 +144,20 @@ public final class FixedRateBarrier
 
 
 
+  /**
+   * The length of time, in milliseconds, whose worth of actions may be
+   * released in a single burst if no burst capacity has been explicitly
+   * configured.  This matches the longest time that a waiting thread will
+   * sleep, so that a thread that oversleeps can catch up with the target rate.
+   */
+  private static final long DEFAULT_BURST_MILLIS = 10L;
+
+
+
   /**
    * The serial version UID for this serializable class.
    */
-  private static final long serialVersionUID = -9048370191248737239L;
+  private static final long serialVersionUID = 6140273816834597452L;
 
 
 
@@ -150,33 +166,23 @@ public final class FixedRateBarrier
   // true.
   private volatile boolean shutdownRequested = false;
 
+  // The theoretical arrival time, in terms of System.nanoTime(), at which the
+  // most recently released action would have been performed if all actions
+  // were spaced evenly at the target rate.  A caller is released as long as
+  // the new theoretical arrival time would not be further ahead of the
+  // current time than the burst tolerance, and it is advanced with a
+  // compare-and-set so that callers never need to hold a lock.
+  @NotNull private final AtomicLong theoreticalArrivalTimeNanos;
 
-  //
-  // The following class variables are guarded by synchronized(this).
-  //
-
-  // The duration of the target interval in nano-seconds.
-  private long intervalDurationNanos;
-
-  // This tracks the number of milliseconds between each iteration if they
-  // were evenly spaced.
-  //
-  // If intervalDurationMs=1000 and perInterval=100, then this is 100.
-  // If intervalDurationMs=1000 and perInterval=10000, then this is .1.
-  private double millisBetweenIterations;
+  // The target rate, which may be shared with other barriers created with the
+  // newLinkedBarrier method.
+  @NotNull private final AtomicReference<TargetRate> targetRate;
 
-  // The target number of times to release a thread per interval.
-  private int perInterval;
-
-  // A count of the number of times that await has returned within the current
-  // interval.
-  private long countInThisInterval;
-
-  // The start of this interval in terms of System.nanoTime().
-  private long intervalStartNanos;
-
-  // The end of this interval in terms of System.nanoTime().
-  private long intervalEndNanos;
+  // The target rate that was in effect when the theoretical arrival time was
+  // last reset.  If it differs from the current target rate, then the
+  // theoretical arrival time will be reset so that the new rate takes effect
+  // immediately.
+  @Nullable private volatile TargetRate arrivalTimeRate;
 
 
 
@@ -190,37 +196,132 @@ public final class FixedRateBarrier
    */
   public FixedRateBarrier(final long intervalDurationMs, final int perInterval)
   {
-    setRate(intervalDurationMs, perInterval);
+    this(intervalDurationMs, perInterval, 0);
+  }
+
+
+
+  /**
+   * Constructs a new FixedRateBarrier with the specified burst capacity, which
+   * is active until {@link #shutdownRequested} is called.
+   *
+   * @param  intervalDurationMs  The duration of the interval in milliseconds.
+   * @param  perInterval         The target number of times that
+   *                             {@link #await} should return per interval.
+   * @param  burstCapacity       The maximum number of actions that may be
+   *                             released back-to-back without waiting after the
+   *                             barrier has been idle.  A value of zero
+   *                             indicates that the barrier should allow bursts
+   *                             of up to ten milliseconds' worth of actions.
+   */
+  public FixedRateBarrier(final long intervalDurationMs, final int perInterval,
+                          final int burstCapacity)
+  {
+    this(new AtomicReference<>(
+         new TargetRate(intervalDurationMs, perInterval, burstCapacity)));
+  }
+
+
+
+  /**
+   * Constructs a new FixedRateBarrier that will use the provided target rate.
+   *
+   * @param  targetRate  The target rate to use for this barrier.  It may be
+   *                     shared with other barriers.
+   */
+  private FixedRateBarrier(
+               @NotNull final AtomicReference<TargetRate> targetRate)
+  {
+    this.targetRate = targetRate;
+
+    theoreticalArrivalTimeNanos = new AtomicLong(0L);
+    arrivalTimeRate = null;
+  }
+
+
+
+  /**
+   * Creates a new barrier that shares the target rate of this barrier, but
+   * that keeps track of its own actions.  Any subsequent change to the rate of
+   * either barrier (for example, by a {@link RateAdjustor}) will also apply to
+   * the other.  This may be used to apply the same limit separately to each
+   * of a number of clients, while still allowing the limit for all of them to
+   * be adjusted at once.  Shutting down either barrier will not affect the
+   * other.
+   *
+   * @return  The new barrier that was created.
+   */
+  @NotNull()
+  public FixedRateBarrier newLinkedBarrier()
+  {
+    return new FixedRateBarrier(targetRate);
   }
 
 
 
   /**
    * Updates the rates associated with this FixedRateBarrier.  The new rate
-   * will be in effect when this method returns.
+   * will be in effect when this method returns.  Any configured burst capacity
+   * will be retained.
    *
    * @param  intervalDurationMs  The duration of the interval in milliseconds.
    * @param  perInterval  The target number of times that {@link #await} should
    *                      return per interval.
    */
-  public synchronized void setRate(final long intervalDurationMs,
-                                   final int perInterval)
+  public void setRate(final long intervalDurationMs, final int perInterval)
   {
-    Validator.ensureTrue(intervalDurationMs > 0,
-         "FixedRateBarrier.intervalDurationMs must be at least 1.");
-    Validator.ensureTrue(perInterval > 0,
-         "FixedRateBarrier.perInterval must be at least 1.");
+    while (true)
+    {
+      final TargetRate currentRate = targetRate.get();
+      final TargetRate newRate = new TargetRate(intervalDurationMs,
+           perInterval, currentRate.configuredBurstCapacity);
+      if (targetRate.compareAndSet(currentRate, newRate))
+      {
+        return;
+      }
+    }
+  }
 
-    this.perInterval = perInterval;
 
-    intervalDurationNanos = 1000L * 1000L * intervalDurationMs;
 
-    millisBetweenIterations = (double)intervalDurationMs/(double)perInterval;
+  /**
+   * Retrieves the maximum number of actions that may be released back-to-back
+   * without waiting after this barrier has been idle.
+   *
+   * @return  The maximum number of actions that may be released back-to-back
+   *          without waiting after this barrier has been idle.
+   */
+  public int getBurstCapacity()
+  {
+    return targetRate.get().burstCapacity;
+  }
+
 
-    // Reset the intervals and all of the counters.
-    countInThisInterval = 0;
-    intervalStartNanos = 0;
-    intervalEndNanos = 0;
+
+  /**
+   * Specifies the maximum number of actions that may be released back-to-back
+   * without waiting after this barrier has been idle.  The new burst capacity
+   * will be in effect when this method returns.
+   *
+   * @param  burstCapacity  The maximum number of actions that may be released
+   *                        back-to-back without waiting after the barrier has
+   *                        been idle.  A value of zero indicates that the
+   *                        barrier should allow bursts of up to ten
+   *                        milliseconds' worth of actions.
+   */
+  public void setBurstCapacity(final int burstCapacity)
+  {
+    while (true)
+    {
+      final TargetRate currentRate = targetRate.get();
+      final TargetRate newRate = new TargetRate(
+           currentRate.intervalDurationNanos / (1000L * 1000L),
+           currentRate.perInterval, burstCapacity);
+      if (targetRate.compareAndSet(currentRate, newRate))
+      {
+        return;
+      }
+    }
   }
 
 
@@ -234,7 +335,7 @@ public final class FixedRateBarrier
    * @return  {@code true} if shutdown has been requested and {@code} false
    *          otherwise.
    */
-  public synchronized boolean await()
+  public boolean await()
   {
     return await(1);
   }
@@ -246,16 +347,11 @@ public final class FixedRateBarrier
    * to be performed based on the specified interval duration and target per
    * interval.  To achieve the target rate, it's recommended that on average
    * {@code count} is small relative to {@code perInterval} (and the
-   * {@code count} must not be larger than {@code perInterval}).  A
-   * {@code count} value will not be split across intervals, and due to timing
-   * issues, it's possible that a {@code count} that barely fits in the
-   * current interval will need to wait until the next interval.  If it's not
-   * possible to use smaller 'count' values, then increase {@code perInterval}
-   * and {@code intervalDurationMs} by the same relative amount.  As an
-   * example, if {@code count} is on average 1/10 as big as
-   * {@code perInterval}, then you can expect to attain 90% of the target
-   * rate.  Increasing {@code perInterval} and {@code intervalDurationMs} by
-   * 10x means that 99% of the target rate can be achieved.
+   * {@code count} must not be larger than {@code perInterval}).  If
+   * {@code count} is larger than the burst capacity, then the caller will wait
+   * until the barrier has been idle long enough to accommodate all of the
+   * actions at once, which may make it harder to achieve the target rate when
+   * the barrier is shared by multiple threads.
    * <p>
    * This method can be called by multiple threads simultaneously.  This method
    * returns immediately if shutdown has been requested.
@@ -269,8 +365,9 @@ public final class FixedRateBarrier
    * @return  {@code true} if shutdown has been requested and {@code} false
    *          otherwise.
    */
-  public synchronized boolean await(final int count)
+  public boolean await(final int count)
   {
+    final int perInterval = targetRate.get().perInterval;
     if (count > perInterval)
     {
       Validator.ensureTrue(false,
@@ -288,80 +385,53 @@ public final class FixedRateBarrier
     // the next 'action' in which case we break from the loop.
     while (!shutdownRequested)
     {
+      final TargetRate rate = targetRate.get();
       final long now = System.nanoTime();
 
-      if ((intervalStartNanos == 0) ||   // Handles the first time we're called.
-          (now < intervalStartNanos))    // Handles a change in the clock.
-      {
-        intervalStartNanos = now;
-        intervalEndNanos = intervalStartNanos + intervalDurationNanos;
-      }
-      else if (now >= intervalEndNanos)  // End of an interval.
-      {
-        countInThisInterval = 0;
-
-        if (now < (intervalEndNanos + intervalDurationNanos))
-        {
-          // If we have already passed the end of the next interval, then we
-          // don't try to catch up.  Instead we just reset the start of the
-          // next interval to now.  This could happen if the system clock
-          // was set to the future, we're running in a debugger, or we have
-          // very short intervals and are unable to keep up.
-          intervalStartNanos = now;
-        }
-        else
-        {
-          // Usually we're some small fraction into the next interval, so
-          // we set the start of the current interval to the end of the
-          // previous one.
-          intervalStartNanos = intervalEndNanos;
-        }
-        intervalEndNanos = intervalStartNanos + intervalDurationNanos;
-      }
-
-      final long intervalRemaining = intervalEndNanos - now;
-      if (intervalRemaining <= 0)
+      if (rate != arrivalTimeRate)
       {
-        // This shouldn't happen, but we're careful not to divide by 0.
-        continue;
+        // This is the first time we're called, or the rate has changed.  Start
+        // over so that the new rate takes effect immediately rather than after
+        // any actions released at the old rate.
+        arrivalTimeRate = rate;
+        theoreticalArrivalTimeNanos.set(now);
       }
 
-      final double intervalFractionRemaining =
-           (double) intervalRemaining / intervalDurationNanos;
-
-      final double expectedRemaining = intervalFractionRemaining * perInterval;
-      final long actualRemaining = perInterval - countInThisInterval;
+      // If the theoretical arrival time is in the past, then fewer actions
+      // than the target have been performed recently.  We don't try to make
+      // up for more than the burst capacity, so actions are counted from now.
+      final long arrivalTime = theoreticalArrivalTimeNanos.get();
+      final long startNanos = ((arrivalTime - now) > 0L) ? arrivalTime : now;
 
-      final long countBehind =
-              (long)Math.ceil(actualRemaining - expectedRemaining);
+      final long incrementNanos =
+           (long) Math.ceil(count * rate.emissionIntervalNanos);
+      final long newArrivalTime = startNanos + incrementNanos;
+      final long toleranceNanos =
+           Math.max(rate.burstToleranceNanos, incrementNanos);
 
-      if (count <= countBehind)
+      final long waitNanos = newArrivalTime - now - toleranceNanos;
+      if (waitNanos <= 0L)
       {
         // We are on schedule or behind schedule so let the 'action(s)'
-        // happen.
-        countInThisInterval += count;
-        break;
+        // happen, unless another thread has claimed this slot first.
+        if (theoreticalArrivalTimeNanos.compareAndSet(arrivalTime,
+             newArrivalTime))
+        {
+          break;
+        }
       }
       else
       {
         // If we can sleep until it's time to leave this barrier, then do
         // so to keep from spinning on a CPU doing Thread.yield().
-
-        final long countNeeded = count - countBehind;
-        final long remainingMillis =
-             (long) Math.floor(millisBetweenIterations * countNeeded);
-
+        final long remainingMillis = waitNanos / (1000L * 1000L);
         if (remainingMillis >= minSleepMillis)
         {
-          // Cap how long we sleep so that we can respond to a change in the
-          // rate without too much delay.
           try
           {
-            // We need to wait here instead of Thread.sleep so that we don't
-            // block setRate.  Also, cap how long we sleep so that we can
-            // respond to a change in the rate without too much delay.
-            final long waitTime = Math.min(remainingMillis, 10);
-            wait(waitTime);
+            // Cap how long we sleep so that we can respond to a change in the
+            // rate without too much delay.
+            Thread.sleep(Math.min(remainingMillis, 10L));
           }
           catch (final InterruptedException e)
           {
@@ -396,11 +466,12 @@ public final class FixedRateBarrier
    * @return  Information about hte current target rate for this barrier.
    */
   @NotNull()
-  public synchronized ObjectPair<Long,Integer> getTargetRate()
+  public ObjectPair<Long,Integer> getTargetRate()
   {
+    final TargetRate rate = targetRate.get();
     return new ObjectPair<>(
-         (intervalDurationNanos / (1000L * 1000L)),
-         perInterval);
+         (rate.intervalDurationNanos / (1000L * 1000L)),
+         rate.perInterval);
   }
 
 
@@ -425,4 +496,83 @@ public final class FixedRateBarrier
   {
     return shutdownRequested;
   }
+
+
+
+  /**
+   * This class holds an immutable representation of the target rate for a
+   * barrier, so that all of its elements may be updated atomically.
+   */
+  private static final class TargetRate
+          implements Serializable
+  {
+    /**
+     * The serial version UID for this serializable class.
+     */
+    private static final long serialVersionUID = -3517407262954881390L;
+
+
+
+    // The maximum number of actions that may be released back-to-back.
+    private final int burstCapacity;
+
+    // The burst capacity that was explicitly configured, or zero if the
+    // default should be used.
+    private final int configuredBurstCapacity;
+
+    // The target number of times to release a thread per interval.
+    private final int perInterval;
+
+    // The number of nanoseconds between each action if they were evenly
+    // spaced.
+    private final double emissionIntervalNanos;
+
+    // The number of nanoseconds that the theoretical arrival time may be ahead
+    // of the current time and still allow an action to be released.
+    private final long burstToleranceNanos;
+
+    // The duration of the target interval in nano-seconds.
+    private final long intervalDurationNanos;
+
+
+
+    /**
+     * Creates a new target rate with the provided information.
+     *
+     * @param  intervalDurationMs  The duration of the interval in milliseconds.
+     * @param  perInterval         The target number of actions per interval.
+     * @param  burstCapacity       The maximum number of actions that may be
+     *                             released back-to-back, or zero to use the
+     *                             default.
+     */
+    private TargetRate(final long intervalDurationMs, final int perInterval,
+                       final int burstCapacity)
+    {
+      Validator.ensureTrue(intervalDurationMs > 0,
+           "FixedRateBarrier.intervalDurationMs must be at least 1.");
+      Validator.ensureTrue(perInterval > 0,
+           "FixedRateBarrier.perInterval must be at least 1.");
+      Validator.ensureTrue(burstCapacity >= 0,
+           "FixedRateBarrier.burstCapacity must not be negative.");
+
+      this.perInterval = perInterval;
+
+      configuredBurstCapacity = burstCapacity;
+      intervalDurationNanos = 1000L * 1000L * intervalDurationMs;
+      emissionIntervalNanos = (double) intervalDurationNanos / perInterval;
+
+      if (burstCapacity > 0)
+      {
+        this.burstCapacity = burstCapacity;
+      }
+      else
+      {
+        this.burstCapacity = (int) Math.max(1L, Math.min(perInterval,
+             (perInterval * DEFAULT_BURST_MILLIS) / intervalDurationMs));
+      }
+
+      burstToleranceNanos =
+           (long) Math.ceil(this.burstCapacity * emissionIntervalNanos);
+    }
+  }
 }
@@ -0,0 +1,630 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+
+/**
+ * This class provides a histogram that may be used to keep track of the
+ * distribution of latencies (or other non-negative values, like durations in
+ * nanoseconds) so that percentiles like the median or the 99.9th percentile can
+ * be determined.  Values are grouped into buckets using a log-linear scheme
+ * similar to the one used by HdrHistogram:  each power-of-two range is divided
+ * into 32 equally-sized sub-buckets, so that the value reported for any
+ * percentile is never more than about three percent larger than the actual
+ * recorded value.  The maximum recorded value is tracked exactly.  Values
+ * greater than or equal to 2<SUP>40</SUP> (about eighteen minutes when values
+ * are in nanoseconds) will be counted in the highest bucket.
+ * <BR><BR>
+ * Recording a value is lock-free and does not require any memory allocation,
+ * apart from a one-time allocation of the bucket array the first time a value
+ * is recorded.  This makes it suitable for use in the path of every operation.
+ * Values may be recorded by multiple threads at the same time as other threads
+ * are retrieving percentiles or snapshots, although in that case the
+ * information that is retrieved may not reflect values that are being recorded
+ * concurrently.
+ * <BR><BR>
+ * In addition to percentiles for all of the values recorded since the
+ * histogram was created (or last reset), the {@link #getIntervalSnapshot}
+ * method may be used to obtain a histogram with only the values recorded since
+ * the previous interval snapshot, which is useful for periodically reporting
+ * recent latencies.
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.MOSTLY_THREADSAFE)
+public final class LatencyHistogram
+       implements Serializable
+{
+  /**
+   * The number of bits used to identify the sub-bucket within each
+   * power-of-two range.
+   */
+  private static final int SUB_BUCKET_BITS = 5;
+
+
+
+  /**
+   * The number of sub-buckets within each power-of-two range.
+   */
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+
+
+  /**
+   * The values below which each value has its own bucket.
+   */
+  private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT << 1;
+
+
+
+  /**
+   * The position of the most significant bit for the smallest value that is
+   * not in a linear bucket.
+   */
+  private static final int MIN_LOG_BIT = SUB_BUCKET_BITS + 1;
+
+
+
+  /**
+   * The position of the most significant bit for the smallest value that will
+   * be counted in the highest bucket regardless of its actual value.
+   */
+  private static final int MAX_LOG_BIT = 40;
+
+
+
+  /**
+   * The total number of buckets in the histogram.
+   */
+  private static final int NUM_BUCKETS =
+       LINEAR_LIMIT + ((MAX_LOG_BIT - MIN_LOG_BIT) * SUB_BUCKET_COUNT);
+
+
+
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = -3123095116615995201L;
+
+
+
+  // The maximum value recorded since the last interval snapshot.
+  @NotNull private final AtomicLong intervalMaxValue;
+
+  // The maximum value recorded since the histogram was created or reset.
+  @NotNull private final AtomicLong maxValue;
+
+  // The number of values recorded in each bucket.  It will be null until the
+  // first value is recorded.
+  @Nullable private volatile AtomicLongArray counts;
+
+  // The bucket counts as of the last interval snapshot.
+  @Nullable private long[] intervalBaseCounts;
+
+
+
+  /**
+   * Creates a new empty latency histogram.
+   */
+  public LatencyHistogram()
+  {
+    counts = null;
+    intervalBaseCounts = null;
+    maxValue = new AtomicLong(0L);
+    intervalMaxValue = new AtomicLong(0L);
+  }
+
+
+
+  /**
+   * Creates a new latency histogram with the provided bucket counts.
+   *
+   * @param  counts    The number of values in each bucket.  It may be
+   *                   {@code null} if the histogram should be empty.
+   * @param  maxValue  The maximum value recorded in the histogram.
+   */
+  private LatencyHistogram(@Nullable final long[] counts, final long maxValue)
+  {
+    if (counts == null)
+    {
+      this.counts = null;
+    }
+    else
+    {
+      this.counts = new AtomicLongArray(counts);
+    }
+
+    intervalBaseCounts = null;
+    this.maxValue = new AtomicLong(maxValue);
+    intervalMaxValue = new AtomicLong(maxValue);
+  }
+
+
+
+  /**
+   * Records the provided value in this histogram.  Negative values will be
+   * treated as zero.
+   *
+   * @param  value  The value to be recorded.
+   */
+  public void record(final long value)
+  {
+    AtomicLongArray c = counts;
+    if (c == null)
+    {
+      c = createCounts();
+    }
+
+    c.incrementAndGet(getBucketIndex(value));
+    updateMax(maxValue, value);
+    updateMax(intervalMaxValue, value);
+  }
+
+
+
+  /**
+   * Retrieves the bucket count array for this histogram, creating it if it does
+   * not already exist.
+   *
+   * @return  The bucket count array for this histogram.
+   */
+  @NotNull()
+  private synchronized AtomicLongArray createCounts()
+  {
+    AtomicLongArray c = counts;
+    if (c == null)
+    {
+      c = new AtomicLongArray(NUM_BUCKETS);
+      counts = c;
+    }
+
+    return c;
+  }
+
+
+
+  /**
+   * Updates the provided maximum so that it is at least the given value.
+   *
+   * @param  max    The maximum to be updated.
+   * @param  value  The value that was recorded.
+   */
+  private static void updateMax(@NotNull final AtomicLong max,
+                                final long value)
+  {
+    long currentMax = max.get();
+    while (value > currentMax)
+    {
+      if (max.compareAndSet(currentMax, value))
+      {
+        return;
+      }
+
+      currentMax = max.get();
+    }
+  }
+
+
+
+  /**
+   * Retrieves the index of the bucket in which the provided value should be
+   * counted.
+   *
+   * @param  value  The value for which to retrieve the bucket index.
+   *
+   * @return  The index of the bucket in which the provided value should be
+   *          counted.
+   */
+  static int getBucketIndex(final long value)
+  {
+    if (value < LINEAR_LIMIT)
+    {
+      return (value <= 0L) ? 0 : (int) value;
+    }
+
+    final int logBit = 63 - Long.numberOfLeadingZeros(value);
+    if (logBit >= MAX_LOG_BIT)
+    {
+      return NUM_BUCKETS - 1;
+    }
+
+    final int shift = logBit - SUB_BUCKET_BITS;
+    final int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    return LINEAR_LIMIT + ((logBit - MIN_LOG_BIT) * SUB_BUCKET_COUNT) +
+         subBucket;
+  }
+
+
+
+  /**
+   * Retrieves the largest value that would be counted in the specified bucket.
+   *
+   * @param  bucketIndex  The index of the bucket for which to make the
+   *                      determination.
+   *
+   * @return  The largest value that would be counted in the specified bucket.
+   */
+  static long getHighestValueInBucket(final int bucketIndex)
+  {
+    if (bucketIndex < LINEAR_LIMIT)
+    {
+      return bucketIndex;
+    }
+
+    if (bucketIndex >= (NUM_BUCKETS - 1))
+    {
+      return Long.MAX_VALUE;
+    }
+
+    final int offset = bucketIndex - LINEAR_LIMIT;
+    final int shift = (offset / SUB_BUCKET_COUNT) + 1;
+    final long subBucket = SUB_BUCKET_COUNT + (offset % SUB_BUCKET_COUNT);
+    return ((subBucket + 1L) << shift) - 1L;
+  }
+
+
+
+  /**
+   * Retrieves the total number of values that have been recorded in this
+   * histogram.
+   *
+   * @return  The total number of values that have been recorded in this
+   *          histogram.
+   */
+  public long getCount()
+  {
+    final AtomicLongArray c = counts;
+    if (c == null)
+    {
+      return 0L;
+    }
+
+    long total = 0L;
+    for (int i=0; i < NUM_BUCKETS; i++)
+    {
+      total += c.get(i);
+    }
+
+    return total;
+  }
+
+
+
+  /**
+   * Retrieves the largest value that has been recorded in this histogram.
+   *
+   * @return  The largest value that has been recorded in this histogram, or
+   *          zero if no values have been recorded.
+   */
+  public long getMaxValue()
+  {
+    return maxValue.get();
+  }
+
+
+
+  /**
+   * Retrieves the value at the specified percentile.  That is, the smallest
+   * value for which at least the given percentage of the recorded values are
+   * less than or equal to it (within the precision of the histogram).
+   *
+   * @param  percentile  The percentile for which to retrieve the value.  It
+   *                     must be greater than or equal to zero and less than or
+   *                     equal to 100.
+   *
+   * @return  The value at the specified percentile, or zero if no values have
+   *          been recorded.
+   */
+  public long getValueAtPercentile(final double percentile)
+  {
+    Validator.ensureTrue(((percentile >= 0.0d) && (percentile <= 100.0d)),
+         "LatencyHistogram.getValueAtPercentile.percentile must be between " +
+              "0 and 100.");
+
+    final AtomicLongArray c = counts;
+    if (c == null)
+    {
+      return 0L;
+    }
+
+    final long[] snapshotCounts = new long[NUM_BUCKETS];
+    long total = 0L;
+    for (int i=0; i < NUM_BUCKETS; i++)
+    {
+      snapshotCounts[i] = c.get(i);
+      total += snapshotCounts[i];
+    }
+
+    return getValueAtPercentile(snapshotCounts, total, maxValue.get(),
+         percentile);
+  }
+
+
+
+  /**
+   * Retrieves the value at the specified percentile from the provided bucket
+   * counts.
+   *
+   * @param  counts      The number of values in each bucket.
+   * @param  total       The total number of values in all buckets.
+   * @param  max         The largest recorded value.
+   * @param  percentile  The percentile for which to retrieve the value.
+   *
+   * @return  The value at the specified percentile, or zero if there are no
+   *          values.
+   */
+  private static long getValueAtPercentile(@NotNull final long[] counts,
+                                           final long total, final long max,
+                                           final double percentile)
+  {
+    if (total <= 0L)
+    {
+      return 0L;
+    }
+
+    final long target =
+         Math.max(1L, (long) Math.ceil(total * percentile / 100.0d));
+    long cumulative = 0L;
+    for (int i=0; i < counts.length; i++)
+    {
+      cumulative += counts[i];
+      if (cumulative >= target)
+      {
+        return Math.min(getHighestValueInBucket(i), max);
+      }
+    }
+
+    return max;
+  }
+
+
+
+  /**
+   * Retrieves the median value (the 50th percentile).
+   *
+   * @return  The median value, or zero if no values have been recorded.
+   */
+  public long getP50()
+  {
+    return getValueAtPercentile(50.0d);
+  }
+
+
+
+  /**
+   * Retrieves the value at the 90th percentile.
+   *
+   * @return  The value at the 90th percentile, or zero if no values have been
+   *          recorded.
+   */
+  public long getP90()
+  {
+    return getValueAtPercentile(90.0d);
+  }
+
+
+
+  /**
+   * Retrieves the value at the 99th percentile.
+   *
+   * @return  The value at the 99th percentile, or zero if no values have been
+   *          recorded.
+   */
+  public long getP99()
+  {
+    return getValueAtPercentile(99.0d);
+  }
+
+
+
+  /**
+   * Retrieves the value at the 99.9th percentile.
+   *
+   * @return  The value at the 99.9th percentile, or zero if no values have been
+   *          recorded.
+   */
+  public long getP999()
+  {
+    return getValueAtPercentile(99.9d);
+  }
+
+
+
+  /**
+   * Retrieves a point-in-time copy of this histogram.  Values recorded in this
+   * histogram after the snapshot is taken will not be reflected in the
+   * snapshot, and values recorded in the snapshot will not be reflected in
+   * this histogram.
+   *
+   * @return  A point-in-time copy of this histogram.
+   */
+  @NotNull()
+  public LatencyHistogram getSnapshot()
+  {
+    return new LatencyHistogram(copyCounts(), maxValue.get());
+  }
+
+
+
+  /**
+   * Retrieves a histogram with the values that have been recorded since the
+   * last time this method was called (or since this histogram was created or
+   * last reset, if this method has not yet been called).  The maximum value
+   * for the interval snapshot may include values recorded concurrently with
+   * the previous interval snapshot.
+   *
+   * @return  A histogram with the values that have been recorded since the last
+   *          interval snapshot.
+   */
+  @NotNull()
+  public synchronized LatencyHistogram getIntervalSnapshot()
+  {
+    final long intervalMax = intervalMaxValue.getAndSet(0L);
+    final long[] currentCounts = copyCounts();
+    if (currentCounts == null)
+    {
+      return new LatencyHistogram(null, 0L);
+    }
+
+    final long[] intervalCounts = new long[NUM_BUCKETS];
+    for (int i=0; i < NUM_BUCKETS; i++)
+    {
+      if (intervalBaseCounts == null)
+      {
+        intervalCounts[i] = currentCounts[i];
+      }
+      else
+      {
+        intervalCounts[i] = currentCounts[i] - intervalBaseCounts[i];
+      }
+    }
+
+    intervalBaseCounts = currentCounts;
+    return new LatencyHistogram(intervalCounts, intervalMax);
+  }
+
+
+
+  /**
+   * Retrieves a copy of the current bucket counts.
+   *
+   * @return  A copy of the current bucket counts, or {@code null} if no values
+   *          have been recorded.
+   */
+  @Nullable()
+  private long[] copyCounts()
+  {
+    final AtomicLongArray c = counts;
+    if (c == null)
+    {
+      return null;
+    }
+
+    final long[] copy = new long[NUM_BUCKETS];
+    for (int i=0; i < NUM_BUCKETS; i++)
+    {
+      copy[i] = c.get(i);
+    }
+
+    return copy;
+  }
+
+
+
+  /**
+   * Removes all values from this histogram.  Values that are recorded
+   * concurrently with a reset may or may not be retained.
+   */
+  public synchronized void reset()
+  {
+    final AtomicLongArray c = counts;
+    if (c != null)
+    {
+      for (int i=0; i < NUM_BUCKETS; i++)
+      {
+        c.set(i, 0L);
+      }
+    }
+
+    intervalBaseCounts = null;
+    maxValue.set(0L);
+    intervalMaxValue.set(0L);
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this latency histogram.
+   *
+   * @return  A string representation of this latency histogram.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    final StringBuilder buffer = new StringBuilder();
+    toString(buffer);
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Appends a string representation of this latency histogram to the provided
+   * buffer.
+   *
+   * @param  buffer  The buffer to which the string representation should be
+   *                 appended.
+   */
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    final long[] c = copyCounts();
+    long total = 0L;
+    if (c != null)
+    {
+      for (final long l : c)
+      {
+        total += l;
+      }
+    }
+
+    final long max = maxValue.get();
+
+    buffer.append("LatencyHistogram(count=");
+    buffer.append(total);
+    if (total > 0L)
+    {
+      buffer.append(", p50=");
+      buffer.append(getValueAtPercentile(c, total, max, 50.0d));
+      buffer.append(", p90=");
+      buffer.append(getValueAtPercentile(c, total, max, 90.0d));
+      buffer.append(", p99=");
+      buffer.append(getValueAtPercentile(c, total, max, 99.0d));
+      buffer.append(", p99.9=");
+      buffer.append(getValueAtPercentile(c, total, max, 99.9d));
+      buffer.append(", max=");
+      buffer.append(max);
+    }
+
+    buffer.append(')');
+  }
+}
@@ -1436,7 +1436,10 @@ public final class RateAdjustor extends Thread
   public void shutDown()
   {
     shutDown = true;
-    sleeper.wakeup();
+
+    // Shut down the sleeper rather than just waking it up, so that the
+    // request won't be lost if the adjustor thread hasn't started sleeping.
+    sleeper.shutDown();
   }
 
 
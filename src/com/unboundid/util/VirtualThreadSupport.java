@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+
+/**
+ * This class provides a set of utility methods that make it possible for the
+ * LDAP SDK to use virtual threads when it is running on a JVM that supports
+ * them (Java 21 or later), while still allowing it to run on older JVMs.  All
+ * access to the virtual thread API is performed through reflection, so no
+ * special build or packaging is needed to take advantage of it.
+ * <BR><BR>
+ * A virtual thread that blocks while holding an object's monitor (that is,
+ * inside a {@code synchronized} block or method) cannot be unmounted from the
+ * platform thread that is carrying it.  This class also provides locks that
+ * can be used in place of synchronizing on objects that the LDAP SDK does not
+ * control (like socket factories), so that code that may run in a virtual
+ * thread can block while holding them without tying up a carrier thread.
+ */
+@InternalUseOnly()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class VirtualThreadSupport
+{
+  /**
+   * The {@code Thread.ofVirtual} method, or {@code null} if virtual threads
+   * are not available.
+   */
+  @Nullable private static final Method OF_VIRTUAL_METHOD;
+
+
+
+  /**
+   * The {@code Thread.Builder.name(String)} method, or {@code null} if virtual
+   * threads are not available.
+   */
+  @Nullable private static final Method BUILDER_NAME_METHOD;
+
+
+
+  /**
+   * The {@code Thread.Builder.start(Runnable)} method, or {@code null} if
+   * virtual threads are not available.
+   */
+  @Nullable private static final Method BUILDER_START_METHOD;
+
+
+
+  static
+  {
+    Method ofVirtualMethod = null;
+    Method builderNameMethod = null;
+    Method builderStartMethod = null;
+    try
+    {
+      ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      builderNameMethod = builderClass.getMethod("name", String.class);
+      builderStartMethod = builderClass.getMethod("start", Runnable.class);
+
+      // On JVMs where virtual threads are a preview feature, this will throw
+      // an exception unless preview features have been enabled.
+      ofVirtualMethod.invoke(null);
+    }
+    catch (final Throwable t)
+    {
+      // This is expected on JVMs that don't support virtual threads.
+      Debug.debugException(t);
+      ofVirtualMethod = null;
+      builderNameMethod = null;
+      builderStartMethod = null;
+    }
+
+    OF_VIRTUAL_METHOD = ofVirtualMethod;
+    BUILDER_NAME_METHOD = builderNameMethod;
+    BUILDER_START_METHOD = builderStartMethod;
+  }
+
+
+
+  /**
+   * The locks that have been created for use in place of object monitors.  The
+   * keys are weakly referenced so that the map will not prevent the objects
+   * from being garbage collected.  All access to the map must be synchronized
+   * on the map.
+   */
+  @NotNull private static final Map<Object,ReentrantLock> LOCKS =
+       new WeakHashMap<>(10);
+
+
+
+  /**
+   * Prevent this class from being instantiated.
+   */
+  private VirtualThreadSupport()
+  {
+    // No implementation is required.
+  }
+
+
+
+  /**
+   * Indicates whether the JVM supports virtual threads.
+   *
+   * @return  {@code true} if the JVM supports virtual threads, or
+   *          {@code false} if not.
+   */
+  public static boolean virtualThreadsAvailable()
+  {
+    return (OF_VIRTUAL_METHOD != null);
+  }
+
+
+
+  /**
+   * Creates and starts a new virtual thread that will run the provided task,
+   * if the JVM supports virtual threads.
+   *
+   * @param  name  The name to use for the thread.  It must not be
+   *               {@code null}.
+   * @param  task  The task that the thread should run.  It must not be
+   *               {@code null}.
+   *
+   * @return  The virtual thread that was started, or {@code null} if the JVM
+   *          does not support virtual threads and the caller should use a
+   *          platform thread instead.
+   */
+  @Nullable()
+  public static Thread startVirtualThread(@NotNull final String name,
+                                          @NotNull final Runnable task)
+  {
+    if (OF_VIRTUAL_METHOD == null)
+    {
+      return null;
+    }
+
+    try
+    {
+      final Object builder = OF_VIRTUAL_METHOD.invoke(null);
+      BUILDER_NAME_METHOD.invoke(builder, name);
+      return (Thread) BUILDER_START_METHOD.invoke(builder, task);
+    }
+    catch (final InvocationTargetException ite)
+    {
+      Debug.debugException(ite);
+      StaticUtils.throwErrorOrRuntimeException(ite.getCause());
+      return null;
+    }
+    catch (final Exception e)
+    {
+      // This should never happen, since the methods were all invoked
+      // successfully when this class was loaded.
+      Debug.debugException(e);
+      return null;
+    }
+  }
+
+
+
+  /**
+   * Retrieves a lock that may be used in place of synchronizing on the provided
+   * object.  The same lock will be returned for the same object for as long
+   * as that object remains reachable.  Unlike an object monitor, a virtual
+   * thread that blocks while holding the lock can be unmounted from its
+   * carrier thread.
+   *
+   * @param  o  The object for which to retrieve the lock.  It must not be
+   *            {@code null}.
+   *
+   * @return  The lock to use in place of synchronizing on the provided object.
+   */
+  @NotNull()
+  public static ReentrantLock getLock(@NotNull final Object o)
+  {
+    // The map itself is only locked long enough to look up or add the lock,
+    // which never involves blocking.
+    synchronized (LOCKS)
+    {
+      ReentrantLock lock = LOCKS.get(o);
+      if (lock == null)
+      {
+        lock = new ReentrantLock();
+        LOCKS.put(o, lock);
+      }
+
+      return lock;
+    }
+  }
+}
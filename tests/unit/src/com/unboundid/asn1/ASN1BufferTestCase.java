@@ -37,6 +37,7 @@ package com.unboundid.asn1;
 
 
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
@@ -1026,4 +1027,113 @@ public class ASN1BufferTestCase
     assertEquals(b.length(), elementBytes.length);
     assertTrue(Arrays.equals(b.toByteArray(), elementBytes));
   }
+
+
+
+  /**
+   * Tests the behavior when referencing large values rather than copying them,
+   * including values nested in sequences and sets whose lengths require
+   * different numbers of bytes to encode.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReferencedValues()
+         throws Exception
+  {
+    final byte[] smallValue = new byte[10];
+    final byte[] mediumValue = new byte[200];
+    final byte[] largeValue = new byte[70_000];
+    final byte[] hugeValue = new byte[17_000_000];
+    Arrays.fill(smallValue, (byte) 's');
+    Arrays.fill(mediumValue, (byte) 'm');
+    Arrays.fill(largeValue, (byte) 'l');
+    Arrays.fill(hugeValue, (byte) 'h');
+
+    final ASN1Buffer copying = new ASN1Buffer();
+    final ASN1Buffer referencing = new ASN1Buffer();
+    assertEquals(referencing.getMinReferencedValueLength(), 0);
+    referencing.setMinReferencedValueLength(100);
+    assertEquals(referencing.getMinReferencedValueLength(), 100);
+
+    for (final ASN1Buffer b : Arrays.asList(copying, referencing))
+    {
+      final ASN1BufferSequence outerSequence = b.beginSequence();
+      b.addInteger(1);
+      b.addOctetString(largeValue);
+
+      final ASN1BufferSequence emptySequence = b.beginSequence();
+      emptySequence.end();
+
+      final ASN1BufferSequence innerSequence = b.beginSequence((byte) 0x30);
+      b.addOctetString(mediumValue);
+      b.addOctetString((byte) 0x80, smallValue);
+
+      final ASN1BufferSet set = b.beginSet();
+      b.addElement(new ASN1OctetString(mediumValue));
+      b.addElement(new ASN1OctetString(largeValue, 5, 100));
+      b.addElement(new ASN1OctetString(smallValue));
+      set.end();
+
+      final ASN1BufferSet hugeSet = b.beginSet();
+      b.addOctetString(hugeValue);
+      hugeSet.end();
+
+      innerSequence.end();
+
+      b.addOctetString(mediumValue);
+      outerSequence.end();
+
+      b.addOctetString(largeValue);
+      b.addBoolean(true);
+    }
+
+    final byte[] expectedBytes = copying.toByteArray();
+    assertEquals(referencing.length(), expectedBytes.length);
+    assertTrue(Arrays.equals(referencing.toByteArray(), expectedBytes));
+
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    referencing.writeTo(outputStream);
+    assertTrue(Arrays.equals(outputStream.toByteArray(), expectedBytes));
+
+    final ByteBuffer byteBuffer = referencing.asByteBuffer();
+    final byte[] byteBufferBytes = new byte[byteBuffer.remaining()];
+    byteBuffer.get(byteBufferBytes);
+    assertTrue(Arrays.equals(byteBufferBytes, expectedBytes));
+
+    final ByteBuffer[] byteBuffers = referencing.asByteBuffers();
+    assertTrue(byteBuffers.length > 1);
+
+    final ByteArrayOutputStream gatheredBytes = new ByteArrayOutputStream();
+    for (final ByteBuffer bb : byteBuffers)
+    {
+      final byte[] bytes = new byte[bb.remaining()];
+      bb.get(bytes);
+      gatheredBytes.write(bytes);
+    }
+    assertTrue(Arrays.equals(gatheredBytes.toByteArray(), expectedBytes));
+
+    assertEquals(copying.asByteBuffers().length, 1);
+
+    // The encoded representation must be readable.
+    final ASN1StreamReader reader = new ASN1StreamReader(
+         new ByteArrayInputStream(expectedBytes), 0);
+    assertNotNull(reader.readElement());
+    assertTrue(Arrays.equals(reader.readBytes(), largeValue));
+    assertEquals(reader.readBoolean(), Boolean.TRUE);
+    assertNull(reader.readElement());
+
+    referencing.clear();
+    assertEquals(referencing.length(), 0);
+    assertEquals(referencing.toByteArray().length, 0);
+    assertEquals(referencing.asByteBuffers().length, 1);
+
+    referencing.addOctetString(smallValue);
+    assertEquals(referencing.asByteBuffers().length, 1);
+    assertTrue(Arrays.equals(referencing.toByteArray(),
+         new ASN1OctetString(smallValue).encode()));
+
+    referencing.setMinReferencedValueLength(-1);
+    assertEquals(referencing.getMinReferencedValueLength(), 0);
+  }
 }
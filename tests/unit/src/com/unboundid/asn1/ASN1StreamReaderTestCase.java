@@ -52,6 +52,7 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.util.ByteStringBuffer;
 import com.unboundid.util.StaticUtils;
 
 
@@ -1600,4 +1601,104 @@ public class ASN1StreamReaderTestCase
 
     reader.readUTCTime();
   }
+
+
+
+  /**
+   * Tests the behavior when reading elements with a buffer allocator, to ensure
+   * that transient buffers are obtained from and released to the allocator,
+   * but that arrays exposed to the caller are not.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReadWithBufferAllocator()
+         throws Exception
+  {
+    final Date d = new Date();
+    final ByteStringBuffer buffer = new ByteStringBuffer();
+    new ASN1OctetString("first string").encodeTo(buffer);
+    new ASN1OctetString("second string").encodeTo(buffer);
+    new ASN1GeneralizedTime(d).encodeTo(buffer);
+    new ASN1UTCTime(d).encodeTo(buffer);
+    new ASN1OctetString("octet string bytes").encodeTo(buffer);
+    new ASN1OctetString("octet string element").encodeTo(buffer);
+
+    final ThreadLocalASN1BufferPool pool = new ThreadLocalASN1BufferPool(
+         ThreadLocalASN1BufferPool.DEFAULT_MAX_POOLED_BUFFER_SIZE, 1);
+    assertEquals(pool.getNumPooledBuffersForCurrentThread(), 0);
+
+    final ASN1StreamReader reader =
+         new ASN1StreamReader(new ByteArrayInputStream(buffer.toByteArray()));
+    assertNull(reader.getBufferAllocator());
+
+    reader.setBufferAllocator(pool);
+    assertSame(reader.getBufferAllocator(), pool);
+
+    assertEquals(reader.readString(), "first string");
+    assertEquals(pool.getNumPooledBuffersForCurrentThread(), 1);
+
+    assertEquals(reader.readString(), "second string");
+    assertEquals(pool.getNumPooledBuffersForCurrentThread(), 1);
+
+    final Date generalizedTime = reader.readGeneralizedTime();
+    assertEquals(generalizedTime, d);
+    assertEquals(pool.getNumPooledBuffersForCurrentThread(), 1);
+
+    assertNotNull(reader.readUTCTime());
+    assertEquals(pool.getNumPooledBuffersForCurrentThread(), 1);
+
+    final byte[] octetStringBytes = reader.readBytes();
+    assertEquals(octetStringBytes,
+         StaticUtils.getBytes("octet string bytes"));
+    assertEquals(pool.getNumPooledBuffersForCurrentThread(), 1);
+
+    final ASN1Element element = reader.readElement();
+    assertEquals(element.getValue(),
+         StaticUtils.getBytes("octet string element"));
+    assertEquals(pool.getNumPooledBuffersForCurrentThread(), 1);
+
+    final byte[] pooledBuffer = pool.allocate(1);
+    assertNotSame(pooledBuffer, octetStringBytes);
+    assertNotSame(pooledBuffer, element.getValue());
+
+    assertNull(reader.readString());
+
+    reader.setBufferAllocator(null);
+    assertNull(reader.getBufferAllocator());
+    reader.close();
+  }
+
+
+
+  /**
+   * Tests to ensure that a buffer obtained from the allocator is released even
+   * if the end of the stream is reached while reading the element value.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testBufferReleasedWhenNotEnoughBytesForValue()
+         throws Exception
+  {
+    final byte[] elementBytes = { (byte) 0x04, (byte) 0x02, (byte) 0x00 };
+
+    final ThreadLocalASN1BufferPool pool = new ThreadLocalASN1BufferPool(
+         ThreadLocalASN1BufferPool.DEFAULT_MAX_POOLED_BUFFER_SIZE, 1);
+    final ASN1StreamReader reader =
+         new ASN1StreamReader(new ByteArrayInputStream(elementBytes));
+    reader.setBufferAllocator(pool);
+
+    try
+    {
+      reader.readString();
+      fail("Expected an exception when reading an incomplete string");
+    }
+    catch (final IOException e)
+    {
+      // This was expected.
+    }
+
+    assertEquals(pool.getNumPooledBuffersForCurrentThread(), 1);
+  }
 }
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.asn1;
+
+
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.util.LDAPSDKUsageException;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * {@code ThreadLocalASN1BufferPool} class.
+ */
+public class ThreadLocalASN1BufferPoolTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior of the default instance.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDefaultInstance()
+         throws Exception
+  {
+    final ThreadLocalASN1BufferPool pool =
+         ThreadLocalASN1BufferPool.getDefaultInstance();
+    assertNotNull(pool);
+    assertSame(ThreadLocalASN1BufferPool.getDefaultInstance(), pool);
+
+    assertEquals(pool.getMaxPooledBufferSize(),
+         ThreadLocalASN1BufferPool.DEFAULT_MAX_POOLED_BUFFER_SIZE);
+    assertEquals(pool.getMaxBuffersPerSize(),
+         ThreadLocalASN1BufferPool.DEFAULT_MAX_BUFFERS_PER_SIZE);
+    assertNotNull(pool.toString());
+  }
+
+
+
+  /**
+   * Tests to ensure that the maximum pooled buffer size is rounded up to a
+   * power of two.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMaxPooledBufferSizeRounding()
+         throws Exception
+  {
+    assertEquals(new ThreadLocalASN1BufferPool(1, 1).getMaxPooledBufferSize(),
+         64);
+    assertEquals(new ThreadLocalASN1BufferPool(64, 1).getMaxPooledBufferSize(),
+         64);
+    assertEquals(new ThreadLocalASN1BufferPool(65, 1).getMaxPooledBufferSize(),
+         128);
+    assertEquals(
+         new ThreadLocalASN1BufferPool(1000, 1).getMaxPooledBufferSize(),
+         1024);
+    assertEquals(
+         new ThreadLocalASN1BufferPool(1024, 1).getMaxPooledBufferSize(),
+         1024);
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to create a pool with invalid settings.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testInvalidSettings()
+         throws Exception
+  {
+    try
+    {
+      new ThreadLocalASN1BufferPool(0, 1);
+      fail("Expected an exception for a zero maximum pooled size");
+    }
+    catch (final LDAPSDKUsageException e)
+    {
+      // This was expected.
+    }
+
+    try
+    {
+      new ThreadLocalASN1BufferPool(Integer.MAX_VALUE, 1);
+      fail("Expected an exception for an excessive maximum pooled size");
+    }
+    catch (final LDAPSDKUsageException e)
+    {
+      // This was expected.
+    }
+
+    try
+    {
+      new ThreadLocalASN1BufferPool(1024, 0);
+      fail("Expected an exception for a zero maximum buffers per size");
+    }
+    catch (final LDAPSDKUsageException e)
+    {
+      // This was expected.
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when allocating and releasing buffers.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAllocateAndRelease()
+         throws Exception
+  {
+    final ThreadLocalASN1BufferPool pool =
+         new ThreadLocalASN1BufferPool(1024, 2);
+    assertEquals(pool.getNumPooledBuffersForCurrentThread(), 0);
+
+    final byte[] b0 = pool.allocate(0);
+    assertEquals(b0.length, 64);
+
+    final byte[] b10 = pool.allocate(10);
+    assertEquals(b10.length, 64);
+    assertNotSame(b10, b0);
+
+    final byte[] b65 = pool.allocate(65);
+    assertEquals(b65.length, 128);
+
+    final byte[] b1024 = pool.allocate(1024);
+    assertEquals(b1024.length, 1024);
+
+    final byte[] b1025 = pool.allocate(1025);
+    assertEquals(b1025.length, 1025);
+
+    assertEquals(pool.getNumPooledBuffersForCurrentThread(), 0);
+
+    pool.release(b0);
+    pool.release(b10);
+    pool.release(b65);
+    pool.release(b1024);
+    assertEquals(pool.getNumPooledBuffersForCurrentThread(), 4);
+
+    // Buffers that are too large or not a pooled size will not be retained.
+    pool.release(b1025);
+    pool.release(new byte[100]);
+    pool.release(new byte[32]);
+    pool.release(new byte[2048]);
+    assertEquals(pool.getNumPooledBuffersForCurrentThread(), 4);
+
+    // Only two buffers of each size will be retained.
+    pool.release(new byte[64]);
+    assertEquals(pool.getNumPooledBuffersForCurrentThread(), 4);
+    pool.release(new byte[128]);
+    assertEquals(pool.getNumPooledBuffersForCurrentThread(), 5);
+
+    // Allocating buffers should reuse the ones that were released, most
+    // recently released first.
+    assertSame(pool.allocate(64), b10);
+    assertSame(pool.allocate(1), b0);
+    assertSame(pool.allocate(1000), b1024);
+    assertEquals(pool.getNumPooledBuffersForCurrentThread(), 2);
+
+    final byte[] b = pool.allocate(5);
+    assertEquals(b.length, 64);
+    assertNotSame(b, b0);
+    assertNotSame(b, b10);
+  }
+
+
+
+  /**
+   * Tests to ensure that buffers released by one thread are not visible to
+   * other threads.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testBuffersAreThreadLocal()
+         throws Exception
+  {
+    final ThreadLocalASN1BufferPool pool =
+         new ThreadLocalASN1BufferPool(1024, 4);
+
+    final byte[] buffer = pool.allocate(100);
+    pool.release(buffer);
+    assertEquals(pool.getNumPooledBuffersForCurrentThread(), 1);
+
+    final AtomicReference<byte[]> otherThreadBuffer = new AtomicReference<>();
+    final AtomicReference<Integer> otherThreadCount = new AtomicReference<>();
+    final Thread t = new Thread()
+    {
+      @Override()
+      public void run()
+      {
+        otherThreadCount.set(pool.getNumPooledBuffersForCurrentThread());
+        otherThreadBuffer.set(pool.allocate(100));
+      }
+    };
+    t.start();
+    t.join();
+
+    assertEquals(otherThreadCount.get(), Integer.valueOf(0));
+    assertNotNull(otherThreadBuffer.get());
+    assertNotSame(otherThreadBuffer.get(), buffer);
+
+    assertSame(pool.allocate(100), buffer);
+  }
+}
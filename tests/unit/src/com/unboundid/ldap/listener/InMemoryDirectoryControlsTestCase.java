@@ -2284,6 +2284,210 @@ public final class InMemoryDirectoryControlsTestCase
 
 
 
+  /**
+   * Tests to ensure that paging through search results with the simple paged
+   * results control reflects changes made between pages, and that a cookie
+   * from a different search does not cause incorrect results.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSimplePagedResultsControlWithIntermediateWrites()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    final LDAPConnection conn = ds.getConnection();
+
+    for (int i=0; i < 100; i++)
+    {
+      conn.add(generateUserEntry("test." + i, "ou=People,dc=example,dc=com",
+           "Test", String.valueOf(i), "password"));
+    }
+
+    // The search will also match the test user entry.
+    final SearchRequest searchRequest = new SearchRequest("dc=example,dc=com",
+         SearchScope.SUB, "(objectClass=person)");
+    searchRequest.addControl(new SimplePagedResultsControl(10, true));
+
+    final HashSet<DN> returnedEntries = new HashSet<DN>(102);
+    int pageCount = 0;
+    while (true)
+    {
+      final SearchResult searchResult = conn.search(searchRequest);
+      assertEquals(searchResult.getResultCode(), ResultCode.SUCCESS);
+      pageCount++;
+
+      for (final SearchResultEntry e : searchResult.getSearchEntries())
+      {
+        assertTrue(returnedEntries.add(e.getParsedDN()));
+      }
+
+      // After the third page, add an entry that will be sorted after all of
+      // the entries that have already been returned.  It must be included in
+      // a subsequent page.
+      if (pageCount == 3)
+      {
+        conn.add(generateUserEntry("zzz", "ou=People,dc=example,dc=com",
+             "Test", "zzz", "password"));
+      }
+
+      final SimplePagedResultsControl pagedResultsResponse =
+           SimplePagedResultsControl.get(searchResult);
+      assertNotNull(pagedResultsResponse);
+      if (pageCount <= 3)
+      {
+        assertEquals(pagedResultsResponse.getSize(), 101);
+      }
+      else
+      {
+        assertEquals(pagedResultsResponse.getSize(), 102);
+      }
+
+      final ASN1OctetString cookie = pagedResultsResponse.getCookie();
+      if (cookie.getValueLength() == 0)
+      {
+        break;
+      }
+
+      searchRequest.setControls(new SimplePagedResultsControl(10, cookie,
+           true));
+    }
+
+    assertEquals(returnedEntries.size(), 102);
+    assertTrue(returnedEntries.contains(
+         new DN("uid=zzz,ou=People,dc=example,dc=com")));
+
+
+    // Get the cookie for the second page of one search, and use it with a
+    // different search.  The offset from the cookie should be used with the
+    // entries that match the new search.
+    searchRequest.setControls(new SimplePagedResultsControl(10, true));
+    SearchResult searchResult = conn.search(searchRequest);
+    final ASN1OctetString cookie =
+         SimplePagedResultsControl.get(searchResult).getCookie();
+
+    final SearchRequest otherRequest = new SearchRequest("dc=example,dc=com",
+         SearchScope.SUB, "(sn=1*)");
+    final int totalMatching = conn.search(otherRequest).getEntryCount();
+    assertEquals(totalMatching, 11);
+
+    otherRequest.setControls(new SimplePagedResultsControl(10, cookie, true));
+    searchResult = conn.search(otherRequest);
+    assertEquals(searchResult.getEntryCount(), 1);
+    assertEquals(SimplePagedResultsControl.get(searchResult).getSize(), 11);
+
+    conn.close();
+  }
+
+
+
+  /**
+   * Tests to ensure that the context ID returned in a virtual list view
+   * response control can be used in subsequent requests, and that the results
+   * of those requests reflect changes made in the meantime.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testVirtualListViewControlWithContextID()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    final LDAPConnection conn = ds.getConnection();
+
+    for (int i=0; i < 100; i++)
+    {
+      final String snValue;
+      if (i < 10)
+      {
+        snValue = "0" + i;
+      }
+      else
+      {
+        snValue = String.valueOf(i);
+      }
+
+      conn.add(generateUserEntry("test." + snValue,
+           "ou=People,dc=example,dc=com", "Test", snValue, "password"));
+    }
+
+    // The search will also match the test user entry, which will be sorted
+    // at the end of the list.
+    final SearchRequest searchRequest = new SearchRequest("dc=example,dc=com",
+         SearchScope.SUB, "(objectClass=person)");
+    final ServerSideSortRequestControl sortControl =
+         new ServerSideSortRequestControl(true, new SortKey("sn"));
+
+
+    // Get the first ten entries and the context ID for the result list.
+    searchRequest.setControls(sortControl,
+         new VirtualListViewRequestControl(1, 0, 9, 0, null));
+    SearchResult searchResult = conn.search(searchRequest);
+    assertEquals(searchResult.getEntryCount(), 10);
+    assertEquals(searchResult.getSearchEntries().get(0).getParsedDN(),
+         new DN("uid=test.00,ou=People,dc=example,dc=com"));
+
+    VirtualListViewResponseControl vlvResponse =
+         VirtualListViewResponseControl.get(searchResult);
+    assertEquals(vlvResponse.getContentCount(), 101);
+    final ASN1OctetString contextID = vlvResponse.getContextID();
+    assertNotNull(contextID);
+
+
+    // Use the context ID to get another portion of the list, both by offset
+    // and by assertion value.
+    searchRequest.setControls(sortControl,
+         new VirtualListViewRequestControl(51, 0, 4, 100, contextID));
+    searchResult = conn.search(searchRequest);
+    assertEquals(searchResult.getEntryCount(), 5);
+    assertEquals(searchResult.getSearchEntries().get(0).getParsedDN(),
+         new DN("uid=test.50,ou=People,dc=example,dc=com"));
+
+    vlvResponse = VirtualListViewResponseControl.get(searchResult);
+    assertEquals(vlvResponse.getTargetPosition(), 51);
+    assertEquals(vlvResponse.getContentCount(), 101);
+    assertEquals(vlvResponse.getContextID(), contextID);
+
+    searchRequest.setControls(sortControl,
+         new VirtualListViewRequestControl("75", 1, 1, contextID));
+    searchResult = conn.search(searchRequest);
+    assertEquals(searchResult.getEntryCount(), 3);
+    assertEquals(searchResult.getSearchEntries().get(1).getParsedDN(),
+         new DN("uid=test.75,ou=People,dc=example,dc=com"));
+
+
+    // Add an entry that will be sorted at the beginning of the list.  A
+    // request with the old context ID should reflect the change.
+    conn.add(generateUserEntry("test.first", "ou=People,dc=example,dc=com",
+         "Test", "0", "password"));
+
+    searchRequest.setControls(sortControl,
+         new VirtualListViewRequestControl(1, 0, 1, 0, contextID));
+    searchResult = conn.search(searchRequest);
+    assertEquals(searchResult.getEntryCount(), 2);
+    assertEquals(searchResult.getSearchEntries().get(0).getParsedDN(),
+         new DN("uid=test.first,ou=People,dc=example,dc=com"));
+
+    vlvResponse = VirtualListViewResponseControl.get(searchResult);
+    assertEquals(vlvResponse.getContentCount(), 102);
+    assertNotNull(vlvResponse.getContextID());
+    assertFalse(vlvResponse.getContextID().equals(contextID));
+
+
+    // A context ID that was not created by the server should be ignored.
+    searchRequest.setControls(sortControl,
+         new VirtualListViewRequestControl(1, 0, 1, 0,
+              new ASN1OctetString("not a cursor ID")));
+    searchResult = conn.search(searchRequest);
+    assertEquals(searchResult.getEntryCount(), 2);
+
+    conn.close();
+  }
+
+
+
   /**
    * Provides test coverage for the subentries request control as described in
    * draft-ietf-ldup-subentry.
@@ -2766,7 +2970,7 @@ public final class InMemoryDirectoryControlsTestCase
     assertEquals(vlvResponse.getResultCode(), ResultCode.SUCCESS);
     assertEquals(vlvResponse.getContentCount(), 100);
     assertEquals(vlvResponse.getTargetPosition(), 1);
-    assertNull(vlvResponse.getContextID());
+    assertNotNull(vlvResponse.getContextID());
 
 
     // Use VLV to retrieve entries from the beginning of the list, with the
@@ -2801,7 +3005,7 @@ public final class InMemoryDirectoryControlsTestCase
     assertEquals(vlvResponse.getResultCode(), ResultCode.SUCCESS);
     assertEquals(vlvResponse.getContentCount(), 100);
     assertEquals(vlvResponse.getTargetPosition(), 3);
-    assertNull(vlvResponse.getContextID());
+    assertNotNull(vlvResponse.getContextID());
 
 
     // Use VLV to retrieve entries from near the end of the list, with the after
@@ -2838,7 +3042,7 @@ public final class InMemoryDirectoryControlsTestCase
     assertEquals(vlvResponse.getResultCode(), ResultCode.SUCCESS);
     assertEquals(vlvResponse.getContentCount(), 100);
     assertEquals(vlvResponse.getTargetPosition(), 95);
-    assertNull(vlvResponse.getContextID());
+    assertNotNull(vlvResponse.getContextID());
 
 
     // Use VLV with an offset beyond the end of the list and no before count.
@@ -2858,7 +3062,7 @@ public final class InMemoryDirectoryControlsTestCase
     assertEquals(vlvResponse.getResultCode(), ResultCode.SUCCESS);
     assertEquals(vlvResponse.getContentCount(), 100);
     assertEquals(vlvResponse.getTargetPosition(), 101);
-    assertNull(vlvResponse.getContextID());
+    assertNotNull(vlvResponse.getContextID());
 
 
     // Use VLV with an assertion value in the middle of the list and the entire
@@ -2899,7 +3103,7 @@ public final class InMemoryDirectoryControlsTestCase
     assertEquals(vlvResponse.getResultCode(), ResultCode.SUCCESS);
     assertEquals(vlvResponse.getContentCount(), 100);
     assertEquals(vlvResponse.getTargetPosition(), 46);
-    assertNull(vlvResponse.getContextID());
+    assertNotNull(vlvResponse.getContextID());
 
 
     // Use VLV with an assertion value in the middle of the list and the before
@@ -2934,7 +3138,7 @@ public final class InMemoryDirectoryControlsTestCase
     assertEquals(vlvResponse.getResultCode(), ResultCode.SUCCESS);
     assertEquals(vlvResponse.getContentCount(), 100);
     assertEquals(vlvResponse.getTargetPosition(), 4);
-    assertNull(vlvResponse.getContextID());
+    assertNotNull(vlvResponse.getContextID());
 
 
     // Use VLV with an assertion value before the beginning of the list.
@@ -2966,7 +3170,7 @@ public final class InMemoryDirectoryControlsTestCase
     assertEquals(vlvResponse.getResultCode(), ResultCode.SUCCESS);
     assertEquals(vlvResponse.getContentCount(), 100);
     assertEquals(vlvResponse.getTargetPosition(), 1);
-    assertNull(vlvResponse.getContextID());
+    assertNotNull(vlvResponse.getContextID());
 
 
     // Use VLV with an assertion value beyond the end of the list.
@@ -2986,7 +3190,7 @@ public final class InMemoryDirectoryControlsTestCase
     assertEquals(vlvResponse.getResultCode(), ResultCode.SUCCESS);
     assertEquals(vlvResponse.getContentCount(), 100);
     assertEquals(vlvResponse.getTargetPosition(), 101);
-    assertNull(vlvResponse.getContextID());
+    assertNotNull(vlvResponse.getContextID());
 
 
     conn.close();
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * InMemoryDirectoryServerBitmap class.
+ */
+public final class InMemoryDirectoryServerBitmapTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior of an empty bitmap.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testEmptyBitmap()
+         throws Exception
+  {
+    final InMemoryDirectoryServerBitmap b = new InMemoryDirectoryServerBitmap();
+    assertTrue(b.isEmpty());
+    assertEquals(b.size(), 0);
+    assertEquals(b.toArray().length, 0);
+    assertFalse(b.contains(0));
+    assertFalse(b.remove(0));
+    assertNotNull(b.toString());
+
+    assertTrue(b.and(b).isEmpty());
+    assertTrue(b.or(b).isEmpty());
+    assertTrue(b.andNot(b).isEmpty());
+    assertEquals(b, new InMemoryDirectoryServerBitmap());
+  }
+
+
+
+  /**
+   * Tests adding and removing values in multiple chunks, including enough
+   * values in a single chunk to require conversion between array and bit set
+   * containers.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAddAndRemove()
+         throws Exception
+  {
+    final InMemoryDirectoryServerBitmap b = new InMemoryDirectoryServerBitmap();
+    final TreeSet<Integer> expected = new TreeSet<>();
+
+    final int denseCount =
+         InMemoryDirectoryServerBitmap.MAX_ARRAY_CONTAINER_SIZE + 100;
+    for (int i=0; i < denseCount; i++)
+    {
+      assertTrue(b.add(i));
+      expected.add(i);
+    }
+    assertFalse(b.add(0));
+
+    for (final int i : new int[] { 70000, 65536, 1_000_000, 5_000_000 })
+    {
+      assertTrue(b.add(i));
+      expected.add(i);
+    }
+
+    assertBitmapEquals(b, expected);
+
+    for (int i=0; i < denseCount; i += 2)
+    {
+      assertTrue(b.remove(i));
+      expected.remove(i);
+    }
+    assertFalse(b.remove(0));
+    assertFalse(b.remove(123_456));
+
+    assertBitmapEquals(b, expected);
+
+    assertTrue(b.remove(1_000_000));
+    expected.remove(1_000_000);
+    assertBitmapEquals(b, expected);
+
+    b.clear();
+    assertTrue(b.isEmpty());
+    assertFalse(b.contains(1));
+  }
+
+
+
+  /**
+   * Tests the set operations with randomly-generated bitmaps of varying
+   * density.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSetOperations()
+         throws Exception
+  {
+    final Random random = new Random(12345L);
+    for (final int range : new int[] { 100, 20_000, 300_000 })
+    {
+      for (final int count : new int[] { 10, 5_000, 15_000 })
+      {
+        final TreeSet<Integer> s1 = new TreeSet<>();
+        final TreeSet<Integer> s2 = new TreeSet<>();
+        final InMemoryDirectoryServerBitmap b1 =
+             new InMemoryDirectoryServerBitmap();
+        final InMemoryDirectoryServerBitmap b2 =
+             new InMemoryDirectoryServerBitmap();
+        for (int i=0; i < count; i++)
+        {
+          final int v1 = random.nextInt(range);
+          s1.add(v1);
+          b1.add(v1);
+
+          final int v2 = random.nextInt(range);
+          s2.add(v2);
+          b2.add(v2);
+        }
+
+        assertBitmapEquals(b1, s1);
+        assertBitmapEquals(b2, s2);
+
+        final TreeSet<Integer> and = new TreeSet<>(s1);
+        and.retainAll(s2);
+        assertBitmapEquals(b1.and(b2), and);
+        assertBitmapEquals(b2.and(b1), and);
+
+        final TreeSet<Integer> or = new TreeSet<>(s1);
+        or.addAll(s2);
+        assertBitmapEquals(b1.or(b2), or);
+        assertBitmapEquals(b2.or(b1), or);
+
+        final TreeSet<Integer> andNot = new TreeSet<>(s1);
+        andNot.removeAll(s2);
+        assertBitmapEquals(b1.andNot(b2), andNot);
+
+        // The operations must not have altered the original bitmaps.
+        assertBitmapEquals(b1, s1);
+        assertBitmapEquals(b2, s2);
+
+        final InMemoryDirectoryServerBitmap copy =
+             new InMemoryDirectoryServerBitmap(b1);
+        assertEquals(copy, b1);
+        assertEquals(copy.hashCode(), b1.hashCode());
+
+        copy.retainAll(b2);
+        assertBitmapEquals(copy, and);
+
+        copy.addAll(b1);
+        assertBitmapEquals(copy, s1);
+        assertBitmapEquals(b1, s1);
+      }
+    }
+  }
+
+
+
+  /**
+   * Asserts that the provided bitmap contains exactly the values in the
+   * provided set.
+   *
+   * @param  b  The bitmap to examine.
+   * @param  s  The set of expected values.
+   *
+   * @throws  AssertionError  If the bitmap does not contain exactly the
+   *                          expected values.
+   */
+  private static void assertBitmapEquals(final InMemoryDirectoryServerBitmap b,
+                                         final TreeSet<Integer> s)
+          throws AssertionError
+  {
+    assertEquals(b.size(), s.size());
+    assertEquals(b.isEmpty(), s.isEmpty());
+
+    final int[] expected = new int[s.size()];
+    int pos = 0;
+    for (final Integer i : s)
+    {
+      expected[pos++] = i;
+    }
+
+    final int[] actual = b.toArray();
+    assertTrue(Arrays.equals(actual, expected));
+    for (final int i : expected)
+    {
+      assertTrue(b.contains(i));
+    }
+  }
+}
@@ -39,6 +39,7 @@ package com.unboundid.ldap.listener;
 
 import java.io.File;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
 
@@ -1130,6 +1131,70 @@ public final class InMemoryDirectoryServerConfigTestCase
 
 
 
+  /**
+   * Provides test coverage for the methods that can be used to get and set
+   * the presence, substring, and ordering index attributes.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPresenceSubstringAndOrderingIndexAttributes()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+
+    assertNotNull(cfg.getPresenceIndexAttributes());
+    assertTrue(cfg.getPresenceIndexAttributes().isEmpty());
+    assertNotNull(cfg.getSubstringIndexAttributes());
+    assertTrue(cfg.getSubstringIndexAttributes().isEmpty());
+    assertNotNull(cfg.getOrderingIndexAttributes());
+    assertTrue(cfg.getOrderingIndexAttributes().isEmpty());
+
+    cfg.setPresenceIndexAttributes("mail");
+    cfg.setSubstringIndexAttributes("cn", "sn");
+    cfg.setOrderingIndexAttributes("createTimestamp", "uidNumber",
+         "gidNumber");
+    assertEquals(cfg.getPresenceIndexAttributes().size(), 1);
+    assertTrue(cfg.getPresenceIndexAttributes().contains("mail"));
+    assertEquals(cfg.getSubstringIndexAttributes().size(), 2);
+    assertTrue(cfg.getSubstringIndexAttributes().contains("cn"));
+    assertTrue(cfg.getSubstringIndexAttributes().contains("sn"));
+    assertEquals(cfg.getOrderingIndexAttributes().size(), 3);
+    assertTrue(cfg.getOrderingIndexAttributes().contains("createTimestamp"));
+    assertTrue(cfg.getOrderingIndexAttributes().contains("uidNumber"));
+    assertTrue(cfg.getOrderingIndexAttributes().contains("gidNumber"));
+
+    final String cfgString = cfg.toString();
+    assertTrue(cfgString.contains("presenceIndexAttributes={'mail'}"));
+    assertTrue(cfgString.contains("substringIndexAttributes={'cn', 'sn'}"));
+    assertTrue(cfgString.contains("orderingIndexAttributes={"));
+
+    final InMemoryDirectoryServerConfig copy =
+         new InMemoryDirectoryServerConfig(cfg);
+    assertEquals(copy.getPresenceIndexAttributes(),
+         cfg.getPresenceIndexAttributes());
+    assertEquals(copy.getSubstringIndexAttributes(),
+         cfg.getSubstringIndexAttributes());
+    assertEquals(copy.getOrderingIndexAttributes(),
+         cfg.getOrderingIndexAttributes());
+
+    cfg.setPresenceIndexAttributes((String[]) null);
+    cfg.setSubstringIndexAttributes((Collection<String>) null);
+    cfg.setOrderingIndexAttributes();
+    assertTrue(cfg.getPresenceIndexAttributes().isEmpty());
+    assertTrue(cfg.getSubstringIndexAttributes().isEmpty());
+    assertTrue(cfg.getOrderingIndexAttributes().isEmpty());
+
+    assertFalse(copy.getPresenceIndexAttributes().isEmpty());
+    assertFalse(copy.getSubstringIndexAttributes().isEmpty());
+    assertFalse(copy.getOrderingIndexAttributes().isEmpty());
+
+    assertNotNull(cfg.toString());
+  }
+
+
+
   /**
    * Tests the behavior of the methods for interacting with the referential
    * integrity attributes.
@@ -0,0 +1,484 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServerEntryMap.ReadView;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerEntryMap.WriteLock;
+import com.unboundid.ldap.sdk.Attribute;
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.ReadOnlyEntry;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * InMemoryDirectoryServerEntryMap class.
+ */
+public final class InMemoryDirectoryServerEntryMapTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior of an empty map.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testEmptyMap()
+         throws Exception
+  {
+    final InMemoryDirectoryServerEntryMap map =
+         new InMemoryDirectoryServerEntryMap();
+
+    final DN dn = new DN("dc=example,dc=com");
+    assertTrue(map.isEmpty());
+    assertEquals(map.size(), 0);
+    assertNull(map.get(dn));
+    assertNull(map.get(null));
+    assertFalse(map.containsKey(dn));
+    assertFalse(map.existsInLatestVersion(dn));
+    assertFalse(map.entrySet().iterator().hasNext());
+    assertTrue(map.getDNsChangedSinceReadVersion().isEmpty());
+    assertEquals(map.getRetainedVersionCount(dn), 0);
+
+    try (ReadView readView = map.openReadView())
+    {
+      readView.avoidCompilerWarning();
+
+      assertTrue(map.isEmpty());
+      assertNull(map.get(dn));
+      assertTrue(map.getDNsChangedSinceReadVersion().isEmpty());
+    }
+  }
+
+
+
+  /**
+   * Tests that changes cannot be made without holding the write lock.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testChangesRequireWriteLock()
+         throws Exception
+  {
+    final InMemoryDirectoryServerEntryMap map =
+         new InMemoryDirectoryServerEntryMap();
+
+    final DN dn = new DN("dc=example,dc=com");
+    try
+    {
+      map.put(dn, createEntry(dn, "1"));
+      fail("Expected an exception when adding without the write lock");
+    }
+    catch (final IllegalStateException e)
+    {
+      // This was expected.
+    }
+
+    try (WriteLock writeLock = map.lockWrite())
+    {
+      writeLock.avoidCompilerWarning();
+      assertNull(map.put(dn, createEntry(dn, "1")));
+    }
+
+    try
+    {
+      map.remove(dn);
+      fail("Expected an exception when removing without the write lock");
+    }
+    catch (final IllegalStateException e)
+    {
+      // This was expected.
+    }
+
+    assertTrue(map.containsKey(dn));
+    assertNull(map.remove("not a DN"));
+  }
+
+
+
+  /**
+   * Tests the basic put, get, and remove behavior without any read views.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPutAndRemove()
+         throws Exception
+  {
+    final InMemoryDirectoryServerEntryMap map =
+         new InMemoryDirectoryServerEntryMap();
+
+    final DN base = new DN("dc=example,dc=com");
+    final DN people = new DN("ou=People,dc=example,dc=com");
+    final DN groups = new DN("ou=Groups,dc=example,dc=com");
+
+    try (WriteLock writeLock = map.lockWrite())
+    {
+      writeLock.avoidCompilerWarning();
+
+      assertNull(map.put(people, createEntry(people, "1")));
+      assertNull(map.put(base, createEntry(base, "1")));
+      assertNull(map.put(groups, createEntry(groups, "1")));
+      assertEquals(map.size(), 3);
+
+      // Changes made by the lock holder are visible to it immediately.
+      final ReadOnlyEntry replaced = map.put(people, createEntry(people, "2"));
+      assertNotNull(replaced);
+      assertEquals(replaced.getAttributeValue("description"), "1");
+      assertEquals(map.get(people).getAttributeValue("description"), "2");
+      assertEquals(map.size(), 3);
+
+      assertNotNull(map.remove(groups));
+      assertNull(map.remove(groups));
+      assertEquals(map.size(), 2);
+    }
+
+    assertEquals(map.size(), 2);
+    assertEquals(getDNs(map), Arrays.asList(base, people));
+    assertEquals(map.get(people).getAttributeValue("description"), "2");
+    assertFalse(map.containsKey(groups));
+
+    // Only the latest version of each entry is needed when there are no open
+    // read views, and removed entries are discarded entirely.
+    assertEquals(map.getRetainedVersionCount(base), 1);
+    assertEquals(map.getRetainedVersionCount(people), 1);
+    assertEquals(map.getRetainedVersionCount(groups), 0);
+
+    try (WriteLock writeLock = map.lockWrite())
+    {
+      writeLock.avoidCompilerWarning();
+      map.clear();
+      assertTrue(map.isEmpty());
+    }
+
+    assertTrue(map.isEmpty());
+    assertFalse(map.entrySet().iterator().hasNext());
+    assertEquals(map.getRetainedVersionCount(base), 0);
+  }
+
+
+
+  /**
+   * Tests that a read view continues to see the version that was committed
+   * when it was opened, even after later changes are committed.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReadViewVersionIsolation()
+         throws Exception
+  {
+    final InMemoryDirectoryServerEntryMap map =
+         new InMemoryDirectoryServerEntryMap();
+
+    final DN base = new DN("dc=example,dc=com");
+    final DN people = new DN("ou=People,dc=example,dc=com");
+    final DN groups = new DN("ou=Groups,dc=example,dc=com");
+
+    try (WriteLock writeLock = map.lockWrite())
+    {
+      writeLock.avoidCompilerWarning();
+      map.put(base, createEntry(base, "1"));
+      map.put(people, createEntry(people, "1"));
+    }
+
+    try (ReadView readView = map.openReadView())
+    {
+      readView.avoidCompilerWarning();
+
+      // Make changes while the view is open.  The lock holder sees its own
+      // changes even though it also has an open read view.
+      try (WriteLock writeLock = map.lockWrite())
+      {
+        writeLock.avoidCompilerWarning();
+        map.put(people, createEntry(people, "2"));
+        map.put(groups, createEntry(groups, "1"));
+        map.remove(base);
+
+        assertEquals(map.size(), 2);
+        assertEquals(getDNs(map), Arrays.asList(groups, people));
+        assertTrue(map.getDNsChangedSinceReadVersion().isEmpty());
+      }
+
+      // Once the lock is released, the view should still see the old
+      // version.
+      assertEquals(map.size(), 2);
+      assertEquals(getDNs(map), Arrays.asList(base, people));
+      assertEquals(map.get(people).getAttributeValue("description"), "1");
+      assertTrue(map.containsKey(base));
+      assertFalse(map.containsKey(groups));
+      assertFalse(map.existsInLatestVersion(base));
+      assertTrue(map.existsInLatestVersion(groups));
+
+      assertEquals(map.getDNsChangedSinceReadVersion(),
+           new HashSet<>(Arrays.asList(base, people, groups)));
+
+      // Older versions must be retained for as long as the view is open.
+      assertEquals(map.getRetainedVersionCount(base), 2);
+      assertEquals(map.getRetainedVersionCount(people), 2);
+      assertEquals(map.getRetainedVersionCount(groups), 1);
+
+      // A nested view should continue to use the same version, and closing
+      // it should not close the outer view.
+      try (ReadView nestedView = map.openReadView())
+      {
+        assertSame(nestedView, readView);
+        assertEquals(map.get(people).getAttributeValue("description"), "1");
+      }
+
+      assertEquals(map.get(people).getAttributeValue("description"), "1");
+    }
+
+    // Without a view, the latest version should be visible.
+    assertEquals(map.size(), 2);
+    assertEquals(getDNs(map), Arrays.asList(groups, people));
+    assertEquals(map.get(people).getAttributeValue("description"), "2");
+    assertTrue(map.getDNsChangedSinceReadVersion().isEmpty());
+
+    // The old versions are discarded the next time changes are committed.
+    try (WriteLock writeLock = map.lockWrite())
+    {
+      writeLock.avoidCompilerWarning();
+      map.put(groups, createEntry(groups, "2"));
+    }
+
+    assertEquals(map.getRetainedVersionCount(base), 0);
+    assertEquals(map.getRetainedVersionCount(people), 1);
+    assertEquals(map.getRetainedVersionCount(groups), 1);
+  }
+
+
+
+  /**
+   * Tests that all of the changes made while the write lock is held, including
+   * reentrant acquisitions, are committed as a single version.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReentrantWriteLockCommitsOnce()
+         throws Exception
+  {
+    final InMemoryDirectoryServerEntryMap map =
+         new InMemoryDirectoryServerEntryMap();
+
+    final DN base = new DN("dc=example,dc=com");
+    final DN people = new DN("ou=People,dc=example,dc=com");
+
+    final AtomicReference<List<DN>> visibleDNs = new AtomicReference<>();
+    try (WriteLock outerLock = map.lockWrite())
+    {
+      outerLock.avoidCompilerWarning();
+      map.put(base, createEntry(base, "1"));
+
+      try (WriteLock innerLock = map.lockWrite())
+      {
+        innerLock.avoidCompilerWarning();
+        map.put(people, createEntry(people, "1"));
+
+        // The same entry changed twice in one version should only leave a
+        // single version behind.
+        map.put(people, createEntry(people, "2"));
+      }
+
+      // Another thread must not see any of the changes yet.
+      final Thread t = new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          try (ReadView readView = map.openReadView())
+          {
+            readView.avoidCompilerWarning();
+            visibleDNs.set(getDNs(map));
+          }
+        }
+      };
+      t.start();
+      t.join();
+      assertEquals(visibleDNs.get(), Collections.<DN>emptyList());
+    }
+
+    assertEquals(getDNs(map), Arrays.asList(base, people));
+    assertEquals(map.getRetainedVersionCount(people), 1);
+    assertEquals(map.get(people).getAttributeValue("description"), "2");
+  }
+
+
+
+  /**
+   * Tests that a reader in another thread can proceed while a writer holds the
+   * lock, and that it sees a consistent version throughout.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConcurrentReaderAndWriter()
+         throws Exception
+  {
+    final InMemoryDirectoryServerEntryMap map =
+         new InMemoryDirectoryServerEntryMap();
+
+    final List<DN> dns = new ArrayList<>();
+    try (WriteLock writeLock = map.lockWrite())
+    {
+      writeLock.avoidCompilerWarning();
+      for (int i=0; i < 100; i++)
+      {
+        final DN dn = new DN("uid=user." + i + ",dc=example,dc=com");
+        dns.add(dn);
+        map.put(dn, createEntry(dn, "0"));
+      }
+    }
+
+    // Each writer pass updates every entry with the same value, so a reader
+    // with a consistent view should always see a single value.
+    final AtomicReference<String> failure = new AtomicReference<>();
+    final Thread writer = new Thread()
+    {
+      @Override()
+      public void run()
+      {
+        for (int pass=1; pass <= 200; pass++)
+        {
+          try (WriteLock writeLock = map.lockWrite())
+          {
+            writeLock.avoidCompilerWarning();
+            for (final DN dn : dns)
+            {
+              map.put(dn, createEntry(dn, String.valueOf(pass)));
+            }
+          }
+        }
+      }
+    };
+    writer.start();
+
+    while (writer.isAlive())
+    {
+      try (ReadView readView = map.openReadView())
+      {
+        readView.avoidCompilerWarning();
+
+        final String expected =
+             map.get(dns.get(0)).getAttributeValue("description");
+        int count = 0;
+        for (final Map.Entry<DN,ReadOnlyEntry> e : map.entrySet())
+        {
+          count++;
+          if (! expected.equals(e.getValue().getAttributeValue("description")))
+          {
+            failure.compareAndSet(null, "Entry " + e.getKey() +
+                 " was not at the expected version " + expected);
+          }
+        }
+
+        if (count != dns.size())
+        {
+          failure.compareAndSet(null, "Saw " + count + " entries");
+        }
+      }
+    }
+
+    writer.join();
+    assertNull(failure.get(), failure.get());
+
+    // With no views left open, only the latest version should be retained.
+    try (WriteLock writeLock = map.lockWrite())
+    {
+      writeLock.avoidCompilerWarning();
+      map.put(dns.get(0), createEntry(dns.get(0), "final"));
+    }
+
+    for (final DN dn : dns)
+    {
+      assertEquals(map.getRetainedVersionCount(dn), 1);
+    }
+  }
+
+
+
+  /**
+   * Creates an entry with the provided DN and description.
+   *
+   * @param  dn           The DN for the entry.
+   * @param  description  The description for the entry.
+   *
+   * @return  The entry that was created.
+   */
+  private static ReadOnlyEntry createEntry(final DN dn,
+                                           final String description)
+  {
+    return new ReadOnlyEntry(dn.toString(),
+         new Attribute("objectClass", "top"),
+         new Attribute("description", description));
+  }
+
+
+
+  /**
+   * Retrieves the DNs of the entries visible in the provided map, in the order
+   * in which they are returned by its entry set.
+   *
+   * @param  map  The map for which to retrieve the DNs.
+   *
+   * @return  The DNs of the entries visible in the provided map.
+   */
+  private static List<DN> getDNs(final InMemoryDirectoryServerEntryMap map)
+  {
+    final List<DN> dns = new ArrayList<>();
+    for (final Map.Entry<DN,ReadOnlyEntry> e : map.entrySet())
+    {
+      dns.add(e.getKey());
+    }
+
+    return dns;
+  }
+}
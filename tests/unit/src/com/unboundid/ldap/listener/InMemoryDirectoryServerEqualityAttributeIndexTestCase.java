@@ -38,14 +38,11 @@ package com.unboundid.ldap.listener;
 
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Map;
-import java.util.TreeSet;
 
 import org.testng.annotations.Test;
 
 import com.unboundid.asn1.ASN1OctetString;
-import com.unboundid.ldap.sdk.DN;
 import com.unboundid.ldap.sdk.Entry;
 import com.unboundid.ldap.sdk.LDAPException;
 import com.unboundid.ldap.sdk.LDAPSDKTestCase;
@@ -115,12 +112,13 @@ public final class InMemoryDirectoryServerEqualityAttributeIndexTestCase
            "ou: Test " + i));
     }
 
-    for (final Entry e : entryList)
+    for (int i=0; i < entryList.size(); i++)
     {
-      index.processAdd(e);
+      index.processAdd(entryList.get(i), i);
     }
 
-    Map<ASN1OctetString,TreeSet<DN>> indexMap = index.copyMap();
+    Map<ASN1OctetString,InMemoryDirectoryServerBitmap> indexMap =
+         index.copyMap();
     assertNotNull(indexMap);
     assertTrue(indexMap.isEmpty());
 
@@ -134,9 +132,9 @@ public final class InMemoryDirectoryServerEqualityAttributeIndexTestCase
            new ASN1OctetString("Test " + i)));
     }
 
-    for (final Entry e : entryList)
+    for (int i=0; i < entryList.size(); i++)
     {
-      index.processDelete(e);
+      index.processDelete(entryList.get(i), i);
     }
 
     indexMap = index.copyMap();
@@ -180,12 +178,13 @@ public final class InMemoryDirectoryServerEqualityAttributeIndexTestCase
            "ou: Test " + i));
     }
 
-    for (final Entry e : entryList)
+    for (int i=0; i < entryList.size(); i++)
     {
-      index.processAdd(e);
+      index.processAdd(entryList.get(i), i);
     }
 
-    Map<ASN1OctetString,TreeSet<DN>> indexMap = index.copyMap();
+    Map<ASN1OctetString,InMemoryDirectoryServerBitmap> indexMap =
+         index.copyMap();
     assertNotNull(indexMap);
     assertFalse(indexMap.isEmpty());
     assertEquals(indexMap.size(), 10);
@@ -201,13 +200,12 @@ public final class InMemoryDirectoryServerEqualityAttributeIndexTestCase
       assertNotNull(index.getMatchingEntries(v));
       assertFalse(index.getMatchingEntries(v).isEmpty());
       assertEquals(index.getMatchingEntries(v).size(), 1);
-      assertEquals(index.getMatchingEntries(v).iterator().next(),
-           new DN("ou=Test " + i + ",dc=example,dc=com"));
+      assertEquals(index.getMatchingEntries(v).toArray()[0], i);
     }
 
-    for (final Entry e : entryList)
+    for (int i=0; i < entryList.size(); i++)
     {
-      index.processDelete(e);
+      index.processDelete(entryList.get(i), i);
     }
 
     indexMap = index.copyMap();
@@ -252,12 +250,13 @@ public final class InMemoryDirectoryServerEqualityAttributeIndexTestCase
            "description: foo"));
     }
 
-    for (final Entry e : entryList)
+    for (int i=0; i < entryList.size(); i++)
     {
-      index.processAdd(e);
+      index.processAdd(entryList.get(i), i);
     }
 
-    Map<ASN1OctetString,TreeSet<DN>> indexMap = index.copyMap();
+    Map<ASN1OctetString,InMemoryDirectoryServerBitmap> indexMap =
+         index.copyMap();
     assertNotNull(indexMap);
     assertFalse(indexMap.isEmpty());
     assertEquals(indexMap.size(), 1);
@@ -274,12 +273,12 @@ public final class InMemoryDirectoryServerEqualityAttributeIndexTestCase
     for (int i=0; i < 10;  i++)
     {
       assertTrue(index.getMatchingEntries(new ASN1OctetString("foo")).contains(
-           new DN("ou=Test " + i + ",dc=example,dc=com")));
+           i));
     }
 
     for (int i=0; i < 10;  i++)
     {
-      index.processDelete(entryList.get(i));
+      index.processDelete(entryList.get(i), i);
 
       if (i == 9)
       {
@@ -332,9 +331,10 @@ public final class InMemoryDirectoryServerEqualityAttributeIndexTestCase
          "description: foo",
          "description: bar");
 
-    index.processAdd(e);
+    index.processAdd(e, 0);
 
-    Map<ASN1OctetString,TreeSet<DN>> indexMap = index.copyMap();
+    Map<ASN1OctetString,InMemoryDirectoryServerBitmap> indexMap =
+         index.copyMap();
     assertNotNull(indexMap);
     assertFalse(indexMap.isEmpty());
     assertEquals(indexMap.size(), 2);
@@ -345,13 +345,13 @@ public final class InMemoryDirectoryServerEqualityAttributeIndexTestCase
 
     assertNotNull(index.getMatchingEntries(new ASN1OctetString("foo")));
     assertTrue(index.getMatchingEntries(new ASN1OctetString("foo")).contains(
-         new DN("ou=Test,dc=example,dc=com")));
+         0));
 
     assertNotNull(index.getMatchingEntries(new ASN1OctetString("bar")));
     assertTrue(index.getMatchingEntries(new ASN1OctetString("bar")).contains(
-         new DN("ou=Test,dc=example,dc=com")));
+         0));
 
-    index.processDelete(e);
+    index.processDelete(e, 0);
 
     assertEmpty(index.getMatchingEntries(new ASN1OctetString("top")));
     assertEmpty(index.getMatchingEntries(
@@ -368,16 +368,16 @@ public final class InMemoryDirectoryServerEqualityAttributeIndexTestCase
 
 
   /**
-   * Asserts that the provided collection is not {@code null} but is empty.
+   * Asserts that the provided bitmap is not {@code null} but is empty.
    *
-   * @param  c  The collection to examine.
+   * @param  b  The bitmap to examine.
    *
-   * @throws  AssertionError  If the collection is {@code null} or non-empty.
+   * @throws  AssertionError  If the bitmap is {@code null} or non-empty.
    */
-  private static void assertEmpty(final Collection<?> c)
+  private static void assertEmpty(final InMemoryDirectoryServerBitmap b)
           throws AssertionError
   {
-    assertNotNull(c);
-    assertTrue(c.isEmpty());
+    assertNotNull(b);
+    assertTrue(b.isEmpty());
   }
 }
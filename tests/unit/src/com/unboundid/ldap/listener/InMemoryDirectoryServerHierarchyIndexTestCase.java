@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.SearchScope;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * InMemoryDirectoryServerHierarchyIndex class.
+ */
+public final class InMemoryDirectoryServerHierarchyIndexTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior of an empty index.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testEmptyIndex()
+         throws Exception
+  {
+    final InMemoryDirectoryServerHierarchyIndex index =
+         new InMemoryDirectoryServerHierarchyIndex();
+
+    final DN dn = new DN("dc=example,dc=com");
+    assertFalse(index.hasSubordinates(dn));
+    assertEquals(index.countSubordinates(dn), 0);
+    for (final SearchScope scope : SearchScope.values())
+    {
+      assertTrue(index.getEntryDNs(dn, scope).isEmpty());
+    }
+
+    index.processDelete(dn);
+    assertFalse(index.hasSubordinates(DN.NULL_DN));
+  }
+
+
+
+  /**
+   * Tests the basic add, delete, and retrieval behavior.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAddAndDelete()
+         throws Exception
+  {
+    final InMemoryDirectoryServerHierarchyIndex index =
+         new InMemoryDirectoryServerHierarchyIndex();
+
+    final DN base = new DN("dc=example,dc=com");
+    final DN people = new DN("ou=People,dc=example,dc=com");
+    final DN groups = new DN("ou=Groups,dc=example,dc=com");
+    final DN user1 = new DN("uid=user.1,ou=People,dc=example,dc=com");
+    final DN user2 = new DN("uid=user.2,ou=People,dc=example,dc=com");
+
+    index.processAdd(base);
+    index.processAdd(people);
+    index.processAdd(user2);
+    index.processAdd(user1);
+    index.processAdd(groups);
+    index.processAdd(groups);
+
+    assertTrue(index.hasSubordinates(base));
+    assertTrue(index.hasSubordinates(people));
+    assertFalse(index.hasSubordinates(user1));
+    assertFalse(index.hasSubordinates(groups));
+
+    assertEquals(index.countSubordinates(base), 4);
+    assertEquals(index.countSubordinates(people), 2);
+    assertEquals(index.countSubordinates(groups), 0);
+    assertEquals(index.countSubordinates(DN.NULL_DN), 5);
+
+    assertEquals(index.getEntryDNs(base, SearchScope.BASE),
+         Collections.singletonList(base));
+    assertEquals(index.getEntryDNs(base, SearchScope.ONE),
+         Arrays.asList(groups, people));
+    assertEquals(index.getEntryDNs(base, SearchScope.SUB),
+         Arrays.asList(base, groups, people, user1, user2));
+    assertEquals(index.getEntryDNs(base, SearchScope.SUBORDINATE_SUBTREE),
+         Arrays.asList(groups, people, user1, user2));
+    assertEquals(index.getEntryDNs(people, SearchScope.ONE),
+         Arrays.asList(user1, user2));
+
+    // The parent of the base DN is only a placeholder, so it should not be
+    // returned, but the base entry should be.
+    final DN com = new DN("dc=com");
+    assertTrue(index.getEntryDNs(com, SearchScope.BASE).isEmpty());
+    assertEquals(index.getEntryDNs(com, SearchScope.ONE),
+         Collections.singletonList(base));
+
+    index.processDelete(user1);
+    assertEquals(index.countSubordinates(base), 3);
+    assertEquals(index.getEntryDNs(people, SearchScope.ONE),
+         Collections.singletonList(user2));
+
+    index.processDelete(user2);
+    index.processDelete(people);
+    index.processDelete(groups);
+    assertFalse(index.hasSubordinates(base));
+    assertEquals(index.getEntryDNs(base, SearchScope.SUB),
+         Collections.singletonList(base));
+
+    index.processDelete(base);
+    assertFalse(index.hasSubordinates(DN.NULL_DN));
+    assertTrue(index.getEntryDNs(com, SearchScope.SUB).isEmpty());
+  }
+
+
+
+  /**
+   * Tests the behavior when an entry is removed before its subordinates, as
+   * happens when renaming a branch.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testRemoveParentBeforeChildren()
+         throws Exception
+  {
+    final InMemoryDirectoryServerHierarchyIndex index =
+         new InMemoryDirectoryServerHierarchyIndex();
+
+    final DN base = new DN("dc=example,dc=com");
+    final DN parent = new DN("ou=a,dc=example,dc=com");
+    final DN child = new DN("cn=child,ou=a,dc=example,dc=com");
+
+    index.processAdd(base);
+    index.processAdd(parent);
+    index.processAdd(child);
+
+    index.processDelete(parent);
+    assertEquals(index.countSubordinates(base), 1);
+    assertEquals(index.countSubordinates(parent), 1);
+    assertTrue(index.getEntryDNs(base, SearchScope.ONE).isEmpty());
+    assertEquals(index.getEntryDNs(base, SearchScope.SUB),
+         Arrays.asList(base, child));
+
+    index.processDelete(child);
+    assertFalse(index.hasSubordinates(base));
+    assertTrue(index.getEntryDNs(parent, SearchScope.SUB).isEmpty());
+
+    index.clear();
+    assertTrue(index.getEntryDNs(base, SearchScope.SUB).isEmpty());
+  }
+
+
+
+  /**
+   * Tests that the order in which DNs are returned matches the order used for
+   * sorted DNs.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testHierarchicalOrder()
+         throws Exception
+  {
+    final InMemoryDirectoryServerHierarchyIndex index =
+         new InMemoryDirectoryServerHierarchyIndex();
+
+    final List<DN> dns = Arrays.asList(
+         new DN("dc=example,dc=com"),
+         new DN("ou=b,dc=example,dc=com"),
+         new DN("cn=z,ou=b,dc=example,dc=com"),
+         new DN("ou=a,dc=example,dc=com"),
+         new DN("cn=y,ou=a,dc=example,dc=com"),
+         new DN("cn=x,cn=y,ou=a,dc=example,dc=com"),
+         new DN("cn=b,ou=a,dc=example,dc=com"));
+    for (final DN dn : dns)
+    {
+      index.processAdd(dn);
+    }
+
+    final DN[] sortedDNs = dns.toArray(new DN[dns.size()]);
+    Arrays.sort(sortedDNs);
+    assertEquals(index.getEntryDNs(new DN("dc=example,dc=com"),
+         SearchScope.SUB), Arrays.asList(sortedDNs));
+  }
+}
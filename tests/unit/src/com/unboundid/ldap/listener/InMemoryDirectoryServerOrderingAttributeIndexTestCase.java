@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.ArrayList;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.schema.Schema;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * InMemoryDirectoryServerOrderingAttributeIndex class.
+ */
+public final class InMemoryDirectoryServerOrderingAttributeIndexTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior when trying to create an index when no schema is
+   * available.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testIndexWithoutSchema()
+         throws Exception
+  {
+    new InMemoryDirectoryServerOrderingAttributeIndex("changeNumber", null);
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to create an index for an undefined
+   * attribute type.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testIndexWithUndefinedAttribute()
+         throws Exception
+  {
+    new InMemoryDirectoryServerOrderingAttributeIndex("undefined",
+         Schema.getDefaultStandardSchema());
+  }
+
+
+
+  /**
+   * Tests the behavior of an ordering index for an integer attribute, which
+   * must be ordered numerically rather than lexically.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testIntegerOrdering()
+         throws Exception
+  {
+    final InMemoryDirectoryServerOrderingAttributeIndex index =
+         new InMemoryDirectoryServerOrderingAttributeIndex("changeNumber",
+              Schema.getDefaultStandardSchema());
+
+    final ArrayList<Entry> entryList = new ArrayList<>();
+    for (final int i : new int[] { 2, 9, 10, 100, 1000 })
+    {
+      entryList.add(new Entry(
+           "dn: changeNumber=" + i + ",cn=changelog",
+           "objectClass: top",
+           "objectClass: changeLogEntry",
+           "changeNumber: " + i,
+           "targetDN: dc=example,dc=com",
+           "changeType: delete"));
+    }
+
+    for (int i=0; i < entryList.size(); i++)
+    {
+      index.processAdd(entryList.get(i), i);
+    }
+
+    assertEquals(index.copyMap().size(), 5);
+
+    InMemoryDirectoryServerBitmap idSet =
+         index.getMatchingEntries(new ASN1OctetString("10"), true);
+    assertEquals(idSet.size(), 3);
+    assertTrue(idSet.contains(2));
+    assertTrue(idSet.contains(4));
+
+    idSet = index.getMatchingEntries(new ASN1OctetString("10"), false);
+    assertEquals(idSet.size(), 3);
+    assertTrue(idSet.contains(0));
+    assertTrue(idSet.contains(1));
+
+    idSet = index.getMatchingEntries(new ASN1OctetString("5000"), true);
+    assertEmpty(idSet);
+
+    idSet = index.getMatchingEntries(new ASN1OctetString("1"), false);
+    assertEmpty(idSet);
+
+    idSet = index.getMatchingEntries(new ASN1OctetString("2"), false);
+    assertEquals(idSet.size(), 1);
+
+    for (int i=0; i < entryList.size(); i++)
+    {
+      index.processDelete(entryList.get(i), i);
+    }
+
+    assertTrue(index.copyMap().isEmpty());
+    assertEmpty(index.getMatchingEntries(new ASN1OctetString("0"), true));
+  }
+
+
+
+  /**
+   * Tests the behavior of an ordering index for a generalized time attribute,
+   * including values that use different time zones.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testGeneralizedTimeOrdering()
+         throws Exception
+  {
+    final InMemoryDirectoryServerOrderingAttributeIndex index =
+         new InMemoryDirectoryServerOrderingAttributeIndex("createTimestamp",
+              Schema.getDefaultStandardSchema());
+
+    index.processAdd(new Entry(
+         "dn: ou=early,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: early",
+         "createTimestamp: 20200101000000Z"), 0);
+    index.processAdd(new Entry(
+         "dn: ou=late,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: late",
+         "createTimestamp: 20250101050000+0500"), 1);
+
+    InMemoryDirectoryServerBitmap idSet = index.getMatchingEntries(
+         new ASN1OctetString("20250101000000Z"), true);
+    assertEquals(idSet.size(), 1);
+    assertTrue(idSet.contains(1));
+
+    idSet = index.getMatchingEntries(
+         new ASN1OctetString("20241231235959Z"), false);
+    assertEquals(idSet.size(), 1);
+    assertTrue(idSet.contains(0));
+
+    try
+    {
+      index.getMatchingEntries(new ASN1OctetString("not a timestamp"), true);
+      fail("Expected an exception for a malformed assertion value.");
+    }
+    catch (final LDAPException le)
+    {
+      // This was expected.
+    }
+
+    index.clear();
+    assertTrue(index.copyMap().isEmpty());
+  }
+
+
+
+  /**
+   * Asserts that the provided bitmap is not {@code null} but is empty.
+   *
+   * @param  b  The bitmap to examine.
+   *
+   * @throws  AssertionError  If the bitmap is {@code null} or non-empty.
+   */
+  private static void assertEmpty(final InMemoryDirectoryServerBitmap b)
+          throws AssertionError
+  {
+    assertNotNull(b);
+    assertTrue(b.isEmpty());
+  }
+}
@@ -0,0 +1,744 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.asn1.ASN1StreamReader;
+import com.unboundid.ldap.protocol.LDAPMessage;
+import com.unboundid.ldap.protocol.SearchRequestProtocolOp;
+import com.unboundid.ldap.protocol.SearchResultDoneProtocolOp;
+import com.unboundid.ldap.sdk.AsyncRequestID;
+import com.unboundid.ldap.sdk.AsyncSearchResultListener;
+import com.unboundid.ldap.sdk.DereferencePolicy;
+import com.unboundid.ldap.sdk.Filter;
+import com.unboundid.ldap.sdk.IntermediateResponse;
+import com.unboundid.ldap.sdk.IntermediateResponseListener;
+import com.unboundid.ldap.sdk.LDAPConnection;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.LDAPSearchException;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.SearchRequest;
+import com.unboundid.ldap.sdk.SearchResult;
+import com.unboundid.ldap.sdk.SearchResultEntry;
+import com.unboundid.ldap.sdk.SearchResultReference;
+import com.unboundid.ldap.sdk.SearchScope;
+import com.unboundid.ldap.sdk.controls.ContentSyncDoneControl;
+import com.unboundid.ldap.sdk.controls.ContentSyncInfoIntermediateResponse;
+import com.unboundid.ldap.sdk.controls.ContentSyncInfoType;
+import com.unboundid.ldap.sdk.controls.ContentSyncRequestControl;
+import com.unboundid.ldap.sdk.controls.ContentSyncRequestMode;
+import com.unboundid.ldap.sdk.controls.ContentSyncState;
+import com.unboundid.ldap.sdk.controls.ContentSyncStateControl;
+import com.unboundid.ldap.sdk.controls.EntryChangeNotificationControl;
+import com.unboundid.ldap.sdk.controls.PersistentSearchChangeType;
+import com.unboundid.ldap.sdk.controls.PersistentSearchRequestControl;
+
+
+
+/**
+ * This class provides test coverage for the support for the persistent search
+ * and content synchronization request controls in the in-memory directory
+ * server.
+ */
+public final class InMemoryDirectoryServerPersistentSearchTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests a persistent search that only returns changes, with entry change
+   * notification controls.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPersistentSearchChangesOnly()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = createServer(0, 1000);
+    final LDAPConnection conn = ds.getConnection();
+    try
+    {
+      final TestSearchListener listener = new TestSearchListener();
+      final SearchRequest searchRequest = new SearchRequest(listener,
+           "dc=example,dc=com", SearchScope.SUB,
+           Filter.createEqualityFilter("objectClass", "person"));
+      searchRequest.addControl(new PersistentSearchRequestControl(
+           PersistentSearchChangeType.allChangeTypes(), true, true));
+      final AsyncRequestID requestID = conn.asyncSearch(searchRequest);
+
+      // The persistent search will have been registered once a subsequent
+      // request on the same connection has completed.
+      assertNotNull(conn.getRootDSE());
+
+      ds.add(generateUserEntry("test.1", "ou=People,dc=example,dc=com",
+           "Test", "1", "password"));
+      ds.modify(
+           "dn: uid=test.1,ou=People,dc=example,dc=com",
+           "changetype: modify",
+           "replace: description",
+           "description: foo");
+      ds.modifyDN("uid=test.1,ou=People,dc=example,dc=com", "uid=test.2",
+           true);
+      ds.add(generateOrgUnitEntry("Not A Person", "dc=example,dc=com"));
+      ds.delete("uid=test.2,ou=People,dc=example,dc=com");
+
+      SearchResultEntry e = listener.nextEntry();
+      assertDNsEqual(e.getDN(), "uid=test.1,ou=People,dc=example,dc=com");
+      assertChangeType(e, PersistentSearchChangeType.ADD, null);
+
+      e = listener.nextEntry();
+      assertDNsEqual(e.getDN(), "uid=test.1,ou=People,dc=example,dc=com");
+      assertChangeType(e, PersistentSearchChangeType.MODIFY, null);
+      assertTrue(e.hasAttributeValue("description", "foo"));
+
+      e = listener.nextEntry();
+      assertDNsEqual(e.getDN(), "uid=test.2,ou=People,dc=example,dc=com");
+      assertChangeType(e, PersistentSearchChangeType.MODIFY_DN,
+           "uid=test.1,ou=People,dc=example,dc=com");
+
+      e = listener.nextEntry();
+      assertDNsEqual(e.getDN(), "uid=test.2,ou=People,dc=example,dc=com");
+      assertChangeType(e, PersistentSearchChangeType.DELETE, null);
+
+      conn.abandon(requestID);
+      ds.add(generateUserEntry("test.3", "ou=People,dc=example,dc=com",
+           "Test", "3", "password"));
+      assertNotNull(conn.getRootDSE());
+      assertNull(listener.entries.poll(100L, TimeUnit.MILLISECONDS));
+      assertNull(listener.result);
+    }
+    finally
+    {
+      conn.close();
+      ds.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests a persistent search that returns the matching entries before
+   * returning changes, and that only returns some types of changes.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPersistentSearchWithInitialEntries()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = createServer(0, 1000);
+    final LDAPConnection conn = ds.getConnection();
+    try
+    {
+      final TestSearchListener listener = new TestSearchListener();
+      final SearchRequest searchRequest = new SearchRequest(listener,
+           "ou=People,dc=example,dc=com", SearchScope.ONE,
+           Filter.createPresenceFilter("objectClass"));
+      searchRequest.addControl(new PersistentSearchRequestControl(
+           PersistentSearchChangeType.DELETE, false, false));
+      conn.asyncSearch(searchRequest);
+
+      SearchResultEntry e = listener.nextEntry();
+      assertDNsEqual(e.getDN(), "uid=test.user,ou=People,dc=example,dc=com");
+      assertNull(e.getControl(
+           EntryChangeNotificationControl.ENTRY_CHANGE_NOTIFICATION_OID));
+      assertNotNull(conn.getRootDSE());
+
+      ds.add(generateUserEntry("test.1", "ou=People,dc=example,dc=com",
+           "Test", "1", "password"));
+      ds.delete("uid=test.1,ou=People,dc=example,dc=com");
+
+      e = listener.nextEntry();
+      assertDNsEqual(e.getDN(), "uid=test.1,ou=People,dc=example,dc=com");
+      assertNull(e.getControl(
+           EntryChangeNotificationControl.ENTRY_CHANGE_NOTIFICATION_OID));
+      assertNull(listener.result);
+
+      // Restoring a snapshot should terminate the search.
+      ds.restoreSnapshot(ds.createSnapshot());
+      final SearchResult result = listener.getResult();
+      assertEquals(result.getResultCode(), ResultCode.OTHER);
+      assertTrue(listener.entries.isEmpty());
+    }
+    finally
+    {
+      conn.close();
+      ds.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests a persistent search that is terminated because too many changes
+   * have been queued while the client was not reading the results.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPersistentSearchTooManyChanges()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = createServer(0, 5);
+    final Socket socket = new Socket();
+    try
+    {
+      // Use a raw socket so that the client will not read any results until
+      // the server can no longer write them.
+      socket.setReceiveBufferSize(4096);
+      socket.connect(new InetSocketAddress(
+           InetAddress.getLoopbackAddress(), ds.getListenPort()));
+      final OutputStream outputStream = socket.getOutputStream();
+      final ASN1StreamReader reader =
+           new ASN1StreamReader(socket.getInputStream());
+
+      outputStream.write(new LDAPMessage(1, new SearchRequestProtocolOp(
+           "dc=example,dc=com", SearchScope.SUB, DereferencePolicy.NEVER, 0, 0,
+           false, Filter.createPresenceFilter("objectClass"), null),
+           new PersistentSearchRequestControl(
+                PersistentSearchChangeType.allChangeTypes(), true, true)).
+           encode().encode());
+      outputStream.write(new LDAPMessage(2, new SearchRequestProtocolOp(
+           "", SearchScope.BASE, DereferencePolicy.NEVER, 0, 0, false,
+           Filter.createPresenceFilter("objectClass"), null)).
+           encode().encode());
+      outputStream.flush();
+
+      LDAPMessage m;
+      do
+      {
+        m = LDAPMessage.readFrom(reader, true);
+        assertEquals(m.getMessageID(), 2);
+      }
+      while (m.getProtocolOpType() !=
+           LDAPMessage.PROTOCOL_OP_TYPE_SEARCH_RESULT_DONE);
+
+      final char[] valueChars = new char[256 * 1024];
+      for (int i=0; i < 100; i++)
+      {
+        Arrays.fill(valueChars, (char) ('a' + (i % 26)));
+        ds.modify(
+             "dn: uid=test.user,ou=People,dc=example,dc=com",
+             "changetype: modify",
+             "replace: description",
+             "description: " + new String(valueChars));
+      }
+
+      int numEntries = 0;
+      while (true)
+      {
+        m = LDAPMessage.readFrom(reader, true);
+        assertEquals(m.getMessageID(), 1);
+        if (m.getProtocolOpType() ==
+             LDAPMessage.PROTOCOL_OP_TYPE_SEARCH_RESULT_DONE)
+        {
+          final SearchResultDoneProtocolOp done =
+               m.getSearchResultDoneProtocolOp();
+          assertEquals(done.getResultCode(),
+               ResultCode.ADMIN_LIMIT_EXCEEDED_INT_VALUE);
+          break;
+        }
+
+        numEntries++;
+      }
+
+      assertTrue(numEntries < 100);
+    }
+    finally
+    {
+      socket.close();
+      ds.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests content synchronization in refreshOnly mode, both without a cookie
+   * and with a cookie that allows only changed entries to be returned.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testContentSyncRefreshOnly()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = createServer(100, 1000);
+    final LDAPConnection conn = ds.getConnection();
+    try
+    {
+      ds.add(generateUserEntry("test.1", "ou=People,dc=example,dc=com",
+           "Test", "1", "password"));
+      ds.add(generateUserEntry("test.2", "ou=People,dc=example,dc=com",
+           "Test", "2", "password"));
+
+      // An initial synchronization should return all of the entries.
+      final TestSearchListener listener = new TestSearchListener();
+      SearchRequest searchRequest = new SearchRequest(listener,
+           "dc=example,dc=com", SearchScope.SUB,
+           Filter.createPresenceFilter("objectClass"));
+      searchRequest.addControl(new ContentSyncRequestControl(
+           ContentSyncRequestMode.REFRESH_ONLY));
+      SearchResult result = conn.search(searchRequest);
+      assertEquals(result.getResultCode(), ResultCode.SUCCESS);
+      assertEquals(result.getEntryCount(), 5);
+      for (final SearchResultEntry e : listener.entries)
+      {
+        assertEquals(ContentSyncStateControl.get(e).getState(),
+             ContentSyncState.ADD);
+      }
+
+      ASN1OctetString cookie = ContentSyncDoneControl.get(result).getCookie();
+      assertNotNull(cookie);
+
+      // A synchronization with the cookie should only return the changed
+      // entries, and the entryUUIDs of the others.
+      ds.modify(
+           "dn: uid=test.1,ou=People,dc=example,dc=com",
+           "changetype: modify",
+           "replace: description",
+           "description: foo");
+      ds.delete("uid=test.2,ou=People,dc=example,dc=com");
+
+      listener.entries.clear();
+      searchRequest = new SearchRequest(listener, "dc=example,dc=com",
+           SearchScope.SUB, Filter.createPresenceFilter("objectClass"));
+      searchRequest.addControl(new ContentSyncRequestControl(
+           ContentSyncRequestMode.REFRESH_ONLY, cookie, false));
+      searchRequest.setIntermediateResponseListener(listener);
+      result = conn.search(searchRequest);
+      assertEquals(result.getResultCode(), ResultCode.SUCCESS);
+      assertEquals(result.getEntryCount(), 1);
+      assertDNsEqual(listener.entries.peek().getDN(),
+           "uid=test.1,ou=People,dc=example,dc=com");
+
+      final List<UUID> presentUUIDs = new ArrayList<>(5);
+      for (final ContentSyncInfoIntermediateResponse r :
+           listener.intermediateResponses)
+      {
+        assertEquals(r.getType(), ContentSyncInfoType.SYNC_ID_SET);
+        assertFalse(r.refreshDeletes());
+        presentUUIDs.addAll(r.getEntryUUIDs());
+      }
+      assertEquals(presentUUIDs.size(), 3);
+
+      final ContentSyncDoneControl doneControl =
+           ContentSyncDoneControl.get(result);
+      assertFalse(doneControl.refreshDeletes());
+      assertFalse(doneControl.getCookie().stringValue().equals(
+           cookie.stringValue()));
+
+      // A synchronization with a cookie that cannot be used should return all
+      // of the entries.
+      listener.entries.clear();
+      listener.intermediateResponses.clear();
+      searchRequest = new SearchRequest(listener, "dc=example,dc=com",
+           SearchScope.SUB, Filter.createPresenceFilter("objectClass"));
+      searchRequest.addControl(new ContentSyncRequestControl(
+           ContentSyncRequestMode.REFRESH_ONLY,
+           new ASN1OctetString("not a valid cookie"), false));
+      searchRequest.setIntermediateResponseListener(listener);
+      result = conn.search(searchRequest);
+      assertEquals(result.getResultCode(), ResultCode.SUCCESS);
+      assertEquals(result.getEntryCount(), 4);
+      assertTrue(listener.intermediateResponses.isEmpty());
+    }
+    finally
+    {
+      conn.close();
+      ds.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests content synchronization in refreshAndPersist mode.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testContentSyncRefreshAndPersist()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = createServer(100, 1000);
+    final LDAPConnection conn = ds.getConnection();
+    try
+    {
+      final TestSearchListener listener = new TestSearchListener();
+      final SearchRequest searchRequest = new SearchRequest(listener,
+           "ou=People,dc=example,dc=com", SearchScope.SUB,
+           Filter.create("(&(objectClass=person)(!(description=hidden)))"));
+      searchRequest.addControl(new ContentSyncRequestControl(
+           ContentSyncRequestMode.REFRESH_AND_PERSIST));
+      searchRequest.setIntermediateResponseListener(listener);
+      conn.asyncSearch(searchRequest);
+
+      SearchResultEntry e = listener.nextEntry();
+      assertDNsEqual(e.getDN(), "uid=test.user,ou=People,dc=example,dc=com");
+      assertEquals(ContentSyncStateControl.get(e).getState(),
+           ContentSyncState.ADD);
+
+      final ContentSyncInfoIntermediateResponse refreshDone =
+           listener.intermediateResponses.poll(10L, TimeUnit.SECONDS);
+      assertNotNull(refreshDone);
+      assertEquals(refreshDone.getType(), ContentSyncInfoType.REFRESH_PRESENT);
+      assertTrue(refreshDone.refreshDone());
+      assertNotNull(refreshDone.getCookie());
+
+      ds.add(generateUserEntry("test.1", "ou=People,dc=example,dc=com",
+           "Test", "1", "password"));
+      ds.modify(
+           "dn: uid=test.1,ou=People,dc=example,dc=com",
+           "changetype: modify",
+           "replace: description",
+           "description: hidden");
+      ds.modify(
+           "dn: uid=test.user,ou=People,dc=example,dc=com",
+           "changetype: modify",
+           "replace: description",
+           "description: foo");
+
+      e = listener.nextEntry();
+      assertDNsEqual(e.getDN(), "uid=test.1,ou=People,dc=example,dc=com");
+      ContentSyncStateControl stateControl = ContentSyncStateControl.get(e);
+      assertEquals(stateControl.getState(), ContentSyncState.ADD);
+      final UUID test1UUID = stateControl.getEntryUUID();
+      assertNotNull(stateControl.getCookie());
+
+      // The entry no longer matches the filter, so it should appear to the
+      // client to have been deleted.
+      e = listener.nextEntry();
+      assertDNsEqual(e.getDN(), "uid=test.1,ou=People,dc=example,dc=com");
+      stateControl = ContentSyncStateControl.get(e);
+      assertEquals(stateControl.getState(), ContentSyncState.DELETE);
+      assertEquals(stateControl.getEntryUUID(), test1UUID);
+
+      e = listener.nextEntry();
+      assertDNsEqual(e.getDN(), "uid=test.user,ou=People,dc=example,dc=com");
+      stateControl = ContentSyncStateControl.get(e);
+      assertEquals(stateControl.getState(), ContentSyncState.MODIFY);
+      assertEquals(stateControl.getCookie().stringValue(),
+           ds.getRootDSE().getAttributeValue("lastChangeNumber"));
+
+      // Closing the connection should end the operation without a result.
+      conn.close();
+      ds.add(generateUserEntry("test.2", "ou=People,dc=example,dc=com",
+           "Test", "2", "password"));
+      assertNull(listener.entries.poll(100L, TimeUnit.MILLISECONDS));
+    }
+    finally
+    {
+      conn.close();
+      ds.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to use the persistent search and content
+   * synchronization request controls in ways that are not supported.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testUnsupportedRequests()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = createServer(100, 1000);
+    final LDAPConnection conn = ds.getConnection();
+    try
+    {
+      SearchRequest searchRequest = new SearchRequest("dc=example,dc=com",
+           SearchScope.SUB, Filter.createPresenceFilter("objectClass"));
+      searchRequest.addControl(new ContentSyncRequestControl(
+           ContentSyncRequestMode.REFRESH_ONLY));
+      searchRequest.addControl(new PersistentSearchRequestControl(
+           PersistentSearchChangeType.allChangeTypes(), true, true));
+      assertResultCodeEquals(conn, searchRequest,
+           ResultCode.CONSTRAINT_VIOLATION);
+
+      // Internal searches cannot be persistent.
+      searchRequest = new SearchRequest("dc=example,dc=com", SearchScope.SUB,
+           Filter.createPresenceFilter("objectClass"));
+      searchRequest.addControl(new PersistentSearchRequestControl(
+           PersistentSearchChangeType.allChangeTypes(), true, true));
+      assertInternalSearchRejected(ds, searchRequest);
+
+      searchRequest = new SearchRequest("dc=example,dc=com", SearchScope.SUB,
+           Filter.createPresenceFilter("objectClass"));
+      searchRequest.addControl(new ContentSyncRequestControl(
+           ContentSyncRequestMode.REFRESH_ONLY));
+      assertInternalSearchRejected(ds, searchRequest);
+    }
+    finally
+    {
+      conn.close();
+      ds.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Creates and starts an in-memory directory server with a base entry, an
+   * organizational unit, and a user entry.
+   *
+   * @param  maxChangeLogEntries  The maximum number of changelog entries to
+   *                              maintain.
+   * @param  maxQueuedChanges     The maximum number of changes that may be
+   *                              queued for a persistent search.
+   *
+   * @return  The server that was created.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static InMemoryDirectoryServer createServer(
+                      final int maxChangeLogEntries,
+                      final int maxQueuedChanges)
+          throws Exception
+  {
+    final InMemoryDirectoryServerConfig config =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    config.setMaxChangeLogEntries(maxChangeLogEntries);
+    config.setMaxQueuedChangeNotifications(maxQueuedChanges);
+
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(config);
+    ds.add(generateDomainEntry("example", "dc=com"));
+    ds.add(generateOrgUnitEntry("People", "dc=example,dc=com"));
+    ds.add(generateUserEntry("test.user", "ou=People,dc=example,dc=com",
+         "Test", "User", "password"));
+    ds.startListening();
+    return ds;
+  }
+
+
+
+  /**
+   * Ensures that the provided entry has an entry change notification control
+   * with the expected content.
+   *
+   * @param  entry       The entry to examine.
+   * @param  changeType  The expected change type.
+   * @param  previousDN  The expected previous DN, if any.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static void assertChangeType(final SearchResultEntry entry,
+                           final PersistentSearchChangeType changeType,
+                           final String previousDN)
+          throws Exception
+  {
+    final EntryChangeNotificationControl c =
+         EntryChangeNotificationControl.get(entry);
+    assertNotNull(c);
+    assertEquals(c.getChangeType(), changeType);
+    if (previousDN == null)
+    {
+      assertNull(c.getPreviousDN());
+    }
+    else
+    {
+      assertDNsEqual(c.getPreviousDN(), previousDN);
+    }
+  }
+
+
+
+  /**
+   * Ensures that the provided search request is rejected when processed as an
+   * internal operation.
+   *
+   * @param  ds       The server to use to process the search.
+   * @param  request  The search request to process.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static void assertInternalSearchRejected(
+                           final InMemoryDirectoryServer ds,
+                           final SearchRequest request)
+          throws Exception
+  {
+    try
+    {
+      ds.search(request);
+      fail("Expected an exception for internal search " + request);
+    }
+    catch (final LDAPSearchException e)
+    {
+      assertEquals(e.getResultCode(), ResultCode.UNWILLING_TO_PERFORM);
+    }
+  }
+
+
+
+  /**
+   * A search result listener that collects the results of a search.
+   */
+  private static final class TestSearchListener
+          implements AsyncSearchResultListener, IntermediateResponseListener
+  {
+    /**
+     * The serial version UID for this serializable class.
+     */
+    private static final long serialVersionUID = 1L;
+
+
+
+    // The search result entries that have been returned.
+    private final LinkedBlockingQueue<SearchResultEntry> entries =
+         new LinkedBlockingQueue<>();
+
+    // The content synchronization intermediate responses that have been
+    // returned.
+    private final LinkedBlockingQueue<ContentSyncInfoIntermediateResponse>
+         intermediateResponses = new LinkedBlockingQueue<>();
+
+    // The search result, if it has been returned.
+    private volatile SearchResult result = null;
+
+
+
+    /**
+     * Retrieves the next search result entry, waiting for it if necessary.
+     *
+     * @return  The next search result entry.
+     *
+     * @throws  Exception  If no entry is returned within a reasonable amount
+     *                     of time.
+     */
+    SearchResultEntry nextEntry()
+         throws Exception
+    {
+      final SearchResultEntry e = entries.poll(10L, TimeUnit.SECONDS);
+      assertNotNull(e);
+      return e;
+    }
+
+
+
+    /**
+     * Retrieves the search result, waiting for it if necessary.
+     *
+     * @return  The search result.
+     *
+     * @throws  Exception  If the result is not returned within a reasonable
+     *                     amount of time.
+     */
+    SearchResult getResult()
+         throws Exception
+    {
+      final long stopTime = System.currentTimeMillis() + 10_000L;
+      while ((result == null) && (System.currentTimeMillis() < stopTime))
+      {
+        Thread.sleep(1L);
+      }
+
+      assertNotNull(result);
+      return result;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void searchEntryReturned(final SearchResultEntry searchEntry)
+    {
+      entries.add(searchEntry);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void searchReferenceReturned(
+                     final SearchResultReference searchReference)
+    {
+      // No implementation is required.
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void searchResultReceived(final AsyncRequestID requestID,
+                                     final SearchResult searchResult)
+    {
+      result = searchResult;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void intermediateResponseReturned(
+                     final IntermediateResponse intermediateResponse)
+    {
+      try
+      {
+        intermediateResponses.add(
+             ContentSyncInfoIntermediateResponse.decode(intermediateResponse));
+      }
+      catch (final Exception e)
+      {
+        fail("Unexpected intermediate response " + intermediateResponse, e);
+      }
+    }
+  }
+}
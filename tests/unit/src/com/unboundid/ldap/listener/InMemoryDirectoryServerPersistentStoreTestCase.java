@@ -0,0 +1,445 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.sdk.Attribute;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.SearchScope;
+
+
+
+/**
+ * This class provides test coverage for the persistent data store that may be
+ * used by the in-memory directory server.
+ */
+public final class InMemoryDirectoryServerPersistentStoreTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests that changes made to a server with a persistent data directory are
+   * available, along with the indexes for them, after the server is closed and
+   * a new server is created with the same directory.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDataAvailableAfterReopen()
+         throws Exception
+  {
+    final File dataDir = createTempDir();
+
+    InMemoryDirectoryServer ds =
+         new InMemoryDirectoryServer(createConfig(dataDir, 0));
+    try
+    {
+      assertEquals(ds.countEntries(), 0);
+
+      ds.add(generateDomainEntry("example", "dc=com"));
+      ds.add(generateOrgUnitEntry("People", "dc=example,dc=com"));
+      for (int i=1; i <= 3; i++)
+      {
+        ds.add(generateUserEntry("user." + i, "ou=People,dc=example,dc=com",
+             "User", String.valueOf(i), "password",
+             new Attribute("description", "a")));
+      }
+
+      ds.modify(
+           "dn: uid=user.1,ou=People,dc=example,dc=com",
+           "changetype: modify",
+           "replace: description",
+           "description: b");
+      ds.delete("uid=user.2,ou=People,dc=example,dc=com");
+      ds.modifyDN("uid=user.3,ou=People,dc=example,dc=com", "uid=user.4",
+           true);
+    }
+    finally
+    {
+      ds.close();
+    }
+
+    assertTrue(new File(dataDir,
+         InMemoryDirectoryServerPersistentStore.INDEX_FILE_NAME).exists());
+
+    ds = new InMemoryDirectoryServer(createConfig(dataDir, 0));
+    try
+    {
+      assertEquals(ds.countEntries(), 4);
+      ds.assertEntryExists("dc=example,dc=com");
+      ds.assertValueExists("uid=user.1,ou=People,dc=example,dc=com",
+           "description", "b");
+      ds.assertEntryMissing("uid=user.2,ou=People,dc=example,dc=com");
+      ds.assertEntryMissing("uid=user.3,ou=People,dc=example,dc=com");
+      ds.assertEntryExists("uid=user.4,ou=People,dc=example,dc=com");
+
+      assertEquals(countMatchingEntries(ds, "(description=a)"), 1);
+      assertEquals(countMatchingEntries(ds, "(description=b)"), 1);
+      assertEquals(ds.countEntriesBelow("ou=People,dc=example,dc=com"), 3);
+
+      // Make sure that further changes can be made and will also persist.
+      ds.delete("uid=user.1,ou=People,dc=example,dc=com");
+    }
+    finally
+    {
+      ds.close();
+    }
+
+    ds = new InMemoryDirectoryServer(createConfig(dataDir, 0));
+    try
+    {
+      assertEquals(ds.countEntries(), 3);
+      ds.assertEntryMissing("uid=user.1,ou=People,dc=example,dc=com");
+      assertEquals(countMatchingEntries(ds, "(description=b)"), 0);
+
+      // Clearing the server should also persist.
+      ds.clear();
+    }
+    finally
+    {
+      ds.close();
+    }
+
+    ds = new InMemoryDirectoryServer(createConfig(dataDir, 0));
+    try
+    {
+      assertEquals(ds.countEntries(), 0);
+    }
+    finally
+    {
+      ds.close();
+    }
+  }
+
+
+
+  /**
+   * Tests that a persistent data directory cannot be used by two servers at
+   * the same time.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDirectoryInUse()
+         throws Exception
+  {
+    final File dataDir = createTempDir();
+
+    final InMemoryDirectoryServer ds =
+         new InMemoryDirectoryServer(createConfig(dataDir, 0));
+    try
+    {
+      new InMemoryDirectoryServer(createConfig(dataDir, 0));
+      fail("Expected an exception when opening a store that is in use.");
+    }
+    catch (final LDAPException le)
+    {
+      assertEquals(le.getResultCode(), ResultCode.LOCAL_ERROR);
+    }
+    finally
+    {
+      ds.close();
+    }
+
+    new InMemoryDirectoryServer(createConfig(dataDir, 0)).close();
+  }
+
+
+
+  /**
+   * Tests that the data can be recovered from the entry log alone if the
+   * server was not closed, and that any incomplete records at the end of the
+   * log are discarded.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testRecoveryWithoutIndex()
+         throws Exception
+  {
+    final File dataDir = createTempDir();
+    final File copyDir = createTempDir();
+
+    final InMemoryDirectoryServer ds =
+         new InMemoryDirectoryServer(createConfig(dataDir, 0));
+    try
+    {
+      ds.add(generateDomainEntry("example", "dc=com"));
+      ds.add(generateOrgUnitEntry("People", "dc=example,dc=com"));
+      ds.modify(
+           "dn: ou=People,dc=example,dc=com",
+           "changetype: modify",
+           "replace: description",
+           "description: foo");
+
+      // Copy the entry log while the server is still running, which is what
+      // would be left behind if the process were to exit without closing the
+      // server.
+      Files.copy(
+           new File(dataDir,
+                InMemoryDirectoryServerPersistentStore.LOG_FILE_NAME).toPath(),
+           new File(copyDir,
+                InMemoryDirectoryServerPersistentStore.LOG_FILE_NAME).toPath());
+    }
+    finally
+    {
+      ds.close();
+    }
+
+
+    // Append a partial record to the copied log.
+    final File copiedLog = new File(copyDir,
+         InMemoryDirectoryServerPersistentStore.LOG_FILE_NAME);
+    final long validLength = copiedLog.length();
+    try (RandomAccessFile raf = new RandomAccessFile(copiedLog, "rw"))
+    {
+      raf.seek(validLength);
+      raf.writeInt(1000);
+      raf.writeInt(12345);
+      raf.write(new byte[] { 0x01, 0x02, 0x03 });
+    }
+
+    final InMemoryDirectoryServer recoveredDS =
+         new InMemoryDirectoryServer(createConfig(copyDir, 0));
+    try
+    {
+      assertEquals(recoveredDS.countEntries(), 2);
+      recoveredDS.assertValueExists("ou=People,dc=example,dc=com",
+           "description", "foo");
+      assertEquals(copiedLog.length(), validLength);
+
+      recoveredDS.add(generateOrgUnitEntry("Groups", "dc=example,dc=com"));
+    }
+    finally
+    {
+      recoveredDS.close();
+    }
+
+    final InMemoryDirectoryServer reopenedDS =
+         new InMemoryDirectoryServer(createConfig(copyDir, 0));
+    try
+    {
+      assertEquals(reopenedDS.countEntries(), 3);
+      reopenedDS.assertEntryExists("ou=Groups,dc=example,dc=com");
+    }
+    finally
+    {
+      reopenedDS.close();
+    }
+  }
+
+
+
+  /**
+   * Tests that the entry log is compacted when it is opened if most of it is
+   * made up of records that have been superseded.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testCompaction()
+         throws Exception
+  {
+    final File dataDir = createTempDir();
+    final File logFile = new File(dataDir,
+         InMemoryDirectoryServerPersistentStore.LOG_FILE_NAME);
+
+    final char[] descriptionChars = new char[4096];
+    Arrays.fill(descriptionChars, 'x');
+    final String description = new String(descriptionChars);
+
+    InMemoryDirectoryServer ds =
+         new InMemoryDirectoryServer(createConfig(dataDir, 0));
+    try
+    {
+      ds.add(generateDomainEntry("example", "dc=com"));
+      ds.add(generateOrgUnitEntry("People", "dc=example,dc=com"));
+
+      final List<Entry> entries = new ArrayList<>(500);
+      for (int i=0; i < 500; i++)
+      {
+        entries.add(generateUserEntry("user." + i,
+             "ou=People,dc=example,dc=com", "User", String.valueOf(i),
+             "password", new Attribute("description", description)));
+      }
+      ds.addEntries(entries);
+
+      ds.deleteSubtree("ou=People,dc=example,dc=com");
+    }
+    finally
+    {
+      ds.close();
+    }
+
+    assertTrue(logFile.length() > 2_000_000L);
+
+    ds = new InMemoryDirectoryServer(createConfig(dataDir, 0));
+    try
+    {
+      assertTrue(logFile.length() < 10_000L);
+      assertEquals(ds.countEntries(), 1);
+      ds.assertEntryExists("dc=example,dc=com");
+
+      ds.add(generateOrgUnitEntry("Groups", "dc=example,dc=com"));
+    }
+    finally
+    {
+      ds.close();
+    }
+
+    ds = new InMemoryDirectoryServer(createConfig(dataDir, 0));
+    try
+    {
+      assertEquals(ds.countEntries(), 2);
+      ds.assertEntryExists("ou=Groups,dc=example,dc=com");
+    }
+    finally
+    {
+      ds.close();
+    }
+  }
+
+
+
+  /**
+   * Tests that the changelog and the change numbers are preserved when a
+   * server is reopened.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testChangeLogAfterReopen()
+         throws Exception
+  {
+    final File dataDir = createTempDir();
+
+    InMemoryDirectoryServer ds =
+         new InMemoryDirectoryServer(createConfig(dataDir, 2));
+    try
+    {
+      ds.add(generateDomainEntry("example", "dc=com"));
+      ds.add(generateOrgUnitEntry("People", "dc=example,dc=com"));
+      ds.add(generateOrgUnitEntry("Groups", "dc=example,dc=com"));
+      ds.assertValueExists("", "firstChangeNumber", "2");
+      ds.assertValueExists("", "lastChangeNumber", "3");
+    }
+    finally
+    {
+      ds.close();
+    }
+
+    ds = new InMemoryDirectoryServer(createConfig(dataDir, 2));
+    try
+    {
+      ds.assertValueExists("", "firstChangeNumber", "2");
+      ds.assertValueExists("", "lastChangeNumber", "3");
+      ds.assertEntryExists("changeNumber=3,cn=changelog");
+
+      ds.delete("ou=Groups,dc=example,dc=com");
+      ds.assertValueExists("", "firstChangeNumber", "3");
+      ds.assertValueExists("", "lastChangeNumber", "4");
+      ds.assertEntryMissing("changeNumber=2,cn=changelog");
+
+      // Clearing the server should only retain the changelog base entry.
+      ds.clear();
+      assertEquals(ds.countEntries(true), 1);
+      ds.assertEntryExists("cn=changelog");
+    }
+    finally
+    {
+      ds.close();
+    }
+  }
+
+
+
+  /**
+   * Creates a server configuration that uses the specified persistent data
+   * directory.
+   *
+   * @param  dataDir              The persistent data directory to use.
+   * @param  maxChangeLogEntries  The maximum number of changelog entries to
+   *                              retain.
+   *
+   * @return  The server configuration that was created.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static InMemoryDirectoryServerConfig createConfig(
+                      final File dataDir, final int maxChangeLogEntries)
+          throws Exception
+  {
+    final InMemoryDirectoryServerConfig config =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    config.setEqualityIndexAttributes("description");
+    config.setMaxChangeLogEntries(maxChangeLogEntries);
+    config.setPersistentDataDirectory(dataDir);
+    return config;
+  }
+
+
+
+  /**
+   * Retrieves the number of entries in the provided server that match the
+   * given filter.
+   *
+   * @param  ds      The server in which to search.
+   * @param  filter  The filter to use for the search.
+   *
+   * @return  The number of entries that match the given filter.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static int countMatchingEntries(final InMemoryDirectoryServer ds,
+                                          final String filter)
+          throws Exception
+  {
+    return ds.search("dc=example,dc=com", SearchScope.SUB,
+         filter).getEntryCount();
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.schema.Schema;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * InMemoryDirectoryServerPresenceAttributeIndex class.
+ */
+public final class InMemoryDirectoryServerPresenceAttributeIndexTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior when trying to create an index when no schema is
+   * available.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testIndexWithoutSchema()
+         throws Exception
+  {
+    new InMemoryDirectoryServerPresenceAttributeIndex("mail", null);
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to create an index for an undefined
+   * attribute type.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testIndexWithUndefinedAttribute()
+         throws Exception
+  {
+    new InMemoryDirectoryServerPresenceAttributeIndex("undefined",
+         Schema.getDefaultStandardSchema());
+  }
+
+
+
+  /**
+   * Tests the basic behavior of the index when adding and removing entries
+   * with and without the indexed attribute.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAddAndDelete()
+         throws Exception
+  {
+    final InMemoryDirectoryServerPresenceAttributeIndex index =
+         new InMemoryDirectoryServerPresenceAttributeIndex("mail",
+              Schema.getDefaultStandardSchema());
+    assertEquals(index.getAttributeType().getNameOrOID(), "mail");
+    assertEmpty(index.getMatchingEntries());
+
+    final Entry withMail = new Entry(
+         "dn: uid=with.mail,ou=People,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: inetOrgPerson",
+         "uid: with.mail",
+         "cn: With Mail",
+         "sn: Mail",
+         "mail: with.mail@example.com");
+    final Entry withoutMail = new Entry(
+         "dn: uid=without.mail,ou=People,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: inetOrgPerson",
+         "uid: without.mail",
+         "cn: Without Mail",
+         "sn: Mail");
+
+    index.processAdd(withMail, 0);
+    index.processAdd(withoutMail, 1);
+    assertEquals(index.getMatchingEntries().size(), 1);
+    assertTrue(index.getMatchingEntries().contains(0));
+    assertFalse(index.getMatchingEntries().contains(1));
+    assertEquals(index.copySet(), index.getMatchingEntries());
+
+    index.processDelete(withoutMail, 1);
+    assertEquals(index.getMatchingEntries().size(), 1);
+
+    index.processDelete(withMail, 0);
+    assertEmpty(index.getMatchingEntries());
+
+    index.processAdd(withMail, 0);
+    assertEquals(index.getMatchingEntries().size(), 1);
+
+    index.clear();
+    assertEmpty(index.getMatchingEntries());
+  }
+
+
+
+  /**
+   * Asserts that the provided bitmap is not {@code null} but is empty.
+   *
+   * @param  b  The bitmap to examine.
+   *
+   * @throws  AssertionError  If the bitmap is {@code null} or non-empty.
+   */
+  private static void assertEmpty(final InMemoryDirectoryServerBitmap b)
+          throws AssertionError
+  {
+    assertNotNull(b);
+    assertTrue(b.isEmpty());
+  }
+}
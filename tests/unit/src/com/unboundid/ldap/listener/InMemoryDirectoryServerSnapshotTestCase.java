@@ -37,11 +37,20 @@ package com.unboundid.ldap.listener;
 
 
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Map;
+
 import org.testng.annotations.Test;
 
+import com.unboundid.ldap.sdk.Attribute;
 import com.unboundid.ldap.sdk.DN;
 import com.unboundid.ldap.sdk.LDAPConnection;
 import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.ReadOnlyEntry;
+import com.unboundid.ldap.sdk.SearchScope;
 
 
 
@@ -346,4 +355,180 @@ public final class InMemoryDirectoryServerSnapshotTestCase
       ds.shutDown(true);
     }
   }
+
+
+
+  /**
+   * Tests the behavior of snapshots when changes are made after they are
+   * created, including restoring snapshots in a different order than they were
+   * created, serializing a snapshot, and restoring a snapshot into a different
+   * server.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSnapshotsWithLaterChanges()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig config =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    config.setEqualityIndexAttributes("description");
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(config);
+
+    ds.add(generateDomainEntry("example", "dc=com"));
+    ds.add(generateOrgUnitEntry("People", "dc=example,dc=com"));
+    for (int i=1; i <= 3; i++)
+    {
+      ds.add(generateUserEntry("user." + i, "ou=People,dc=example,dc=com",
+           "User", String.valueOf(i), "password",
+           new Attribute("description", "a")));
+    }
+
+
+    // Create a snapshot, and make some changes without looking at it.
+    final InMemoryDirectoryServerSnapshot snapshot1 = ds.createSnapshot();
+
+    ds.modify(
+         "dn: uid=user.1,ou=People,dc=example,dc=com",
+         "changetype: modify",
+         "replace: description",
+         "description: b");
+    ds.delete("uid=user.2,ou=People,dc=example,dc=com");
+    ds.add(generateUserEntry("user.4", "ou=People,dc=example,dc=com",
+         "User", "4", "password", new Attribute("description", "a")));
+
+
+    // Create a second snapshot and make another change.
+    final InMemoryDirectoryServerSnapshot snapshot2 = ds.createSnapshot();
+
+    ds.modify(
+         "dn: uid=user.3,ou=People,dc=example,dc=com",
+         "changetype: modify",
+         "replace: description",
+         "description: c");
+
+
+    // Make sure that both snapshots reflect the content at the time they were
+    // created.
+    final Map<DN,ReadOnlyEntry> entryMap1 = snapshot1.getEntryMap();
+    assertEquals(entryMap1.size(), 5);
+    assertTrue(entryMap1.containsKey(
+         new DN("uid=user.2,ou=People,dc=example,dc=com")));
+    assertFalse(entryMap1.containsKey(
+         new DN("uid=user.4,ou=People,dc=example,dc=com")));
+    assertTrue(entryMap1.get(
+         new DN("uid=user.1,ou=People,dc=example,dc=com")).hasAttributeValue(
+              "description", "a"));
+
+    assertSnapshot2Content(snapshot2.getEntryMap());
+
+
+    // Make sure that a serialized snapshot has the same content.
+    final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(baos))
+    {
+      oos.writeObject(snapshot1);
+    }
+
+    final InMemoryDirectoryServerSnapshot deserializedSnapshot;
+    try (ObjectInputStream ois = new ObjectInputStream(
+              new ByteArrayInputStream(baos.toByteArray())))
+    {
+      deserializedSnapshot = (InMemoryDirectoryServerSnapshot) ois.readObject();
+    }
+
+    assertEquals(deserializedSnapshot.getEntryMap(), entryMap1);
+
+
+    // Restore the first snapshot and make sure that the content and the
+    // indexes match it, and that the second snapshot is not affected.
+    ds.restoreSnapshot(snapshot1);
+
+    assertEquals(ds.countEntries(), 5);
+    ds.assertEntryExists("uid=user.2,ou=People,dc=example,dc=com");
+    ds.assertEntryMissing("uid=user.4,ou=People,dc=example,dc=com");
+    assertEquals(countMatchingEntries(ds, "(description=a)"), 3);
+    assertEquals(countMatchingEntries(ds, "(description=b)"), 0);
+    assertEquals(countMatchingEntries(ds, "(description=c)"), 0);
+
+    assertSnapshot2Content(snapshot2.getEntryMap());
+
+
+    // Restore the second snapshot and check it.
+    ds.restoreSnapshot(snapshot2);
+
+    assertEquals(ds.countEntries(), 5);
+    ds.assertEntryMissing("uid=user.2,ou=People,dc=example,dc=com");
+    ds.assertEntryExists("uid=user.4,ou=People,dc=example,dc=com");
+    assertEquals(countMatchingEntries(ds, "(description=a)"), 2);
+    assertEquals(countMatchingEntries(ds, "(description=b)"), 1);
+    assertEquals(countMatchingEntries(ds, "(description=c)"), 0);
+
+
+    // Restore the first snapshot again.
+    ds.restoreSnapshot(snapshot1);
+
+    assertEquals(ds.countEntries(), 5);
+    assertEquals(countMatchingEntries(ds, "(description=a)"), 3);
+    assertEquals(ds.createSnapshot().getEntryMap(), entryMap1);
+
+
+    // Restore the second snapshot into a different server.
+    final InMemoryDirectoryServer ds2 = new InMemoryDirectoryServer(config);
+    ds2.restoreSnapshot(snapshot2);
+
+    assertEquals(ds2.countEntries(), 5);
+    assertEquals(countMatchingEntries(ds2, "(description=a)"), 2);
+    assertEquals(countMatchingEntries(ds2, "(description=b)"), 1);
+    assertSnapshot2Content(ds2.createSnapshot().getEntryMap());
+  }
+
+
+
+  /**
+   * Ensures that the provided entry map has the content expected for the
+   * second snapshot created by the {@code testSnapshotsWithLaterChanges}
+   * method.
+   *
+   * @param  entryMap  The entry map to examine.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static void assertSnapshot2Content(
+                           final Map<DN,ReadOnlyEntry> entryMap)
+          throws Exception
+  {
+    assertEquals(entryMap.size(), 5);
+    assertFalse(entryMap.containsKey(
+         new DN("uid=user.2,ou=People,dc=example,dc=com")));
+    assertTrue(entryMap.containsKey(
+         new DN("uid=user.4,ou=People,dc=example,dc=com")));
+    assertTrue(entryMap.get(
+         new DN("uid=user.1,ou=People,dc=example,dc=com")).hasAttributeValue(
+              "description", "b"));
+    assertTrue(entryMap.get(
+         new DN("uid=user.3,ou=People,dc=example,dc=com")).hasAttributeValue(
+              "description", "a"));
+  }
+
+
+
+  /**
+   * Retrieves the number of entries in the provided server that match the
+   * given filter.
+   *
+   * @param  ds      The server in which to search.
+   * @param  filter  The filter to use for the search.
+   *
+   * @return  The number of entries that match the given filter.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static int countMatchingEntries(final InMemoryDirectoryServer ds,
+                                          final String filter)
+          throws Exception
+  {
+    return ds.search("dc=example,dc=com", SearchScope.SUB,
+         filter).getEntryCount();
+  }
 }
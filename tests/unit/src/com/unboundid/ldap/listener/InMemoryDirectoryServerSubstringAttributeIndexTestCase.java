@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.ArrayList;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.Filter;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.schema.Schema;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * InMemoryDirectoryServerSubstringAttributeIndex class.
+ */
+public final class InMemoryDirectoryServerSubstringAttributeIndexTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior when trying to create an index when no schema is
+   * available.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testIndexWithoutSchema()
+         throws Exception
+  {
+    new InMemoryDirectoryServerSubstringAttributeIndex("cn", null);
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to create an index for an undefined
+   * attribute type.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testIndexWithUndefinedAttribute()
+         throws Exception
+  {
+    new InMemoryDirectoryServerSubstringAttributeIndex("undefined",
+         Schema.getDefaultStandardSchema());
+  }
+
+
+
+  /**
+   * Tests that the candidate sets returned by the index always include every
+   * entry that matches a variety of substring filters, and that they can be
+   * used to exclude entries that cannot match.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMatchingEntries()
+         throws Exception
+  {
+    final Schema schema = Schema.getDefaultStandardSchema();
+    final InMemoryDirectoryServerSubstringAttributeIndex index =
+         new InMemoryDirectoryServerSubstringAttributeIndex("cn", schema);
+
+    final ArrayList<Entry> entryList = new ArrayList<>();
+    final String[] names =
+    {
+      "Aaron Abbot",
+      "Abigail Abernathy",
+      "Barbara Babcock",
+      "Bob",
+      "Zed"
+    };
+    for (final String name : names)
+    {
+      entryList.add(new Entry(
+           "dn: cn=" + name + ",ou=People,dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: person",
+           "cn: " + name,
+           "cn: Alias of " + name,
+           "sn: " + name));
+    }
+
+    for (int i=0; i < entryList.size(); i++)
+    {
+      index.processAdd(entryList.get(i), i);
+    }
+
+    assertEquals(index.copyValueMap().size(), 10);
+    assertFalse(index.copyGramMap().isEmpty());
+
+    final String[] filterStrings =
+    {
+      "(cn=a*)",
+      "(cn=AB*)",
+      "(cn=*bot)",
+      "(cn=*bar*)",
+      "(cn=ab*ern*)",
+      "(cn=*of b*)",
+      "(cn=b*b)",
+      "(cn=*abc*)",
+      "(cn=zzz*)",
+      "(cn=*zzz)"
+    };
+
+    for (final String filterString : filterStrings)
+    {
+      final Filter filter = Filter.create(filterString);
+      final InMemoryDirectoryServerBitmap candidates =
+           index.getMatchingEntries(filter.getRawSubInitialValue(),
+                filter.getRawSubAnyValues(), filter.getRawSubFinalValue());
+      assertNotNull(candidates, filterString);
+
+      for (int i=0; i < entryList.size(); i++)
+      {
+        if (filter.matchesEntry(entryList.get(i), schema))
+        {
+          assertTrue(candidates.contains(i), filterString);
+        }
+      }
+    }
+
+    assertEquals(index.getMatchingEntries(new ASN1OctetString("b"), null,
+         null).size(), 2);
+    assertEmpty(index.getMatchingEntries(new ASN1OctetString("zzz"), null,
+         null));
+    assertEmpty(index.getMatchingEntries(null, null,
+         new ASN1OctetString("zzz")));
+
+    // A filter with only short non-initial components can't be narrowed.
+    assertNull(index.getMatchingEntries(null,
+         new ASN1OctetString[] { new ASN1OctetString("b") }, null));
+
+    for (int i=0; i < entryList.size(); i++)
+    {
+      index.processDelete(entryList.get(i), i);
+    }
+
+    assertTrue(index.copyValueMap().isEmpty());
+    assertTrue(index.copyGramMap().isEmpty());
+
+    index.processAdd(entryList.get(0), 0);
+    assertFalse(index.copyValueMap().isEmpty());
+    index.clear();
+    assertTrue(index.copyValueMap().isEmpty());
+    assertTrue(index.copyGramMap().isEmpty());
+  }
+
+
+
+  /**
+   * Tests the behavior for an attribute type whose substring matching rule
+   * is not a simple matching rule.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testUnsupportedMatchingRule()
+         throws Exception
+  {
+    final InMemoryDirectoryServerSubstringAttributeIndex index =
+         new InMemoryDirectoryServerSubstringAttributeIndex("postalAddress",
+              Schema.getDefaultStandardSchema());
+
+    index.processAdd(new Entry(
+         "dn: cn=test,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: device",
+         "cn: test",
+         "postalAddress: 123 Main Street$Anytown, TX 12345"), 0);
+
+    assertNull(index.getMatchingEntries(new ASN1OctetString("123"), null,
+         null));
+  }
+
+
+
+  /**
+   * Asserts that the provided bitmap is not {@code null} but is empty.
+   *
+   * @param  b  The bitmap to examine.
+   *
+   * @throws  AssertionError  If the bitmap is {@code null} or non-empty.
+   */
+  private static void assertEmpty(final InMemoryDirectoryServerBitmap b)
+          throws AssertionError
+  {
+    assertNotNull(b);
+    assertTrue(b.isEmpty());
+  }
+}
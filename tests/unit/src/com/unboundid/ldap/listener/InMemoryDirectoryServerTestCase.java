@@ -38,16 +38,22 @@ package com.unboundid.ldap.listener;
 
 
 import java.io.File;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
 import java.net.InetAddress;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.testng.annotations.Test;
 
 import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.listener.interceptor.InMemoryInterceptedSearchEntry;
+import com.unboundid.ldap.listener.interceptor.InMemoryOperationInterceptor;
 import com.unboundid.ldap.sdk.AddRequest;
 import com.unboundid.ldap.sdk.Attribute;
 import com.unboundid.ldap.sdk.BindResult;
@@ -86,6 +92,9 @@ import com.unboundid.ldap.sdk.SimpleBindRequest;
 import com.unboundid.ldap.sdk.TestUnsolicitedNotificationHandler;
 import com.unboundid.ldap.sdk.controls.AuthorizationIdentityRequestControl;
 import com.unboundid.ldap.sdk.controls.AuthorizationIdentityResponseControl;
+import com.unboundid.ldap.sdk.controls.ServerSideSortRequestControl;
+import com.unboundid.ldap.sdk.controls.SortKey;
+import com.unboundid.ldap.sdk.controls.SubtreeDeleteRequestControl;
 import com.unboundid.ldap.sdk.schema.AttributeTypeDefinition;
 import com.unboundid.ldap.sdk.schema.Schema;
 import com.unboundid.ldap.sdk.extensions.StartTLSExtendedRequest;
@@ -93,8 +102,10 @@ import com.unboundid.ldap.sdk.extensions.WhoAmIExtendedRequest;
 import com.unboundid.ldap.sdk.unboundidds.controls.
             IgnoreNoUserModificationRequestControl;
 import com.unboundid.ldif.LDIFException;
+import com.unboundid.ldif.LDIFReader;
 import com.unboundid.util.CryptoHelper;
 import com.unboundid.util.MemoryBasedLogHandler;
+import com.unboundid.util.StaticUtils;
 import com.unboundid.util.ssl.KeyStoreKeyManager;
 import com.unboundid.util.ssl.SSLUtil;
 import com.unboundid.util.ssl.TrustAllTrustManager;
@@ -753,6 +764,196 @@ public final class InMemoryDirectoryServerTestCase
 
 
 
+  /**
+   * Tests the behavior of a bulk LDIF import that uses multiple threads to
+   * read and validate entries.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testBulkLDIFImport()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    cfg.setSchema(Schema.getDefaultStandardSchema());
+    cfg.setEqualityIndexAttributes("uid");
+    cfg.setMaxChangeLogEntries(1000);
+
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(cfg);
+    assertEquals(ds.countEntries(), 0);
+
+
+    // Create an LDIF file in which children are listed before their parents.
+    final ArrayList<String> lines = new ArrayList<>(1000);
+    for (int i=1; i <= 100; i++)
+    {
+      lines.add("dn: uid=user." + i + ",ou=People,dc=example,dc=com");
+      lines.add("objectClass: inetOrgPerson");
+      lines.add("uid: user." + i);
+      lines.add("givenName: User");
+      lines.add("sn: " + i);
+      lines.add("cn: User " + i);
+      lines.add("");
+    }
+
+    lines.add("dn: ou=People,dc=example,dc=com");
+    lines.add("objectClass: top");
+    lines.add("objectClass: organizationalUnit");
+    lines.add("ou: People");
+    lines.add("");
+    lines.add("dn: dc=example,dc=com");
+    lines.add("objectClass: top");
+    lines.add("objectClass: domain");
+    lines.add("dc: example");
+
+    final String[] lineArray = new String[lines.size()];
+    final File ldifFile = createTempFile(lines.toArray(lineArray));
+
+    final InMemoryDirectoryServerImportStatistics statistics =
+         new InMemoryDirectoryServerImportStatistics();
+    assertFalse(statistics.isComplete());
+    assertEquals(statistics.getElapsedTimeMillis(), 0L);
+    assertEquals(statistics.getEntriesReadPerSecond(), 0.0d);
+
+    assertEquals(ds.importFromLDIF(true, ldifFile, 4, statistics), 102);
+    assertEquals(ds.countEntries(), 102);
+
+    assertTrue(statistics.isComplete());
+    assertTrue(statistics.isSuccessful());
+    assertEquals(statistics.getEntriesRead(), 102L);
+    assertEquals(statistics.getEntriesImported(), 102L);
+    assertTrue(statistics.getStartTimeMillis() > 0L);
+    assertTrue(statistics.getElapsedTimeMillis() >= 0L);
+    assertTrue(statistics.getEntriesImportedPerSecond() >= 0.0d);
+    assertNotNull(statistics.toString());
+
+
+    // Make sure that the superior object classes and operational attributes
+    // were added, that the index was populated, and that the changelog was
+    // updated.
+    final Entry e =
+         ds.getEntry("uid=user.50,ou=People,dc=example,dc=com", "*", "+");
+    assertNotNull(e);
+    assertTrue(e.hasObjectClass("person"));
+    assertTrue(e.hasObjectClass("organizationalPerson"));
+    assertTrue(e.hasAttribute("entryUUID"));
+    assertTrue(e.hasAttribute("createTimestamp"));
+
+    assertEquals(ds.search("dc=example,dc=com", SearchScope.SUB,
+         "(uid=USER.50)").getEntryCount(), 1);
+    assertEquals(ds.search("ou=People,dc=example,dc=com", SearchScope.ONE,
+         "(objectClass=person)").getEntryCount(), 100);
+    assertEquals(ds.search("cn=changelog", SearchScope.ONE,
+         "(changeType=add)").getEntryCount(), 102);
+
+
+    // Try an import with an entry that violates the schema, and make sure
+    // that the existing data is preserved.
+    final File invalidFile = createTempFile(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example",
+         "",
+         "dn: ou=People,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: People",
+         "undefinedAttribute: foo");
+    try
+    {
+      ds.importFromLDIF(true, invalidFile, 2, statistics);
+      fail("Expected an exception for an import with an invalid entry.");
+    }
+    catch (final LDAPException le)
+    {
+      assertEquals(le.getResultCode(), ResultCode.OBJECT_CLASS_VIOLATION);
+    }
+    assertEquals(ds.countEntries(), 102);
+    assertTrue(statistics.isComplete());
+    assertFalse(statistics.isSuccessful());
+    assertEquals(statistics.getEntriesImported(), 0L);
+
+
+    // Try an import with an entry whose parent is missing.
+    final File missingParentFile = createTempFile(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example",
+         "",
+         "dn: uid=test.user,ou=Missing,dc=example,dc=com",
+         "objectClass: inetOrgPerson",
+         "uid: test.user",
+         "givenName: Test",
+         "sn: User",
+         "cn: Test User");
+    try
+    {
+      ds.importFromLDIF(true, missingParentFile, 2, null);
+      fail("Expected an exception for an import with a missing parent.");
+    }
+    catch (final LDAPException le)
+    {
+      assertEquals(le.getResultCode(), ResultCode.NO_SUCH_OBJECT);
+    }
+    assertEquals(ds.countEntries(), 102);
+
+
+    // Try an import with a duplicate entry.
+    final File duplicateFile = createTempFile(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example",
+         "",
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example");
+    try
+    {
+      ds.importFromLDIF(true, duplicateFile, 2, null);
+      fail("Expected an exception for an import with a duplicate entry.");
+    }
+    catch (final LDAPException le)
+    {
+      assertEquals(le.getResultCode(), ResultCode.ENTRY_ALREADY_EXISTS);
+    }
+    assertEquals(ds.countEntries(), 102);
+
+
+    // Try an import that doesn't clear the existing data but includes an
+    // entry that already exists.
+    try
+    {
+      ds.importFromLDIF(false, ldifFile, 1, null);
+      fail("Expected an exception for an import with an existing entry.");
+    }
+    catch (final LDAPException le)
+    {
+      assertEquals(le.getResultCode(), ResultCode.ENTRY_ALREADY_EXISTS);
+    }
+    assertEquals(ds.countEntries(), 102);
+
+
+    // Try an import from a file that doesn't exist.
+    try
+    {
+      ds.importFromLDIF(true,
+           new File(ldifFile.getAbsolutePath() + ".missing"), 2, null);
+      fail("Expected an exception for an import from a missing file.");
+    }
+    catch (final LDAPException le)
+    {
+      assertEquals(le.getResultCode(), ResultCode.LOCAL_ERROR);
+    }
+    assertEquals(ds.countEntries(), 102);
+  }
+
+
+
   /**
    * Tests operations involving applying changes from LDIF.
    *
@@ -3480,6 +3681,390 @@ public final class InMemoryDirectoryServerTestCase
 
 
 
+  /**
+   * Tests that searches processed with presence, substring, and ordering
+   * indexes return the same entries as the same searches processed without
+   * any indexes.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSearchWithPresenceSubstringAndOrderingIndexes()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig indexedConfig =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    indexedConfig.setEqualityIndexAttributes("objectClass");
+    indexedConfig.setPresenceIndexAttributes("mail", "description");
+    indexedConfig.setSubstringIndexAttributes("cn", "mail");
+    indexedConfig.setOrderingIndexAttributes("employeeNumber", "cn",
+         "createTimestamp");
+    final InMemoryDirectoryServer indexedDS =
+         new InMemoryDirectoryServer(indexedConfig);
+
+    final InMemoryDirectoryServer unindexedDS = new InMemoryDirectoryServer(
+         new InMemoryDirectoryServerConfig("dc=example,dc=com"));
+
+    for (final InMemoryDirectoryServer ds : Arrays.asList(indexedDS,
+         unindexedDS))
+    {
+      ds.add(
+           "dn: dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: domain",
+           "dc: example");
+      ds.add(
+           "dn: ou=People,dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: organizationalUnit",
+           "ou: People");
+
+      for (int i=0; i < 50; i++)
+      {
+        final String mailLine;
+        if ((i % 3) == 0)
+        {
+          mailLine = "description: no mail";
+        }
+        else
+        {
+          mailLine = "mail: user." + i + "@example.com";
+        }
+
+        ds.add(
+             "dn: uid=user." + i + ",ou=People,dc=example,dc=com",
+             "objectClass: top",
+             "objectClass: person",
+             "objectClass: organizationalPerson",
+             "objectClass: inetOrgPerson",
+             "uid: user." + i,
+             "givenName: User",
+             "sn: " + i,
+             "cn: User " + i,
+             "cn: " + ((i % 2 == 0) ? "Even" : "Odd") + " Person " + i,
+             "employeeNumber: " + i,
+             mailLine);
+      }
+
+      // Make sure that changes are reflected in the indexes.
+      ds.modify(
+           "dn: uid=user.0,ou=People,dc=example,dc=com",
+           "changetype: modify",
+           "replace: mail",
+           "mail: changed@example.com",
+           "-",
+           "delete: description");
+      ds.delete("uid=user.1,ou=People,dc=example,dc=com");
+      ds.modifyDN("uid=user.2,ou=People,dc=example,dc=com", "uid=renamed",
+           true);
+    }
+
+    final String[] filterStrings =
+    {
+      "(mail=*)",
+      "(description=*)",
+      "(!(mail=*))",
+      "(cn=user*)",
+      "(cn=*person 1*)",
+      "(cn=even*4)",
+      "(cn=*ven*son*)",
+      "(cn=*0)",
+      "(cn=o*)",
+      "(cn=xyz*)",
+      "(mail=*@example.com)",
+      "(mail=changed*)",
+      "(employeeNumber>=25)",
+      "(employeeNumber<=9)",
+      "(employeeNumber>=1000)",
+      "(cn<=User 2)",
+      "(createTimestamp>=19700101000000Z)",
+      "(createTimestamp<=19700101000000Z)",
+      "(&(cn=odd*)(employeeNumber>=40))",
+      "(&(mail=*)(employeeNumber<=10))",
+      "(&(objectClass=person)(cn=*even*)(!(employeeNumber>=20)))",
+      "(|(cn=even person 4*)(employeeNumber>=48))",
+      "(|(mail=*)(description=*))",
+      "(|(cn=even*)(sn=1*))"
+    };
+
+    for (final String filterString : filterStrings)
+    {
+      final SearchResult indexedResult = indexedDS.search(
+           "dc=example,dc=com", SearchScope.SUB, filterString);
+      final SearchResult unindexedResult = unindexedDS.search(
+           "dc=example,dc=com", SearchScope.SUB, filterString);
+
+      final ArrayList<DN> indexedDNs = new ArrayList<>();
+      for (final SearchResultEntry e : indexedResult.getSearchEntries())
+      {
+        indexedDNs.add(e.getParsedDN());
+      }
+
+      final ArrayList<DN> unindexedDNs = new ArrayList<>();
+      for (final SearchResultEntry e : unindexedResult.getSearchEntries())
+      {
+        unindexedDNs.add(e.getParsedDN());
+      }
+
+      assertEquals(indexedDNs, unindexedDNs, filterString);
+    }
+
+    assertEquals(indexedDS.search("dc=example,dc=com", SearchScope.SUB,
+         "(mail=*)").getEntryCount(), 33);
+
+    // The employeeNumber attribute type doesn't have an ordering matching
+    // rule, so its values are compared as case-insensitive strings.
+    assertEquals(indexedDS.search("dc=example,dc=com", SearchScope.SUB,
+         "(employeeNumber>=25)").getEntryCount(), 32);
+
+    indexedDS.clear();
+    assertEquals(indexedDS.search("", SearchScope.SUB,
+         "(mail=*)").getEntryCount(), 0);
+  }
+
+
+
+  /**
+   * Tests that searches with NOT filters and combinations of AND and OR filters
+   * that are evaluated with bitmap operations on the attribute indexes return
+   * the same entries as the same searches processed without any indexes, both
+   * before and after restoring a snapshot.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSearchWithIndexedNOTFilters()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig indexedConfig =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    indexedConfig.setEqualityIndexAttributes("objectClass", "sn");
+    indexedConfig.setPresenceIndexAttributes("mail");
+    indexedConfig.setSubstringIndexAttributes("cn");
+    indexedConfig.setOrderingIndexAttributes("employeeNumber");
+    final InMemoryDirectoryServer indexedDS =
+         new InMemoryDirectoryServer(indexedConfig);
+
+    final InMemoryDirectoryServer unindexedDS = new InMemoryDirectoryServer(
+         new InMemoryDirectoryServerConfig("dc=example,dc=com"));
+
+    final InMemoryDirectoryServerSnapshot[] snapshots =
+         new InMemoryDirectoryServerSnapshot[2];
+    int snapshotIndex = 0;
+    for (final InMemoryDirectoryServer ds : Arrays.asList(indexedDS,
+         unindexedDS))
+    {
+      ds.add(
+           "dn: dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: domain",
+           "dc: example");
+      ds.add(
+           "dn: ou=People,dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: organizationalUnit",
+           "ou: People");
+
+      for (int i=0; i < 30; i++)
+      {
+        ds.add(
+             "dn: uid=user." + i + ",ou=People,dc=example,dc=com",
+             "objectClass: top",
+             "objectClass: person",
+             "objectClass: organizationalPerson",
+             "objectClass: inetOrgPerson",
+             "uid: user." + i,
+             "givenName: User",
+             "sn: " + (i % 4),
+             "cn: User " + i,
+             "employeeNumber: " + i,
+             (((i % 5) == 0) ? "description: no mail" :
+                  "mail: user." + i + "@example.com"));
+      }
+
+      snapshots[snapshotIndex++] = ds.createSnapshot();
+
+      // Free up some entry IDs and make sure they are reused correctly.
+      ds.delete("uid=user.3,ou=People,dc=example,dc=com");
+      ds.delete("uid=user.4,ou=People,dc=example,dc=com");
+      ds.add(
+           "dn: uid=new.user,ou=People,dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: person",
+           "objectClass: organizationalPerson",
+           "objectClass: inetOrgPerson",
+           "uid: new.user",
+           "givenName: New",
+           "sn: 1",
+           "cn: New User",
+           "employeeNumber: 99");
+    }
+
+    final String[] filterStrings =
+    {
+      "(!(sn=1))",
+      "(!(mail=*))",
+      "(!(employeeNumber>=20))",
+      "(!(!(sn=2)))",
+      "(!(|(sn=0)(sn=1)))",
+      "(!(&(sn=0)(mail=*)))",
+      "(&(objectClass=person)(!(sn=3)))",
+      "(|(!(mail=*))(sn=2))",
+      "(&(!(sn=0))(!(sn=1))(!(mail=*)))",
+      "(!(cn=user 1*))",
+      "(!(&(sn=0)(cn=user*)))",
+      "(!(givenName=User))",
+      "(!(|))",
+      "(!(&))"
+    };
+
+    for (int pass=0; pass < 2; pass++)
+    {
+      for (final String filterString : filterStrings)
+      {
+        final SearchResult indexedResult = indexedDS.search(
+             "dc=example,dc=com", SearchScope.SUB, filterString);
+        final SearchResult unindexedResult = unindexedDS.search(
+             "dc=example,dc=com", SearchScope.SUB, filterString);
+
+        final ArrayList<DN> indexedDNs = new ArrayList<>();
+        for (final SearchResultEntry e : indexedResult.getSearchEntries())
+        {
+          indexedDNs.add(e.getParsedDN());
+        }
+
+        final ArrayList<DN> unindexedDNs = new ArrayList<>();
+        for (final SearchResultEntry e : unindexedResult.getSearchEntries())
+        {
+          unindexedDNs.add(e.getParsedDN());
+        }
+
+        assertEquals(indexedDNs, unindexedDNs, filterString);
+      }
+
+      indexedDS.restoreSnapshot(snapshots[0]);
+      unindexedDS.restoreSnapshot(snapshots[1]);
+    }
+
+    assertEquals(indexedDS.search("dc=example,dc=com", SearchScope.SUB,
+         "(!(mail=*))").getEntryCount(), 8);
+  }
+
+
+
+  /**
+   * Tests to ensure that searches, compares, and entry retrievals can be
+   * processed without blocking while another thread holds the write lock in
+   * the middle of an LDIF import, and that they see a consistent version of
+   * the data that does not include any of the partially-imported entries.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(timeOut = 60000)
+  public void testReadsDoNotBlockOnInProgressImport()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    cfg.setEqualityIndexAttributes("sn");
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(cfg);
+
+    ds.add(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example");
+    ds.add(
+         "dn: ou=People,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: People");
+    for (int i=0; i < 10; i++)
+    {
+      ds.add(
+           "dn: uid=user." + i + ",ou=People,dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: person",
+           "objectClass: organizationalPerson",
+           "objectClass: inetOrgPerson",
+           "uid: user." + i,
+           "cn: User " + i,
+           "sn: 0");
+    }
+
+    final PipedOutputStream pipeOut = new PipedOutputStream();
+    final PipedInputStream pipeIn = new PipedInputStream(pipeOut, 65536);
+    final AtomicReference<Object> importResult = new AtomicReference<>();
+    final Thread importThread = new Thread()
+    {
+      @Override()
+      public void run()
+      {
+        try
+        {
+          importResult.set(ds.importFromLDIF(false, new LDIFReader(pipeIn)));
+        }
+        catch (final Exception e)
+        {
+          importResult.set(e);
+        }
+      }
+    };
+    importThread.start();
+
+    final StringBuilder ldif = new StringBuilder();
+    for (int i=0; i < 5; i++)
+    {
+      ldif.append("dn: uid=import.").append(i).
+           append(",ou=People,dc=example,dc=com\n");
+      ldif.append("objectClass: top\n");
+      ldif.append("objectClass: person\n");
+      ldif.append("objectClass: organizationalPerson\n");
+      ldif.append("objectClass: inetOrgPerson\n");
+      ldif.append("uid: import.").append(i).append('\n');
+      ldif.append("cn: Import ").append(i).append('\n');
+      ldif.append("sn: 0\n\n");
+    }
+    pipeOut.write(StaticUtils.getBytes(ldif.toString()));
+    pipeOut.flush();
+
+    // Wait for the import to consume the data.  It will hold the write lock
+    // until the input is closed.
+    while (pipeIn.available() > 0)
+    {
+      Thread.sleep(1L);
+    }
+    assertTrue(importThread.isAlive());
+
+    for (int i=0; i < 10; i++)
+    {
+      assertEquals(ds.search("dc=example,dc=com", SearchScope.SUB,
+           "(objectClass=*)").getEntryCount(), 12);
+      assertEquals(ds.search("dc=example,dc=com", SearchScope.SUB,
+           "(sn=0)").getEntryCount(), 10);
+      assertEquals(ds.search("ou=People,dc=example,dc=com", SearchScope.ONE,
+           "(objectClass=person)").getEntryCount(), 10);
+      assertEquals(ds.countEntriesBelow("ou=People,dc=example,dc=com"), 11);
+      assertNull(ds.getEntry("uid=import.0,ou=People,dc=example,dc=com"));
+      assertNotNull(ds.getEntry("uid=user.0,ou=People,dc=example,dc=com"));
+      assertTrue(ds.compare("uid=user.0,ou=People,dc=example,dc=com", "sn",
+           "0").compareMatched());
+    }
+
+    pipeOut.close();
+    importThread.join();
+    assertEquals(importResult.get(), 5);
+
+    assertEquals(ds.search("dc=example,dc=com", SearchScope.SUB,
+         "(objectClass=*)").getEntryCount(), 17);
+    assertEquals(ds.search("dc=example,dc=com", SearchScope.SUB,
+         "(sn=0)").getEntryCount(), 15);
+    assertEquals(ds.countEntriesBelow("ou=People,dc=example,dc=com"), 16);
+    assertNotNull(ds.getEntry("uid=import.0,ou=People,dc=example,dc=com"));
+  }
+
+
+
   /**
    * Tests to ensure that search requests with a requested attribute list are
    * processed correctly.
@@ -4375,6 +4960,118 @@ public final class InMemoryDirectoryServerTestCase
 
 
 
+  /**
+   * Tests to ensure that the search time limit is enforced as each entry is
+   * returned, both when entries are returned as soon as they are found and when
+   * they are held so that they can be sorted.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSearchTimeLimitEnforcedForEachReturnedEntry()
+         throws Exception
+  {
+    // Create an interceptor that can delay the next entry returned to the
+    // client by longer than the minimum time limit.
+    final AtomicBoolean delayNextEntry = new AtomicBoolean(false);
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    cfg.addInMemoryOperationInterceptor(new InMemoryOperationInterceptor()
+    {
+      @Override()
+      public void processSearchEntry(
+                       final InMemoryInterceptedSearchEntry entry)
+      {
+        if (delayNextEntry.getAndSet(false))
+        {
+          try
+          {
+            Thread.sleep(1100L);
+          }
+          catch (final InterruptedException e)
+          {
+            Thread.currentThread().interrupt();
+          }
+        }
+      }
+    });
+
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(cfg);
+    ds.add(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example");
+    ds.add(
+         "dn: ou=People,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: People");
+    for (int i=1; i <= 10; i++)
+    {
+      ds.add(
+           "dn: uid=user." + i + ",ou=People,dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: person",
+           "objectClass: organizationalPerson",
+           "objectClass: inetOrgPerson",
+           "uid: user." + i,
+           "givenName: User",
+           "sn: " + i,
+           "cn: User " + i);
+    }
+
+    ds.startListening();
+    final LDAPConnection conn = ds.getConnection();
+
+    try
+    {
+      // Without a delay, all of the entries should be returned.
+      final SearchRequest searchRequest = new SearchRequest(
+           "dc=example,dc=com", SearchScope.SUB, DereferencePolicy.NEVER, 0,
+           1, false, "(objectClass=person)");
+      assertEquals(conn.search(searchRequest).getEntryCount(), 10);
+
+      // If returning the first entry takes longer than the time limit, then
+      // no more entries should be returned.
+      delayNextEntry.set(true);
+      try
+      {
+        conn.search(searchRequest);
+        fail("Expected a time limit exceeded result");
+      }
+      catch (final LDAPSearchException lse)
+      {
+        assertEquals(lse.getResultCode(), ResultCode.TIME_LIMIT_EXCEEDED);
+        assertEquals(lse.getEntryCount(), 1);
+      }
+
+      // The same should be true for a sorted search.
+      searchRequest.addControl(
+           new ServerSideSortRequestControl(new SortKey("sn", true)));
+      delayNextEntry.set(true);
+      try
+      {
+        conn.search(searchRequest);
+        fail("Expected a time limit exceeded result for a sorted search");
+      }
+      catch (final LDAPSearchException lse)
+      {
+        assertEquals(lse.getResultCode(), ResultCode.TIME_LIMIT_EXCEEDED);
+        assertEquals(lse.getEntryCount(), 1);
+      }
+
+      assertEquals(conn.search(searchRequest).getEntryCount(), 10);
+    }
+    finally
+    {
+      conn.close();
+      ds.shutDown(true);
+    }
+  }
+
+
+
   /**
    * Tests to ensure that search size limits are respected.
    *
@@ -6919,4 +7616,135 @@ public final class InMemoryDirectoryServerTestCase
       assertFalse(referralURL.filterProvided());
     }
   }
+
+
+
+  /**
+   * Tests that scoped searches, subtree deletes, modify DN operations, and the
+   * subordinate counting methods behave as expected for a hierarchy of
+   * entries.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testHierarchicalOperations()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com",
+              "o=nested,ou=missing,dc=example,dc=com");
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(cfg);
+    ds.startListening();
+
+    final LDAPConnection conn = ds.getConnection();
+    try
+    {
+      ds.add(generateDomainEntry("example", "dc=com"));
+      ds.add(generateOrgUnitEntry("People", "dc=example,dc=com"));
+      ds.add(generateOrgUnitEntry("Groups", "dc=example,dc=com"));
+      ds.add(generateUserEntry("user.2", "ou=People,dc=example,dc=com",
+           "User", "2", "password"));
+      ds.add(generateUserEntry("user.1", "ou=People,dc=example,dc=com",
+           "User", "1", "password"));
+      ds.add(generateOrgEntry("nested", "ou=missing,dc=example,dc=com"));
+
+      assertTrue(ds.hasSubordinates("dc=example,dc=com"));
+      assertTrue(ds.hasSubordinates("ou=People,dc=example,dc=com"));
+      assertFalse(ds.hasSubordinates("ou=Groups,dc=example,dc=com"));
+      assertFalse(ds.hasSubordinates("ou=nonexistent,dc=example,dc=com"));
+      assertTrue(ds.hasSubordinates(""));
+      assertEquals(ds.countEntriesBelow("dc=example,dc=com"), 6);
+      assertEquals(ds.countEntriesBelow("ou=People,dc=example,dc=com"), 3);
+      assertEquals(ds.countEntriesBelow("ou=missing,dc=example,dc=com"), 1);
+
+      SearchResult searchResult = conn.search("dc=example,dc=com",
+           SearchScope.ONE, "(objectClass=*)");
+      assertEquals(getDNs(searchResult),
+           Arrays.asList("ou=Groups,dc=example,dc=com",
+                "ou=People,dc=example,dc=com"));
+
+      searchResult = conn.search("dc=example,dc=com", SearchScope.SUB,
+           "(objectClass=*)");
+      assertEquals(getDNs(searchResult),
+           Arrays.asList("dc=example,dc=com",
+                "ou=Groups,dc=example,dc=com",
+                "o=nested,ou=missing,dc=example,dc=com",
+                "ou=People,dc=example,dc=com",
+                "uid=user.1,ou=People,dc=example,dc=com",
+                "uid=user.2,ou=People,dc=example,dc=com"));
+
+      searchResult = conn.search("ou=People,dc=example,dc=com",
+           SearchScope.SUBORDINATE_SUBTREE, "(uid=user.2)");
+      assertEquals(getDNs(searchResult),
+           Collections.singletonList(
+                "uid=user.2,ou=People,dc=example,dc=com"));
+
+      // Rename the People branch and make sure the subordinates move with it.
+      assertResultCodeEquals(
+           conn.modifyDN("ou=People,dc=example,dc=com", "ou=Users", true),
+           ResultCode.SUCCESS);
+      assertFalse(ds.hasSubordinates("ou=People,dc=example,dc=com"));
+      assertEquals(ds.countEntriesBelow("ou=Users,dc=example,dc=com"), 3);
+      ds.assertEntryExists("uid=user.1,ou=Users,dc=example,dc=com");
+      ds.assertEntryMissing("uid=user.1,ou=People,dc=example,dc=com");
+
+      searchResult = conn.search("ou=Users,dc=example,dc=com",
+           SearchScope.ONE, "(objectClass=*)");
+      assertEquals(getDNs(searchResult),
+           Arrays.asList("uid=user.1,ou=Users,dc=example,dc=com",
+                "uid=user.2,ou=Users,dc=example,dc=com"));
+
+      // A non-leaf entry cannot be deleted without the subtree delete control.
+      try
+      {
+        conn.delete("ou=Users,dc=example,dc=com");
+        fail("Expected an exception when deleting a non-leaf entry");
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.NOT_ALLOWED_ON_NONLEAF);
+      }
+
+      final DeleteRequest deleteRequest =
+           new DeleteRequest("ou=Users,dc=example,dc=com");
+      deleteRequest.addControl(new SubtreeDeleteRequestControl());
+      assertResultCodeEquals(conn.delete(deleteRequest), ResultCode.SUCCESS);
+      assertEquals(ds.countEntriesBelow("dc=example,dc=com"), 3);
+      ds.assertEntryMissing("uid=user.2,ou=Users,dc=example,dc=com");
+
+      assertEquals(ds.deleteSubtree("ou=missing,dc=example,dc=com"), 1);
+      assertEquals(ds.countEntriesBelow("dc=example,dc=com"), 2);
+      assertFalse(ds.hasSubordinates("ou=Groups,dc=example,dc=com"));
+
+      ds.clear();
+      assertFalse(ds.hasSubordinates(""));
+      assertEquals(ds.countEntriesBelow("dc=example,dc=com"), 0);
+    }
+    finally
+    {
+      conn.close();
+      ds.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Retrieves the DNs of the entries in the provided search result, in the
+   * order in which they were returned.
+   *
+   * @param  searchResult  The search result from which to obtain the DNs.
+   *
+   * @return  The DNs of the entries in the provided search result.
+   */
+  private static List<String> getDNs(final SearchResult searchResult)
+  {
+    final List<String> dns = new ArrayList<>(searchResult.getEntryCount());
+    for (final SearchResultEntry e : searchResult.getSearchEntries())
+    {
+      dns.add(e.getDN());
+    }
+
+    return dns;
+  }
 }
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.schema.Schema;
+
+
+
+/**
+ * This class provides a set of test cases for the InMemorySearchCursorCache
+ * class.
+ */
+public final class InMemorySearchCursorCacheTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the basic behavior for adding, retrieving, and removing cursors.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPutGetAndRemove()
+         throws Exception
+  {
+    final InMemorySearchCursorCache cache = new InMemorySearchCursorCache(
+         InMemorySearchCursorCache.DEFAULT_MAX_CURSORS,
+         InMemorySearchCursorCache.DEFAULT_MAX_IDLE_TIME_MILLIS);
+    assertEquals(cache.size(), 0);
+    assertNull(cache.get(0L, "key", 1L, null));
+
+    final Schema schema = Schema.getDefaultStandardSchema();
+    final List<Entry> entries = createEntries(3);
+    final long cursorID = cache.put("key", 1L, schema, entries);
+    assertTrue(cursorID >= 0L);
+    assertEquals(cache.size(), 1);
+
+    final List<Entry> cachedEntries = cache.get(cursorID, "key", 1L, schema);
+    assertNotNull(cachedEntries);
+    assertEquals(cachedEntries, entries);
+
+    try
+    {
+      cachedEntries.clear();
+      fail("Expected the cached list to be unmodifiable");
+    }
+    catch (final UnsupportedOperationException e)
+    {
+      // This was expected.
+    }
+
+    // The cursor must not be returned for a different key, schema, or ID.
+    assertNull(cache.get(cursorID, "other key", 1L, schema));
+    assertNull(cache.get(cursorID, "key", 1L, null));
+    assertNull(cache.get((cursorID + 1L), "key", 1L, schema));
+    assertEquals(cache.size(), 1);
+
+    final long secondCursorID = cache.put("key", 1L, schema, entries);
+    assertFalse(secondCursorID == cursorID);
+    assertEquals(cache.size(), 2);
+
+    cache.remove(cursorID);
+    assertEquals(cache.size(), 1);
+    assertNull(cache.get(cursorID, "key", 1L, schema));
+    assertNotNull(cache.get(secondCursorID, "key", 1L, schema));
+
+    cache.clear();
+    assertEquals(cache.size(), 0);
+    assertNull(cache.get(secondCursorID, "key", 1L, schema));
+  }
+
+
+
+  /**
+   * Tests to ensure that cursors are invalidated when a newer version of the
+   * data is used.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testVersionInvalidation()
+         throws Exception
+  {
+    final InMemorySearchCursorCache cache = new InMemorySearchCursorCache(
+         InMemorySearchCursorCache.DEFAULT_MAX_CURSORS,
+         InMemorySearchCursorCache.DEFAULT_MAX_IDLE_TIME_MILLIS);
+
+    final List<Entry> entries = createEntries(2);
+    final long firstCursorID = cache.put("key", 1L, null, entries);
+    assertEquals(cache.size(), 1);
+
+    // The cursor must not be used for a different version.
+    assertNull(cache.get(firstCursorID, "key", 2L, null));
+
+    // The lookup for the newer version should also have discarded the cursor
+    // for the older version.
+    assertEquals(cache.size(), 0);
+    assertNull(cache.get(firstCursorID, "key", 1L, null));
+
+    // Creating a cursor for a newer version should discard any older cursors.
+    final long secondCursorID = cache.put("key", 2L, null, entries);
+    assertNotNull(cache.get(secondCursorID, "key", 2L, null));
+    cache.put("key", 3L, null, entries);
+    assertEquals(cache.size(), 1);
+    assertNull(cache.get(secondCursorID, "key", 2L, null));
+  }
+
+
+
+  /**
+   * Tests to ensure that the cache does not hold more than the maximum number
+   * of cursors, and that it discards the least recently used cursor first.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMaxCursors()
+         throws Exception
+  {
+    final InMemorySearchCursorCache cache = new InMemorySearchCursorCache(3,
+         InMemorySearchCursorCache.DEFAULT_MAX_IDLE_TIME_MILLIS);
+
+    final List<Entry> entries = createEntries(1);
+    final long id1 = cache.put("key", 1L, null, entries);
+    final long id2 = cache.put("key", 1L, null, entries);
+    final long id3 = cache.put("key", 1L, null, entries);
+    assertEquals(cache.size(), 3);
+
+    // Use the first cursor so that the second becomes the least recently
+    // used.
+    assertNotNull(cache.get(id1, "key", 1L, null));
+
+    final long id4 = cache.put("key", 1L, null, entries);
+    assertEquals(cache.size(), 3);
+    assertNotNull(cache.get(id1, "key", 1L, null));
+    assertNull(cache.get(id2, "key", 1L, null));
+    assertNotNull(cache.get(id3, "key", 1L, null));
+    assertNotNull(cache.get(id4, "key", 1L, null));
+  }
+
+
+
+  /**
+   * Tests to ensure that cursors that have not been used within the maximum
+   * idle time are discarded.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testIdleExpiration()
+         throws Exception
+  {
+    final InMemorySearchCursorCache cache =
+         new InMemorySearchCursorCache(10, 50L);
+
+    final long cursorID = cache.put("key", 1L, null, createEntries(1));
+    assertNotNull(cache.get(cursorID, "key", 1L, null));
+
+    Thread.sleep(100L);
+    assertNull(cache.get(cursorID, "key", 1L, null));
+    assertEquals(cache.size(), 0);
+  }
+
+
+
+  /**
+   * Creates a list with the specified number of entries.
+   *
+   * @param  numEntries  The number of entries to create.
+   *
+   * @return  The list of entries that was created.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static List<Entry> createEntries(final int numEntries)
+          throws Exception
+  {
+    final List<Entry> entries = new ArrayList<>(numEntries);
+    for (int i=0; i < numEntries; i++)
+    {
+      entries.add(new Entry(
+           "dn: uid=user." + i + ",dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: account",
+           "uid: user." + i));
+    }
+
+    return entries;
+  }
+}
@@ -42,8 +42,11 @@ import java.net.InetAddress;
 
 import org.testng.annotations.Test;
 
+import com.unboundid.asn1.ThreadLocalASN1BufferPool;
+import com.unboundid.ldap.sdk.LDAPConnection;
 import com.unboundid.ldap.sdk.LDAPConnectionOptions;
 import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.SearchScope;
 import com.unboundid.util.LDAPSDKUsageException;
 import com.unboundid.util.ThrowsOnCreateServerSocketFactory;
 
@@ -620,6 +623,73 @@ public final class LDAPListenerConfigTestCase
 
 
 
+  /**
+   * Provides test coverage for the read buffer allocator configuration, and
+   * ensures that a listener and a client can communicate when both use it.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReadBufferAllocator()
+         throws Exception
+  {
+    LDAPListenerConfig c = new LDAPListenerConfig(0,
+         new CannedResponseRequestHandler());
+    assertNull(c.getReadBufferAllocator());
+    c = c.duplicate();
+    assertNull(c.getReadBufferAllocator());
+
+    assertNotNull(c.toString());
+
+    final ThreadLocalASN1BufferPool pool =
+         ThreadLocalASN1BufferPool.getDefaultInstance();
+    c.setReadBufferAllocator(pool);
+    assertSame(c.getReadBufferAllocator(), pool);
+    c = c.duplicate();
+    assertSame(c.getReadBufferAllocator(), pool);
+
+    assertTrue(c.toString().contains("readBufferAllocatorClass="));
+
+    final LDAPListener listener = new LDAPListener(c);
+    listener.startListening();
+
+    try
+    {
+      for (final boolean useSelectorReader : new boolean[] { false, true })
+      {
+        final LDAPConnectionOptions options = new LDAPConnectionOptions();
+        options.setReadBufferAllocator(pool);
+        options.setUseSelectorReader(useSelectorReader);
+
+        final LDAPConnection conn = new LDAPConnection(options, "127.0.0.1",
+             listener.getListenPort());
+        try
+        {
+          for (int i=0; i < 10; i++)
+          {
+            assertNotNull(conn.search("dc=example,dc=com", SearchScope.BASE,
+                 "(objectClass=*)"));
+          }
+        }
+        finally
+        {
+          conn.close();
+        }
+      }
+    }
+    finally
+    {
+      listener.shutDown(true);
+    }
+
+    c.setReadBufferAllocator(null);
+    assertNull(c.getReadBufferAllocator());
+    c = c.duplicate();
+    assertNull(c.getReadBufferAllocator());
+  }
+
+
+
   /**
    * Provides test coverage for the server socket factory configuration.
    *
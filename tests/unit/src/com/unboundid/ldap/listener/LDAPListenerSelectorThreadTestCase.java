@@ -0,0 +1,532 @@
+/*
+ * Copyright 2010-2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2010-2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2010-2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import javax.net.ServerSocketFactory;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.sdk.AsyncRequestID;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPConnection;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.LDAPResult;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.Modification;
+import com.unboundid.ldap.sdk.ModificationType;
+import com.unboundid.ldap.sdk.ModifyRequest;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.RootDSE;
+import com.unboundid.ldap.sdk.SearchResult;
+import com.unboundid.ldap.sdk.SearchScope;
+
+
+
+/**
+ * This class provides a set of test cases for an {@code LDAPListener} that
+ * uses selector threads to read requests from its client connections.
+ */
+public final class LDAPListenerSelectorThreadTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests that a listener configured with selector threads can serve many
+   * concurrent connections without creating a thread for each of them, and
+   * that it releases all of its threads once it has been shut down.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testManyConnectionsWithFewThreads()
+         throws Exception
+  {
+    final LDAPListenerConfig config = new LDAPListenerConfig(0,
+         new CannedResponseRequestHandler());
+    config.setListenAddress(InetAddress.getByName("127.0.0.1"));
+    config.setNumSelectorThreads(2);
+    config.setNumWorkerThreads(4);
+
+    final LDAPListener listener = new LDAPListener(config);
+    listener.startListening();
+    final int port = listener.getListenPort();
+    assertTrue(port > 0);
+    assertEquals(
+         countThreads("LDAPListener Selector Thread ", " for port " + port),
+         2);
+
+    final int threadsBefore = Thread.activeCount();
+    final List<LDAPConnection> connections = new ArrayList<>(200);
+    try
+    {
+      for (int i=0; i < 200; i++)
+      {
+        connections.add(new LDAPConnection("127.0.0.1", port));
+      }
+
+      for (final LDAPConnection conn : connections)
+      {
+        final SearchResult searchResult = conn.search("dc=example,dc=com",
+             SearchScope.BASE, "(objectClass=*)");
+        assertResultCodeEquals(searchResult, ResultCode.SUCCESS);
+      }
+
+      assertEquals(
+           countThreads("LDAPListener client connection reader", ":" + port),
+           0);
+      assertEquals(
+           countThreads("LDAPListener Worker Thread for port " + port, ""),
+           4);
+
+      // Each client connection has its own reader thread, but the listener
+      // should not have created a thread for each connection it accepted.
+      assertTrue((Thread.activeCount() - threadsBefore) < 250,
+           "Unexpected number of threads:  " + Thread.activeCount());
+    }
+    finally
+    {
+      for (final LDAPConnection conn : connections)
+      {
+        conn.close();
+      }
+
+      listener.shutDown(true);
+    }
+
+    final long stopTime = System.currentTimeMillis() + 30_000L;
+    while ((countThreads("LDAPListener Selector Thread ",
+                 " for port " + port) > 0) ||
+         (countThreads("LDAPListener Worker Thread for port " + port,
+              "") > 0))
+    {
+      assertTrue(System.currentTimeMillis() < stopTime,
+           "Listener threads were not shut down");
+      Thread.sleep(10L);
+    }
+  }
+
+
+
+  /**
+   * Tests that requests sent on a connection without waiting for responses are
+   * processed in the order in which they were sent, and that large requests
+   * and responses are handled properly.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPipelinedAndLargeRequests()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    cfg.setNumListenerSelectorThreads(1);
+    cfg.setNumListenerWorkerThreads(2);
+
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(cfg);
+    ds.startListening();
+    ds.add(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example");
+
+    final LDAPConnection conn = ds.getConnection();
+    try
+    {
+      // Each modification depends on the one before it, so they will only all
+      // succeed if they are processed in order.
+      final List<AsyncRequestID> requestIDs = new ArrayList<>(200);
+      for (int i=0; i < 200; i++)
+      {
+        final ModifyRequest modifyRequest;
+        if (i == 0)
+        {
+          modifyRequest = new ModifyRequest("dc=example,dc=com",
+               new Modification(ModificationType.ADD, "description", "0"));
+        }
+        else
+        {
+          modifyRequest = new ModifyRequest("dc=example,dc=com",
+               new Modification(ModificationType.DELETE, "description",
+                    String.valueOf(i-1)),
+               new Modification(ModificationType.ADD, "description",
+                    String.valueOf(i)));
+        }
+
+        requestIDs.add(conn.asyncModify(modifyRequest, null));
+      }
+
+      for (final AsyncRequestID requestID : requestIDs)
+      {
+        final LDAPResult result = requestID.get();
+        assertResultCodeEquals(result, ResultCode.SUCCESS);
+      }
+
+      assertEquals(
+           conn.getEntry("dc=example,dc=com").getAttributeValue("description"),
+           "199");
+
+      // Use a value that is much larger than the read buffer that each
+      // connection starts out with.
+      final StringBuilder buffer = new StringBuilder(300_000);
+      while (buffer.length() < 300_000)
+      {
+        buffer.append("abcdefghijklmnopqrstuvwxyz0123456789");
+      }
+      final String largeValue = buffer.toString();
+
+      conn.add(new Entry(
+           "dn: ou=large,dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: organizationalUnit",
+           "ou: large",
+           "description: " + largeValue));
+
+      final Entry e = conn.getEntry("ou=large,dc=example,dc=com");
+      assertNotNull(e);
+      assertEquals(e.getAttributeValue("description"), largeValue);
+
+      // Make sure that small requests still work after the buffer shrinks.
+      final RootDSE rootDSE = conn.getRootDSE();
+      assertNotNull(rootDSE);
+    }
+    finally
+    {
+      conn.close();
+      ds.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests that the maximum number of connections is enforced for a listener
+   * that uses selector threads.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMaxConnections()
+         throws Exception
+  {
+    final LDAPListenerConfig config = new LDAPListenerConfig(0,
+         new CannedResponseRequestHandler());
+    config.setListenAddress(InetAddress.getByName("127.0.0.1"));
+    config.setNumSelectorThreads(1);
+    config.setMaxConnections(1);
+
+    final LDAPListener listener = new LDAPListener(config);
+    listener.startListening();
+
+    final LDAPConnection conn1 =
+         new LDAPConnection("127.0.0.1", listener.getListenPort());
+    try
+    {
+      assertResultCodeEquals(
+           conn1.search("", SearchScope.BASE, "(objectClass=*)"),
+           ResultCode.SUCCESS);
+
+      final LDAPConnection conn2 =
+           new LDAPConnection("127.0.0.1", listener.getListenPort());
+      try
+      {
+        conn2.search("", SearchScope.BASE, "(objectClass=*)");
+        fail("Expected an exception when exceeding the maximum number of " +
+             "connections");
+      }
+      catch (final LDAPException le)
+      {
+        // This was expected.
+      }
+      finally
+      {
+        conn2.close();
+      }
+
+      assertResultCodeEquals(
+           conn1.search("", SearchScope.BASE, "(objectClass=*)"),
+           ResultCode.SUCCESS);
+    }
+    finally
+    {
+      conn1.close();
+      listener.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests that a connection on which the client sends a malformed request is
+   * closed.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMalformedRequest()
+         throws Exception
+  {
+    final TestLDAPListenerExceptionHandler exceptionHandler =
+         new TestLDAPListenerExceptionHandler();
+
+    final LDAPListenerConfig config = new LDAPListenerConfig(0,
+         new CannedResponseRequestHandler());
+    config.setListenAddress(InetAddress.getByName("127.0.0.1"));
+    config.setNumSelectorThreads(1);
+    config.setExceptionHandler(exceptionHandler);
+
+    final LDAPListener listener = new LDAPListener(config);
+    listener.startListening();
+
+    final Socket socket = new Socket("127.0.0.1", listener.getListenPort());
+    try
+    {
+      socket.setSoTimeout(30_000);
+
+      // A sequence whose length is encoded in more than four bytes.
+      final OutputStream outputStream = socket.getOutputStream();
+      outputStream.write(new byte[] { 0x30, (byte) 0x85, 0x01, 0x02, 0x03,
+           0x04, 0x05 });
+      outputStream.flush();
+
+      // The server may send a notice of disconnection before closing the
+      // connection, but it must close the connection.
+      final InputStream inputStream = socket.getInputStream();
+      final byte[] readBuffer = new byte[1024];
+      while (inputStream.read(readBuffer) >= 0)
+      {
+        // Keep reading until the server closes the connection.
+      }
+
+      final long stopTime = System.currentTimeMillis() + 30_000L;
+      while (exceptionHandler.getConnectionsClosedByException() == 0)
+      {
+        assertTrue(System.currentTimeMillis() < stopTime);
+        Thread.sleep(1L);
+      }
+    }
+    finally
+    {
+      socket.close();
+      listener.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests that a connection on which the client sends a message length that
+   * would overflow when combined with the header is closed when there is no
+   * maximum message size.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMessageLengthOverflow()
+         throws Exception
+  {
+    final TestLDAPListenerExceptionHandler exceptionHandler =
+         new TestLDAPListenerExceptionHandler();
+
+    final LDAPListenerConfig config = new LDAPListenerConfig(0,
+         new CannedResponseRequestHandler());
+    config.setListenAddress(InetAddress.getByName("127.0.0.1"));
+    config.setNumSelectorThreads(1);
+    config.setMaxMessageSizeBytes(0);
+    config.setExceptionHandler(exceptionHandler);
+
+    final LDAPListener listener = new LDAPListener(config);
+    listener.startListening();
+
+    final Socket socket = new Socket("127.0.0.1", listener.getListenPort());
+    try
+    {
+      socket.setSoTimeout(30_000);
+
+      // A sequence with the largest length that can be encoded in four bytes.
+      final OutputStream outputStream = socket.getOutputStream();
+      outputStream.write(new byte[] { 0x30, (byte) 0x84, 0x7F, (byte) 0xFF,
+           (byte) 0xFF, (byte) 0xFF });
+      outputStream.flush();
+
+      final InputStream inputStream = socket.getInputStream();
+      final byte[] readBuffer = new byte[1024];
+      while (inputStream.read(readBuffer) >= 0)
+      {
+        // Keep reading until the server closes the connection.
+      }
+
+      final long stopTime = System.currentTimeMillis() + 30_000L;
+      while (exceptionHandler.getConnectionsClosedByException() == 0)
+      {
+        assertTrue(System.currentTimeMillis() < stopTime);
+        Thread.sleep(1L);
+      }
+    }
+    finally
+    {
+      socket.close();
+      listener.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests that a listener configured with selector threads will fall back to
+   * using a thread for each connection if it uses a server socket factory
+   * other than the JVM default.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testNonDefaultServerSocketFactory()
+         throws Exception
+  {
+    final LDAPListenerConfig config = new LDAPListenerConfig(0,
+         new CannedResponseRequestHandler());
+    config.setListenAddress(InetAddress.getByName("127.0.0.1"));
+    config.setNumSelectorThreads(1);
+    config.setServerSocketFactory(new TestServerSocketFactory());
+
+    final LDAPListener listener = new LDAPListener(config);
+    listener.startListening();
+
+    final LDAPConnection conn =
+         new LDAPConnection("127.0.0.1", listener.getListenPort());
+    try
+    {
+      assertResultCodeEquals(
+           conn.search("", SearchScope.BASE, "(objectClass=*)"),
+           ResultCode.SUCCESS);
+      assertEquals(
+           countThreads("LDAPListener Selector Thread ",
+                " for port " + listener.getListenPort()),
+           0);
+    }
+    finally
+    {
+      conn.close();
+      listener.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Counts the number of live threads whose names start with the provided
+   * prefix and end with the provided suffix.
+   *
+   * @param  prefix  The prefix for the thread names to count.
+   * @param  suffix  The suffix for the thread names to count.
+   *
+   * @return  The number of live threads whose names start with the provided
+   *          prefix and end with the provided suffix.
+   */
+  private static int countThreads(final String prefix, final String suffix)
+  {
+    int count = 0;
+    for (final Thread t : Thread.getAllStackTraces().keySet())
+    {
+      final String name = t.getName();
+      if (t.isAlive() && name.startsWith(prefix) && name.endsWith(suffix))
+      {
+        count++;
+      }
+    }
+
+    return count;
+  }
+
+
+
+  /**
+   * A server socket factory that simply delegates to the JVM-default factory
+   * but is not of the same class.
+   */
+  private static final class TestServerSocketFactory
+          extends ServerSocketFactory
+  {
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public ServerSocket createServerSocket(final int port)
+           throws IOException
+    {
+      return ServerSocketFactory.getDefault().createServerSocket(port);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public ServerSocket createServerSocket(final int port,
+                                           final int backlog)
+           throws IOException
+    {
+      return ServerSocketFactory.getDefault().createServerSocket(
+           port, backlog);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public ServerSocket createServerSocket(final int port,
+                                           final int backlog,
+                                           final InetAddress address)
+           throws IOException
+    {
+      return ServerSocketFactory.getDefault().createServerSocket(
+           port, backlog, address);
+    }
+  }
+}
@@ -0,0 +1,569 @@
+/*
+ * Copyright 2010-2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2010-2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2010-2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.listener;
+
+
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.sdk.AbstractConnectionPool;
+import com.unboundid.ldap.sdk.BindResult;
+import com.unboundid.ldap.sdk.CompareResult;
+import com.unboundid.ldap.sdk.LDAPConnection;
+import com.unboundid.ldap.sdk.LDAPConnectionPool;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.LDAPMultiplexedConnectionPool;
+import com.unboundid.ldap.sdk.LDAPResult;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.Modification;
+import com.unboundid.ldap.sdk.ModificationType;
+import com.unboundid.ldap.sdk.PLAINBindRequest;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.SearchRequest;
+import com.unboundid.ldap.sdk.SearchResult;
+import com.unboundid.ldap.sdk.SearchScope;
+import com.unboundid.ldap.sdk.SimpleBindRequest;
+import com.unboundid.ldap.sdk.SingleServerSet;
+import com.unboundid.ldap.sdk.controls.AuthorizationIdentityRequestControl;
+import com.unboundid.ldap.sdk.controls.AuthorizationIdentityResponseControl;
+import com.unboundid.ldap.sdk.controls.ProxiedAuthorizationV2RequestControl;
+import com.unboundid.ldap.sdk.extensions.StartTLSExtendedRequest;
+import com.unboundid.ldap.sdk.extensions.WhoAmIExtendedRequest;
+import com.unboundid.ldap.sdk.extensions.WhoAmIExtendedResult;
+
+
+
+/**
+ * This class provides a set of test cases for the {@code ProxyRequestHandler}
+ * class.
+ */
+public final class ProxyRequestHandlerTestCase
+       extends LDAPSDKTestCase
+{
+  // The in-memory directory server to which requests will be forwarded.
+  private InMemoryDirectoryServer backendServer;
+
+
+
+  /**
+   * Creates and starts the backend server.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @BeforeClass()
+  public void setUp()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig config =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    config.addAdditionalBindCredentials("cn=Directory Manager", "password");
+    config.setListenerConfigs(InMemoryListenerConfig.createLDAPConfig("LDAP",
+         InetAddress.getByName("127.0.0.1"), 0, null));
+
+    backendServer = new InMemoryDirectoryServer(config);
+    backendServer.add(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example");
+    backendServer.add(
+         "dn: ou=People,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: People");
+    backendServer.add(
+         "dn: uid=test.user,ou=People,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: person",
+         "objectClass: organizationalPerson",
+         "objectClass: inetOrgPerson",
+         "uid: test.user",
+         "givenName: Test",
+         "sn: User",
+         "cn: Test User",
+         "userPassword: password");
+    backendServer.startListening();
+  }
+
+
+
+  /**
+   * Shuts down the backend server.
+   */
+  @AfterClass()
+  public void tearDown()
+  {
+    backendServer.shutDown(true);
+  }
+
+
+
+  /**
+   * Tests the behavior when each client connection uses its own connection
+   * to the backend server.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testServerSetMode()
+         throws Exception
+  {
+    final LDAPListener listener = startListener(new ProxyRequestHandler(
+         new SingleServerSet("127.0.0.1", backendServer.getListenPort())));
+
+    try (LDAPConnection conn =
+              new LDAPConnection("127.0.0.1", listener.getListenPort()))
+    {
+      final BindResult bindResult = conn.bind(
+           "uid=test.user,ou=People,dc=example,dc=com", "password");
+      assertResultCodeEquals(bindResult, ResultCode.SUCCESS);
+
+      testOperations(conn, "ou=Server Set Mode");
+    }
+    finally
+    {
+      listener.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when requests are forwarded over a shared connection
+   * pool, including the way that the client's authorization identity is
+   * conveyed to the backend server.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPooledMode()
+         throws Exception
+  {
+    final LDAPConnectionPool pool = createPool(2);
+    final LDAPListener listener =
+         startListener(new ProxyRequestHandler(pool));
+
+    try (LDAPConnection conn =
+              new LDAPConnection("127.0.0.1", listener.getListenPort()))
+    {
+      assertEquals(whoAmI(conn), "");
+
+      BindResult bindResult = conn.bind(new SimpleBindRequest(
+           "uid=test.user,ou=People,dc=example,dc=com", "password",
+           new AuthorizationIdentityRequestControl()));
+      assertResultCodeEquals(bindResult, ResultCode.SUCCESS);
+
+      final AuthorizationIdentityResponseControl authzIDResponse =
+           AuthorizationIdentityResponseControl.get(bindResult);
+      assertNotNull(authzIDResponse);
+      assertEquals(authzIDResponse.getAuthorizationID(),
+           "dn:uid=test.user,ou=People,dc=example,dc=com");
+
+      assertEquals(whoAmI(conn),
+           "dn:uid=test.user,ou=People,dc=example,dc=com");
+
+      testOperations(conn, "ou=Pooled Mode");
+
+      backendServer.add(
+           "dn: ou=Pooled Mode,dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: organizationalUnit",
+           "ou: Pooled Mode");
+      try
+      {
+        // The entry should have been created under the client's identity
+        // rather than that of the pooled connection.
+        assertResultCodeEquals(conn.add(
+             "dn: ou=test,ou=Pooled Mode,dc=example,dc=com",
+             "objectClass: top",
+             "objectClass: organizationalUnit",
+             "ou: test"),
+             ResultCode.SUCCESS);
+        assertEquals(
+             backendServer.getEntry(
+                  "ou=test,ou=Pooled Mode,dc=example,dc=com",
+                  "creatorsName").getAttributeValue("creatorsName"),
+             "uid=test.user,ou=People,dc=example,dc=com");
+      }
+      finally
+      {
+        backendServer.deleteSubtree("ou=Pooled Mode,dc=example,dc=com");
+      }
+
+
+      // The authorization identity response control should not be returned
+      // unless it was requested.
+      bindResult = conn.bind("cn=Directory Manager", "password");
+      assertResultCodeEquals(bindResult, ResultCode.SUCCESS);
+      assertNull(AuthorizationIdentityResponseControl.get(bindResult));
+      assertEquals(whoAmI(conn), "dn:cn=Directory Manager");
+
+
+      // A failed bind should leave the client unauthenticated.
+      try
+      {
+        conn.bind("uid=test.user,ou=People,dc=example,dc=com", "wrong");
+        fail("Expected an exception from a bind with the wrong password");
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.INVALID_CREDENTIALS);
+      }
+      assertEquals(whoAmI(conn), "");
+
+
+      // None of the binds should have altered the authentication state of
+      // the pooled connections.
+      assertEquals(pool.getCurrentAvailableConnections(), 2);
+      final LDAPConnection pooledConn = pool.getConnection();
+      try
+      {
+        final WhoAmIExtendedResult result = (WhoAmIExtendedResult)
+             pooledConn.processExtendedOperation(new WhoAmIExtendedRequest());
+        assertEquals(result.getAuthorizationID(), "dn:cn=Directory Manager");
+      }
+      finally
+      {
+        pool.releaseConnection(pooledConn);
+      }
+    }
+    finally
+    {
+      listener.shutDown(true);
+      pool.close();
+    }
+  }
+
+
+
+  /**
+   * Tests that requests and bind types that can't safely be forwarded over a
+   * shared connection pool are rejected.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPooledModeRejectedRequests()
+         throws Exception
+  {
+    final LDAPConnectionPool pool = createPool(1);
+    final LDAPListener listener =
+         startListener(new ProxyRequestHandler(pool));
+
+    try (LDAPConnection conn =
+              new LDAPConnection("127.0.0.1", listener.getListenPort()))
+    {
+      // Clients may not supply their own proxied authorization control,
+      // since that would be evaluated against the pooled connection's
+      // identity rather than the client's.
+      final SearchRequest searchRequest = new SearchRequest(
+           "dc=example,dc=com", SearchScope.BASE, "(objectClass=*)");
+      searchRequest.addControl(new ProxiedAuthorizationV2RequestControl(
+           "dn:cn=Directory Manager"));
+      try
+      {
+        conn.search(searchRequest);
+        fail("Expected an exception from a search with a proxied auth " +
+             "control");
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.UNWILLING_TO_PERFORM);
+      }
+
+      final LDAPResult startTLSResult =
+           conn.processExtendedOperation(StartTLSExtendedRequest.
+                STARTTLS_REQUEST_OID);
+      assertResultCodeEquals(startTLSResult,
+           ResultCode.UNWILLING_TO_PERFORM);
+
+      try
+      {
+        conn.bind(new PLAINBindRequest(
+             "u:test.user", "password"));
+        fail("Expected an exception from a SASL bind");
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.AUTH_METHOD_NOT_SUPPORTED);
+      }
+
+      assertEquals(whoAmI(conn), "");
+    }
+    finally
+    {
+      listener.shutDown(true);
+      pool.close();
+    }
+  }
+
+
+
+  /**
+   * Tests that a large number of clients can be served concurrently over a
+   * small number of backend connections, using both standard and multiplexed
+   * connection pools.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testManyClientsOverFewConnections()
+         throws Exception
+  {
+    testManyClients(createPool(2));
+
+    final LDAPConnection conn = backendServer.getConnection();
+    conn.bind("cn=Directory Manager", "password");
+    testManyClients(new LDAPMultiplexedConnectionPool(conn, 2, 10));
+  }
+
+
+
+  /**
+   * Has a number of concurrent clients alternately authenticate as different
+   * users and verify their identity through the proxy.
+   *
+   * @param  pool  The pool to use to forward requests.  It will be closed
+   *               before this method returns.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private void testManyClients(final AbstractConnectionPool pool)
+          throws Exception
+  {
+    final int numClients = 20;
+    final int numIterations = 25;
+
+    final LDAPListener listener =
+         startListener(new ProxyRequestHandler(pool));
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    try
+    {
+      final List<Thread> threads = new ArrayList<>(numClients);
+      for (int i=0; i < numClients; i++)
+      {
+        final boolean asUser = ((i % 2) == 0);
+        final Thread t = new Thread()
+        {
+          @Override()
+          public void run()
+          {
+            try (LDAPConnection conn = new LDAPConnection("127.0.0.1",
+                      listener.getListenPort()))
+            {
+              final String expectedAuthzID;
+              if (asUser)
+              {
+                conn.bind("uid=test.user,ou=People,dc=example,dc=com",
+                     "password");
+                expectedAuthzID =
+                     "dn:uid=test.user,ou=People,dc=example,dc=com";
+              }
+              else
+              {
+                conn.bind("cn=Directory Manager", "password");
+                expectedAuthzID = "dn:cn=Directory Manager";
+              }
+
+              for (int j=0; j < numIterations; j++)
+              {
+                final SearchResult searchResult = conn.search(
+                     "ou=People,dc=example,dc=com", SearchScope.SUB,
+                     "(uid=test.user)");
+                if (searchResult.getEntryCount() != 1)
+                {
+                  throw new AssertionError("Unexpected search result " +
+                       searchResult);
+                }
+
+                final String authzID = whoAmI(conn);
+                if (! authzID.equals(expectedAuthzID))
+                {
+                  throw new AssertionError("Expected authorization ID " +
+                       expectedAuthzID + " but got " + authzID);
+                }
+              }
+            }
+            catch (final Throwable t)
+            {
+              failure.compareAndSet(null, t);
+            }
+          }
+        };
+
+        threads.add(t);
+        t.start();
+      }
+
+      for (final Thread t : threads)
+      {
+        t.join();
+      }
+
+      if (failure.get() != null)
+      {
+        throw new AssertionError(failure.get());
+      }
+
+      assertEquals(pool.getMaximumAvailableConnections(), 2);
+    }
+    finally
+    {
+      listener.shutDown(true);
+      pool.close();
+    }
+  }
+
+
+
+  /**
+   * Processes a set of operations on the provided connection to verify that
+   * they are correctly forwarded to the backend server.
+   *
+   * @param  conn  The connection to use to process the operations.
+   * @param  rdn   The RDN of an organizational unit entry to create below the
+   *               base DN.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static void testOperations(final LDAPConnection conn,
+                                     final String rdn)
+          throws Exception
+  {
+    final String dn = rdn + ",dc=example,dc=com";
+    assertResultCodeEquals(
+         conn.add(
+              "dn: " + dn,
+              "objectClass: top",
+              "objectClass: organizationalUnit",
+              rdn.replace('=', ':')),
+         ResultCode.SUCCESS);
+
+    final SearchResult searchResult = conn.search("dc=example,dc=com",
+         SearchScope.SUB, "(" + rdn + ")");
+    assertResultCodeEquals(searchResult, ResultCode.SUCCESS);
+    assertEquals(searchResult.getEntryCount(), 1);
+
+    final CompareResult compareResult =
+         conn.compare(dn, "objectClass", "organizationalUnit");
+    assertTrue(compareResult.compareMatched());
+
+    assertResultCodeEquals(
+         conn.modify(dn, new Modification(ModificationType.REPLACE,
+              "description", "foo")),
+         ResultCode.SUCCESS);
+
+    assertResultCodeEquals(conn.modifyDN(dn, rdn + " Renamed", true),
+         ResultCode.SUCCESS);
+
+    assertResultCodeEquals(conn.delete(rdn + " Renamed,dc=example,dc=com"),
+         ResultCode.SUCCESS);
+  }
+
+
+
+  /**
+   * Uses the Who Am I extended operation to retrieve the authorization
+   * identity for the provided connection.
+   *
+   * @param  conn  The connection to use.
+   *
+   * @return  The authorization identity returned by the server.
+   *
+   * @throws  LDAPException  If a problem occurs.
+   */
+  private static String whoAmI(final LDAPConnection conn)
+          throws LDAPException
+  {
+    final WhoAmIExtendedResult result = (WhoAmIExtendedResult)
+         conn.processExtendedOperation(new WhoAmIExtendedRequest());
+    assertResultCodeEquals(result, ResultCode.SUCCESS);
+    return result.getAuthorizationID();
+  }
+
+
+
+  /**
+   * Creates a connection pool for the backend server whose connections are
+   * authenticated as the directory manager.
+   *
+   * @param  numConnections  The number of connections in the pool.
+   *
+   * @return  The connection pool that was created.
+   *
+   * @throws  LDAPException  If a problem occurs.
+   */
+  private LDAPConnectionPool createPool(final int numConnections)
+          throws LDAPException
+  {
+    return new LDAPConnectionPool(
+         new SingleServerSet("127.0.0.1", backendServer.getListenPort()),
+         new SimpleBindRequest("cn=Directory Manager", "password"),
+         numConnections, numConnections);
+  }
+
+
+
+  /**
+   * Creates and starts a listener that will use the provided request handler.
+   *
+   * @param  requestHandler  The request handler to use.
+   *
+   * @return  The listener that was started.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static LDAPListener startListener(
+                      final ProxyRequestHandler requestHandler)
+          throws Exception
+  {
+    final LDAPListenerConfig config = new LDAPListenerConfig(0,
+         requestHandler);
+    config.setListenAddress(InetAddress.getByName("127.0.0.1"));
+
+    final LDAPListener listener = new LDAPListener(config);
+    listener.startListening();
+    return listener;
+  }
+}
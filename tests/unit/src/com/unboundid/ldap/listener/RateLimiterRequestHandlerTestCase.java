@@ -39,9 +39,12 @@ package com.unboundid.ldap.listener;
 
 import org.testng.annotations.Test;
 
+import com.unboundid.ldap.sdk.Entry;
 import com.unboundid.ldap.sdk.InternalSDKHelper;
 import com.unboundid.ldap.sdk.LDAPConnection;
+import com.unboundid.ldap.sdk.LDAPException;
 import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.ResultCode;
 import com.unboundid.ldap.sdk.SearchScope;
 import com.unboundid.ldap.sdk.extensions.WhoAmIExtendedRequest;
 import com.unboundid.util.FixedRateBarrier;
@@ -258,4 +261,239 @@ public final class RateLimiterRequestHandlerTestCase
 
     listener.shutDown(true);
   }
+
+
+
+  /**
+   * Tests the behavior of the rate limiter when created with a per-connection
+   * barrier.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testRateLimiterWithPerConnectionBarrier()
+         throws Exception
+  {
+    // Allow two operations per second on each connection, with no bursts.
+    final RateLimiterRequestHandler rateLimiterRequestHandler =
+         new RateLimiterRequestHandler(createInMemoryRequestHandler(), null,
+              new FixedRateBarrier(1000L, 2, 1), null);
+
+    final LDAPListenerConfig listenerConfig =
+         new LDAPListenerConfig(0, rateLimiterRequestHandler);
+
+    final LDAPListener listener = new LDAPListener(listenerConfig);
+    listener.startListening();
+
+    final LDAPConnection conn1 = new LDAPConnection("127.0.0.1",
+         listener.getListenPort());
+    final LDAPConnection conn2 = new LDAPConnection("127.0.0.1",
+         listener.getListenPort());
+
+    try
+    {
+      // The second operation on a connection should be delayed, but the
+      // first operation on another connection should not be.
+      long startMS = System.currentTimeMillis();
+      conn1.search("dc=example,dc=com", SearchScope.BASE, "(objectClass=*)");
+      conn1.search("dc=example,dc=com", SearchScope.BASE, "(objectClass=*)");
+      assertTrue((System.currentTimeMillis() - startMS) >= 400L);
+
+      startMS = System.currentTimeMillis();
+      conn2.search("dc=example,dc=com", SearchScope.BASE, "(objectClass=*)");
+      assertTrue((System.currentTimeMillis() - startMS) < 400L);
+    }
+    finally
+    {
+      conn1.close();
+      conn2.close();
+      listener.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior of the rate limiter when created with a per-bind-DN
+   * barrier.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testRateLimiterWithPerBindDNBarrier()
+         throws Exception
+  {
+    // Allow one operation every 500 milliseconds for each user, with no
+    // bursts.
+    final RateLimiterRequestHandler rateLimiterRequestHandler =
+         new RateLimiterRequestHandler(createInMemoryRequestHandler(), null,
+              null, new FixedRateBarrier(500L, 1, 1));
+
+    final LDAPListenerConfig listenerConfig =
+         new LDAPListenerConfig(0, rateLimiterRequestHandler);
+
+    final LDAPListener listener = new LDAPListener(listenerConfig);
+    listener.startListening();
+
+    final LDAPConnection conn1 = new LDAPConnection("127.0.0.1",
+         listener.getListenPort());
+    final LDAPConnection conn2 = new LDAPConnection("127.0.0.1",
+         listener.getListenPort());
+    final LDAPConnection conn3 = new LDAPConnection("127.0.0.1",
+         listener.getListenPort());
+
+    try
+    {
+      // Unauthenticated clients are not subject to the limit.
+      long startMS = System.currentTimeMillis();
+      conn1.bind("cn=Directory Manager", "password");
+      conn2.bind("cn=directory manager", "password");
+      conn3.bind("cn=Other Manager", "password");
+      assertTrue((System.currentTimeMillis() - startMS) < 400L);
+
+
+      // Operations by the same user on different connections should share
+      // the limit, while another user should not be affected.
+      startMS = System.currentTimeMillis();
+      conn2.search("dc=example,dc=com", SearchScope.BASE, "(objectClass=*)");
+      conn3.search("dc=example,dc=com", SearchScope.BASE, "(objectClass=*)");
+      assertTrue((System.currentTimeMillis() - startMS) < 400L);
+
+      startMS = System.currentTimeMillis();
+      conn1.search("dc=example,dc=com", SearchScope.BASE, "(objectClass=*)");
+      assertTrue((System.currentTimeMillis() - startMS) >= 300L);
+
+
+      // A failed bind should leave the connection unauthenticated, so it
+      // should no longer be subject to the limit.
+      try
+      {
+        conn2.bind("cn=Directory Manager", "wrong");
+        fail("Expected an exception from a bind with the wrong password");
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.INVALID_CREDENTIALS);
+      }
+
+      conn1.search("dc=example,dc=com", SearchScope.BASE, "(objectClass=*)");
+      startMS = System.currentTimeMillis();
+      conn2.search("dc=example,dc=com", SearchScope.BASE, "(objectClass=*)");
+      assertTrue((System.currentTimeMillis() - startMS) < 300L);
+    }
+    finally
+    {
+      conn1.close();
+      conn2.close();
+      conn3.close();
+      listener.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests that the per-bind-DN barriers are only retained while at least one
+   * client connection is authenticated as the associated user.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPerBindDNBarriersDiscardedWhenUnused()
+         throws Exception
+  {
+    final RateLimiterRequestHandler rateLimiterRequestHandler =
+         new RateLimiterRequestHandler(createInMemoryRequestHandler(), null,
+              null, new FixedRateBarrier(1000L, 1000, 1));
+
+    final LDAPListenerConfig listenerConfig =
+         new LDAPListenerConfig(0, rateLimiterRequestHandler);
+
+    final LDAPListener listener = new LDAPListener(listenerConfig);
+    listener.startListening();
+
+    final LDAPConnection conn1 = new LDAPConnection("127.0.0.1",
+         listener.getListenPort());
+    final LDAPConnection conn2 = new LDAPConnection("127.0.0.1",
+         listener.getListenPort());
+    final LDAPConnection conn3 = new LDAPConnection("127.0.0.1",
+         listener.getListenPort());
+
+    try
+    {
+      assertEquals(rateLimiterRequestHandler.getNumBindDNRateLimiters(), 0);
+
+      conn1.bind("cn=Directory Manager", "password");
+      conn2.bind("cn=directory manager", "password");
+      conn3.bind("cn=Other Manager", "password");
+      assertEquals(rateLimiterRequestHandler.getNumBindDNRateLimiters(), 2);
+
+      // Binds that do not succeed should not create a barrier, and should
+      // release the barrier for the previously authenticated user if no other
+      // connection is using it.
+      try
+      {
+        conn3.bind("cn=Unknown Manager", "password");
+        fail("Expected an exception from a bind with an unknown DN");
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.INVALID_CREDENTIALS);
+      }
+      assertEquals(rateLimiterRequestHandler.getNumBindDNRateLimiters(), 1);
+
+      // Closing one of the connections authenticated as the remaining user
+      // should not release its barrier, but closing both of them should.
+      conn1.close();
+      Thread.sleep(100L);
+      assertEquals(rateLimiterRequestHandler.getNumBindDNRateLimiters(), 1);
+
+      conn2.close();
+      final long stopWaitingTime = System.currentTimeMillis() + 10_000L;
+      while ((rateLimiterRequestHandler.getNumBindDNRateLimiters() > 0) &&
+           (System.currentTimeMillis() < stopWaitingTime))
+      {
+        Thread.sleep(10L);
+      }
+      assertEquals(rateLimiterRequestHandler.getNumBindDNRateLimiters(), 0);
+    }
+    finally
+    {
+      conn1.close();
+      conn2.close();
+      conn3.close();
+      listener.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Creates an in-memory request handler with a base entry and two users that
+   * may be used for testing.
+   *
+   * @return  The in-memory request handler that was created.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static InMemoryRequestHandler createInMemoryRequestHandler()
+          throws Exception
+  {
+    final InMemoryDirectoryServerConfig inMemoryConfig =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    inMemoryConfig.addAdditionalBindCredentials("cn=Directory Manager",
+         "password");
+    inMemoryConfig.addAdditionalBindCredentials("cn=Other Manager",
+         "password");
+
+    final InMemoryRequestHandler inMemoryRequestHandler =
+         new InMemoryRequestHandler(inMemoryConfig);
+    inMemoryRequestHandler.addEntry(new Entry(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example"),
+         false);
+    return inMemoryRequestHandler;
+  }
 }
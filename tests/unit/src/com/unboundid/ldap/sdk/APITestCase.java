@@ -65,6 +65,7 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import com.unboundid.ldap.sdk.unboundidds.MoveSubtree;
+import com.unboundid.util.DirectByteBufferPool;
 import com.unboundid.util.Extensible;
 import com.unboundid.util.InternalUseOnly;
 import com.unboundid.util.Mutable;
@@ -880,7 +881,9 @@ public class APITestCase
       // Check known exemptions that are acceptable to not be serializable.
       final Class<?>[] exemptions =
       {
-        MoveSubtree.class
+        DirectByteBufferPool.class,
+        MoveSubtree.class,
+        PendingMessageWrite.class
       };
 
       for (final Class<?> e : exemptions)
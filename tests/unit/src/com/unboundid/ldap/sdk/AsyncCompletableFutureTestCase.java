@@ -0,0 +1,408 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+
+
+
+/**
+ * This class provides a set of test cases for the methods that process
+ * operations asynchronously and return completion stages, which are backed by
+ * the {@code AsyncCompletableFuture} class.
+ */
+public final class AsyncCompletableFutureTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the completion stage methods for a standalone connection with
+   * operations that should succeed.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConnectionSuccessfulOperations()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      LDAPResult result = get(conn.addAsync(new AddRequest(
+           "dn: ou=People,dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: organizationalUnit",
+           "ou: People")));
+      assertEquals(result.getResultCode(), ResultCode.SUCCESS);
+
+      CompareResult compareResult = get(conn.compareAsync(new CompareRequest(
+           "ou=People,dc=example,dc=com", "ou", "People")));
+      assertTrue(compareResult.compareMatched());
+
+      compareResult = get(conn.compareAsync(new CompareRequest(
+           "ou=People,dc=example,dc=com", "ou", "Other")));
+      assertFalse(compareResult.compareMatched());
+
+      result = get(conn.modifyAsync(new ModifyRequest(
+           "ou=People,dc=example,dc=com",
+           new Modification(ModificationType.REPLACE, "description", "foo"))));
+      assertEquals(result.getResultCode(), ResultCode.SUCCESS);
+
+      final SearchResult searchResult = get(conn.searchAsync(new SearchRequest(
+           "dc=example,dc=com", SearchScope.SUB, "(objectClass=*)")));
+      assertEquals(searchResult.getResultCode(), ResultCode.SUCCESS);
+      assertEquals(searchResult.getEntryCount(), 2);
+      assertNotNull(searchResult.getSearchEntries());
+      assertEquals(searchResult.getSearchEntries().size(), 2);
+
+      result = get(conn.modifyDNAsync(new ModifyDNRequest(
+           "ou=People,dc=example,dc=com", "ou=Users", true)));
+      assertEquals(result.getResultCode(), ResultCode.SUCCESS);
+
+      result = get(conn.deleteAsync(
+           new DeleteRequest("ou=Users,dc=example,dc=com")));
+      assertEquals(result.getResultCode(), ResultCode.SUCCESS);
+
+      assertEquals(ds.countEntries(), 1);
+    }
+  }
+
+
+
+  /**
+   * Tests the completion stage methods for a standalone connection with
+   * operations that should fail.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConnectionFailedOperations()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      LDAPException le = getException(conn.deleteAsync(
+           new DeleteRequest("ou=missing,dc=example,dc=com")));
+      assertEquals(le.getResultCode(), ResultCode.NO_SUCH_OBJECT);
+
+      le = getException(conn.compareAsync(new CompareRequest(
+           "ou=missing,dc=example,dc=com", "ou", "missing")));
+      assertEquals(le.getResultCode(), ResultCode.NO_SUCH_OBJECT);
+
+      le = getException(conn.searchAsync(new SearchRequest(
+           "ou=missing,dc=example,dc=com", SearchScope.SUB,
+           "(objectClass=*)")));
+      assertTrue(le instanceof LDAPSearchException);
+      assertEquals(le.getResultCode(), ResultCode.NO_SUCH_OBJECT);
+
+      final SearchRequest requestWithListener = new SearchRequest(
+           new BasicAsyncSearchResultListener(), "dc=example,dc=com",
+           SearchScope.BASE, "(objectClass=*)");
+      le = getException(conn.searchAsync(requestWithListener));
+      assertTrue(le instanceof LDAPSearchException);
+      assertEquals(le.getResultCode(), ResultCode.PARAM_ERROR);
+    }
+
+    final LDAPConnection conn = ds.getConnection();
+    conn.close();
+
+    final LDAPException le = getException(conn.modifyAsync(new ModifyRequest(
+         "dc=example,dc=com",
+         new Modification(ModificationType.REPLACE, "description", "foo"))));
+    assertEquals(le.getResultCode(), ResultCode.SERVER_DOWN);
+  }
+
+
+
+  /**
+   * Tests the completion stage methods for a connection pool to ensure that
+   * connections are released back to the pool when the operations complete.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConnectionPoolOperations()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+
+    final LDAPConnectionPool pool =
+         new LDAPConnectionPool(ds.getConnection(), 2);
+    try
+    {
+      final int numAvailable = pool.getCurrentAvailableConnections();
+
+      LDAPResult result = get(pool.addAsync(new AddRequest(
+           "dn: ou=People,dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: organizationalUnit",
+           "ou: People")));
+      assertEquals(result.getResultCode(), ResultCode.SUCCESS);
+
+      assertTrue(get(pool.compareAsync(new CompareRequest(
+           "ou=People,dc=example,dc=com", "ou", "People"))).compareMatched());
+
+      result = get(pool.modifyAsync(new ModifyRequest(
+           "ou=People,dc=example,dc=com",
+           new Modification(ModificationType.REPLACE, "description", "foo"))));
+      assertEquals(result.getResultCode(), ResultCode.SUCCESS);
+
+      assertEquals(
+           get(pool.searchAsync(new SearchRequest("dc=example,dc=com",
+                SearchScope.SUB, "(objectClass=*)"))).getEntryCount(),
+           2);
+
+      result = get(pool.modifyDNAsync(new ModifyDNRequest(
+           "ou=People,dc=example,dc=com", "ou=Users", true)));
+      assertEquals(result.getResultCode(), ResultCode.SUCCESS);
+
+      result = get(pool.deleteAsync(
+           new DeleteRequest("ou=Users,dc=example,dc=com")));
+      assertEquals(result.getResultCode(), ResultCode.SUCCESS);
+
+      final LDAPException le = getException(pool.deleteAsync(
+           new DeleteRequest("ou=missing,dc=example,dc=com")));
+      assertEquals(le.getResultCode(), ResultCode.NO_SUCH_OBJECT);
+
+      assertEquals(pool.getCurrentAvailableConnections(), numAvailable);
+      assertEquals(pool.getConnectionPoolStatistics().getNumReleasedValid(),
+           7L);
+      assertEquals(
+           pool.getConnectionPoolStatistics().getNumConnectionsClosedDefunct(),
+           0L);
+    }
+    finally
+    {
+      pool.close();
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when the connection pool is closed so that no
+   * connection can be obtained.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testClosedConnectionPool()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+
+    final LDAPConnectionPool pool =
+         new LDAPConnectionPool(ds.getConnection(), 1);
+    pool.close();
+
+    final LDAPException le = getException(pool.searchAsync(new SearchRequest(
+         "dc=example,dc=com", SearchScope.BASE, "(objectClass=*)")));
+    assertTrue(le instanceof LDAPSearchException);
+  }
+
+
+
+  /**
+   * Tests that the completion stage methods for a connection pool fail
+   * immediately rather than waiting for a connection when the pool is
+   * exhausted.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testExhaustedConnectionPool()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+
+    final LDAPConnectionPool pool =
+         new LDAPConnectionPool(ds.getConnection(), 1);
+    pool.setCreateIfNecessary(false);
+    pool.setMaxWaitTimeMillis(60_000L);
+    assertExhaustedPoolFailsImmediately(pool, pool.getConnection());
+
+    final LDAPMultiplexedConnectionPool multiplexedPool =
+         new LDAPMultiplexedConnectionPool(ds.getConnection(), 1, 1);
+    multiplexedPool.setMaxWaitTimeMillis(60_000L);
+    assertExhaustedPoolFailsImmediately(multiplexedPool,
+         multiplexedPool.getConnection());
+  }
+
+
+
+  /**
+   * Ensures that an asynchronous search using the provided pool fails
+   * immediately while its only connection is checked out, and that it succeeds
+   * once that connection has been released.
+   *
+   * @param  pool        The connection pool to test.
+   * @param  checkedOut  The connection that has been checked out of the pool.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static void assertExhaustedPoolFailsImmediately(
+                           final AbstractConnectionPool pool,
+                           final LDAPConnection checkedOut)
+          throws Exception
+  {
+    try
+    {
+      final SearchRequest searchRequest = new SearchRequest(
+           "dc=example,dc=com", SearchScope.BASE, "(objectClass=*)");
+
+      final long startTime = System.currentTimeMillis();
+      final CompletionStage<SearchResult> stage =
+           pool.searchAsync(searchRequest);
+      assertTrue((System.currentTimeMillis() - startTime) < 30_000L);
+      assertTrue(stage.toCompletableFuture().isDone());
+
+      final LDAPException le = getException(stage);
+      assertEquals(le.getResultCode(), ResultCode.CONNECT_ERROR);
+
+      pool.releaseConnection(checkedOut);
+      assertEquals(get(pool.searchAsync(searchRequest)).getResultCode(),
+           ResultCode.SUCCESS);
+    }
+    finally
+    {
+      pool.close();
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when cancelling the future returned for an operation.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testCancel()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+
+    final LDAPConnectionPool pool =
+         new LDAPConnectionPool(ds.getConnection(), 1);
+    try
+    {
+      final CompletableFuture<SearchResult> future =
+           pool.searchAsync(new SearchRequest("dc=example,dc=com",
+                SearchScope.BASE, "(objectClass=*)")).toCompletableFuture();
+
+      // The search may or may not have completed by the time it is cancelled,
+      // but either way the connection must be released exactly once.
+      future.cancel(false);
+      assertTrue(future.isDone());
+
+      final long deadline = System.currentTimeMillis() + 10_000L;
+      while ((pool.getCurrentAvailableConnections() != 1) &&
+           (System.currentTimeMillis() < deadline))
+      {
+        Thread.sleep(10L);
+      }
+      assertEquals(pool.getCurrentAvailableConnections(), 1);
+      assertEquals(
+           pool.getConnectionPoolStatistics().getNumReleasedValid() +
+                pool.getConnectionPoolStatistics().
+                     getNumConnectionsClosedDefunct(),
+           1L);
+    }
+    finally
+    {
+      pool.close();
+    }
+  }
+
+
+
+  /**
+   * Waits for the provided completion stage to complete successfully and
+   * returns its result.
+   *
+   * @param  <T>    The type of result for the completion stage.
+   * @param  stage  The completion stage for which to wait.
+   *
+   * @return  The result of the completion stage.
+   *
+   * @throws  Exception  If the completion stage did not complete successfully.
+   */
+  private static <T> T get(final CompletionStage<T> stage)
+          throws Exception
+  {
+    return stage.toCompletableFuture().get(30L, TimeUnit.SECONDS);
+  }
+
+
+
+  /**
+   * Waits for the provided completion stage to complete exceptionally and
+   * returns the exception.
+   *
+   * @param  stage  The completion stage for which to wait.
+   *
+   * @return  The LDAP exception with which the stage was completed.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static LDAPException getException(
+               final CompletionStage<?> stage)
+          throws Exception
+  {
+    try
+    {
+      stage.toCompletableFuture().get(30L, TimeUnit.SECONDS);
+      fail("Expected the completion stage to complete exceptionally");
+      return null;
+    }
+    catch (final ExecutionException e)
+    {
+      assertTrue(e.getCause() instanceof LDAPException, String.valueOf(e));
+      return (LDAPException) e.getCause();
+    }
+  }
+}
@@ -44,6 +44,7 @@ import javax.net.ssl.SSLSocketFactory;
 
 import org.testng.annotations.Test;
 
+import com.unboundid.asn1.ThreadLocalASN1BufferPool;
 import com.unboundid.ldap.listener.InMemoryDirectoryServer;
 import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
 import com.unboundid.ldap.listener.InMemoryListenerConfig;
@@ -1013,6 +1014,56 @@ public class LDAPConnectionOptionsTestCase
 
 
 
+  /**
+   * Tests the ability to get and set the flag that controls whether to decode
+   * search result entries lazily.
+   */
+  @Test()
+  public void testUseLazySearchEntryDecoding()
+  {
+    final LDAPConnectionOptions opts = new LDAPConnectionOptions();
+
+    assertFalse(opts.useLazySearchEntryDecoding());
+    assertNotNull(opts.toString());
+
+    opts.setUseLazySearchEntryDecoding(true);
+    assertTrue(opts.useLazySearchEntryDecoding());
+    assertTrue(opts.duplicate().useLazySearchEntryDecoding());
+    assertNotNull(opts.toString());
+
+    opts.setUseLazySearchEntryDecoding(false);
+    assertFalse(opts.useLazySearchEntryDecoding());
+    assertNotNull(opts.toString());
+  }
+
+
+
+  /**
+   * Tests the ability to get and set the allocator used to obtain transient
+   * buffers while reading responses.
+   */
+  @Test()
+  public void testReadBufferAllocator()
+  {
+    final LDAPConnectionOptions opts = new LDAPConnectionOptions();
+
+    assertNull(opts.getReadBufferAllocator());
+    assertNotNull(opts.toString());
+
+    final ThreadLocalASN1BufferPool pool =
+         ThreadLocalASN1BufferPool.getDefaultInstance();
+    opts.setReadBufferAllocator(pool);
+    assertSame(opts.getReadBufferAllocator(), pool);
+    assertSame(opts.duplicate().getReadBufferAllocator(), pool);
+    assertTrue(opts.toString().contains("readBufferAllocatorClass="));
+
+    opts.setReadBufferAllocator(null);
+    assertNull(opts.getReadBufferAllocator());
+    assertNotNull(opts.toString());
+  }
+
+
+
   /**
    * Tests the ability to get and set the flag that controls whether to use
    * schema information when reading data from the server.
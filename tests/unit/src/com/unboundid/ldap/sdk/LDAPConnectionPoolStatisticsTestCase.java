@@ -41,6 +41,10 @@ import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.util.LatencyHistogram;
+
 
 
 /**
@@ -291,4 +295,79 @@ public class LDAPConnectionPoolStatisticsTestCase
 
     assertNotNull(stats.toString());
   }
+
+
+
+  /**
+   * Tests the checkout wait time and aggregated response time histograms for
+   * each of the connection pool implementations.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testHistograms()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(cfg);
+    ds.startListening();
+    ds.add(generateDomainEntry("example", "dc=com"));
+
+    try
+    {
+      final AbstractConnectionPool[] pools =
+      {
+        ds.getConnectionPool(2),
+        new LDAPThreadLocalConnectionPool(ds.getConnection()),
+        new LDAPMultiplexedConnectionPool(ds.getConnection(), 2, 10)
+      };
+
+      for (final AbstractConnectionPool pool : pools)
+      {
+        final LDAPConnectionPoolStatistics stats =
+             pool.getConnectionPoolStatistics();
+        assertNotNull(stats.getCheckoutWaitTimeHistogram());
+        assertNull(stats.getResponseTimeHistogram(OperationType.ABANDON));
+
+        final LatencyHistogram searchHistogram =
+             stats.getResponseTimeHistogram(OperationType.SEARCH);
+        assertNotNull(searchHistogram);
+        final long initialCheckouts =
+             stats.getCheckoutWaitTimeHistogram().getCount();
+
+        for (int i=0; i < 5; i++)
+        {
+          final LDAPConnection conn = pool.getConnection();
+          assertResultCodeEquals(
+               conn.search("dc=example,dc=com", SearchScope.BASE,
+                    "(objectClass=*)"),
+               ResultCode.SUCCESS);
+          pool.releaseConnection(conn);
+        }
+
+        assertEquals(stats.getCheckoutWaitTimeHistogram().getCount(),
+             initialCheckouts + 5L);
+        assertEquals(searchHistogram.getCount(), 5L);
+        assertTrue(searchHistogram.getMaxValue() > 0L);
+
+        final LatencyHistogram interval = searchHistogram.getIntervalSnapshot();
+        assertEquals(interval.getCount(), 5L);
+        assertEquals(searchHistogram.getIntervalSnapshot().getCount(), 0L);
+
+        assertNotNull(stats.toString());
+        assertTrue(stats.toString().contains("checkoutWaitTimeNanos="));
+
+        stats.reset();
+        assertEquals(searchHistogram.getCount(), 0L);
+        assertEquals(stats.getCheckoutWaitTimeHistogram().getCount(), 0L);
+
+        pool.close();
+      }
+    }
+    finally
+    {
+      ds.shutDown(true);
+    }
+  }
 }
@@ -0,0 +1,451 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.InMemoryListenerConfig;
+import com.unboundid.ldap.sdk.extensions.StartTLSExtendedRequest;
+import com.unboundid.util.ssl.KeyStoreKeyManager;
+import com.unboundid.util.ssl.SSLUtil;
+import com.unboundid.util.ssl.TrustAllTrustManager;
+
+
+
+/**
+ * This class provides a set of test cases for LDAP connections that are
+ * configured to use the selector reader rather than a dedicated reader thread.
+ */
+public final class LDAPConnectionSelectorReaderTestCase
+       extends LDAPSDKTestCase
+{
+  // The in-memory directory server instance that will be used for testing.
+  private InMemoryDirectoryServer ds = null;
+
+
+
+  /**
+   * Sets up an in-memory directory server instance for testing.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @BeforeClass()
+  public void setUp()
+         throws Exception
+  {
+    final File resourceDir = new File(System.getProperty("unit.resource.dir"));
+    final File serverKeyStore = new File(resourceDir, "server.keystore");
+
+    final SSLUtil serverSSLUtil = new SSLUtil(
+         new KeyStoreKeyManager(serverKeyStore, "password".toCharArray(),
+              "JKS", "server-cert"),
+         new TrustAllTrustManager());
+
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    cfg.setListenerConfigs(
+         InMemoryListenerConfig.createLDAPConfig("WithStartTLS", null,
+              0, serverSSLUtil.createSSLSocketFactory()));
+
+    ds = new InMemoryDirectoryServer(cfg);
+    ds.startListening();
+
+    ds.add(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example");
+  }
+
+
+
+  /**
+   * Cleans up after testing has completed.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @AfterClass()
+  public void cleanUp()
+         throws Exception
+  {
+    ds.shutDown(true);
+  }
+
+
+
+  /**
+   * Retrieves a set of connection options that will use the selector reader.
+   *
+   * @return  A set of connection options that will use the selector reader.
+   */
+  private static LDAPConnectionOptions selectorOptions()
+  {
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setUseSelectorReader(true);
+    return options;
+  }
+
+
+
+  /**
+   * Tests the behavior of the selector reader option in the connection
+   * options.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConnectionOptions()
+         throws Exception
+  {
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    assertFalse(options.useSelectorReader());
+    assertTrue(options.toString().contains("useSelectorReader=false"));
+
+    options.setUseSelectorReader(true);
+    assertTrue(options.useSelectorReader());
+    assertTrue(options.toString().contains("useSelectorReader=true"));
+    assertTrue(options.duplicate().useSelectorReader());
+
+    options.setUseSelectorReader(false);
+    assertFalse(options.useSelectorReader());
+    assertFalse(options.duplicate().useSelectorReader());
+  }
+
+
+
+  /**
+   * Tests that connections using the selector reader can send and receive
+   * messages with large values, which will be written to the channel with
+   * gathering writes from pooled direct buffers.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testLargeValues()
+         throws Exception
+  {
+    final byte[] largeValue = new byte[3_000_000];
+    for (int i=0; i < largeValue.length; i++)
+    {
+      largeValue[i] = (byte) i;
+    }
+
+    final LDAPConnection conn =
+         new LDAPConnection(selectorOptions(), "localhost", ds.getListenPort());
+    try
+    {
+      final ArrayList<AsyncRequestID> requestIDs = new ArrayList<>(20);
+      for (int i=0; i < 20; i++)
+      {
+        final Entry entry = new Entry(
+             "cn=large value " + i + ",dc=example,dc=com",
+             new Attribute("objectClass", "top", "device"),
+             new Attribute("cn", "large value " + i),
+             new Attribute("description",
+                  Arrays.copyOf(largeValue, (i * 5000) + 1)));
+        requestIDs.add(conn.asyncAdd(new AddRequest(entry), null));
+      }
+
+      for (final AsyncRequestID requestID : requestIDs)
+      {
+        assertEquals(requestID.get().getResultCode(), ResultCode.SUCCESS);
+      }
+
+      final Entry entry = new Entry(
+           "cn=largest value,dc=example,dc=com",
+           new Attribute("objectClass", "top", "device"),
+           new Attribute("cn", "largest value"),
+           new Attribute("description", largeValue));
+      assertEquals(conn.add(entry).getResultCode(), ResultCode.SUCCESS);
+
+      for (int i=0; i < 20; i++)
+      {
+        final SearchResultEntry e =
+             conn.getEntry("cn=large value " + i + ",dc=example,dc=com");
+        assertNotNull(e);
+        assertTrue(Arrays.equals(e.getAttributeValueBytes("description"),
+             Arrays.copyOf(largeValue, (i * 5000) + 1)));
+      }
+
+      final SearchResultEntry e =
+           conn.getEntry("cn=largest value,dc=example,dc=com");
+      assertNotNull(e);
+      assertTrue(Arrays.equals(e.getAttributeValueBytes("description"),
+           largeValue));
+
+      for (int i=0; i < 20; i++)
+      {
+        assertEquals(
+             conn.delete("cn=large value " + i + ",dc=example,dc=com").
+                  getResultCode(),
+             ResultCode.SUCCESS);
+      }
+      assertEquals(
+           conn.delete("cn=largest value,dc=example,dc=com").getResultCode(),
+           ResultCode.SUCCESS);
+    }
+    finally
+    {
+      conn.close();
+    }
+  }
+
+
+
+  /**
+   * Tests that a number of connections using the selector reader can process
+   * both synchronous and asynchronous operations without any dedicated reader
+   * threads.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testManyConnections()
+         throws Exception
+  {
+    final int numConnections = 50;
+    final List<LDAPConnection> connections = new ArrayList<>(numConnections);
+    try
+    {
+      for (int i=0; i < numConnections; i++)
+      {
+        final LDAPConnection conn = new LDAPConnection(selectorOptions(),
+             "localhost", ds.getListenPort());
+        connections.add(conn);
+
+        final LDAPConnectionReader reader =
+             conn.getConnectionInternals(true).getConnectionReader();
+        assertTrue(reader.usesSelectorReader());
+        assertNull(reader.getReaderThread());
+      }
+
+      assertTrue(LDAPConnectionSelectorThread.getSelectorThreadCount() > 0);
+
+      for (int i=0; i < numConnections; i++)
+      {
+        final LDAPConnection conn = connections.get(i);
+        assertResultCodeEquals(conn,
+             new AddRequest(
+                  "dn: ou=test " + i + ",dc=example,dc=com",
+                  "objectClass: top",
+                  "objectClass: organizationalUnit",
+                  "ou: test " + i),
+             ResultCode.SUCCESS);
+      }
+
+      final List<AsyncRequestID> asyncIDs = new ArrayList<>(numConnections);
+      for (final LDAPConnection conn : connections)
+      {
+        asyncIDs.add(conn.asyncSearch(new SearchRequest(
+             new TestAsyncListener(), "dc=example,dc=com", SearchScope.SUB,
+             Filter.createEqualityFilter("objectClass",
+                  "organizationalUnit"))));
+      }
+
+      for (final AsyncRequestID asyncID : asyncIDs)
+      {
+        final SearchResult searchResult = (SearchResult) asyncID.get();
+        assertResultCodeEquals(searchResult, ResultCode.SUCCESS);
+        assertEquals(searchResult.getEntryCount(), numConnections);
+      }
+
+      for (final LDAPConnection conn : connections)
+      {
+        assertNotNull(conn.getEntry("dc=example,dc=com"));
+        assertTrue(conn.compare("dc=example,dc=com", "dc",
+             "example").compareMatched());
+      }
+    }
+    finally
+    {
+      for (final LDAPConnection conn : connections)
+      {
+        conn.close();
+      }
+
+      for (int i=0; i < numConnections; i++)
+      {
+        try
+        {
+          ds.delete("ou=test " + i + ",dc=example,dc=com");
+        }
+        catch (final LDAPException le)
+        {
+          // This is fine.
+        }
+      }
+    }
+  }
+
+
+
+  /**
+   * Tests that a connection using the selector reader falls back to a
+   * dedicated reader thread after StartTLS has been processed.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testStartTLS()
+         throws Exception
+  {
+    final LDAPConnection conn = new LDAPConnection(selectorOptions(),
+         "localhost", ds.getListenPort());
+    try
+    {
+      assertTrue(conn.getConnectionInternals(true).getConnectionReader().
+           usesSelectorReader());
+
+      final SSLUtil sslUtil = new SSLUtil(new TrustAllTrustManager());
+      assertResultCodeEquals(
+           conn.processExtendedOperation(new StartTLSExtendedRequest(
+                sslUtil.createSSLSocketFactory())),
+           ResultCode.SUCCESS);
+
+      assertNotNull(conn.getEntry("dc=example,dc=com"));
+
+      final LDAPConnectionReader reader =
+           conn.getConnectionInternals(true).getConnectionReader();
+      assertFalse(reader.usesSelectorReader());
+      assertNotNull(reader.getReaderThread());
+    }
+    finally
+    {
+      conn.close();
+    }
+  }
+
+
+
+  /**
+   * Tests that a connection using the selector reader will be closed if the
+   * server sends a response that exceeds the maximum message size.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMaxMessageSizeExceeded()
+         throws Exception
+  {
+    final LDAPConnectionOptions options = selectorOptions();
+    options.setMaxMessageSize(1024);
+
+    final LDAPConnection conn =
+         new LDAPConnection(options, "localhost", ds.getListenPort());
+    try
+    {
+      final char[] description = new char[4096];
+      Arrays.fill(description, 'x');
+
+      ds.add(
+           "dn: ou=large,dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: organizationalUnit",
+           "ou: large",
+           "description: " + new String(description));
+
+      try
+      {
+        conn.getEntry("ou=large,dc=example,dc=com");
+        fail("Expected an exception when reading an oversized response");
+      }
+      catch (final LDAPException le)
+      {
+        // This was expected.
+      }
+
+      final long stopWaitingTime = System.currentTimeMillis() + 10_000L;
+      while (conn.isConnected() &&
+           (System.currentTimeMillis() < stopWaitingTime))
+      {
+        Thread.sleep(10L);
+      }
+      assertFalse(conn.isConnected());
+    }
+    finally
+    {
+      conn.close();
+      ds.delete("ou=large,dc=example,dc=com");
+    }
+  }
+
+
+
+  /**
+   * Tests that a connection using the selector reader will detect that the
+   * server has closed the connection.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testServerDisconnect()
+         throws Exception
+  {
+    final InMemoryDirectoryServer testDS = getTestDS();
+    final LDAPConnection conn = new LDAPConnection(selectorOptions(),
+         "localhost", testDS.getListenPort());
+    try
+    {
+      assertNotNull(conn.getRootDSE());
+      assertTrue(conn.isConnected());
+
+      testDS.closeAllConnections(false);
+
+      final long stopWaitingTime = System.currentTimeMillis() + 10_000L;
+      while (conn.isConnected() &&
+           (System.currentTimeMillis() < stopWaitingTime))
+      {
+        Thread.sleep(10L);
+      }
+      assertFalse(conn.isConnected());
+    }
+    finally
+    {
+      conn.close();
+    }
+  }
+}
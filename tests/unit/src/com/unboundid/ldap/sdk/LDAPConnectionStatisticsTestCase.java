@@ -37,10 +37,17 @@ package com.unboundid.ldap.sdk;
 
 
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.util.LatencyHistogram;
+
 
 
 /**
@@ -845,4 +852,325 @@ public class LDAPConnectionStatisticsTestCase
 
     conn.close();
   }
+
+
+
+  /**
+   * Tests the behavior of the flush counters without a connection.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testFlushCountersStandalone()
+         throws Exception
+  {
+    final LDAPConnectionStatistics stats = new LDAPConnectionStatistics();
+    assertEquals(stats.getNumFlushes(), 0L);
+    assertEquals(stats.getNumFlushedMessages(), 0L);
+    assertEquals(stats.getMaxMessagesPerFlush(), 0L);
+    assertEquals(stats.getAverageMessagesPerFlush(), Double.NaN);
+
+    stats.incrementNumFlushes(1);
+    stats.incrementNumFlushes(5);
+    stats.incrementNumFlushes(3);
+    assertEquals(stats.getNumFlushes(), 3L);
+    assertEquals(stats.getNumFlushedMessages(), 9L);
+    assertEquals(stats.getMaxMessagesPerFlush(), 5L);
+    assertEquals(stats.getAverageMessagesPerFlush(), 3.0d);
+    assertTrue(stats.toString().contains("maxMessagesPerFlush=5"));
+
+    stats.reset();
+    assertEquals(stats.getNumFlushes(), 0L);
+    assertEquals(stats.getNumFlushedMessages(), 0L);
+    assertEquals(stats.getMaxMessagesPerFlush(), 0L);
+    assertEquals(stats.getAverageMessagesPerFlush(), Double.NaN);
+  }
+
+
+
+  /**
+   * Tests that the flush counters account for every message sent when
+   * multiple threads concurrently send requests on the same connection.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testFlushCountersWithConcurrentSenders()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+    final LDAPConnection conn = ds.getConnection();
+    final LDAPConnectionStatistics stats = conn.getConnectionStatistics();
+    stats.reset();
+
+    final int numThreads = 8;
+    final int requestsPerThread = 100;
+    final CountDownLatch startLatch = new CountDownLatch(1);
+    final List<Thread> threads = new ArrayList<>(numThreads);
+    final List<Exception> failures = new ArrayList<>();
+    for (int i=0; i < numThreads; i++)
+    {
+      final Thread t = new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          try
+          {
+            startLatch.await();
+
+            final List<AsyncRequestID> ids =
+                 new ArrayList<>(requestsPerThread);
+            for (int j=0; j < requestsPerThread; j++)
+            {
+              ids.add(conn.asyncSearch(new SearchRequest(
+                   new TestAsyncListener(), "dc=example,dc=com",
+                   SearchScope.BASE, Filter.createPresenceFilter(
+                        "objectClass"))));
+            }
+
+            for (final AsyncRequestID id : ids)
+            {
+              id.get();
+            }
+          }
+          catch (final Exception e)
+          {
+            synchronized (failures)
+            {
+              failures.add(e);
+            }
+          }
+        }
+      };
+      t.start();
+      threads.add(t);
+    }
+
+    startLatch.countDown();
+    for (final Thread t : threads)
+    {
+      t.join();
+    }
+
+    assertTrue(failures.isEmpty(), String.valueOf(failures));
+    assertEquals(stats.getNumSearchRequests(),
+         (long) (numThreads * requestsPerThread));
+    assertEquals(stats.getNumFlushedMessages(),
+         (long) (numThreads * requestsPerThread));
+    assertTrue(stats.getNumFlushes() > 0L);
+    assertTrue(stats.getNumFlushes() <= stats.getNumFlushedMessages());
+    assertTrue(stats.getMaxMessagesPerFlush() >= 1L);
+    assertTrue(stats.getAverageMessagesPerFlush() >= 1.0d);
+
+    conn.close();
+  }
+
+
+
+  /**
+   * Tests that messages are written intact when multiple threads concurrently
+   * send enough data on the same connection that it cannot all be written in a
+   * single coalesced batch.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConcurrentSendersExceedingBatchSize()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+    final LDAPConnection conn = ds.getConnection();
+    final LDAPConnectionStatistics stats = conn.getConnectionStatistics();
+    stats.reset();
+
+    // Each thread will add entries with a large attribute value, so that the
+    // total amount of data sent is far larger than the 64 KiB that may be
+    // written in a single batch.
+    final int numThreads = 8;
+    final int entriesPerThread = 50;
+    final int valueLength = 16_384;
+    final CountDownLatch startLatch = new CountDownLatch(1);
+    final List<Thread> threads = new ArrayList<>(numThreads);
+    final List<Exception> failures = new ArrayList<>();
+    for (int i=0; i < numThreads; i++)
+    {
+      final int threadNumber = i;
+      final Thread t = new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          try
+          {
+            startLatch.await();
+
+            final List<AsyncRequestID> ids = new ArrayList<>(entriesPerThread);
+            for (int j=0; j < entriesPerThread; j++)
+            {
+              ids.add(conn.asyncAdd(new AddRequest(
+                   "dn: cn=entry-" + threadNumber + '-' + j +
+                        ",dc=example,dc=com",
+                   "objectClass: top",
+                   "objectClass: device",
+                   "cn: entry-" + threadNumber + '-' + j,
+                   "description: " +
+                        getDescription(threadNumber, j, valueLength)),
+                   new TestAsyncListener()));
+            }
+
+            for (final AsyncRequestID id : ids)
+            {
+              assertResultCodeEquals(id.get(), ResultCode.SUCCESS);
+            }
+          }
+          catch (final Exception e)
+          {
+            synchronized (failures)
+            {
+              failures.add(e);
+            }
+          }
+        }
+      };
+      t.start();
+      threads.add(t);
+    }
+
+    startLatch.countDown();
+    for (final Thread t : threads)
+    {
+      t.join();
+    }
+
+    assertTrue(failures.isEmpty(), String.valueOf(failures));
+    assertEquals(stats.getNumAddRequests(),
+         (long) (numThreads * entriesPerThread));
+    assertEquals(stats.getNumFlushedMessages(),
+         (long) (numThreads * entriesPerThread));
+
+    for (int i=0; i < numThreads; i++)
+    {
+      for (int j=0; j < entriesPerThread; j++)
+      {
+        final SearchResultEntry e = conn.getEntry(
+             "cn=entry-" + i + '-' + j + ",dc=example,dc=com");
+        assertNotNull(e);
+        assertEquals(e.getAttributeValue("description"),
+             getDescription(i, j, valueLength));
+      }
+    }
+
+    conn.close();
+  }
+
+
+
+  /**
+   * Retrieves a description value that is unique to the provided thread and
+   * entry numbers.
+   *
+   * @param  threadNumber  The number of the thread adding the entry.
+   * @param  entryNumber   The number of the entry for that thread.
+   * @param  length        The length of the value to generate.
+   *
+   * @return  The generated description value.
+   */
+  private static String getDescription(final int threadNumber,
+                                       final int entryNumber, final int length)
+  {
+    final String prefix = threadNumber + "-" + entryNumber + ':';
+    final StringBuilder buffer = new StringBuilder(length);
+    buffer.append(prefix);
+    while (buffer.length() < length)
+    {
+      buffer.append((char) ('a' + ((buffer.length() + threadNumber +
+           entryNumber) % 26)));
+    }
+
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Tests that the SO_TIMEOUT value for a connection's socket is set as
+   * expected when sending requests with different timeouts.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSoTimeoutUpdatedOnlyOnChange()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+    final LDAPConnection conn = ds.getConnection();
+
+    final SearchRequest searchRequest = new SearchRequest("dc=example,dc=com",
+         SearchScope.BASE, Filter.createPresenceFilter("objectClass"));
+    searchRequest.setResponseTimeoutMillis(12_345L);
+    assertResultCodeEquals(conn.search(searchRequest), ResultCode.SUCCESS);
+    assertEquals(InternalSDKHelper.getSoTimeout(conn), 12_345);
+
+    InternalSDKHelper.setSoTimeout(conn, 100);
+    assertEquals(InternalSDKHelper.getSoTimeout(conn), 100);
+
+    assertResultCodeEquals(conn.search(searchRequest), ResultCode.SUCCESS);
+    assertEquals(InternalSDKHelper.getSoTimeout(conn), 12_345);
+
+    conn.close();
+  }
+
+
+
+  /**
+   * Tests the response time histograms maintained for each operation type.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testResponseTimeHistograms()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+    final LDAPConnection conn = ds.getConnection();
+    final LDAPConnectionStatistics stats = conn.getConnectionStatistics();
+
+    assertNull(stats.getResponseTimeHistogram(OperationType.ABANDON));
+    assertNull(stats.getResponseTimeHistogram(OperationType.UNBIND));
+
+    final LatencyHistogram searchHistogram =
+         stats.getResponseTimeHistogram(OperationType.SEARCH);
+    assertNotNull(searchHistogram);
+    assertEquals(searchHistogram.getCount(), 0L);
+
+    for (int i=0; i < 10; i++)
+    {
+      assertResultCodeEquals(
+           conn.search("dc=example,dc=com", SearchScope.BASE,
+                "(objectClass=*)"),
+           ResultCode.SUCCESS);
+    }
+
+    assertResultCodeEquals(
+         conn.compare("dc=example,dc=com", "dc", "example"),
+         ResultCode.COMPARE_TRUE);
+
+    assertEquals(searchHistogram.getCount(), 10L);
+    assertTrue(searchHistogram.getMaxValue() > 0L);
+    assertTrue(searchHistogram.getP50() > 0L);
+    assertTrue(searchHistogram.getP50() <= searchHistogram.getMaxValue());
+    assertTrue(searchHistogram.getP999() <= searchHistogram.getMaxValue());
+    assertEquals(
+         stats.getResponseTimeHistogram(OperationType.COMPARE).getCount(), 1L);
+    assertEquals(
+         stats.getResponseTimeHistogram(OperationType.MODIFY).getCount(), 0L);
+
+    stats.reset();
+    assertEquals(searchHistogram.getCount(), 0L);
+    assertEquals(
+         stats.getResponseTimeHistogram(OperationType.COMPARE).getCount(), 0L);
+
+    conn.close();
+  }
 }
@@ -0,0 +1,486 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.sdk.extensions.StartTLSExtendedRequest;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * {@code LDAPMultiplexedConnectionPool} class.
+ */
+public final class LDAPMultiplexedConnectionPoolTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the basic behavior of a multiplexed connection pool.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testBasicOperations()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+
+    final LDAPMultiplexedConnectionPool pool =
+         new LDAPMultiplexedConnectionPool(ds.getConnection(), 2, 4);
+    try
+    {
+      assertFalse(pool.isClosed());
+      assertEquals(pool.getMaximumAvailableConnections(), 2);
+      assertEquals(pool.getCurrentAvailableConnections(), 2);
+      assertEquals(pool.getMaxOutstandingOperationsPerConnection(), 4);
+      assertEquals(pool.getNumOutstandingOperations(), 0);
+      assertNotNull(pool.getServerSet());
+      assertNotNull(pool.getHealthCheck());
+      assertNotNull(pool.toString());
+
+      assertNotNull(pool.getRootDSE());
+      assertNotNull(pool.getEntry("dc=example,dc=com"));
+      assertEquals(
+           pool.search("dc=example,dc=com", SearchScope.BASE,
+                "(objectClass=*)").getEntryCount(),
+           1);
+      pool.modify("dc=example,dc=com",
+           new Modification(ModificationType.REPLACE, "description", "foo"));
+
+      assertEquals(pool.getNumOutstandingOperations(), 0);
+      assertTrue(pool.getConnectionPoolStatistics().getNumReleasedValid() > 0L);
+    }
+    finally
+    {
+      pool.close();
+    }
+
+    assertTrue(pool.isClosed());
+  }
+
+
+
+  /**
+   * Tests to ensure that connections are shared up to the configured limit and
+   * are selected based on the number of outstanding operations.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testLeastOutstandingSelection()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+
+    final LDAPMultiplexedConnectionPool pool =
+         new LDAPMultiplexedConnectionPool(ds.getConnection(), 2, 2);
+    try
+    {
+      pool.setMaxWaitTimeMillis(0L);
+
+      final LDAPConnection c1 = pool.getConnection();
+      final LDAPConnection c2 = pool.getConnection();
+      assertNotSame(c1, c2);
+
+      final LDAPConnection c3 = pool.getConnection();
+      final LDAPConnection c4 = pool.getConnection();
+      assertNotSame(c3, c4);
+      assertTrue((c3 == c1) || (c3 == c2));
+      assertTrue((c4 == c1) || (c4 == c2));
+      assertEquals(pool.getNumOutstandingOperations(), 4);
+      assertEquals(pool.getCurrentAvailableConnections(), 0);
+
+      try
+      {
+        pool.getConnection();
+        fail("Expected an exception when all connections are at their limit");
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.CONNECT_ERROR);
+      }
+
+      // The connection with capacity should be selected next.
+      pool.releaseConnection(c2);
+      assertSame(pool.getConnection(), c2);
+
+      pool.releaseConnection(c1);
+      pool.releaseConnection(c2);
+      pool.releaseConnection(c3);
+      pool.releaseConnection(c4);
+      assertEquals(pool.getNumOutstandingOperations(), 0);
+      assertEquals(pool.getCurrentAvailableConnections(), 2);
+
+      // Releasing a connection that is not checked out should be ignored.
+      pool.releaseConnection(c1);
+      assertEquals(pool.getNumOutstandingOperations(), 0);
+    }
+    finally
+    {
+      pool.close();
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that bind and StartTLS operations are rejected on a shared
+   * connection but allowed on an exclusive connection.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testStateChangingOperationsFenced()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+
+    final LDAPMultiplexedConnectionPool pool =
+         new LDAPMultiplexedConnectionPool(ds.getConnection(), 1, 4);
+    try
+    {
+      final LDAPConnection shared = pool.getConnection();
+      try
+      {
+        shared.bind("cn=Directory Manager", "password");
+        fail("Expected an exception from a bind on a shared connection");
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.NOT_SUPPORTED);
+      }
+
+      try
+      {
+        shared.processExtendedOperation(new StartTLSExtendedRequest());
+        fail("Expected an exception from StartTLS on a shared connection");
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.NOT_SUPPORTED);
+      }
+
+      assertTrue(shared.isConnected());
+      pool.releaseConnection(shared);
+
+      final LDAPConnection exclusive = pool.getExclusiveConnection();
+      assertSame(exclusive, shared);
+      assertEquals(pool.getCurrentAvailableConnections(), 0);
+      assertEquals(
+           exclusive.bind("cn=Directory Manager", "password").getResultCode(),
+           ResultCode.SUCCESS);
+      pool.releaseConnection(exclusive);
+      assertEquals(pool.getCurrentAvailableConnections(), 1);
+
+      // Binds processed through the pool should use an exclusive connection.
+      assertEquals(pool.bind("cn=Manager", "password").getResultCode(),
+           ResultCode.SUCCESS);
+      assertEquals(
+           pool.bindAndRevertAuthentication("cn=Directory Manager",
+                "password").getResultCode(),
+           ResultCode.SUCCESS);
+      assertEquals(pool.getNumOutstandingOperations(), 0);
+
+      try
+      {
+        pool.processExtendedOperation(new StartTLSExtendedRequest());
+        fail("Expected an exception from StartTLS through the pool");
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.NOT_SUPPORTED);
+      }
+    }
+    finally
+    {
+      pool.close();
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that obtaining an exclusive connection waits for
+   * outstanding operations to complete and prevents new operations from using
+   * the connection in the meantime.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testExclusiveConnectionWaitsForOutstandingOperations()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+
+    final LDAPMultiplexedConnectionPool pool =
+         new LDAPMultiplexedConnectionPool(ds.getConnection(), 1, 4);
+    try
+    {
+      pool.setMaxWaitTimeMillis(10_000L);
+      final LDAPConnection shared = pool.getConnection();
+
+      final CountDownLatch acquiredLatch = new CountDownLatch(1);
+      final AtomicReference<LDAPConnection> exclusiveRef =
+           new AtomicReference<>();
+      final AtomicReference<Throwable> failureRef = new AtomicReference<>();
+      final Thread t = new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          try
+          {
+            exclusiveRef.set(pool.getExclusiveConnection());
+          }
+          catch (final Throwable e)
+          {
+            failureRef.set(e);
+          }
+          finally
+          {
+            acquiredLatch.countDown();
+          }
+        }
+      };
+      t.start();
+
+      assertFalse(acquiredLatch.await(200L, TimeUnit.MILLISECONDS));
+
+      // While the exclusive checkout is pending, no new shared checkouts should
+      // be allowed to use the connection.
+      pool.setMaxWaitTimeMillis(0L);
+      try
+      {
+        pool.getConnection();
+        fail("Expected an exception while an exclusive checkout is pending");
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.CONNECT_ERROR);
+      }
+      pool.setMaxWaitTimeMillis(10_000L);
+
+      assertNotNull(shared.getEntry("dc=example,dc=com"));
+      pool.releaseConnection(shared);
+
+      assertTrue(acquiredLatch.await(10L, TimeUnit.SECONDS));
+      t.join();
+      assertNull(failureRef.get());
+      assertSame(exclusiveRef.get(), shared);
+      assertEquals(pool.getNumOutstandingOperations(), 1);
+
+      pool.releaseConnection(exclusiveRef.get());
+      assertSame(pool.getConnection(), shared);
+      pool.releaseConnection(shared);
+    }
+    finally
+    {
+      pool.close();
+    }
+  }
+
+
+
+  /**
+   * Tests the pool with a number of threads processing operations
+   * concurrently.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConcurrentOperations()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+
+    final LDAPMultiplexedConnectionPool pool =
+         new LDAPMultiplexedConnectionPool(ds.getConnection(), 2, 8);
+    try
+    {
+      final int numThreads = 10;
+      final int numOperationsPerThread = 50;
+      final AtomicInteger numSuccessful = new AtomicInteger(0);
+      final AtomicReference<Throwable> failureRef = new AtomicReference<>();
+
+      final List<Thread> threads = new ArrayList<>(numThreads);
+      for (int i=0; i < numThreads; i++)
+      {
+        final Thread t = new Thread()
+        {
+          @Override()
+          public void run()
+          {
+            try
+            {
+              for (int j=0; j < numOperationsPerThread; j++)
+              {
+                if (pool.getEntry("dc=example,dc=com") != null)
+                {
+                  numSuccessful.incrementAndGet();
+                }
+              }
+            }
+            catch (final Throwable e)
+            {
+              failureRef.set(e);
+            }
+          }
+        };
+        threads.add(t);
+        t.start();
+      }
+
+      for (final Thread t : threads)
+      {
+        t.join();
+      }
+
+      assertNull(failureRef.get());
+      assertEquals(numSuccessful.get(), (numThreads * numOperationsPerThread));
+      assertEquals(pool.getNumOutstandingOperations(), 0);
+      assertEquals(pool.getCurrentAvailableConnections(), 2);
+      assertEquals(pool.getConnectionPoolStatistics().
+           getNumSuccessfulConnectionAttempts(), 1L);
+    }
+    finally
+    {
+      pool.close();
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when a connection is released as defunct.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDefunctConnection()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+
+    final LDAPMultiplexedConnectionPool pool =
+         new LDAPMultiplexedConnectionPool(ds.getConnection(), 1, 4);
+    try
+    {
+      final LDAPConnection c1 = pool.getConnection();
+      final LDAPConnection c2 = pool.getConnection();
+      assertSame(c1, c2);
+
+      pool.releaseDefunctConnection(c1);
+      assertFalse(c1.isConnected());
+      assertEquals(pool.getNumOutstandingOperations(), 0);
+
+      // Releasing the other checkout of the defunct connection should be
+      // ignored.
+      pool.releaseConnection(c2);
+      assertEquals(pool.getNumOutstandingOperations(), 0);
+
+      final LDAPConnection c3 = pool.getConnection();
+      assertNotSame(c3, c1);
+      assertTrue(c3.isConnected());
+
+      final LDAPConnection c4 = pool.replaceDefunctConnection(c3);
+      assertNotSame(c4, c3);
+      assertTrue(c4.isConnected());
+      assertEquals(pool.getNumOutstandingOperations(), 1);
+      pool.releaseConnection(c4);
+      assertEquals(pool.getNumOutstandingOperations(), 0);
+
+      assertEquals(
+           pool.getConnectionPoolStatistics().getNumConnectionsClosedDefunct(),
+           2L);
+    }
+    finally
+    {
+      pool.close();
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when the pool is closed while a connection is checked
+   * out.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testCloseWithOutstandingOperations()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+
+    final LDAPMultiplexedConnectionPool pool =
+         new LDAPMultiplexedConnectionPool(
+              new SingleServerSet("localhost", ds.getListenPort()),
+              new SimpleBindRequest("cn=Directory Manager", "password"), 2, 4);
+
+    final LDAPConnection conn = pool.getConnection();
+    pool.close();
+    assertTrue(pool.isClosed());
+
+    // The checked-out connection should remain usable until it is released.
+    assertTrue(conn.isConnected());
+    assertNotNull(conn.getEntry("dc=example,dc=com"));
+    pool.releaseConnection(conn);
+    assertFalse(conn.isConnected());
+
+    try
+    {
+      pool.getConnection();
+      fail("Expected an exception when getting a connection from a closed " +
+           "pool");
+    }
+    catch (final LDAPException le)
+    {
+      assertEquals(le.getResultCode(), ResultCode.CONNECT_ERROR);
+    }
+  }
+}
@@ -0,0 +1,441 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.asn1.ASN1Element;
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.asn1.ASN1Sequence;
+import com.unboundid.asn1.ASN1Set;
+import com.unboundid.asn1.ASN1StreamReader;
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.protocol.LDAPMessage;
+import com.unboundid.ldap.protocol.SearchResultEntryProtocolOp;
+import com.unboundid.util.StaticUtils;
+
+
+
+/**
+ * This class provides a set of test cases for the {@code LazyAttributeMap}
+ * class and for lazily-decoded search result entries.
+ */
+public final class LazyAttributeMapTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior when retrieving individual attributes from the map.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testIndividualAttributeAccess()
+         throws Exception
+  {
+    final LazyAttributeMap map = LazyAttributeMap.decode(encode(
+         new Attribute("objectClass", "top", "person"),
+         new Attribute("CN", "Test User"),
+         new Attribute("sn", "User"),
+         new Attribute("description;lang-en", "English"),
+         new Attribute("cn", "Another Name")), null);
+
+    assertFalse(map.isFullyDecoded());
+    assertFalse(map.isEmpty());
+    assertEquals(map.getNumIndividuallyDecodedAttributes(), 0);
+
+    assertTrue(map.containsKey("sn"));
+    assertTrue(map.containsKey("description;lang-en"));
+    assertFalse(map.containsKey("description"));
+    assertFalse(map.containsKey("s"));
+    assertFalse(map.containsKey("snx"));
+    assertFalse(map.containsKey(1234));
+    assertEquals(map.getNumIndividuallyDecodedAttributes(), 0);
+
+    assertEquals(map.get("sn"), new Attribute("sn", "User"));
+    assertEquals(map.getNumIndividuallyDecodedAttributes(), 1);
+    assertSame(map.get("sn"), map.get("sn"));
+    assertEquals(map.getNumIndividuallyDecodedAttributes(), 1);
+
+    // Both cn attributes should be merged.
+    final Attribute cn = map.get("cn");
+    assertNotNull(cn);
+    assertEquals(cn.getValues().length, 2);
+    assertTrue(cn.hasValue("Test User"));
+    assertTrue(cn.hasValue("Another Name"));
+
+    assertNull(map.get("missing"));
+    assertNull(map.get(1234));
+    assertEquals(map.getNumIndividuallyDecodedAttributes(), 2);
+    assertFalse(map.isFullyDecoded());
+
+    assertEquals(map.size(), 4);
+    assertTrue(map.isFullyDecoded());
+    assertEquals(new ArrayList<>(map.keySet()),
+         Arrays.asList("objectclass", "cn", "sn", "description;lang-en"));
+    assertEquals(map.get("cn"), cn);
+    assertTrue(map.containsKey("objectclass"));
+  }
+
+
+
+  /**
+   * Tests to ensure that the map behaves like a normal map once it has been
+   * fully decoded, and that it can be serialized.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testFullDecoding()
+         throws Exception
+  {
+    final Attribute[] attrs =
+    {
+      new Attribute("objectClass", "top", "organizationalUnit"),
+      new Attribute("ou", "People"),
+      new Attribute("description", "foo")
+    };
+
+    final LinkedHashMap<String,Attribute> expected = new LinkedHashMap<>();
+    for (final Attribute a : attrs)
+    {
+      expected.put(StaticUtils.toLowerCase(a.getName()), a);
+    }
+
+    LazyAttributeMap map = LazyAttributeMap.decode(encode(attrs), null);
+    assertEquals(map, expected);
+    assertEquals(map.hashCode(), expected.hashCode());
+    assertEquals(map.toString(), expected.toString());
+
+    map = LazyAttributeMap.decode(encode(attrs), null);
+    assertEquals(new ArrayList<>(map.values()), Arrays.asList(attrs));
+
+    map = LazyAttributeMap.decode(encode(attrs), null);
+    assertNotNull(map.remove("description"));
+    assertNull(map.put("sn", new Attribute("sn", "bar")));
+    assertEquals(map.size(), 3);
+
+    map = LazyAttributeMap.decode(encode(attrs), null);
+    final Object deserialized = serializeAndDeserialize(map);
+    assertTrue(deserialized instanceof LinkedHashMap);
+    assertFalse(deserialized instanceof LazyAttributeMap);
+    assertEquals(deserialized, expected);
+
+    map = LazyAttributeMap.decode(new byte[0], null);
+    assertTrue(map.isEmpty());
+    assertNull(map.get("cn"));
+    assertEquals(map.size(), 0);
+  }
+
+
+
+  /**
+   * Tests the behavior for an attribute whose description contains non-ASCII
+   * characters.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testNonASCIIAttributeName()
+         throws Exception
+  {
+    final LazyAttributeMap map = LazyAttributeMap.decode(encode(
+         new Attribute("d\u00e9scription", "foo"),
+         new Attribute("cn", "bar")), null);
+
+    assertTrue(map.containsKey("d\u00e9scription"));
+    assertFalse(map.containsKey("description"));
+    assertEquals(map.get("d\u00e9scription"),
+         new Attribute("d\u00e9scription", "foo"));
+    assertEquals(map.get("cn"), new Attribute("cn", "bar"));
+  }
+
+
+
+  /**
+   * Provides test coverage for malformed attribute lists.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMalformedAttributeLists()
+         throws Exception
+  {
+    final byte[] valid = encode(new Attribute("cn", "foo", "bar"));
+
+    final List<byte[]> malformed = new ArrayList<>();
+    malformed.add(Arrays.copyOf(valid, valid.length - 1));
+    malformed.add(new byte[] { 0x04, 0x00 });
+    malformed.add(new byte[] { 0x30 });
+    malformed.add(new byte[] { 0x30, (byte) 0x85, 0x00, 0x00, 0x00, 0x00,
+         0x00 });
+    malformed.add(new byte[] { 0x30, (byte) 0x80 });
+    malformed.add(new byte[] { 0x30, (byte) 0x84, (byte) 0xFF, (byte) 0xFF,
+         (byte) 0xFF, (byte) 0xFF });
+    malformed.add(new ASN1Sequence(new ASN1OctetString(""),
+         new ASN1Set()).encode());
+    malformed.add(new ASN1Sequence(new ASN1OctetString("cn"),
+         new ASN1Sequence()).encode());
+    malformed.add(new ASN1Sequence(new ASN1OctetString("cn"),
+         new ASN1Set(new ASN1Element((byte) 0x05))).encode());
+    malformed.add(new ASN1Sequence(new ASN1OctetString("cn"),
+         new ASN1Set(), new ASN1OctetString("extra")).encode());
+
+    for (final byte[] b : malformed)
+    {
+      try
+      {
+        LazyAttributeMap.decode(b, null);
+        fail("Expected an exception when decoding " +
+             StaticUtils.toHex(b));
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.DECODING_ERROR);
+      }
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior of search result entries read from a connection that
+   * is configured to use lazy decoding.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testLazySearchResultEntries()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    final SearchResultEntry eagerEntry;
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      eagerEntry =
+           conn.getEntry("uid=test.user,ou=People,dc=example,dc=com");
+    }
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setUseLazySearchEntryDecoding(true);
+    try (LDAPConnection conn = ds.getConnection(options))
+    {
+      final SearchResultEntry lazyEntry =
+           conn.getEntry("uid=test.user,ou=People,dc=example,dc=com");
+      assertNotNull(lazyEntry);
+
+      assertEquals(lazyEntry.getDN(), eagerEntry.getDN());
+      assertTrue(lazyEntry.hasAttribute("objectClass"));
+      assertTrue(lazyEntry.hasObjectClass("person"));
+      assertEquals(lazyEntry.getAttributeValue("UID"), "test.user");
+      assertEquals(lazyEntry.getAttribute("givenName"),
+           eagerEntry.getAttribute("givenName"));
+      assertFalse(lazyEntry.hasAttribute("undefined"));
+      assertEquals(lazyEntry, eagerEntry);
+      assertEquals(lazyEntry.hashCode(), eagerEntry.hashCode());
+      assertEquals(lazyEntry.getAttributes(), eagerEntry.getAttributes());
+      assertEquals(lazyEntry.toLDIFString(), eagerEntry.toLDIFString());
+      assertEquals(lazyEntry.duplicate(), eagerEntry);
+      assertEquals(serializeAndDeserialize(lazyEntry), eagerEntry);
+
+      final SearchResult searchResult = conn.search("dc=example,dc=com",
+           SearchScope.SUB, "(objectClass=*)", "dc", "ou", "uid");
+      assertEquals(searchResult.getEntryCount(), 3);
+      for (final SearchResultEntry e : searchResult.getSearchEntries())
+      {
+        assertFalse(e.hasAttribute("objectClass"));
+        assertTrue(e.hasAttribute("dc") || e.hasAttribute("ou") ||
+             e.hasAttribute("uid"));
+        assertEquals(e.getAttributes().size(), 1);
+      }
+    }
+  }
+
+
+
+  /**
+   * Compares the number of bytes allocated when reading search result entries
+   * with eager and lazy decoding and retrieving only a couple of attributes
+   * from each entry.  This
+   * will be skipped if the JVM cannot report per-thread allocation.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAllocationPerEntry()
+         throws Exception
+  {
+    final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    if (! (threadBean instanceof com.sun.management.ThreadMXBean))
+    {
+      return;
+    }
+
+    final com.sun.management.ThreadMXBean allocationBean =
+         (com.sun.management.ThreadMXBean) threadBean;
+    if (! allocationBean.isThreadAllocatedMemorySupported())
+    {
+      return;
+    }
+    allocationBean.setThreadAllocatedMemoryEnabled(true);
+
+    final Attribute[] attrs = new Attribute[30];
+    for (int i=0; i < attrs.length; i++)
+    {
+      final String[] values = new String[10];
+      for (int j=0; j < values.length; j++)
+      {
+        values[j] = "value " + j + " for attribute " + i;
+      }
+      attrs[i] = new Attribute("attr" + i, values);
+    }
+    final byte[] encoded = new LDAPMessage(1,
+         new SearchResultEntryProtocolOp(
+              new Entry("dc=example,dc=com", attrs))).encode().encode();
+
+    final int numEntries = 1000;
+    final long threadID = Thread.currentThread().getId();
+
+    // Warm up both code paths before measuring.
+    readEntries(encoded, numEntries, false);
+    readEntries(encoded, numEntries, true);
+
+    long before = allocationBean.getThreadAllocatedBytes(threadID);
+    readEntries(encoded, numEntries, false);
+    final long eagerBytesPerEntry =
+         (allocationBean.getThreadAllocatedBytes(threadID) - before) /
+              numEntries;
+
+    before = allocationBean.getThreadAllocatedBytes(threadID);
+    readEntries(encoded, numEntries, true);
+    final long lazyBytesPerEntry =
+         (allocationBean.getThreadAllocatedBytes(threadID) - before) /
+              numEntries;
+
+    assertTrue(lazyBytesPerEntry < eagerBytesPerEntry,
+         "Lazy decoding allocated " + lazyBytesPerEntry +
+              " bytes per entry, while eager decoding allocated " +
+              eagerBytesPerEntry + " bytes per entry.");
+  }
+
+
+
+  /**
+   * Reads the search result entry in the provided encoded LDAP message the
+   * specified number of times, retrieving two attributes from each entry.
+   *
+   * @param  encodedMessage  The encoded LDAP message containing the entry.
+   * @param  numEntries      The number of entries to read.
+   * @param  lazyDecoding    Indicates whether to use lazy decoding.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static void readEntries(final byte[] encodedMessage,
+                                  final int numEntries,
+                                  final boolean lazyDecoding)
+          throws Exception
+  {
+    for (int i=0; i < numEntries; i++)
+    {
+      final ASN1StreamReader reader = new ASN1StreamReader(
+           new ByteArrayInputStream(encodedMessage));
+      final SearchResultEntry entry = (SearchResultEntry)
+           LDAPMessage.readLDAPResponseFrom(reader, true, null, lazyDecoding);
+      assertNotNull(entry.getAttributeValue("attr3"));
+      assertNotNull(entry.getAttributeValue("attr17"));
+    }
+  }
+
+
+
+  /**
+   * Serializes the provided object and deserializes the result.
+   *
+   * @param  o  The object to serialize.
+   *
+   * @return  The deserialized object.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static Object serializeAndDeserialize(final Object o)
+          throws Exception
+  {
+    final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(baos))
+    {
+      oos.writeObject(o);
+    }
+
+    try (ObjectInputStream ois = new ObjectInputStream(
+              new ByteArrayInputStream(baos.toByteArray())))
+    {
+      return ois.readObject();
+    }
+  }
+
+
+
+  /**
+   * Encodes the provided attributes as the value of an attribute list.
+   *
+   * @param  attributes  The attributes to encode.
+   *
+   * @return  The encoded attribute list.
+   */
+  private static byte[] encode(final Attribute... attributes)
+  {
+    final ASN1Element[] elements = new ASN1Element[attributes.length];
+    for (int i=0; i < attributes.length; i++)
+    {
+      elements[i] = attributes[i].encode();
+    }
+
+    return new ASN1Sequence(elements).getValue();
+  }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.asn1.ASN1Buffer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.sdk.controls.ManageDsaITRequestControl;
+import com.unboundid.util.LDAPSDKUsageException;
+import com.unboundid.util.StaticUtils;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * {@code PreparedModifyRequest} class.
+ */
+public final class PreparedModifyRequestTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests to ensure that the encoding of requests created from a prepared
+   * modify request is identical to that of an equivalent request created in
+   * the usual way.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testEncoding()
+         throws Exception
+  {
+    final String slot = PreparedModifyRequest.VALUE_SLOT;
+    final PreparedModifyRequest p = new PreparedModifyRequest(
+         new ModifyRequest(slot,
+              new Modification(ModificationType.REPLACE, "description", slot),
+              new Modification(ModificationType.DELETE, "seeAlso"),
+              new Modification(ModificationType.ADD, "cn", "static", slot,
+                   slot),
+              new Modification(ModificationType.INCREMENT, "age", "1")));
+    assertEquals(p.getNumValueSlots(), 4);
+    assertNotNull(p.toString());
+
+    final char[] longChars = new char[70000];
+    Arrays.fill(longChars, 'y');
+    final String longValue = new String(longChars);
+
+    final ModifyRequest r = p.createRequest(
+         "uid=test.user,ou=People,dc=example,dc=com", "foo", "bar", longValue);
+    final ModifyRequest expected = new ModifyRequest(
+         "uid=test.user,ou=People,dc=example,dc=com",
+         new Modification(ModificationType.REPLACE, "description", "foo"),
+         new Modification(ModificationType.DELETE, "seeAlso"),
+         new Modification(ModificationType.ADD, "cn", "static", "bar",
+              longValue),
+         new Modification(ModificationType.INCREMENT, "age", "1"));
+
+    assertEquals(r.getDN(), expected.getDN());
+    assertEquals(r.getModifications(), expected.getModifications());
+    assertEquals(encode(r), encode(expected));
+    assertEquals(encode(r.duplicate()), encode(expected));
+
+
+    // Make sure that applying the values to an existing request works as
+    // expected.
+    final ModifyRequest existing = new ModifyRequest("o=other",
+         new Modification(ModificationType.DELETE, "foo"));
+    existing.addControl(new ManageDsaITRequestControl());
+    p.applyTo(existing, "uid=test.user,ou=People,dc=example,dc=com", "foo",
+         "bar", longValue);
+    assertTrue(existing.hasControl(
+         ManageDsaITRequestControl.MANAGE_DSA_IT_REQUEST_OID));
+    assertEquals(encode(existing), encode(expected));
+
+
+    // Make sure that altering the request causes it to be encoded in the
+    // usual way.
+    r.addModification(
+         new Modification(ModificationType.REPLACE, "sn", "added"));
+    expected.addModification(
+         new Modification(ModificationType.REPLACE, "sn", "added"));
+    assertEquals(encode(r), encode(expected));
+
+    r.setDN("uid=other,ou=People,dc=example,dc=com");
+    expected.setDN("uid=other,ou=People,dc=example,dc=com");
+    assertEquals(encode(r), encode(expected));
+  }
+
+
+
+  /**
+   * Tests the behavior of a prepared modify request that does not have any
+   * value slots.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testNoSlots()
+         throws Exception
+  {
+    final ModifyRequest template = new ModifyRequest("dc=example,dc=com",
+         new Modification(ModificationType.REPLACE, "description", "x"));
+    final PreparedModifyRequest p = new PreparedModifyRequest(template);
+    assertEquals(p.getNumValueSlots(), 0);
+    assertEquals(encode(p.createRequest()), encode(template));
+    assertEquals(encode(p.getTemplateRequest()), encode(template));
+  }
+
+
+
+  /**
+   * Tests the behavior when the wrong number of slot values is provided.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPSDKUsageException.class })
+  public void testWrongNumberOfValues()
+         throws Exception
+  {
+    final PreparedModifyRequest p = new PreparedModifyRequest(
+         new ModifyRequest(PreparedModifyRequest.VALUE_SLOT,
+              new Modification(ModificationType.REPLACE, "description",
+                   PreparedModifyRequest.VALUE_SLOT)));
+    p.createRequest("dc=example,dc=com", "a", "b");
+  }
+
+
+
+  /**
+   * Tests the use of a prepared modify request to process modifications
+   * against an in-memory directory server.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testModifyInMemoryServer()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      final PreparedModifyRequest p = new PreparedModifyRequest(
+           new ModifyRequest(PreparedModifyRequest.VALUE_SLOT,
+                new Modification(ModificationType.REPLACE, "description",
+                     PreparedModifyRequest.VALUE_SLOT)));
+
+      final ModifyRequest reused = p.createRequest(
+           "uid=test.user,ou=People,dc=example,dc=com", "first");
+      assertResultCodeEquals(conn, reused, ResultCode.SUCCESS);
+      assertAttributeExists(conn, "uid=test.user,ou=People,dc=example,dc=com",
+           "description");
+      assertEquals(conn.getEntry("uid=test.user,ou=People,dc=example,dc=com").
+           getAttributeValue("description"), "first");
+
+      for (int i=0; i < 10; i++)
+      {
+        p.applyTo(reused, "uid=test.user,ou=People,dc=example,dc=com",
+             "value " + i);
+        assertResultCodeEquals(conn, reused, ResultCode.SUCCESS);
+      }
+
+      assertEquals(conn.getEntry("uid=test.user,ou=People,dc=example,dc=com").
+           getAttributeValue("description"), "value 9");
+
+      assertResultCodeEquals(conn,
+           p.createRequest("uid=missing,ou=People,dc=example,dc=com", "x"),
+           ResultCode.NO_SUCH_OBJECT);
+    }
+  }
+
+
+
+  /**
+   * Encodes the provided modify request using an ASN.1 buffer.
+   *
+   * @param  r  The modify request to encode.
+   *
+   * @return  A hex string representation of the encoded modify request.
+   */
+  private static String encode(final ModifyRequest r)
+  {
+    final ASN1Buffer buffer = new ASN1Buffer();
+    r.writeTo(buffer);
+    return StaticUtils.toHex(buffer.toByteArray());
+  }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.Arrays;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.unboundid.asn1.ASN1Buffer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.sdk.controls.ManageDsaITRequestControl;
+import com.unboundid.util.LDAPSDKUsageException;
+import com.unboundid.util.StaticUtils;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * {@code PreparedSearchRequest} class.
+ */
+public final class PreparedSearchRequestTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Retrieves a set of template filters and the values to use for their slots.
+   *
+   * @return  A set of template filters and the values to use for their slots.
+   */
+  @DataProvider(name="templateFilters")
+  public Object[][] getTemplateFilters()
+  {
+    final char[] longChars = new char[300];
+    Arrays.fill(longChars, 'x');
+    final String longValue = new String(longChars);
+
+    return new Object[][]
+    {
+      new Object[] { "(objectClass=*)", new String[0] },
+      new Object[] { "(uid=?)", new String[] { "user.1" } },
+      new Object[] { "(uid=?)", new String[] { longValue } },
+      new Object[] { "(uid=?)", new String[] { "" } },
+      new Object[] { "(cn=?)", new String[] { "J\u00f6rg \u65e5\u672c" } },
+      new Object[] { "(&(objectClass=person)(uid=?))",
+           new String[] { "user.2" } },
+      new Object[] { "(|(cn=?)(!(sn=?))(givenName=static))",
+           new String[] { "a", "b" } },
+      new Object[] { "(&(|(a=?)(b=?))(!(c=?)))",
+           new String[] { "1", longValue, "3" } },
+      new Object[] { "(age>=?)", new String[] { "5" } },
+      new Object[] { "(age<=?)", new String[] { "10" } },
+      new Object[] { "(cn~=?)", new String[] { "jon" } },
+      new Object[] { "(cn=?*)", new String[] { "abc" } },
+      new Object[] { "(cn=*?)", new String[] { "abc" } },
+      new Object[] { "(cn=?*foo*?*?)", new String[] { "a", "b", "c" } },
+      new Object[] { "(cn=static*?*static)", new String[] { longValue } },
+      new Object[] { "(cn:dn:caseIgnoreMatch:=?)", new String[] { "x" } },
+      new Object[] { "(:caseExactMatch:=?)", new String[] { "y" } },
+    };
+  }
+
+
+
+  /**
+   * Tests to ensure that the encoding of requests created from a prepared
+   * search request is identical to that of an equivalent request created in
+   * the usual way.
+   *
+   * @param  filterTemplate  The template filter string.
+   * @param  filterValues    The values to use for the slots in the filter.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="templateFilters")
+  public void testEncoding(final String filterTemplate,
+                           final String[] filterValues)
+         throws Exception
+  {
+    final String expectedFilterString =
+         fillSlots(filterTemplate, filterValues);
+
+    // Test with a static base DN.
+    final PreparedSearchRequest staticBase = new PreparedSearchRequest(
+         new SearchRequest("dc=example,dc=com", SearchScope.SUB,
+              DereferencePolicy.ALWAYS, 10, 20, true,
+              Filter.create(filterTemplate), "cn", "+", "*"));
+    assertEquals(staticBase.getNumValueSlots(), filterValues.length);
+    assertNotNull(staticBase.toString());
+
+    SearchRequest r = staticBase.createRequest(filterValues);
+    assertEquals(r.getFilter(), Filter.create(expectedFilterString));
+    assertEquals(r.getFilter().toString(),
+         Filter.create(expectedFilterString).toString());
+    assertEquals(encode(r),
+         encode(new SearchRequest("dc=example,dc=com", SearchScope.SUB,
+              DereferencePolicy.ALWAYS, 10, 20, true,
+              Filter.create(expectedFilterString), "cn", "+", "*")));
+
+
+    // Test with a base DN slot.
+    final PreparedSearchRequest slotBase = new PreparedSearchRequest(
+         new SearchRequest(PreparedSearchRequest.VALUE_SLOT, SearchScope.ONE,
+              filterTemplate));
+    assertEquals(slotBase.getNumValueSlots(), (filterValues.length + 1));
+
+    final String[] allValues = new String[filterValues.length + 1];
+    allValues[0] = "ou=People,dc=example,dc=com";
+    System.arraycopy(filterValues, 0, allValues, 1, filterValues.length);
+
+    r = slotBase.createRequest(allValues);
+    assertEquals(r.getBaseDN(), "ou=People,dc=example,dc=com");
+    assertEquals(encode(r),
+         encode(new SearchRequest("ou=People,dc=example,dc=com",
+              SearchScope.ONE, expectedFilterString)));
+    assertEquals(encode(r.duplicate()), encode(r));
+
+
+    // Make sure that applying the values to an existing request works as
+    // expected.
+    final SearchRequest existing = new SearchRequest("o=other",
+         SearchScope.BASE, "(objectClass=*)", "foo");
+    existing.addControl(new ManageDsaITRequestControl());
+    slotBase.applyTo(existing, allValues);
+    assertEquals(existing.getBaseDN(), "ou=People,dc=example,dc=com");
+    assertEquals(existing.getScope(), SearchScope.ONE);
+    assertEquals(existing.getFilter(), Filter.create(expectedFilterString));
+    assertEquals(existing.getAttributes().length, 0);
+    assertTrue(existing.hasControl(
+         ManageDsaITRequestControl.MANAGE_DSA_IT_REQUEST_OID));
+    assertEquals(encode(existing), encode(r));
+  }
+
+
+
+  /**
+   * Tests to ensure that altering a request created from a prepared search
+   * request causes it to be encoded in the usual way.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAlterPreparedRequest()
+         throws Exception
+  {
+    final PreparedSearchRequest p = new PreparedSearchRequest(
+         new SearchRequest("dc=example,dc=com", SearchScope.SUB, "(uid=?)"));
+
+    final SearchRequest r = p.createRequest("user.1");
+    r.setFilter("(uid=user.2)");
+    assertEquals(encode(r),
+         encode(new SearchRequest("dc=example,dc=com", SearchScope.SUB,
+              "(uid=user.2)")));
+
+    final SearchRequest r2 = p.createRequest("user.3");
+    r2.setBaseDN("o=example.com");
+    r2.setSizeLimit(5);
+    assertEquals(encode(r2),
+         encode(new SearchRequest("o=example.com", SearchScope.SUB,
+              DereferencePolicy.NEVER, 5, 0, false, "(uid=user.3)")));
+
+    assertEquals(p.getTemplateRequest().getFilter(),
+         Filter.create("(uid=?)"));
+  }
+
+
+
+  /**
+   * Tests the behavior when the wrong number of slot values is provided.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPSDKUsageException.class })
+  public void testWrongNumberOfValues()
+         throws Exception
+  {
+    final PreparedSearchRequest p = new PreparedSearchRequest(
+         new SearchRequest("dc=example,dc=com", SearchScope.SUB,
+              "(&(givenName=?)(sn=?))"));
+    p.createRequest("a");
+  }
+
+
+
+  /**
+   * Tests the use of a prepared search request to process searches against
+   * an in-memory directory server.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSearchInMemoryServer()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      final PreparedSearchRequest p = new PreparedSearchRequest(
+           new SearchRequest(PreparedSearchRequest.VALUE_SLOT,
+                SearchScope.SUB, "(&(objectClass=person)(uid=?))", "cn"));
+
+      SearchResult result = conn.search(
+           p.createRequest("dc=example,dc=com", "test.user"));
+      assertEquals(result.getEntryCount(), 1);
+      assertEquals(result.getSearchEntries().get(0).getDN(),
+           "uid=test.user,ou=People,dc=example,dc=com");
+      assertEquals(result.getSearchEntries().get(0).getAttributeValue("cn"),
+           "Test User");
+
+      result = conn.search(p.createRequest("dc=example,dc=com", "missing"));
+      assertEquals(result.getEntryCount(), 0);
+
+      final SearchRequest reused = new SearchRequest("", SearchScope.BASE,
+           "(objectClass=*)");
+      for (int i=0; i < 10; i++)
+      {
+        p.applyTo(reused, "ou=People,dc=example,dc=com", "test.user");
+        result = conn.search(reused);
+        assertEquals(result.getEntryCount(), 1);
+      }
+
+      try
+      {
+        conn.search(p.createRequest("o=missing", "test.user"));
+        fail("Expected an exception when searching below a missing base DN");
+      }
+      catch (final LDAPSearchException lse)
+      {
+        assertEquals(lse.getResultCode(), ResultCode.NO_SUCH_OBJECT);
+      }
+    }
+  }
+
+
+
+  /**
+   * Replaces each of the value slots in the provided filter string with the
+   * corresponding value.
+   *
+   * @param  filterTemplate  The template filter string.
+   * @param  values          The values to use for the slots.
+   *
+   * @return  The resulting filter string.
+   */
+  private static String fillSlots(final String filterTemplate,
+                                  final String[] values)
+  {
+    final StringBuilder buffer = new StringBuilder();
+    int valueIndex = 0;
+    for (final char c : filterTemplate.toCharArray())
+    {
+      if (c == '?')
+      {
+        buffer.append(Filter.encodeValue(values[valueIndex++]));
+      }
+      else
+      {
+        buffer.append(c);
+      }
+    }
+
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Encodes the provided search request using an ASN.1 buffer.
+   *
+   * @param  r  The search request to encode.
+   *
+   * @return  A hex string representation of the encoded search request.
+   */
+  private static String encode(final SearchRequest r)
+  {
+    final ASN1Buffer buffer = new ASN1Buffer();
+    r.writeTo(buffer);
+    return StaticUtils.toHex(buffer.toByteArray());
+  }
+}
@@ -0,0 +1,502 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * {@code SearchResultEntryPublisher} class.
+ */
+public final class SearchResultEntryPublisherTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * The number of user entries to add to the test server.
+   */
+  private static final int NUM_USERS = 250;
+
+
+
+  /**
+   * Tests the behavior when the subscriber requests an unbounded number of
+   * entries.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testUnboundedDemand()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getPopulatedDS();
+
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      final SearchRequest searchRequest = new SearchRequest(
+           "ou=People,dc=example,dc=com", SearchScope.ONE, "(uid=*)");
+      final SearchResultEntryPublisher publisher =
+           conn.searchPublisher(searchRequest);
+      assertNotNull(publisher.getSearchRequest());
+
+      final TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+      publisher.subscribe(subscriber);
+      subscriber.awaitTermination();
+
+      assertNull(subscriber.error.get());
+      assertNotNull(subscriber.result.get());
+      assertEquals(subscriber.result.get().getResultCode(), ResultCode.SUCCESS);
+      assertEquals(subscriber.result.get().getEntryCount(), NUM_USERS);
+      assertEquals(subscriber.getEntries().size(), NUM_USERS);
+
+      // The connection should still be usable for other operations.
+      assertNotNull(conn.getEntry("dc=example,dc=com"));
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that entries are only delivered as they are requested, and
+   * that a search returning more entries than can be buffered will complete
+   * once the subscriber requests them.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testBoundedDemand()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getPopulatedDS();
+
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      final SearchResultEntryPublisher publisher =
+           conn.searchPublisher(new SearchRequest(
+                "ou=People,dc=example,dc=com", SearchScope.ONE, "(uid=*)"));
+
+      final TestSubscriber subscriber = new TestSubscriber(0L);
+      publisher.subscribe(subscriber);
+      assertEquals(subscriber.getEntries().size(), 0);
+
+      subscriber.subscription.get().request(5L);
+      waitForEntries(subscriber, 5);
+      Thread.sleep(100L);
+      assertEquals(subscriber.getEntries().size(), 5);
+      assertNull(subscriber.result.get());
+
+      while (subscriber.terminated.getCount() > 0L)
+      {
+        subscriber.subscription.get().request(10L);
+        Thread.sleep(1L);
+      }
+
+      assertNull(subscriber.error.get());
+      assertNotNull(subscriber.result.get());
+      assertEquals(subscriber.getEntries().size(), NUM_USERS);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when the subscription is cancelled before all of the
+   * entries have been delivered.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testCancel()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getPopulatedDS();
+
+    final LDAPConnectionPool pool =
+         new LDAPConnectionPool(ds.getConnection(), 1);
+    try
+    {
+      final SearchResultEntryPublisher publisher =
+           pool.searchPublisher(new SearchRequest(
+                "ou=People,dc=example,dc=com", SearchScope.ONE, "(uid=*)"));
+
+      final TestSubscriber subscriber = new TestSubscriber(0L);
+      publisher.subscribe(subscriber);
+      assertEquals(pool.getCurrentAvailableConnections(), 1);
+
+      subscriber.subscription.get().request(3L);
+      waitForEntries(subscriber, 3);
+
+      subscriber.subscription.get().cancel();
+      subscriber.subscription.get().request(10L);
+      Thread.sleep(100L);
+
+      assertEquals(subscriber.getEntries().size(), 3);
+      assertNull(subscriber.result.get());
+      assertNull(subscriber.error.get());
+      assertEquals(pool.getCurrentAvailableConnections(), 1);
+
+      // The pooled connection should still be usable.
+      assertNotNull(pool.getEntry("dc=example,dc=com"));
+    }
+    finally
+    {
+      pool.close();
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when the search fails.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSearchFailure()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getPopulatedDS();
+
+    final LDAPConnectionPool pool =
+         new LDAPConnectionPool(ds.getConnection(), 1);
+    try
+    {
+      final SearchResultEntryPublisher publisher =
+           pool.searchPublisher(new SearchRequest(
+                "ou=missing,dc=example,dc=com", SearchScope.ONE, "(uid=*)"));
+
+      final TestSubscriber subscriber = new TestSubscriber(1L);
+      publisher.subscribe(subscriber);
+      subscriber.awaitTermination();
+
+      assertNull(subscriber.result.get());
+      assertNotNull(subscriber.error.get());
+      assertEquals(subscriber.error.get().getResultCode(),
+           ResultCode.NO_SUCH_OBJECT);
+      assertEquals(pool.getCurrentAvailableConnections(), 1);
+    }
+    finally
+    {
+      pool.close();
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when the subscriber requests an invalid number of
+   * entries.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testInvalidRequestCount()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getPopulatedDS();
+
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      final SearchResultEntryPublisher publisher =
+           conn.searchPublisher(new SearchRequest(
+                "ou=People,dc=example,dc=com", SearchScope.ONE, "(uid=*)"));
+
+      final TestSubscriber subscriber = new TestSubscriber(0L);
+      publisher.subscribe(subscriber);
+      subscriber.subscription.get().request(0L);
+      subscriber.awaitTermination();
+
+      assertNotNull(subscriber.error.get());
+      assertEquals(subscriber.error.get().getResultCode(),
+           ResultCode.PARAM_ERROR);
+      assertEquals(subscriber.getEntries().size(), 0);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when attempting to subscribe to the same publisher more
+   * than once, and when the search request has its own listener.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testInvalidSubscriptions()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getPopulatedDS();
+
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      final SearchResultEntryPublisher publisher =
+           conn.searchPublisher(new SearchRequest(
+                "dc=example,dc=com", SearchScope.BASE, "(objectClass=*)"));
+
+      final TestSubscriber first = new TestSubscriber(Long.MAX_VALUE);
+      publisher.subscribe(first);
+      first.awaitTermination();
+      assertNotNull(first.result.get());
+      assertEquals(first.getEntries().size(), 1);
+
+      // Rejected subscribers request entries from within onSubscribe, but
+      // that must not cause any additional searches to be sent.
+      final long numSearches =
+           conn.getConnectionStatistics().getNumSearchRequests();
+
+      final TestSubscriber second = new TestSubscriber(Long.MAX_VALUE);
+      publisher.subscribe(second);
+      second.awaitTermination();
+      assertNotNull(second.error.get());
+      assertEquals(second.error.get().getResultCode(), ResultCode.PARAM_ERROR);
+      assertEquals(second.getEntries().size(), 0);
+
+      final TestSubscriber third = new TestSubscriber(Long.MAX_VALUE);
+      conn.searchPublisher(new SearchRequest(
+           new BasicAsyncSearchResultListener(), "dc=example,dc=com",
+           SearchScope.BASE, "(objectClass=*)")).subscribe(third);
+      third.awaitTermination();
+      assertNotNull(third.error.get());
+      assertEquals(third.error.get().getResultCode(), ResultCode.PARAM_ERROR);
+      assertEquals(third.getEntries().size(), 0);
+
+      assertEquals(conn.getConnectionStatistics().getNumSearchRequests(),
+           numSearches);
+    }
+  }
+
+
+
+  /**
+   * Retrieves an in-memory directory server instance populated with a number
+   * of user entries.
+   *
+   * @return  The in-memory directory server instance.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static InMemoryDirectoryServer getPopulatedDS()
+          throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+    ds.add(
+         "dn: ou=People,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: People");
+
+    for (int i=0; i < NUM_USERS; i++)
+    {
+      ds.add(
+           "dn: uid=user." + i + ",ou=People,dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: person",
+           "objectClass: organizationalPerson",
+           "objectClass: inetOrgPerson",
+           "uid: user." + i,
+           "givenName: User",
+           "sn: " + i,
+           "cn: User " + i);
+    }
+
+    return ds;
+  }
+
+
+
+  /**
+   * Waits for the provided subscriber to have received at least the specified
+   * number of entries.
+   *
+   * @param  subscriber  The subscriber to examine.
+   * @param  numEntries  The minimum number of entries to wait for.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static void waitForEntries(final TestSubscriber subscriber,
+                                     final int numEntries)
+          throws Exception
+  {
+    final long stopTime = System.currentTimeMillis() + 30_000L;
+    while ((subscriber.getEntries().size() < numEntries) &&
+         (System.currentTimeMillis() < stopTime))
+    {
+      Thread.sleep(1L);
+    }
+
+    assertTrue(subscriber.getEntries().size() >= numEntries);
+  }
+
+
+
+  /**
+   * A subscriber implementation that records the notifications it receives.
+   */
+  private static final class TestSubscriber
+          implements SearchResultEntrySubscriber
+  {
+    // The result with which the subscription completed, if any.
+    private final AtomicReference<SearchResult> result =
+         new AtomicReference<>();
+
+    // The exception with which the subscription failed, if any.
+    private final AtomicReference<LDAPSearchException> error =
+         new AtomicReference<>();
+
+    // The subscription provided to this subscriber.
+    private final AtomicReference<SearchResultEntrySubscription>
+         subscription = new AtomicReference<>();
+
+    // A latch that will be released when a terminal notification arrives.
+    private final CountDownLatch terminated = new CountDownLatch(1);
+
+    // The entries that have been received.
+    private final List<SearchResultEntry> entries = new ArrayList<>();
+
+    // The number of entries to request upon subscribing.
+    private final long initialRequest;
+
+
+
+    /**
+     * Creates a new test subscriber.
+     *
+     * @param  initialRequest  The number of entries to request upon
+     *                         subscribing, or zero if no entries should be
+     *                         requested.
+     */
+    private TestSubscriber(final long initialRequest)
+    {
+      this.initialRequest = initialRequest;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void onSubscribe(final SearchResultEntrySubscription s)
+    {
+      assertNull(subscription.get());
+      subscription.set(s);
+      if (initialRequest > 0L)
+      {
+        s.request(initialRequest);
+      }
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void onNext(final SearchResultEntry entry)
+    {
+      assertEquals(terminated.getCount(), 1L);
+      synchronized (entries)
+      {
+        entries.add(entry);
+      }
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void onComplete(final SearchResult searchResult)
+    {
+      assertEquals(terminated.getCount(), 1L);
+      result.set(searchResult);
+      terminated.countDown();
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void onError(final LDAPSearchException exception)
+    {
+      assertEquals(terminated.getCount(), 1L);
+      error.set(exception);
+      terminated.countDown();
+    }
+
+
+
+    /**
+     * Retrieves a copy of the entries that have been received.
+     *
+     * @return  A copy of the entries that have been received.
+     */
+    private List<SearchResultEntry> getEntries()
+    {
+      synchronized (entries)
+      {
+        return new ArrayList<>(entries);
+      }
+    }
+
+
+
+    /**
+     * Waits for the subscriber to receive a terminal notification.
+     *
+     * @throws  Exception  If an unexpected problem occurs.
+     */
+    private void awaitTermination()
+            throws Exception
+    {
+      assertTrue(terminated.await(30L, TimeUnit.SECONDS));
+    }
+  }
+}
@@ -0,0 +1,403 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+
+
+
+/**
+ * This class provides a set of test cases for the striped blocking queue and
+ * for connection pools that use it.
+ */
+public final class StripedBlockingQueueTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the basic behavior of a queue with a single stripe.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSingleStripe()
+         throws Exception
+  {
+    final StripedBlockingQueue<String> queue =
+         new StripedBlockingQueue<>(3, 1);
+    assertEquals(queue.getNumStripes(), 1);
+    assertEquals(queue.size(), 0);
+    assertEquals(queue.remainingCapacity(), 3);
+    assertNull(queue.peek());
+    assertNull(queue.poll());
+
+    assertTrue(queue.offer("a"));
+    assertTrue(queue.offer("b"));
+    assertTrue(queue.offer("c"));
+    assertFalse(queue.offer("d"));
+    assertEquals(queue.size(), 3);
+    assertEquals(queue.remainingCapacity(), 0);
+
+    final Set<String> iterated = new HashSet<>();
+    for (final String s : queue)
+    {
+      iterated.add(s);
+    }
+    assertEquals(iterated.size(), 3);
+
+    // A single stripe behaves as a stack.
+    assertEquals(queue.peek(), "c");
+    assertEquals(queue.poll(), "c");
+    assertEquals(queue.size(), 2);
+
+    final List<String> drained = new ArrayList<>();
+    assertEquals(queue.drainTo(drained), 2);
+    assertEquals(drained.size(), 2);
+    assertEquals(queue.size(), 0);
+    assertEquals(queue.remainingCapacity(), 3);
+    assertNull(queue.poll());
+  }
+
+
+
+  /**
+   * Tests the behavior of the remove method.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testRemove()
+         throws Exception
+  {
+    final StripedBlockingQueue<String> queue =
+         new StripedBlockingQueue<>(4, 1);
+    assertTrue(queue.offer("a"));
+    assertTrue(queue.offer("b"));
+    assertTrue(queue.offer("c"));
+
+    assertFalse(queue.remove("d"));
+    assertFalse(queue.remove(null));
+
+    // Remove an element from the middle of the stack.
+    assertTrue(queue.remove("b"));
+    assertFalse(queue.remove("b"));
+    assertEquals(queue.size(), 2);
+    assertEquals(queue.remainingCapacity(), 2);
+    assertFalse(queue.contains("b"));
+    assertTrue(queue.contains("a"));
+
+    // Remove the element at the top of the stack.
+    assertTrue(queue.remove("c"));
+    assertEquals(queue.peek(), "a");
+
+    assertTrue(queue.offer("b"));
+    assertEquals(queue.poll(), "b");
+    assertEquals(queue.poll(), "a");
+    assertNull(queue.poll());
+    assertEquals(queue.size(), 0);
+  }
+
+
+
+  /**
+   * Tests the number of stripes that will be created.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testNumStripes()
+         throws Exception
+  {
+    assertEquals(new StripedBlockingQueue<String>(10, 3).getNumStripes(), 4);
+    assertEquals(new StripedBlockingQueue<String>(2, 16).getNumStripes(), 2);
+    assertEquals(new StripedBlockingQueue<String>(1000, 1000).getNumStripes(),
+         64);
+    assertTrue(new StripedBlockingQueue<String>(10).getNumStripes() >= 1);
+  }
+
+
+
+  /**
+   * Tests the behavior of the blocking poll and offer methods.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testBlocking()
+         throws Exception
+  {
+    final StripedBlockingQueue<String> queue =
+         new StripedBlockingQueue<>(1, 4);
+
+    final long pollStartTime = System.nanoTime();
+    assertNull(queue.poll(50L, TimeUnit.MILLISECONDS));
+    assertTrue((System.nanoTime() - pollStartTime) >=
+         TimeUnit.MILLISECONDS.toNanos(40L));
+
+    assertTrue(queue.offer("a", 10L, TimeUnit.MILLISECONDS));
+    assertFalse(queue.offer("b", 50L, TimeUnit.MILLISECONDS));
+
+    // Make sure that a waiting poller is woken when an element is added.
+    assertEquals(queue.take(), "a");
+    final Thread t = new Thread()
+    {
+      @Override()
+      public void run()
+      {
+        try
+        {
+          Thread.sleep(50L);
+          queue.put("c");
+        }
+        catch (final Exception e)
+        {
+          // This should not happen.
+        }
+      }
+    };
+    t.start();
+    assertEquals(queue.poll(10L, TimeUnit.SECONDS), "c");
+    t.join();
+
+    // Make sure that a waiting offerer is woken when an element is removed.
+    queue.put("d");
+    final Thread t2 = new Thread()
+    {
+      @Override()
+      public void run()
+      {
+        try
+        {
+          Thread.sleep(50L);
+          queue.poll();
+        }
+        catch (final Exception e)
+        {
+          // This should not happen.
+        }
+      }
+    };
+    t2.start();
+    assertTrue(queue.offer("e", 10L, TimeUnit.SECONDS));
+    t2.join();
+    assertEquals(queue.poll(), "e");
+  }
+
+
+
+  /**
+   * Tests that elements are neither lost nor duplicated when many threads
+   * concurrently retrieve and return them.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConcurrentAccess()
+         throws Exception
+  {
+    final int numElements = 16;
+    final StripedBlockingQueue<Integer> queue =
+         new StripedBlockingQueue<>(numElements, 8);
+    for (int i=0; i < numElements; i++)
+    {
+      assertTrue(queue.offer(i));
+    }
+
+    final int numThreads = 16;
+    final int iterationsPerThread = 10_000;
+    final CountDownLatch startLatch = new CountDownLatch(1);
+    final AtomicInteger failures = new AtomicInteger(0);
+    final List<Thread> threads = new ArrayList<>(numThreads);
+    for (int i=0; i < numThreads; i++)
+    {
+      final Thread t = new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          try
+          {
+            startLatch.await();
+            for (int j=0; j < iterationsPerThread; j++)
+            {
+              final Integer e = queue.poll(10L, TimeUnit.SECONDS);
+              if ((e == null) || (! queue.offer(e)))
+              {
+                failures.incrementAndGet();
+              }
+            }
+          }
+          catch (final Exception e)
+          {
+            failures.incrementAndGet();
+          }
+        }
+      };
+      t.start();
+      threads.add(t);
+    }
+
+    startLatch.countDown();
+    for (final Thread t : threads)
+    {
+      t.join();
+    }
+
+    assertEquals(failures.get(), 0);
+    assertEquals(queue.size(), numElements);
+
+    final Set<Integer> remaining = new HashSet<>();
+    assertEquals(queue.drainTo(remaining), numElements);
+    assertEquals(remaining.size(), numElements);
+  }
+
+
+
+  /**
+   * Tests a connection pool that has been configured to use the striped queue.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConnectionPool()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+
+    final LDAPConnectionPool pool;
+    System.setProperty(
+         LDAPConnectionPool.PROPERTY_USE_STRIPED_AVAILABLE_CONNECTION_QUEUE,
+         "true");
+    try
+    {
+      pool = new LDAPConnectionPool(ds.getConnection(), 5, 5);
+    }
+    finally
+    {
+      System.clearProperty(
+           LDAPConnectionPool.PROPERTY_USE_STRIPED_AVAILABLE_CONNECTION_QUEUE);
+    }
+
+    try
+    {
+      assertEquals(pool.getCurrentAvailableConnections(), 5);
+
+      // Check out all of the connections and verify that no more are
+      // available when the pool isn't allowed to create them.
+      pool.setCreateIfNecessary(false);
+      pool.setMaxWaitTimeMillis(50L);
+
+      final List<LDAPConnection> connections = new ArrayList<>(5);
+      for (int i=0; i < 5; i++)
+      {
+        connections.add(pool.getConnection());
+      }
+      assertEquals(pool.getCurrentAvailableConnections(), 0);
+
+      try
+      {
+        pool.getConnection();
+        fail("Expected an exception when the pool is exhausted");
+      }
+      catch (final LDAPException le)
+      {
+        // This was expected.
+      }
+
+      // A thread waiting for a connection should get the next one released.
+      pool.setMaxWaitTimeMillis(10_000L);
+      final LDAPConnection released = connections.remove(0);
+      final Thread t = new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          try
+          {
+            Thread.sleep(50L);
+          }
+          catch (final Exception e)
+          {
+            // This should not happen.
+          }
+          pool.releaseConnection(released);
+        }
+      };
+      t.start();
+      final LDAPConnection waitedFor = pool.getConnection();
+      t.join();
+      assertSame(waitedFor, released);
+      connections.add(waitedFor);
+
+      for (final LDAPConnection conn : connections)
+      {
+        pool.releaseConnection(conn);
+      }
+      assertEquals(pool.getCurrentAvailableConnections(), 5);
+
+      // Operations through the pool should work, and a released connection
+      // should be handed back to the same thread.
+      assertNotNull(pool.getRootDSE());
+      final LDAPConnection c1 = pool.getConnection();
+      pool.releaseConnection(c1);
+      assertSame(pool.getConnection(), c1);
+      pool.releaseConnection(c1);
+
+      assertEquals(
+           pool.getConnectionPoolStatistics().getNumFailedCheckouts(), 1L);
+      assertTrue(pool.getConnectionPoolStatistics().
+           getNumSuccessfulCheckoutsAfterWaiting() >= 1L);
+
+      pool.setConnectionPoolName("striped");
+      assertEquals(pool.getConnectionPoolName(), "striped");
+    }
+    finally
+    {
+      pool.close();
+    }
+  }
+}
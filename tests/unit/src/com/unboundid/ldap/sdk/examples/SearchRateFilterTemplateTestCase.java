@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk.examples;
+
+
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.sdk.Filter;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.util.ValuePattern;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * {@code SearchRateFilterTemplate} class.
+ */
+public final class SearchRateFilterTemplateTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Retrieves a set of filter patterns that can be represented as templates,
+   * along with the expected template filter.
+   *
+   * @return  A set of filter patterns that can be represented as templates.
+   */
+  @DataProvider(name="supportedPatterns")
+  public Object[][] getSupportedPatterns()
+  {
+    return new Object[][]
+    {
+      new Object[] { "(objectClass=*)", "(objectClass=*)" },
+      new Object[] { "(uid=user.1)", "(uid=user.1)" },
+      new Object[] { "(uid=user.[1-1000])", "(uid=?)" },
+      new Object[] { "(uid=user.[1:1000x5%0000])", "(uid=?)" },
+      new Object[] { "(entryUUID=[uuid])", "(entryUUID=?)" },
+      new Object[] { "(&(objectClass=person)(uid=user.[1-10]))",
+           "(&(objectClass=person)(uid=?))" },
+      new Object[] { "(|(cn=[0:9])(!(sn=[[x]])))", "(|(cn=?)(!(sn=?)))" },
+      new Object[] { "(cn=a[1-5]*b*[6-9]z)", "(cn=?*b*?)" },
+      new Object[] { "(employeeNumber>=[1-100])", "(employeeNumber>=?)" },
+      new Object[] { "(cn:dn:=[1:10])", "(cn:dn:=?)" },
+    };
+  }
+
+
+
+  /**
+   * Tests the behavior for filter patterns that can be represented as
+   * templates.
+   *
+   * @param  filterPattern   The filter pattern to test.
+   * @param  templateFilter  The expected template filter.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="supportedPatterns")
+  public void testSupportedPattern(final String filterPattern,
+                                   final String templateFilter)
+         throws Exception
+  {
+    final SearchRateFilterTemplate t =
+         SearchRateFilterTemplate.create(filterPattern);
+    assertNotNull(t);
+    assertEquals(t.getTemplateFilter(), Filter.create(templateFilter));
+
+    // Sequential patterns must produce exactly the same filters as the
+    // original pattern.
+    if (filterPattern.contains(":"))
+    {
+      final ValuePattern p = new ValuePattern(filterPattern);
+      final String[] values = new String[t.getNumValueSlots()];
+      for (int i=0; i < 20; i++)
+      {
+        t.nextValues(values, 0);
+
+        String expected = templateFilter;
+        for (final String v : values)
+        {
+          expected = expected.replaceFirst("\\?",
+               Filter.encodeValue(v).replace("\\", "\\\\"));
+        }
+
+        assertEquals(Filter.create(p.nextValue()), Filter.create(expected));
+      }
+    }
+  }
+
+
+
+  /**
+   * Retrieves a set of filter patterns that cannot be represented as
+   * templates.
+   *
+   * @return  A set of filter patterns that cannot be represented as templates.
+   */
+  @DataProvider(name="unsupportedPatterns")
+  public Object[][] getUnsupportedPatterns()
+  {
+    return new Object[][]
+    {
+      new Object[] { "(uid=[file:///tmp/values.txt])" },
+      new Object[] { "(uid=[random:5])" },
+      new Object[] { "(uid=[1-10][ref:1])" },
+      new Object[] { "([1-10]=foo)" },
+      new Object[] { "(uid=?)" },
+      new Object[] { "(uid=\\5b1-10\\5d)" },
+      new Object[] { "(uid=user.[1-10)" },
+      new Object[] { "(uid=[1-10)(cn=x])" },
+      new Object[] { "not a valid filter" },
+    };
+  }
+
+
+
+  /**
+   * Tests the behavior for filter patterns that cannot be represented as
+   * templates.
+   *
+   * @param  filterPattern  The filter pattern to test.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="unsupportedPatterns")
+  public void testUnsupportedPattern(final String filterPattern)
+         throws Exception
+  {
+    assertNull(SearchRateFilterTemplate.create(filterPattern));
+  }
+}
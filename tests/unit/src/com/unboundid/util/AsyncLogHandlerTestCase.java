@@ -0,0 +1,609 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.AccessLogRequestHandler;
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.sdk.LDAPConnection;
+import com.unboundid.ldap.sdk.SearchScope;
+
+
+
+/**
+ * This class provides a set of test cases for the AsyncLogHandler class.
+ */
+public final class AsyncLogHandlerTestCase
+       extends UtilTestCase
+{
+  /**
+   * Tests the behavior when writing records to another handler.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testWriteToHandler()
+         throws Exception
+  {
+    final RecordingHandler delegate = new RecordingHandler(false);
+    final AsyncLogHandler handler = new AsyncLogHandler(delegate);
+
+    assertEquals(handler.getCapacity(), AsyncLogHandler.DEFAULT_CAPACITY);
+    assertEquals(handler.getOverflowPolicy(),
+         AsyncLogHandlerOverflowPolicy.BLOCK);
+
+    for (int i=0; i < 10_000; i++)
+    {
+      handler.publish(new LogRecord(Level.INFO, String.valueOf(i)));
+      handler.flush();
+    }
+
+    handler.close();
+    assertTrue(delegate.isClosed());
+
+    assertEquals(handler.getWrittenRecordCount(), 10_000L);
+    assertEquals(handler.getDroppedRecordCount(), 0L);
+    assertEquals(handler.getPendingRecordCount(), 0L);
+
+    final List<String> messages = delegate.getMessages();
+    assertEquals(messages.size(), 10_000);
+    for (int i=0; i < 10_000; i++)
+    {
+      assertEquals(messages.get(i), String.valueOf(i));
+    }
+
+    // Records should be batched, so there should be fewer flushes than
+    // records.
+    assertTrue(delegate.getFlushCount() >= 1);
+    assertTrue(delegate.getFlushCount() <= 10_000);
+
+    // Records published after the handler is closed should be ignored.
+    handler.publish(new LogRecord(Level.INFO, "after close"));
+    assertEquals(handler.getWrittenRecordCount(), 10_000L);
+    assertEquals(delegate.getMessages().size(), 10_000);
+  }
+
+
+
+  /**
+   * Tests the behavior when writing records to another handler from multiple
+   * threads at once.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testWriteFromMultipleThreads()
+         throws Exception
+  {
+    final RecordingHandler delegate = new RecordingHandler(false);
+    final AsyncLogHandler handler = new AsyncLogHandler(delegate, 16,
+         AsyncLogHandlerOverflowPolicy.BLOCK);
+    assertEquals(handler.getCapacity(), 16);
+
+    final List<Thread> threads = new ArrayList<>(4);
+    for (int t=0; t < 4; t++)
+    {
+      final String prefix = t + "-";
+      threads.add(new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          for (int i=0; i < 2_500; i++)
+          {
+            handler.publish(new LogRecord(Level.INFO, prefix + i));
+          }
+        }
+      });
+    }
+
+    for (final Thread t : threads)
+    {
+      t.start();
+    }
+
+    for (final Thread t : threads)
+    {
+      t.join();
+    }
+
+    handler.close();
+
+    assertEquals(handler.getWrittenRecordCount(), 10_000L);
+    assertEquals(handler.getDroppedRecordCount(), 0L);
+
+    // Each thread's records should have been written in the order in which
+    // they were published.
+    final int[] nextExpected = new int[4];
+    for (final String message : delegate.getMessages())
+    {
+      final int dashPos = message.indexOf('-');
+      final int t = Integer.parseInt(message.substring(0, dashPos));
+      final int i = Integer.parseInt(message.substring(dashPos + 1));
+      assertEquals(i, nextExpected[t]);
+      nextExpected[t]++;
+    }
+
+    for (int t=0; t < 4; t++)
+    {
+      assertEquals(nextExpected[t], 2_500);
+    }
+  }
+
+
+
+  /**
+   * Tests that no record is left unwritten when the handler is closed while
+   * other threads are publishing records.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testCloseWhilePublishing()
+         throws Exception
+  {
+    for (int iteration=0; iteration < 20; iteration++)
+    {
+      final RecordingHandler delegate = new RecordingHandler(false);
+      final AsyncLogHandler handler = new AsyncLogHandler(delegate, 64,
+           AsyncLogHandlerOverflowPolicy.BLOCK);
+
+      final AtomicBoolean stopRequested = new AtomicBoolean(false);
+      final List<Thread> threads = new ArrayList<>(4);
+      for (int t=0; t < 4; t++)
+      {
+        threads.add(new Thread()
+        {
+          @Override()
+          public void run()
+          {
+            while (! stopRequested.get())
+            {
+              handler.publish(new LogRecord(Level.INFO, "message"));
+            }
+          }
+        });
+      }
+
+      for (final Thread t : threads)
+      {
+        t.start();
+      }
+
+      Thread.sleep(10L);
+      handler.close();
+
+      stopRequested.set(true);
+      for (final Thread t : threads)
+      {
+        t.join();
+      }
+
+      assertEquals(handler.getPendingRecordCount(), 0L);
+      assertEquals(delegate.getMessages().size(),
+           handler.getWrittenRecordCount());
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior of the {@code DROP} overflow policy.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDropOverflowPolicy()
+         throws Exception
+  {
+    final RecordingHandler delegate = new RecordingHandler(true);
+    final AsyncLogHandler handler = new AsyncLogHandler(delegate, 3,
+         AsyncLogHandlerOverflowPolicy.DROP);
+    assertEquals(handler.getCapacity(), 4);
+
+    // Wait for the writer thread to get stuck on the first record so that the
+    // buffer will be empty.
+    handler.publish(new LogRecord(Level.INFO, "first"));
+    delegate.awaitFirstPublish();
+
+    for (int i=0; i < 20; i++)
+    {
+      handler.publish(new LogRecord(Level.INFO, String.valueOf(i)));
+    }
+
+    assertEquals(handler.getDroppedRecordCount(), 16L);
+
+    delegate.release();
+    handler.close();
+
+    assertEquals(handler.getWrittenRecordCount(), 5L);
+    assertEquals(handler.getDroppedRecordCount(), 16L);
+    assertEquals(delegate.getMessages().size(), 5);
+  }
+
+
+
+  /**
+   * Tests the behavior of the {@code SAMPLE} overflow policy.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSampleOverflowPolicy()
+         throws Exception
+  {
+    final RecordingHandler delegate = new RecordingHandler(true);
+    final AsyncLogHandler handler = new AsyncLogHandler(delegate, 4,
+         AsyncLogHandlerOverflowPolicy.SAMPLE);
+
+    handler.publish(new LogRecord(Level.INFO, "first"));
+    delegate.awaitFirstPublish();
+
+    // Fill the buffer, and then publish enough records to be dropped without
+    // reaching the sample interval.
+    for (int i=0; i < 13; i++)
+    {
+      handler.publish(new LogRecord(Level.INFO, String.valueOf(i)));
+    }
+
+    assertEquals(handler.getDroppedRecordCount(), 9L);
+
+    // The next record will be retained.  Release the writer thread so that
+    // there is room for it.
+    delegate.release();
+    handler.publish(new LogRecord(Level.INFO, "sampled"));
+    handler.close();
+
+    assertEquals(handler.getWrittenRecordCount(), 6L);
+    assertEquals(handler.getDroppedRecordCount(), 9L);
+
+    final List<String> messages = delegate.getMessages();
+    assertEquals(messages.get(messages.size() - 1), "sampled");
+  }
+
+
+
+  /**
+   * Tests the behavior of the {@code BLOCK} overflow policy.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testBlockOverflowPolicy()
+         throws Exception
+  {
+    final RecordingHandler delegate = new RecordingHandler(true);
+    final AsyncLogHandler handler = new AsyncLogHandler(delegate, 2,
+         AsyncLogHandlerOverflowPolicy.BLOCK);
+
+    handler.publish(new LogRecord(Level.INFO, "first"));
+    delegate.awaitFirstPublish();
+
+    handler.publish(new LogRecord(Level.INFO, "second"));
+    handler.publish(new LogRecord(Level.INFO, "third"));
+
+    final Thread publishThread = new Thread()
+    {
+      @Override()
+      public void run()
+      {
+        handler.publish(new LogRecord(Level.INFO, "fourth"));
+      }
+    };
+    publishThread.start();
+
+    publishThread.join(100L);
+    assertTrue(publishThread.isAlive());
+
+    delegate.release();
+    publishThread.join();
+    handler.close();
+
+    assertEquals(handler.getWrittenRecordCount(), 4L);
+    assertEquals(handler.getDroppedRecordCount(), 0L);
+    assertEquals(delegate.getMessages(),
+         StaticUtils.toList(new String[] { "first", "second", "third",
+              "fourth" }));
+  }
+
+
+
+  /**
+   * Tests the behavior when writing records to a file.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testWriteToFile()
+         throws Exception
+  {
+    final File logFile = createTempFile();
+
+    AsyncLogHandler handler = new AsyncLogHandler(logFile, false, 64,
+         AsyncLogHandlerOverflowPolicy.BLOCK);
+    for (int i=0; i < 1_000; i++)
+    {
+      handler.publish(new LogRecord(Level.INFO, "Message " + i));
+    }
+    handler.close();
+
+    List<String> lines = StaticUtils.readFileLines(logFile);
+    assertEquals(lines.size(), 1_000);
+    for (int i=0; i < 1_000; i++)
+    {
+      assertEquals(lines.get(i), "Message " + i);
+    }
+
+
+    // Append to the file using a formatter.
+    handler = new AsyncLogHandler(logFile, true, 64,
+         AsyncLogHandlerOverflowPolicy.BLOCK);
+    handler.setFormatter(new MinimalLogFormatter(null, true, false, true));
+    handler.publish(new LogRecord(Level.WARNING, "Formatted"));
+    handler.close();
+
+    lines = StaticUtils.readFileLines(logFile);
+    assertEquals(lines.size(), 1_001);
+    assertEquals(lines.get(1_000), "WARNING Formatted");
+  }
+
+
+
+  /**
+   * Tests the use of an asynchronous log handler as the access log handler
+   * for an in-memory directory server.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAccessLogRequestHandler()
+         throws Exception
+  {
+    final RecordingHandler delegate = new RecordingHandler(false);
+    final AsyncLogHandler handler = new AsyncLogHandler(delegate);
+
+    final InMemoryDirectoryServerConfig config =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    config.setAccessLogHandler(handler);
+
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(config);
+    ds.startListening();
+
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      conn.search("", SearchScope.BASE, "(objectClass=*)");
+    }
+    finally
+    {
+      ds.shutDown(true);
+    }
+
+    handler.close();
+
+    assertTrue(handler.getWrittenRecordCount() > 0L);
+    assertEquals(handler.getDroppedRecordCount(), 0L);
+
+    boolean foundSearch = false;
+    for (final String message : delegate.getMessages())
+    {
+      if (message.contains("SEARCH REQUEST"))
+      {
+        foundSearch = true;
+      }
+    }
+    assertTrue(foundSearch);
+  }
+
+
+
+  /**
+   * Tests the {@code AsyncLogHandlerOverflowPolicy.forName} method.
+   */
+  @Test()
+  public void testOverflowPolicyForName()
+  {
+    for (final AsyncLogHandlerOverflowPolicy p :
+         AsyncLogHandlerOverflowPolicy.values())
+    {
+      assertEquals(AsyncLogHandlerOverflowPolicy.forName(p.name()), p);
+      assertEquals(
+           AsyncLogHandlerOverflowPolicy.valueOf(p.name()), p);
+    }
+
+    assertNull(AsyncLogHandlerOverflowPolicy.forName("undefined"));
+  }
+
+
+
+  /**
+   * A log handler that records the messages that it has published, and that
+   * may optionally block on the first record until released.
+   */
+  private static final class RecordingHandler
+          extends Handler
+  {
+    // Latches used to coordinate blocking on the first record.
+    private final CountDownLatch firstPublishLatch;
+    private final CountDownLatch releaseLatch;
+
+    // The messages that have been published.
+    private final List<String> messages;
+
+    // Indicates whether the handler has been closed.
+    private volatile boolean closed;
+
+    // The number of times the handler has been flushed.
+    private volatile int flushCount;
+
+
+
+    /**
+     * Creates a new recording handler.
+     *
+     * @param  block  Indicates whether to block on the first record until
+     *                released.
+     */
+    private RecordingHandler(final boolean block)
+    {
+      firstPublishLatch = new CountDownLatch(1);
+      releaseLatch = new CountDownLatch(block ? 1 : 0);
+      messages = new ArrayList<>();
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void publish(final LogRecord record)
+    {
+      synchronized (messages)
+      {
+        messages.add(record.getMessage());
+      }
+
+      firstPublishLatch.countDown();
+      try
+      {
+        releaseLatch.await();
+      }
+      catch (final InterruptedException e)
+      {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void flush()
+    {
+      flushCount++;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void close()
+    {
+      closed = true;
+    }
+
+
+
+    /**
+     * Waits for the first record to be published.
+     *
+     * @throws  Exception  If the record is not published in a timely manner.
+     */
+    private void awaitFirstPublish()
+            throws Exception
+    {
+      assertTrue(firstPublishLatch.await(10L, TimeUnit.SECONDS));
+    }
+
+
+
+    /**
+     * Releases the writer thread if it is blocked on the first record.
+     */
+    private void release()
+    {
+      releaseLatch.countDown();
+    }
+
+
+
+    /**
+     * Retrieves a copy of the messages that have been published.
+     *
+     * @return  A copy of the messages that have been published.
+     */
+    private List<String> getMessages()
+    {
+      synchronized (messages)
+      {
+        return new ArrayList<>(messages);
+      }
+    }
+
+
+
+    /**
+     * Retrieves the number of times the handler has been flushed.
+     *
+     * @return  The number of times the handler has been flushed.
+     */
+    private int getFlushCount()
+    {
+      return flushCount;
+    }
+
+
+
+    /**
+     * Indicates whether the handler has been closed.
+     *
+     * @return  {@code true} if the handler has been closed, or {@code false}
+     *          if not.
+     */
+    private boolean isClosed()
+    {
+      return closed;
+    }
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.nio.ByteBuffer;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+
+
+
+/**
+ * This class provides a set of test cases for the {@code DirectByteBufferPool}
+ * class.
+ */
+public final class DirectByteBufferPoolTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior of the default instance.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDefaultInstance()
+         throws Exception
+  {
+    final DirectByteBufferPool pool = DirectByteBufferPool.getDefaultInstance();
+    assertNotNull(pool);
+    assertSame(DirectByteBufferPool.getDefaultInstance(), pool);
+
+    assertEquals(pool.getBufferSize(),
+         DirectByteBufferPool.DEFAULT_BUFFER_SIZE);
+    assertEquals(pool.getMaxPooledBuffers(),
+         DirectByteBufferPool.DEFAULT_MAX_POOLED_BUFFERS);
+    assertNotNull(pool.toString());
+  }
+
+
+
+  /**
+   * Tests the behavior when obtaining and releasing buffers.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testGetAndRelease()
+         throws Exception
+  {
+    final DirectByteBufferPool pool = new DirectByteBufferPool(1024, 2);
+    assertEquals(pool.getNumPooledBuffers(), 0);
+
+    final ByteBuffer b1 = pool.get();
+    assertTrue(b1.isDirect());
+    assertEquals(b1.capacity(), 1024);
+    assertEquals(b1.position(), 0);
+    assertEquals(b1.limit(), 1024);
+
+    final ByteBuffer b2 = pool.get();
+    final ByteBuffer b3 = pool.get();
+    assertNotSame(b1, b2);
+    assertNotSame(b2, b3);
+
+    b1.put((byte) 0x01);
+    pool.release(b1);
+    assertEquals(pool.getNumPooledBuffers(), 1);
+
+    // Buffers that didn't come from the pool will be discarded.
+    pool.release(ByteBuffer.allocate(1024));
+    pool.release(ByteBuffer.allocateDirect(512));
+    assertEquals(pool.getNumPooledBuffers(), 1);
+
+    pool.release(b2);
+    assertEquals(pool.getNumPooledBuffers(), 2);
+
+    // The pool is full, so the next buffer will be discarded.
+    pool.release(b3);
+    assertEquals(pool.getNumPooledBuffers(), 2);
+
+    final ByteBuffer reused = pool.get();
+    assertSame(reused, b1);
+    assertEquals(reused.position(), 0);
+    assertEquals(reused.limit(), 1024);
+    assertEquals(pool.getNumPooledBuffers(), 1);
+
+    assertSame(pool.get(), b2);
+    assertEquals(pool.getNumPooledBuffers(), 0);
+
+    assertNotNull(pool.toString());
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to create a pool with invalid settings.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testInvalidSettings()
+         throws Exception
+  {
+    try
+    {
+      new DirectByteBufferPool(0, 1);
+      fail("Expected an exception for a zero buffer size");
+    }
+    catch (final LDAPSDKUsageException e)
+    {
+      // This was expected.
+    }
+
+    try
+    {
+      new DirectByteBufferPool(1024, -1);
+      fail("Expected an exception for a negative maximum pooled buffers");
+    }
+    catch (final LDAPSDKUsageException e)
+    {
+      // This was expected.
+    }
+
+    final DirectByteBufferPool pool = new DirectByteBufferPool(1024, 0);
+    pool.release(pool.get());
+    assertEquals(pool.getNumPooledBuffers(), 0);
+  }
+}
@@ -36,6 +36,9 @@
 package com.unboundid.util;
 
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.testng.annotations.Test;
 import org.testng.annotations.DataProvider;
 
@@ -258,6 +261,140 @@ public class FixedRateBarrierTestCase
 
 
 
+  /**
+   * Tests the default and explicitly-configured burst capacity.
+   */
+  @Test()
+  public void testBurstCapacity()
+  {
+    assertEquals(new FixedRateBarrier(1000L, 1000).getBurstCapacity(), 10);
+    assertEquals(new FixedRateBarrier(100L, 100).getBurstCapacity(), 10);
+    assertEquals(new FixedRateBarrier(100L, 10).getBurstCapacity(), 1);
+    assertEquals(new FixedRateBarrier(1000L, 1).getBurstCapacity(), 1);
+
+    final FixedRateBarrier barrier = new FixedRateBarrier(1000L, 10, 5);
+    assertEquals(barrier.getBurstCapacity(), 5);
+
+    // The burst capacity should be released immediately, but the next action
+    // must wait for its turn.
+    final long startMS = System.currentTimeMillis();
+    for (int i=0; i < 5; i++)
+    {
+      assertFalse(barrier.await());
+    }
+    assertTrue((System.currentTimeMillis() - startMS) < 50L);
+
+    assertFalse(barrier.await());
+    assertTrue((System.currentTimeMillis() - startMS) >= 80L);
+
+    // Changing the rate should not change the configured burst capacity.
+    barrier.setRate(1000L, 20);
+    assertEquals(barrier.getBurstCapacity(), 5);
+
+    barrier.setBurstCapacity(0);
+    assertEquals(barrier.getBurstCapacity(), 1);
+
+    barrier.setBurstCapacity(3);
+    assertEquals(barrier.getBurstCapacity(), 3);
+    assertEquals(barrier.getTargetRate().getFirst().longValue(), 1000L);
+    assertEquals(barrier.getTargetRate().getSecond().intValue(), 20);
+
+    try
+    {
+      barrier.setBurstCapacity(-1);
+      fail("Expected an exception with a negative burst capacity");
+    }
+    catch (final LDAPSDKUsageException e)
+    {
+      // This was expected.
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior of barriers created with the {@code newLinkedBarrier}
+   * method.
+   */
+  @Test()
+  public void testLinkedBarrier()
+  {
+    final FixedRateBarrier barrier = new FixedRateBarrier(1000L, 10, 1);
+    final FixedRateBarrier linkedBarrier = barrier.newLinkedBarrier();
+    assertEquals(linkedBarrier.getTargetRate().getFirst().longValue(), 1000L);
+    assertEquals(linkedBarrier.getTargetRate().getSecond().intValue(), 10);
+    assertEquals(linkedBarrier.getBurstCapacity(), 1);
+
+    // Each barrier should keep track of its own actions.
+    final long startMS = System.currentTimeMillis();
+    assertFalse(barrier.await());
+    assertFalse(linkedBarrier.await());
+    assertTrue((System.currentTimeMillis() - startMS) < 50L);
+
+    // A change to the rate of either barrier should apply to both.
+    linkedBarrier.setRate(500L, 100);
+    assertEquals(barrier.getTargetRate().getFirst().longValue(), 500L);
+    assertEquals(barrier.getTargetRate().getSecond().intValue(), 100);
+
+    barrier.setBurstCapacity(7);
+    assertEquals(linkedBarrier.getBurstCapacity(), 7);
+
+    // Shutting down one barrier should not affect the other.
+    barrier.shutdownRequested();
+    assertTrue(barrier.await());
+    assertFalse(linkedBarrier.isShutdownRequested());
+    assertFalse(linkedBarrier.await());
+  }
+
+
+
+  /**
+   * Tests that a barrier shared by multiple threads releases them at the
+   * target rate.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAwaitFromMultipleThreads()
+         throws Exception
+  {
+    final FixedRateBarrier barrier = new FixedRateBarrier(1000L, 2000);
+
+    final List<Thread> threads = new ArrayList<>(8);
+    for (int i=0; i < 8; i++)
+    {
+      threads.add(new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          for (int j=0; j < 100; j++)
+          {
+            barrier.await();
+          }
+        }
+      });
+    }
+
+    // 800 actions at 2000 per second should take about 400 milliseconds.
+    final long startMS = System.currentTimeMillis();
+    for (final Thread t : threads)
+    {
+      t.start();
+    }
+
+    for (final Thread t : threads)
+    {
+      t.join();
+    }
+
+    final long durationMS = System.currentTimeMillis() - startMS;
+    assertTrue(durationMS >= 300L, "durationMS=" + durationMS);
+    assertTrue(durationMS <= 1500L, "durationMS=" + durationMS);
+  }
+
+
+
   /**
    * Sets the rate on a FixedRateBarrier in the background after a specified
    * delay.
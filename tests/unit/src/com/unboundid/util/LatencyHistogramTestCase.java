@@ -0,0 +1,337 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+
+
+
+/**
+ * This class provides a set of test cases for the {@code LatencyHistogram}
+ * class.
+ */
+public final class LatencyHistogramTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior of an empty histogram.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testEmptyHistogram()
+         throws Exception
+  {
+    final LatencyHistogram h = new LatencyHistogram();
+
+    assertEquals(h.getCount(), 0L);
+    assertEquals(h.getMaxValue(), 0L);
+    assertEquals(h.getP50(), 0L);
+    assertEquals(h.getP90(), 0L);
+    assertEquals(h.getP99(), 0L);
+    assertEquals(h.getP999(), 0L);
+    assertEquals(h.getValueAtPercentile(100.0d), 0L);
+
+    assertEquals(h.getSnapshot().getCount(), 0L);
+    assertEquals(h.getIntervalSnapshot().getCount(), 0L);
+
+    assertNotNull(h.toString());
+    assertEquals(h.toString(), "LatencyHistogram(count=0)");
+  }
+
+
+
+  /**
+   * Tests the behavior when recording small values that each have their own
+   * bucket.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSmallValues()
+         throws Exception
+  {
+    final LatencyHistogram h = new LatencyHistogram();
+    for (int i=1; i <= 50; i++)
+    {
+      h.record(i);
+    }
+
+    assertEquals(h.getCount(), 50L);
+    assertEquals(h.getMaxValue(), 50L);
+    assertEquals(h.getP50(), 25L);
+    assertEquals(h.getP90(), 45L);
+    assertEquals(h.getP99(), 50L);
+    assertEquals(h.getValueAtPercentile(0.0d), 1L);
+    assertEquals(h.getValueAtPercentile(100.0d), 50L);
+
+    h.record(-5L);
+    assertEquals(h.getCount(), 51L);
+    assertEquals(h.getValueAtPercentile(0.0d), 0L);
+  }
+
+
+
+  /**
+   * Tests that percentiles for larger values are within the expected
+   * precision.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPrecision()
+         throws Exception
+  {
+    final LatencyHistogram h = new LatencyHistogram();
+    for (long i=1L; i <= 100_000L; i++)
+    {
+      h.record(i * 1_000L);
+    }
+
+    assertEquals(h.getCount(), 100_000L);
+    assertEquals(h.getMaxValue(), 100_000_000L);
+
+    assertWithinPrecision(h.getP50(), 50_000_000L);
+    assertWithinPrecision(h.getP90(), 90_000_000L);
+    assertWithinPrecision(h.getP99(), 99_000_000L);
+    assertWithinPrecision(h.getP999(), 99_900_000L);
+    assertEquals(h.getValueAtPercentile(100.0d), 100_000_000L);
+  }
+
+
+
+  /**
+   * Ensures that the provided value is no smaller than the expected value and
+   * no more than about three percent larger.
+   *
+   * @param  actual    The actual value.
+   * @param  expected  The expected value.
+   */
+  private static void assertWithinPrecision(final long actual,
+                                            final long expected)
+  {
+    assertTrue(actual >= expected,
+         "Expected at least " + expected + " but got " + actual);
+    assertTrue(actual <= (expected + (expected / 32L)),
+         "Expected at most " + (expected + (expected / 32L)) + " but got " +
+              actual);
+  }
+
+
+
+  /**
+   * Tests that every bucket boundary is consistent with the bucket index
+   * computation.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testBucketBoundaries()
+         throws Exception
+  {
+    int previousIndex = -1;
+    for (long value=0L; value < (1L << 40); value = (value * 9L / 8L) + 1L)
+    {
+      final int index = LatencyHistogram.getBucketIndex(value);
+      assertTrue(index >= previousIndex);
+      assertTrue(LatencyHistogram.getHighestValueInBucket(index) >= value);
+      if (index > 0)
+      {
+        assertTrue(LatencyHistogram.getHighestValueInBucket(index - 1) <
+             value);
+      }
+
+      previousIndex = index;
+    }
+
+    assertEquals(LatencyHistogram.getBucketIndex(Long.MAX_VALUE),
+         LatencyHistogram.getBucketIndex(1L << 40));
+  }
+
+
+
+  /**
+   * Tests that very large values are counted and that the maximum is tracked
+   * exactly.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testVeryLargeValues()
+         throws Exception
+  {
+    final LatencyHistogram h = new LatencyHistogram();
+    h.record(1L);
+    h.record(Long.MAX_VALUE / 2L);
+
+    assertEquals(h.getCount(), 2L);
+    assertEquals(h.getMaxValue(), Long.MAX_VALUE / 2L);
+    assertEquals(h.getValueAtPercentile(50.0d), 1L);
+    assertEquals(h.getValueAtPercentile(100.0d), Long.MAX_VALUE / 2L);
+  }
+
+
+
+  /**
+   * Tests the behavior of snapshots, interval snapshots, and reset.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSnapshotsAndReset()
+         throws Exception
+  {
+    final LatencyHistogram h = new LatencyHistogram();
+    h.record(10L);
+    h.record(20L);
+
+    final LatencyHistogram snapshot = h.getSnapshot();
+    assertEquals(snapshot.getCount(), 2L);
+    assertEquals(snapshot.getMaxValue(), 20L);
+
+    LatencyHistogram interval = h.getIntervalSnapshot();
+    assertEquals(interval.getCount(), 2L);
+    assertEquals(interval.getMaxValue(), 20L);
+
+    h.record(5L);
+    assertEquals(snapshot.getCount(), 2L);
+    assertEquals(h.getCount(), 3L);
+
+    interval = h.getIntervalSnapshot();
+    assertEquals(interval.getCount(), 1L);
+    assertEquals(interval.getMaxValue(), 5L);
+    assertEquals(interval.getP50(), 5L);
+
+    interval = h.getIntervalSnapshot();
+    assertEquals(interval.getCount(), 0L);
+    assertEquals(interval.getMaxValue(), 0L);
+
+    h.reset();
+    assertEquals(h.getCount(), 0L);
+    assertEquals(h.getMaxValue(), 0L);
+    assertEquals(snapshot.getCount(), 2L);
+
+    h.record(7L);
+    interval = h.getIntervalSnapshot();
+    assertEquals(interval.getCount(), 1L);
+    assertEquals(interval.getMaxValue(), 7L);
+  }
+
+
+
+  /**
+   * Tests recording values from multiple threads at the same time.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConcurrentRecording()
+         throws Exception
+  {
+    final LatencyHistogram h = new LatencyHistogram();
+    final Thread[] threads = new Thread[4];
+    for (int i=0; i < threads.length; i++)
+    {
+      final long base = i * 1_000L;
+      threads[i] = new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          for (long j=1L; j <= 10_000L; j++)
+          {
+            h.record(base + j);
+          }
+        }
+      };
+    }
+
+    for (final Thread t : threads)
+    {
+      t.start();
+    }
+
+    for (final Thread t : threads)
+    {
+      t.join();
+    }
+
+    assertEquals(h.getCount(), 40_000L);
+    assertEquals(h.getMaxValue(), 13_000L);
+  }
+
+
+
+  /**
+   * Tests the ability to serialize and deserialize a histogram.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSerialization()
+         throws Exception
+  {
+    final LatencyHistogram h = new LatencyHistogram();
+    h.record(123L);
+    h.record(456_789L);
+
+    final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(byteStream))
+    {
+      out.writeObject(h);
+    }
+
+    final LatencyHistogram decoded;
+    try (ObjectInputStream in = new ObjectInputStream(
+              new ByteArrayInputStream(byteStream.toByteArray())))
+    {
+      decoded = (LatencyHistogram) in.readObject();
+    }
+
+    assertEquals(decoded.getCount(), 2L);
+    assertEquals(decoded.getMaxValue(), 456_789L);
+    assertEquals(decoded.toString(), h.toString());
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2007-2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2007-2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2007-2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.net.InetAddress;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.CannedResponseRequestHandler;
+import com.unboundid.ldap.listener.LDAPListener;
+import com.unboundid.ldap.listener.LDAPListenerConfig;
+import com.unboundid.ldap.sdk.LDAPConnection;
+import com.unboundid.ldap.sdk.LDAPConnectionOptions;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.SearchScope;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * {@code VirtualThreadSupport} class.
+ */
+public final class VirtualThreadSupportTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests that virtual threads are reported as available if and only if the
+   * JVM is Java 21 or later, and that a task can be run in a virtual thread
+   * when they are.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testStartVirtualThread()
+         throws Exception
+  {
+    final String specVersion = System.getProperty("java.specification.version");
+    final boolean expectAvailable = (! specVersion.startsWith("1.")) &&
+         (Integer.parseInt(specVersion) >= 21);
+    assertEquals(VirtualThreadSupport.virtualThreadsAvailable(),
+         expectAvailable);
+
+    final CountDownLatch latch = new CountDownLatch(1);
+    final AtomicReference<String> threadName = new AtomicReference<>();
+    final Thread t = VirtualThreadSupport.startVirtualThread("test virtual",
+         new Runnable()
+         {
+           @Override()
+           public void run()
+           {
+             threadName.set(Thread.currentThread().getName());
+             latch.countDown();
+           }
+         });
+
+    if (expectAvailable)
+    {
+      assertNotNull(t);
+      assertTrue(latch.await(30L, TimeUnit.SECONDS));
+      assertEquals(threadName.get(), "test virtual");
+      t.join();
+    }
+    else
+    {
+      assertNull(t);
+      assertEquals(latch.getCount(), 1L);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior of the method used to get a lock for an object.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testGetLock()
+         throws Exception
+  {
+    final Object o1 = new Object();
+    final Object o2 = new Object();
+
+    final ReentrantLock lock1 = VirtualThreadSupport.getLock(o1);
+    assertNotNull(lock1);
+    assertSame(VirtualThreadSupport.getLock(o1), lock1);
+
+    final ReentrantLock lock2 = VirtualThreadSupport.getLock(o2);
+    assertNotNull(lock2);
+    assertNotSame(lock2, lock1);
+  }
+
+
+
+  /**
+   * Tests a listener and a client connection that are both configured to use
+   * virtual threads.  On JVMs that don't support virtual threads, platform
+   * threads should be used instead.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testListenerAndConnectionWithVirtualThreads()
+         throws Exception
+  {
+    final LDAPListenerConfig listenerConfig = new LDAPListenerConfig(0,
+         new CannedResponseRequestHandler());
+    listenerConfig.setListenAddress(InetAddress.getByName("127.0.0.1"));
+    listenerConfig.setUseVirtualThreads(true);
+    assertTrue(listenerConfig.useVirtualThreads());
+    assertTrue(listenerConfig.duplicate().useVirtualThreads());
+    assertTrue(listenerConfig.toString().contains("useVirtualThreads=true"));
+
+    final LDAPListener listener = new LDAPListener(listenerConfig);
+    listener.startListening();
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    assertFalse(options.useVirtualThreads());
+    options.setUseVirtualThreads(true);
+    assertTrue(options.useVirtualThreads());
+    assertTrue(options.duplicate().useVirtualThreads());
+
+    final LDAPConnection[] connections = new LDAPConnection[20];
+    try
+    {
+      for (int i=0; i < connections.length; i++)
+      {
+        connections[i] = new LDAPConnection(options, "127.0.0.1",
+             listener.getListenPort());
+      }
+
+      for (final LDAPConnection conn : connections)
+      {
+        assertResultCodeEquals(
+             conn.search("", SearchScope.BASE, "(objectClass=*)"),
+             ResultCode.SUCCESS);
+      }
+    }
+    finally
+    {
+      for (final LDAPConnection conn : connections)
+      {
+        if (conn != null)
+        {
+          conn.close();
+        }
+      }
+
+      listener.shutDown(true);
+    }
+  }
+}